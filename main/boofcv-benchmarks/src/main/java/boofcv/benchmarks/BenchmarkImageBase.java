@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.benchmarks;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.ImageBase;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+
+/**
+ * Parameters which are common to all image based benchmarks.  The size of the image is specified as a string,
+ * e.g. "640x480", so that it can be easily overridden from the command line.  The number of threads
+ * is used to configure {@link BoofConcurrency}. One thread turns concurrency off.
+ *
+ * @author Peter Abeles
+ */
+@State(Scope.Benchmark)
+public abstract class BenchmarkImageBase {
+
+	@Param({"640x480","1920x1080"})
+	public String size;
+
+	@Param({"1","4"})
+	public int threads;
+
+	public int width;
+	public int height;
+
+	public Random rand = new Random(234);
+
+	/**
+	 * Parses the parameters and configures concurrency.  Must be called by the child's setup function.
+	 */
+	protected void setupBase() {
+		String[] words = size.split("x");
+		if( words.length != 2 )
+			throw new IllegalArgumentException("Expected size to be WIDTHxHEIGHT, not "+size);
+		width = Integer.parseInt(words[0]);
+		height = Integer.parseInt(words[1]);
+
+		configureThreads(threads);
+	}
+
+	/**
+	 * Turns concurrency on and sets the number of threads, or turns it off if only one thread
+	 */
+	public static void configureThreads( int threads ) {
+		BoofConcurrency.USE_CONCURRENT = threads > 1;
+		if( threads > 1 )
+			BoofConcurrency.setMaxThreads(threads);
+	}
+
+	/**
+	 * Renders random rectangles with a bit of noise.  This provides plenty of corners and edges for
+	 * feature detectors to work with, unlike pure noise which isn't typical of real images.
+	 */
+	public static void renderRectangles( ImageBase image , Random rand , int count ) {
+		GImageMiscOps.fill(image,0);
+		int w = image.width, h = image.height;
+		for (int i = 0; i < count; i++) {
+			int x0 = rand.nextInt(w);
+			int y0 = rand.nextInt(h);
+			int rw = 5 + rand.nextInt(Math.max(1,w/8));
+			int rh = 5 + rand.nextInt(Math.max(1,h/8));
+			GImageMiscOps.fillRectangle(image,rand.nextInt(255),x0,y0,rw,rh);
+		}
+		GImageMiscOps.addGaussian(image,rand,2.0,0,255);
+	}
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.benchmarks;
+
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Compares JMH results saved in JSON format against a baseline and reports which benchmarks have
+ * become slower by more than a tolerance. If a regression is found the process exits with a non-zero
+ * value so that it can be used to fail a build.
+ *
+ * <pre>
+ * BenchmarkRegression baseline.json results.json [tolerance]
+ * </pre>
+ *
+ * The tolerance is a fraction, e.g. 0.1 = 10% slower is a regression. JSON is a subset of YAML so the
+ * results are parsed using SnakeYAML, which is already a dependency of boofcv-io.
+ *
+ * @author Peter Abeles
+ */
+public class BenchmarkRegression {
+
+	/**
+	 * Compares the score of a benchmark in the two files
+	 */
+	public static class Comparison {
+		/** Name of the benchmark and its parameters */
+		public String key;
+		/** Score in the baseline */
+		public double baseline;
+		/** Score in the new results */
+		public double current;
+		/** Unit the score is in */
+		public String unit;
+		/** Fractional change in performance.  Positive values mean it has become slower */
+		public double change;
+
+		public boolean isRegression( double tolerance ) {
+			return change > tolerance;
+		}
+	}
+
+	/**
+	 * Loads JMH results which have been saved in the JSON format
+	 */
+	@SuppressWarnings("unchecked")
+	public static List<Map<String,Object>> load( String path ) throws IOException {
+		try( Reader reader = new InputStreamReader(new FileInputStream(path), StandardCharsets.UTF_8) ) {
+			Object data = new Yaml().load(reader);
+			if( !(data instanceof List) )
+				throw new IOException("Expected a list of benchmark results in "+path);
+			return (List<Map<String,Object>>)data;
+		}
+	}
+
+	/**
+	 * Creates a unique name for a result from the benchmark's name and its parameters
+	 */
+	@SuppressWarnings("unchecked")
+	public static String createKey( Map<String,Object> result ) {
+		StringBuilder key = new StringBuilder((String)result.get("benchmark"));
+		Map<String,Object> params = (Map<String,Object>)result.get("params");
+		if( params != null ) {
+			for( String name : new TreeSet<>(params.keySet()) ) {
+				key.append(" ").append(name).append("=").append(params.get(name));
+			}
+		}
+		return key.toString();
+	}
+
+	/**
+	 * Finds the results which are in the baseline and computes how much their performance has changed.
+	 * Results which are not in the baseline are skipped.
+	 */
+	@SuppressWarnings("unchecked")
+	public static List<Comparison> compare( List<Map<String,Object>> baseline , List<Map<String,Object>> results ) {
+		Map<String,Map<String,Object>> lookup = new HashMap<>();
+		for( Map<String,Object> r : baseline ) {
+			lookup.put(createKey(r),r);
+		}
+
+		List<Comparison> comparisons = new ArrayList<>();
+		for( Map<String,Object> r : results ) {
+			String key = createKey(r);
+			Map<String,Object> b = lookup.get(key);
+			if( b == null )
+				continue;
+
+			Map<String,Object> metricB = (Map<String,Object>)b.get("primaryMetric");
+			Map<String,Object> metricR = (Map<String,Object>)r.get("primaryMetric");
+
+			Comparison c = new Comparison();
+			c.key = key;
+			c.baseline = ((Number)metricB.get("score")).doubleValue();
+			c.current = ((Number)metricR.get("score")).doubleValue();
+			c.unit = (String)metricR.get("scoreUnit");
+
+			// throughput is the only mode where a larger score is better
+			if( "thrpt".equals(r.get("mode")) )
+				c.change = (c.baseline - c.current)/c.baseline;
+			else
+				c.change = (c.current - c.baseline)/c.baseline;
+
+			comparisons.add(c);
+		}
+		return comparisons;
+	}
+
+	public static void main(String[] args) throws IOException {
+		if( args.length < 2 || args.length > 3 ) {
+			System.err.println("BenchmarkRegression baseline.json results.json [tolerance]");
+			System.exit(2);
+		}
+
+		double tolerance = args.length == 3 ? Double.parseDouble(args[2]) : 0.1;
+
+		List<Comparison> comparisons = compare(load(args[0]),load(args[1]));
+
+		int total = 0;
+		for( Comparison c : comparisons ) {
+			boolean regression = c.isRegression(tolerance);
+			if( regression )
+				total++;
+			System.out.printf("%s %7.1f%%  %12.4f -> %12.4f %s  %s\n",
+					regression ? "SLOWER" : "      ", 100.0*c.change, c.baseline, c.current, c.unit, c.key);
+		}
+		System.out.println();
+		System.out.println("Compared "+comparisons.size()+" benchmarks. Regressions = "+total);
+
+		if( total > 0 )
+			System.exit(1);
+	}
+}
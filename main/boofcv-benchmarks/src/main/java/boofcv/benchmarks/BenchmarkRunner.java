@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Runs the JMH benchmarks and saves the results to a JSON file, which can then be compared against a baseline
+ * using {@link BenchmarkRegression}.
+ *
+ * <pre>
+ * --include REGEX        Regular expression which selects the benchmarks. Default is all of them.
+ * --output FILE          Where the JSON results are saved. Default is results.json
+ * --param NAME=V0,V1     Overrides the values of a parameter, e.g. --param threads=1,8
+ * --quick                Fewer and shorter iterations. Useful for a sanity check, not for a baseline.
+ * </pre>
+ *
+ * @author Peter Abeles
+ */
+public class BenchmarkRunner {
+	public static void main(String[] args) throws RunnerException {
+		String include = "boofcv\\.benchmarks\\..*";
+		String output = "results.json";
+		boolean quick = false;
+
+		ChainedOptionsBuilder builder = new OptionsBuilder();
+
+		for (int i = 0; i < args.length; i++) {
+			String arg = args[i];
+			if( arg.equals("--quick") ) {
+				quick = true;
+				continue;
+			}
+			if( i+1 >= args.length )
+				throw new IllegalArgumentException("Missing value for "+arg);
+			String value = args[++i];
+			switch( arg ) {
+				case "--include": include = value; break;
+				case "--output": output = value; break;
+				case "--param": {
+					String[] words = value.split("=");
+					if( words.length != 2 )
+						throw new IllegalArgumentException("Expected NAME=V0,V1,... not "+value);
+					builder.param(words[0],words[1].split(","));
+				} break;
+				default:
+					throw new IllegalArgumentException("Unknown argument "+arg);
+			}
+		}
+
+		builder.include(include).resultFormat(ResultFormatType.JSON).result(output);
+
+		if( quick ) {
+			builder.warmupIterations(1).warmupTime(TimeValue.seconds(1))
+					.measurementIterations(2).measurementTime(TimeValue.seconds(1));
+		}
+
+		new Runner(builder.build()).run();
+		System.out.println("Saved results to "+output);
+	}
+}
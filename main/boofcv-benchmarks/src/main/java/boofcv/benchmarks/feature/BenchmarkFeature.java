@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.benchmarks.feature;
+
+import boofcv.abst.feature.detdesc.DetectDescribePoint;
+import boofcv.abst.feature.detect.interest.ConfigFastCorner;
+import boofcv.abst.feature.detect.interest.ConfigGeneralDetector;
+import boofcv.abst.feature.detect.interest.PointDetector;
+import boofcv.alg.feature.detect.interest.EasyGeneralFeatureDetector;
+import boofcv.benchmarks.BenchmarkImageBase;
+import boofcv.factory.feature.detdesc.FactoryDetectDescribe;
+import boofcv.factory.feature.detect.interest.FactoryDetectPoint;
+import boofcv.struct.feature.BrightFeature;
+import boofcv.struct.image.GrayF32;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for feature detectors and descriptors in boofcv-feature
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value=1)
+public class BenchmarkFeature extends BenchmarkImageBase {
+
+	@Param({"500"})
+	public int maxFeatures;
+
+	GrayF32 input;
+
+	PointDetector<GrayF32> fast;
+	EasyGeneralFeatureDetector<GrayF32,GrayF32> shiTomasi;
+	DetectDescribePoint<GrayF32,BrightFeature> surf;
+	DetectDescribePoint<GrayF32,BrightFeature> sift;
+
+	@Setup
+	public void setup() {
+		setupBase();
+
+		input = new GrayF32(width,height);
+		renderRectangles(input,rand,200);
+
+		ConfigFastCorner configFast = new ConfigFastCorner();
+		fast = FactoryDetectPoint.createFast(configFast,GrayF32.class);
+
+		ConfigGeneralDetector configCorner = new ConfigGeneralDetector(maxFeatures,2,1.0f);
+		shiTomasi = new EasyGeneralFeatureDetector<>(
+				FactoryDetectPoint.createShiTomasi(configCorner,false,GrayF32.class),GrayF32.class,GrayF32.class);
+
+		surf = FactoryDetectDescribe.surfFast(null,null,null,GrayF32.class);
+		sift = FactoryDetectDescribe.sift(null);
+	}
+
+	@Benchmark
+	public void detectFast() {
+		fast.process(input);
+	}
+
+	@Benchmark
+	public void detectShiTomasi() {
+		shiTomasi.detect(input,null);
+	}
+
+	@Benchmark
+	public void detectDescribeSurfFast() {
+		surf.detect(input);
+	}
+
+	@Benchmark
+	public void detectDescribeSift() {
+		sift.detect(input);
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.benchmarks.geo;
+
+import boofcv.abst.geo.Estimate1ofEpipolar;
+import boofcv.abst.geo.Estimate1ofPnP;
+import boofcv.alg.geo.GeoTestingOps;
+import boofcv.factory.geo.EnumEssential;
+import boofcv.factory.geo.EnumFundamental;
+import boofcv.factory.geo.EnumPNP;
+import boofcv.factory.geo.FactoryMultiView;
+import boofcv.struct.geo.AssociatedPair;
+import boofcv.struct.geo.Point2D3D;
+import georegression.geometry.ConvertRotation3D_F64;
+import georegression.struct.EulerType;
+import georegression.struct.point.Point3D_F64;
+import georegression.struct.se.Se3_F64;
+import georegression.transform.se.SePointOps_F64;
+import org.ejml.data.DMatrixRMaj;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for geometric model estimators in boofcv-geo.  Observations are synthetic and noise free.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value=1)
+public class BenchmarkGeo {
+
+	@Param({"100","500"})
+	public int numPoints;
+
+	Random rand = new Random(234);
+
+	List<AssociatedPair> pairs = new ArrayList<>();
+	List<AssociatedPair> pairsPlanar = new ArrayList<>();
+	List<Point2D3D> observationPose = new ArrayList<>();
+
+	Estimate1ofEpipolar fundamental8;
+	Estimate1ofEpipolar essential5;
+	Estimate1ofEpipolar homography;
+	Estimate1ofPnP epnp;
+	Estimate1ofPnP p3p;
+
+	List<AssociatedPair> pairs5 = new ArrayList<>();
+	List<Point2D3D> observationP3P = new ArrayList<>();
+
+	DMatrixRMaj foundMatrix = new DMatrixRMaj(3,3);
+	Se3_F64 foundPose = new Se3_F64();
+
+	@Setup
+	public void setup() {
+		Se3_F64 motion = new Se3_F64();
+		motion.getR().set(ConvertRotation3D_F64.eulerToMatrix(EulerType.XYZ,0.5 , -0.2, 0.15,null));
+		motion.getT().set(0.1,-0.2,5);
+
+		List<Point3D_F64> worldPoints = GeoTestingOps.randomPoints_F64(-1, 1, -1, 1, -0.5, 1.5, numPoints, rand);
+		List<Point3D_F64> planarPoints = new ArrayList<>();
+		for (int i = 0; i < numPoints; i++) {
+			planarPoints.add( new Point3D_F64(rand.nextDouble()*2-1,rand.nextDouble()*2-1,0));
+		}
+
+		pairs.clear();pairsPlanar.clear();observationPose.clear();
+		for( Point3D_F64 p1 : worldPoints ) {
+			AssociatedPair pair = createPair(motion,p1);
+			pairs.add(pair);
+			observationPose.add( new Point2D3D(pair.p2,p1));
+		}
+		for( Point3D_F64 p1 : planarPoints ) {
+			pairsPlanar.add(createPair(motion,p1));
+		}
+
+		fundamental8 = FactoryMultiView.computeFundamental_1(EnumFundamental.LINEAR_8,0);
+		essential5 = FactoryMultiView.computeEssential_1(EnumEssential.NISTER_5,5);
+		homography = FactoryMultiView.computeHomographyDLT(true);
+		epnp = FactoryMultiView.computePnP_1(EnumPNP.EPNP,10,0);
+		p3p = FactoryMultiView.computePnP_1(EnumPNP.P3P_GRUNERT,-1,1);
+
+		// minimal solvers are benchmarked with the minimum number of points plus ones used to remove ambiguity
+		pairs5.clear();observationP3P.clear();
+		pairs5.addAll(pairs.subList(0,essential5.getMinimumPoints()));
+		observationP3P.addAll(observationPose.subList(0,p3p.getMinimumPoints()));
+	}
+
+	private static AssociatedPair createPair( Se3_F64 motion , Point3D_F64 p1 ) {
+		Point3D_F64 p2 = SePointOps_F64.transform(motion, p1, null);
+		AssociatedPair pair = new AssociatedPair();
+		pair.p1.set(p1.x/p1.z,p1.y/p1.z);
+		pair.p2.set(p2.x/p2.z,p2.y/p2.z);
+		return pair;
+	}
+
+	@Benchmark
+	public void fundamentalLinear8() {
+		fundamental8.process(pairs,foundMatrix);
+	}
+
+	@Benchmark
+	public void essentialNister5() {
+		essential5.process(pairs5,foundMatrix);
+	}
+
+	@Benchmark
+	public void homographyDLT() {
+		homography.process(pairsPlanar,foundMatrix);
+	}
+
+	@Benchmark
+	public void pnpEPnP() {
+		epnp.process(observationPose,foundPose);
+	}
+
+	@Benchmark
+	public void p3pGrunert() {
+		p3p.process(observationP3P,foundPose);
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.benchmarks.io;
+
+import boofcv.benchmarks.BenchmarkImageBase;
+import boofcv.core.encoding.ConvertNV21;
+import boofcv.io.image.ConvertBufferedImage;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageType;
+import boofcv.struct.image.InterleavedU8;
+import boofcv.struct.image.Planar;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for converting images from external formats, e.g. BufferedImage and NV21 camera data,
+ * which are typically the first step when processing an image.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value=1)
+public class BenchmarkIO extends BenchmarkImageBase {
+
+	BufferedImage bufferedGray;
+	BufferedImage bufferedRgb;
+	BufferedImage bufferedBgr;
+	BufferedImage bufferedOutput;
+
+	byte[] nv21;
+
+	GrayU8 gray;
+	GrayU8 grayHalf;
+	Planar<GrayU8> planar;
+	InterleavedU8 interleaved;
+
+	@Setup
+	public void setup() {
+		setupBase();
+
+		bufferedGray = new BufferedImage(width,height,BufferedImage.TYPE_BYTE_GRAY);
+		bufferedRgb = new BufferedImage(width,height,BufferedImage.TYPE_INT_RGB);
+		bufferedBgr = new BufferedImage(width,height,BufferedImage.TYPE_3BYTE_BGR);
+		bufferedOutput = new BufferedImage(width,height,BufferedImage.TYPE_INT_RGB);
+
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				int rgb = rand.nextInt(0xFFFFFF);
+				bufferedGray.setRGB(x,y,rgb);
+				bufferedRgb.setRGB(x,y,rgb);
+				bufferedBgr.setRGB(x,y,rgb);
+			}
+		}
+
+		nv21 = new byte[width*height*3/2];
+		rand.nextBytes(nv21);
+
+		gray = new GrayU8(width,height);
+		grayHalf = new GrayU8(width/2,height/2);
+		planar = ImageType.pl(3,GrayU8.class).createImage(width,height);
+		interleaved = new InterleavedU8(width,height,3);
+	}
+
+	@Benchmark
+	public void bufferedToGray() {
+		ConvertBufferedImage.convertFrom(bufferedGray,gray);
+	}
+
+	@Benchmark
+	public void bufferedIntRgbToPlanar() {
+		ConvertBufferedImage.convertFrom(bufferedRgb,planar,true);
+	}
+
+	@Benchmark
+	public void buffered3ByteToInterleaved() {
+		ConvertBufferedImage.convertFrom(bufferedBgr,interleaved,true);
+	}
+
+	@Benchmark
+	public void planarToBufferedIntRgb() {
+		ConvertBufferedImage.convertTo(planar,bufferedOutput,true);
+	}
+
+	@Benchmark
+	public void nv21ToGray() {
+		ConvertNV21.nv21ToGray(nv21,width,height,gray);
+	}
+
+	@Benchmark
+	public void nv21ToPlanarRgb() {
+		ConvertNV21.nv21TPlanarRgb_U8(nv21,width,height,planar);
+	}
+
+	@Benchmark
+	public void nv21ToInterleavedRgb() {
+		ConvertNV21.nv21ToInterleaved(nv21,width,height,interleaved);
+	}
+
+	@Benchmark
+	public void nv21ToGrayDown2() {
+		ConvertNV21.nv21ToGrayDown2(nv21,width,height,grayHalf);
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.benchmarks.ip;
+
+import boofcv.alg.filter.binary.GThresholdImageOps;
+import boofcv.alg.filter.blur.GBlurImageOps;
+import boofcv.alg.filter.derivative.DerivativeType;
+import boofcv.alg.filter.derivative.GImageDerivativeOps;
+import boofcv.benchmarks.BenchmarkImageBase;
+import boofcv.core.image.GConvertImage;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.core.image.border.BorderType;
+import boofcv.struct.image.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for commonly used low level image processing operations in boofcv-ip
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value=1)
+public class BenchmarkImageProcessing extends BenchmarkImageBase {
+
+	@Param({"U8","F32"})
+	public String imageType;
+
+	@Param({"5"})
+	public int radius;
+
+	ImageGray input;
+	ImageGray output;
+	ImageGray derivX;
+	ImageGray derivY;
+	GrayF32 outputF32;
+	GrayU8 binary;
+
+	@Setup
+	public void setup() {
+		setupBase();
+
+		ImageDataType type = ImageDataType.valueOf(imageType);
+		input = GeneralizedImageOps.createSingleBand(type,width,height);
+		output = GeneralizedImageOps.createSingleBand(type,width,height);
+		Class derivType = GImageDerivativeOps.getDerivativeType(input.getClass());
+		derivX = GeneralizedImageOps.createSingleBand(derivType,width,height);
+		derivY = GeneralizedImageOps.createSingleBand(derivType,width,height);
+		outputF32 = new GrayF32(width,height);
+		binary = new GrayU8(width,height);
+
+		renderRectangles(input,rand,200);
+	}
+
+	@Benchmark
+	public void blurGaussian() {
+		GBlurImageOps.gaussian(input,output,-1,radius,null);
+	}
+
+	@Benchmark
+	public void blurMean() {
+		GBlurImageOps.mean(input,output,radius,null);
+	}
+
+	@Benchmark
+	public void blurMedian() {
+		GBlurImageOps.median(input,output,radius);
+	}
+
+	@Benchmark
+	public void gradientSobel() {
+		GImageDerivativeOps.gradient(DerivativeType.SOBEL,input,derivX,derivY,BorderType.EXTENDED);
+	}
+
+	@Benchmark
+	public void convertToF32() {
+		GConvertImage.convert(input,outputF32);
+	}
+
+	@Benchmark
+	public void threshold() {
+		GThresholdImageOps.threshold(input,binary,120,true);
+	}
+}
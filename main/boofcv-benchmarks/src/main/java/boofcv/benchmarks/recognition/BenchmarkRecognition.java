@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.benchmarks.recognition;
+
+import boofcv.abst.fiducial.CalibrationFiducialDetector;
+import boofcv.abst.fiducial.QrCodePreciseDetector;
+import boofcv.abst.fiducial.calib.ConfigChessboard;
+import boofcv.alg.fiducial.qrcode.QrCode;
+import boofcv.alg.fiducial.qrcode.QrCodeEncoder;
+import boofcv.alg.fiducial.qrcode.QrCodeGeneratorImage;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.benchmarks.BenchmarkImageBase;
+import boofcv.factory.fiducial.FactoryFiducial;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for fiducial detectors in boofcv-recognition.  Markers are rendered into the image
+ * so that the entire detection pipeline is exercised.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value=1)
+public class BenchmarkRecognition extends BenchmarkImageBase {
+
+	GrayU8 qrImage;
+	GrayF32 chessImage;
+
+	QrCodePreciseDetector<GrayU8> qrDetector;
+	CalibrationFiducialDetector<GrayF32> chessDetector;
+
+	@Setup
+	public void setup() {
+		setupBase();
+
+		// QR Code in the middle of a cluttered image
+		qrImage = new GrayU8(width,height);
+		renderRectangles(qrImage,rand,100);
+
+		QrCode qr = new QrCodeEncoder().addAutomatic("BoofCV Benchmark 0123456789").fixate();
+		QrCodeGeneratorImage generator = new QrCodeGeneratorImage(Math.max(2,height/100));
+		generator.render(qr);
+		GrayU8 marker = generator.getGray();
+		int x0 = (width-marker.width)/2;
+		int y0 = (height-marker.height)/2;
+		qrImage.subimage(x0,y0,x0+marker.width,y0+marker.height).setTo(marker);
+
+		qrDetector = FactoryFiducial.qrcode(null,GrayU8.class);
+
+		// Chessboard calibration target which fills most of the image
+		int rows = 5, cols = 7;
+		int square = Math.min(width/(cols+2),height/(rows+2));
+		chessImage = new GrayF32(width,height);
+		GImageMiscOps.fill(chessImage,255);
+		for (int row = 0; row < rows; row++) {
+			for (int col = 0; col < cols; col++) {
+				if( (row+col)%2 == 1 )
+					continue;
+				ImageMiscOps.fillRectangle(chessImage,0,(col+1)*square,(row+1)*square,square,square);
+			}
+		}
+
+		chessDetector = FactoryFiducial.calibChessboard(new ConfigChessboard(rows,cols,30),GrayF32.class);
+	}
+
+	@Benchmark
+	public void qrcode() {
+		qrDetector.process(qrImage);
+	}
+
+	@Benchmark
+	public void chessboard() {
+		chessDetector.detect(chessImage);
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.benchmarks.sfm;
+
+import boofcv.abst.feature.detect.interest.ConfigGeneralDetector;
+import boofcv.abst.feature.tracker.PointTracker;
+import boofcv.abst.sfm.d2.ImageMotion2D;
+import boofcv.benchmarks.BenchmarkImageBase;
+import boofcv.factory.feature.tracker.FactoryPointTracker;
+import boofcv.factory.sfm.FactoryMotion2D;
+import boofcv.struct.image.GrayF32;
+import georegression.struct.affine.Affine2D_F64;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for tracking and motion estimation in boofcv-sfm. Each invocation processes a short
+ * synthetic sequence where the camera translates across a textured scene.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value=1)
+public class BenchmarkSfm extends BenchmarkImageBase {
+
+	@Param({"10"})
+	public int numFrames;
+
+	GrayF32[] frames;
+
+	PointTracker<GrayF32> tracker;
+	ImageMotion2D<GrayF32,Affine2D_F64> motion2D;
+
+	@Setup
+	public void setup() {
+		setupBase();
+
+		GrayF32 scene = new GrayF32(width+2*numFrames,height+numFrames);
+		renderRectangles(scene,rand,400);
+
+		frames = new GrayF32[numFrames];
+		for (int i = 0; i < numFrames; i++) {
+			frames[i] = scene.subimage(2*i,i,2*i+width,i+height).clone();
+		}
+
+		ConfigGeneralDetector configDetector = new ConfigGeneralDetector(600,3,1);
+		tracker = FactoryPointTracker.klt(new int[]{1,2,4,8},configDetector,3,GrayF32.class,GrayF32.class);
+
+		PointTracker<GrayF32> motionTracker =
+				FactoryPointTracker.klt(new int[]{1,2,4,8},configDetector,3,GrayF32.class,GrayF32.class);
+		motion2D = FactoryMotion2D.createMotion2D(200,3,2,40,0.5,0.6,false,motionTracker,new Affine2D_F64());
+	}
+
+	@Benchmark
+	public void trackerKlt() {
+		tracker.reset();
+		for (int i = 0; i < numFrames; i++) {
+			tracker.process(frames[i]);
+			if( i == 0 )
+				tracker.spawnTracks();
+		}
+	}
+
+	@Benchmark
+	public void motion2D() {
+		motion2D.reset();
+		for (int i = 0; i < numFrames; i++) {
+			motion2D.process(frames[i]);
+		}
+	}
+}
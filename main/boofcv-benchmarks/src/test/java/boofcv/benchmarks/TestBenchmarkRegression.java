@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.benchmarks;
+
+import boofcv.benchmarks.BenchmarkRegression.Comparison;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.*;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestBenchmarkRegression {
+
+	@Test
+	public void load() throws IOException {
+		File file = File.createTempFile("jmh",".json");
+		file.deleteOnExit();
+		try( PrintStream out = new PrintStream(file) ) {
+			out.println("[");
+			out.println("    {");
+			out.println("        \"jmhVersion\" : \"1.19\",");
+			out.println("        \"benchmark\" : \"boofcv.benchmarks.ip.BenchmarkImageProcessing.blurMean\",");
+			out.println("        \"mode\" : \"avgt\",");
+			out.println("        \"threads\" : 1,");
+			out.println("        \"params\" : {");
+			out.println("            \"size\" : \"640x480\",");
+			out.println("            \"threads\" : \"1\"");
+			out.println("        },");
+			out.println("        \"primaryMetric\" : {");
+			out.println("            \"score\" : 1.5,");
+			out.println("            \"scoreError\" : 0.01,");
+			out.println("            \"scoreUnit\" : \"ms/op\",");
+			out.println("            \"rawData\" : [");
+			out.println("                [");
+			out.println("                    1.49,");
+			out.println("                    1.51");
+			out.println("                ]");
+			out.println("            ]");
+			out.println("        },");
+			out.println("        \"secondaryMetrics\" : {");
+			out.println("        }");
+			out.println("    }");
+			out.println("]");
+		}
+
+		List<Map<String,Object>> results = BenchmarkRegression.load(file.getPath());
+		assertEquals(1,results.size());
+		assertEquals("boofcv.benchmarks.ip.BenchmarkImageProcessing.blurMean size=640x480 threads=1",
+				BenchmarkRegression.createKey(results.get(0)));
+
+		List<Comparison> comparisons = BenchmarkRegression.compare(results,results);
+		assertEquals(1,comparisons.size());
+		assertEquals(1.5,comparisons.get(0).current,1e-8);
+		assertEquals("ms/op",comparisons.get(0).unit);
+	}
+
+	/**
+	 * The order of parameters should not change the key
+	 */
+	@Test
+	public void createKey_order() {
+		Map<String,Object> a = result("foo","avgt",1.0,"threads","4","size","10x10");
+		Map<String,Object> b = result("foo","avgt",1.0,"size","10x10","threads","4");
+
+		assertEquals(BenchmarkRegression.createKey(a),BenchmarkRegression.createKey(b));
+		assertEquals("foo size=10x10 threads=4",BenchmarkRegression.createKey(a));
+	}
+
+	@Test
+	public void compare_averageTime() {
+		List<Map<String,Object>> baseline = new ArrayList<>();
+		baseline.add(result("foo","avgt",2.0,"threads","1"));
+		baseline.add(result("foo","avgt",2.0,"threads","4"));
+
+		List<Map<String,Object>> results = new ArrayList<>();
+		results.add(result("foo","avgt",3.0,"threads","1"));
+		results.add(result("foo","avgt",1.0,"threads","4"));
+		results.add(result("bar","avgt",1.0,"threads","4"));
+
+		List<Comparison> found = BenchmarkRegression.compare(baseline,results);
+
+		// bar isn't in the baseline and should be skipped
+		assertEquals(2,found.size());
+		assertEquals(0.5,found.get(0).change,1e-8);
+		assertEquals(-0.5,found.get(1).change,1e-8);
+		assertTrue(found.get(0).isRegression(0.1));
+		assertFalse(found.get(0).isRegression(0.6));
+		assertFalse(found.get(1).isRegression(0.1));
+	}
+
+	/**
+	 * With throughput a smaller score is worse
+	 */
+	@Test
+	public void compare_throughput() {
+		List<Map<String,Object>> baseline = new ArrayList<>();
+		baseline.add(result("foo","thrpt",100.0));
+
+		List<Map<String,Object>> results = new ArrayList<>();
+		results.add(result("foo","thrpt",80.0));
+
+		List<Comparison> found = BenchmarkRegression.compare(baseline,results);
+		assertEquals(1,found.size());
+		assertEquals(0.2,found.get(0).change,1e-8);
+		assertTrue(found.get(0).isRegression(0.1));
+	}
+
+	private static Map<String,Object> result( String name , String mode , double score , String ...params ) {
+		Map<String,Object> result = new HashMap<>();
+		result.put("benchmark",name);
+		result.put("mode",mode);
+
+		if( params.length > 0 ) {
+			Map<String,Object> p = new HashMap<>();
+			for (int i = 0; i < params.length; i += 2) {
+				p.put(params[i],params[i+1]);
+			}
+			result.put("params",p);
+		}
+
+		Map<String,Object> metric = new HashMap<>();
+		metric.put("score",score);
+		metric.put("scoreUnit","ms/op");
+		result.put("primaryMetric",metric);
+		return result;
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.associate;
+
+import boofcv.abst.feature.associate.ScoreAssociateHamming_B;
+import boofcv.misc.Performer;
+import boofcv.misc.ProfileOperation;
+import boofcv.struct.feature.TupleDesc_B;
+import org.ddogleg.struct.FastQueue;
+
+import java.util.Random;
+
+/**
+ * Compares the speed of generic greedy association against the specialized version for binary descriptors
+ *
+ * @author Peter Abeles
+ */
+public class BenchmarkAssociationHamming_B {
+
+	static final long TEST_TIME = 1000;
+	static final Random rand = new Random(234234);
+	static final int NUM_BITS = 512;
+	static final int NUM_FEATURES = 2000;
+
+	static final FastQueue<TupleDesc_B> listA = createSet();
+	static final FastQueue<TupleDesc_B> listB = createSet();
+
+	public static class General implements Performer {
+
+		AssociateGreedy<TupleDesc_B> alg;
+		String name;
+
+		public General(String name, AssociateGreedy<TupleDesc_B> alg) {
+			this.alg = alg;
+			this.name = name;
+		}
+
+		@Override
+		public void process() {
+			alg.associate(listA,listB);
+		}
+
+		@Override
+		public String getName() {
+			return name;
+		}
+	}
+
+	private static FastQueue<TupleDesc_B> createSet() {
+		FastQueue<TupleDesc_B> ret = new FastQueue<TupleDesc_B>(10,TupleDesc_B.class, true) {
+				@Override
+				protected TupleDesc_B createInstance() {
+					return new TupleDesc_B(NUM_BITS);
+				}
+		};
+
+		for( int i = 0; i < NUM_FEATURES; i++ ) {
+			TupleDesc_B t = ret.grow();
+			for( int j = 0; j < t.data.length; j++ ) {
+				t.data[j] = rand.nextInt();
+			}
+		}
+		return ret;
+	}
+
+	public static void main( String argsp[ ] ) {
+		System.out.println("=========  Profile Description Bits "+NUM_BITS+" ========== Num Features "+NUM_FEATURES);
+		System.out.println();
+
+		for( boolean backwards : new boolean[]{false,true}) {
+			String suffix = backwards ? " Backwards" : "";
+			ProfileOperation.printOpsPerSec(new General("Greedy"+suffix,
+					new AssociateGreedy<>(new ScoreAssociateHamming_B(),backwards)),TEST_TIME);
+			ProfileOperation.printOpsPerSec(new General("Hamming"+suffix,
+					new AssociateGreedyHamming_B(backwards)),TEST_TIME);
+			ProfileOperation.printOpsPerSec(new General("Hamming MT"+suffix,
+					new AssociateGreedyHamming_B_MT(backwards)),TEST_TIME);
+		}
+	}
+}
@@ -64,6 +64,15 @@ public class BenchmarkFastIntensity<T extends ImageGray<T>> {
 		}
 	}
 
+	public class FAST9_MT extends PerformerBase {
+		FastCornerDetector<GrayU8> corner = new FastCornerDetector_MT<>(new ImplFastCorner9_U8(60));
+
+		@Override
+		public void process() {
+			corner.process((GrayU8)input,intensity);
+		}
+	}
+
 	public class FAST12 extends PerformerBase {
 		FastCornerDetector<GrayU8> corner = new FastCornerDetector<>(new ImplFastCorner12_U8(60));
 
@@ -83,6 +92,7 @@ public class BenchmarkFastIntensity<T extends ImageGray<T>> {
 		GImageMiscOps.fillUniform(input, rand, 0, 255);
 		ProfileOperation.printOpsPerSec(new FAST_NAIVE_9(), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new FAST9(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new FAST9_MT(), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new FAST12(), TEST_TIME);
 
 		System.out.println();
@@ -92,6 +102,7 @@ public class BenchmarkFastIntensity<T extends ImageGray<T>> {
 		GImageMiscOps.fill(input,125);
 		ProfileOperation.printOpsPerSec(new FAST_NAIVE_9(), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new FAST9(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new FAST9_MT(), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new FAST12(), TEST_TIME);
 
 	}
@@ -428,6 +428,10 @@ public class GenerateImplFastCorner extends CodeGeneratorBase {
 						"\n" +
 						"\tpublic "+className+"("+sumType+" pixelTol) {\n" +
 						"\t\tsuper(pixelTol);\n" +
+						"\t}\n\n" +
+						"\t@Override\n" +
+						"\tpublic "+className+" newInstance() {\n" +
+						"\t\treturn new "+className+"(tol);\n" +
 						"\t}\n\n");
 	}
 
@@ -24,29 +24,62 @@ import boofcv.misc.CodeGeneratorBase;
 import java.io.FileNotFoundException;
 
 /**
+ * Generates dense rectangular region block matching for SAD and Hamming distance scores.  Both share the same
+ * code for summing the scores of each row and processing bands of rows concurrently.
+ *
  * @author Peter Abeles
  */
 public class GenerateDisparityScoreSadRect extends CodeGeneratorBase {
 
 	String typeInput;
-	String dataAbr;
-	String bitWise;
 	String sumType;
 
+	// name of the error metric used to score regions
+	String scoreName;
+	// class being extended
+	String parentClass;
+	// function in UtilDisparityScore which computes the score for a row
+	String scoreRowFunction;
+
+	public GenerateDisparityScoreSadRect() {
+		super(false);
+	}
+
 	@Override
 	public void generate() throws FileNotFoundException {
-		createFile(AutoTypeImage.U8);
-		createFile(AutoTypeImage.S16);
-		createFile(AutoTypeImage.F32);
+		createSad(AutoTypeImage.U8);
+		createSad(AutoTypeImage.S16);
+		createSad(AutoTypeImage.F32);
+		createHamming(AutoTypeImage.U8);
+		createHamming(AutoTypeImage.S32);
+		createHamming(AutoTypeImage.S64);
 	}
 
-	public void createFile( AutoTypeImage image ) throws FileNotFoundException {
-		setOutputFile("ImplDisparityScoreSadRect_"+image.getAbbreviatedType());
+	public void createSad( AutoTypeImage image ) throws FileNotFoundException {
 		typeInput = image.getSingleBandName();
-		bitWise = image.getBitWise();
 		sumType = image.getSumType();
+		scoreName = "SadRect";
+		parentClass = "DisparityScoreSadRect";
+		scoreRowFunction = "computeScoreRow";
+		createFile(image);
+	}
 
-		dataAbr = image.isInteger() ? "S32" : "F32";
+	/**
+	 * Hamming distance between binary descriptors, e.g. the output of a census transform.  The descriptors
+	 * are stored in integer images and the score is always an int.
+	 */
+	public void createHamming( AutoTypeImage image ) throws FileNotFoundException {
+		typeInput = image.getSingleBandName();
+		sumType = "int";
+		scoreName = "HammingRect";
+		parentClass = "DisparityScoreRowFormat";
+		scoreRowFunction = "computeScoreRowHamming";
+		createFile(image);
+	}
+
+	public void createFile( AutoTypeImage image ) throws FileNotFoundException {
+		className = null;
+		setOutputFile("ImplDisparityScore"+scoreName+"_"+image.getAbbreviatedType());
 
 		printPreamble();
 		printConstructor();
@@ -54,73 +87,173 @@ public class GenerateDisparityScoreSadRect extends CodeGeneratorBase {
 		printComputeFirstRow();
 		printComputeRemainingRows();
 		printTheRest();
+		printWorkSpace();
 
 		out.println("}");
 	}
 
 	private void printPreamble() {
-		out.print("import boofcv.alg.InputSanityCheck;\n" +
-				"import boofcv.alg.feature.disparity.DisparityScoreSadRect;\n" +
+		String description;
+		if( scoreName.equals("SadRect") ) {
+			description =
+				" * Implementation of {@link boofcv.alg.feature.disparity.DisparityScoreSadRect} for processing\n" +
+				" * input images of type {@link "+typeInput+"}.\n";
+		} else {
+			description =
+				" * Implementation of {@link boofcv.alg.feature.disparity.DisparityScoreRowFormat} which scores a rectangular\n" +
+				" * region using the Hamming distance between binary descriptors stored in a {@link "+typeInput+"}, e.g. the\n" +
+				" * output of a {@link boofcv.alg.transform.census.CensusTransform}.  The score of a region is the total\n" +
+				" * number of bits which are different.\n";
+		}
+
+		String singleThread;
+		String bandFields = "";
+		if( sumType.equals("float") ) {
+			// round off depends on where sums are primed so the bands can't depend on the number of threads
+			singleThread =
+				" * single thread. Rows are always split into the same bands, even in a single thread, so that floating\n" +
+				" * point round off and the output are the same no matter how many threads there are.\n";
+			bandFields =
+				"\t// Each band is at least this many rows tall\n" +
+				"\tpublic static final int MIN_BAND_ROWS = 64;\n" +
+				"\t// Each band is at least this many times as tall as the region, limiting the cost of priming its sums\n" +
+				"\tpublic static final int BAND_REGIONS = 10;\n" +
+				"\n";
+		} else {
+			singleThread = " * single thread. The output is the same as when it's processed in a single thread.\n";
+		}
+
+		out.print("import boofcv.alg.feature.disparity."+parentClass+";\n" +
 				"import boofcv.alg.feature.disparity.DisparitySelect;\n" +
-				"import boofcv.struct.image.ImageGray;\n" +
+				"import boofcv.concurrency.BoofConcurrency;\n" +
 				"import boofcv.struct.image."+typeInput+";\n" +
+				"import boofcv.struct.image.ImageGray;\n" +
+				"import org.ddogleg.struct.FastQueue;\n" +
 				"\n" +
 				"/**\n" +
 				" * <p>\n" +
-				" * Implementation of {@link boofcv.alg.feature.disparity.DisparityScoreSadRect} for processing\n" +
-				" * input images of type {@link "+typeInput+"}.\n" +
+				description +
+				" * </p>\n" +
+				" * <p>\n" +
+				" * When {@link BoofConcurrency#USE_CONCURRENT} is true the image is split into bands of rows which are\n" +
+				" * processed concurrently. Each band primes its own vertical sum using the rows above it. The first band uses\n" +
+				" * the provided {@link DisparitySelect} and the other bands use a copy which is reused between images,\n" +
+				" * see {@link DisparitySelect#concurrentCopy()}. If it can't be copied the image is processed in a\n" +
+				singleThread +
 				" * </p>\n" +
 				" * <p>\n" +
 				" * DO NOT MODIFY. Generated by {@link GenerateDisparityScoreSadRect}.\n" +
-				" * </p>\n"+
+				" * </p>\n" +
 				" * \n" +
 				" * @author Peter Abeles\n" +
 				" */\n" +
-				"public class "+className+"<Disparity extends ImageGray>\n" +
-				"\textends DisparityScoreSadRect<"+typeInput+",Disparity>\n" +
+				"public class "+className+"<DI extends ImageGray<DI>>\n" +
+				"\textends "+parentClass+"<"+typeInput+", DI>\n" +
 				"{\n" +
 				"\n" +
-				"\t// Computes disparity from scores\n" +
-				"\tDisparitySelect<"+sumType+"[],Disparity> computeDisparity;\n" +
-				"\n" +
-				"\t// stores the local scores for the width of the region\n" +
-				"\t"+sumType+" elementScore[];\n" +
-				"\t// scores along horizontal axis for current block\n" +
-				"\t// To allow right to left validation all disparity scores are stored for the entire row\n" +
-				"\t// size = num columns * maxDisparity\n" +
-				"\t// disparity for column i is stored in elements i*maxDisparity to (i+1)*maxDisparity\n" +
-				"\t"+sumType+" horizontalScore[][];\n" +
-				"\t// summed scores along vertical axis\n" +
-				"\t// This is simply the sum of like elements in horizontal score\n" +
-				"\t"+sumType+" verticalScore[];\n\n");
+				"\t// Computes disparity from scores. Used by the first band of rows and copied for the other bands\n" +
+				"\tDisparitySelect<"+sumType+"[], DI> computeDisparity;\n" +
+				"\t// true if computeDisparity can be copied and rows can be processed concurrently\n" +
+				"\tboolean concurrentSupported;\n" +
+				"\n" +
+				"\t// Storage for each band of rows which is processed\n" +
+				"\tFastQueue<WorkSpace<DI>> workspace = new FastQueue(WorkSpace.class,true);\n" +
+				"\n" +
+				bandFields);
 	}
 
 	private void printConstructor() {
 		out.print("\tpublic "+className+"( int minDisparity , int maxDisparity,\n" +
 				"\t\t\t\t\t\t\t\t\t\tint regionRadiusX, int regionRadiusY,\n" +
-				"\t\t\t\t\t\t\t\t\t\tDisparitySelect<"+sumType+"[],Disparity> computeDisparity) {\n" +
+				"\t\t\t\t\t\t\t\t\t\tDisparitySelect<"+sumType+"[], DI> computeDisparity) {\n" +
 				"\t\tsuper(minDisparity,maxDisparity,regionRadiusX,regionRadiusY);\n" +
 				"\n" +
 				"\t\tthis.computeDisparity = computeDisparity;\n" +
-				"\t}\n\n");
+				"\t\tthis.concurrentSupported = computeDisparity.concurrentCopy() != null;\n" +
+				"\t}\n" +
+				"\n");
 	}
 
 	private void printProcess() {
 		out.print("\t@Override\n" +
-				"\tpublic void _process( "+typeInput+" left , "+typeInput+" right , Disparity disparity ) {\n" +
-				"\t\tif( horizontalScore == null || verticalScore.length < lengthHorizontal ) {\n" +
-				"\t\t\thorizontalScore = new "+sumType+"[regionHeight][lengthHorizontal];\n" +
-				"\t\t\tverticalScore = new "+sumType+"[lengthHorizontal];\n" +
-				"\t\t\telementScore = new "+sumType+"[ left.width ];\n" +
+				"\tpublic void _process("+typeInput+" left , "+typeInput+" right , DI disparity ) {\n" +
+				"\t\t// range of rows that a disparity is computed at\n" +
+				"\t\tint row0 = radiusY;\n" +
+				"\t\tint row1 = left.height-radiusY;\n" +
+				"\n");
+		if( sumType.equals("float") ) {
+			printProcessFixedBands();
+		} else {
+			out.print(
+				"\t\tif( BoofConcurrency.USE_CONCURRENT && concurrentSupported ) {\n" +
+				"\t\t\tBoofConcurrency.loopBlocks(row0,row1,regionHeight,workspace,(work,y0,y1)->\n" +
+				"\t\t\t\t\tcomputeBlock(left,right,disparity,work,y0,y1));\n" +
+				"\t\t} else if( row1 > row0 ) {\n" +
+				"\t\t\tif( workspace.size == 0 )\n" +
+				"\t\t\t\tworkspace.grow();\n" +
+				"\t\t\tcomputeBlock(left,right,disparity,workspace.get(0),row0,row1);\n" +
 				"\t\t}\n" +
-				"\n" +
-				"\t\tcomputeDisparity.configure(disparity,minDisparity,maxDisparity,radiusX);\n" +
+				"\t}\n" +
+				"\n");
+		}
+		out.print(
+				"\t/**\n" +
+				"\t * Computes the disparity for a band of rows\n" +
+				"\t *\n" +
+				"\t * @param row0 First row the disparity is computed at, inclusive\n" +
+				"\t * @param row1 Last row the disparity is computed at, exclusive\n" +
+				"\t */\n" +
+				"\tprivate void computeBlock( "+typeInput+" left , "+typeInput+" right , DI disparity ,\n" +
+				"\t\t\t\t\t\t\t   WorkSpace<DI> work , int row0 , int row1 ) {\n" +
+				"\t\twork.checkSize(regionHeight,lengthHorizontal,left.width);\n" +
+				"\t\t// The first band uses the original. Other bands reuse their copy once its configuration has been\n" +
+				"\t\t// updated to match the original's, so changes to the original are never ignored\n" +
+				"\t\tif( work == workspace.get(0) )\n" +
+				"\t\t\twork.computeDisparity = computeDisparity;\n" +
+				"\t\telse if( work.computeDisparity == null || !computeDisparity.updateConcurrentCopy(work.computeDisparity) )\n" +
+				"\t\t\twork.computeDisparity = computeDisparity.concurrentCopy();\n" +
+				"\t\twork.computeDisparity.configure(disparity,minDisparity,maxDisparity,radiusX);\n" +
 				"\n" +
 				"\t\t// initialize computation\n" +
-				"\t\tcomputeFirstRow(left, right);\n" +
+				"\t\tcomputeFirstRow(left, right, work, row0-radiusY);\n" +
 				"\t\t// efficiently compute rest of the rows using previous results to avoid repeat computations\n" +
-				"\t\tcomputeRemainingRows(left, right);\n" +
-				"\t}\n\n");
+				"\t\tcomputeRemainingRows(left, right, work, row0-radiusY, row1+radiusY);\n" +
+				"\t}\n" +
+				"\n");
+	}
+
+	/**
+	 * Floating point sums depend on the row the vertical sum was primed at.  Rows are split into bands which
+	 * don't depend on the number of threads so that the output is always the same.
+	 */
+	private void printProcessFixedBands() {
+		out.print(
+				"\t\t// Floating point round off depends on the row each band's vertical sum is primed at. The bands\n" +
+				"\t\t// are the same no matter how many threads there are so that the output is too\n" +
+				"\t\tint bandRows = Math.max(MIN_BAND_ROWS,BAND_REGIONS*regionHeight);\n" +
+				"\t\tint numBands = (row1-row0+bandRows-1)/bandRows;\n" +
+				"\n" +
+				"\t\tif( BoofConcurrency.USE_CONCURRENT && concurrentSupported ) {\n" +
+				"\t\t\tBoofConcurrency.loopBlocks(0,numBands,workspace,(work,b0,b1)->\n" +
+				"\t\t\t\t\tcomputeBands(left,right,disparity,work,row0,row1,bandRows,b0,b1));\n" +
+				"\t\t} else if( numBands > 0 ) {\n" +
+				"\t\t\tif( workspace.size == 0 )\n" +
+				"\t\t\t\tworkspace.grow();\n" +
+				"\t\t\tcomputeBands(left,right,disparity,workspace.get(0),row0,row1,bandRows,0,numBands);\n" +
+				"\t\t}\n" +
+				"\t}\n" +
+				"\n" +
+				"\t/**\n" +
+				"\t * Computes the disparity for bands b0 to b1-1, each of which is bandRows tall\n" +
+				"\t */\n" +
+				"\tprivate void computeBands( "+typeInput+" left , "+typeInput+" right , DI disparity ,\n" +
+				"\t\t\t\t\t\t\t   WorkSpace<DI> work , int row0 , int row1 , int bandRows , int b0 , int b1 ) {\n" +
+				"\t\tfor( int band = b0; band < b1; band++ ) {\n" +
+				"\t\t\tint y0 = row0 + band*bandRows;\n" +
+				"\t\t\tcomputeBlock(left,right,disparity,work,y0,Math.min(row1,y0+bandRows));\n" +
+				"\t\t}\n" +
+				"\t}\n" +
+				"\n");
 	}
 
 	private void printComputeFirstRow() {
@@ -128,14 +261,17 @@ public class GenerateDisparityScoreSadRect extends CodeGeneratorBase {
 				"\t * Initializes disparity calculation by finding the scores for the initial block of horizontal\n" +
 				"\t * rows.\n" +
 				"\t */\n" +
-				"\tprivate void computeFirstRow("+typeInput+" left, "+typeInput+" right ) {\n" +
+				"\tprivate void computeFirstRow( "+typeInput+" left, "+typeInput+" right , WorkSpace<DI> work , int firstRow ) {\n" +
+				"\t\t"+sumType+" horizontalScore[][] = work.horizontalScore;\n" +
+				"\t\t"+sumType+" verticalScore[] = work.verticalScore;\n" +
+				"\n" +
 				"\t\t// compute horizontal scores for first row block\n" +
 				"\t\tfor( int row = 0; row < regionHeight; row++ ) {\n" +
 				"\n" +
 				"\t\t\t"+sumType+" scores[] = horizontalScore[row];\n" +
 				"\n" +
-				"\t\t\tUtilDisparityScore.computeScoreRow(left, right, row, scores,\n" +
-				"\t\t\t\t\tminDisparity,maxDisparity,regionWidth,elementScore);\n" +
+				"\t\t\tUtilDisparityScore."+scoreRowFunction+"(left, right, firstRow+row, scores,\n" +
+				"\t\t\t\t\tminDisparity,maxDisparity,regionWidth,work.elementScore);\n" +
 				"\t\t}\n" +
 				"\n" +
 				"\t\t// compute score for the top possible row\n" +
@@ -148,8 +284,9 @@ public class GenerateDisparityScoreSadRect extends CodeGeneratorBase {
 				"\t\t}\n" +
 				"\n" +
 				"\t\t// compute disparity\n" +
-				"\t\tcomputeDisparity.process(radiusY, verticalScore);\n" +
-				"\t}\n\n");
+				"\t\twork.computeDisparity.process(firstRow + radiusY, verticalScore);\n" +
+				"\t}\n" +
+				"\n");
 	}
 
 	private void printComputeRemainingRows() {
@@ -158,19 +295,21 @@ public class GenerateDisparityScoreSadRect extends CodeGeneratorBase {
 				"\t * When a new block is processes the last row/column is subtracted and the new row/column is\n" +
 				"\t * added.\n" +
 				"\t */\n" +
-				"\tprivate void computeRemainingRows( "+typeInput+" left, "+typeInput+" right )\n" +
+				"\tprivate void computeRemainingRows( "+typeInput+" left, "+typeInput+" right , WorkSpace<DI> work , int firstRow , int lastRow )\n" +
 				"\t{\n" +
-				"\t\tfor( int row = regionHeight; row < left.height; row++ ) {\n" +
-				"\t\t\tint oldRow = row%regionHeight;\n" +
+				"\t\t"+sumType+" verticalScore[] = work.verticalScore;\n" +
+				"\n" +
+				"\t\tfor( int row = firstRow+regionHeight; row < lastRow; row++ ) {\n" +
+				"\t\t\tint oldRow = (row-firstRow)%regionHeight;\n" +
 				"\n" +
 				"\t\t\t// subtract first row from vertical score\n" +
-				"\t\t\t"+sumType+" scores[] = horizontalScore[oldRow];\n" +
+				"\t\t\t"+sumType+" scores[] = work.horizontalScore[oldRow];\n" +
 				"\t\t\tfor( int i = 0; i < lengthHorizontal; i++ ) {\n" +
 				"\t\t\t\tverticalScore[i] -= scores[i];\n" +
 				"\t\t\t}\n" +
 				"\n" +
-				"\t\t\tUtilDisparityScore.computeScoreRow(left, right, row, scores,\n" +
-				"\t\t\t\t\tminDisparity,maxDisparity,regionWidth,elementScore);\n" +
+				"\t\t\tUtilDisparityScore."+scoreRowFunction+"(left, right, row, scores,\n" +
+				"\t\t\t\t\tminDisparity,maxDisparity,regionWidth,work.elementScore);\n" +
 				"\n" +
 				"\t\t\t// add the new score\n" +
 				"\t\t\tfor( int i = 0; i < lengthHorizontal; i++ ) {\n" +
@@ -178,9 +317,10 @@ public class GenerateDisparityScoreSadRect extends CodeGeneratorBase {
 				"\t\t\t}\n" +
 				"\n" +
 				"\t\t\t// compute disparity\n" +
-				"\t\t\tcomputeDisparity.process(row - regionHeight + 1 + radiusY, verticalScore);\n" +
+				"\t\t\twork.computeDisparity.process(row - regionHeight + 1 + radiusY, verticalScore);\n" +
 				"\t\t}\n" +
-				"\t}\n\n");
+				"\t}\n" +
+				"\n");
 	}
 
 	private void printTheRest() {
@@ -190,9 +330,39 @@ public class GenerateDisparityScoreSadRect extends CodeGeneratorBase {
 				"\t}\n" +
 				"\n" +
 				"\t@Override\n" +
-				"\tpublic Class<Disparity> getDisparityType() {\n" +
+				"\tpublic Class<DI> getDisparityType() {\n" +
 				"\t\treturn computeDisparity.getDisparityType();\n" +
-				"\t}\n\n");
+				"\t}\n" +
+				"\n");
+	}
+
+	private void printWorkSpace() {
+		out.print("\t/**\n" +
+				"\t * Scores and the disparity selector used to process a single band of rows\n" +
+				"\t */\n" +
+				"\tpublic static class WorkSpace<DI extends ImageGray<DI>> {\n" +
+				"\t\t// stores the local scores for the width of the region\n" +
+				"\t\t"+sumType+" elementScore[];\n" +
+				"\t\t// scores along horizontal axis for current block\n" +
+				"\t\t// To allow right to left validation all disparity scores are stored for the entire row\n" +
+				"\t\t// size = num columns * maxDisparity\n" +
+				"\t\t// disparity for column i is stored in elements i*maxDisparity to (i+1)*maxDisparity\n" +
+				"\t\t"+sumType+" horizontalScore[][];\n" +
+				"\t\t// summed scores along vertical axis\n" +
+				"\t\t// This is simply the sum of like elements in horizontal score\n" +
+				"\t\t"+sumType+" verticalScore[];\n" +
+				"\t\t// Computes disparity from scores for this band\n" +
+				"\t\tDisparitySelect<"+sumType+"[], DI> computeDisparity;\n" +
+				"\n" +
+				"\t\tvoid checkSize( int regionHeight , int lengthHorizontal , int width ) {\n" +
+				"\t\t\tif( horizontalScore == null || verticalScore.length < lengthHorizontal ) {\n" +
+				"\t\t\t\thorizontalScore = new "+sumType+"[regionHeight][lengthHorizontal];\n" +
+				"\t\t\t\tverticalScore = new "+sumType+"[lengthHorizontal];\n" +
+				"\t\t\t}\n" +
+				"\t\t\tif( elementScore == null || elementScore.length < width )\n" +
+				"\t\t\t\telementScore = new "+sumType+"[ width ];\n" +
+				"\t\t}\n" +
+				"\t}\n");
 	}
 
 	public static void main( String args[] ) throws FileNotFoundException {
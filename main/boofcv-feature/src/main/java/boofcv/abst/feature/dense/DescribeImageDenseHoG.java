@@ -21,6 +21,7 @@ package boofcv.abst.feature.dense;
 import boofcv.alg.feature.dense.BaseDenseHog;
 import boofcv.alg.feature.dense.DescribeDenseHogFastAlg;
 import boofcv.struct.feature.TupleDesc_F64;
+import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.ImageBase;
 import boofcv.struct.image.ImageType;
 import georegression.struct.point.Point2D_I32;
@@ -47,6 +48,26 @@ public class DescribeImageDenseHoG<T extends ImageBase<T>> implements DescribeIm
 		hog.setInput(input);
 		hog.process();
 
+		centerLocations();
+	}
+
+	/**
+	 * Computes descriptors from a precomputed image gradient instead of an input image.  When processing an
+	 * image pyramid, the gradient of each layer can be computed once and shared with other algorithms.
+	 *
+	 * @see BaseDenseHog#setInputGradient
+	 *
+	 * @param derivX Image gradient x-axis
+	 * @param derivY Image gradient y-axis
+	 */
+	public void processGradient(GrayF32 derivX , GrayF32 derivY ) {
+		hog.setInputGradient(derivX, derivY);
+		hog.process();
+
+		centerLocations();
+	}
+
+	private void centerLocations() {
 		// center region locations to make it compliant with this interface
 		FastQueue<Point2D_I32> locations = hog.getLocations();
 		int rx = hog.getRegionWidthPixelX()/2;
@@ -59,6 +80,13 @@ public class DescribeImageDenseHoG<T extends ImageBase<T>> implements DescribeIm
 		}
 	}
 
+	/**
+	 * The HOG algorithm.  Provides access to internal data structures, e.g. cell histograms.
+	 */
+	public BaseDenseHog<T> getAlgorithm() {
+		return hog;
+	}
+
 	@Override
 	public List<TupleDesc_F64> getDescriptions() {
 		return hog.getDescriptions().toList();
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.feature.describe;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeConsumer;
+import boofcv.struct.feature.TupleDesc;
+import georegression.struct.point.Point2D_F64;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_B;
+import org.ddogleg.struct.GrowQueue_F64;
+
+import java.util.List;
+
+/**
+ * Functions used by implementations of {@link DescribeRegionPointBatch}
+ *
+ * @author Peter Abeles
+ */
+public class DescribeBatchOps {
+	/**
+	 * Batches with fewer than this number of features per thread aren't worth splitting
+	 */
+	public static int MIN_POINTS_PER_THREAD = 50;
+
+	/**
+	 * Checks the size of the input and resizes the output to match
+	 *
+	 * @return number of features
+	 */
+	public static <Desc extends TupleDesc>
+	int initialize( List<Point2D_F64> locations , GrowQueue_F64 orientations , GrowQueue_F64 radii ,
+					FastQueue<Desc> descriptions , GrowQueue_B success ) {
+		int N = locations.size();
+		if( orientations.size != N || radii.size != N )
+			throw new IllegalArgumentException("locations, orientations, and radii must all have the same size");
+
+		descriptions.resize(N);
+		success.resize(N);
+		return N;
+	}
+
+	/**
+	 * Processes features 0 to N-1.  If concurrent the range is split into blocks which are processed
+	 * in parallel, otherwise the whole range is passed in to the consumer at once.
+	 */
+	public static void process( boolean concurrent , int N , IntRangeConsumer consumer ) {
+		if( N == 0 )
+			return;
+		if( concurrent && N >= 2*MIN_POINTS_PER_THREAD ) {
+			BoofConcurrency.loopBlocks(0,N,MIN_POINTS_PER_THREAD,consumer);
+		} else {
+			consumer.accept(0,N);
+		}
+	}
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.feature.describe;
+
+import boofcv.struct.feature.TupleDesc;
+import boofcv.struct.image.ImageBase;
+import georegression.struct.point.Point2D_F64;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_B;
+import org.ddogleg.struct.GrowQueue_F64;
+
+import java.util.List;
+
+/**
+ * Extension of {@link DescribeRegionPoint} which can describe all the features in an image with a single
+ * function call.  Processing the features as a batch allows the work to be split between multiple threads
+ * and avoids the overhead of a call for each feature.  The results are identical to calling
+ * {@link #process(double, double, double, double, TupleDesc)} on each feature in order.
+ *
+ * @author Peter Abeles
+ */
+public interface DescribeRegionPointBatch<T extends ImageBase<T>, Desc extends TupleDesc>
+	extends DescribeRegionPoint<T,Desc>
+{
+	/**
+	 * Computes the description of every feature in the list.  {@link #setImage} must be called first.
+	 *
+	 * @param locations (Input) Location of each feature
+	 * @param orientations (Input) Orientation of each feature in radians.  Must be the same size as locations.
+	 * @param radii (Input) Radius of each feature in pixels.  Must be the same size as locations.
+	 * @param descriptions (Output) Storage for the descriptions.  Resized to match the number of features.
+	 * @param success (Output) true if the description for the feature at the same index could be computed.
+	 *                Resized to match the number of features.
+	 */
+	void process( List<Point2D_F64> locations , GrowQueue_F64 orientations , GrowQueue_F64 radii ,
+				  FastQueue<Desc> descriptions , GrowQueue_B success );
+
+	/**
+	 * Specifies if the batch should be split between multiple threads.  By default it is
+	 * {@link boofcv.concurrency.BoofConcurrency#USE_CONCURRENT}.
+	 */
+	void setConcurrent( boolean concurrent );
+
+	boolean isConcurrent();
+}
@@ -21,12 +21,19 @@ package boofcv.abst.feature.describe;
 import boofcv.alg.feature.describe.DescribePointSift;
 import boofcv.alg.feature.detect.interest.SiftScaleSpace;
 import boofcv.alg.feature.detect.interest.UnrollSiftScaleSpaceGradient;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.GConvertImage;
 import boofcv.struct.BoofDefaults;
 import boofcv.struct.feature.TupleDesc_F64;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.ImageGray;
 import boofcv.struct.image.ImageType;
+import georegression.struct.point.Point2D_F64;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_B;
+import org.ddogleg.struct.GrowQueue_F64;
+
+import java.util.List;
 
 /**
  * Allows you to use SIFT features independent of the SIFT detector.  A SIFT scale-space is computed with all octaves
@@ -36,7 +43,7 @@ import boofcv.struct.image.ImageType;
  * @author Peter Abeles
  */
 public class DescribeRegionPoint_SIFT <T extends ImageGray<T>>
-	implements DescribeRegionPoint<T,TupleDesc_F64>
+	implements DescribeRegionPointBatch<T,TupleDesc_F64>
 {
 	// expected type of input image.  All image types are converted to floats since that's what
 	// the scale-space requires
@@ -51,6 +58,9 @@ public class DescribeRegionPoint_SIFT <T extends ImageGray<T>>
 	// used as temporary storage for the input image if it needs to be converted
 	GrayF32 imageFloat = new GrayF32(1,1);
 
+	// should batches be processed in parallel
+	boolean concurrent = BoofConcurrency.USE_CONCURRENT;
+
 	public DescribeRegionPoint_SIFT(SiftScaleSpace scaleSpace,
 									DescribePointSift<GrayF32> describe,
 									Class<T> imageType ) {
@@ -76,6 +86,36 @@ public class DescribeRegionPoint_SIFT <T extends ImageGray<T>>
 
 	@Override
 	public boolean process(double x, double y, double orientation, double radius, TupleDesc_F64 description) {
+		return process(describe,x,y,orientation,radius,description);
+	}
+
+	@Override
+	public void process(List<Point2D_F64> locations, GrowQueue_F64 orientations, GrowQueue_F64 radii,
+						FastQueue<TupleDesc_F64> descriptions, GrowQueue_B success) {
+		int N = DescribeBatchOps.initialize(locations,orientations,radii,descriptions,success);
+
+		DescribeBatchOps.process(concurrent,N,(i0,i1)->{
+			// the descriptor has internal workspace so each block needs its own copy
+			DescribePointSift<GrayF32> alg = i0 == 0 && i1 == N ? describe : describe.copy();
+			for( int i = i0; i < i1; i++ ) {
+				Point2D_F64 p = locations.get(i);
+				success.data[i] = process(alg,p.x,p.y,orientations.data[i],radii.data[i],descriptions.get(i));
+			}
+		});
+	}
+
+	@Override
+	public void setConcurrent(boolean concurrent) {
+		this.concurrent = concurrent;
+	}
+
+	@Override
+	public boolean isConcurrent() {
+		return concurrent;
+	}
+
+	private boolean process( DescribePointSift<GrayF32> describe ,
+							 double x, double y, double orientation, double radius, TupleDesc_F64 description) {
 
 		// get the blur sigma for the radius
 		double sigma = radius / BoofDefaults.SIFT_SCALE_TO_RADIUS;
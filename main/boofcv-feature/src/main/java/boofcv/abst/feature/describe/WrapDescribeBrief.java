@@ -19,19 +19,29 @@
 package boofcv.abst.feature.describe;
 
 import boofcv.alg.feature.describe.DescribePointBrief;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.feature.TupleDesc_B;
 import boofcv.struct.image.ImageGray;
 import boofcv.struct.image.ImageType;
+import georegression.struct.point.Point2D_F64;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_B;
+import org.ddogleg.struct.GrowQueue_F64;
+
+import java.util.List;
 
 /**
  * @author Peter Abeles
  */
-public class WrapDescribeBrief<T extends ImageGray<T>> implements DescribeRegionPoint<T,TupleDesc_B> {
+public class WrapDescribeBrief<T extends ImageGray<T>> implements DescribeRegionPointBatch<T,TupleDesc_B> {
 
 	int length;
 	DescribePointBrief<T> alg;
 	ImageType<T> imageType;
 
+	// should batches be processed in parallel
+	boolean concurrent = BoofConcurrency.USE_CONCURRENT;
+
 	public WrapDescribeBrief( DescribePointBrief<T> alg , Class<T> imageType) {
 		this.alg = alg;
 		this.length = alg.getDefinition().getLength();
@@ -54,6 +64,31 @@ public class WrapDescribeBrief<T extends ImageGray<T>> implements DescribeRegion
 		return true;
 	}
 
+	@Override
+	public void process(List<Point2D_F64> locations, GrowQueue_F64 orientations, GrowQueue_F64 radii,
+						FastQueue<TupleDesc_B> descriptions, GrowQueue_B success) {
+		int N = DescribeBatchOps.initialize(locations,orientations,radii,descriptions,success);
+
+		// after the image has been set the descriptor has no internal state, so it can be shared
+		DescribeBatchOps.process(concurrent,N,(i0,i1)->{
+			for( int i = i0; i < i1; i++ ) {
+				Point2D_F64 p = locations.get(i);
+				alg.process(p.x,p.y,descriptions.get(i));
+				success.data[i] = true;
+			}
+		});
+	}
+
+	@Override
+	public void setConcurrent(boolean concurrent) {
+		this.concurrent = concurrent;
+	}
+
+	@Override
+	public boolean isConcurrent() {
+		return concurrent;
+	}
+
 	@Override
 	public boolean requiresRadius() {
 		return false;
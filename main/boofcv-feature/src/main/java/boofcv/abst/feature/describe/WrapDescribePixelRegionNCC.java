@@ -19,9 +19,16 @@
 package boofcv.abst.feature.describe;
 
 import boofcv.alg.feature.describe.DescribePointPixelRegionNCC;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.feature.NccFeature;
 import boofcv.struct.image.ImageGray;
 import boofcv.struct.image.ImageType;
+import georegression.struct.point.Point2D_F64;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_B;
+import org.ddogleg.struct.GrowQueue_F64;
+
+import java.util.List;
 
 /**
  * Wrapper around {@link boofcv.alg.feature.describe.DescribePointPixelRegionNCC} for
@@ -30,11 +37,14 @@ import boofcv.struct.image.ImageType;
  * @author Peter Abeles
  */
 public class WrapDescribePixelRegionNCC<T extends ImageGray<T>>
-		implements DescribeRegionPoint<T,NccFeature>
+		implements DescribeRegionPointBatch<T,NccFeature>
 {
 	DescribePointPixelRegionNCC<T> alg;
 	ImageType<T> imageType;
 
+	// should batches be processed in parallel
+	boolean concurrent = BoofConcurrency.USE_CONCURRENT;
+
 	public WrapDescribePixelRegionNCC(DescribePointPixelRegionNCC<T> alg , Class<T> imageType) {
 		this.alg = alg;
 		this.imageType = ImageType.single(imageType);
@@ -64,6 +74,36 @@ public class WrapDescribePixelRegionNCC<T extends ImageGray<T>>
 		return true;
 	}
 
+	@Override
+	public void process(List<Point2D_F64> locations, GrowQueue_F64 orientations, GrowQueue_F64 radii,
+						FastQueue<NccFeature> descriptions, GrowQueue_B success) {
+		int N = DescribeBatchOps.initialize(locations,orientations,radii,descriptions,success);
+
+		// after the image has been set the descriptor has no internal state, so it can be shared
+		DescribeBatchOps.process(concurrent,N,(i0,i1)->{
+			for( int i = i0; i < i1; i++ ) {
+				Point2D_F64 p = locations.get(i);
+				int x = (int)p.x, y = (int)p.y;
+				if( alg.isInBounds(x,y) ) {
+					alg.process(x,y,descriptions.get(i));
+					success.data[i] = true;
+				} else {
+					success.data[i] = false;
+				}
+			}
+		});
+	}
+
+	@Override
+	public void setConcurrent(boolean concurrent) {
+		this.concurrent = concurrent;
+	}
+
+	@Override
+	public boolean isConcurrent() {
+		return concurrent;
+	}
+
 	@Override
 	public boolean requiresRadius() {
 		return false;
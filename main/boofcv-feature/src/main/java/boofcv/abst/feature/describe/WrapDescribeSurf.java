@@ -20,17 +20,24 @@ package boofcv.abst.feature.describe;
 
 import boofcv.alg.feature.describe.DescribePointSurf;
 import boofcv.alg.transform.ii.GIntegralImageOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.BoofDefaults;
 import boofcv.struct.feature.BrightFeature;
 import boofcv.struct.image.ImageGray;
 import boofcv.struct.image.ImageType;
+import georegression.struct.point.Point2D_F64;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_B;
+import org.ddogleg.struct.GrowQueue_F64;
+
+import java.util.List;
 
 
 /**
  * @author Peter Abeles
  */
 public class WrapDescribeSurf<T extends ImageGray<T>, II extends ImageGray<II>>
-		implements DescribeRegionPoint<T,BrightFeature> {
+		implements DescribeRegionPointBatch<T,BrightFeature> {
 
 	// computes SURF feature descriptor
 	DescribePointSurf<II> surf;
@@ -39,6 +46,9 @@ public class WrapDescribeSurf<T extends ImageGray<T>, II extends ImageGray<II>>
 
 	ImageType<T> imageType;
 
+	// should batches be processed in parallel
+	boolean concurrent = BoofConcurrency.USE_CONCURRENT;
+
 	public WrapDescribeSurf(DescribePointSurf<II> surf , Class<T> imageType)
 	{
 		this.surf = surf;
@@ -69,6 +79,33 @@ public class WrapDescribeSurf<T extends ImageGray<T>, II extends ImageGray<II>>
 		return true;
 	}
 
+	@Override
+	public void process(List<Point2D_F64> locations, GrowQueue_F64 orientations, GrowQueue_F64 radii,
+						FastQueue<BrightFeature> descriptions, GrowQueue_B success) {
+		int N = DescribeBatchOps.initialize(locations,orientations,radii,descriptions,success);
+
+		DescribeBatchOps.process(concurrent,N,(i0,i1)->{
+			// the descriptor has internal workspace so each block needs its own copy
+			DescribePointSurf<II> alg = i0 == 0 && i1 == N ? surf : surf.copy();
+			for( int i = i0; i < i1; i++ ) {
+				Point2D_F64 p = locations.get(i);
+				alg.describe(p.x,p.y,orientations.data[i],radii.data[i]/BoofDefaults.SURF_SCALE_TO_RADIUS,
+						descriptions.get(i));
+				success.data[i] = true;
+			}
+		});
+	}
+
+	@Override
+	public void setConcurrent(boolean concurrent) {
+		this.concurrent = concurrent;
+	}
+
+	@Override
+	public boolean isConcurrent() {
+		return concurrent;
+	}
+
 	@Override
 	public boolean requiresRadius() {
 		return true;
@@ -19,12 +19,14 @@
 package boofcv.abst.feature.detdesc;
 
 import boofcv.abst.feature.describe.DescribeRegionPoint;
+import boofcv.abst.feature.describe.DescribeRegionPointBatch;
 import boofcv.abst.feature.detect.interest.InterestPointDetector;
 import boofcv.abst.feature.orientation.OrientationImage;
 import boofcv.struct.feature.TupleDesc;
 import boofcv.struct.image.ImageGray;
 import georegression.struct.point.Point2D_F64;
 import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_B;
 import org.ddogleg.struct.GrowQueue_F64;
 
 /**
@@ -56,6 +58,9 @@ public class DetectDescribeFusion<T extends ImageGray<T>, TD extends TupleDesc>
 	private GrowQueue_F64 featureAngles = new GrowQueue_F64(10);
 	private FastQueue<Point2D_F64> location = new FastQueue<>(10, Point2D_F64.class, false);
 
+	// which features were successfully described when processed as a batch
+	private GrowQueue_B success = new GrowQueue_B();
+
 	/**
 	 * Configures the algorithm.
 	 *
@@ -111,6 +116,11 @@ public class DetectDescribeFusion<T extends ImageGray<T>, TD extends TupleDesc>
 
 		int N = detector.getNumberOfFeatures();
 
+		if( describe instanceof DescribeRegionPointBatch ) {
+			describeBatch((DescribeRegionPointBatch<T,TD>)describe, N);
+			return;
+		}
+
 		for( int i = 0; i < N; i++ ) {
 			Point2D_F64 p = detector.getLocation(i);
 			double radius = detector.getRadius(i);
@@ -131,6 +141,48 @@ public class DetectDescribeFusion<T extends ImageGray<T>, TD extends TupleDesc>
 		}
 	}
 
+	/**
+	 * Describes all the features with a single call then removes the features which could not be described
+	 */
+	private void describeBatch( DescribeRegionPointBatch<T,TD> describe , int N ) {
+		for( int i = 0; i < N; i++ ) {
+			Point2D_F64 p = detector.getLocation(i);
+			double radius = detector.getRadius(i);
+			double yaw = detector.getOrientation(i);
+
+			if( orientation != null ) {
+				orientation.setObjectRadius(radius);
+				yaw = orientation.compute(p.x,p.y);
+			}
+
+			location.add(p);
+			featureRadiuses.push(radius);
+			featureAngles.push(yaw);
+		}
+
+		describe.process(location.toList(),featureAngles,featureRadiuses,descs,success);
+
+		// remove failed features while preserving the order of the others
+		int total = 0;
+		for( int i = 0; i < N; i++ ) {
+			if( !success.data[i] )
+				continue;
+			if( total != i ) {
+				TD tmp = descs.data[total];
+				descs.data[total] = descs.data[i];
+				descs.data[i] = tmp;
+				location.data[total] = location.data[i];
+				featureRadiuses.data[total] = featureRadiuses.data[i];
+				featureAngles.data[total] = featureAngles.data[i];
+			}
+			total++;
+		}
+		descs.size = total;
+		location.size = total;
+		featureRadiuses.size = total;
+		featureAngles.size = total;
+	}
+
 	@Override
 	public int getNumberOfFeatures() {
 		return location.size();
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.feature.disparity;
+
+import boofcv.alg.feature.disparity.DisparityCoarseToFine;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageGray;
+
+/**
+ * Wrapper around {@link DisparityCoarseToFine} for {@link StereoDisparity}
+ *
+ * @author Peter Abeles
+ */
+public class WrapDisparityCoarseToFine<T extends ImageGray<T>> implements StereoDisparity<T,GrayU8> {
+	DisparityCoarseToFine<T> alg;
+
+	public WrapDisparityCoarseToFine(DisparityCoarseToFine<T> alg) {
+		this.alg = alg;
+	}
+
+	@Override
+	public void process(T imageLeft, T imageRight) {
+		alg.process(imageLeft,imageRight);
+	}
+
+	@Override
+	public GrayU8 getDisparity() {
+		return alg.getDisparity();
+	}
+
+	@Override
+	public int getMinDisparity() {
+		return alg.getMinDisparity();
+	}
+
+	@Override
+	public int getMaxDisparity() {
+		return alg.getMaxDisparity();
+	}
+
+	@Override
+	public int getBorderX() {
+		return alg.getBorderX();
+	}
+
+	@Override
+	public int getBorderY() {
+		return alg.getBorderY();
+	}
+
+	@Override
+	public Class<T> getInputType() {
+		return alg.getInputType();
+	}
+
+	@Override
+	public Class<GrayU8> getDisparityType() {
+		return GrayU8.class;
+	}
+
+	public DisparityCoarseToFine<T> getAlg() {
+		return alg;
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.feature.disparity;
+
+import boofcv.alg.feature.disparity.sgm.SgmStereoDisparity;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageGray;
+
+/**
+ * Wrapper around {@link SgmStereoDisparity} for {@link StereoDisparity}.  The disparity is either
+ * a {@link GrayU8} image with pixel accuracy or a {@link GrayF32} image with sub-pixel accuracy.
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings("unchecked")
+public class WrapDisparitySgm<T extends ImageGray<T>, D extends ImageGray<D>>
+		implements StereoDisparity<T,D>
+{
+	SgmStereoDisparity<T> alg;
+	Class<T> inputType;
+
+	// storage for sub-pixel disparity. null if not computed
+	GrayF32 disparitySubpixel;
+
+	public WrapDisparitySgm(SgmStereoDisparity<T> alg, boolean subpixel, Class<T> inputType ) {
+		this.alg = alg;
+		this.inputType = inputType;
+		if( subpixel )
+			disparitySubpixel = new GrayF32(1,1);
+	}
+
+	@Override
+	public void process(T imageLeft, T imageRight) {
+		alg.process(imageLeft,imageRight);
+		if( disparitySubpixel != null )
+			alg.subpixel(disparitySubpixel);
+	}
+
+	@Override
+	public D getDisparity() {
+		if( disparitySubpixel != null )
+			return (D)disparitySubpixel;
+		return (D)alg.getDisparity();
+	}
+
+	@Override
+	public int getMinDisparity() {
+		return alg.getMinDisparity();
+	}
+
+	@Override
+	public int getMaxDisparity() {
+		return alg.getMinDisparity()+alg.getRangeDisparity();
+	}
+
+	@Override
+	public int getBorderX() {
+		return 0;
+	}
+
+	@Override
+	public int getBorderY() {
+		return 0;
+	}
+
+	@Override
+	public Class<T> getInputType() {
+		return inputType;
+	}
+
+	@Override
+	public Class<D> getDisparityType() {
+		return (Class)(disparitySubpixel != null ? GrayF32.class : GrayU8.class);
+	}
+
+	public SgmStereoDisparity<T> getAlg() {
+		return alg;
+	}
+}
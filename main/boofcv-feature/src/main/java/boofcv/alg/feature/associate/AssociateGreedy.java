@@ -24,6 +24,8 @@ import org.ddogleg.struct.FastQueue;
 import org.ddogleg.struct.GrowQueue_F64;
 import org.ddogleg.struct.GrowQueue_I32;
 
+import java.util.Arrays;
+
 
 /**
  * <p>
@@ -36,7 +38,8 @@ import org.ddogleg.struct.GrowQueue_I32;
  * Optionally, backwards validation can be used to reduce the number of false associations.
  * Backwards validation works by checking to see if two objects are mutually the best association
  * for each other.  First an association is found from src to dst, then the best fit in dst is
- * associated with feature in src.
+ * associated with feature in src.  Only the best score for each dst feature is saved, not every
+ * score, so memory usage is O(N+M).
  * </p>
  *
  * @param <D> Feature description type.
@@ -46,17 +49,24 @@ import org.ddogleg.struct.GrowQueue_I32;
 public class AssociateGreedy<D> {
 
 	// computes association score
-	private ScoreAssociation<D> score;
+	protected ScoreAssociation<D> score;
 	// worst allowed fit score to associate
-	private double maxFitError = Double.MAX_VALUE;
+	protected double maxFitError = Double.MAX_VALUE;
 	// stores the quality of fit score
-	private GrowQueue_F64 fitQuality = new GrowQueue_F64(100);
+	protected GrowQueue_F64 fitQuality = new GrowQueue_F64(100);
 	// stores indexes of associated
-	private GrowQueue_I32 pairs = new GrowQueue_I32(100);
-	// various
-	private GrowQueue_F64 workBuffer = new GrowQueue_F64(100);
+	protected GrowQueue_I32 pairs = new GrowQueue_I32(100);
 	// if true backwardsValidation is done
-	private boolean backwardsValidation;
+	protected boolean backwardsValidation;
+
+	// best score for each destination feature.  Used for backwards validation
+	protected BestDestination bestDst = new BestDestination();
+
+	/**
+	 * Number of destination features which are compared against a block of source features
+	 * at once.  Keeps the destination features in cache.
+	 */
+	public static int TILE_DST = 256;
 
 	/**
 	 * Configure association
@@ -81,46 +91,78 @@ public class AssociateGreedy<D> {
 	{
 		fitQuality.reset();
 		pairs.reset();
-		workBuffer.reset();
+		fitQuality.resize(src.size);
+		pairs.resize(src.size);
 
-//		System.out.println("Associate: "+src.size+"*"+dst.size+" = "+(src.size*dst.size)+" or "+(src.size*dst.size*8/1024/1024)+"MB");
-		fitQuality.setMaxSize(src.size);
-		workBuffer.setMaxSize(src.size*dst.size);
-		for( int i = 0; i < src.size; i++ ) {
-			D a = src.data[i];
-			double bestScore = maxFitError;
-			int bestIndex = -1;
+		if( backwardsValidation )
+			bestDst.reset(dst.size);
 
-			for( int j = 0; j < dst.size; j++ ) {
-				D b = dst.data[j];
+		searchSource(src,dst);
 
-				double fit = score.score(a,b);
-				workBuffer.push(fit);
+		if( backwardsValidation )
+			validateBackwards(src.size);
+	}
 
-				if( fit <= bestScore ) {
-					bestIndex = j;
-					bestScore = fit;
-				}
-			}
-			pairs.push(bestIndex);
-			fitQuality.push(bestScore);
+	/**
+	 * Finds the best match for every source feature
+	 */
+	protected void searchSource( FastQueue<D> src , FastQueue<D> dst ) {
+		findBest(src,dst,0,src.size,bestDst);
+	}
+
+	/**
+	 * Finds the best match for source features in the specified range.  Destination features are processed
+	 * in tiles so that they stay in cache.  If backwards validation is enabled then the best score
+	 * for each destination feature is also updated.
+	 *
+	 * @param i0 first source feature, inclusive
+	 * @param i1 last source feature, exclusive
+	 * @param bestDst (Output) best score for each destination feature.
+	 */
+	protected void findBest( FastQueue<D> src , FastQueue<D> dst , int i0 , int i1 , BestDestination bestDst ) {
+		for( int i = i0; i < i1; i++ ) {
+			pairs.data[i] = -1;
+			fitQuality.data[i] = maxFitError;
 		}
 
-		if( backwardsValidation ) {
-			for( int i = 0; i < src.size; i++ ) {
-				int match = pairs.data[i];
-				if( match == -1 )
-					continue;
+		for( int j0 = 0; j0 < dst.size; j0 += TILE_DST ) {
+			int j1 = Math.min(dst.size,j0+TILE_DST);
+
+			for( int i = i0; i < i1; i++ ) {
+				D a = src.data[i];
+				double bestScore = fitQuality.data[i];
+				int bestIndex = pairs.data[i];
 
-				double scoreToBeat = workBuffer.data[i*dst.size+match];
+				for( int j = j0; j < j1; j++ ) {
+					double fit = score.score(a,dst.data[j]);
 
-				for( int j = 0; j < src.size; j++ , match += dst.size ) {
-					if( workBuffer.data[match] <= scoreToBeat && j != i) {
-						pairs.data[i] = -1;
-						fitQuality.data[i] = Double.MAX_VALUE;
-						break;
+					// ties go to the last feature
+					if( fit <= bestScore ) {
+						bestIndex = j;
+						bestScore = fit;
 					}
+
+					if( backwardsValidation )
+						bestDst.add(j,fit);
 				}
+				pairs.data[i] = bestIndex;
+				fitQuality.data[i] = bestScore;
+			}
+		}
+	}
+
+	/**
+	 * Rejects a match if another source feature has the same or a better score with the destination feature
+	 */
+	protected void validateBackwards( int sizeSrc ) {
+		for( int i = 0; i < sizeSrc; i++ ) {
+			int match = pairs.data[i];
+			if( match == -1 )
+				continue;
+
+			if( fitQuality.data[i] != bestDst.score[match] || bestDst.count[match] != 1 ) {
+				pairs.data[i] = -1;
+				fitQuality.data[i] = Double.MAX_VALUE;
 			}
 		}
 	}
@@ -157,4 +199,48 @@ public class AssociateGreedy<D> {
 	public boolean isBackwardsValidation() {
 		return backwardsValidation;
 	}
+
+	/**
+	 * Best score for each destination feature and how many source features had that score.  Only
+	 * O(M) storage is required to check if a match is mutually the best for both features.
+	 */
+	public static class BestDestination {
+		public double[] score = new double[0];
+		public int[] count = new int[0];
+
+		public void reset( int sizeDst ) {
+			if( score.length < sizeDst ) {
+				score = new double[sizeDst];
+				count = new int[sizeDst];
+			}
+			Arrays.fill(score,0,sizeDst,Double.POSITIVE_INFINITY);
+			Arrays.fill(count,0,sizeDst,0);
+		}
+
+		/**
+		 * Updates the best score of destination feature 'j'
+		 */
+		public final void add( int j , double fit ) {
+			if( fit < score[j] ) {
+				score[j] = fit;
+				count[j] = 1;
+			} else if( fit == score[j] ) {
+				count[j]++;
+			}
+		}
+
+		/**
+		 * Combines the best scores found in a different set of source features with this one
+		 */
+		public void merge( BestDestination src , int sizeDst ) {
+			for( int j = 0; j < sizeDst; j++ ) {
+				if( src.score[j] < score[j] ) {
+					score[j] = src.score[j];
+					count[j] = src.count[j];
+				} else if( src.score[j] == score[j] ) {
+					count[j] += src.count[j];
+				}
+			}
+		}
+	}
 }
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.associate;
+
+import boofcv.abst.feature.associate.ScoreAssociateHamming_B;
+import boofcv.struct.feature.TupleDesc_B;
+import org.ddogleg.struct.FastQueue;
+/**
+ * <p>
+ * Specialized version of {@link AssociateGreedy} for binary descriptors which are associated using
+ * Hamming distance.  Descriptors are packed into a single array of 64-bit words so that the distance
+ * can be computed using {@link Long#bitCount} with good memory locality.
+ * </p>
+ *
+ * <p>
+ * Results are identical to {@link AssociateGreedy} with {@link ScoreAssociateHamming_B}.  In addition an optional
+ * ratio test can be applied using the best and second best score of each source feature.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class AssociateGreedyHamming_B extends AssociateGreedy<TupleDesc_B> {
+
+	// A match is only accepted if the ratio of the best score over the second best score is less than this value
+	protected double ratioTest = 1.0;
+
+	// number of 64-bit words in each descriptor
+	protected int numWords;
+	// descriptors packed into 64-bit words.  Descriptor i starts at index i*numWords
+	protected long[] packedSrc = new long[0];
+	protected long[] packedDst = new long[0];
+
+	/**
+	 * Configure association
+	 *
+	 * @param backwardsValidation If true then backwards validation is performed.
+	 */
+	public AssociateGreedyHamming_B(boolean backwardsValidation) {
+		super(new ScoreAssociateHamming_B(), backwardsValidation);
+	}
+
+	@Override
+	protected void searchSource( FastQueue<TupleDesc_B> src , FastQueue<TupleDesc_B> dst ) {
+		pack(src,dst);
+		findBest(0,src.size,dst.size,bestDst);
+	}
+
+	/**
+	 * Packs the source and destination descriptors
+	 */
+	protected void pack( FastQueue<TupleDesc_B> src , FastQueue<TupleDesc_B> dst ) {
+		numWords = 0;
+		if( src.size > 0 )
+			numWords = (src.data[0].data.length+1)/2;
+		else if( dst.size > 0 )
+			numWords = (dst.data[0].data.length+1)/2;
+
+		packedSrc = pack(src,numWords,packedSrc);
+		packedDst = pack(dst,numWords,packedDst);
+	}
+
+	/**
+	 * Finds the best match for source features in the specified range.  If backwards validation is
+	 * enabled then the best score for each destination feature is also updated.
+	 *
+	 * @param i0 first source feature, inclusive
+	 * @param i1 last source feature, exclusive
+	 * @param sizeDst number of destination features
+	 * @param bestDst (Output) best score for each destination feature.
+	 */
+	protected void findBest( int i0 , int i1 , int sizeDst , BestDestination bestDst ) {
+		// scores are integers so the threshold can be converted without changing which matches pass
+		final int maxError = maxFitError >= Integer.MAX_VALUE ? Integer.MAX_VALUE : (int)Math.floor(maxFitError);
+		final int numWords = this.numWords;
+		final long[] packedSrc = this.packedSrc;
+		final long[] packedDst = this.packedDst;
+		final boolean backwardsValidation = this.backwardsValidation;
+
+		for( int i = i0; i < i1; i++ ) {
+			final int indexSrc = i*numWords;
+			int best = Integer.MAX_VALUE;
+			int secondBest = Integer.MAX_VALUE;
+			int bestIndex = -1;
+
+			for( int j = 0, indexDst = 0; j < sizeDst; j++, indexDst += numWords ) {
+				int distance = 0;
+				for( int k = 0; k < numWords; k++ ) {
+					distance += Long.bitCount(packedSrc[indexSrc+k] ^ packedDst[indexDst+k]);
+				}
+
+				// ties go to the last feature, just like AssociateGreedy
+				if( distance <= best ) {
+					secondBest = best;
+					best = distance;
+					bestIndex = j;
+				} else if( distance < secondBest ) {
+					secondBest = distance;
+				}
+
+				if( backwardsValidation )
+					bestDst.add(j,distance);
+			}
+
+			if( bestIndex == -1 || best > maxError ) {
+				pairs.data[i] = -1;
+				fitQuality.data[i] = maxFitError;
+			} else if( ratioTest < 1.0 && secondBest != Integer.MAX_VALUE &&
+					!(best/(double)secondBest <= ratioTest) ) {
+				pairs.data[i] = -1;
+				fitQuality.data[i] = Double.MAX_VALUE;
+			} else {
+				pairs.data[i] = bestIndex;
+				fitQuality.data[i] = best;
+			}
+		}
+	}
+
+	/**
+	 * Copies the descriptors into a single array of 64-bit words.  Two 32-bit words are combined into
+	 * each 64-bit word.
+	 *
+	 * @param list Descriptors
+	 * @param numWords Number of 64-bit words in each descriptor
+	 * @param storage Storage for the packed descriptors.  Used if large enough.
+	 * @return The packed descriptors.
+	 */
+	public static long[] pack( FastQueue<TupleDesc_B> list , int numWords , long[] storage ) {
+		int length = list.size*numWords;
+		if( storage.length < length )
+			storage = new long[length];
+
+		for( int i = 0; i < list.size; i++ ) {
+			int[] data = list.data[i].data;
+			if( (data.length+1)/2 != numWords )
+				throw new IllegalArgumentException("All descriptors must be the same length");
+
+			int index = i*numWords;
+			int k = 0;
+			for( ; k+1 < data.length; k += 2 ) {
+				storage[index++] = (data[k] & 0xFFFFFFFFL) | ((long)data[k+1] << 32);
+			}
+			if( k < data.length ) {
+				storage[index] = data[k] & 0xFFFFFFFFL;
+			}
+		}
+		return storage;
+	}
+
+	public double getRatioTest() {
+		return ratioTest;
+	}
+
+	/**
+	 * Specifies the ratio test.  A match is only accepted if the best score divided by the second best score
+	 * is &le; this value.  Set to 1.0 or more to disable.
+	 */
+	public void setRatioTest(double ratioTest) {
+		this.ratioTest = ratioTest;
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.associate;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.feature.TupleDesc_B;
+import org.ddogleg.struct.FastQueue;
+
+/**
+ * Concurrent implementation of {@link AssociateGreedyHamming_B}.  Source features are split into blocks which
+ * are processed in parallel.  Each block tracks the best score of destination features independently,
+ * which are then merged together.
+ *
+ * @author Peter Abeles
+ */
+public class AssociateGreedyHamming_B_MT extends AssociateGreedyHamming_B {
+
+	// minimum number of source features each thread should process
+	public static int MIN_BLOCK = 20;
+
+	// storage for the best destination scores in each block
+	FastQueue<BestDestination> blocks = new FastQueue<>(BestDestination.class,true);
+
+	public AssociateGreedyHamming_B_MT(boolean backwardsValidation) {
+		super(backwardsValidation);
+	}
+
+	@Override
+	protected void searchSource( FastQueue<TupleDesc_B> src , FastQueue<TupleDesc_B> dst ) {
+		pack(src,dst);
+
+		final int sizeDst = dst.size;
+		BoofConcurrency.loopBlocks(0,src.size,MIN_BLOCK,blocks,(block,i0,i1)->{
+			if( backwardsValidation )
+				block.reset(sizeDst);
+			findBest(i0,i1,sizeDst,block);
+		});
+
+		// combine the best destination scores found in each block
+		if( backwardsValidation ) {
+			for( int i = 0; i < blocks.size; i++ ) {
+				bestDst.merge(blocks.get(i),sizeDst);
+			}
+		}
+	}
+}
@@ -19,6 +19,7 @@
 package boofcv.alg.feature.associate;
 
 import boofcv.abst.feature.associate.AssociateDescription;
+import boofcv.alg.feature.associate.nn.NearestNeighborSearch;
 import boofcv.struct.feature.AssociatedIndex;
 import boofcv.struct.feature.MatchScoreType;
 import org.ddogleg.nn.NearestNeighbor;
@@ -54,7 +55,7 @@ public class AssociateNearestNeighbor<D>
 	private FastQueue<NnData<D>> result2 = new FastQueue(NnData.class,true);
 
 	// list of features in destination set that are to be searched for in the source list
-	private FastQueue<D> listDst;
+	protected FastQueue<D> listDst;
 
 	int sizeSrc;
 
@@ -65,7 +66,7 @@ public class AssociateNearestNeighbor<D>
 	double scoreRatioThreshold =1.0;
 
 	// List of final associated points
-	private FastQueue<AssociatedIndex> matches = new FastQueue<>(100, AssociatedIndex.class, true);
+	protected FastQueue<AssociatedIndex> matches = new FastQueue<>(100, AssociatedIndex.class, true);
 
 	// creates a list of unassociated features from the list of matches
 	private FindUnassociated unassociated = new FindUnassociated();
@@ -73,6 +74,19 @@ public class AssociateNearestNeighbor<D>
 	// maximum distance away two points can be
 	private double maxDistance = -1;
 
+	// allows the same code to be used with a NearestNeighbor and NearestNeighborSearch
+	private NearestNeighborSearch<D> search = new NearestNeighborSearch<D>() {
+		@Override
+		public boolean findNearest(D point, double maxDistance, NnData<D> result) {
+			return alg.findNearest(point,maxDistance,result);
+		}
+
+		@Override
+		public void findNearest(D point, double maxDistance, int numNeighbors, FastQueue<NnData<D>> results) {
+			alg.findNearest(point,maxDistance,numNeighbors,results);
+		}
+	};
+
 	public AssociateNearestNeighbor(NearestNeighbor<D> alg) {
 		this.alg = alg;
 	}
@@ -93,16 +107,32 @@ public class AssociateNearestNeighbor<D>
 
 		matches.resize(listDst.size);
 		matches.reset();
+		associate(search,0,listDst.size,result,result2,matches);
+	}
+
+	/**
+	 * Finds the best match for destination features in the specified range
+	 *
+	 * @param search Used to search the source features
+	 * @param i0 first destination feature, inclusive
+	 * @param i1 last destination feature, exclusive
+	 * @param result Storage for the best match
+	 * @param result2 Storage for the two best matches
+	 * @param matches (Output) Matches are added to this list
+	 */
+	protected void associate( NearestNeighborSearch<D> search , int i0 , int i1 ,
+							  NnData<D> result , FastQueue<NnData<D>> result2 ,
+							  FastQueue<AssociatedIndex> matches ) {
 		if( scoreRatioThreshold >= 1.0 ) {
 			// if score ratio is not turned on then just use the best match
-			for (int i = 0; i < listDst.size; i++) {
-				if (!alg.findNearest(listDst.data[i], maxDistance, result))
+			for (int i = i0; i < i1; i++) {
+				if (!search.findNearest(listDst.data[i], maxDistance, result))
 					continue;
 				matches.grow().setAssociation(result.index, i, result.distance);
 			}
 		} else {
-			for (int i = 0; i < listDst.size; i++) {
-				alg.findNearest(listDst.data[i], maxDistance,2, result2);
+			for (int i = i0; i < i1; i++) {
+				search.findNearest(listDst.data[i], maxDistance,2, result2);
 
 				if( result2.size == 1 ) {
 					NnData<D> r = result2.getTail();
@@ -127,7 +157,6 @@ public class AssociateNearestNeighbor<D>
 				}
 			}
 		}
-
 	}
 
 	@Override
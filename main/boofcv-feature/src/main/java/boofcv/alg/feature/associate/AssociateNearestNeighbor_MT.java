@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.associate;
+
+import boofcv.alg.feature.associate.nn.NearestNeighborConcurrent;
+import boofcv.alg.feature.associate.nn.NearestNeighborSearch;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.feature.AssociatedIndex;
+import org.ddogleg.nn.NnData;
+import org.ddogleg.struct.FastQueue;
+
+/**
+ * Concurrent implementation of {@link AssociateNearestNeighbor}.  The index of source features is built once
+ * then destination features are split into blocks which are searched in parallel.  Each block has its own
+ * {@link NearestNeighborSearch}.  Matches are in the same order as the single threaded version.
+ *
+ * @author Peter Abeles
+ */
+public class AssociateNearestNeighbor_MT<D> extends AssociateNearestNeighbor<D> {
+
+	// minimum number of destination features each thread should process
+	public static int MIN_BLOCK = 50;
+
+	NearestNeighborConcurrent<D> nn;
+
+	// workspace for each block
+	FastQueue<Block> blocks = new FastQueue<>(Block.class,true);
+
+	public AssociateNearestNeighbor_MT(NearestNeighborConcurrent<D> nn) {
+		super(nn);
+		this.nn = nn;
+	}
+
+	@Override
+	public void associate() {
+		matches.resize(listDst.size);
+		matches.reset();
+
+		BoofConcurrency.loopBlocks(0,listDst.size,MIN_BLOCK,blocks,(block,i0,i1)->{
+			if( block.search == null )
+				block.search = nn.createSearch();
+			block.matches.reset();
+			associate(block.search,i0,i1,block.result,block.result2,block.matches);
+		});
+
+		for( int i = 0; i < blocks.size; i++ ) {
+			FastQueue<AssociatedIndex> found = blocks.get(i).matches;
+			for( int j = 0; j < found.size; j++ ) {
+				matches.grow().set(found.get(j));
+			}
+		}
+	}
+
+	public static class Block {
+		NearestNeighborSearch search;
+		NnData result = new NnData();
+		FastQueue result2 = new FastQueue(NnData.class,true);
+		FastQueue<AssociatedIndex> matches = new FastQueue<>(AssociatedIndex.class,true);
+	}
+}
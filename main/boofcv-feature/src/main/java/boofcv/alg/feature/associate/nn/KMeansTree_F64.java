@@ -0,0 +1,340 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.associate.nn;
+
+import boofcv.struct.feature.TupleDesc_F64;
+import org.ddogleg.nn.NnData;
+import org.ddogleg.struct.FastQueue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * <p>
+ * Approximate nearest-neighbor search using a hierarchical k-means tree, as is done in FLANN [1].  Points are
+ * clustered into 'branching' groups using k-means and each group is then recursively clustered until
+ * it has fewer than 'maxLeafSize' points.  Searches descend the tree to the closest leaf while saving
+ * unexplored branches in a priority queue.  The closest unexplored branches are then searched until
+ * 'maxChecks' points have been examined, even if no point was within the maximum distance.  Works well for
+ * high dimensional descriptors, such as SIFT and SURF, where a k-d tree performs poorly.
+ * </p>
+ *
+ * <p>
+ * Once built the tree is read only and can be searched by multiple threads.  Distance is Euclidean distance
+ * squared, the same as {@link boofcv.alg.descriptor.KdTreeTuple_F64}.
+ * </p>
+ *
+ * <p>
+ * [1] Muja, Marius, and David G. Lowe. "Fast approximate nearest neighbors with automatic algorithm
+ * configuration." VISAPP (1) 2.331-340 (2009): 2.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class KMeansTree_F64 implements NearestNeighborConcurrent<TupleDesc_F64> {
+
+	// number of children each node has
+	final int branching;
+	// a node with this many points or less is a leaf
+	final int maxLeafSize;
+	// number of k-means iterations
+	final int iterations;
+	// maximum number of points examined in a search
+	final int maxChecks;
+	final Random rand;
+
+	// Points in the index
+	List<TupleDesc_F64> points;
+	Node root;
+
+	// used when searching through the NearestNeighbor interface
+	NearestNeighborSearch<TupleDesc_F64> search;
+
+	/**
+	 * Configures the tree
+	 *
+	 * @param branching Number of children each node has.  &ge; 2
+	 * @param maxLeafSize Nodes with this many points or less are not split
+	 * @param iterations Number of k-means iterations when splitting a node
+	 * @param maxChecks Maximum number of points examined in a search.  Larger values are slower but more accurate.
+	 * @param randomSeed Seed used to select the initial cluster centers
+	 */
+	public KMeansTree_F64( int branching , int maxLeafSize , int iterations , int maxChecks , long randomSeed ) {
+		if( branching < 2 )
+			throw new IllegalArgumentException("branching must be at least 2");
+		if( maxLeafSize < 1 )
+			throw new IllegalArgumentException("maxLeafSize must be at least 1");
+		this.branching = branching;
+		this.maxLeafSize = Math.max(maxLeafSize,branching);
+		this.iterations = iterations;
+		this.maxChecks = maxChecks;
+		this.rand = new Random(randomSeed);
+		this.search = createSearch();
+	}
+
+	@Override
+	public void setPoints( List<TupleDesc_F64> points , boolean trackIndicies ) {
+		this.points = points;
+		int[] indexes = new int[points.size()];
+		for( int i = 0; i < indexes.length; i++ )
+			indexes[i] = i;
+		root = points.isEmpty() ? null : build(indexes,points.get(0).size());
+	}
+
+	/**
+	 * Recursively clusters the points
+	 */
+	private Node build( int[] members , int dof ) {
+		Node node = new Node();
+		if( members.length <= maxLeafSize ) {
+			node.members = members;
+			return node;
+		}
+
+		// randomly select the initial centers
+		double[][] centers = new double[branching][];
+		for( int i = 0; i < branching; i++ ) {
+			int j = i + rand.nextInt(members.length-i);
+			int tmp = members[i]; members[i] = members[j]; members[j] = tmp;
+			centers[i] = points.get(members[i]).value.clone();
+		}
+
+		int[] assignment = new int[members.length];
+		int[] counts = new int[branching];
+		for( int iter = 0; iter <= iterations; iter++ ) {
+			// assign points to the closest center
+			for( int i = 0; i < members.length; i++ ) {
+				assignment[i] = closest(centers,points.get(members[i]).value);
+			}
+			if( iter == iterations )
+				break;
+
+			// update the centers.  Empty clusters keep their old center
+			double[][] sums = new double[branching][dof];
+			Arrays.fill(counts,0);
+			for( int i = 0; i < members.length; i++ ) {
+				int c = assignment[i];
+				counts[c]++;
+				double[] v = points.get(members[i]).value;
+				double[] s = sums[c];
+				for( int k = 0; k < dof; k++ )
+					s[k] += v[k];
+			}
+			for( int c = 0; c < branching; c++ ) {
+				if( counts[c] == 0 )
+					continue;
+				for( int k = 0; k < dof; k++ )
+					centers[c][k] = sums[c][k]/counts[c];
+			}
+		}
+
+		Arrays.fill(counts,0);
+		for( int i = 0; i < members.length; i++ )
+			counts[assignment[i]]++;
+
+		int numChildren = 0;
+		for( int c = 0; c < branching; c++ ) {
+			// can't be split, e.g. all the points are identical
+			if( counts[c] == members.length ) {
+				node.members = members;
+				return node;
+			}
+			if( counts[c] > 0 )
+				numChildren++;
+		}
+
+		node.children = new Node[numChildren];
+		int child = 0;
+		for( int c = 0; c < branching; c++ ) {
+			if( counts[c] == 0 )
+				continue;
+			int[] childMembers = new int[counts[c]];
+			int n = 0;
+			for( int i = 0; i < members.length; i++ ) {
+				if( assignment[i] == c )
+					childMembers[n++] = members[i];
+			}
+			Node childNode = build(childMembers,dof);
+			childNode.center = centers[c];
+			node.children[child++] = childNode;
+		}
+		return node;
+	}
+
+	private static int closest( double[][] centers , double[] v ) {
+		int best = 0;
+		double bestDistance = Double.MAX_VALUE;
+		for( int c = 0; c < centers.length; c++ ) {
+			double d = distanceSq(centers[c],v);
+			if( d < bestDistance ) {
+				bestDistance = d;
+				best = c;
+			}
+		}
+		return best;
+	}
+
+	private static double distanceSq( double[] a , double[] b ) {
+		double total = 0;
+		for( int i = 0; i < a.length; i++ ) {
+			double d = a[i]-b[i];
+			total += d*d;
+		}
+		return total;
+	}
+
+	@Override
+	public boolean findNearest( TupleDesc_F64 point , double maxDistance , NnData<TupleDesc_F64> result ) {
+		return search.findNearest(point,maxDistance,result);
+	}
+
+	@Override
+	public void findNearest( TupleDesc_F64 point , double maxDistance , int numNeighbors ,
+							 FastQueue<NnData<TupleDesc_F64>> results ) {
+		search.findNearest(point,maxDistance,numNeighbors,results);
+	}
+
+	@Override
+	public NearestNeighborSearch<TupleDesc_F64> createSearch() {
+		return new Search();
+	}
+
+	static class Node {
+		// center of the cluster
+		double[] center;
+		// children of the node.  null if a leaf
+		Node[] children;
+		// index of points in a leaf
+		int[] members;
+	}
+
+	/**
+	 * Best-bin-first search which uses a binary heap to select the next branch
+	 */
+	class Search implements NearestNeighborSearch<TupleDesc_F64> {
+		NearestResults best = new NearestResults();
+
+		// heap of unexplored branches ordered by distance to the query
+		Node[] heapNodes = new Node[16];
+		double[] heapDistance = new double[16];
+		int heapSize;
+
+		// number of points examined
+		int checks;
+
+		@Override
+		public boolean findNearest( TupleDesc_F64 point , double maxDistance , NnData<TupleDesc_F64> result ) {
+			search(point,maxDistance,1);
+			return best.copyBest(points,result);
+		}
+
+		@Override
+		public void findNearest( TupleDesc_F64 point , double maxDistance , int numNeighbors ,
+								 FastQueue<NnData<TupleDesc_F64>> results ) {
+			search(point,maxDistance,numNeighbors);
+			best.copyAll(points,results);
+		}
+
+		private void search( TupleDesc_F64 point , double maxDistance , int numNeighbors ) {
+			best.reset(numNeighbors,maxDistance);
+			heapSize = 0;
+			checks = 0;
+			if( root == null )
+				return;
+
+			descend(root,point.value);
+			while( heapSize > 0 && checks < maxChecks ) {
+				descend(pop(),point.value);
+			}
+		}
+
+		/**
+		 * Goes down to the closest leaf, saving the other branches for later
+		 */
+		private void descend( Node node , double[] query ) {
+			while( node.children != null ) {
+				Node closest = null;
+				double closestDistance = Double.MAX_VALUE;
+				for( Node child : node.children ) {
+					double d = distanceSq(child.center,query);
+					if( d < closestDistance ) {
+						if( closest != null )
+							push(closest,closestDistance);
+						closest = child;
+						closestDistance = d;
+					} else {
+						push(child,d);
+					}
+				}
+				node = closest;
+			}
+
+			for( int idx : node.members ) {
+				best.add(distanceSq(points.get(idx).value,query),idx);
+			}
+			checks += node.members.length;
+		}
+
+		private void push( Node node , double distance ) {
+			if( heapSize == heapNodes.length ) {
+				heapNodes = Arrays.copyOf(heapNodes,heapSize*2);
+				heapDistance = Arrays.copyOf(heapDistance,heapSize*2);
+			}
+			int i = heapSize++;
+			while( i > 0 ) {
+				int parent = (i-1)/2;
+				if( heapDistance[parent] <= distance )
+					break;
+				heapNodes[i] = heapNodes[parent];
+				heapDistance[i] = heapDistance[parent];
+				i = parent;
+			}
+			heapNodes[i] = node;
+			heapDistance[i] = distance;
+		}
+
+		private Node pop() {
+			Node top = heapNodes[0];
+			heapSize--;
+			Node lastNode = heapNodes[heapSize];
+			double lastDistance = heapDistance[heapSize];
+			heapNodes[heapSize] = null;
+
+			int i = 0;
+			while( true ) {
+				int child = 2*i+1;
+				if( child >= heapSize )
+					break;
+				if( child+1 < heapSize && heapDistance[child+1] < heapDistance[child] )
+					child++;
+				if( lastDistance <= heapDistance[child] )
+					break;
+				heapNodes[i] = heapNodes[child];
+				heapDistance[i] = heapDistance[child];
+				i = child;
+			}
+			if( heapSize > 0 ) {
+				heapNodes[i] = lastNode;
+				heapDistance[i] = lastDistance;
+			}
+			return top;
+		}
+	}
+}
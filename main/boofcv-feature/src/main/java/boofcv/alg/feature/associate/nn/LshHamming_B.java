@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.associate.nn;
+
+import boofcv.alg.descriptor.DescriptorDistance;
+import boofcv.struct.feature.TupleDesc_B;
+import org.ddogleg.nn.NnData;
+import org.ddogleg.struct.FastQueue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * <p>
+ * Approximate nearest-neighbor search for binary descriptors using Locality Sensitive Hashing (LSH) [1].
+ * Several hash tables are created.  The key of each table is made from a random subset of the descriptor's bits.
+ * Descriptors which are close in Hamming distance are likely to have the same key in at least one table.  Only
+ * descriptors with a matching key are compared against the query.  With multi-probe [2] buckets with a key
+ * that is one bit different are also checked, which improves recall without needing more tables.
+ * </p>
+ *
+ * <p>
+ * Buckets are stored in sorted arrays instead of hash maps to keep memory usage low when there are
+ * millions of descriptors.  Once built the index is read only and can be searched by multiple threads.
+ * Distance is the Hamming distance.
+ * </p>
+ *
+ * <p>
+ * [1] Gionis, Aristides, Piotr Indyk, and Rajeev Motwani. "Similarity search in high dimensions via hashing."
+ * VLDB. Vol. 99. No. 6. 1999.<br>
+ * [2] Lv, Qin, et al. "Multi-probe LSH: efficient indexing for high-dimensional similarity search."
+ * VLDB 2007.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class LshHamming_B implements NearestNeighborConcurrent<TupleDesc_B> {
+
+	// number of hash tables
+	final int numTables;
+	// number of bits in each key
+	final int bitsPerKey;
+	// if true then keys one bit away are also checked
+	final boolean multiProbe;
+	final Random rand;
+
+	// Points in the index
+	List<TupleDesc_B> points;
+	// The hash tables
+	Table[] tables = new Table[0];
+
+	// used when searching through the NearestNeighbor interface
+	NearestNeighborSearch<TupleDesc_B> search;
+
+	/**
+	 * Configures LSH
+	 *
+	 * @param numTables Number of hash tables
+	 * @param bitsPerKey Number of bits sampled to create each key.  1 to 30
+	 * @param multiProbe If true buckets with keys which differ by one bit are also searched
+	 * @param randomSeed Seed used to select which bits go into the keys
+	 */
+	public LshHamming_B( int numTables , int bitsPerKey , boolean multiProbe , long randomSeed ) {
+		if( numTables <= 0 )
+			throw new IllegalArgumentException("Must have at least one table");
+		if( bitsPerKey <= 0 || bitsPerKey > 30 )
+			throw new IllegalArgumentException("bitsPerKey must be from 1 to 30");
+		this.numTables = numTables;
+		this.bitsPerKey = bitsPerKey;
+		this.multiProbe = multiProbe;
+		this.rand = new Random(randomSeed);
+		this.search = createSearch();
+	}
+
+	@Override
+	public void setPoints( List<TupleDesc_B> points , boolean trackIndicies ) {
+		this.points = points;
+		tables = new Table[numTables];
+		if( points.isEmpty() ) {
+			for( int i = 0; i < numTables; i++ ) {
+				tables[i] = new Table(new int[0]);
+			}
+			return;
+		}
+
+		int numBits = points.get(0).numBits;
+		long[] work = new long[points.size()];
+		for( int i = 0; i < numTables; i++ ) {
+			Table t = tables[i] = new Table(selectBits(numBits));
+
+			for( int j = 0; j < points.size(); j++ ) {
+				work[j] = ((long)t.computeKey(points.get(j)) << 32) | j;
+			}
+			t.build(work);
+		}
+	}
+
+	/**
+	 * Randomly selects which bits go into a key.  If the descriptor has fewer bits than the key then
+	 * the key will have duplicate bits.
+	 */
+	private int[] selectBits( int numBits ) {
+		int[] bits = new int[bitsPerKey];
+		if( numBits >= bitsPerKey ) {
+			int[] all = new int[numBits];
+			for( int i = 0; i < numBits; i++ )
+				all[i] = i;
+			for( int i = 0; i < bitsPerKey; i++ ) {
+				int j = i + rand.nextInt(numBits-i);
+				int tmp = all[i]; all[i] = all[j]; all[j] = tmp;
+				bits[i] = all[i];
+			}
+		} else {
+			for( int i = 0; i < bitsPerKey; i++ )
+				bits[i] = rand.nextInt(numBits);
+		}
+		return bits;
+	}
+
+	@Override
+	public boolean findNearest( TupleDesc_B point , double maxDistance , NnData<TupleDesc_B> result ) {
+		return search.findNearest(point,maxDistance,result);
+	}
+
+	@Override
+	public void findNearest( TupleDesc_B point , double maxDistance , int numNeighbors ,
+							 FastQueue<NnData<TupleDesc_B>> results ) {
+		search.findNearest(point,maxDistance,numNeighbors,results);
+	}
+
+	@Override
+	public NearestNeighborSearch<TupleDesc_B> createSearch() {
+		return new Search();
+	}
+
+	/**
+	 * A hash table.  Points are sorted by their key. Each unique key is a bucket.
+	 */
+	static class Table {
+		// bits which are sampled to create the key
+		int[] bits;
+		// the key of each bucket, sorted
+		int[] keys;
+		// index of the first member in each bucket.  Size is keys.length+1
+		int[] start;
+		// index of points in each bucket
+		int[] members;
+
+		Table( int[] bits ) {
+			this.bits = bits;
+			this.keys = new int[0];
+			this.start = new int[]{0};
+			this.members = new int[0];
+		}
+
+		final int computeKey( TupleDesc_B desc ) {
+			final int[] data = desc.data;
+			int key = 0;
+			for( int i = 0; i < bits.length; i++ ) {
+				int bit = bits[i];
+				key |= ((data[bit >> 5] >>> (bit & 0x1F)) & 0x01) << i;
+			}
+			return key;
+		}
+
+		/**
+		 * Builds the table from an array of which encodes the key in the upper 32-bits and the point's index
+		 * in the lower 32-bits
+		 */
+		void build( long[] keyIndex ) {
+			Arrays.sort(keyIndex);
+
+			int numBuckets = 0;
+			for( int i = 0; i < keyIndex.length; i++ ) {
+				if( i == 0 || (keyIndex[i] >>> 32) != (keyIndex[i-1] >>> 32) )
+					numBuckets++;
+			}
+
+			keys = new int[numBuckets];
+			start = new int[numBuckets+1];
+			members = new int[keyIndex.length];
+			int bucket = -1;
+			for( int i = 0; i < keyIndex.length; i++ ) {
+				int key = (int)(keyIndex[i] >>> 32);
+				if( bucket < 0 || keys[bucket] != key ) {
+					bucket++;
+					keys[bucket] = key;
+					start[bucket] = i;
+				}
+				members[i] = (int)keyIndex[i];
+			}
+			start[numBuckets] = keyIndex.length;
+		}
+	}
+
+	/**
+	 * Search which keeps track of which points have already been checked
+	 */
+	class Search implements NearestNeighborSearch<TupleDesc_B> {
+		// the last query each point was checked in
+		int[] visited = new int[0];
+		int query = 0;
+
+		NearestResults best = new NearestResults();
+
+		@Override
+		public boolean findNearest( TupleDesc_B point , double maxDistance , NnData<TupleDesc_B> result ) {
+			search(point,maxDistance,1);
+			return best.copyBest(points,result);
+		}
+
+		@Override
+		public void findNearest( TupleDesc_B point , double maxDistance , int numNeighbors ,
+								 FastQueue<NnData<TupleDesc_B>> results ) {
+			search(point,maxDistance,numNeighbors);
+			best.copyAll(points,results);
+		}
+
+		private void search( TupleDesc_B point , double maxDistance , int numNeighbors ) {
+			best.reset(numNeighbors,maxDistance);
+			if( points == null || points.isEmpty() )
+				return;
+
+			if( visited.length != points.size() ) {
+				visited = new int[points.size()];
+				query = 0;
+			}
+			// use a new ID for this query so that visited doesn't need to be cleared
+			if( ++query == Integer.MAX_VALUE ) {
+				Arrays.fill(visited,0);
+				query = 1;
+			}
+
+			for( Table t : tables ) {
+				int key = t.computeKey(point);
+				checkBucket(t,key,point);
+				if( multiProbe ) {
+					for( int i = 0; i < bitsPerKey; i++ ) {
+						checkBucket(t,key ^ (1 << i),point);
+					}
+				}
+			}
+		}
+
+		private void checkBucket( Table t , int key , TupleDesc_B point ) {
+			int bucket = Arrays.binarySearch(t.keys,key);
+			if( bucket < 0 )
+				return;
+
+			for( int i = t.start[bucket]; i < t.start[bucket+1]; i++ ) {
+				int idx = t.members[i];
+				if( visited[idx] == query )
+					continue;
+				visited[idx] = query;
+				best.add(DescriptorDistance.hamming(point,points.get(idx)),idx);
+			}
+		}
+	}
+}
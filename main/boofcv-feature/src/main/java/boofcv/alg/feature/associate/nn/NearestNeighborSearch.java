@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.associate.nn;
+
+import org.ddogleg.nn.NnData;
+import org.ddogleg.struct.FastQueue;
+
+/**
+ * Searches a nearest-neighbor index which was built by a {@link NearestNeighborConcurrent}.  Each
+ * search has its own internal workspace, so different instances can be used at the same time in
+ * different threads.  If the points in the index change then the search will use the new points.
+ *
+ * @author Peter Abeles
+ */
+public interface NearestNeighborSearch<P> {
+	/**
+	 * Finds the nearest point to the query point.
+	 *
+	 * @param point The query point.
+	 * @param maxDistance Maximum distance a point can be from the query.  If &lt; 0 then it's ignored.
+	 * @param result (Output) Information on the nearest point
+	 * @return true if a point was found
+	 */
+	boolean findNearest( P point , double maxDistance , NnData<P> result );
+
+	/**
+	 * Finds up to the N nearest points to the query point.  Results are not sorted.
+	 *
+	 * @param point The query point.
+	 * @param maxDistance Maximum distance a point can be from the query.  If &lt; 0 then it's ignored.
+	 * @param numNeighbors Maximum number of neighbors it should find
+	 * @param results (Output) Information on the nearest points.  Reset before use.
+	 */
+	void findNearest( P point , double maxDistance , int numNeighbors , FastQueue<NnData<P>> results );
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.associate.nn;
+
+import org.ddogleg.nn.NnData;
+import org.ddogleg.struct.FastQueue;
+
+import java.util.List;
+
+/**
+ * Keeps track of the K closest points found so far in a search.  Points are kept sorted by distance
+ * with the closest first.
+ *
+ * @author Peter Abeles
+ */
+class NearestResults {
+	double[] distance = new double[1];
+	int[] index = new int[1];
+	int size;
+	int maxSize;
+	// points further away than this are ignored
+	double maxDistance;
+
+	/**
+	 * @param maxSize Number of neighbors it should find
+	 * @param maxDistance Maximum distance a point can be. If &lt; 0 then it's ignored.
+	 */
+	void reset( int maxSize , double maxDistance ) {
+		if( distance.length < maxSize ) {
+			distance = new double[maxSize];
+			index = new int[maxSize];
+		}
+		this.size = 0;
+		this.maxSize = maxSize;
+		this.maxDistance = maxDistance < 0 ? Double.MAX_VALUE : maxDistance;
+	}
+
+	/**
+	 * The distance a point must be less than to be added
+	 */
+	final double threshold() {
+		return size < maxSize ? maxDistance : distance[size-1];
+	}
+
+	/**
+	 * Adds the point if it's closer than the worst point found so far
+	 */
+	final void add( double d , int idx ) {
+		if( size < maxSize ) {
+			if( d > maxDistance )
+				return;
+			size++;
+		} else if( d >= distance[size-1] ) {
+			return;
+		}
+
+		int i = size-1;
+		while( i > 0 && distance[i-1] > d ) {
+			distance[i] = distance[i-1];
+			index[i] = index[i-1];
+			i--;
+		}
+		distance[i] = d;
+		index[i] = idx;
+	}
+
+	<P> boolean copyBest( List<P> points , NnData<P> result ) {
+		if( size == 0 )
+			return false;
+		result.distance = distance[0];
+		result.index = index[0];
+		result.point = points.get(index[0]);
+		return true;
+	}
+
+	<P> void copyAll( List<P> points , FastQueue<NnData<P>> results ) {
+		results.reset();
+		for( int i = 0; i < size; i++ ) {
+			NnData<P> r = results.grow();
+			r.distance = distance[i];
+			r.index = index[i];
+			r.point = points.get(index[i]);
+		}
+	}
+}
@@ -19,6 +19,7 @@
 package boofcv.alg.feature.dense;
 
 import boofcv.abst.filter.derivative.ImageGradient;
+import boofcv.alg.InputSanityCheck;
 import boofcv.alg.filter.derivative.DerivativeReduceType;
 import boofcv.alg.filter.derivative.DerivativeType;
 import boofcv.factory.filter.derivative.FactoryDerivative;
@@ -36,9 +37,13 @@ public abstract class BaseDenseHog<I extends ImageBase<I>> {
 
 	ImageGradient<I, GrayF32> gradient;
 
-	// gradient of each pixel
-	protected GrayF32 derivX = new GrayF32(1,1);
-	protected GrayF32 derivY = new GrayF32(1,1);
+	// gradient of each pixel.  Either references the internal storage or a user provided gradient
+	protected GrayF32 derivX;
+	protected GrayF32 derivY;
+
+	// storage for the gradient when it's computed internally
+	GrayF32 storageDerivX = new GrayF32(1,1);
+	GrayF32 storageDerivY = new GrayF32(1,1);
 
 	// Storage for descriptors
 	FastQueue<TupleDesc_F64> descriptions;
@@ -82,6 +87,9 @@ public abstract class BaseDenseHog<I extends ImageBase<I>> {
 		this.cellsPerBlockY = cellsPerBlockY;
 		this.stepBlock = stepBlock;
 
+		derivX = storageDerivX;
+		derivY = storageDerivY;
+
 		final int descriptorLength = orientationBins*cellsPerBlockX*cellsPerBlockY;
 
 		descriptions = new FastQueue<TupleDesc_F64>(TupleDesc_F64.class,true) {
@@ -123,11 +131,31 @@ public abstract class BaseDenseHog<I extends ImageBase<I>> {
 	 * @param input input image
 	 */
 	public void setInput( I input ) {
-		derivX.reshape(input.width,input.height);
-		derivY.reshape(input.width,input.height);
+		storageDerivX.reshape(input.width,input.height);
+		storageDerivY.reshape(input.width,input.height);
 
 		// pixel gradient
-		gradient.process(input,derivX,derivY);
+		gradient.process(input,storageDerivX,storageDerivY);
+
+		setInputGradient(storageDerivX,storageDerivY);
+	}
+
+	/**
+	 * Specifies a precomputed image gradient which descriptors will be computed from.  This allows the gradient
+	 * to be shared with other algorithms, e.g. a sliding window detector which has already computed the gradient
+	 * of every layer in an image pyramid.  To get the same results as {@link #setInput} the gradient must
+	 * be computed using {@link DerivativeType#THREE}.  The images are referenced and not copied, so they must not
+	 * be modified until processing has finished.
+	 *
+	 * @param derivX Image gradient x-axis
+	 * @param derivY Image gradient y-axis
+	 */
+	public void setInputGradient( GrayF32 derivX , GrayF32 derivY ) {
+		InputSanityCheck.checkSameShape(derivX,derivY);
+		if( derivX.startIndex != derivY.startIndex || derivX.stride != derivY.stride )
+			throw new IllegalArgumentException("derivX and derivY must have the same startIndex and stride");
+		this.derivX = derivX;
+		this.derivY = derivY;
 	}
 
 	public abstract void process();
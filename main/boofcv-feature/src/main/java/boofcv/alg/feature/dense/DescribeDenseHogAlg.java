@@ -89,7 +89,7 @@ public class DescribeDenseHogAlg<Input extends ImageBase<Input>> extends BaseDen
 	protected GrayF32 orientation = new GrayF32(1,1);
 	protected GrayF64 magnitude = new GrayF64(1,1); // stored as F64 instead of F32 for speed
 
-	// the active histogram being worked on
+	// the active histogram being worked on when a histogram isn't explicitly specified
 	double histogram[];
 
 	// spatial weights applied to each in a block
@@ -161,14 +161,13 @@ public class DescribeDenseHogAlg<Input extends ImageBase<Input>> extends BaseDen
 	}
 
 	/**
-	 * Specifies input image.  Gradient is computed immediately
-	 * @param input input image
+	 * Specifies the image gradient.  Orientation and magnitude of each pixel is computed immediately
 	 */
 	@Override
-	public void setInput( Input input ) {
-		super.setInput(input);
-		orientation.reshape(input.width,input.height);
-		magnitude.reshape(input.width,input.height);
+	public void setInputGradient( GrayF32 derivX , GrayF32 derivY ) {
+		super.setInputGradient(derivX, derivY);
+		orientation.reshape(derivX.width,derivX.height);
+		magnitude.reshape(derivX.width,derivX.height);
 
 		computePixelFeatures();
 	}
@@ -176,13 +175,24 @@ public class DescribeDenseHogAlg<Input extends ImageBase<Input>> extends BaseDen
 	/**
 	 * Computes the orientation and magnitude of each pixel
 	 */
-	private void computePixelFeatures() {
-		for (int y = 0; y < derivX.height; y++) {
-			int pixelIndex = y*derivX.width;
-			int endIndex = pixelIndex+derivX.width;
-			for (; pixelIndex < endIndex; pixelIndex++ ) {
-				float dx = derivX.data[pixelIndex];
-				float dy = derivY.data[pixelIndex];
+	void computePixelFeatures() {
+		computePixelFeatures(0,derivX.height);
+	}
+
+	/**
+	 * Computes the orientation and magnitude of each pixel inside the specified range of rows
+	 *
+	 * @param y0 First row, inclusive
+	 * @param y1 Last row, exclusive
+	 */
+	void computePixelFeatures( int y0 , int y1 ) {
+		for (int y = y0; y < y1; y++) {
+			int derivIndex = derivX.startIndex + y*derivX.stride;
+			int pixelIndex = y*orientation.width;
+			int endIndex = pixelIndex+orientation.width;
+			for (; pixelIndex < endIndex; pixelIndex++, derivIndex++ ) {
+				float dx = derivX.data[derivIndex];
+				float dy = derivY.data[derivIndex];
 
 				// angle from 0 to pi radians
 				orientation.data[pixelIndex] = UtilAngle.atanSafe(dy,dx) + GrlConstants.F_PId2;
@@ -208,23 +218,31 @@ public class DescribeDenseHogAlg<Input extends ImageBase<Input>> extends BaseDen
 
 		for (int y = 0; y < maxY; y += stepBlockPixelsY ) {
 			for (int x = 0; x < maxX; x += stepBlockPixelsX ) {
-				TupleDesc_F64 d = descriptions.grow();
-				Arrays.fill(d.value,0);
-				histogram = d.value;
+				computeBlockDescriptor(x, y, descriptions.grow());
+				locations.grow().set(x,y);
+			}
+		}
+	}
 
-				for (int cellRow = 0; cellRow < cellsPerBlockY; cellRow++) {
-					int blockPixelRow = cellRow* pixelsPerCell;
-					for (int cellCol = 0; cellCol < cellsPerBlockX; cellCol++) {
-						int blockPixelCol = cellCol* pixelsPerCell;
+	/**
+	 * Computes the descriptor for the block with the specified lower extent
+	 * @param pixelX0 block's lower extent x-axis in the image
+	 * @param pixelY0 block's lower extent y-axis in the image
+	 * @param d (Output) storage for the descriptor
+	 */
+	void computeBlockDescriptor( int pixelX0 , int pixelY0 , TupleDesc_F64 d ) {
+		Arrays.fill(d.value,0);
 
-						computeCellHistogram(x+blockPixelCol, y+blockPixelRow, cellCol, cellRow);
-					}
-				}
+		for (int cellRow = 0; cellRow < cellsPerBlockY; cellRow++) {
+			int blockPixelRow = cellRow* pixelsPerCell;
+			for (int cellCol = 0; cellCol < cellsPerBlockX; cellCol++) {
+				int blockPixelCol = cellCol* pixelsPerCell;
 
-				DescribeSiftCommon.normalizeDescriptor(d,0.2);
-				locations.grow().set(x,y);
+				computeCellHistogram(pixelX0+blockPixelCol, pixelY0+blockPixelRow, cellCol, cellRow, d.value);
 			}
 		}
+
+		DescribeSiftCommon.normalizeDescriptor(d,0.2);
 	}
 
 	/**
@@ -236,11 +254,24 @@ public class DescribeDenseHogAlg<Input extends ImageBase<Input>> extends BaseDen
 	 */
 	void computeCellHistogram(int pixelX0 , int pixelY0 ,
 							  int cellX , int cellY ) {
+		computeCellHistogram(pixelX0, pixelY0, cellX, cellY, histogram);
+	}
+
+	/**
+	 * Computes the histogram for the block with the specified lower extent and adds it to the provided histogram
+	 * @param pixelX0 cell's lower extent x-axis in the image
+	 * @param pixelY0 cell's lower extent y-axis in the image
+	 * @param cellX Location of the cell in the block x-axis
+	 * @param cellY Location of the cell in the block y-axis
+	 * @param histogram (Output) histogram for the entire block
+	 */
+	void computeCellHistogram(int pixelX0 , int pixelY0 ,
+							  int cellX , int cellY , double histogram[] ) {
 
 		float angleBinSize = GrlConstants.F_PI/orientationBins;
 
 		for (int i = 0; i < pixelsPerCell; i++) {
-			int indexPixel = (pixelY0+i)*derivX.stride + pixelX0;
+			int indexPixel = (pixelY0+i)*orientation.stride + pixelX0;
 			int indexBlock = (cellY*pixelsPerCell+i)*pixelsPerCell*cellsPerBlockX + cellX*pixelsPerCell;
 
 			// Use center point of this cell to compute interpolation weights - bilinear interpolation
@@ -289,32 +320,32 @@ public class DescribeDenseHogAlg<Input extends ImageBase<Input>> extends BaseDen
 
 				// spatial bilinear interpolation + orientation linear interpolation
 				// + gaussian weighting (previously applied)
-				addToHistogram( cellX-1, cellY-1 , index0, (1.0-oriWeight1)*magnitude*spatialWeightX0*spatialWeightY0);
-				addToHistogram( cellX-1, cellY-1 , index1, oriWeight1*magnitude*spatialWeightX0*spatialWeightY0);
+				addToHistogram( cellX-1, cellY-1 , index0, (1.0-oriWeight1)*magnitude*spatialWeightX0*spatialWeightY0, histogram);
+				addToHistogram( cellX-1, cellY-1 , index1, oriWeight1*magnitude*spatialWeightX0*spatialWeightY0, histogram);
 
-				addToHistogram( cellX, cellY-1 , index0, (1.0-oriWeight1)*magnitude*spatialWeightX1*spatialWeightY0);
-				addToHistogram( cellX, cellY-1 , index1, oriWeight1*magnitude*spatialWeightX1*spatialWeightY0);
+				addToHistogram( cellX, cellY-1 , index0, (1.0-oriWeight1)*magnitude*spatialWeightX1*spatialWeightY0, histogram);
+				addToHistogram( cellX, cellY-1 , index1, oriWeight1*magnitude*spatialWeightX1*spatialWeightY0, histogram);
 
-				addToHistogram( cellX+1, cellY-1 , index0, (1.0-oriWeight1)*magnitude*spatialWeightX2*spatialWeightY0);
-				addToHistogram( cellX+1, cellY-1 , index1, oriWeight1*magnitude*spatialWeightX2*spatialWeightY0);
+				addToHistogram( cellX+1, cellY-1 , index0, (1.0-oriWeight1)*magnitude*spatialWeightX2*spatialWeightY0, histogram);
+				addToHistogram( cellX+1, cellY-1 , index1, oriWeight1*magnitude*spatialWeightX2*spatialWeightY0, histogram);
 
-				addToHistogram( cellX-1, cellY , index0, (1.0-oriWeight1)*magnitude*spatialWeightX0*spatialWeightY1);
-				addToHistogram( cellX-1, cellY , index1, oriWeight1*magnitude*spatialWeightX0*spatialWeightY1);
+				addToHistogram( cellX-1, cellY , index0, (1.0-oriWeight1)*magnitude*spatialWeightX0*spatialWeightY1, histogram);
+				addToHistogram( cellX-1, cellY , index1, oriWeight1*magnitude*spatialWeightX0*spatialWeightY1, histogram);
 
-				addToHistogram( cellX, cellY , index0, (1.0-oriWeight1)*magnitude*spatialWeightX1*spatialWeightY1);
-				addToHistogram( cellX, cellY , index1, oriWeight1*magnitude*spatialWeightX1*spatialWeightY1);
+				addToHistogram( cellX, cellY , index0, (1.0-oriWeight1)*magnitude*spatialWeightX1*spatialWeightY1, histogram);
+				addToHistogram( cellX, cellY , index1, oriWeight1*magnitude*spatialWeightX1*spatialWeightY1, histogram);
 
-				addToHistogram( cellX+1, cellY , index0, (1.0-oriWeight1)*magnitude*spatialWeightX2*spatialWeightY1);
-				addToHistogram( cellX+1, cellY , index1, oriWeight1*magnitude*spatialWeightX2*spatialWeightY1);
+				addToHistogram( cellX+1, cellY , index0, (1.0-oriWeight1)*magnitude*spatialWeightX2*spatialWeightY1, histogram);
+				addToHistogram( cellX+1, cellY , index1, oriWeight1*magnitude*spatialWeightX2*spatialWeightY1, histogram);
 
-				addToHistogram( cellX-1, cellY+1 , index0, (1.0-oriWeight1)*magnitude*spatialWeightX0*spatialWeightY2);
-				addToHistogram( cellX-1, cellY+1 , index1, oriWeight1*magnitude*spatialWeightX0*spatialWeightY2);
+				addToHistogram( cellX-1, cellY+1 , index0, (1.0-oriWeight1)*magnitude*spatialWeightX0*spatialWeightY2, histogram);
+				addToHistogram( cellX-1, cellY+1 , index1, oriWeight1*magnitude*spatialWeightX0*spatialWeightY2, histogram);
 
-				addToHistogram( cellX, cellY+1 , index0, (1.0-oriWeight1)*magnitude*spatialWeightX1*spatialWeightY2);
-				addToHistogram( cellX, cellY+1 , index1, oriWeight1*magnitude*spatialWeightX1*spatialWeightY2);
+				addToHistogram( cellX, cellY+1 , index0, (1.0-oriWeight1)*magnitude*spatialWeightX1*spatialWeightY2, histogram);
+				addToHistogram( cellX, cellY+1 , index1, oriWeight1*magnitude*spatialWeightX1*spatialWeightY2, histogram);
 
-				addToHistogram( cellX+1, cellY+1 , index0, (1.0-oriWeight1)*magnitude*spatialWeightX2*spatialWeightY2);
-				addToHistogram( cellX+1, cellY+1 , index1, oriWeight1*magnitude*spatialWeightX2*spatialWeightY2);
+				addToHistogram( cellX+1, cellY+1 , index0, (1.0-oriWeight1)*magnitude*spatialWeightX2*spatialWeightY2, histogram);
+				addToHistogram( cellX+1, cellY+1 , index1, oriWeight1*magnitude*spatialWeightX2*spatialWeightY2, histogram);
 
 			}
 		}
@@ -328,6 +359,13 @@ public class DescribeDenseHogAlg<Input extends ImageBase<Input>> extends BaseDen
 	 * @param magnitude edge magnitude
 	 */
 	void addToHistogram(int cellX, int cellY, int orientationIndex, double magnitude) {
+		addToHistogram(cellX, cellY, orientationIndex, magnitude, histogram);
+	}
+
+	/**
+	 * Adds the magnitude to the provided histogram at the specified cell and orientation
+	 */
+	void addToHistogram(int cellX, int cellY, int orientationIndex, double magnitude, double histogram[]) {
 		// see if it's being applied to a valid cell in the histogram
 		if( cellX < 0 || cellX >= cellsPerBlockX)
 			return;
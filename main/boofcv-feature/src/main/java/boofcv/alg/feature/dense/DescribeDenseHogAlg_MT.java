@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boofcv.alg.feature.dense;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImageType;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link DescribeDenseHogAlg}.  The orientation and magnitude of each pixel is
+ * computed in parallel by rows.  Each block's descriptor only depends on the pixels inside of it so rows of blocks
+ * are described in parallel.  Storage for the descriptors is declared in the same order as the single threaded
+ * version and the output is identical to {@link DescribeDenseHogAlg}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class DescribeDenseHogAlg_MT<Input extends ImageBase<Input>> extends DescribeDenseHogAlg<Input> {
+
+	/**
+	 * Configures HOG descriptor computation.  See {@link DescribeDenseHogAlg} for a description of each parameter.
+	 */
+	public DescribeDenseHogAlg_MT(int orientationBins , int pixelsPerCell ,
+								  int cellsPerBlockX , int cellsPerBlockY,
+								  int stepBlock ,
+								  ImageType<Input> imageType )
+	{
+		super(orientationBins, pixelsPerCell, cellsPerBlockX, cellsPerBlockY, stepBlock, imageType);
+	}
+
+	@Override
+	void computePixelFeatures() {
+		BoofConcurrency.loopBlocks(0, derivX.height, this::computePixelFeatures);
+	}
+
+	@Override
+	public void process() {
+		locations.reset();
+		descriptions.reset();
+
+		int stepBlockPixelsX = pixelsPerCell *stepBlock;
+		int stepBlockPixelsY = pixelsPerCell *stepBlock;
+
+		int maxY = derivX.height - pixelsPerCell * cellsPerBlockY + 1;
+		int maxX = derivX.width - pixelsPerCell * cellsPerBlockX + 1;
+
+		if( maxY <= 0 || maxX <= 0 )
+			return;
+
+		int blockRows = (maxY + stepBlockPixelsY - 1)/stepBlockPixelsY;
+		int blockCols = (maxX + stepBlockPixelsX - 1)/stepBlockPixelsX;
+
+		// declare storage and set the location sequentially so that the order matches the single thread version
+		descriptions.resize(blockRows*blockCols);
+		locations.resize(blockRows*blockCols);
+		for (int i = 0, index = 0; i < blockRows; i++) {
+			for (int j = 0; j < blockCols; j++, index++) {
+				locations.data[index].set(j*stepBlockPixelsX, i*stepBlockPixelsY);
+			}
+		}
+
+		BoofConcurrency.loopBlocks(0, blockRows, (i0, i1) -> {
+			for (int i = i0; i < i1; i++) {
+				int index = i*blockCols;
+				for (int j = 0; j < blockCols; j++, index++) {
+					computeBlockDescriptor(j*stepBlockPixelsX, i*stepBlockPixelsY, descriptions.data[index]);
+				}
+			}
+		});
+	}
+}
@@ -86,8 +86,8 @@ public class DescribeDenseHogFastAlg<Input extends ImageBase<Input>> extends Bas
 
 		computeCellHistograms();
 
-		int cellRowMax = (cellRows - (cellsPerBlockY -1));
-		int cellColMax = (cellCols - (cellsPerBlockX -1));
+		int cellRowMax = getCellRowMax();
+		int cellColMax = getCellColMax();
 
 		for (int i = 0; i < cellRowMax; i += stepBlock) {
 			for (int j = 0; j < cellColMax; j += stepBlock) {
@@ -97,6 +97,20 @@ public class DescribeDenseHogFastAlg<Input extends ImageBase<Input>> extends Bas
 
 	}
 
+	/**
+	 * Upper extent (exclusive) of cell rows which a block can start at
+	 */
+	int getCellRowMax() {
+		return cellRows - (cellsPerBlockY -1);
+	}
+
+	/**
+	 * Upper extent (exclusive) of cell columns which a block can start at
+	 */
+	int getCellColMax() {
+		return cellCols - (cellsPerBlockX -1);
+	}
+
 	/**
 	 * Determines if the cell array needs to grow.  If it does a new array is declared.  Old data is recycled when
 	 * possible
@@ -151,8 +165,16 @@ public class DescribeDenseHogFastAlg<Input extends ImageBase<Input>> extends Bas
 		// set location to top-left pixel
 		locations.grow().set(col* pixelsPerCell,row* pixelsPerCell);
 
-		TupleDesc_F64 d = descriptions.grow();
+		computeDescriptor(row,col,descriptions.grow());
+	}
 
+	/**
+	 * Compute the descriptor from the specified cells and writes it into the provided storage
+	 * @param row Lower extent of cell rows
+	 * @param col Lower extent of cell columns
+	 * @param d (Output) storage for the descriptor
+	 */
+	void computeDescriptor(int row, int col, TupleDesc_F64 d) {
 		int indexDesc = 0;
 		for (int i = 0; i < cellsPerBlockY; i++) {
 			for (int j = 0; j < cellsPerBlockX; j++) {
@@ -170,23 +192,33 @@ public class DescribeDenseHogFastAlg<Input extends ImageBase<Input>> extends Bas
 
 	/**
 	 * Compute histograms for all the cells inside the image using precomputed derivative.
-
 	 */
 	void computeCellHistograms() {
+		computeCellHistograms(0,cellRows);
+	}
+
+	/**
+	 * Compute histograms for cells inside the specified range of cell rows.  Each cell only depends on
+	 * pixels inside of it, so different rows can be computed independently.
+	 *
+	 * @param cellRow0 First cell row, inclusive
+	 * @param cellRow1 Last cell row, exclusive
+	 */
+	void computeCellHistograms( int cellRow0 , int cellRow1 ) {
 
 		int width = cellCols* pixelsPerCell;
-		int height = cellRows* pixelsPerCell;
 
 		float angleBinSize = GrlConstants.F_PI/orientationBins;
 
-		int indexCell = 0;
-		for (int i = 0; i < height; i += pixelsPerCell) {
+		for (int cellRow = cellRow0; cellRow < cellRow1; cellRow++) {
+			int i = cellRow*pixelsPerCell;
+			int indexCell = cellRow*cellCols;
 			for (int j = 0; j < width; j += pixelsPerCell, indexCell++ ) {
 				Cell c = cells[indexCell];
 				c.reset();
 
 				for (int k = 0; k < pixelsPerCell; k++) {
-					int indexPixel = (i+k)*derivX.width+j;
+					int indexPixel = derivX.startIndex + (i+k)*derivX.stride + j;
 
 					for (int l = 0; l < pixelsPerCell; l++, indexPixel++ ) {
 						float pixelDX = this.derivX.data[indexPixel];
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boofcv.alg.feature.dense;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImageType;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link DescribeDenseHogFastAlg}.  Cell histograms are computed in parallel
+ * using bands of cell rows, since each cell only depends on the pixels inside of it.  Storage for all the
+ * descriptors is then declared in the same order as the single threaded version and each block is normalized
+ * in parallel.  The output is identical to {@link DescribeDenseHogFastAlg}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class DescribeDenseHogFastAlg_MT<Input extends ImageBase<Input>> extends DescribeDenseHogFastAlg<Input> {
+
+	/**
+	 * Configures HOG descriptor computation.  See {@link DescribeDenseHogFastAlg} for a description of each parameter.
+	 */
+	public DescribeDenseHogFastAlg_MT(int orientationBins , int pixelsPerCell , int cellsPerBlockX , int cellsPerBlockY,
+									  int stepBlock ,
+									  ImageType<Input> imageType )
+	{
+		super(orientationBins, pixelsPerCell, cellsPerBlockX, cellsPerBlockY, stepBlock, imageType);
+	}
+
+	@Override
+	public void process() {
+		locations.reset();
+		descriptions.reset();
+
+		growCellArray(derivX.width, derivX.height);
+
+		computeCellHistograms();
+
+		int cellRowMax = getCellRowMax();
+		int cellColMax = getCellColMax();
+
+		if( cellRowMax <= 0 || cellColMax <= 0 )
+			return;
+
+		int blockRows = (cellRowMax + stepBlock - 1)/stepBlock;
+		int blockCols = (cellColMax + stepBlock - 1)/stepBlock;
+
+		// declare storage and set the location sequentially so that the order matches the single thread version
+		descriptions.resize(blockRows*blockCols);
+		locations.resize(blockRows*blockCols);
+		for (int i = 0, index = 0; i < blockRows; i++) {
+			for (int j = 0; j < blockCols; j++, index++) {
+				locations.data[index].set(j*stepBlock*pixelsPerCell, i*stepBlock*pixelsPerCell);
+			}
+		}
+
+		BoofConcurrency.loopBlocks(0, blockRows, (i0, i1) -> {
+			for (int i = i0; i < i1; i++) {
+				int index = i*blockCols;
+				for (int j = 0; j < blockCols; j++, index++) {
+					computeDescriptor(i*stepBlock, j*stepBlock, descriptions.data[index]);
+				}
+			}
+		});
+	}
+
+	@Override
+	void computeCellHistograms() {
+		BoofConcurrency.loopBlocks(0, cellRows, this::computeCellHistograms);
+	}
+}
@@ -63,6 +63,9 @@ public class DescribePointSift<Deriv extends ImageGray> extends DescribeSiftComm
 	// reference to user provided descriptor in which results are saved to
 	TupleDesc_F64 descriptor;
 
+	// type of derivative image
+	Class<Deriv> derivType;
+
 	/**
 	 * Configures the descriptor.
 	 *
@@ -78,11 +81,34 @@ public class DescribePointSift<Deriv extends ImageGray> extends DescribeSiftComm
 							 double maxDescriptorElementValue , Class<Deriv> derivType ) {
 		super(widthSubregion,widthGrid,numHistogramBins,weightingSigmaFraction,maxDescriptorElementValue);
 		this.sigmaToPixels = sigmaToPixels;
+		this.derivType = derivType;
 
 		imageDerivX = FactoryGImageGray.create(derivType);
 		imageDerivY = FactoryGImageGray.create(derivType);
 	}
 
+	/**
+	 * Creates a copy of the original which has its own internal workspace.  The image gradient is not copied.
+	 *
+	 * @see #copy()
+	 */
+	protected DescribePointSift( DescribePointSift<Deriv> original ) {
+		super(original);
+		this.sigmaToPixels = original.sigmaToPixels;
+		this.derivType = original.derivType;
+
+		imageDerivX = FactoryGImageGray.create(derivType);
+		imageDerivY = FactoryGImageGray.create(derivType);
+	}
+
+	/**
+	 * Creates a new instance with the same configuration, which can then be used in another thread.
+	 * The image gradient needs to be set before it is used.
+	 */
+	public DescribePointSift<Deriv> copy() {
+		return new DescribePointSift<>(this);
+	}
+
 	/**
 	 * Sets the image spacial derivatives.  These should be computed from an image at the appropriate scale
 	 * in scale-space.
@@ -95,6 +95,10 @@ public class DescribePointSurf<II extends ImageGray<II>> {
 	protected IntegralKernel kerXX;
 	protected IntegralKernel kerYY;
 
+	// used to create the gradient
+	protected boolean useHaar;
+	protected Class<II> inputType;
+
 	/**
 	 * Creates a SURF descriptor of arbitrary dimension by changing how the local region is sampled.
 	 *
@@ -125,12 +129,37 @@ public class DescribePointSurf<II extends ImageGray<II>> {
 		featureDOF = widthLargeGrid*widthLargeGrid*4;
 
 		// create the function that the gradient is sampled with=
+		this.useHaar = useHaar;
+		this.inputType = inputType;
 		gradient = SurfDescribeOps.createGradient(useHaar, inputType);
 		gradientSafe = new SparseGradientSafe(this.gradient);
 
 		radiusDescriptor = (widthLargeGrid*widthSubRegion)/2;
 	}
 
+	/**
+	 * Creates a copy of the original which has its own internal workspace.  Read only data and the
+	 * integral image are shared.
+	 *
+	 * @see #copy()
+	 */
+	protected DescribePointSurf( DescribePointSurf<II> original ) {
+		this.widthLargeGrid = original.widthLargeGrid;
+		this.widthSubRegion = original.widthSubRegion;
+		this.widthSample = original.widthSample;
+		this.featureDOF = original.featureDOF;
+		this.weight = original.weight;
+		this.radiusDescriptor = original.radiusDescriptor;
+		this.useHaar = original.useHaar;
+		this.inputType = original.inputType;
+
+		gradient = SurfDescribeOps.createGradient(useHaar, inputType);
+		gradientSafe = new SparseGradientSafe(this.gradient);
+
+		if( original.ii != null )
+			setImage(original.ii);
+	}
+
 	/**
 	 * Create a SURF-64 descriptor.  See [1] for details.
 	 */
@@ -142,6 +171,14 @@ public class DescribePointSurf<II extends ImageGray<II>> {
 		return new BrightFeature(featureDOF);
 	}
 
+	/**
+	 * Creates a copy which describes features in the same integral image but can be used in a different
+	 * thread.  If the image is changed then the copy needs to be updated too.
+	 */
+	public DescribePointSurf<II> copy() {
+		return new DescribePointSurf<>(this);
+	}
+
 	public void setImage( II integralImage ) {
 		ii = integralImage;
 		gradient.setImage(ii);
@@ -98,6 +98,23 @@ public class DescribePointSurfMod<II extends ImageGray<II>> extends DescribePoin
 		this(4,5,3,2, 2.5 , 2.5 , false ,imageType);
 	}
 
+	/**
+	 * @see DescribePointSurf#DescribePointSurf(DescribePointSurf)
+	 */
+	protected DescribePointSurfMod( DescribePointSurfMod<II> original ) {
+		super(original);
+		this.overLap = original.overLap;
+		this.weightGrid = original.weightGrid;
+		this.weightSub = original.weightSub;
+		this.samplesX = new double[original.samplesX.length];
+		this.samplesY = new double[original.samplesY.length];
+	}
+
+	@Override
+	public DescribePointSurfMod<II> copy() {
+		return new DescribePointSurfMod<>(this);
+	}
+
 	/**
 	 * <p>
 	 * An improved SURF descriptor as presented in CenSurE paper.   The sub-regions now overlap and more
@@ -73,6 +73,18 @@ public class DescribeSiftCommon {
 		gaussianWeight = createGaussianWeightKernel(weightSigma,descriptorWindow/2);
 	}
 
+	/**
+	 * Copies the configuration of the original.  Read only data is shared.
+	 */
+	protected DescribeSiftCommon( DescribeSiftCommon original ) {
+		this.widthSubregion = original.widthSubregion;
+		this.widthGrid = original.widthGrid;
+		this.numHistogramBins = original.numHistogramBins;
+		this.maxDescriptorElementValue = original.maxDescriptorElementValue;
+		this.histogramBinWidth = original.histogramBinWidth;
+		this.gaussianWeight = original.gaussianWeight;
+	}
+
 	/**
 	 * Adjusts the descriptor.  This adds lighting invariance and reduces the affects of none-affine changes
 	 * in lighting.
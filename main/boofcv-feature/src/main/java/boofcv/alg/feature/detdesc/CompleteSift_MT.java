@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detdesc;
+
+import boofcv.abst.feature.detect.extract.NonMaxLimiter;
+import boofcv.alg.feature.describe.DescribePointSift;
+import boofcv.alg.feature.detect.interest.SiftScaleSpace;
+import boofcv.alg.feature.orientation.OrientationHistogramSift;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.feature.BrightFeature;
+import boofcv.struct.feature.ScalePoint;
+import boofcv.struct.image.GrayF32;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_F64;
+import org.ddogleg.struct.GrowQueue_I32;
+
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link CompleteSift}.  Key points are detected in each scale the same way as
+ * in the single threaded version.  Once all the key points in a scale have been found, their orientations and
+ * descriptions are computed in parallel.  Each thread has its own orientation estimator and descriptor since they
+ * have internal state.  The results are merged in the order the key points were detected, so the output is
+ * identical to {@link CompleteSift}.
+ * </p>
+ *
+ * <p>
+ * The scale-space blurs the image using the concurrent convolution and computes the DoG images concurrently
+ * when {@link BoofConcurrency#USE_CONCURRENT} is true.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class CompleteSift_MT extends CompleteSift {
+
+	// creates a new instance of the orientation estimator and descriptor for each thread
+	Supplier<OrientationHistogramSift<GrayF32>> factoryOrientation;
+	Supplier<DescribePointSift<GrayF32>> factoryDescribe;
+
+	// key points detected in the current scale which need to be described
+	FastQueue<ScalePoint> pending = new FastQueue<>(ScalePoint.class, false);
+
+	// storage for each thread
+	FastQueue<BlockData> blocks = new FastQueue<>(BlockData.class, true);
+
+	/**
+	 * Configures SIFT
+	 *
+	 * @param scaleSpace Scale-space that features are computed inside of
+	 * @param edgeR Edge threshold.  See {@link CompleteSift#CompleteSift}
+	 * @param extractor Finds minimums and maximums.  See {@link CompleteSift#CompleteSift}
+	 * @param factoryOrientation Creates a new orientation estimator
+	 * @param factoryDescribe Creates a new descriptor
+	 */
+	public CompleteSift_MT(SiftScaleSpace scaleSpace, double edgeR, NonMaxLimiter extractor,
+						   Supplier<OrientationHistogramSift<GrayF32>> factoryOrientation,
+						   Supplier<DescribePointSift<GrayF32>> factoryDescribe ) {
+		super(scaleSpace, edgeR, extractor, factoryOrientation.get(), factoryDescribe.get());
+		this.factoryOrientation = factoryOrientation;
+		this.factoryDescribe = factoryDescribe;
+	}
+
+	@Override
+	protected void detectFeatures(int scaleIndex) {
+		pending.reset();
+		super.detectFeatures(scaleIndex);
+
+		if( pending.size == 0 )
+			return;
+
+		final int dof = getDescriptorLength();
+
+		// compute orientation and description for each key point
+		BoofConcurrency.loopBlocks(0, pending.size, blocks, (block, i0, i1) -> {
+			block.initialize(this, dof);
+
+			for (int i = i0; i < i1; i++) {
+				ScalePoint p = pending.get(i);
+
+				// adjust the image for the down sampling in each octave
+				double localX = p.x / pixelScaleToInput;
+				double localY = p.y / pixelScaleToInput;
+				double localSigma = p.scale / pixelScaleToInput;
+
+				// find potential orientations first
+				block.orientation.process(localX, localY, localSigma);
+
+				// describe each feature
+				GrowQueue_F64 angles = block.orientation.getOrientations();
+				for (int j = 0; j < angles.size; j++) {
+					BrightFeature feature = block.features.grow();
+					feature.white = p.white;
+					block.describe.process(localX, localY, localSigma, angles.get(j), feature);
+
+					block.orientations.add(angles.get(j));
+					block.points.add(i);
+				}
+			}
+		});
+
+		// merge the results in the order the key points were detected
+		for (int i = 0; i < blocks.size; i++) {
+			BlockData block = blocks.get(i);
+			for (int j = 0; j < block.features.size; j++) {
+				features.grow().setTo(block.features.get(j));
+				orientations.add(block.orientations.get(j));
+				locations.add(pending.get(block.points.get(j)));
+			}
+		}
+	}
+
+	@Override
+	protected void handleDetection(ScalePoint p) {
+		// description is delayed until all the key points in this scale have been found
+		pending.add(p);
+	}
+
+	/**
+	 * Storage for a block of key points which are processed in a single thread
+	 */
+	public static class BlockData {
+		OrientationHistogramSift<GrayF32> orientation;
+		DescribePointSift<GrayF32> describe;
+
+		// output for each key point
+		FastQueue<BrightFeature> features;
+		GrowQueue_F64 orientations = new GrowQueue_F64();
+		// index of the key point in the pending list that each feature came from
+		GrowQueue_I32 points = new GrowQueue_I32();
+
+		/**
+		 * Declares data structures the first time and resets the output
+		 */
+		void initialize( CompleteSift_MT owner , final int dof ) {
+			if( orientation == null ) {
+				orientation = owner.factoryOrientation.get();
+				describe = owner.factoryDescribe.get();
+				features = new FastQueue<BrightFeature>(BrightFeature.class,true) {
+					@Override
+					protected BrightFeature createInstance() {
+						return new BrightFeature(dof);
+					}
+				};
+			}
+			orientation.setImageGradient(owner.derivX, owner.derivY);
+			describe.setImageGradient(owner.derivX, owner.derivY);
+			features.reset();
+			orientations.reset();
+			points.reset();
+		}
+	}
+}
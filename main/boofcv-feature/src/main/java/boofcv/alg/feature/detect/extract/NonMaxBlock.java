@@ -32,7 +32,7 @@ import boofcv.struct.image.GrayF32;
  *
  * <p>
  * Each block check is independent of all the others and no information is exchanged.  This
- * algorithm could be paralyzed easily and has no memory overhead.
+ * algorithm can be easily parallelized and has no memory overhead, see {@link NonMaxBlock_MT}.
  * </p>
  *
  * <p>See {@link boofcv.abst.feature.detect.extract.NonMaxSuppression} for a definition of parameters
@@ -80,16 +80,41 @@ public abstract class NonMaxBlock {
 	 * @param localMax (Output) storage for found local maximums.
 	 */
 	public void process(GrayF32 intensityImage, QueueCorner localMin, QueueCorner localMax) {
+		initialize(intensityImage, localMin, localMax);
+		searchBlockRows(intensityImage,0,getNumberOfBlockRows());
+	}
 
+	/**
+	 * Specifies where the output is written to and computes the region which can be searched
+	 */
+	protected void initialize(GrayF32 intensityImage, QueueCorner localMin, QueueCorner localMax) {
 		this.localMin = localMin;
 		this.localMax = localMax;
 
 		endX = intensityImage.width-border;
 		endY = intensityImage.height-border;
+	}
+
+	/**
+	 * Number of rows of blocks which the image is broken up into.  Must call {@link #initialize} first.
+	 */
+	protected int getNumberOfBlockRows() {
+		int step = radius+1;
+		return Math.max(0,(endY-border+step-1)/step);
+	}
 
+	/**
+	 * Searches all the blocks inside the specified rows of blocks.  Each row of blocks is independent
+	 * of all the others.
+	 *
+	 * @param row0 First row of blocks, inclusive
+	 * @param row1 Last row of blocks, exclusive
+	 */
+	protected void searchBlockRows( GrayF32 intensityImage , int row0 , int row1 ) {
 		int step = radius+1;
 
-		for( int y = border; y < endY; y += step ) {
+		for( int row = row0; row < row1; row++ ) {
+			int y = border + row*step;
 			int y1 = y + step;
 			if( y1 > endY ) y1 = endY;
 
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.extract;
+
+import boofcv.abst.feature.detect.extract.NonMaxSuppression;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.QueueCorner;
+import boofcv.struct.image.GrayF32;
+import org.ddogleg.struct.FastQueue;
+
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link NonMaxBlock}.  The image is split into bands composed of rows of blocks
+ * and each band is searched in a different thread.  Every band has its own instance of the single threaded
+ * algorithm, which searches the band's rows of blocks and writes into the band's storage.  Once all the threads
+ * have finished the found features are added to the output in the order of the bands, which produces the same
+ * output as the single threaded algorithm.
+ * </p>
+ *
+ * <p>See {@link NonMaxSuppression} for a definition of parameters not described in this document</p>
+ *
+ * @author Peter Abeles
+ */
+public class NonMaxBlock_MT implements NonMaxSuppression {
+
+	// creates a new instance of the single threaded algorithm
+	Supplier<NonMaxBlock> factory;
+
+	// Used to compute how the image is broken up into blocks. Configured the same as each band
+	NonMaxBlock layout;
+
+	// storage for each band
+	FastQueue<BandData> bands = new FastQueue<>(BandData.class,true);
+
+	/**
+	 * Specifies which single threaded algorithm is used to search each band
+	 *
+	 * @param factory Creates a new instance of the single threaded algorithm
+	 */
+	public NonMaxBlock_MT( Supplier<NonMaxBlock> factory ) {
+		this.factory = factory;
+		this.layout = factory.get();
+	}
+
+	@Override
+	public void process(GrayF32 intensity,
+						QueueCorner candidateMin, QueueCorner candidateMax,
+						QueueCorner foundMin, QueueCorner foundMax) {
+		layout.initialize(intensity, null, null);
+
+		BoofConcurrency.loopBlocks(0,layout.getNumberOfBlockRows(),bands,(band,row0,row1)->{
+			if( band.alg == null )
+				band.alg = factory.get();
+			NonMaxBlock alg = band.alg;
+			if( alg.getSearchRadius() != layout.getSearchRadius() )
+				alg.setSearchRadius(layout.getSearchRadius());
+			alg.setBorder(layout.getBorder());
+			alg.setThresholdMin(layout.getThresholdMin());
+			alg.setThresholdMax(layout.getThresholdMax());
+
+			band.localMin.reset();
+			band.localMax.reset();
+			alg.initialize(intensity,band.localMin,band.localMax);
+			alg.searchBlockRows(intensity,row0,row1);
+		});
+
+		for( int i = 0; i < bands.size; i++ ) {
+			BandData band = bands.get(i);
+			if( foundMin != null )
+				addAll(band.localMin,foundMin);
+			if( foundMax != null )
+				addAll(band.localMax,foundMax);
+		}
+	}
+
+	private static void addAll( QueueCorner src , QueueCorner dst ) {
+		for( int i = 0; i < src.size; i++ ) {
+			dst.add(src.data[i]);
+		}
+	}
+
+	@Override
+	public boolean getUsesCandidates() {
+		return false;
+	}
+
+	@Override
+	public float getThresholdMinimum() {
+		return layout.getThresholdMin();
+	}
+
+	@Override
+	public float getThresholdMaximum() {
+		return layout.getThresholdMax();
+	}
+
+	@Override
+	public void setThresholdMinimum(float threshold) {
+		layout.setThresholdMin(threshold);
+	}
+
+	@Override
+	public void setThresholdMaximum(float threshold) {
+		layout.setThresholdMax(threshold);
+	}
+
+	@Override
+	public void setIgnoreBorder(int border) {
+		layout.setBorder(border);
+	}
+
+	@Override
+	public int getIgnoreBorder() {
+		return layout.getBorder();
+	}
+
+	@Override
+	public void setSearchRadius(int radius) {
+		layout.setSearchRadius(radius);
+	}
+
+	@Override
+	public int getSearchRadius() {
+		return layout.getSearchRadius();
+	}
+
+	@Override
+	public boolean canDetectMaximums() {
+		return layout.detectsMaximum;
+	}
+
+	@Override
+	public boolean canDetectMinimums() {
+		return layout.detectsMinimum;
+	}
+
+	/**
+	 * Algorithm and found features for a single band
+	 */
+	public static class BandData {
+		public NonMaxBlock alg;
+		public QueueCorner localMin = new QueueCorner();
+		public QueueCorner localMax = new QueueCorner();
+	}
+}
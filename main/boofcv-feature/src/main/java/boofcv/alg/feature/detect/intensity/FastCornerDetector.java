@@ -72,11 +72,11 @@ public class FastCornerDetector<T extends ImageGray<T>> implements FeatureIntens
 	// pixel index offsets for the circle
 	protected int []offsets;
 	// the image's stride.  Used to determine if the offsets need to be recomputed
-	private int stride = 0;
+	protected int stride = 0;
 
 	// list of pixels that might be corners.
-	private QueueCorner candidatesLow = new QueueCorner(10);
-	private QueueCorner candidatesHigh = new QueueCorner(10);
+	protected QueueCorner candidatesLow = new QueueCorner(10);
+	protected QueueCorner candidatesHigh = new QueueCorner(10);
 
 	// reference to the input image
 	protected T image;
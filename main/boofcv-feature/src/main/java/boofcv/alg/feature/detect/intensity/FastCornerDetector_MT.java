@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.intensity;
+
+import boofcv.alg.feature.detect.intensity.impl.FastCornerInterface;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.misc.DiscretizedCircle;
+import boofcv.struct.QueueCorner;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.ImageGray;
+import org.ddogleg.struct.FastQueue;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link FastCornerDetector}.  The image is split into bands of rows and each
+ * band is processed by its own copy of the helper and has its own candidate lists.  The bands are then
+ * merged in order from top to bottom, which ensures that the order of the corners is the same as the single
+ * threaded implementation and does not change between runs.
+ * </p>
+ *
+ * <p>
+ * If {@link #setMaxFeaturesFraction the maximum number of features} is exceeded then the corners are cut off
+ * after the same row as the single threaded implementation, producing identical lists. A band only stops early
+ * once it alone has found the maximum number of features, since the single threaded implementation would have
+ * stopped by then too.  Unlike the single threaded implementation, rows in the intensity image after the last
+ * row that's used might still be written to.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class FastCornerDetector_MT<T extends ImageGray<T>> extends FastCornerDetector<T> {
+
+	// minimum number of rows in a band
+	private static final int MIN_BAND = 10;
+
+	// storage for each band
+	private final FastQueue<BandData> bands = new FastQueue<>(BandData.class,true);
+
+	/**
+	 * Constructor
+	 *
+	 * @param helper Provide the image type specific helper.
+	 */
+	public FastCornerDetector_MT(FastCornerInterface<T> helper) {
+		super(helper);
+	}
+
+	@Override
+	public void process( T image , GrayF32 intensity ) {
+		final int maxFeatures = setupImage(image);
+
+		BoofConcurrency.loopBlocks(radius,image.height-radius,MIN_BAND,bands,(band,y0,y1)->{
+			final FastCornerInterface<T> helper = band.initialize(this.helper,image,offsets,y0,y1);
+			final QueueCorner low = band.low;
+			final QueueCorner high = band.high;
+
+			for (int y = y0; y < y1; y++) {
+				int indexIntensity = intensity.startIndex + y*intensity.stride + radius;
+				int index = image.startIndex + y*image.stride + radius;
+				for (int x = radius; x < image.width-radius; x++, index++,indexIntensity++) {
+
+					int result = helper.checkPixel(index);
+
+					if( result < 0 ) {
+						intensity.data[indexIntensity] = helper.scoreLower(index);
+						low.add(x,y);
+					} else if( result > 0) {
+						intensity.data[indexIntensity] = helper.scoreUpper(index);
+						high.add(x,y);
+					} else {
+						intensity.data[indexIntensity] = 0;
+					}
+				}
+				// the single threaded algorithm would have stopped by this row too
+				if( low.size + high.size >= maxFeatures )
+					break;
+			}
+		});
+
+		mergeBands(maxFeatures);
+	}
+
+	@Override
+	public void process( T image ) {
+		final int maxFeatures = setupImage(image);
+
+		BoofConcurrency.loopBlocks(radius,image.height-radius,MIN_BAND,bands,(band,y0,y1)->{
+			final FastCornerInterface<T> helper = band.initialize(this.helper,image,offsets,y0,y1);
+			final QueueCorner low = band.low;
+			final QueueCorner high = band.high;
+
+			for (int y = y0; y < y1; y++) {
+				int index = image.startIndex + y*image.stride + radius;
+				for (int x = radius; x < image.width-radius; x++, index++) {
+
+					int result = helper.checkPixel(index);
+
+					if( result < 0 ) {
+						low.add(x,y);
+					} else if( result > 0 ) {
+						high.add(x,y);
+					}
+				}
+				// the single threaded algorithm would have stopped by this row too
+				if( low.size + high.size >= maxFeatures )
+					break;
+			}
+		});
+
+		mergeBands(maxFeatures);
+	}
+
+	/**
+	 * Initializes internal data structures for the new image and returns the maximum number of features
+	 */
+	private int setupImage( T image ) {
+		candidatesLow.reset();
+		candidatesHigh.reset();
+		this.image = image;
+
+		if( stride != image.stride ) {
+			stride = image.stride;
+			offsets = DiscretizedCircle.imageOffsets(radius, image.stride);
+		}
+		helper.setImage(image,offsets);
+
+		return (int)(maxFeaturesFraction*image.width*image.height);
+	}
+
+	/**
+	 * Adds the corners found in each band to the output lists, in order of the bands.  The limit is checked
+	 * after each row, the same as the single threaded algorithm, so the same corners are returned.
+	 */
+	private void mergeBands( int maxFeatures ) {
+		for (int i = 0; i < bands.size; i++) {
+			BandData band = bands.get(i);
+			int indexLow = 0, indexHigh = 0;
+			for (int y = band.y0; y < band.y1; y++) {
+				while( indexLow < band.low.size && band.low.data[indexLow].y == y )
+					candidatesLow.add(band.low.data[indexLow++]);
+				while( indexHigh < band.high.size && band.high.data[indexHigh].y == y )
+					candidatesHigh.add(band.high.data[indexHigh++]);
+				if( candidatesLow.size + candidatesHigh.size >= maxFeatures )
+					return;
+			}
+		}
+	}
+
+	/**
+	 * Storage for a single band of rows
+	 */
+	public static class BandData {
+		FastCornerInterface helper;
+		// range of rows in the band
+		int y0,y1;
+		QueueCorner low = new QueueCorner(10);
+		QueueCorner high = new QueueCorner(10);
+
+		/**
+		 * Resets the candidate lists and returns the band's helper, configured for the image.  The helper
+		 * is only declared the first time since it's expensive.
+		 */
+		@SuppressWarnings("unchecked")
+		<T extends ImageGray<T>>
+		FastCornerInterface<T> initialize( FastCornerInterface<T> original , T image , int[] offsets ,
+										   int y0 , int y1 ) {
+			this.y0 = y0;
+			this.y1 = y1;
+			low.reset();
+			high.reset();
+			if( helper == null )
+				helper = original.newInstance();
+			helper.setImage(image,offsets);
+			return helper;
+		}
+	}
+}
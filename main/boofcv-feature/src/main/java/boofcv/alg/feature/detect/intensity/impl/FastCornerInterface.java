@@ -37,4 +37,10 @@ public interface FastCornerInterface<T extends ImageGray<T>> {
 	float scoreUpper( int index );
 
 	void setThreshold( int index );
+
+	/**
+	 * Creates a new instance with the same configuration.  Implementations have internal state, so
+	 * each thread needs its own instance.
+	 */
+	FastCornerInterface<T> newInstance();
 }
\ No newline at end of file
@@ -38,6 +38,11 @@ public class ImplFastCorner9_U8 extends ImplFastHelper_U8
 		super(pixelTol);
 	}
 
+	@Override
+	public ImplFastCorner9_U8 newInstance() {
+		return new ImplFastCorner9_U8(tol);
+	}
+
 	/**
 	 * @return 1 = positive corner, 0 = no corner, -1 = negative corner
 	 */
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.interest;
+
+import boofcv.abst.feature.detect.extract.NonMaxSuppression;
+import boofcv.alg.feature.detect.intensity.GIntegralImageFeatureIntensity;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.ImageGray;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link FastHessianFeatureDetector}.  The intensity images for every scale in an
+ * octave are computed in parallel.  Then features are found in each triple of scales in the same order as the
+ * single threaded implementation, so the same features are found and in the same order.
+ * </p>
+ *
+ * <p>
+ * An intensity image is saved for every scale in an octave instead of just three.  These images are
+ * reused by higher octaves and when the next image is processed.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class FastHessianFeatureDetector_MT<II extends ImageGray<II>> extends FastHessianFeatureDetector<II> {
+
+	// intensity image for each scale in the octave
+	private GrayF32 octaveIntensity[] = new GrayF32[0];
+
+	/**
+	 * @see FastHessianFeatureDetector#FastHessianFeatureDetector
+	 */
+	public FastHessianFeatureDetector_MT(NonMaxSuppression extractor, int maxFeaturesPerScale,
+										 int initialSampleRate, int initialSize,
+										 int numberScalesPerOctave,
+										 int numberOfOctaves, int scaleStepSize) {
+		super(extractor, maxFeaturesPerScale, initialSampleRate, initialSize,
+				numberScalesPerOctave, numberOfOctaves, scaleStepSize);
+	}
+
+	@Override
+	protected void detectOctave( II integral , int skip , int ...featureSize ) {
+
+		int w = integral.width/skip;
+		int h = integral.height/skip;
+
+		if( octaveIntensity.length < featureSize.length ) {
+			octaveIntensity = new GrayF32[featureSize.length];
+			for( int i = 0; i < featureSize.length; i++ ) {
+				octaveIntensity[i] = new GrayF32(w,h);
+			}
+		}
+
+		// resize the output intensity image taking in account subsampling
+		for( int i = 0; i < featureSize.length; i++ ) {
+			octaveIntensity[i].reshape(w,h);
+		}
+
+		// compute feature intensity in each level
+		BoofConcurrency.loopFor(0,featureSize.length,i->
+				GIntegralImageFeatureIntensity.hessian(integral,skip,featureSize[i],octaveIntensity[i]));
+
+		// find maximum in scale space
+		for( int i = 1; i < featureSize.length-1; i++ ) {
+			findLocalScaleSpaceMax(featureSize,i,skip,
+					octaveIntensity[i-1],octaveIntensity[i],octaveIntensity[i+1]);
+		}
+	}
+}
@@ -22,6 +22,7 @@ import boofcv.alg.filter.convolve.GConvolveImageOps;
 import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.alg.misc.PixelMath;
 import boofcv.alg.transform.pyramid.PyramidOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.border.BorderType;
 import boofcv.factory.filter.kernel.FactoryKernel;
 import boofcv.factory.filter.kernel.FactoryKernelGaussian;
@@ -223,7 +224,16 @@ public class SiftScaleSpace {
 
 		for (int i = 1; i < numScales+3; i++) {
 			differenceOfGaussian[i-1].reshape(tempImage0.width, tempImage0.height);
-			PixelMath.subtract(octaveImages[i],octaveImages[i - 1],differenceOfGaussian[i-1]);
+		}
+
+		// each DoG image only depends on the scale images, so they can be computed independently
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			BoofConcurrency.loopFor(1, numScales+3, i ->
+					PixelMath.subtract(octaveImages[i],octaveImages[i - 1],differenceOfGaussian[i-1]));
+		} else {
+			for (int i = 1; i < numScales+3; i++) {
+				PixelMath.subtract(octaveImages[i],octaveImages[i - 1],differenceOfGaussian[i-1]);
+			}
 		}
 	}
 
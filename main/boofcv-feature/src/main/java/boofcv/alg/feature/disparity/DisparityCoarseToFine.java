@@ -0,0 +1,477 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity;
+
+import boofcv.abst.feature.disparity.StereoDisparity;
+import boofcv.alg.InputSanityCheck;
+import boofcv.alg.filter.misc.AverageDownSampleOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayS16;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageGray;
+import org.ddogleg.struct.FastQueue;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Dense stereo disparity which uses a coarse to fine search to bound the range of disparities considered
+ * at each pixel. Block matching has a cost which is proportional to the disparity range, yet the disparity
+ * of most pixels is close to the disparity of their neighbors. First the disparity is computed from down sampled
+ * images, where both the number of pixels and the disparity range are reduced by the scale factor. Then at
+ * full resolution only disparities close to the coarse estimate are scored using the SAD error inside a
+ * rectangular region and the one with the smallest error is selected.
+ * </p>
+ *
+ * <p>
+ * The full resolution image is processed in square blocks. The disparity range of a block is found from the
+ * smallest and largest valid coarse disparity inside the block and its neighbors, which is then scaled up and
+ * expanded by the margin. Including the neighbors avoids missing the correct disparity along depth
+ * discontinuities. Blocks along the image border, where the coarse disparity isn't computed, use the closest
+ * coarse pixels instead. If there are no valid coarse disparities then every pixel in the block is marked as invalid.
+ * Since the coarse disparity can be computed by any {@link StereoDisparity}, a pyramid with multiple levels
+ * is created by using another instance of this class at the coarse level.
+ * </p>
+ *
+ * <p>
+ * The output disparity image has the same format as {@link StereoDisparity}. Pixels along the image border and
+ * pixels whose error exceeds the maximum allowed error are marked as invalid.
+ * </p>
+ *
+ * @param <T> Type of input image
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings("unchecked")
+public abstract class DisparityCoarseToFine<T extends ImageGray<T>> {
+	// computes the disparity of the down sampled images
+	protected StereoDisparity<T,GrayU8> coarse;
+	// ratio of the input image's size to the coarse image's size
+	protected int scale;
+	// number of disparities added to each side of the scaled coarse disparity range
+	protected int margin;
+	// width of a square block which shares the same disparity range
+	protected int blockWidth = 16;
+
+	// the minimum disparity that it will check
+	protected int minDisparity;
+	// maximum allowed image disparity. exclusive
+	protected int maxDisparity;
+	// difference between max and min
+	protected int rangeDisparity;
+
+	// radius of the region along x and y axis
+	protected int radiusX,radiusY;
+	// size of the region: radius*2 + 1
+	protected int regionWidth,regionHeight;
+
+	// maximum allowed error inside a region
+	protected int maxError;
+
+	// down sampled input images
+	protected T coarseLeft,coarseRight;
+
+	// the computed disparity
+	protected GrayU8 disparity = new GrayU8(1,1);
+
+	// storage for each thread
+	protected FastQueue<WorkSpace> workspace = new FastQueue(WorkSpace.class,true);
+
+	/**
+	 * Configures the algorithm
+	 *
+	 * @param coarse Computes the disparity at the coarse level. Its disparity range should be the full resolution
+	 *               range divided by the scale.
+	 * @param scale Ratio of the input image's size to the coarse image's size. Must be &ge; 2
+	 * @param margin Number of disparities added to each side of the range predicted by the coarse disparity.
+	 *               Should be at least the scale. Try 2*scale
+	 * @param minDisparity Minimum disparity that it will check. Must be &ge; 0 and &lt; maxDisparity
+	 * @param maxDisparity Maximum disparity that it will calculate. Must be &gt; 0 and maxDisparity-minDisparity
+	 *                     must be &le; 254 since invalid pixels are marked with range+1 in a {@link GrayU8} image
+	 * @param regionRadiusX Radius of the rectangular region along x-axis.
+	 * @param regionRadiusY Radius of the rectangular region along y-axis.
+	 * @param maxError Maximum allowed error inside a region. Set to &le; 0 to disable.
+	 */
+	protected DisparityCoarseToFine( StereoDisparity<T,GrayU8> coarse , int scale , int margin ,
+									 int minDisparity , int maxDisparity ,
+									 int regionRadiusX , int regionRadiusY , int maxError ) {
+		if( maxDisparity <= 0 )
+			throw new IllegalArgumentException("Max disparity must be greater than zero");
+		if( minDisparity < 0 || minDisparity >= maxDisparity )
+			throw new IllegalArgumentException("Min disparity must be >= 0 and < maxDisparity");
+		if( maxDisparity-minDisparity > 254 )
+			throw new IllegalArgumentException("(max - min) disparity must be <= 254");
+		if( scale < 2 )
+			throw new IllegalArgumentException("Scale must be at least 2");
+		if( margin < 0 )
+			throw new IllegalArgumentException("Margin must be >= 0");
+
+		this.coarse = coarse;
+		this.scale = scale;
+		this.margin = margin;
+		this.minDisparity = minDisparity;
+		this.maxDisparity = maxDisparity;
+		this.rangeDisparity = maxDisparity - minDisparity;
+		this.radiusX = regionRadiusX;
+		this.radiusY = regionRadiusY;
+		this.regionWidth = regionRadiusX*2+1;
+		this.regionHeight = regionRadiusY*2+1;
+		this.maxError = maxError <= 0 ? Integer.MAX_VALUE : maxError;
+	}
+
+	/**
+	 * Computes the disparity between two rectified stereo images
+	 *
+	 * @param left Left rectified stereo image. Input
+	 * @param right Right rectified stereo image. Input
+	 */
+	public void process( T left , T right ) {
+		InputSanityCheck.checkSameShape(left, right);
+
+		// compute the disparity at the coarse level
+		if( coarseLeft == null ) {
+			coarseLeft = left.createNew(1,1);
+			coarseRight = left.createNew(1,1);
+		}
+		int coarseWidth = AverageDownSampleOps.downSampleSize(left.width,scale);
+		int coarseHeight = AverageDownSampleOps.downSampleSize(left.height,scale);
+		coarseLeft.reshape(coarseWidth,coarseHeight);
+		coarseRight.reshape(coarseWidth,coarseHeight);
+		AverageDownSampleOps.down(left,scale,coarseLeft);
+		AverageDownSampleOps.down(right,scale,coarseRight);
+
+		coarse.process(coarseLeft,coarseRight);
+
+		// search at full resolution
+		disparity.reshape(left.width,left.height);
+		ImageMiscOps.fill(disparity,rangeDisparity+1);
+
+		// region which can be processed without going outside the image
+		final int x0 = minDisparity+radiusX, x1 = left.width-radiusX;
+		final int y0 = radiusY, y1 = left.height-radiusY;
+		if( x0 >= x1 || y0 >= y1 )
+			return;
+
+		int numBlockRows = (y1-y0+blockWidth-1)/blockWidth;
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			BoofConcurrency.loopBlocks(0,numBlockRows,workspace,(work,row0,row1)->
+					processBlockRows(left,right,work,row0,row1,x0,x1,y0,y1));
+		} else {
+			if( workspace.size == 0 )
+				workspace.grow();
+			processBlockRows(left,right,workspace.get(0),0,numBlockRows,x0,x1,y0,y1);
+		}
+	}
+
+	/**
+	 * Processes all the blocks in the specified rows of blocks
+	 */
+	private void processBlockRows( T left , T right , WorkSpace work , int row0 , int row1 ,
+								   int x0 , int x1 , int y0 , int y1 ) {
+		work.checkSize(blockWidth,regionWidth,regionHeight);
+
+		for( int row = row0; row < row1; row++ ) {
+			int by0 = y0 + row*blockWidth;
+			int by1 = Math.min(y1,by0+blockWidth);
+
+			for( int bx0 = x0; bx0 < x1; bx0 += blockWidth ) {
+				int bx1 = Math.min(x1,bx0+blockWidth);
+
+				if( selectBlockRange(bx0,by0,bx1,by1,work) )
+					processBlock(left,right,work,bx0,by0,bx1,by1);
+			}
+		}
+	}
+
+	/**
+	 * Selects the range of disparities which will be searched inside the block using the coarse disparity
+	 *
+	 * @return true if there is a valid range
+	 */
+	boolean selectBlockRange( int bx0 , int by0 , int bx1 , int by1 , WorkSpace work ) {
+		GrayU8 coarseDisparity = coarse.getDisparity();
+		int coarseMin = coarse.getMinDisparity();
+		int coarseRange = coarse.getMaxDisparity()-coarseMin;
+
+		// region in the coarse image where the disparity can be computed
+		int validX0 = coarseMin + coarse.getBorderX();
+		int validY0 = coarse.getBorderY();
+		int validX1 = coarseDisparity.width-1-coarse.getBorderX();
+		int validY1 = coarseDisparity.height-1-coarse.getBorderY();
+		if( validX0 > validX1 || validY0 > validY1 )
+			return false;
+
+		// coarse pixels inside the block and its neighbors. Blocks along the image border, where the coarse
+		// disparity isn't computed, use the closest coarse pixels instead
+		int cx0 = clamp(bx0/scale-1,validX0,validX1);
+		int cy0 = clamp(by0/scale-1,validY0,validY1);
+		int cx1 = clamp((bx1-1)/scale+1,validX0,validX1);
+		int cy1 = clamp((by1-1)/scale+1,validY0,validY1);
+
+		int lower = Integer.MAX_VALUE;
+		int upper = -1;
+		for( int y = cy0; y <= cy1; y++ ) {
+			int index = coarseDisparity.startIndex + y*coarseDisparity.stride + cx0;
+			for( int x = cx0; x <= cx1; x++ ) {
+				int d = coarseDisparity.data[index++] & 0xFF;
+				if( d >= coarseRange )
+					continue;
+				if( d < lower ) lower = d;
+				if( d > upper ) upper = d;
+			}
+		}
+
+		if( upper < 0 )
+			return false;
+
+		work.disparity0 = Math.max(minDisparity,(lower+coarseMin)*scale-margin);
+		work.disparity1 = Math.min(maxDisparity,(upper+coarseMin)*scale+margin+1);
+
+		return work.disparity0 < work.disparity1;
+	}
+
+	private static int clamp( int value , int lower , int upper ) {
+		return value < lower ? lower : (value > upper ? upper : value);
+	}
+
+	/**
+	 * Scores every disparity in the block's range and selects the one with the lowest error at each pixel
+	 */
+	void processBlock( T left , T right , WorkSpace work , int bx0 , int by0 , int bx1 , int by1 ) {
+		int blockCols = bx1-bx0;
+		int blockRows = by1-by0;
+		int[] elementScore = work.elementScore;
+		int[] columnScore = work.columnScore;
+		int[] bestScore = work.bestScore;
+		int[] bestDisparity = work.bestDisparity;
+
+		Arrays.fill(bestScore,0,blockCols*blockRows,Integer.MAX_VALUE);
+
+		for( int d = work.disparity0; d < work.disparity1; d++ ) {
+			// pixels closer to the image border than this can't be matched at this disparity
+			int px0 = Math.max(bx0,d+radiusX);
+			if( px0 >= bx1 )
+				break;
+
+			// columns in the image which are summed to compute the score
+			int c0 = px0-radiusX;
+			int c1 = bx1+radiusX;
+			int numCols = c1-c0;
+
+			// vertical sum for the first row in the block
+			Arrays.fill(columnScore,0,numCols,0);
+			for( int i = 0; i < regionHeight; i++ ) {
+				int indexElement = i*work.elementStride;
+				computeElementError(left,right,by0-radiusY+i,c0,c1,d,elementScore,indexElement);
+				for( int j = 0; j < numCols; j++ ) {
+					columnScore[j] += elementScore[indexElement+j];
+				}
+			}
+
+			for( int y = by0; y < by1; y++ ) {
+				if( y > by0 ) {
+					// replace the oldest row in the region with the next row
+					int indexElement = ((y-by0-1)%regionHeight)*work.elementStride;
+					for( int j = 0; j < numCols; j++ ) {
+						columnScore[j] -= elementScore[indexElement+j];
+					}
+					computeElementError(left,right,y+radiusY,c0,c1,d,elementScore,indexElement);
+					for( int j = 0; j < numCols; j++ ) {
+						columnScore[j] += elementScore[indexElement+j];
+					}
+				}
+
+				// horizontal sum
+				int score = 0;
+				for( int j = 0; j < regionWidth; j++ ) {
+					score += columnScore[j];
+				}
+
+				int indexBest = (y-by0)*blockCols + px0-bx0;
+				for( int j = 0; ; j++ , indexBest++ ) {
+					if( score < bestScore[indexBest] ) {
+						bestScore[indexBest] = score;
+						bestDisparity[indexBest] = d;
+					}
+					if( px0+j+1 >= bx1 )
+						break;
+					score += columnScore[j+regionWidth] - columnScore[j];
+				}
+			}
+		}
+
+		// save the results
+		int invalid = rangeDisparity+1;
+		for( int y = 0; y < blockRows; y++ ) {
+			int indexOut = disparity.startIndex + (by0+y)*disparity.stride + bx0;
+			int indexBest = y*blockCols;
+			for( int x = 0; x < blockCols; x++ , indexBest++ ) {
+				int score = bestScore[indexBest];
+				if( score == Integer.MAX_VALUE || score > maxError )
+					disparity.data[indexOut++] = (byte)invalid;
+				else
+					disparity.data[indexOut++] = (byte)(bestDisparity[indexBest]-minDisparity);
+			}
+		}
+	}
+
+	/**
+	 * Computes the absolute difference between pixels in the left and right images along a row.
+	 *
+	 * @param y Row in the images
+	 * @param x0 First column in the left image, inclusive
+	 * @param x1 Last column in the left image, exclusive
+	 * @param d Disparity. The pixel at column x in the left image is compared against x-d in the right image
+	 * @param errors (Output) Storage for the errors
+	 * @param indexErrors Index in errors that the first error is written to
+	 */
+	protected abstract void computeElementError( T left , T right , int y , int x0 , int x1 , int d ,
+												 int[] errors , int indexErrors );
+
+	public abstract Class<T> getInputType();
+
+	/**
+	 * Returns the computed disparity. See {@link StereoDisparity} for a description of the format.
+	 */
+	public GrayU8 getDisparity() {
+		return disparity;
+	}
+
+	public StereoDisparity<T,GrayU8> getCoarse() {
+		return coarse;
+	}
+
+	public int getScale() {
+		return scale;
+	}
+
+	public int getMargin() {
+		return margin;
+	}
+
+	public int getBlockWidth() {
+		return blockWidth;
+	}
+
+	/**
+	 * Specifies the width of the square blocks that the image is processed in. Smaller blocks have tighter
+	 * disparity ranges but a larger overhead from pixels along the block's border.
+	 */
+	public void setBlockWidth(int blockWidth) {
+		if( blockWidth <= 0 )
+			throw new IllegalArgumentException("Block width must be > 0");
+		this.blockWidth = blockWidth;
+	}
+
+	public int getMinDisparity() {
+		return minDisparity;
+	}
+
+	public int getMaxDisparity() {
+		return maxDisparity;
+	}
+
+	public int getBorderX() {
+		return radiusX;
+	}
+
+	public int getBorderY() {
+		return radiusY;
+	}
+
+	/**
+	 * Storage used by a single thread
+	 */
+	public static class WorkSpace {
+		// errors for each pixel in the rows of the region, stored in a circular buffer
+		int[] elementScore = new int[0];
+		int elementStride;
+		// sum of the errors in each column of the region
+		int[] columnScore = new int[0];
+		// best score and disparity for each pixel in the block
+		int[] bestScore = new int[0];
+		int[] bestDisparity = new int[0];
+		// range of disparities searched in the block. upper is exclusive
+		int disparity0, disparity1;
+
+		void checkSize( int blockWidth , int regionWidth , int regionHeight ) {
+			elementStride = blockWidth+regionWidth-1;
+			if( columnScore.length != elementStride ) {
+				elementScore = new int[elementStride*regionHeight];
+				columnScore = new int[elementStride];
+				bestScore = new int[blockWidth*blockWidth];
+				bestDisparity = new int[blockWidth*blockWidth];
+			}
+		}
+	}
+
+	/**
+	 * Implementation for {@link GrayU8} images
+	 */
+	public static class U8 extends DisparityCoarseToFine<GrayU8> {
+		public U8( StereoDisparity<GrayU8,GrayU8> coarse , int scale , int margin ,
+				   int minDisparity , int maxDisparity , int regionRadiusX , int regionRadiusY , int maxError ) {
+			super(coarse,scale,margin,minDisparity,maxDisparity,regionRadiusX,regionRadiusY,maxError);
+		}
+
+		@Override
+		protected void computeElementError( GrayU8 left , GrayU8 right , int y , int x0 , int x1 , int d ,
+											int[] errors , int indexErrors ) {
+			int indexLeft = left.startIndex + y*left.stride + x0;
+			int indexRight = right.startIndex + y*right.stride + x0 - d;
+
+			for( int x = x0; x < x1; x++ ) {
+				errors[indexErrors++] = Math.abs((left.data[indexLeft++] & 0xFF) - (right.data[indexRight++] & 0xFF));
+			}
+		}
+
+		@Override
+		public Class<GrayU8> getInputType() {
+			return GrayU8.class;
+		}
+	}
+
+	/**
+	 * Implementation for {@link GrayS16} images
+	 */
+	public static class S16 extends DisparityCoarseToFine<GrayS16> {
+		public S16( StereoDisparity<GrayS16,GrayU8> coarse , int scale , int margin ,
+					int minDisparity , int maxDisparity , int regionRadiusX , int regionRadiusY , int maxError ) {
+			super(coarse,scale,margin,minDisparity,maxDisparity,regionRadiusX,regionRadiusY,maxError);
+		}
+
+		@Override
+		protected void computeElementError( GrayS16 left , GrayS16 right , int y , int x0 , int x1 , int d ,
+											int[] errors , int indexErrors ) {
+			int indexLeft = left.startIndex + y*left.stride + x0;
+			int indexRight = right.startIndex + y*right.stride + x0 - d;
+
+			for( int x = x0; x < x1; x++ ) {
+				errors[indexErrors++] = Math.abs(left.data[indexLeft++] - right.data[indexRight++]);
+			}
+		}
+
+		@Override
+		public Class<GrayS16> getInputType() {
+			return GrayS16.class;
+		}
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity;
+
+import boofcv.abst.filter.FilterImageInterface;
+import boofcv.struct.image.ImageGray;
+
+/**
+ * <p>
+ * Computes the disparity score using the Hamming distance between census transforms of the two images.  Since the
+ * census transform only encodes the relative order of pixels it is invariant to differences in gain and bias
+ * between the two cameras, which is a weakness of SAD based scores.  The census transform is applied to both
+ * images and then the scores are computed by a {@link DisparityScoreRowFormat} for the census transform's output,
+ * e.g. {@link boofcv.alg.feature.disparity.impl.ImplDisparityScoreHammingRect_U8}.
+ * </p>
+ *
+ * @param <T> Type of input image
+ * @param <C> Type of image the census transform is stored in
+ * @param <DI> Type of disparity image
+ *
+ * @author Peter Abeles
+ */
+public class DisparityScoreCensus<T extends ImageGray<T>, C extends ImageGray<C>, DI extends ImageGray<DI>>
+	extends DisparityScoreRowFormat<T,DI>
+{
+	// computes the census transform
+	FilterImageInterface<T,C> census;
+	// computes the disparity score from the census transform
+	DisparityScoreRowFormat<C,DI> score;
+
+	// storage for census transform of left and right images
+	C censusLeft, censusRight;
+
+	/**
+	 * Specifies the census transform and the score
+	 *
+	 * @param census Census transform.  Must process the entire image.
+	 * @param score Computes the disparity score from the census transform, e.g. the Hamming distance
+	 */
+	public DisparityScoreCensus( FilterImageInterface<T,C> census , DisparityScoreRowFormat<C,DI> score ) {
+		super(score.getMinDisparity(),score.getMaxDisparity(),score.getBorderX(),score.getBorderY());
+		if( census.getHorizontalBorder() != 0 || census.getVerticalBorder() != 0 )
+			throw new IllegalArgumentException("The census transform must process the image border");
+		this.census = census;
+		this.score = score;
+
+		censusLeft = census.getOutputType().createImage(1,1);
+		censusRight = census.getOutputType().createImage(1,1);
+	}
+
+	@Override
+	public void _process(T left, T right, DI disparity) {
+		censusLeft.reshape(left.width,left.height);
+		censusRight.reshape(right.width,right.height);
+
+		census.process(left,censusLeft);
+		census.process(right,censusRight);
+
+		score.process(censusLeft,censusRight,disparity);
+	}
+
+	@Override
+	public Class<T> getInputType() {
+		return census.getInputType().getImageClass();
+	}
+
+	@Override
+	public Class<DI> getDisparityType() {
+		return score.getDisparityType();
+	}
+
+	public FilterImageInterface<T, C> getCensus() {
+		return census;
+	}
+
+	public DisparityScoreRowFormat<C, DI> getScore() {
+		return score;
+	}
+}
@@ -58,6 +58,30 @@ public interface DisparitySelect<Array , T extends ImageGray> {
 	 */
 	public void process(int row, Array scoresArray);
 
+	/**
+	 * Creates a new instance with the same configuration which can process rows in a different thread
+	 * at the same time as this instance.  Copies are reused between images, see
+	 * {@link #updateConcurrentCopy(DisparitySelect)}.
+	 *
+	 * @return New instance with the same configuration or null if copies are not supported, in which case
+	 * images are processed in a single thread.
+	 */
+	default DisparitySelect<Array,T> concurrentCopy() {
+		return null;
+	}
+
+	/**
+	 * Changes the configuration of a copy created by {@link #concurrentCopy()} so that it's the same as this
+	 * instance's.  Called each time an image is processed so that changes to this instance's configuration are
+	 * never ignored.
+	 *
+	 * @param copy Instance which was created by {@link #concurrentCopy()}. Modified.
+	 * @return true if the copy was updated or false if a new copy must be created instead
+	 */
+	default boolean updateConcurrentCopy( DisparitySelect<Array,T> copy ) {
+		return false;
+	}
+
 	/**
 	 * Type of image the disparity is
 	 *
@@ -65,4 +65,10 @@ public abstract class SelectRectBasicWta<Array , Disparity extends ImageGray>
 	protected int maxDisparityAtColumnL2R( int col) {
 		return 1+col-minDisparity-Math.max(0,col-maxDisparity+1);
 	}
+
+	@Override
+	public boolean updateConcurrentCopy( DisparitySelect<Array,Disparity> copy ) {
+		// there's nothing to configure
+		return true;
+	}
 }
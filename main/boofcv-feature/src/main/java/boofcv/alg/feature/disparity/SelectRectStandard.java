@@ -84,6 +84,14 @@ public abstract class SelectRectStandard <Array , T extends ImageGray>
 
 	public abstract void setTexture( double threshold );
 
+	@Override
+	public boolean updateConcurrentCopy( DisparitySelect<Array,T> copy ) {
+		SelectRectStandard<Array,T> c = (SelectRectStandard<Array,T>)copy;
+		c.maxError = maxError;
+		c.rightToLeftTolerance = rightToLeftTolerance;
+		return true;
+	}
+
 	@Override
 	public void configure(T imageDisparity, int minDisparity , int maxDisparity , int radiusX ) {
 		this.imageDisparity = imageDisparity;
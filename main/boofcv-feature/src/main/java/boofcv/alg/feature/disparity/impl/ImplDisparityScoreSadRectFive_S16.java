@@ -20,8 +20,10 @@ package boofcv.alg.feature.disparity.impl;
 
 import boofcv.alg.feature.disparity.DisparityScoreWindowFive;
 import boofcv.alg.feature.disparity.DisparitySelect;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.GrayS16;
 import boofcv.struct.image.ImageGray;
+import org.ddogleg.struct.FastQueue;
 
 /**
  * <p>
@@ -30,6 +32,14 @@ import boofcv.struct.image.ImageGray;
  * </p>
  *
  * <p>
+ * When {@link BoofConcurrency#USE_CONCURRENT} is true the image is split into bands of rows which are
+ * processed concurrently. Each band primes its own rolling window of vertical sums. The first band uses the
+ * provided {@link DisparitySelect} and the other bands use a copy which is reused between images,
+ * see {@link DisparitySelect#concurrentCopy()}. If it can't be copied the image is processed in a
+ * single thread. The output is the same as when it's processed in a single thread.
+ * </p>
+ *
+ * <p>
  * DO NOT MODIFY. Generated by {@link GenerateDisparityScoreSadRectFive}.
  * </p>
  *
@@ -39,60 +49,76 @@ public class ImplDisparityScoreSadRectFive_S16<DI extends ImageGray<DI>>
 		extends DisparityScoreWindowFive<GrayS16, DI>
 {
 
-	// Computes disparity from scores
+	// Computes disparity from scores. Used by the first band of rows and copied for the other bands
 	DisparitySelect<int[], DI> computeDisparity;
+	// true if computeDisparity can be copied and rows can be processed concurrently
+	boolean concurrentSupported;
 
-	// stores the local scores for the width of the region
-	int elementScore[];
-	// scores along horizontal axis for current block
-	int horizontalScore[][];
-	// summed scores along vertical axis
-	// Save the last regionHeight scores in a rolling window
-	int verticalScore[][];
-	// In the rolling verticalScore window, which one is the active one
-	int activeVerticalScore;
-	// Where the final score it stored that has been computed from five regions
-	int fiveScore[];
+	// Storage for each band of rows which is processed
+	FastQueue<WorkSpace<DI>> workspace = new FastQueue(WorkSpace.class,true);
 
 	public ImplDisparityScoreSadRectFive_S16(int minDisparity, int maxDisparity,
 											int regionRadiusX, int regionRadiusY,
 											DisparitySelect<int[], DI> computeDisparity) {
 		super(minDisparity,maxDisparity,regionRadiusX,regionRadiusY);
 		this.computeDisparity = computeDisparity;
+		this.concurrentSupported = computeDisparity.concurrentCopy() != null;
 	}
 
 	@Override
 	public void _process(GrayS16 left , GrayS16 right , DI disparity ) {
-		if( horizontalScore == null || verticalScore.length < lengthHorizontal ) {
-			horizontalScore = new int[regionHeight][lengthHorizontal];
-			verticalScore = new int[regionHeight][lengthHorizontal];
-			elementScore = new int[ left.width ];
-			fiveScore = new int[ lengthHorizontal ];
+		// range of rows that a disparity is computed at
+		int row0 = 2*radiusY;
+		int row1 = left.height-2*radiusY;
+
+		if( BoofConcurrency.USE_CONCURRENT && concurrentSupported ) {
+			BoofConcurrency.loopBlocks(row0,row1,regionHeight,workspace,(work,y0,y1)->
+					computeBlock(left,right,disparity,work,y0,y1));
+		} else if( row1 > row0 ) {
+			if( workspace.size == 0 )
+				workspace.grow();
+			computeBlock(left,right,disparity,workspace.get(0),row0,row1);
 		}
+	}
 
-		computeDisparity.configure(disparity,minDisparity,maxDisparity,radiusX*2);
+	/**
+	 * Computes the disparity for a band of rows
+	 *
+	 * @param row0 First row the disparity is computed at, inclusive
+	 * @param row1 Last row the disparity is computed at, exclusive
+	 */
+	private void computeBlock( GrayS16 left , GrayS16 right , DI disparity ,
+							   WorkSpace<DI> work , int row0 , int row1 ) {
+		work.checkSize(regionHeight,lengthHorizontal,left.width);
+		// The first band uses the original. Other bands reuse their copy once its configuration has been
+		// updated to match the original's, so changes to the original are never ignored
+		if( work == workspace.get(0) )
+			work.computeDisparity = computeDisparity;
+		else if( work.computeDisparity == null || !computeDisparity.updateConcurrentCopy(work.computeDisparity) )
+			work.computeDisparity = computeDisparity.concurrentCopy();
+		work.computeDisparity.configure(disparity,minDisparity,maxDisparity,radiusX*2);
 
 		// initialize computation
-		computeFirstRow(left, right);
+		computeFirstRow(left, right, work, row0-2*radiusY);
 		// efficiently compute rest of the rows using previous results to avoid repeat computations
-		computeRemainingRows(left, right);
+		computeRemainingRows(left, right, work, row0-2*radiusY, row1+2*radiusY);
 	}
 
 	/**
 	 * Initializes disparity calculation by finding the scores for the initial block of horizontal
 	 * rows.
 	 */
-	private void computeFirstRow(GrayS16 left, GrayS16 right ) {
-		int firstRow[] = verticalScore[0];
-		activeVerticalScore = 1;
+	private void computeFirstRow( GrayS16 left, GrayS16 right , WorkSpace<DI> work , int firstRow ) {
+		int horizontalScore[][] = work.horizontalScore;
+		int verticalScore[] = work.verticalScore[0];
 
 		// compute horizontal scores for first row block
 		for( int row = 0; row < regionHeight; row++ ) {
 
 			int scores[] = horizontalScore[row];
 
-			UtilDisparityScore.computeScoreRow(left, right, row, scores,
-					minDisparity, maxDisparity, regionWidth, elementScore);
+			UtilDisparityScore.computeScoreRow(left, right, firstRow+row, scores,
+					minDisparity, maxDisparity, regionWidth, work.elementScore);
 		}
 
 		// compute score for the top possible row
@@ -101,7 +127,7 @@ public class ImplDisparityScoreSadRectFive_S16<DI extends ImageGray<DI>>
 			for( int row = 0; row < regionHeight; row++ ) {
 				sum += horizontalScore[row][i];
 			}
-			firstRow[i] = sum;
+			verticalScore[i] = sum;
 		}
 	}
 
@@ -110,21 +136,26 @@ public class ImplDisparityScoreSadRectFive_S16<DI extends ImageGray<DI>>
 	 * When a new block is processes the last row/column is subtracted and the new row/column is
 	 * added.
 	 */
-	private void computeRemainingRows(GrayS16 left, GrayS16 right )
+	private void computeRemainingRows( GrayS16 left, GrayS16 right , WorkSpace<DI> work , int firstRow , int lastRow )
 	{
-		for( int row = regionHeight; row < left.height; row++ , activeVerticalScore++) {
-			int oldRow = row%regionHeight;
+		int verticalScore[][] = work.verticalScore;
+
+		// In the rolling verticalScore window, which one is the active one
+		int activeVerticalScore = 1;
+
+		for( int row = firstRow+regionHeight; row < lastRow; row++ , activeVerticalScore++) {
+			int oldRow = (row-firstRow)%regionHeight;
 			int previous[] = verticalScore[ (activeVerticalScore -1) % regionHeight ];
 			int active[] = verticalScore[ activeVerticalScore % regionHeight ];
 
 			// subtract first row from vertical score
-			int scores[] = horizontalScore[oldRow];
+			int scores[] = work.horizontalScore[oldRow];
 			for( int i = 0; i < lengthHorizontal; i++ ) {
 				active[i] = previous[i] - scores[i];
 			}
 
 			UtilDisparityScore.computeScoreRow(left, right, row, scores,
-					minDisparity,maxDisparity,regionWidth,elementScore);
+					minDisparity,maxDisparity,regionWidth,work.elementScore);
 
 			// add the new score
 			for( int i = 0; i < lengthHorizontal; i++ ) {
@@ -136,8 +167,8 @@ public class ImplDisparityScoreSadRectFive_S16<DI extends ImageGray<DI>>
 				int middle[] = verticalScore[ (activeVerticalScore -radiusY) % regionHeight ];
 				int bottom[] = verticalScore[ activeVerticalScore % regionHeight ];
 
-				computeScoreFive(top,middle,bottom,fiveScore,left.width);
-				computeDisparity.process(row - (1 + 4*radiusY) + 2*radiusY+1, fiveScore );
+				computeScoreFive(top,middle,bottom,work.fiveScore,left.width);
+				work.computeDisparity.process(row - (1 + 4*radiusY) + 2*radiusY+1, work.fiveScore );
 			}
 		}
 	}
@@ -203,4 +234,30 @@ public class ImplDisparityScoreSadRectFive_S16<DI extends ImageGray<DI>>
 		return computeDisparity.getDisparityType();
 	}
 
+	/**
+	 * Scores and the disparity selector used to process a single band of rows
+	 */
+	public static class WorkSpace<DI extends ImageGray<DI>> {
+		// stores the local scores for the width of the region
+		int elementScore[];
+		// scores along horizontal axis for current block
+		int horizontalScore[][];
+		// summed scores along vertical axis
+		// Save the last regionHeight scores in a rolling window
+		int verticalScore[][];
+		// Where the final score it stored that has been computed from five regions
+		int fiveScore[];
+		// Computes disparity from scores for this band
+		DisparitySelect<int[], DI> computeDisparity;
+
+		void checkSize( int regionHeight , int lengthHorizontal , int width ) {
+			if( horizontalScore == null || verticalScore[0].length < lengthHorizontal ) {
+				horizontalScore = new int[regionHeight][lengthHorizontal];
+				verticalScore = new int[regionHeight][lengthHorizontal];
+				fiveScore = new int[ lengthHorizontal ];
+			}
+			if( elementScore == null || elementScore.length < width )
+				elementScore = new int[ width ];
+		}
+	}
 }
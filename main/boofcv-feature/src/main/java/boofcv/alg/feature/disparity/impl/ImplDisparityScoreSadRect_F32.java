@@ -20,8 +20,10 @@ package boofcv.alg.feature.disparity.impl;
 
 import boofcv.alg.feature.disparity.DisparityScoreSadRect;
 import boofcv.alg.feature.disparity.DisparitySelect;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.ImageGray;
+import org.ddogleg.struct.FastQueue;
 
 /**
  * <p>
@@ -29,6 +31,14 @@ import boofcv.struct.image.ImageGray;
  * input images of type {@link GrayF32}.
  * </p>
  * <p>
+ * When {@link BoofConcurrency#USE_CONCURRENT} is true the image is split into bands of rows which are
+ * processed concurrently. Each band primes its own vertical sum using the rows above it. The first band uses
+ * the provided {@link DisparitySelect} and the other bands use a copy which is reused between images,
+ * see {@link DisparitySelect#concurrentCopy()}. If it can't be copied the image is processed in a
+ * single thread. Rows are always split into the same bands, even in a single thread, so that floating
+ * point round off and the output are the same no matter how many threads there are.
+ * </p>
+ * <p>
  * DO NOT MODIFY. Generated by {@link GenerateDisparityScoreSadRect}.
  * </p>
  * 
@@ -38,19 +48,18 @@ public class ImplDisparityScoreSadRect_F32<DI extends ImageGray<DI>>
 	extends DisparityScoreSadRect<GrayF32, DI>
 {
 
-	// Computes disparity from scores
+	// Computes disparity from scores. Used by the first band of rows and copied for the other bands
 	DisparitySelect<float[], DI> computeDisparity;
+	// true if computeDisparity can be copied and rows can be processed concurrently
+	boolean concurrentSupported;
+
+	// Storage for each band of rows which is processed
+	FastQueue<WorkSpace<DI>> workspace = new FastQueue(WorkSpace.class,true);
 
-	// stores the local scores for the width of the region
-	float elementScore[];
-	// scores along horizontal axis for current block
-	// To allow right to left validation all disparity scores are stored for the entire row
-	// size = num columns * maxDisparity
-	// disparity for column i is stored in elements i*maxDisparity to (i+1)*maxDisparity
-	float horizontalScore[][];
-	// summed scores along vertical axis
-	// This is simply the sum of like elements in horizontal score
-	float verticalScore[];
+	// Each band is at least this many rows tall
+	public static final int MIN_BAND_ROWS = 64;
+	// Each band is at least this many times as tall as the region, limiting the cost of priming its sums
+	public static final int BAND_REGIONS = 10;
 
 	public ImplDisparityScoreSadRect_F32( int minDisparity , int maxDisparity,
 										int regionRadiusX, int regionRadiusY,
@@ -58,36 +67,79 @@ public class ImplDisparityScoreSadRect_F32<DI extends ImageGray<DI>>
 		super(minDisparity,maxDisparity,regionRadiusX,regionRadiusY);
 
 		this.computeDisparity = computeDisparity;
+		this.concurrentSupported = computeDisparity.concurrentCopy() != null;
 	}
 
 	@Override
 	public void _process(GrayF32 left , GrayF32 right , DI disparity ) {
-		if( horizontalScore == null || verticalScore.length < lengthHorizontal ) {
-			horizontalScore = new float[regionHeight][lengthHorizontal];
-			verticalScore = new float[lengthHorizontal];
-			elementScore = new float[ left.width ];
+		// range of rows that a disparity is computed at
+		int row0 = radiusY;
+		int row1 = left.height-radiusY;
+
+		// Floating point round off depends on the row each band's vertical sum is primed at. The bands
+		// are the same no matter how many threads there are so that the output is too
+		int bandRows = Math.max(MIN_BAND_ROWS,BAND_REGIONS*regionHeight);
+		int numBands = (row1-row0+bandRows-1)/bandRows;
+
+		if( BoofConcurrency.USE_CONCURRENT && concurrentSupported ) {
+			BoofConcurrency.loopBlocks(0,numBands,workspace,(work,b0,b1)->
+					computeBands(left,right,disparity,work,row0,row1,bandRows,b0,b1));
+		} else if( numBands > 0 ) {
+			if( workspace.size == 0 )
+				workspace.grow();
+			computeBands(left,right,disparity,workspace.get(0),row0,row1,bandRows,0,numBands);
 		}
+	}
 
-		computeDisparity.configure(disparity,minDisparity,maxDisparity,radiusX);
+	/**
+	 * Computes the disparity for bands b0 to b1-1, each of which is bandRows tall
+	 */
+	private void computeBands( GrayF32 left , GrayF32 right , DI disparity ,
+							   WorkSpace<DI> work , int row0 , int row1 , int bandRows , int b0 , int b1 ) {
+		for( int band = b0; band < b1; band++ ) {
+			int y0 = row0 + band*bandRows;
+			computeBlock(left,right,disparity,work,y0,Math.min(row1,y0+bandRows));
+		}
+	}
+
+	/**
+	 * Computes the disparity for a band of rows
+	 *
+	 * @param row0 First row the disparity is computed at, inclusive
+	 * @param row1 Last row the disparity is computed at, exclusive
+	 */
+	private void computeBlock( GrayF32 left , GrayF32 right , DI disparity ,
+							   WorkSpace<DI> work , int row0 , int row1 ) {
+		work.checkSize(regionHeight,lengthHorizontal,left.width);
+		// The first band uses the original. Other bands reuse their copy once its configuration has been
+		// updated to match the original's, so changes to the original are never ignored
+		if( work == workspace.get(0) )
+			work.computeDisparity = computeDisparity;
+		else if( work.computeDisparity == null || !computeDisparity.updateConcurrentCopy(work.computeDisparity) )
+			work.computeDisparity = computeDisparity.concurrentCopy();
+		work.computeDisparity.configure(disparity,minDisparity,maxDisparity,radiusX);
 
 		// initialize computation
-		computeFirstRow(left, right);
+		computeFirstRow(left, right, work, row0-radiusY);
 		// efficiently compute rest of the rows using previous results to avoid repeat computations
-		computeRemainingRows(left, right);
+		computeRemainingRows(left, right, work, row0-radiusY, row1+radiusY);
 	}
 
 	/**
 	 * Initializes disparity calculation by finding the scores for the initial block of horizontal
 	 * rows.
 	 */
-	private void computeFirstRow(GrayF32 left, GrayF32 right ) {
+	private void computeFirstRow( GrayF32 left, GrayF32 right , WorkSpace<DI> work , int firstRow ) {
+		float horizontalScore[][] = work.horizontalScore;
+		float verticalScore[] = work.verticalScore;
+
 		// compute horizontal scores for first row block
 		for( int row = 0; row < regionHeight; row++ ) {
 
 			float scores[] = horizontalScore[row];
 
-			UtilDisparityScore.computeScoreRow(left, right, row, scores,
-					minDisparity,maxDisparity,regionWidth,elementScore);
+			UtilDisparityScore.computeScoreRow(left, right, firstRow+row, scores,
+					minDisparity,maxDisparity,regionWidth,work.elementScore);
 		}
 
 		// compute score for the top possible row
@@ -100,7 +152,7 @@ public class ImplDisparityScoreSadRect_F32<DI extends ImageGray<DI>>
 		}
 
 		// compute disparity
-		computeDisparity.process(radiusY, verticalScore);
+		work.computeDisparity.process(firstRow + radiusY, verticalScore);
 	}
 
 	/**
@@ -108,19 +160,21 @@ public class ImplDisparityScoreSadRect_F32<DI extends ImageGray<DI>>
 	 * When a new block is processes the last row/column is subtracted and the new row/column is
 	 * added.
 	 */
-	private void computeRemainingRows(GrayF32 left, GrayF32 right )
+	private void computeRemainingRows( GrayF32 left, GrayF32 right , WorkSpace<DI> work , int firstRow , int lastRow )
 	{
-		for( int row = regionHeight; row < left.height; row++ ) {
-			int oldRow = row%regionHeight;
+		float verticalScore[] = work.verticalScore;
+
+		for( int row = firstRow+regionHeight; row < lastRow; row++ ) {
+			int oldRow = (row-firstRow)%regionHeight;
 
 			// subtract first row from vertical score
-			float scores[] = horizontalScore[oldRow];
+			float scores[] = work.horizontalScore[oldRow];
 			for( int i = 0; i < lengthHorizontal; i++ ) {
 				verticalScore[i] -= scores[i];
 			}
 
 			UtilDisparityScore.computeScoreRow(left, right, row, scores,
-					minDisparity,maxDisparity,regionWidth,elementScore);
+					minDisparity,maxDisparity,regionWidth,work.elementScore);
 
 			// add the new score
 			for( int i = 0; i < lengthHorizontal; i++ ) {
@@ -128,7 +182,7 @@ public class ImplDisparityScoreSadRect_F32<DI extends ImageGray<DI>>
 			}
 
 			// compute disparity
-			computeDisparity.process(row - regionHeight + 1 + radiusY, verticalScore);
+			work.computeDisparity.process(row - regionHeight + 1 + radiusY, verticalScore);
 		}
 	}
 
@@ -142,4 +196,30 @@ public class ImplDisparityScoreSadRect_F32<DI extends ImageGray<DI>>
 		return computeDisparity.getDisparityType();
 	}
 
+	/**
+	 * Scores and the disparity selector used to process a single band of rows
+	 */
+	public static class WorkSpace<DI extends ImageGray<DI>> {
+		// stores the local scores for the width of the region
+		float elementScore[];
+		// scores along horizontal axis for current block
+		// To allow right to left validation all disparity scores are stored for the entire row
+		// size = num columns * maxDisparity
+		// disparity for column i is stored in elements i*maxDisparity to (i+1)*maxDisparity
+		float horizontalScore[][];
+		// summed scores along vertical axis
+		// This is simply the sum of like elements in horizontal score
+		float verticalScore[];
+		// Computes disparity from scores for this band
+		DisparitySelect<float[], DI> computeDisparity;
+
+		void checkSize( int regionHeight , int lengthHorizontal , int width ) {
+			if( horizontalScore == null || verticalScore.length < lengthHorizontal ) {
+				horizontalScore = new float[regionHeight][lengthHorizontal];
+				verticalScore = new float[lengthHorizontal];
+			}
+			if( elementScore == null || elementScore.length < width )
+				elementScore = new float[ width ];
+		}
+	}
 }
@@ -20,8 +20,10 @@ package boofcv.alg.feature.disparity.impl;
 
 import boofcv.alg.feature.disparity.DisparityScoreSadRect;
 import boofcv.alg.feature.disparity.DisparitySelect;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.GrayS16;
 import boofcv.struct.image.ImageGray;
+import org.ddogleg.struct.FastQueue;
 
 /**
  * <p>
@@ -29,6 +31,13 @@ import boofcv.struct.image.ImageGray;
  * input images of type {@link GrayS16}.
  * </p>
  * <p>
+ * When {@link BoofConcurrency#USE_CONCURRENT} is true the image is split into bands of rows which are
+ * processed concurrently. Each band primes its own vertical sum using the rows above it. The first band uses
+ * the provided {@link DisparitySelect} and the other bands use a copy which is reused between images,
+ * see {@link DisparitySelect#concurrentCopy()}. If it can't be copied the image is processed in a
+ * single thread. The output is the same as when it's processed in a single thread.
+ * </p>
+ * <p>
  * DO NOT MODIFY. Generated by {@link GenerateDisparityScoreSadRect}.
  * </p>
  * 
@@ -38,19 +47,13 @@ public class ImplDisparityScoreSadRect_S16<DI extends ImageGray<DI>>
 	extends DisparityScoreSadRect<GrayS16, DI>
 {
 
-	// Computes disparity from scores
+	// Computes disparity from scores. Used by the first band of rows and copied for the other bands
 	DisparitySelect<int[], DI> computeDisparity;
+	// true if computeDisparity can be copied and rows can be processed concurrently
+	boolean concurrentSupported;
 
-	// stores the local scores for the width of the region
-	int elementScore[];
-	// scores along horizontal axis for current block
-	// To allow right to left validation all disparity scores are stored for the entire row
-	// size = num columns * maxDisparity
-	// disparity for column i is stored in elements i*maxDisparity to (i+1)*maxDisparity
-	int horizontalScore[][];
-	// summed scores along vertical axis
-	// This is simply the sum of like elements in horizontal score
-	int verticalScore[];
+	// Storage for each band of rows which is processed
+	FastQueue<WorkSpace<DI>> workspace = new FastQueue(WorkSpace.class,true);
 
 	public ImplDisparityScoreSadRect_S16( int minDisparity , int maxDisparity,
 										int regionRadiusX, int regionRadiusY,
@@ -58,36 +61,63 @@ public class ImplDisparityScoreSadRect_S16<DI extends ImageGray<DI>>
 		super(minDisparity,maxDisparity,regionRadiusX,regionRadiusY);
 
 		this.computeDisparity = computeDisparity;
+		this.concurrentSupported = computeDisparity.concurrentCopy() != null;
 	}
 
 	@Override
 	public void _process(GrayS16 left , GrayS16 right , DI disparity ) {
-		if( horizontalScore == null || verticalScore.length < lengthHorizontal ) {
-			horizontalScore = new int[regionHeight][lengthHorizontal];
-			verticalScore = new int[lengthHorizontal];
-			elementScore = new int[ left.width ];
+		// range of rows that a disparity is computed at
+		int row0 = radiusY;
+		int row1 = left.height-radiusY;
+
+		if( BoofConcurrency.USE_CONCURRENT && concurrentSupported ) {
+			BoofConcurrency.loopBlocks(row0,row1,regionHeight,workspace,(work,y0,y1)->
+					computeBlock(left,right,disparity,work,y0,y1));
+		} else if( row1 > row0 ) {
+			if( workspace.size == 0 )
+				workspace.grow();
+			computeBlock(left,right,disparity,workspace.get(0),row0,row1);
 		}
+	}
 
-		computeDisparity.configure(disparity,minDisparity,maxDisparity,radiusX);
+	/**
+	 * Computes the disparity for a band of rows
+	 *
+	 * @param row0 First row the disparity is computed at, inclusive
+	 * @param row1 Last row the disparity is computed at, exclusive
+	 */
+	private void computeBlock( GrayS16 left , GrayS16 right , DI disparity ,
+							   WorkSpace<DI> work , int row0 , int row1 ) {
+		work.checkSize(regionHeight,lengthHorizontal,left.width);
+		// The first band uses the original. Other bands reuse their copy once its configuration has been
+		// updated to match the original's, so changes to the original are never ignored
+		if( work == workspace.get(0) )
+			work.computeDisparity = computeDisparity;
+		else if( work.computeDisparity == null || !computeDisparity.updateConcurrentCopy(work.computeDisparity) )
+			work.computeDisparity = computeDisparity.concurrentCopy();
+		work.computeDisparity.configure(disparity,minDisparity,maxDisparity,radiusX);
 
 		// initialize computation
-		computeFirstRow(left, right);
+		computeFirstRow(left, right, work, row0-radiusY);
 		// efficiently compute rest of the rows using previous results to avoid repeat computations
-		computeRemainingRows(left, right);
+		computeRemainingRows(left, right, work, row0-radiusY, row1+radiusY);
 	}
 
 	/**
 	 * Initializes disparity calculation by finding the scores for the initial block of horizontal
 	 * rows.
 	 */
-	private void computeFirstRow(GrayS16 left, GrayS16 right ) {
+	private void computeFirstRow( GrayS16 left, GrayS16 right , WorkSpace<DI> work , int firstRow ) {
+		int horizontalScore[][] = work.horizontalScore;
+		int verticalScore[] = work.verticalScore;
+
 		// compute horizontal scores for first row block
 		for( int row = 0; row < regionHeight; row++ ) {
 
 			int scores[] = horizontalScore[row];
 
-			UtilDisparityScore.computeScoreRow(left, right, row, scores,
-					minDisparity,maxDisparity,regionWidth,elementScore);
+			UtilDisparityScore.computeScoreRow(left, right, firstRow+row, scores,
+					minDisparity,maxDisparity,regionWidth,work.elementScore);
 		}
 
 		// compute score for the top possible row
@@ -100,7 +130,7 @@ public class ImplDisparityScoreSadRect_S16<DI extends ImageGray<DI>>
 		}
 
 		// compute disparity
-		computeDisparity.process(radiusY, verticalScore);
+		work.computeDisparity.process(firstRow + radiusY, verticalScore);
 	}
 
 	/**
@@ -108,19 +138,21 @@ public class ImplDisparityScoreSadRect_S16<DI extends ImageGray<DI>>
 	 * When a new block is processes the last row/column is subtracted and the new row/column is
 	 * added.
 	 */
-	private void computeRemainingRows(GrayS16 left, GrayS16 right )
+	private void computeRemainingRows( GrayS16 left, GrayS16 right , WorkSpace<DI> work , int firstRow , int lastRow )
 	{
-		for( int row = regionHeight; row < left.height; row++ ) {
-			int oldRow = row%regionHeight;
+		int verticalScore[] = work.verticalScore;
+
+		for( int row = firstRow+regionHeight; row < lastRow; row++ ) {
+			int oldRow = (row-firstRow)%regionHeight;
 
 			// subtract first row from vertical score
-			int scores[] = horizontalScore[oldRow];
+			int scores[] = work.horizontalScore[oldRow];
 			for( int i = 0; i < lengthHorizontal; i++ ) {
 				verticalScore[i] -= scores[i];
 			}
 
 			UtilDisparityScore.computeScoreRow(left, right, row, scores,
-					minDisparity,maxDisparity,regionWidth,elementScore);
+					minDisparity,maxDisparity,regionWidth,work.elementScore);
 
 			// add the new score
 			for( int i = 0; i < lengthHorizontal; i++ ) {
@@ -128,7 +160,7 @@ public class ImplDisparityScoreSadRect_S16<DI extends ImageGray<DI>>
 			}
 
 			// compute disparity
-			computeDisparity.process(row - regionHeight + 1 + radiusY, verticalScore);
+			work.computeDisparity.process(row - regionHeight + 1 + radiusY, verticalScore);
 		}
 	}
 
@@ -142,4 +174,30 @@ public class ImplDisparityScoreSadRect_S16<DI extends ImageGray<DI>>
 		return computeDisparity.getDisparityType();
 	}
 
+	/**
+	 * Scores and the disparity selector used to process a single band of rows
+	 */
+	public static class WorkSpace<DI extends ImageGray<DI>> {
+		// stores the local scores for the width of the region
+		int elementScore[];
+		// scores along horizontal axis for current block
+		// To allow right to left validation all disparity scores are stored for the entire row
+		// size = num columns * maxDisparity
+		// disparity for column i is stored in elements i*maxDisparity to (i+1)*maxDisparity
+		int horizontalScore[][];
+		// summed scores along vertical axis
+		// This is simply the sum of like elements in horizontal score
+		int verticalScore[];
+		// Computes disparity from scores for this band
+		DisparitySelect<int[], DI> computeDisparity;
+
+		void checkSize( int regionHeight , int lengthHorizontal , int width ) {
+			if( horizontalScore == null || verticalScore.length < lengthHorizontal ) {
+				horizontalScore = new int[regionHeight][lengthHorizontal];
+				verticalScore = new int[lengthHorizontal];
+			}
+			if( elementScore == null || elementScore.length < width )
+				elementScore = new int[ width ];
+		}
+	}
 }
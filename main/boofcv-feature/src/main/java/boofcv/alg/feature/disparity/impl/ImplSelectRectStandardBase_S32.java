@@ -18,6 +18,7 @@
 
 package boofcv.alg.feature.disparity.impl;
 
+import boofcv.alg.feature.disparity.DisparitySelect;
 import boofcv.alg.feature.disparity.SelectRectStandard;
 import boofcv.struct.image.ImageGray;
 
@@ -53,6 +54,13 @@ public abstract class ImplSelectRectStandardBase_S32<T extends ImageGray<T>>
 		textureThreshold = (int)(discretizer*threshold);
 	}
 
+	@Override
+	public boolean updateConcurrentCopy( DisparitySelect<int[],T> copy ) {
+		super.updateConcurrentCopy(copy);
+		((ImplSelectRectStandardBase_S32<T>)copy).textureThreshold = textureThreshold;
+		return true;
+	}
+
 	@Override
 	public void configure(T imageDisparity, int minDisparity, int maxDisparity , int radiusX ) {
 		super.configure(imageDisparity,minDisparity,maxDisparity,radiusX);
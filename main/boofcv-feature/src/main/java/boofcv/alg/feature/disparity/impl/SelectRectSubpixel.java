@@ -18,6 +18,7 @@
 
 package boofcv.alg.feature.disparity.impl;
 
+import boofcv.alg.feature.disparity.DisparitySelect;
 import boofcv.struct.image.GrayF32;
 
 /**
@@ -47,6 +48,13 @@ public class SelectRectSubpixel {
 			super(maxError, rightToLeftTolerance, texture);
 		}
 
+		@Override
+		public DisparitySelect<int[],GrayF32> concurrentCopy() {
+			S32_F32 copy = new S32_F32(maxError,rightToLeftTolerance,0);
+			copy.textureThreshold = textureThreshold;
+			return copy;
+		}
+
 		@Override
 		protected void setDisparity(int index, int disparityValue) {
 
@@ -77,6 +85,13 @@ public class SelectRectSubpixel {
 			super(maxError, rightToLeftTolerance, texture);
 		}
 
+		@Override
+		public DisparitySelect<float[],GrayF32> concurrentCopy() {
+			F32_F32 copy = new F32_F32(maxError,rightToLeftTolerance,0);
+			copy.textureThreshold = textureThreshold;
+			return copy;
+		}
+
 		@Override
 		protected void setDisparity(int index, int disparityValue) {
 
@@ -20,6 +20,8 @@ package boofcv.alg.feature.disparity.impl;
 
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayS16;
+import boofcv.struct.image.GrayS32;
+import boofcv.struct.image.GrayS64;
 import boofcv.struct.image.GrayU8;
 
 /**
@@ -235,4 +237,139 @@ public class UtilDisparityScore {
 			elementScore[rCol] = Math.abs(diff);
 		}
 	}
+
+	/**
+	 * Computes disparity score for an entire row using the Hamming distance between binary descriptors, e.g.
+	 * the output of a census transform.  See {@link #computeScoreRow(GrayU8, GrayU8, int, int[], int, int, int, int[])}
+	 * for a description of the parameters.
+	 */
+	public static void computeScoreRowHamming(GrayU8 left, GrayU8 right, int row, int[] scores,
+											  int minDisparity , int maxDisparity , int regionWidth ,
+											  int elementScore[] ) {
+		for( int d = minDisparity; d < maxDisparity; d++ ) {
+			int dispFromMin = d - minDisparity;
+
+			final int colMax = left.width-d;
+			int indexLeft = left.startIndex + left.stride*row + d;
+			int indexRight = right.startIndex + right.stride*row;
+
+			computeElementHamming(left, right, colMax, indexLeft, indexRight, elementScore);
+
+			sumRegionScores(elementScore, colMax-regionWidth, regionWidth,
+					scores, left.width*dispFromMin + dispFromMin);
+		}
+	}
+
+	/**
+	 * Computes the number of bits which are different for each element in the row
+	 */
+	public static void computeElementHamming(GrayU8 left, GrayU8 right,
+											 int elementMax, int indexLeft, int indexRight,
+											 int elementScore[])
+	{
+		for( int rCol = 0; rCol < elementMax; rCol++ ) {
+			int valueLeft = left.data[ indexLeft++ ] & 0xFF;
+			int valueRight = right.data[ indexRight++ ] & 0xFF;
+
+			elementScore[rCol] = Integer.bitCount(valueLeft ^ valueRight);
+		}
+	}
+
+	/**
+	 * Computes disparity score for an entire row using the Hamming distance between binary descriptors, e.g.
+	 * the output of a census transform.  See {@link #computeScoreRow(GrayU8, GrayU8, int, int[], int, int, int, int[])}
+	 * for a description of the parameters.
+	 */
+	public static void computeScoreRowHamming(GrayS32 left, GrayS32 right, int row, int[] scores,
+											  int minDisparity , int maxDisparity , int regionWidth ,
+											  int elementScore[] ) {
+		for( int d = minDisparity; d < maxDisparity; d++ ) {
+			int dispFromMin = d - minDisparity;
+
+			final int colMax = left.width-d;
+			int indexLeft = left.startIndex + left.stride*row + d;
+			int indexRight = right.startIndex + right.stride*row;
+
+			computeElementHamming(left, right, colMax, indexLeft, indexRight, elementScore);
+
+			sumRegionScores(elementScore, colMax-regionWidth, regionWidth,
+					scores, left.width*dispFromMin + dispFromMin);
+		}
+	}
+
+	/**
+	 * Computes the number of bits which are different for each element in the row
+	 */
+	public static void computeElementHamming(GrayS32 left, GrayS32 right,
+											 int elementMax, int indexLeft, int indexRight,
+											 int elementScore[])
+	{
+		for( int rCol = 0; rCol < elementMax; rCol++ ) {
+			int valueLeft = left.data[ indexLeft++ ];
+			int valueRight = right.data[ indexRight++ ];
+
+			elementScore[rCol] = Integer.bitCount(valueLeft ^ valueRight);
+		}
+	}
+
+	/**
+	 * Computes disparity score for an entire row using the Hamming distance between binary descriptors, e.g.
+	 * the output of a census transform.  See {@link #computeScoreRow(GrayU8, GrayU8, int, int[], int, int, int, int[])}
+	 * for a description of the parameters.
+	 */
+	public static void computeScoreRowHamming(GrayS64 left, GrayS64 right, int row, int[] scores,
+											  int minDisparity , int maxDisparity , int regionWidth ,
+											  int elementScore[] ) {
+		for( int d = minDisparity; d < maxDisparity; d++ ) {
+			int dispFromMin = d - minDisparity;
+
+			final int colMax = left.width-d;
+			int indexLeft = left.startIndex + left.stride*row + d;
+			int indexRight = right.startIndex + right.stride*row;
+
+			computeElementHamming(left, right, colMax, indexLeft, indexRight, elementScore);
+
+			sumRegionScores(elementScore, colMax-regionWidth, regionWidth,
+					scores, left.width*dispFromMin + dispFromMin);
+		}
+	}
+
+	/**
+	 * Computes the number of bits which are different for each element in the row
+	 */
+	public static void computeElementHamming(GrayS64 left, GrayS64 right,
+											 int elementMax, int indexLeft, int indexRight,
+											 int elementScore[])
+	{
+		for( int rCol = 0; rCol < elementMax; rCol++ ) {
+			long valueLeft = left.data[ indexLeft++ ];
+			long valueRight = right.data[ indexRight++ ];
+
+			elementScore[rCol] = Long.bitCount(valueLeft ^ valueRight);
+		}
+	}
+
+	/**
+	 * Computes the score of each region along the row by summing the element scores inside a sliding window
+	 *
+	 * @param elementScore Scores of individual elements
+	 * @param scoreMax Number of regions after the first one
+	 * @param regionWidth Size of the sample region's width
+	 * @param scores Storage for disparity scores
+	 * @param indexScore Index of the first region in scores
+	 */
+	static void sumRegionScores( int elementScore[] , int scoreMax , int regionWidth ,
+								 int scores[] , int indexScore ) {
+		// score at the first column
+		int score = 0;
+		for( int i = 0; i < regionWidth; i++ )
+			score += elementScore[i];
+
+		scores[indexScore++] = score;
+
+		// scores for the remaining columns
+		for( int col = 0; col < scoreMax; col++ , indexScore++ ) {
+			scores[indexScore] = score += elementScore[col+regionWidth] - elementScore[col];
+		}
+	}
 }
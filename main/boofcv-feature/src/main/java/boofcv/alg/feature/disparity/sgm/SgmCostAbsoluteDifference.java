@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity.sgm;
+
+import boofcv.struct.image.GrayU8;
+
+/**
+ * Computes the cost as the absolute value of the difference in intensity between the two pixels.  This is
+ * the simplest and fastest cost but is sensitive to differences in gain and bias between the two cameras.
+ *
+ * @author Peter Abeles
+ */
+public class SgmCostAbsoluteDifference {
+
+	/**
+	 * Cost for {@link GrayU8} images.
+	 */
+	public static class U8 extends SgmCostBase<GrayU8> {
+		@Override
+		protected void computeDisparityErrors(int idxLeft, int idxRight, short[] elementCost, int idxCost, int localRange) {
+			int valueLeft = left.data[idxLeft] & 0xFF;
+			for( int d = 0; d < localRange; d++ ) {
+				int valueRight = right.data[idxRight-d] & 0xFF;
+				elementCost[idxCost+d] = (short)(MAX_COST*Math.abs(valueRight-valueLeft)/255);
+			}
+		}
+	}
+}
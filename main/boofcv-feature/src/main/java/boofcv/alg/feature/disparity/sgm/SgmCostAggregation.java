@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity.sgm;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayU16;
+import boofcv.struct.image.Planar;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_I32;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Aggregates the cost along different paths in the image, which is the second step in
+ * {@link SgmStereoDisparity Semi Global Matching}.  The aggregated cost is the sum of costs from each path.
+ * The cost along path r at pixel p and disparity d is computed using [1]:<br>
+ * L<sub>r</sub>(p,d) = C(p,d) + min(L<sub>r</sub>(p-r,d), L<sub>r</sub>(p-r,d&plusmn;1) + P1,
+ * min<sub>i</sub> L<sub>r</sub>(p-r,i) + P2) - min<sub>k</sub> L<sub>r</sub>(p-r,k)<br>
+ * where P1 and P2 are the penalties for small and large changes in disparity.
+ * </p>
+ *
+ * <p>
+ * Memory: Only the path cost at the previous pixel along each path is saved, so memory used by
+ * the path costs is proportional to the number of disparities and not the image size. Every path going in the same
+ * direction is independent and is processed concurrently when {@link BoofConcurrency#USE_CONCURRENT} is true.
+ * Since each pixel is visited exactly once per direction the results are identical to the single threaded version.
+ * </p>
+ *
+ * <p>
+ * [1] Hirschmuller, Heiko. "Stereo processing by semiglobal matching and mutual information."
+ * IEEE Transactions on pattern analysis and machine intelligence 30.2 (2007): 328-341.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class SgmCostAggregation {
+
+	// penalty for a change in disparity of 1
+	protected int penalty1 = 200;
+	// penalty for a change in disparity of more than 1
+	protected int penalty2 = 2000;
+	// number of paths. 4, 8, or 16
+	protected int pathsConsidered = 8;
+
+	// Sum of the cost along each path.  Same format as the cost volume
+	protected Planar<GrayU16> aggregated = new Planar<>(GrayU16.class,1,1,1);
+
+	// the cost volume
+	protected Planar<GrayU16> costYXD;
+	// shape of the input image and number of disparities
+	protected int width, height, rangeDisparity;
+
+	// first pixel in each path for the direction being processed. Stored as x,y pairs
+	protected GrowQueue_I32 starts = new GrowQueue_I32();
+
+	// storage for the path cost in each thread
+	protected FastQueue<Workspace> workspace = new FastQueue<>(Workspace.class,true);
+
+	/**
+	 * Aggregates the cost along all the paths
+	 *
+	 * @param costYXD (Input) cost volume computed by {@link SgmDisparityCost}.
+	 */
+	public void process( Planar<GrayU16> costYXD ) {
+		if( pathsConsidered*(SgmDisparityCost.MAX_COST+penalty2) > 0xFFFF )
+			throw new IllegalArgumentException("Aggregated cost could overflow. Reduce penalty2 or number of paths");
+
+		this.costYXD = costYXD;
+		this.height = costYXD.getNumBands();
+		this.width = costYXD.height;
+		this.rangeDisparity = costYXD.width;
+
+		aggregated.reshape(rangeDisparity,width,height);
+		for( int y = 0; y < height; y++ ) {
+			GrayU16 band = aggregated.getBand(y);
+			Arrays.fill(band.data,0,width*rangeDisparity,(short)0);
+		}
+
+		for( int[] direction : createDirections(pathsConsidered) ) {
+			aggregateDirection(direction[0],direction[1]);
+		}
+	}
+
+	/**
+	 * Returns the direction each path takes.
+	 */
+	static int[][] createDirections( int pathsConsidered ) {
+		int[][] all = new int[][]{
+				{1,0},{-1,0},{0,1},{0,-1},
+				{1,1},{-1,1},{1,-1},{-1,-1},
+				{2,1},{1,2},{-2,1},{-1,2},{2,-1},{1,-2},{-2,-1},{-1,-2}};
+		switch( pathsConsidered ) {
+			case 4: case 8: case 16: return Arrays.copyOf(all,pathsConsidered);
+			default: throw new IllegalArgumentException("Paths must be 4, 8, or 16");
+		}
+	}
+
+	/**
+	 * Computes the cost along every path which goes in the specified direction and adds it to the aggregated cost
+	 */
+	protected void aggregateDirection( int dx , int dy ) {
+		computeStartPoints(dx, dy);
+		final int numPaths = starts.size/2;
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			BoofConcurrency.loopBlocks(0,numPaths,workspace,(work,i0,i1)->{
+				work.checkSize(rangeDisparity);
+				for( int i = i0; i < i1; i++ ) {
+					scorePath(starts.data[i*2],starts.data[i*2+1],dx,dy,work);
+				}
+			});
+		} else {
+			if( workspace.size == 0 )
+				workspace.grow();
+			Workspace work = workspace.get(0);
+			work.checkSize(rangeDisparity);
+			for( int i = 0; i < numPaths; i++ ) {
+				scorePath(starts.data[i*2],starts.data[i*2+1],dx,dy,work);
+			}
+		}
+	}
+
+	/**
+	 * Finds every pixel where a path going in the specified direction starts.  A path starts at a pixel
+	 * if the previous pixel along the path is outside the image.
+	 */
+	void computeStartPoints( int dx , int dy ) {
+		starts.reset();
+		for( int y = 0; y < height; y++ ) {
+			if( y-dy < 0 || y-dy >= height ) {
+				for( int x = 0; x < width; x++ ) {
+					starts.add(x);
+					starts.add(y);
+				}
+			} else if( dx > 0 ) {
+				for( int x = 0; x < Math.min(dx,width); x++ ) {
+					starts.add(x);
+					starts.add(y);
+				}
+			} else if( dx < 0 ) {
+				for( int x = Math.max(0,width+dx); x < width; x++ ) {
+					starts.add(x);
+					starts.add(y);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Computes the cost along a single path and adds it to the aggregated cost
+	 *
+	 * @param x0 First pixel in the path. x-coordinate
+	 * @param y0 First pixel in the path. y-coordinate
+	 * @param dx Step along the x-axis
+	 * @param dy Step along the y-axis
+	 */
+	void scorePath( int x0 , int y0 , int dx , int dy , Workspace work ) {
+		int[] previous = work.previous;
+		int[] current = work.current;
+
+		// the path cost for the first pixel is the same as its cost
+		short[] cost = costYXD.getBand(y0).data;
+		short[] sum = aggregated.getBand(y0).data;
+		int idx = x0*rangeDisparity;
+		int minPrevious = Integer.MAX_VALUE;
+		for( int d = 0; d < rangeDisparity; d++ ) {
+			int c = cost[idx+d] & 0xFFFF;
+			previous[d] = c;
+			sum[idx+d] = (short)((sum[idx+d] & 0xFFFF) + c);
+			if( c < minPrevious )
+				minPrevious = c;
+		}
+
+		int x = x0 + dx;
+		int y = y0 + dy;
+		while( x >= 0 && x < width && y >= 0 && y < height ) {
+			cost = costYXD.getBand(y).data;
+			sum = aggregated.getBand(y).data;
+			idx = x*rangeDisparity;
+
+			final int largeChange = minPrevious + penalty2;
+			int minCurrent = Integer.MAX_VALUE;
+
+			for( int d = 0; d < rangeDisparity; d++ ) {
+				int best = previous[d];
+				if( d > 0 && previous[d-1] + penalty1 < best )
+					best = previous[d-1] + penalty1;
+				if( d+1 < rangeDisparity && previous[d+1] + penalty1 < best )
+					best = previous[d+1] + penalty1;
+				if( largeChange < best )
+					best = largeChange;
+
+				int l = (cost[idx+d] & 0xFFFF) + best - minPrevious;
+				current[d] = l;
+				sum[idx+d] = (short)((sum[idx+d] & 0xFFFF) + l);
+				if( l < minCurrent )
+					minCurrent = l;
+			}
+
+			int[] tmp = previous;
+			previous = current;
+			current = tmp;
+			minPrevious = minCurrent;
+
+			x += dx;
+			y += dy;
+		}
+	}
+
+	/**
+	 * Returns the aggregated cost.  Same format as the cost volume.
+	 */
+	public Planar<GrayU16> getAggregated() {
+		return aggregated;
+	}
+
+	public int getPenalty1() {
+		return penalty1;
+	}
+
+	public void setPenalty1(int penalty1) {
+		this.penalty1 = penalty1;
+	}
+
+	public int getPenalty2() {
+		return penalty2;
+	}
+
+	public void setPenalty2(int penalty2) {
+		this.penalty2 = penalty2;
+	}
+
+	public int getPathsConsidered() {
+		return pathsConsidered;
+	}
+
+	public void setPathsConsidered(int pathsConsidered) {
+		createDirections(pathsConsidered);
+		this.pathsConsidered = pathsConsidered;
+	}
+
+	/**
+	 * Storage for the path cost at the previous and current pixel
+	 */
+	public static class Workspace {
+		public int[] previous = new int[0];
+		public int[] current = new int[0];
+
+		public void checkSize( int rangeDisparity ) {
+			if( previous.length < rangeDisparity ) {
+				previous = new int[rangeDisparity];
+				current = new int[rangeDisparity];
+			}
+		}
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity.sgm;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayU16;
+import boofcv.struct.image.ImageGray;
+import boofcv.struct.image.Planar;
+
+/**
+ * Base class for {@link SgmDisparityCost} which computes the cost for each pixel independently.  Rows
+ * are processed concurrently when {@link BoofConcurrency#USE_CONCURRENT} is true.
+ *
+ * @author Peter Abeles
+ */
+public abstract class SgmCostBase<T extends ImageGray<T>> implements SgmDisparityCost<T> {
+	protected int minDisparity;
+	protected int rangeDisparity;
+
+	protected T left, right;
+	protected Planar<GrayU16> costYXD;
+
+	@Override
+	public void configure(int minDisparity, int rangeDisparity) {
+		if( minDisparity < 0 )
+			throw new IllegalArgumentException("minDisparity must be >= 0");
+		if( rangeDisparity <= 0 )
+			throw new IllegalArgumentException("rangeDisparity must be > 0");
+		this.minDisparity = minDisparity;
+		this.rangeDisparity = rangeDisparity;
+	}
+
+	@Override
+	public void process(T left, T right, Planar<GrayU16> costYXD) {
+		InputSanityCheck.checkSameShape(left,right);
+		if( rangeDisparity <= 0 )
+			throw new IllegalArgumentException("Must call configure() first");
+		this.left = left;
+		this.right = right;
+		this.costYXD = costYXD;
+
+		costYXD.reshape(rangeDisparity,left.width,left.height);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			BoofConcurrency.loopBlocks(0,left.height,this::computeRows);
+		} else {
+			computeRows(0,left.height);
+		}
+	}
+
+	/**
+	 * Computes the cost for every pixel inside the specified rows
+	 */
+	protected void computeRows( int y0 , int y1 ) {
+		for( int y = y0; y < y1; y++ ) {
+			GrayU16 costXD = costYXD.getBand(y);
+
+			int idxLeft = left.startIndex + y*left.stride;
+			int idxRight = right.startIndex + y*right.stride - minDisparity;
+			int idxCost = 0;
+
+			for( int x = 0; x < left.width; x++ , idxLeft++ , idxRight++, idxCost += rangeDisparity ) {
+				// number of disparities which don't go outside the right image
+				int localRange = Math.min(rangeDisparity,x-minDisparity+1);
+
+				if( localRange > 0 )
+					computeDisparityErrors(idxLeft,idxRight,costXD.data,idxCost,localRange);
+				else
+					localRange = 0;
+
+				for( int d = localRange; d < rangeDisparity; d++ ) {
+					costXD.data[idxCost+d] = (short)MAX_COST;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Computes the cost for a single pixel in the left image across all valid disparities
+	 *
+	 * @param idxLeft index of the pixel in the left image
+	 * @param idxRight index of the pixel in the right image at the minimum disparity.  Disparity d is at idxRight-d
+	 * @param elementCost Storage for the costs of this pixel
+	 * @param idxCost Index of disparity 0 in elementCost
+	 * @param localRange Number of disparities which need to be computed
+	 */
+	protected abstract void computeDisparityErrors( int idxLeft , int idxRight ,
+													short[] elementCost , int idxCost , int localRange );
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity.sgm;
+
+import boofcv.abst.filter.FilterImageInterface;
+import boofcv.struct.image.GrayU16;
+import boofcv.struct.image.ImageGray;
+import boofcv.struct.image.Planar;
+
+/**
+ * Applies a census transform to both input images and then computes the cost using
+ * {@link SgmCostHamming}. Census is robust to differences in gain and bias between the two cameras.
+ *
+ * @see boofcv.alg.transform.census.CensusTransform
+ *
+ * @author Peter Abeles
+ */
+public class SgmCostCensus<T extends ImageGray<T>, C extends ImageGray<C>> implements SgmDisparityCost<T> {
+
+	// computes the census transform
+	FilterImageInterface<T,C> census;
+	// computes the Hamming distance between the census descriptors
+	SgmCostHamming<C> hamming;
+
+	// storage for census transform of left and right images
+	C censusLeft, censusRight;
+
+	/**
+	 * Specifies the census transform and the cost
+	 *
+	 * @param census Census transform.  Must process the entire image.
+	 * @param hamming Hamming cost for the census transform's output type
+	 */
+	public SgmCostCensus( FilterImageInterface<T,C> census , SgmCostHamming<C> hamming ) {
+		if( census.getHorizontalBorder() != 0 || census.getVerticalBorder() != 0 )
+			throw new IllegalArgumentException("The census transform must process the image border");
+		this.census = census;
+		this.hamming = hamming;
+
+		censusLeft = census.getOutputType().createImage(1,1);
+		censusRight = census.getOutputType().createImage(1,1);
+	}
+
+	@Override
+	public void configure(int minDisparity, int rangeDisparity) {
+		hamming.configure(minDisparity,rangeDisparity);
+	}
+
+	@Override
+	public void process(T left, T right, Planar<GrayU16> costYXD) {
+		censusLeft.reshape(left.width,left.height);
+		censusRight.reshape(right.width,right.height);
+
+		census.process(left,censusLeft);
+		census.process(right,censusRight);
+
+		hamming.process(censusLeft,censusRight,costYXD);
+	}
+}
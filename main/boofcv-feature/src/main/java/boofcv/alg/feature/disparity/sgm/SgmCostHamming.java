@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity.sgm;
+
+import boofcv.struct.image.GrayS32;
+import boofcv.struct.image.GrayS64;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageGray;
+
+/**
+ * Computes the cost as the Hamming distance between two binary descriptors, e.g. the output of a
+ * {@link boofcv.alg.transform.census.CensusTransform}.  The Hamming distance is scaled by the number of bits
+ * in the descriptor so that the cost ranges from 0 to {@link #MAX_COST}.
+ *
+ * @author Peter Abeles
+ */
+public abstract class SgmCostHamming<T extends ImageGray<T>> extends SgmCostBase<T> {
+
+	// number of bits in the descriptor
+	protected int numBits;
+
+	protected SgmCostHamming( int numBits ) {
+		this.numBits = numBits;
+	}
+
+	public int getNumBits() {
+		return numBits;
+	}
+
+	/**
+	 * Descriptors with up to 8 bits stored in a {@link GrayU8}
+	 */
+	public static class U8 extends SgmCostHamming<GrayU8> {
+		public U8( int numBits ) {
+			super(numBits);
+		}
+
+		@Override
+		protected void computeDisparityErrors(int idxLeft, int idxRight, short[] elementCost, int idxCost, int localRange) {
+			int valueLeft = left.data[idxLeft] & 0xFF;
+			for( int d = 0; d < localRange; d++ ) {
+				int valueRight = right.data[idxRight-d] & 0xFF;
+				elementCost[idxCost+d] = (short)(MAX_COST*Integer.bitCount(valueLeft ^ valueRight)/numBits);
+			}
+		}
+	}
+
+	/**
+	 * Descriptors with up to 32 bits stored in a {@link GrayS32}
+	 */
+	public static class S32 extends SgmCostHamming<GrayS32> {
+		public S32( int numBits ) {
+			super(numBits);
+		}
+
+		@Override
+		protected void computeDisparityErrors(int idxLeft, int idxRight, short[] elementCost, int idxCost, int localRange) {
+			int valueLeft = left.data[idxLeft];
+			for( int d = 0; d < localRange; d++ ) {
+				int valueRight = right.data[idxRight-d];
+				elementCost[idxCost+d] = (short)(MAX_COST*Integer.bitCount(valueLeft ^ valueRight)/numBits);
+			}
+		}
+	}
+
+	/**
+	 * Descriptors with up to 64 bits stored in a {@link GrayS64}
+	 */
+	public static class S64 extends SgmCostHamming<GrayS64> {
+		public S64( int numBits ) {
+			super(numBits);
+		}
+
+		@Override
+		protected void computeDisparityErrors(int idxLeft, int idxRight, short[] elementCost, int idxCost, int localRange) {
+			long valueLeft = left.data[idxLeft];
+			for( int d = 0; d < localRange; d++ ) {
+				long valueRight = right.data[idxRight-d];
+				elementCost[idxCost+d] = (short)(MAX_COST*Long.bitCount(valueLeft ^ valueRight)/numBits);
+			}
+		}
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity.sgm;
+
+import boofcv.struct.image.GrayU16;
+import boofcv.struct.image.ImageGray;
+import boofcv.struct.image.Planar;
+
+/**
+ * <p>
+ * Computes the cost of matching each pixel in the left image to every allowed pixel in the right image.
+ * This is the first step in {@link SgmStereoDisparity Semi Global Matching}.  Costs are scaled to be from
+ * 0 to {@link #MAX_COST}.  Disparities which would go outside the right image are assigned {@link #MAX_COST}.
+ * </p>
+ *
+ * <p>
+ * Cost Volume Format: Each band in the {@link Planar} image corresponds to a row in the input image. Each row
+ * in a band is a column in the input image and each column in a band is a disparity relative to the minimum
+ * disparity.  Thus all the costs for a single pixel are next to each other in memory.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public interface SgmDisparityCost<T extends ImageGray<T>> {
+	/**
+	 * Maximum value a cost can have. Chosen so that the sum of path costs for 16 paths can't overflow
+	 * a 16-bit unsigned integer.
+	 */
+	int MAX_COST = 2047;
+
+	/**
+	 * Specifies the range of disparities which are considered
+	 *
+	 * @param minDisparity Minimum disparity, inclusive
+	 * @param rangeDisparity Number of disparities considered
+	 */
+	void configure( int minDisparity , int rangeDisparity );
+
+	/**
+	 * Computes the cost volume
+	 *
+	 * @param left (Input) left rectified image
+	 * @param right (Input) right rectified image
+	 * @param costYXD (Output) Cost volume.  Reshaped.
+	 */
+	void process( T left , T right , Planar<GrayU16> costYXD );
+}
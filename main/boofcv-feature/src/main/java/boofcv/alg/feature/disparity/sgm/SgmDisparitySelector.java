@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity.sgm;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayU16;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.Planar;
+import org.ddogleg.struct.FastQueue;
+
+/**
+ * <p>
+ * Selects the disparity with the smallest aggregated cost, i.e. winner takes all, which is the last step in
+ * {@link SgmStereoDisparity Semi Global Matching}.  Disparities are optionally validated using the same filters
+ * as {@link boofcv.alg.feature.disparity.SelectRectStandard}.
+ * </p>
+ *
+ * <p>
+ * Validation Filters:<br>
+ * <b>right To Left</b> validates the disparity by seeing if the matched pixel on the right has the same pixel on
+ * the left as its optimal solution, within tolerance.<br>
+ * <b>texture</b> Tolerance for how similar the best disparity is to the second best. Lower values indicate greater
+ * tolerance.  Reject if textureTol &ge; (C2-C1)/C1, where C2 = second best cost and C1 = best cost
+ * </p>
+ *
+ * <p>
+ * The output disparity is relative to the minimum disparity.  Invalid pixels are assigned a value of
+ * rangeDisparity+1.  Rows are processed concurrently when {@link BoofConcurrency#USE_CONCURRENT} is true.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class SgmDisparitySelector {
+	// tolerance for right to left validation. if < 0 then it's disabled
+	protected int rightToLeftTolerance = 1;
+	// tolerance for how similar the best and second best costs can be. if <= 0 then it's disabled
+	protected double textureThreshold = 0.0;
+
+	protected int minDisparity;
+	protected int rangeDisparity;
+	// value assigned to invalid pixels
+	protected int invalidDisparity;
+	protected int width, height;
+
+	protected Planar<GrayU16> aggregatedYXD;
+
+	// storage for each thread
+	protected FastQueue<RowWork> work = new FastQueue<>(RowWork.class,true);
+
+	/**
+	 * Selects the best disparity for each pixel
+	 *
+	 * @param minDisparity Minimum disparity in the cost volume
+	 * @param aggregatedYXD (Input) Aggregated cost volume
+	 * @param disparity (Output) Selected disparity relative to the minimum disparity.  Reshaped.
+	 */
+	public void select( int minDisparity , Planar<GrayU16> aggregatedYXD , GrayU8 disparity ) {
+		this.minDisparity = minDisparity;
+		this.aggregatedYXD = aggregatedYXD;
+		this.height = aggregatedYXD.getNumBands();
+		this.width = aggregatedYXD.height;
+		this.rangeDisparity = aggregatedYXD.width;
+		this.invalidDisparity = rangeDisparity+1;
+		if( invalidDisparity > 255 )
+			throw new IllegalArgumentException("Disparity range is too large to be stored in a GrayU8. Max 254");
+
+		disparity.reshape(width,height);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			BoofConcurrency.loopBlocks(0,height,work,(rowWork,y0,y1)->{
+				rowWork.checkSize(width);
+				for( int y = y0; y < y1; y++ ) {
+					selectRow(y,disparity,rowWork);
+				}
+			});
+		} else {
+			if( work.size == 0 )
+				work.grow();
+			RowWork rowWork = work.get(0);
+			rowWork.checkSize(width);
+			for( int y = 0; y < height; y++ ) {
+				selectRow(y,disparity,rowWork);
+			}
+		}
+	}
+
+	/**
+	 * Selects the disparity for each pixel in the specified row
+	 */
+	protected void selectRow( int y , GrayU8 disparity , RowWork rowWork ) {
+		short[] cost = aggregatedYXD.getBand(y).data;
+
+		if( rightToLeftTolerance >= 0 )
+			selectRightToLeft(cost,rowWork.bestRightToLeft);
+
+		int indexOut = disparity.startIndex + y*disparity.stride;
+		for( int x = 0; x < width; x++ ) {
+			int localRange = Math.min(rangeDisparity,x-minDisparity+1);
+			int bestDisparity = invalidDisparity;
+
+			if( localRange > 0 ) {
+				int idx = x*rangeDisparity;
+				bestDisparity = 0;
+				int bestScore = cost[idx] & 0xFFFF;
+				for( int d = 1; d < localRange; d++ ) {
+					int s = cost[idx+d] & 0xFFFF;
+					if( s < bestScore ) {
+						bestScore = s;
+						bestDisparity = d;
+					}
+				}
+
+				if( rightToLeftTolerance >= 0 ) {
+					int disparityRtoL = rowWork.bestRightToLeft[x-minDisparity-bestDisparity];
+					if( Math.abs(disparityRtoL-bestDisparity) > rightToLeftTolerance )
+						bestDisparity = invalidDisparity;
+				}
+
+				if( textureThreshold > 0 && bestDisparity != invalidDisparity && localRange >= 3 ) {
+					// find the second best disparity value and exclude its neighbors
+					int secondBest = Integer.MAX_VALUE;
+					for( int d = 0; d < bestDisparity-1; d++ ) {
+						secondBest = Math.min(secondBest,cost[idx+d] & 0xFFFF);
+					}
+					for( int d = bestDisparity+2; d < localRange; d++ ) {
+						secondBest = Math.min(secondBest,cost[idx+d] & 0xFFFF);
+					}
+
+					// similar scores indicate lack of texture
+					// C = (C2-C1)/C1
+					if( secondBest-bestScore <= textureThreshold*bestScore )
+						bestDisparity = invalidDisparity;
+				}
+			}
+
+			disparity.data[indexOut++] = (byte)bestDisparity;
+		}
+	}
+
+	/**
+	 * For each pixel in the right image, find the disparity with the smallest cost
+	 */
+	protected void selectRightToLeft( short[] cost , int[] bestRightToLeft ) {
+		for( int xr = 0; xr < width-minDisparity; xr++ ) {
+			int localRange = Math.min(rangeDisparity,width-minDisparity-xr);
+
+			int idx = (xr+minDisparity)*rangeDisparity;
+			int bestDisparity = 0;
+			int bestScore = cost[idx] & 0xFFFF;
+			for( int d = 1; d < localRange; d++ ) {
+				idx += rangeDisparity+1;
+				int s = cost[idx] & 0xFFFF;
+				if( s < bestScore ) {
+					bestScore = s;
+					bestDisparity = d;
+				}
+			}
+			bestRightToLeft[xr] = bestDisparity;
+		}
+	}
+
+	public int getRightToLeftTolerance() {
+		return rightToLeftTolerance;
+	}
+
+	public void setRightToLeftTolerance(int rightToLeftTolerance) {
+		this.rightToLeftTolerance = rightToLeftTolerance;
+	}
+
+	public double getTextureThreshold() {
+		return textureThreshold;
+	}
+
+	public void setTextureThreshold(double textureThreshold) {
+		this.textureThreshold = textureThreshold;
+	}
+
+	public int getInvalidDisparity() {
+		return invalidDisparity;
+	}
+
+	/**
+	 * Storage for processing a single row
+	 */
+	public static class RowWork {
+		public int[] bestRightToLeft = new int[0];
+
+		public void checkSize( int width ) {
+			if( bestRightToLeft.length < width )
+				bestRightToLeft = new int[width];
+		}
+	}
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity.sgm;
+
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU16;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageGray;
+import boofcv.struct.image.Planar;
+
+/**
+ * <p>
+ * Semi Global Matching (SGM) [1] computes a dense disparity image by approximating a global 2D smoothness
+ * constraint with the sum of 1D constraints along several paths through the image.  Compared to block matching
+ * it produces less noisy disparity in regions with little texture and preserves object boundaries better.
+ * </p>
+ *
+ * <p>
+ * Processing Steps:
+ * <ol>
+ *     <li>{@link SgmDisparityCost} computes the cost of matching each pixel at each disparity</li>
+ *     <li>{@link SgmCostAggregation} sums the cost along 4, 8, or 16 paths</li>
+ *     <li>{@link SgmDisparitySelector} selects the disparity with the lowest cost and validates it</li>
+ *     <li>Optionally, the disparity is refined to sub-pixel accuracy using {@link #subpixel(GrayF32)}</li>
+ * </ol>
+ * Memory used is proportional to the image width*height*rangeDisparity since the cost volume and aggregated
+ * cost are both stored as 16-bit integers.
+ * </p>
+ *
+ * <p>
+ * The disparity image has the same format as {@link boofcv.abst.feature.disparity.StereoDisparity}.
+ * </p>
+ *
+ * <p>
+ * [1] Hirschmuller, Heiko. "Stereo processing by semiglobal matching and mutual information."
+ * IEEE Transactions on pattern analysis and machine intelligence 30.2 (2007): 328-341.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class SgmStereoDisparity<T extends ImageGray<T>> {
+
+	protected SgmDisparityCost<T> cost;
+	protected SgmCostAggregation aggregation;
+	protected SgmDisparitySelector selector;
+
+	// range of disparities which are considered
+	protected int minDisparity;
+	protected int rangeDisparity;
+
+	// the cost volume
+	protected Planar<GrayU16> costYXD = new Planar<>(GrayU16.class,1,1,1);
+	// output disparity image
+	protected GrayU8 disparity = new GrayU8(1,1);
+
+	public SgmStereoDisparity(SgmDisparityCost<T> cost,
+							  SgmCostAggregation aggregation,
+							  SgmDisparitySelector selector) {
+		this.cost = cost;
+		this.aggregation = aggregation;
+		this.selector = selector;
+	}
+
+	/**
+	 * Specifies the range of disparities which are considered
+	 *
+	 * @param minDisparity Minimum disparity. &ge; 0
+	 * @param rangeDisparity Number of disparities considered. 1 to 254
+	 */
+	public void configure( int minDisparity , int rangeDisparity ) {
+		if( rangeDisparity <= 0 || rangeDisparity > 254 )
+			throw new IllegalArgumentException("rangeDisparity must be from 1 to 254");
+		this.minDisparity = minDisparity;
+		this.rangeDisparity = rangeDisparity;
+		cost.configure(minDisparity,rangeDisparity);
+	}
+
+	/**
+	 * Computes the disparity between the two rectified images
+	 *
+	 * @param left (Input) left rectified image
+	 * @param right (Input) right rectified image
+	 */
+	public void process( T left , T right ) {
+		if( rangeDisparity <= 0 )
+			throw new IllegalArgumentException("Must call configure() first");
+
+		cost.process(left,right,costYXD);
+		aggregation.process(costYXD);
+		selector.select(minDisparity,aggregation.getAggregated(),disparity);
+	}
+
+	/**
+	 * Refines the disparity to sub-pixel accuracy by fitting a parabola to the aggregated cost around the
+	 * selected disparity.  Must call {@link #process} first.
+	 *
+	 * d_sub = d + (C0 - C2)/(2*(C0 - 2*C1 + C2)
+	 *
+	 * @param output (Output) Disparity with sub-pixel accuracy.  Reshaped.
+	 */
+	public void subpixel( GrayF32 output ) {
+		Planar<GrayU16> aggregated = aggregation.getAggregated();
+		int invalid = selector.getInvalidDisparity();
+
+		output.reshape(disparity.width,disparity.height);
+		for( int y = 0; y < disparity.height; y++ ) {
+			short[] costXD = aggregated.getBand(y).data;
+			int indexIn = disparity.startIndex + y*disparity.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			for( int x = 0; x < disparity.width; x++ ) {
+				int d = disparity.data[indexIn++] & 0xFF;
+				int localRange = Math.min(rangeDisparity,x-minDisparity+1);
+
+				if( d == invalid || d <= 0 || d >= localRange-1 ) {
+					output.data[indexOut++] = d;
+				} else {
+					int idx = x*rangeDisparity + d;
+					int c0 = costXD[idx-1] & 0xFFFF;
+					int c1 = costXD[idx] & 0xFFFF;
+					int c2 = costXD[idx+1] & 0xFFFF;
+
+					int denominator = 2*(c0-2*c1+c2);
+					float offset = denominator == 0 ? 0 : (float)(c0-c2)/(float)denominator;
+					output.data[indexOut++] = d + offset;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the disparity image.  See {@link SgmDisparitySelector} for the format.
+	 */
+	public GrayU8 getDisparity() {
+		return disparity;
+	}
+
+	public Planar<GrayU16> getCostYXD() {
+		return costYXD;
+	}
+
+	public SgmDisparityCost<T> getCost() {
+		return cost;
+	}
+
+	public SgmCostAggregation getAggregation() {
+		return aggregation;
+	}
+
+	public SgmDisparitySelector getSelector() {
+		return selector;
+	}
+
+	public int getMinDisparity() {
+		return minDisparity;
+	}
+
+	public int getRangeDisparity() {
+		return rangeDisparity;
+	}
+}
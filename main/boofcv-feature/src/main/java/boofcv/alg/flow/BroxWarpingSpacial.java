@@ -23,6 +23,7 @@ import boofcv.abst.filter.derivative.ImageHessian;
 import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.alg.misc.ImageMiscOps;
 import boofcv.alg.misc.PixelMath;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.factory.filter.derivative.FactoryDerivative;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.ImageGray;
@@ -117,6 +118,9 @@ public class BroxWarpingSpacial<T extends ImageGray<T>> extends DenseFlowPyramid
 	protected GrayF32 du = new GrayF32(1,1);
 	protected GrayF32 dv = new GrayF32(1,1);
 
+	// change in the motion increments for each row during an SOR iteration
+	private float[] rowErrors = new float[0];
+
 	/**
 	 * Configures flow estimation
 	 *
@@ -133,6 +137,7 @@ public class BroxWarpingSpacial<T extends ImageGray<T>> extends DenseFlowPyramid
 		this.numInner = config.numInner;
 		this.maxIterationsSor = config.maxIterationsSor;
 		this.convergeTolerance = config.convergeToleranceSor;
+		this.warmStart = config.warmStart;
 	}
 
 	/**
@@ -160,6 +165,10 @@ public class BroxWarpingSpacial<T extends ImageGray<T>> extends DenseFlowPyramid
 			if( !first ) {
 				// interpolate initial flow from previous layer
 				interpolateFlowScale(layer1.width, layer1.height);
+			} else if( isPreviousFlowUsable(flowU,image1) ) {
+				// scale down the flow found for the previous images
+				first = false;
+				interpolateFlowScale(layer1.width, layer1.height);
 			} else {
 				// for the very first layer there is no information on flow so set everything to 0
 				first = false;
@@ -242,7 +251,9 @@ public class BroxWarpingSpacial<T extends ImageGray<T>> extends DenseFlowPyramid
 								GrayF32 deriv2XX , GrayF32 deriv2YY, GrayF32 deriv2XY) {
 
 		int N = image1.width*image1.height;
-		int stride = image1.stride;
+
+		if( rowErrors.length < image1.height )
+			rowErrors = new float[image1.height];
 
 		// outer Taylor expansion iterations
 		for( int indexOuter = 0; indexOuter < numOuter; indexOuter++ ) {
@@ -280,35 +291,7 @@ public class BroxWarpingSpacial<T extends ImageGray<T>> extends DenseFlowPyramid
 
 				do {
 					// inner SOR iteration.
-					error = 0;
-
-					// inner portion
-					for (int y = 1; y < image1.height - 1; y++) {
-						int i = y * image1.width + 1;
-						for (int x = 1; x < image1.width - 1; x++, i++) {
-							error += iterationSor(image1, deriv1X, deriv1Y, i, i + 1, i - 1, i + stride, i - stride);
-						}
-					}
-
-					// border regions require special treatment
-					int y0 = 0;
-					int y1 = image1.height-1;
-					for (int x = 0; x < image1.width; x++ ) {
-						error += iterationSor(image1, deriv1X, deriv1Y,
-								s(x, y0), s(x + 1, y0), s(x - 1, y0), s(x, y0 - 1), s(x, y0 + 1));
-
-						error += iterationSor(image1, deriv1X, deriv1Y,
-								s(x, y1), s(x + 1, y1), s(x - 1, y1), s(x, y1 - 1), s(x, y1 + 1));
-					}
-
-					int x0 = 0;
-					int x1 = image1.width-1;
-					for (int y = 1; y < image1.height - 1; y++) {
-						error += iterationSor(image1, deriv1X, deriv1Y,
-								s(x0, y), s(x0 - 1, y), s(x0 + 1, y), s(x0, y - 1), s(x0, y + 1));
-						error += iterationSor(image1, deriv1X, deriv1Y,
-								s(x1, y), s(x1 - 1, y), s(x1 + 1, y), s(x1, y - 1), s(x1, y + 1));
-					}
+					error = iterationSorImage(image1, deriv1X, deriv1Y);
 				} while (error > convergeTolerance * image1.width * image1.height && ++iter < maxIterationsSor);
 			}
 
@@ -318,6 +301,68 @@ public class BroxWarpingSpacial<T extends ImageGray<T>> extends DenseFlowPyramid
 		}
 	}
 
+	/**
+	 * Performs a single SOR iteration across the whole image using a red-black ordering of the pixels.  First the
+	 * pixels with an even x+y are updated then the pixels with an odd x+y.  The update of a pixel only depends on
+	 * its 4-connected neighbors, which have the other color, so pixels with the same color are independent and rows
+	 * are processed concurrently.
+	 *
+	 * @return sum of the squared change in the motion increments
+	 */
+	protected float iterationSorImage( GrayF32 image1 , GrayF32 deriv1X , GrayF32 deriv1Y ) {
+		Arrays.fill(rowErrors,0,image1.height,0);
+
+		for( int parity = 0; parity < 2; parity++ ) {
+			final int color = parity;
+
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				BoofConcurrency.loopBlocks(0,image1.height,(y0,y1)->{
+					for( int y = y0; y < y1; y++ ) {
+						rowErrors[y] += iterationSorRow(image1,deriv1X,deriv1Y,y,color);
+					}
+				});
+			} else {
+				for( int y = 0; y < image1.height; y++ ) {
+					rowErrors[y] += iterationSorRow(image1,deriv1X,deriv1Y,y,color);
+				}
+			}
+		}
+
+		// sum the errors in a fixed order so that the number of iterations doesn't depend on the number of threads
+		float error = 0;
+		for( int y = 0; y < image1.height; y++ ) {
+			error += rowErrors[y];
+		}
+		return error;
+	}
+
+	/**
+	 * SOR iteration for all the pixels in a row which have the specified color
+	 *
+	 * @param color 0 = pixels with an even x+y, 1 = pixels with an odd x+y
+	 * @return sum of the squared change in the motion increments
+	 */
+	private float iterationSorRow( GrayF32 image1 , GrayF32 deriv1X , GrayF32 deriv1Y , int y , int color ) {
+		float error = 0;
+
+		// border regions require special treatment
+		boolean borderRow = y == 0 || y == image1.height-1;
+		int x1 = image1.width-1;
+		int stride = image1.stride;
+
+		for( int x = (y+color)%2; x < image1.width; x += 2 ) {
+			if( borderRow || x == 0 || x == x1 ) {
+				error += iterationSor(image1, deriv1X, deriv1Y,
+						s(x, y), s(x + 1, y), s(x - 1, y), s(x, y + 1), s(x, y - 1));
+			} else {
+				int i = y * image1.width + x;
+				error += iterationSor(image1, deriv1X, deriv1Y, i, i + 1, i - 1, i + stride, i - stride);
+			}
+		}
+
+		return error;
+	}
+
 	/**
 	 * Inner SOR iteration step
 	 *
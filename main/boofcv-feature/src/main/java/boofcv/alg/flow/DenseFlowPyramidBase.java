@@ -52,6 +52,9 @@ public abstract class DenseFlowPyramidBase<T extends ImageGray<T>> {
 	// Used to interpolate values between pixels
 	protected InterpolatePixelS<GrayF32> interp;// todo remove
 
+	// if true the flow from the previous pair of images is used as the initial estimate
+	protected boolean warmStart = false;
+
 	public DenseFlowPyramidBase(double scale, double sigma, int maxLayers,
 								InterpolatePixelS<GrayF32> interp ) {
 		this.scale = scale;
@@ -146,6 +149,30 @@ public abstract class DenseFlowPyramidBase<T extends ImageGray<T>> {
 	 */
 	public abstract void process(ImagePyramid<GrayF32> image1 , ImagePyramid<GrayF32> image2 );
 
+	/**
+	 * Returns true if warm start is enabled and the previously found flow can be used as the initial estimate
+	 *
+	 * @param flowX Previously found flow along the x-axis
+	 * @param image1 Pyramid of the first image which is being processed
+	 */
+	protected boolean isPreviousFlowUsable( GrayF32 flowX , ImagePyramid<GrayF32> image1 ) {
+		GrayF32 layer = image1.getLayer(0);
+		return warmStart && flowX.width == layer.width && flowX.height == layer.height;
+	}
+
+	public boolean isWarmStart() {
+		return warmStart;
+	}
+
+	/**
+	 * If true then the flow found for the previous pair of images is used as the initial estimate at the top layer
+	 * of the pyramid, instead of zero.  When processing video where the motion changes slowly this can reduce the
+	 * number of iterations needed to converge.  The previous flow is ignored if the image size has changed.
+	 */
+	public void setWarmStart(boolean warmStart) {
+		this.warmStart = warmStart;
+	}
+
 	/**
 	 * Function to normalize the images between 0 and 255.
 	 **/
@@ -19,14 +19,14 @@
 package boofcv.alg.flow;
 
 import boofcv.alg.InputSanityCheck;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.struct.flow.ImageFlow;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageGray;
 import boofcv.struct.pyramid.ImagePyramid;
-
-import java.util.Arrays;
+import org.ddogleg.struct.FastQueue;
 
 /**
  * <p>
@@ -34,10 +34,9 @@ import java.util.Arrays;
  * Flow estimates from higher layers in the pyramid are used to provide an initial estimate flow lower layers.
  * For each pixel in the 'prev' image, a square region centered around it is compared against
  * all other regions within the specified search radius of it
- * in image 'curr'.  For each candidate flow the error is computed.  After the best score has been found each local
- * pixel which contributed to that square region is checked.  When a pixel is checked its current score compared
- * to see if it's better than the score it was previously assigned (if any) then its flow and score will be set to
- * the current.  This improves the handled along object edges.  If only the flow is considered when a pixel is the
+ * in image 'curr'.  For each candidate flow the error is computed.  After the best flow has been found for every
+ * region, each pixel is assigned the flow with the best score out of all the regions which contain it.
+ * This improves the handled along object edges.  If only the flow is considered when a pixel is the
  * center then it almost always fails at edges.
  * </p>
  *
@@ -47,8 +46,8 @@ import java.util.Arrays;
  * </p>
  *
  * <p>
- * By checking all pixels associated with the score and not just the center one to see if it has a better
- * score the edges of objects is handled better.
+ * Both steps are computed in row blocks using {@link BoofConcurrency}.  Since each pixel only reads the flow of
+ * regions and never writes to its neighbors the results are identical to the single threaded case.
  * </p>
  *
  * @author Peter Abeles
@@ -60,20 +59,23 @@ public abstract class DenseOpticalFlowBlockPyramid<T extends ImageGray<T>> {
 	// radius of the square region it is searching with
 	protected int regionRadius;
 
-	// storage for the region in 'prev'
-	protected T template;
+	// storage for the region in 'prev'. One for each thread
+	protected FastQueue<T> templates;
 
 	// maximum allowed error between two regions for it to be a valid flow
 	protected int maxError;
 
+	// if true the flow from the previous pair of images is used as the initial estimate in the top layer
+	protected boolean warmStart = false;
+
 	// flow in the previous layer
 	protected ImageFlow flowPrevLayer = new ImageFlow(1,1);
 	// flow in the current layer
 	protected ImageFlow flowCurrLayer = new ImageFlow(1,1);
 
-	protected ImageFlow.D tmp = new ImageFlow.D();
-
-	// fit score for each pixel
+	// flow found for each pixel when it's the center of the region
+	protected ImageFlow flowCenter = new ImageFlow(1,1);
+	// fit score for each pixel when it's the center of the region
 	protected float scores[] = new float[0];
 
 	/**
@@ -89,10 +91,15 @@ public abstract class DenseOpticalFlowBlockPyramid<T extends ImageGray<T>> {
 		this.searchRadius = searchRadius;
 		this.regionRadius = regionRadius;
 
-		int w = regionRadius*2+1;
+		final int w = regionRadius*2+1;
 		maxError = maxPerPixelError*w*w;
 
-		template = GeneralizedImageOps.createSingleBand(imageType,w, w);
+		templates = new FastQueue<T>(imageType,true) {
+			@Override
+			protected T createInstance() {
+				return GeneralizedImageOps.createSingleBand(imageType,w, w);
+			}
+		};
 	}
 
 	/**
@@ -112,69 +119,160 @@ public abstract class DenseOpticalFlowBlockPyramid<T extends ImageGray<T>> {
 			T curr = pyramidCurr.getLayer(i);
 
 			flowCurrLayer.reshape(prev.width, prev.height);
+			flowCenter.reshape(prev.width, prev.height);
 
 			int N = prev.width*prev.height;
 			if( scores.length < N )
 				scores = new float[N];
-			// mark all the scores as being very large so that if it has not been processed its score
-			// will be set inside of checkNeighbors.
-			Arrays.fill(scores,0,N,Float.MAX_VALUE);
 
-			int x1 = prev.width-regionRadius;
-			int y1 = prev.height-regionRadius;
+			// flow from a lower resolution image which is used as the starting point of the search
+			final ImageFlow hint;
+			final double scale;
+			// if true then pixels without a valid hint are skipped
+			final boolean requireHint;
 
 			if( i == numLayers-1 ) {
-				// the top most layer in the pyramid has no hint
-				for( int y = regionRadius; y < y1; y++ ) {
-					for( int x = regionRadius; x < x1; x++ ) {
-						extractTemplate(x,y,prev);
-						float score = findFlow(x,y,curr,tmp);
-
-						if( tmp.isValid() )
-							checkNeighbors(x,y,tmp, flowCurrLayer,score);
-						else
-							flowCurrLayer.unsafe_get(x, y).markInvalid();
-					}
+				// the top most layer in the pyramid has no hint, unless the flow from the previous images is used
+				T full = pyramidPrev.getLayer(0);
+				if( warmStart && flowPrevLayer.width == full.width && flowPrevLayer.height == full.height ) {
+					hint = flowPrevLayer;
+					scale = pyramidPrev.getScale(0)/pyramidPrev.getScale(i);
+				} else {
+					hint = null;
+					scale = 1;
 				}
+				requireHint = false;
 			} else {
 				// for all the other layers use the hint of the previous layer to start its search
-				double scale = pyramidPrev.getScale(i+1)/pyramidPrev.getScale(i);
-				for( int y = regionRadius; y < y1; y++ ) {
-					for( int x = regionRadius; x < x1; x++ ) {
-						// grab the flow in higher level pyramid
-						ImageFlow.D p = flowPrevLayer.get((int)(x/scale),(int)(y/scale));
-						if( !p.isValid() )
-							continue;
+				hint = flowPrevLayer;
+				scale = pyramidPrev.getScale(i+1)/pyramidPrev.getScale(i);
+				requireHint = true;
+			}
 
-						// get the template around the current point in this layer
-						extractTemplate(x,y,prev);
+			// find the flow when each pixel is the center of the region, then select the best flow out of all the
+			// regions each pixel is contained inside of
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				BoofConcurrency.loopBlocks(regionRadius,prev.height-regionRadius,templates,(template,y0,y1)->
+						findCenterFlow(prev,curr,template,hint,scale,requireHint,y0,y1));
+				BoofConcurrency.loopBlocks(0,prev.height,(y0,y1)->selectBestFlow(y0,y1));
+			} else {
+				if( templates.size == 0 )
+					templates.grow();
+				findCenterFlow(prev,curr,templates.get(0),hint,scale,requireHint,regionRadius,prev.height-regionRadius);
+				selectBestFlow(0,prev.height);
+			}
+
+			// swap the flow images
+			ImageFlow tmp = flowPrevLayer;
+			flowPrevLayer = flowCurrLayer;
+			flowCurrLayer = tmp;
+		}
+	}
 
+	/**
+	 * Finds the flow for each pixel in the specified rows when the pixel is the center of the region
+	 *
+	 * @param template Storage for the template
+	 * @param hint Flow from a lower resolution image which is used as the search's starting point. Can be null.
+	 * @param scale Ratio between the hint's resolution and this layer's resolution
+	 * @param requireHint If true then pixels without a valid hint are marked as invalid
+	 * @param y0 First row, inclusive
+	 * @param y1 Last row, exclusive
+	 */
+	protected void findCenterFlow( T prev , T curr , T template ,
+								   ImageFlow hint , double scale , boolean requireHint ,
+								   int y0 , int y1 ) {
+		int x1 = prev.width-regionRadius;
+
+		for( int y = y0; y < y1; y++ ) {
+			int index = y*prev.width + regionRadius;
+			for( int x = regionRadius; x < x1; x++ , index++ ) {
+				ImageFlow.D flow = flowCenter.data[index];
+
+				int deltaX = 0, deltaY = 0;
+				if( hint != null ) {
+					// grab the flow in higher level pyramid
+					int hx = Math.min(hint.width-1,(int)(x/scale));
+					int hy = Math.min(hint.height-1,(int)(y/scale));
+					ImageFlow.D p = hint.unsafe_get(hx,hy);
+					if( p.isValid() ) {
 						// add the flow from the higher layer (adjusting for scale and rounding) as the start of
 						// this search
-						int deltaX = (int)(p.x*scale+0.5);
-						int deltaY = (int)(p.y*scale+0.5);
+						deltaX = (int)(p.x*scale+0.5);
+						deltaY = (int)(p.y*scale+0.5);
+					} else if( requireHint ) {
+						flow.markInvalid();
+						continue;
+					}
+				}
+
+				// get the template around the current point in this layer
+				extractTemplate(x,y,prev,template);
+
+				scores[index] = findFlow(x+deltaX,y+deltaY,curr,template,flow);
 
-						int startX = x + deltaX;
-						int startY = y + deltaY;
+				// find flow only does it relative to the starting point
+				flow.x += deltaX;
+				flow.y += deltaY;
+			}
+		}
+	}
 
-						float score = findFlow(startX,startY,curr,tmp);
+	/**
+	 * For each pixel in the specified rows, selects the flow with the best score from all the regions which
+	 * contain the pixel.
+	 *
+	 * @param y0 First row, inclusive
+	 * @param y1 Last row, exclusive
+	 */
+	protected void selectBestFlow( int y0 , int y1 ) {
+		for( int y = y0; y < y1; y++ ) {
+			int index = y*flowCurrLayer.width;
+			for( int x = 0; x < flowCurrLayer.width; x++ , index++ ) {
+				selectBestFlow(x,y,flowCenter,flowCurrLayer.data[index]);
+			}
+		}
+	}
 
-						// find flow only does it relative to the starting point
-						tmp.x += deltaX;
-						tmp.y += deltaY;
+	/**
+	 * Examines every region which contains the pixel at (x,y) and selects the flow with the best score.  This
+	 * improves the results along the edges of objects compared to only considering the region centered at the pixel.
+	 * If there is a tie then the flow with the least amount of motion is selected.  Regions are examined in
+	 * the same order they are in the image.
+	 *
+	 * @param centers Flow found for each region.  Index of a region is the pixel at its center.
+	 * @param output (Output) The selected flow.  Invalid if no regions have a valid flow.
+	 */
+	protected void selectBestFlow( int x , int y , ImageFlow centers , ImageFlow.D output ) {
+		// regions centered at these pixels contain (x,y)
+		int cx0 = Math.max(regionRadius,x-regionRadius);
+		int cy0 = Math.max(regionRadius,y-regionRadius);
+		int cx1 = Math.min(centers.width-regionRadius-1,x+regionRadius);
+		int cy1 = Math.min(centers.height-regionRadius-1,y+regionRadius);
 
-						if( tmp.isValid() )
-							checkNeighbors(x,y,tmp, flowCurrLayer,score);
-						else
-							flowCurrLayer.unsafe_get(x,y).markInvalid();
+		float bestScore = Float.MAX_VALUE;
+		output.markInvalid();
+
+		for( int cy = cy0; cy <= cy1; cy++ ) {
+			int index = cy*centers.width + cx0;
+			for( int cx = cx0; cx <= cx1; cx++ , index++ ) {
+				ImageFlow.D f = centers.data[index];
+				if( !f.isValid() )
+					continue;
+
+				float s = scores[index];
+				if( s < bestScore ) {
+					output.set(f);
+					bestScore = s;
+				} else if( s == bestScore ) {
+					// Pick solution with the least motion when ambiguous
+					float m0 = output.x*output.x + output.y*output.y;
+					float m1 = f.x*f.x + f.y*f.y;
+					if( m1 < m0 ) {
+						output.set(f);
 					}
 				}
 			}
-
-			// swap the flow images
-			ImageFlow tmp = flowPrevLayer;
-			flowPrevLayer = flowCurrLayer;
-			flowCurrLayer = tmp;
 		}
 	}
 
@@ -182,7 +280,7 @@ public abstract class DenseOpticalFlowBlockPyramid<T extends ImageGray<T>> {
 	 * Performs an exhaustive search centered around (cx,cy) for the region in 'curr' which is the best
 	 * match for the template.  Results are written into 'flow'
 	 */
-	protected float findFlow( int cx , int cy , T curr , ImageFlow.D flow ) {
+	protected float findFlow( int cx , int cy , T curr , T template , ImageFlow.D flow ) {
 		float bestScore = Float.MAX_VALUE;
 		int bestFlowX=0,bestFlowY=0;
 
@@ -197,7 +295,7 @@ public abstract class DenseOpticalFlowBlockPyramid<T extends ImageGray<T>> {
 			int y = cy+i;
 			for( int j = startX; j <= endX; j++ ) {
 				int x = cx+j;
-				float error = computeError(x,y,curr);
+				float error = computeError(x,y,curr,template);
 				if( error < bestScore ) {
 					bestScore = error;
 					bestFlowX = j;
@@ -224,41 +322,15 @@ public abstract class DenseOpticalFlowBlockPyramid<T extends ImageGray<T>> {
 		}
 	}
 
-	/**
-	 * Examines every pixel inside the region centered at (cx,cy) to see if their optical flow has a worse
-	 * score the one specified in 'flow'
-	 */
-	protected void checkNeighbors( int cx , int cy , ImageFlow.D flow , ImageFlow image , float score ) {
-		for( int i = -regionRadius; i <= regionRadius; i++ ) {
-			int index = image.width*(cy+i) + (cx-regionRadius);
-			for( int j = -regionRadius; j <= regionRadius; j++ , index++ ) {
-				float s = scores[ index ];
-				ImageFlow.D f = image.data[index];
-				if( s > score ) {
-					f.set(flow);
-					scores[index] = score;
-				} else if( s == score ) {
-					// Pick solution with the least motion when ambiguous
-					float m0 = f.x*f.x + f.y*f.y;
-					float m1 = flow.x*flow.x + flow.y*flow.y;
-					if( m1 < m0 ) {
-						f.set(flow);
-						scores[index] = score;
-					}
-				}
-			}
-		}
-	}
-
 	/**
 	 * Extracts a square template from the image 'prev' center at cx and cy
 	 */
-	protected abstract void extractTemplate( int cx , int cy , T prev );
+	protected abstract void extractTemplate( int cx , int cy , T prev , T template );
 
 	/**
 	 * Computes the error between the template and a region in 'curr' centered at cx,cy
 	 */
-	protected abstract float computeError( int cx , int cy , T curr );
+	protected abstract float computeError( int cx , int cy , T curr , T template );
 
 	/**
 	 * Returns the found optical flow
@@ -277,7 +349,7 @@ public abstract class DenseOpticalFlowBlockPyramid<T extends ImageGray<T>> {
 		}
 
 		@Override
-		protected void extractTemplate( int cx , int cy , GrayU8 prev ) {
+		protected void extractTemplate( int cx , int cy , GrayU8 prev , GrayU8 template ) {
 			int index = 0;
 			for( int i = -regionRadius; i <= regionRadius; i++ ) {
 				int indexPrev = prev.startIndex + prev.stride*(i+cy) + cx-regionRadius;
@@ -288,7 +360,7 @@ public abstract class DenseOpticalFlowBlockPyramid<T extends ImageGray<T>> {
 		}
 
 		@Override
-		protected float computeError( int cx , int cy , GrayU8 curr ) {
+		protected float computeError( int cx , int cy , GrayU8 curr , GrayU8 template ) {
 			int index = 0;
 			int error = 0;
 			for( int i = -regionRadius; i <= regionRadius; i++ ) {
@@ -313,7 +385,7 @@ public abstract class DenseOpticalFlowBlockPyramid<T extends ImageGray<T>> {
 		}
 
 		@Override
-		protected void extractTemplate( int cx , int cy , GrayF32 prev ) {
+		protected void extractTemplate( int cx , int cy , GrayF32 prev , GrayF32 template ) {
 			int index = 0;
 			for( int i = -regionRadius; i <= regionRadius; i++ ) {
 				int indexPrev = prev.startIndex + prev.stride*(i+cy) + cx-regionRadius;
@@ -324,7 +396,7 @@ public abstract class DenseOpticalFlowBlockPyramid<T extends ImageGray<T>> {
 		}
 
 		@Override
-		protected float computeError( int cx , int cy , GrayF32 curr ) {
+		protected float computeError( int cx , int cy , GrayF32 curr , GrayF32 template ) {
 			int index = 0;
 			float error = 0;
 			for( int i = -regionRadius; i <= regionRadius; i++ ) {
@@ -346,4 +418,17 @@ public abstract class DenseOpticalFlowBlockPyramid<T extends ImageGray<T>> {
 	public int getRegionRadius() {
 		return regionRadius;
 	}
+
+	public boolean isWarmStart() {
+		return warmStart;
+	}
+
+	/**
+	 * If true then the flow found for the previous pair of images is used as the starting point of the search in
+	 * the top layer of the pyramid.  This allows larger motions to be found when processing video where the motion
+	 * changes slowly.  The previous flow is ignored if the image size has changed.
+	 */
+	public void setWarmStart(boolean warmStart) {
+		this.warmStart = warmStart;
+	}
 }
@@ -19,6 +19,7 @@
 package boofcv.alg.flow;
 
 import boofcv.alg.InputSanityCheck;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.flow.ImageFlow;
 import boofcv.struct.image.ImageBase;
 import boofcv.struct.image.ImageType;
@@ -120,14 +121,28 @@ public abstract class HornSchunck<T extends ImageBase<T>, D extends ImageBase<D>
 
 
 	/**
-	 * Computes average flow using an 8-connect neighborhood for the inner image
+	 * Computes average flow using an 8-connect neighborhood for the inner image.  Rows are processed
+	 * concurrently since each pixel only depends on the flow from the previous iteration.
 	 */
 	protected static void innerAverageFlow( ImageFlow flow , ImageFlow averageFlow ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			BoofConcurrency.loopBlocks(1,flow.height-1,(y0,y1)->innerAverageFlow(flow,averageFlow,y0,y1));
+		} else {
+			innerAverageFlow(flow,averageFlow,1,flow.height-1);
+		}
+	}
+
+	/**
+	 * Computes average flow using an 8-connect neighborhood for inner pixels in the specified rows
+	 *
+	 * @param y0 First row, inclusive
+	 * @param y1 Last row, exclusive
+	 */
+	protected static void innerAverageFlow( ImageFlow flow , ImageFlow averageFlow , int y0 , int y1 ) {
 
 		int endX = flow.width-1;
-		int endY = flow.height-1;
 
-		for( int y = 1; y < endY; y++ ) {
+		for( int y = y0; y < y1; y++ ) {
 			int index = flow.width*y + 1;
 			for( int x = 1; x < endX; x++ , index++) {
 				ImageFlow.D average = averageFlow.data[index];
@@ -21,6 +21,7 @@ package boofcv.alg.flow;
 import boofcv.abst.filter.derivative.ImageGradient;
 import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.factory.filter.derivative.FactoryDerivative;
 import boofcv.factory.flow.ConfigHornSchunckPyramid;
 import boofcv.struct.image.GrayF32;
@@ -80,6 +81,9 @@ public class HornSchunckPyramid<T extends ImageGray<T>>
 	protected GrayF32 warpDeriv2X = new GrayF32(1,1);
 	protected GrayF32 warpDeriv2Y = new GrayF32(1,1);
 
+	// change in flow for each row during an SOR iteration
+	private float[] rowErrors = new float[0];
+
 	/**
 	 * Configures flow estimation
 	 *
@@ -96,6 +100,7 @@ public class HornSchunckPyramid<T extends ImageGray<T>>
 		this.maxInnerIterations = config.maxInnerIterations;
 		this.interp = interp;
 		this.convergeTolerance = config.convergeTolerance;
+		this.warmStart = config.warmStart;
 	}
 
 	/**
@@ -129,6 +134,10 @@ public class HornSchunckPyramid<T extends ImageGray<T>>
 			if( !first ) {
 				// interpolate initial flow from previous layer
 				interpolateFlowScale(layer1.width, layer1.height);
+			} else if( isPreviousFlowUsable(flowX,image1) ) {
+				// scale down the flow found for the previous images
+				first = false;
+				interpolateFlowScale(layer1.width, layer1.height);
 			} else {
 				// for the very first layer there is no information on flow so set everything to 0
 				first = false;
@@ -220,8 +229,8 @@ public class HornSchunckPyramid<T extends ImageGray<T>>
 	 */
 	protected void processLayer(GrayF32 image1 , GrayF32 image2 , GrayF32 derivX2 , GrayF32 derivY2) {
 
-		float w = SOR_RELAXATION;
-		float uf,vf;
+		if( rowErrors.length < image1.height )
+			rowErrors = new float[image1.height];
 
 		// outer Taylor expansion iterations
 		for( int warp = 0; warp < numWarps; warp++ ) {
@@ -238,55 +247,97 @@ public class HornSchunckPyramid<T extends ImageGray<T>>
 
 			do {
 				// inner SOR iteration.
-				error = 0;
+				error = iterationSorImage(image1);
+			} while( error > convergeTolerance*image1.width*image1.height && ++iter < maxInnerIterations);
+		}
+	}
 
-				// inner portion
-				for( int y = 1; y < image1.height-1; y++ ) {
-					int pixelIndex = y*image1.width+1;
-					for (int x = 1; x < image1.width-1; x++, pixelIndex++ ) {
-						// could speed this up a bit more by precomputing the constant portion before the do-while loop
-						float ui = initFlowX.data[pixelIndex];
-						float vi = initFlowY.data[pixelIndex];
+	/**
+	 * Performs a single SOR iteration across the whole image using a red-black ordering of the rows.  First the even
+	 * rows are updated then the odd rows.  Since the update of a pixel only depends on the rows above and below it
+	 * rows with the same parity are independent and are processed concurrently.  Pixels inside a row are updated
+	 * in order.
+	 *
+	 * @return sum of the squared change in flow
+	 */
+	protected float iterationSorImage( GrayF32 image1 ) {
+		for( int parity = 0; parity < 2; parity++ ) {
+			final int rowParity = parity;
+			final int numRows = (image1.height-parity+1)/2;
+
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				BoofConcurrency.loopBlocks(0,numRows,(i0,i1)->{
+					for( int i = i0; i < i1; i++ ) {
+						int y = 2*i+rowParity;
+						rowErrors[y] = iterationSorRow(image1,y);
+					}
+				});
+			} else {
+				for( int i = 0; i < numRows; i++ ) {
+					int y = 2*i+rowParity;
+					rowErrors[y] = iterationSorRow(image1,y);
+				}
+			}
+		}
 
-						float u = flowX.data[pixelIndex];
-						float v = flowY.data[pixelIndex];
+		// sum the errors in a fixed order so that the number of iterations doesn't depend on the number of threads
+		float error = 0;
+		for( int y = 0; y < image1.height; y++ ) {
+			error += rowErrors[y];
+		}
+		return error;
+	}
 
-						float I1 = image1.data[pixelIndex];
-						float I2 = warpImage2.data[pixelIndex];
+	/**
+	 * SOR iteration for all the pixels in a row
+	 *
+	 * @return sum of the squared change in flow
+	 */
+	private float iterationSorRow( GrayF32 image1 , int y ) {
+		float w = SOR_RELAXATION;
+		float error = 0;
 
-						float I2x = warpDeriv2X.data[pixelIndex];
-						float I2y = warpDeriv2Y.data[pixelIndex];
+		// border regions require special treatment
+		if( y == 0 || y == image1.height-1 ) {
+			int pixelIndex = y*image1.width;
+			for( int x = 0; x < image1.width; x++ ) {
+				error += iterationSorSafe(image1,x,y,pixelIndex++);
+			}
+			return error;
+		}
 
-						float AU = A(x,y,flowX);
-						float AV = A(x,y,flowY);
+		error += iterationSorSafe(image1,0,y,y*image1.width);
 
-						flowX.data[pixelIndex] = uf = (1-w)*u + w*((I1-I2+I2x*ui - I2y*(v-vi))*I2x + alpha2*AU)/(I2x*I2x + alpha2);
-						flowY.data[pixelIndex] = vf = (1-w)*v + w*((I1-I2+I2y*vi - I2x*(uf-ui))*I2y + alpha2*AV)/(I2y*I2y + alpha2);
+		// inner portion
+		int pixelIndex = y*image1.width+1;
+		for (int x = 1; x < image1.width-1; x++, pixelIndex++ ) {
+			// could speed this up a bit more by precomputing the constant portion before the do-while loop
+			float ui = initFlowX.data[pixelIndex];
+			float vi = initFlowY.data[pixelIndex];
 
-						error += (uf - u)*(uf - u) + (vf - v)*(vf - v);
-					}
-				}
+			float u = flowX.data[pixelIndex];
+			float v = flowY.data[pixelIndex];
 
-				// border regions require special treatment
-				int pixelIndex0 = 0;
-				int pixelIndex1 = (image1.height-1)*image1.width;
-				for (int x = 0; x < image1.width; x++ ) {
-					error += iterationSorSafe(image1,x,0,pixelIndex0++);
-					error += iterationSorSafe(image1,x,image1.height-1,pixelIndex1++);
-				}
+			float I1 = image1.data[pixelIndex];
+			float I2 = warpImage2.data[pixelIndex];
 
-				pixelIndex0 = image1.width;
-				 pixelIndex1 = image1.width + image1.width-1;
-				for( int y = 1; y < image1.height-1; y++ ) {
-					error += iterationSorSafe(image1,0,y,pixelIndex0);
-					error += iterationSorSafe(image1,image1.width-1,y,pixelIndex1);
+			float I2x = warpDeriv2X.data[pixelIndex];
+			float I2y = warpDeriv2Y.data[pixelIndex];
 
-					pixelIndex0 += image1.width;
-					pixelIndex1 += image1.width;
-				}
+			float AU = A(x,y,flowX);
+			float AV = A(x,y,flowY);
 
-			} while( error > convergeTolerance*image1.width*image1.height && ++iter < maxInnerIterations);
+			float uf,vf;
+			flowX.data[pixelIndex] = uf = (1-w)*u + w*((I1-I2+I2x*ui - I2y*(v-vi))*I2x + alpha2*AU)/(I2x*I2x + alpha2);
+			flowY.data[pixelIndex] = vf = (1-w)*v + w*((I1-I2+I2y*vi - I2x*(uf-ui))*I2y + alpha2*AV)/(I2y*I2y + alpha2);
+
+			error += (uf - u)*(uf - u) + (vf - v)*(vf - v);
 		}
+
+		if( image1.width > 1 )
+			error += iterationSorSafe(image1,image1.width-1,y,y*image1.width+image1.width-1);
+
+		return error;
 	}
 
 	/**
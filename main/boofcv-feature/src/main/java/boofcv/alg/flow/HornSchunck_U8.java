@@ -18,6 +18,7 @@
 
 package boofcv.alg.flow;
 
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.flow.ImageFlow;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayS16;
@@ -158,21 +159,36 @@ public class HornSchunck_U8 extends HornSchunck<GrayU8,GrayS16> {
 			borderAverageFlow(output,averageFlow);
 			innerAverageFlow(output,averageFlow);
 
-			for( int i = 0; i < N; i++ ) {
-				float dx = derivX.data[i];
-				float dy = derivY.data[i];
-				float dt = derivT.data[i];
-
-				ImageFlow.D aveFlow = averageFlow.data[i];
-
-				float u = aveFlow.x;
-				float v = aveFlow.y;
-
-				ImageFlow.D flow = output.data[i];
-				float r = (dx*u + dy*v + dt)/(alpha2 + dx*dx + dy*dy);
-				flow.x = u - dx*r;
-				flow.y = v - dy*r;
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				BoofConcurrency.loopBlocks(0,N,(i0,i1)->updateFlow(derivX,derivY,derivT,output,i0,i1));
+			} else {
+				updateFlow(derivX,derivY,derivT,output,0,N);
 			}
 		}
 	}
+
+	/**
+	 * Updates the flow estimate for pixels in the specified range using the average flow
+	 *
+	 * @param i0 First pixel index, inclusive
+	 * @param i1 Last pixel index, exclusive
+	 */
+	protected void updateFlow(GrayS16 derivX , GrayS16 derivY ,
+							  GrayS16 derivT , ImageFlow output , int i0 , int i1 ) {
+		for( int i = i0; i < i1; i++ ) {
+			float dx = derivX.data[i];
+			float dy = derivY.data[i];
+			float dt = derivT.data[i];
+
+			ImageFlow.D aveFlow = averageFlow.data[i];
+
+			float u = aveFlow.x;
+			float v = aveFlow.y;
+
+			ImageFlow.D flow = output.data[i];
+			float r = (dx*u + dy*v + dt)/(alpha2 + dx*dx + dy*dy);
+			flow.x = u - dx*r;
+			flow.y = v - dy*r;
+		}
+	}
 }
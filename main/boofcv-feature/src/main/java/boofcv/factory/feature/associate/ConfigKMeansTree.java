@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.factory.feature.associate;
+
+import boofcv.struct.Configuration;
+
+/**
+ * Configuration for {@link boofcv.alg.feature.associate.nn.KMeansTree_F64}.
+ *
+ * @author Peter Abeles
+ */
+public class ConfigKMeansTree implements Configuration {
+	/**
+	 * Number of children each node in the tree has.
+	 */
+	public int branching = 32;
+
+	/**
+	 * Nodes with this many points or less are not split.
+	 */
+	public int maxLeafSize = 100;
+
+	/**
+	 * Number of k-means iterations when a node is split.
+	 */
+	public int iterations = 7;
+
+	/**
+	 * Maximum number of points examined in a search. Larger values are slower but more accurate.
+	 */
+	public int maxChecks = 512;
+
+	/**
+	 * Seed for the random number generator
+	 */
+	public long randomSeed = 0xDEADBEEF;
+
+	@Override
+	public void checkValidity() {
+		if( branching < 2 )
+			throw new IllegalArgumentException("branching must be at least 2");
+		if( maxLeafSize < 1 )
+			throw new IllegalArgumentException("maxLeafSize must be at least 1");
+		if( iterations < 0 )
+			throw new IllegalArgumentException("iterations can't be negative");
+		if( maxChecks <= 0 )
+			throw new IllegalArgumentException("maxChecks must be more than zero");
+	}
+}
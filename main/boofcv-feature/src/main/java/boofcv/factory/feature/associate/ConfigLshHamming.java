@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.factory.feature.associate;
+
+import boofcv.struct.Configuration;
+
+/**
+ * Configuration for {@link boofcv.alg.feature.associate.nn.LshHamming_B}.
+ *
+ * @author Peter Abeles
+ */
+public class ConfigLshHamming implements Configuration {
+	/**
+	 * Number of hash tables.  More tables improves recall but uses more memory and is slower.
+	 */
+	public int numTables = 8;
+
+	/**
+	 * Number of bits sampled to create a key. More bits creates smaller buckets, which is faster
+	 * but reduces recall.  1 to 30.
+	 */
+	public int bitsPerKey = 16;
+
+	/**
+	 * If true buckets with keys that differ by one bit are also searched.
+	 */
+	public boolean multiProbe = true;
+
+	/**
+	 * Seed for the random number generator
+	 */
+	public long randomSeed = 0xDEADBEEF;
+
+	@Override
+	public void checkValidity() {
+		if( numTables <= 0 )
+			throw new IllegalArgumentException("numTables must be more than zero");
+		if( bitsPerKey <= 0 || bitsPerKey > 30 )
+			throw new IllegalArgumentException("bitsPerKey must be from 1 to 30");
+	}
+}
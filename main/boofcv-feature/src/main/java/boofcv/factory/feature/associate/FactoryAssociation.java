@@ -21,7 +21,15 @@ package boofcv.factory.feature.associate;
 import boofcv.abst.feature.associate.*;
 import boofcv.alg.descriptor.KdTreeTuple_F64;
 import boofcv.alg.feature.associate.AssociateGreedy;
+import boofcv.alg.feature.associate.AssociateGreedyHamming_B;
+import boofcv.alg.feature.associate.AssociateGreedyHamming_B_MT;
+import boofcv.alg.feature.associate.AssociateGreedy_MT;
 import boofcv.alg.feature.associate.AssociateNearestNeighbor;
+import boofcv.alg.feature.associate.AssociateNearestNeighbor_MT;
+import boofcv.alg.feature.associate.nn.KMeansTree_F64;
+import boofcv.alg.feature.associate.nn.LshHamming_B;
+import boofcv.alg.feature.associate.nn.NearestNeighborConcurrent;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.feature.*;
 import org.ddogleg.nn.FactoryNearestNeighbor;
 import org.ddogleg.nn.NearestNeighbor;
@@ -39,7 +47,8 @@ public class FactoryAssociation {
 
 	/**
 	 * Returns an algorithm for associating features together which uses a brute force greedy algorithm.
-	 * See {@link AssociateGreedy} for details.
+	 * See {@link AssociateGreedy} for details.  Binary descriptors scored with {@link ScoreAssociateHamming_B}
+	 * use the specialized {@link AssociateGreedyHamming_B}, which produces the same results.
 	 * 
 	 * @param score Computes the fit score between two features.
 	 * @param maxError Maximum allowed error/fit score between two features.  To disable set to Double.MAX_VALUE
@@ -53,7 +62,18 @@ public class FactoryAssociation {
 			double maxError ,
 			boolean backwardsValidation )
 	{
-		AssociateGreedy<D> alg = new AssociateGreedy<>(score, backwardsValidation);
+		AssociateGreedy<D> alg;
+		if( score.getClass() == ScoreAssociateHamming_B.class ) {
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				alg = (AssociateGreedy<D>)(AssociateGreedy<?>)new AssociateGreedyHamming_B_MT(backwardsValidation);
+			} else {
+				alg = (AssociateGreedy<D>)(AssociateGreedy<?>)new AssociateGreedyHamming_B(backwardsValidation);
+			}
+		} else if( BoofConcurrency.USE_CONCURRENT ) {
+			alg = new AssociateGreedy_MT<>(score, backwardsValidation);
+		} else {
+			alg = new AssociateGreedy<>(score, backwardsValidation);
+		}
 		alg.setMaxFitError(maxError);
 		WrapAssociateGreedy<D> ret = new WrapAssociateGreedy<>(alg);
 		return ret;
@@ -106,16 +126,88 @@ public class FactoryAssociation {
 		return associateNearestNeighbor(configNN,nn);
 	}
 
+	/**
+	 * Approximate association using a hierarchical k-means tree, which is well suited for matching high dimensional
+	 * descriptors against a large set.  The tree is built once when the source is set and destination features
+	 * are searched in parallel if concurrency is turned on.
+	 *
+	 * @see KMeansTree_F64
+	 *
+	 * @param configNN Configuration for association. If null then the default is used.
+	 * @param configTree Configuration for the tree. If null then the default is used.
+	 * @return Association using approximate nearest neighbor
+	 */
+	public static AssociateNearestNeighbor<TupleDesc_F64> kMeansTree( @Nullable ConfigAssociateNearestNeighbor configNN ,
+																	  @Nullable ConfigKMeansTree configTree ) {
+		if( configTree == null )
+			configTree = new ConfigKMeansTree();
+		configTree.checkValidity();
+
+		KMeansTree_F64 nn = new KMeansTree_F64(configTree.branching,configTree.maxLeafSize,
+				configTree.iterations,configTree.maxChecks,configTree.randomSeed);
+
+		return associateNearestNeighbor(configNN,nn);
+	}
+
+	/**
+	 * Approximate association for binary descriptors using multi-probe Locality Sensitive Hashing.  The hash
+	 * tables are built once when the source is set and destination features are searched in parallel if
+	 * concurrency is turned on.  The distance is Hamming distance so
+	 * {@link ConfigAssociateNearestNeighbor#distanceIsSquared} is ignored.
+	 *
+	 * @see LshHamming_B
+	 *
+	 * @param configNN Configuration for association. If null then the default is used.
+	 * @param configLsh Configuration for LSH. If null then the default is used.
+	 * @return Association using approximate nearest neighbor
+	 */
+	public static AssociateNearestNeighbor<TupleDesc_B> lshHamming( @Nullable ConfigAssociateNearestNeighbor configNN ,
+																	@Nullable ConfigLshHamming configLsh ) {
+		if( configLsh == null )
+			configLsh = new ConfigLshHamming();
+		configLsh.checkValidity();
+
+		LshHamming_B nn = new LshHamming_B(configLsh.numTables,configLsh.bitsPerKey,
+				configLsh.multiProbe,configLsh.randomSeed);
+
+		AssociateNearestNeighbor<TupleDesc_B> assoc = associateNearestNeighbor(configNN,nn);
+		assoc.setRatioUsesSqrt(false);
+		return assoc;
+	}
+
 	public static AssociateNearestNeighbor<TupleDesc_F64>
 	associateNearestNeighbor( @Nullable ConfigAssociateNearestNeighbor config ,
 							  NearestNeighbor nn )
+	{
+		return associateNearestNeighbor(config,new AssociateNearestNeighbor<TupleDesc_F64>(nn));
+	}
+
+	/**
+	 * Creates association for a nearest neighbor index which can be searched concurrently.  If concurrency is
+	 * turned on then {@link AssociateNearestNeighbor_MT} is used.
+	 */
+	public static <D> AssociateNearestNeighbor<D>
+	associateNearestNeighbor( @Nullable ConfigAssociateNearestNeighbor config ,
+							  NearestNeighborConcurrent<D> nn )
+	{
+		AssociateNearestNeighbor<D> assoc;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			assoc = new AssociateNearestNeighbor_MT<>(nn);
+		} else {
+			assoc = new AssociateNearestNeighbor<>(nn);
+		}
+		return associateNearestNeighbor(config,assoc);
+	}
+
+	private static <D> AssociateNearestNeighbor<D>
+	associateNearestNeighbor( @Nullable ConfigAssociateNearestNeighbor config ,
+							  AssociateNearestNeighbor<D> assoc )
 	{
 		if( config == null )
 			config = new ConfigAssociateNearestNeighbor();
 
 		config.checkValidity();
 
-		AssociateNearestNeighbor<TupleDesc_F64> assoc = new AssociateNearestNeighbor<>(nn);
 		assoc.setRatioUsesSqrt(config.distanceIsSquared);
 		assoc.setMaxScoreThreshold(config.maxErrorThreshold);
 		assoc.setScoreRatioThreshold(config.scoreRatioThreshold);
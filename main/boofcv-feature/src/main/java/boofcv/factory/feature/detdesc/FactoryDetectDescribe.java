@@ -34,11 +34,13 @@ import boofcv.alg.feature.describe.DescribePointSurf;
 import boofcv.alg.feature.describe.DescribePointSurfMod;
 import boofcv.alg.feature.describe.DescribePointSurfPlanar;
 import boofcv.alg.feature.detdesc.CompleteSift;
+import boofcv.alg.feature.detdesc.CompleteSift_MT;
 import boofcv.alg.feature.detdesc.DetectDescribeSurfPlanar;
 import boofcv.alg.feature.detect.interest.FastHessianFeatureDetector;
 import boofcv.alg.feature.detect.interest.SiftScaleSpace;
 import boofcv.alg.feature.orientation.OrientationHistogramSift;
 import boofcv.alg.transform.ii.GIntegralImageOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.factory.feature.describe.FactoryDescribePointAlgs;
 import boofcv.factory.feature.detect.extract.FactoryFeatureExtractor;
 import boofcv.factory.feature.detect.interest.FactoryInterestPointAlgs;
@@ -51,6 +53,7 @@ import boofcv.struct.image.ImageMultiBand;
 import boofcv.struct.image.ImageType;
 
 import javax.annotation.Nullable;
+import java.util.function.Supplier;
 
 /**
  * Creates instances of {@link DetectDescribePoint} for different feature detectors/describers.
@@ -80,16 +83,21 @@ public class FactoryDetectDescribe {
 
 		SiftScaleSpace scaleSpace = new SiftScaleSpace(
 				configSS.firstOctave,configSS.lastOctave,configSS.numScales,configSS.sigma0);
-		OrientationHistogramSift<GrayF32> orientation = new OrientationHistogramSift<>(
+		Supplier<OrientationHistogramSift<GrayF32>> orientation = () -> new OrientationHistogramSift<>(
 				configOri.histogramSize,configOri.sigmaEnlarge,GrayF32.class);
-		DescribePointSift<GrayF32> describe = new DescribePointSift<>(
+		Supplier<DescribePointSift<GrayF32>> describe = () -> new DescribePointSift<>(
 				configDesc.widthSubregion,configDesc.widthGrid, configDesc.numHistogramBins,
 				configDesc.sigmaToPixels, configDesc.weightingSigmaFraction,
 				configDesc.maxDescriptorElementValue,GrayF32.class);
 
 		NonMaxSuppression nns = FactoryFeatureExtractor.nonmax(configDetector.extract);
 		NonMaxLimiter nonMax = new NonMaxLimiter(nns,configDetector.maxFeaturesPerScale);
-		CompleteSift dds = new CompleteSift(scaleSpace,configDetector.edgeR,nonMax,orientation,describe);
+		CompleteSift dds;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			dds = new CompleteSift_MT(scaleSpace,configDetector.edgeR,nonMax,orientation,describe);
+		} else {
+			dds = new CompleteSift(scaleSpace,configDetector.edgeR,nonMax,orientation.get(),describe.get());
+		}
 		return new DetectDescribe_CompleteSift<>(dds);
 	}
 
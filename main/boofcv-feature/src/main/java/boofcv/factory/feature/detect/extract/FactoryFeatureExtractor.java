@@ -22,9 +22,11 @@ import boofcv.abst.feature.detect.extract.*;
 import boofcv.abst.feature.detect.intensity.GeneralFeatureIntensity;
 import boofcv.alg.feature.detect.extract.*;
 import boofcv.alg.feature.detect.interest.GeneralFeatureDetector;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.ImageGray;
 
 import javax.annotation.Nullable;
+import java.util.function.Supplier;
 
 /**
  * Creates {@link boofcv.abst.feature.detect.extract.NonMaxSuppression} for finding local maximums in feature intensity images.
@@ -69,31 +71,37 @@ public class FactoryFeatureExtractor {
 			return BOverrideFactoryFeatureExtractor.nonmax.process(config);
 		}
 
-		NonMaxBlock ret;
+		Supplier<NonMaxBlock> factory;
 		if (config.useStrictRule) {
 			if( config.detectMaximums)
 				if( config.detectMinimums )
-					ret = new NonMaxBlockStrict.MinMax();
+					factory = NonMaxBlockStrict.MinMax::new;
 				else
-					ret = new NonMaxBlockStrict.Max();
+					factory = NonMaxBlockStrict.Max::new;
 			else
-				ret = new NonMaxBlockStrict.Min();
+				factory = NonMaxBlockStrict.Min::new;
 		} else {
 			if( config.detectMaximums)
 				if( config.detectMinimums )
-					ret = new NonMaxBlockRelaxed.MinMax();
+					factory = NonMaxBlockRelaxed.MinMax::new;
 				else
-					ret = new NonMaxBlockRelaxed.Max();
+					factory = NonMaxBlockRelaxed.Max::new;
 			else
-				ret = new NonMaxBlockRelaxed.Min();
+				factory = NonMaxBlockRelaxed.Min::new;
 		}
 
+		NonMaxSuppression ret;
+		if( BoofConcurrency.USE_CONCURRENT )
+			ret = new NonMaxBlock_MT(factory);
+		else
+			ret = new WrapperNonMaximumBlock(factory.get());
+
 		ret.setSearchRadius(config.radius);
-		ret.setThresholdMax(config.threshold);
-		ret.setThresholdMin(-config.threshold);
-		ret.setBorder(config.ignoreBorder);
+		ret.setThresholdMaximum(config.threshold);
+		ret.setThresholdMinimum(-config.threshold);
+		ret.setIgnoreBorder(config.ignoreBorder);
 
-		return new WrapperNonMaximumBlock(ret);
+		return ret;
 	}
 
 	/**
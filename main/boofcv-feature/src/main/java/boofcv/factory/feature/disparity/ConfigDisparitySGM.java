@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.factory.feature.disparity;
+
+import boofcv.alg.feature.disparity.sgm.SgmDisparityCost;
+import boofcv.factory.transform.census.CensusVariants;
+import boofcv.struct.Configuration;
+
+/**
+ * Configuration for {@link boofcv.alg.feature.disparity.sgm.SgmStereoDisparity Semi Global Matching}.
+ * Costs are scaled to be from 0 to {@link SgmDisparityCost#MAX_COST}, penalties are relative to this range.
+ *
+ * @author Peter Abeles
+ */
+public class ConfigDisparitySGM implements Configuration {
+	/**
+	 * Minimum disparity that it will check. Must be &ge; 0
+	 */
+	public int minDisparity = 0;
+	/**
+	 * Number of disparities which are considered. maxDisparity = minDisparity + rangeDisparity. 1 to 254
+	 */
+	public int rangeDisparity = 100;
+	/**
+	 * How the cost of matching two pixels is computed
+	 */
+	public ErrorType errorType = ErrorType.CENSUS;
+	/**
+	 * Region used by the census transform.  Only used if {@link #errorType} is CENSUS.
+	 */
+	public CensusVariants censusVariant = CensusVariants.BLOCK_5_5;
+	/**
+	 * Number of paths the cost is aggregated along. 4, 8, or 16. More paths produces better results but is slower
+	 */
+	public int paths = 8;
+	/**
+	 * Penalty for a change in disparity of 1
+	 */
+	public int penaltySmallChange = 200;
+	/**
+	 * Penalty for a change in disparity of more than 1.  paths*(MAX_COST + penaltyLargeChange) must be &le; 65535
+	 */
+	public int penaltyLargeChange = 2000;
+	/**
+	 * Tolerance for how different the left to right associated values can be.  Disable with a value &lt; 0
+	 */
+	public int validateRtoL = 1;
+	/**
+	 * Tolerance for how similar optimal disparity is to other disparities.  Disable with a value &le; 0.
+	 * Closer to zero is more tolerant.
+	 */
+	public double texture = 0.0;
+	/**
+	 * If true then sub-pixel disparity is computed and the output is a GrayF32
+	 */
+	public boolean subpixel = false;
+
+	@Override
+	public void checkValidity() {
+		if( minDisparity < 0 )
+			throw new IllegalArgumentException("minDisparity must be >= 0");
+		if( rangeDisparity <= 0 || rangeDisparity > 254 )
+			throw new IllegalArgumentException("rangeDisparity must be from 1 to 254");
+		if( paths != 4 && paths != 8 && paths != 16 )
+			throw new IllegalArgumentException("paths must be 4, 8, or 16");
+		if( penaltySmallChange < 0 || penaltyLargeChange < 0 )
+			throw new IllegalArgumentException("Penalties must be >= 0");
+		if( paths*(SgmDisparityCost.MAX_COST+penaltyLargeChange) > 0xFFFF )
+			throw new IllegalArgumentException("penaltyLargeChange is too large and the aggregated cost could overflow");
+	}
+
+	public enum ErrorType {
+		/**
+		 * Absolute difference in pixel intensity
+		 */
+		ABSOLUTE_DIFFERENCE,
+		/**
+		 * Hamming distance between the census transform of each pixel
+		 */
+		CENSUS
+	}
+}
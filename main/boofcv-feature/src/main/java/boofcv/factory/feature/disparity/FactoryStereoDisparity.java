@@ -20,17 +20,24 @@ package boofcv.factory.feature.disparity;
 
 import boofcv.abst.feature.disparity.StereoDisparity;
 import boofcv.abst.feature.disparity.StereoDisparitySparse;
+import boofcv.abst.feature.disparity.WrapDisparityCoarseToFine;
 import boofcv.abst.feature.disparity.WrapDisparitySadRect;
+import boofcv.abst.feature.disparity.WrapDisparitySgm;
 import boofcv.abst.feature.disparity.WrapDisparitySparseSadRect;
+import boofcv.alg.feature.disparity.DisparityCoarseToFine;
 import boofcv.alg.feature.disparity.DisparityScoreRowFormat;
 import boofcv.alg.feature.disparity.DisparitySelect;
 import boofcv.alg.feature.disparity.DisparitySparseScoreSadRect;
 import boofcv.alg.feature.disparity.DisparitySparseSelect;
+import boofcv.alg.feature.disparity.sgm.*;
+import boofcv.factory.transform.census.CensusVariants;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayS16;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageGray;
 
+import javax.annotation.Nullable;
+
 import static boofcv.factory.feature.disparity.FactoryStereoDisparityAlgs.*;
 
 /**
@@ -223,6 +230,115 @@ public class FactoryStereoDisparity {
 		return new WrapDisparitySadRect<>(alg);
 	}
 
+	/**
+	 * <p>
+	 * Crates an algorithm for computing dense disparity images using rectangular regions where the error is the
+	 * Hamming distance between census transforms of the two images.  Unlike SAD it's not sensitive to
+	 * differences in gain and bias between the two cameras.
+	 * </p>
+	 *
+	 * @param census Region the census transform is computed over
+	 * @param minDisparity Minimum disparity that it will check. Must be &ge; 0 and &lt; maxDisparity
+	 * @param maxDisparity Maximum disparity that it will calculate. Must be &gt; 0
+	 * @param regionRadiusX Radius of the rectangular region along x-axis.
+	 * @param regionRadiusY Radius of the rectangular region along y-axis.
+	 * @param maxPerPixelError Maximum allowed number of different bits in a region per pixel.  Set to &lt; 0
+	 *                         to disable.
+	 * @param validateRtoL Tolerance for how difference the left to right associated values can be.  Try 6
+	 * @param texture Tolerance for how similar optimal region is to other region.  Disable with a value &le; 0.
+	 *                Closer to zero is more tolerant. Try 0.1
+	 * @param subpixel If true then sub-pixel accuracy is computed and the disparity image is {@link GrayF32},
+	 *                 otherwise it's pixel accuracy and {@link GrayU8}
+	 * @param imageType Type of input image. Only {@link GrayU8} is supported.
+	 * @return Rectangular region based WTA disparity algorithm.
+	 */
+	public static <T extends ImageGray<T>, D extends ImageGray<D>> StereoDisparity<T,D>
+	regionCensusWta( CensusVariants census ,
+					 int minDisparity , int maxDisparity,
+					 int regionRadiusX, int regionRadiusY ,
+					 double maxPerPixelError ,
+					 int validateRtoL ,
+					 double texture ,
+					 boolean subpixel ,
+					 Class<T> imageType ) {
+		if( imageType != GrayU8.class )
+			throw new IllegalArgumentException("Image type not supported: "+imageType.getSimpleName());
+
+		double maxError = (regionRadiusX*2+1)*(regionRadiusY*2+1)*maxPerPixelError;
+
+		DisparitySelect select;
+		if( subpixel ) {
+			select = selectDisparitySubpixel_S32((int) maxError, validateRtoL, texture);
+		} else {
+			select = selectDisparity_S32((int) maxError, validateRtoL, texture);
+		}
+
+		DisparityScoreRowFormat alg = FactoryStereoDisparityAlgs.scoreDisparityCensusRect(census,
+				minDisparity, maxDisparity, regionRadiusX, regionRadiusY, select);
+
+		return new WrapDisparitySadRect<>(alg);
+	}
+
+	/**
+	 * <p>
+	 * Creates an algorithm for computing dense disparity images which uses a coarse to fine search to bound the
+	 * range of disparities considered at each pixel. The disparity is first computed from images which have been
+	 * down sampled by the scale factor using {@link #regionWta}. Then at full resolution only disparities close to the
+	 * coarse estimate are searched. When the disparity range is large this is much faster than searching
+	 * every disparity at every pixel. See {@link DisparityCoarseToFine} for the details.
+	 * </p>
+	 *
+	 * @param minDisparity Minimum disparity that it will check. Must be &ge; 0 and &lt; maxDisparity
+	 * @param maxDisparity Maximum disparity that it will calculate. Must be &gt; 0 and at most 254 more than minDisparity
+	 * @param regionRadiusX Radius of the rectangular region along x-axis. Used at both levels.
+	 * @param regionRadiusY Radius of the rectangular region along y-axis. Used at both levels.
+	 * @param maxPerPixelError Maximum allowed error in a region per pixel.  Set to &lt; 0 to disable.
+	 * @param validateRtoL Tolerance for how difference the left to right associated values can be at the
+	 *                     coarse level.  Try 1
+	 * @param texture Tolerance for how similar optimal region is to other region at the coarse level.
+	 *                Disable with a value &le; 0. Try 0.1
+	 * @param scale Ratio of the input image's size to the coarse image's size. Try 4
+	 * @param margin Number of disparities added to each side of the range predicted by the coarse disparity.
+	 *               Try 2*scale
+	 * @param imageType Type of input image. {@link GrayU8} or {@link GrayS16}
+	 * @return Coarse to fine rectangular region based WTA disparity algorithm.
+	 */
+	public static <T extends ImageGray<T>> StereoDisparity<T,GrayU8>
+	regionCoarseToFineWta( int minDisparity , int maxDisparity,
+						   int regionRadiusX, int regionRadiusY ,
+						   double maxPerPixelError ,
+						   int validateRtoL ,
+						   double texture ,
+						   int scale , int margin ,
+						   Class<T> imageType ) {
+		if( scale < 2 )
+			throw new IllegalArgumentException("Scale must be at least 2");
+		if( maxDisparity-minDisparity > 254 )
+			throw new IllegalArgumentException("(max - min) disparity must be <= 254");
+
+		int maxError = (int)((regionRadiusX*2+1)*(regionRadiusY*2+1)*maxPerPixelError);
+
+		// disparity range at the coarse level
+		int coarseMin = minDisparity/scale;
+		int coarseMax = (maxDisparity+scale-1)/scale;
+
+		StereoDisparity coarse = regionWta(DisparityAlgorithms.RECT, coarseMin, coarseMax,
+				regionRadiusX, regionRadiusY, maxPerPixelError, validateRtoL, texture, imageType);
+
+		DisparityCoarseToFine alg;
+		if( imageType == GrayU8.class ) {
+			alg = new DisparityCoarseToFine.U8(coarse,scale,margin,
+					minDisparity,maxDisparity,regionRadiusX,regionRadiusY,maxError);
+		} else if( imageType == GrayS16.class ) {
+			alg = new DisparityCoarseToFine.S16(coarse,scale,margin,
+					minDisparity,maxDisparity,regionRadiusX,regionRadiusY,maxError);
+		} else {
+			throw new IllegalArgumentException("Image type not supported: "+imageType.getSimpleName());
+		}
+
+		return new WrapDisparityCoarseToFine<>(alg);
+	}
+
 	/**
 	 * WTA algorithms that computes disparity on a sparse per-pixel basis as requested..
 	 *
@@ -273,4 +389,42 @@ public class FactoryStereoDisparity {
 		} else
 			throw new RuntimeException("Image type not supported: "+imageType.getSimpleName() );
 	}
+
+	/**
+	 * <p>
+	 * Dense disparity using Semi Global Matching (SGM).  Produces smoother disparity than region based
+	 * WTA, especially in regions with little texture, but requires more memory.  If sub-pixel is enabled
+	 * in the config then the disparity is a {@link GrayF32} image, otherwise it's a {@link GrayU8} image.
+	 * </p>
+	 *
+	 * @param config Configuration. If null the default is used.
+	 * @return SGM disparity algorithm
+	 * @see SgmStereoDisparity
+	 */
+	public static <D extends ImageGray<D>> StereoDisparity<GrayU8,D> sgm( @Nullable ConfigDisparitySGM config ) {
+		if( config == null )
+			config = new ConfigDisparitySGM();
+		config.checkValidity();
+
+		SgmDisparityCost<GrayU8> cost;
+		switch( config.errorType ) {
+			case ABSOLUTE_DIFFERENCE: cost = new SgmCostAbsoluteDifference.U8(); break;
+			case CENSUS: cost = sgmCostCensus(config.censusVariant); break;
+			default: throw new IllegalArgumentException("Unknown error type "+config.errorType);
+		}
+
+		SgmCostAggregation aggregation = new SgmCostAggregation();
+		aggregation.setPathsConsidered(config.paths);
+		aggregation.setPenalty1(config.penaltySmallChange);
+		aggregation.setPenalty2(config.penaltyLargeChange);
+
+		SgmDisparitySelector selector = new SgmDisparitySelector();
+		selector.setRightToLeftTolerance(config.validateRtoL);
+		selector.setTextureThreshold(config.texture);
+
+		SgmStereoDisparity<GrayU8> alg = new SgmStereoDisparity<>(cost,aggregation,selector);
+		alg.configure(config.minDisparity,config.rangeDisparity);
+
+		return new WrapDisparitySgm<>(alg,config.subpixel,GrayU8.class);
+	}
 }
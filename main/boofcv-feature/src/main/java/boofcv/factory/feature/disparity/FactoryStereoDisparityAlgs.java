@@ -20,6 +20,11 @@ package boofcv.factory.feature.disparity;
 
 import boofcv.alg.feature.disparity.*;
 import boofcv.alg.feature.disparity.impl.*;
+import boofcv.alg.feature.disparity.sgm.SgmCostCensus;
+import boofcv.alg.feature.disparity.sgm.SgmCostHamming;
+import boofcv.alg.feature.disparity.sgm.SgmDisparityCost;
+import boofcv.factory.transform.census.CensusVariants;
+import boofcv.factory.transform.census.FactoryCensusTransform;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayS16;
 import boofcv.struct.image.GrayU8;
@@ -151,4 +156,56 @@ public class FactoryStereoDisparityAlgs {
 		return new ImplDisparitySparseScoreSadRect_F32(minDisparity,
 				maxDisparity,regionRadiusX,regionRadiusY);
 	}
+
+	/**
+	 * Creates a rectangular region score which uses the Hamming distance between census transforms of the
+	 * input images.
+	 *
+	 * @param variant Region the census transform is computed over
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T extends ImageGray<T>> DisparityScoreRowFormat<GrayU8,T>
+	scoreDisparityCensusRect( CensusVariants variant ,
+							  int minDisparity , int maxDisparity,
+							  int regionRadiusX, int regionRadiusY,
+							  DisparitySelect<int[],T> computeDisparity)
+	{
+		DisparityScoreRowFormat hamming;
+		switch( variant ) {
+			case BLOCK_3_3:
+				hamming = new ImplDisparityScoreHammingRect_U8<>(minDisparity,
+						maxDisparity, regionRadiusX, regionRadiusY, computeDisparity);
+				break;
+			case BLOCK_5_5:
+				hamming = new ImplDisparityScoreHammingRect_S32<>(minDisparity,
+						maxDisparity, regionRadiusX, regionRadiusY, computeDisparity);
+				break;
+			case BLOCK_7_7:
+			case BLOCK_9_7:
+				hamming = new ImplDisparityScoreHammingRect_S64<>(minDisparity,
+						maxDisparity, regionRadiusX, regionRadiusY, computeDisparity);
+				break;
+			default: throw new IllegalArgumentException("Unknown variant "+variant);
+		}
+		return new DisparityScoreCensus(FactoryCensusTransform.variant(variant,GrayU8.class),hamming);
+	}
+
+	/**
+	 * Creates a cost for {@link boofcv.alg.feature.disparity.sgm.SgmStereoDisparity} which uses the
+	 * Hamming distance between census descriptors.
+	 *
+	 * @param variant Region the census transform is computed over
+	 */
+	@SuppressWarnings("unchecked")
+	public static SgmDisparityCost<GrayU8> sgmCostCensus( CensusVariants variant ) {
+		SgmCostHamming hamming;
+		switch( variant ) {
+			case BLOCK_3_3: hamming = new SgmCostHamming.U8(8); break;
+			case BLOCK_5_5: hamming = new SgmCostHamming.S32(24); break;
+			case BLOCK_7_7: hamming = new SgmCostHamming.S64(48); break;
+			case BLOCK_9_7: hamming = new SgmCostHamming.S64(62); break;
+			default: throw new IllegalArgumentException("Unknown variant "+variant);
+		}
+		return new SgmCostCensus(FactoryCensusTransform.variant(variant,GrayU8.class),hamming);
+	}
 }
@@ -67,6 +67,11 @@ public class ConfigHornSchunckPyramid implements Configuration {
 	 */
 	public InterpolationType interpolation = InterpolationType.BILINEAR;
 
+	/**
+	 * If true then the flow found for the previous pair of images is used as the initial estimate.
+	 */
+	public boolean warmStart = false;
+
 
 	@Override
 	public void checkValidity() {}
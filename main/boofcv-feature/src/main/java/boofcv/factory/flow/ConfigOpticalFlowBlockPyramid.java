@@ -46,6 +46,11 @@ public class ConfigOpticalFlowBlockPyramid {
 	 */
 	public int maxPyramidLayers = 20;
 
+	/**
+	 * If true then the flow found for the previous pair of images is used as the initial estimate.
+	 */
+	public boolean warmStart = false;
+
 	public ConfigOpticalFlowBlockPyramid(int searchRadius, int regionRadius, int maxPerPixelError,
 										 double pyramidScale, int maxPyramidLayers) {
 		this.searchRadius = searchRadius;
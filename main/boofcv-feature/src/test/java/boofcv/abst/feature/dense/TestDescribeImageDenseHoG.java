@@ -18,10 +18,14 @@
 
 package boofcv.abst.feature.dense;
 
+import boofcv.alg.filter.derivative.DerivativeType;
 import boofcv.alg.misc.GImageMiscOps;
 import boofcv.factory.feature.dense.ConfigDenseHoG;
 import boofcv.factory.feature.dense.FactoryDescribeImageDense;
+import boofcv.factory.filter.derivative.FactoryDerivative;
+import boofcv.struct.feature.TupleDesc_F64;
 import boofcv.struct.image.*;
+import boofcv.testing.BoofTesting;
 import georegression.struct.point.Point2D_I32;
 import org.junit.Test;
 
@@ -86,6 +90,50 @@ public class TestDescribeImageDenseHoG {
 		}
 	}
 
+	/**
+	 * Descriptors computed from a precomputed gradient should be identical to ones computed from the image.  The
+	 * gradient is stored in a sub-image to make sure stride is handled
+	 */
+	@Test
+	public void processGradient() {
+		ConfigDenseHoG config = new ConfigDenseHoG();
+		config.fastVariant = true;
+		processGradient(config);
+		config.fastVariant = false;
+		processGradient(config);
+	}
+
+	private void processGradient(ConfigDenseHoG config) {
+		ImageType<GrayF32> type = ImageType.single(GrayF32.class);
+		GrayF32 image = new GrayF32(width,height);
+		GImageMiscOps.fillUniform(image,rand,0,200);
+
+		GrayF32 derivX = BoofTesting.createSubImageOf(new GrayF32(width,height));
+		GrayF32 derivY = BoofTesting.createSubImageOf(new GrayF32(width,height));
+		FactoryDerivative.gradient(DerivativeType.THREE,type,type).process(image,derivX,derivY);
+
+		DescribeImageDenseHoG<GrayF32> expected = createAlg(type,config);
+		DescribeImageDenseHoG<GrayF32> found = createAlg(type,config);
+
+		expected.process(image);
+		found.processGradient(derivX,derivY);
+
+		assertTrue(expected.getDescriptions().size() > 0 );
+		assertEquals(expected.getDescriptions().size(),found.getDescriptions().size());
+		for (int i = 0; i < expected.getDescriptions().size(); i++) {
+			Point2D_I32 a = expected.getLocations().get(i);
+			Point2D_I32 b = found.getLocations().get(i);
+			assertEquals(a.x,b.x);
+			assertEquals(a.y,b.y);
+
+			TupleDesc_F64 descA = expected.getDescriptions().get(i);
+			TupleDesc_F64 descB = found.getDescriptions().get(i);
+			for (int j = 0; j < descA.size(); j++) {
+				assertEquals(descA.value[j],descB.value[j],1e-8);
+			}
+		}
+	}
+
 	private <T extends DescribeImageDense> T createAlg( ImageType imageType , ConfigDenseHoG config ) {
 		return (T) FactoryDescribeImageDense.hog(config,imageType);
 	}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.feature.describe;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.factory.feature.describe.FactoryDescribeRegionPoint;
+import boofcv.struct.feature.TupleDesc;
+import boofcv.struct.image.GrayF32;
+import georegression.struct.point.Point2D_F64;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_B;
+import org.ddogleg.struct.GrowQueue_F64;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks to see if descriptions computed in a batch are identical to ones computed one at a time
+ *
+ * @author Peter Abeles
+ */
+public class TestDescribeRegionPointBatch {
+
+	Random rand = new Random(234);
+
+	int width = 200, height = 180;
+
+	@Test
+	public void brief() {
+		check(FactoryDescribeRegionPoint.brief(new ConfigBrief(true),GrayF32.class));
+	}
+
+	@Test
+	public void pixelNCC() {
+		check(FactoryDescribeRegionPoint.pixelNCC(7,9,GrayF32.class));
+	}
+
+	@Test
+	public void surfFast() {
+		check(FactoryDescribeRegionPoint.surfFast(null,GrayF32.class));
+	}
+
+	@Test
+	public void surfStable() {
+		check(FactoryDescribeRegionPoint.surfStable(null,GrayF32.class));
+	}
+
+	@Test
+	public void sift() {
+		check(FactoryDescribeRegionPoint.sift(null,null,GrayF32.class));
+	}
+
+	private <Desc extends TupleDesc> void check( DescribeRegionPoint<GrayF32,Desc> describe ) {
+		assertTrue(describe instanceof DescribeRegionPointBatch);
+		DescribeRegionPointBatch<GrayF32,Desc> alg = (DescribeRegionPointBatch<GrayF32,Desc>)describe;
+
+		GrayF32 image = new GrayF32(width,height);
+		GImageMiscOps.fillUniform(image,rand,0,200);
+		alg.setImage(image);
+
+		// enough points that it will be split into several blocks.  Some are along the border.
+		int N = DescribeBatchOps.MIN_POINTS_PER_THREAD*5+3;
+		List<Point2D_F64> locations = new ArrayList<>();
+		GrowQueue_F64 orientations = new GrowQueue_F64();
+		GrowQueue_F64 radii = new GrowQueue_F64();
+		for( int i = 0; i < N; i++ ) {
+			locations.add(new Point2D_F64(rand.nextDouble()*(width-1),rand.nextDouble()*(height-1)));
+			orientations.add((rand.nextDouble()-0.5)*2*Math.PI);
+			radii.add(2+rand.nextDouble()*8);
+		}
+
+		FastQueue<Desc> expected = createQueue(alg);
+		GrowQueue_B expectedSuccess = new GrowQueue_B();
+		for( int i = 0; i < N; i++ ) {
+			Point2D_F64 p = locations.get(i);
+			expectedSuccess.add(alg.process(p.x,p.y,orientations.get(i),radii.get(i),expected.grow()));
+		}
+
+		for( boolean concurrent : new boolean[]{false,true}) {
+			alg.setConcurrent(concurrent);
+			assertEquals(concurrent,alg.isConcurrent());
+
+			FastQueue<Desc> found = createQueue(alg);
+			GrowQueue_B success = new GrowQueue_B();
+			alg.process(locations,orientations,radii,found,success);
+
+			assertEquals(N,found.size);
+			assertEquals(N,success.size);
+			for( int i = 0; i < N; i++ ) {
+				assertEquals(expectedSuccess.get(i),success.get(i));
+				if( !success.get(i) )
+					continue;
+				Desc a = expected.get(i);
+				Desc b = found.get(i);
+				for( int j = 0; j < a.size(); j++ ) {
+					assertEquals(a.getDouble(j),b.getDouble(j),0);
+				}
+			}
+		}
+	}
+
+	private static <Desc extends TupleDesc> FastQueue<Desc> createQueue( DescribeRegionPoint<?,Desc> alg ) {
+		return new FastQueue<Desc>(alg.getDescriptionType(),true) {
+			@Override
+			protected Desc createInstance() {
+				return alg.createDescription();
+			}
+		};
+	}
+}
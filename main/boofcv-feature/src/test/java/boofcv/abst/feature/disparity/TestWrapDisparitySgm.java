@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.feature.disparity;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.factory.feature.disparity.ConfigDisparitySGM;
+import boofcv.factory.feature.disparity.FactoryStereoDisparity;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestWrapDisparitySgm {
+
+	Random rand = new Random(234);
+
+	@Test
+	public void pixelAndSubpixel() {
+		int width = 50, height = 30, disparity = 5;
+		GrayU8 left = new GrayU8(width,height);
+		GrayU8 right = new GrayU8(width,height);
+		ImageMiscOps.fillUniform(left,rand,0,255);
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width-disparity; x++ ) {
+				right.set(x,y,left.get(x+disparity,y));
+			}
+		}
+
+		ConfigDisparitySGM config = new ConfigDisparitySGM();
+		config.minDisparity = 1;
+		config.rangeDisparity = 10;
+
+		StereoDisparity<GrayU8,GrayU8> alg = FactoryStereoDisparity.sgm(config);
+		assertEquals(GrayU8.class,alg.getDisparityType());
+		assertEquals(1,alg.getMinDisparity());
+		assertEquals(11,alg.getMaxDisparity());
+		alg.process(left,right);
+		assertEquals(disparity,alg.getDisparity().get(30,15)+1);
+
+		config.subpixel = true;
+		StereoDisparity<GrayU8,GrayF32> algSub = FactoryStereoDisparity.sgm(config);
+		assertEquals(GrayF32.class,algSub.getDisparityType());
+		algSub.process(left,right);
+		float found = algSub.getDisparity().get(30,15)+1;
+		assertTrue(Math.abs(found-disparity) < 0.5);
+	}
+}
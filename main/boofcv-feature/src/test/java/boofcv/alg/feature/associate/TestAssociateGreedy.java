@@ -24,6 +24,8 @@ import boofcv.struct.feature.TupleDesc_F64;
 import org.ddogleg.struct.FastQueue;
 import org.junit.Test;
 
+import java.util.Random;
+
 import static org.junit.Assert.assertEquals;
 
 
@@ -101,6 +103,88 @@ public class TestAssociateGreedy {
 		assertEquals(2,fitScore[3],1e-5);
 	}
 
+	/**
+	 * Compares against a brute force implementation which saves every score. Lots of ties and more
+	 * destination features than fit in a single tile
+	 */
+	@Test
+	public void compareToAllScores() {
+		Random rand = new Random(234);
+		for( boolean backwards : new boolean[]{false,true} ) {
+			FastQueue<TupleDesc_F64> a = createData(rand,300);
+			FastQueue<TupleDesc_F64> b = createData(rand,AssociateGreedy.TILE_DST*2+10);
+
+			AssociateGreedy<TupleDesc_F64> alg = new AssociateGreedy<>(score, backwards);
+			alg.setMaxFitError(20);
+			alg.associate(a,b);
+
+			int[] expectedPairs = new int[a.size];
+			double[] expectedFit = new double[a.size];
+			bruteForce(a,b,20,backwards,expectedPairs,expectedFit);
+
+			for( int i = 0; i < a.size; i++ ) {
+				assertEquals(expectedPairs[i],alg.getPairs()[i]);
+				assertEquals(expectedFit[i],alg.getFitQuality()[i],0);
+			}
+		}
+	}
+
+	/**
+	 * Greedy association where the score of every pair is saved
+	 */
+	public static <D> void bruteForce( FastQueue<D> src , FastQueue<D> dst , double maxFitError ,
+									   boolean backwards , int[] pairs , double[] fitQuality ) {
+		ScoreAssociation<D> score = (ScoreAssociation)new ScoreAssociateEuclidean_F64();
+		double[] all = new double[src.size*dst.size];
+		for( int i = 0; i < src.size; i++ ) {
+			double bestScore = maxFitError;
+			int bestIndex = -1;
+			for( int j = 0; j < dst.size; j++ ) {
+				double fit = all[i*dst.size+j] = score.score(src.get(i),dst.get(j));
+				if( fit <= bestScore ) {
+					bestIndex = j;
+					bestScore = fit;
+				}
+			}
+			pairs[i] = bestIndex;
+			fitQuality[i] = bestScore;
+		}
+
+		if( !backwards )
+			return;
+
+		for( int i = 0; i < src.size; i++ ) {
+			int match = pairs[i];
+			if( match == -1 )
+				continue;
+			for( int j = 0; j < src.size; j++ ) {
+				if( j != i && all[j*dst.size+match] <= all[i*dst.size+match] ) {
+					pairs[i] = -1;
+					fitQuality[i] = Double.MAX_VALUE;
+					break;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Creates features with integer values so that there are lots of ties
+	 */
+	public static FastQueue<TupleDesc_F64> createData( Random rand , int N ) {
+		FastQueue<TupleDesc_F64> ret = new FastQueue<TupleDesc_F64>(10,TupleDesc_F64.class, true) {
+			@Override
+			protected TupleDesc_F64 createInstance() {
+				return new TupleDesc_F64(2);
+			}
+		};
+
+		for( int i = 0; i < N; i++ ) {
+			ret.grow().set(rand.nextInt(30),rand.nextInt(30));
+		}
+
+		return ret;
+	}
+
 	private FastQueue<TupleDesc_F64> createData( double ...values )
 	{
 		FastQueue<TupleDesc_F64> ret = new FastQueue<TupleDesc_F64>(10,TupleDesc_F64.class, true) {
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.associate;
+
+import boofcv.abst.feature.associate.ScoreAssociateHamming_B;
+import boofcv.alg.descriptor.DescriptorDistance;
+import boofcv.struct.feature.TupleDesc_B;
+import org.ddogleg.struct.FastQueue;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestAssociateGreedyHamming_B {
+
+	Random rand = new Random(234);
+
+	/**
+	 * Compare against the generic implementation. A small number of bits is used so that there are lots of ties
+	 */
+	@Test
+	public void compareToGeneric() {
+		for( int numBits : new int[]{10,64,96,256} ) {
+			for( boolean backwards : new boolean[]{false,true} ) {
+				for( double maxError : new double[]{Double.MAX_VALUE,numBits/4.0} ) {
+					FastQueue<TupleDesc_B> src = createData(150,numBits);
+					FastQueue<TupleDesc_B> dst = createData(170,numBits);
+
+					AssociateGreedy<TupleDesc_B> expected = new AssociateGreedy<>(new ScoreAssociateHamming_B(),backwards);
+					AssociateGreedyHamming_B alg = new AssociateGreedyHamming_B(backwards);
+					expected.setMaxFitError(maxError);
+					alg.setMaxFitError(maxError);
+
+					expected.associate(src,dst);
+					alg.associate(src,dst);
+
+					for( int i = 0; i < src.size; i++ ) {
+						assertEquals(expected.getPairs()[i],alg.getPairs()[i]);
+						assertEquals(expected.getFitQuality()[i],alg.getFitQuality()[i],0);
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void ratioTest() {
+		FastQueue<TupleDesc_B> src = createData(100,128);
+		FastQueue<TupleDesc_B> dst = createData(120,128);
+
+		AssociateGreedyHamming_B alg = new AssociateGreedyHamming_B(false);
+		alg.setRatioTest(0.9);
+		alg.associate(src,dst);
+
+		int total = 0;
+		for( int i = 0; i < src.size; i++ ) {
+			int match = alg.getPairs()[i];
+			if( match < 0 )
+				continue;
+			total++;
+			// make sure no other feature is nearly as good
+			for( int j = 0; j < dst.size; j++ ) {
+				if( j == match )
+					continue;
+				double d = DescriptorDistance.hamming(src.get(i),dst.get(j));
+				assertTrue(alg.getFitQuality()[i] <= 0.9*d);
+			}
+		}
+		assertTrue(total > 0 );
+		assertTrue(total < src.size );
+	}
+
+	@Test
+	public void pack() {
+		for( int numBits : new int[]{20,64,96} ) {
+			FastQueue<TupleDesc_B> list = createData(5,numBits);
+			int numWords = (list.get(0).data.length+1)/2;
+			long[] packed = AssociateGreedyHamming_B.pack(list,numWords,new long[0]);
+			assertEquals(5*numWords,packed.length);
+
+			for( int i = 0; i < list.size; i++ ) {
+				TupleDesc_B d = list.get(i);
+				for( int bit = 0; bit < numBits; bit++ ) {
+					long word = packed[i*numWords+bit/64];
+					assertEquals(d.isBitTrue(bit),((word >> (bit%64)) & 1) == 1);
+				}
+			}
+		}
+	}
+
+	private FastQueue<TupleDesc_B> createData( int N , int numBits ) {
+		FastQueue<TupleDesc_B> ret = new FastQueue<TupleDesc_B>(TupleDesc_B.class,true) {
+			@Override
+			protected TupleDesc_B createInstance() {
+				return new TupleDesc_B(numBits);
+			}
+		};
+		for( int i = 0; i < N; i++ ) {
+			TupleDesc_B d = ret.grow();
+			for( int j = 0; j < d.data.length; j++ ) {
+				d.data[j] = rand.nextInt();
+			}
+			// zero bits which aren't part of the descriptor
+			if( numBits % 32 != 0 )
+				d.data[d.data.length-1] &= (1 << (numBits%32))-1;
+		}
+		return ret;
+	}
+}
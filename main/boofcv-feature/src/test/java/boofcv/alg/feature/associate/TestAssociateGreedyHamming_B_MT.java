@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.associate;
+
+import boofcv.struct.feature.TupleDesc_B;
+import org.ddogleg.struct.FastQueue;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestAssociateGreedyHamming_B_MT {
+
+	Random rand = new Random(234);
+
+	@Test
+	public void compareToSingle() {
+		for( boolean backwards : new boolean[]{false,true} ) {
+			for( double ratio : new double[]{1.0,0.8} ) {
+				FastQueue<TupleDesc_B> src = createData(500,24);
+				FastQueue<TupleDesc_B> dst = createData(450,24);
+
+				AssociateGreedyHamming_B expected = new AssociateGreedyHamming_B(backwards);
+				AssociateGreedyHamming_B_MT alg = new AssociateGreedyHamming_B_MT(backwards);
+				expected.setRatioTest(ratio);
+				alg.setRatioTest(ratio);
+
+				expected.associate(src,dst);
+				alg.associate(src,dst);
+
+				for( int i = 0; i < src.size; i++ ) {
+					assertEquals(expected.getPairs()[i],alg.getPairs()[i]);
+					assertEquals(expected.getFitQuality()[i],alg.getFitQuality()[i],0);
+				}
+			}
+		}
+	}
+
+	private FastQueue<TupleDesc_B> createData( int N , int numBits ) {
+		FastQueue<TupleDesc_B> ret = new FastQueue<TupleDesc_B>(TupleDesc_B.class,true) {
+			@Override
+			protected TupleDesc_B createInstance() {
+				return new TupleDesc_B(numBits);
+			}
+		};
+		for( int i = 0; i < N; i++ ) {
+			TupleDesc_B d = ret.grow();
+			for( int j = 0; j < d.data.length; j++ ) {
+				d.data[j] = rand.nextInt();
+			}
+		}
+		return ret;
+	}
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.associate;
+
+import boofcv.abst.feature.associate.ScoreAssociateEuclidean_F64;
+import boofcv.struct.feature.TupleDesc_F64;
+import org.ddogleg.struct.FastQueue;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestAssociateGreedy_MT {
+
+	Random rand = new Random(234);
+
+	@Test
+	public void compareToSingle() {
+		for( boolean backwards : new boolean[]{false,true} ) {
+			FastQueue<TupleDesc_F64> src = TestAssociateGreedy.createData(rand,400);
+			FastQueue<TupleDesc_F64> dst = TestAssociateGreedy.createData(rand,AssociateGreedy.TILE_DST+50);
+
+			AssociateGreedy<TupleDesc_F64> expected = new AssociateGreedy<>(new ScoreAssociateEuclidean_F64(),backwards);
+			AssociateGreedy_MT<TupleDesc_F64> alg = new AssociateGreedy_MT<>(new ScoreAssociateEuclidean_F64(),backwards);
+			expected.setMaxFitError(15);
+			alg.setMaxFitError(15);
+
+			expected.associate(src,dst);
+			alg.associate(src,dst);
+
+			for( int i = 0; i < src.size; i++ ) {
+				assertEquals(expected.getPairs()[i],alg.getPairs()[i]);
+				assertEquals(expected.getFitQuality()[i],alg.getFitQuality()[i],0);
+			}
+		}
+	}
+}
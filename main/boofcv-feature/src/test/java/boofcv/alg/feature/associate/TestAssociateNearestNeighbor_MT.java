@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.associate;
+
+import boofcv.alg.feature.associate.nn.KMeansTree_F64;
+import boofcv.alg.feature.associate.nn.LshHamming_B;
+import boofcv.alg.feature.associate.nn.NearestNeighborConcurrent;
+import boofcv.struct.feature.AssociatedIndex;
+import boofcv.struct.feature.TupleDesc_B;
+import boofcv.struct.feature.TupleDesc_F64;
+import org.ddogleg.struct.FastQueue;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestAssociateNearestNeighbor_MT {
+
+	Random rand = new Random(234);
+
+	@Test
+	public void compareToSingle_F64() {
+		FastQueue<TupleDesc_F64> src = new FastQueue<>(TupleDesc_F64.class,false);
+		FastQueue<TupleDesc_F64> dst = new FastQueue<>(TupleDesc_F64.class,false);
+		for( int i = 0; i < 600; i++ ) {
+			src.add(randomF64(10));
+			dst.add(randomF64(10));
+		}
+
+		compare(new KMeansTree_F64(8,20,5,100,234),src,dst,true);
+	}
+
+	@Test
+	public void compareToSingle_B() {
+		FastQueue<TupleDesc_B> src = new FastQueue<>(TupleDesc_B.class,false);
+		FastQueue<TupleDesc_B> dst = new FastQueue<>(TupleDesc_B.class,false);
+		for( int i = 0; i < 600; i++ ) {
+			src.add(randomB(128));
+			dst.add(randomB(128));
+		}
+
+		compare(new LshHamming_B(6,10,true,234),src,dst,false);
+	}
+
+	private <D> void compare( NearestNeighborConcurrent<D> nn , FastQueue<D> src , FastQueue<D> dst ,
+							  boolean squared ) {
+		for( double ratio : new double[]{1.0,0.9} ) {
+			AssociateNearestNeighbor<D> expected = new AssociateNearestNeighbor<>(nn);
+			AssociateNearestNeighbor_MT<D> alg = new AssociateNearestNeighbor_MT<>(nn);
+
+			for( AssociateNearestNeighbor<D> a : new AssociateNearestNeighbor[]{expected,alg}) {
+				a.setRatioUsesSqrt(squared);
+				a.setScoreRatioThreshold(ratio);
+			}
+
+			expected.setSource(src);
+			expected.setDestination(dst);
+			expected.associate();
+
+			// index is shared so it only needs to be built once
+			alg.setDestination(dst);
+			alg.associate();
+
+			FastQueue<AssociatedIndex> a = expected.getMatches();
+			FastQueue<AssociatedIndex> b = alg.getMatches();
+			assertTrue(a.size > 0);
+			assertEquals(a.size,b.size);
+			for( int i = 0; i < a.size; i++ ) {
+				assertEquals(a.get(i).src,b.get(i).src);
+				assertEquals(a.get(i).dst,b.get(i).dst);
+				assertEquals(a.get(i).fitScore,b.get(i).fitScore,0);
+			}
+		}
+	}
+
+	private TupleDesc_F64 randomF64( int DOF ) {
+		TupleDesc_F64 d = new TupleDesc_F64(DOF);
+		for( int i = 0; i < DOF; i++ )
+			d.value[i] = rand.nextDouble();
+		return d;
+	}
+
+	private TupleDesc_B randomB( int numBits ) {
+		TupleDesc_B d = new TupleDesc_B(numBits);
+		for( int i = 0; i < d.data.length; i++ )
+			d.data[i] = rand.nextInt();
+		return d;
+	}
+}
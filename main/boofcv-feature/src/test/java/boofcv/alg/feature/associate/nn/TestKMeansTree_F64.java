@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.associate.nn;
+
+import boofcv.alg.descriptor.DescriptorDistance;
+import boofcv.struct.feature.TupleDesc_F64;
+import org.ddogleg.nn.NnData;
+import org.ddogleg.struct.FastQueue;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestKMeansTree_F64 {
+
+	Random rand = new Random(234);
+	int DOF = 20;
+
+	/**
+	 * If every point can be checked then the results should be exact
+	 */
+	@Test
+	public void exhaustive() {
+		List<TupleDesc_F64> points = createPoints(1000);
+
+		KMeansTree_F64 alg = new KMeansTree_F64(8,20,5,points.size(),234);
+		alg.setPoints(points,true);
+
+		NnData<TupleDesc_F64> result = new NnData<>();
+		for( int i = 0; i < 50; i++ ) {
+			TupleDesc_F64 query = createPoints(1).get(0);
+			assertTrue(alg.findNearest(query,-1,result));
+			assertEquals(bruteForce(points,query),result.index);
+			assertEquals(DescriptorDistance.euclideanSq(query,result.point),result.distance,1e-8);
+		}
+	}
+
+	/**
+	 * With a limited number of checks most of the results should still be correct
+	 */
+	@Test
+	public void approximate() {
+		List<TupleDesc_F64> points = createClusteredPoints(50,40);
+
+		KMeansTree_F64 alg = new KMeansTree_F64(8,20,5,200,234);
+		alg.setPoints(points,true);
+
+		NnData<TupleDesc_F64> result = new NnData<>();
+		int correct = 0;
+		for( int i = 0; i < 100; i++ ) {
+			TupleDesc_F64 query = points.get(rand.nextInt(points.size())).copy();
+			for( int j = 0; j < DOF; j++ )
+				query.value[j] += rand.nextGaussian()*0.01;
+			assertTrue(alg.findNearest(query,-1,result));
+			if( result.index == bruteForce(points,query) )
+				correct++;
+		}
+		assertTrue(correct >= 90);
+	}
+
+	/**
+	 * If no point is within the maximum distance the search should still stop after 'maxChecks' points and
+	 * not examine the entire tree
+	 */
+	@Test
+	public void noMatch_boundedChecks() {
+		List<TupleDesc_F64> points = createPoints(2000);
+
+		int maxChecks = 100;
+		int maxLeafSize = 20;
+		KMeansTree_F64 alg = new KMeansTree_F64(8,maxLeafSize,5,maxChecks,234);
+		alg.setPoints(points,true);
+		KMeansTree_F64.Search search = (KMeansTree_F64.Search)alg.search;
+
+		NnData<TupleDesc_F64> result = new NnData<>();
+		FastQueue<NnData<TupleDesc_F64>> results = new FastQueue(NnData.class,true);
+		for( int i = 0; i < 20; i++ ) {
+			TupleDesc_F64 query = createPoints(1).get(0);
+			assertFalse(alg.findNearest(query,1e-8,result));
+			// leaves are always examined in their entirety
+			assertTrue(search.checks < maxChecks + maxLeafSize);
+
+			alg.findNearest(query,1e-8,3,results);
+			assertEquals(0,results.size);
+			assertTrue(search.checks < maxChecks + maxLeafSize);
+		}
+	}
+
+	@Test
+	public void findNearest_N() {
+		List<TupleDesc_F64> points = createPoints(500);
+
+		KMeansTree_F64 alg = new KMeansTree_F64(4,10,5,points.size(),234);
+		alg.setPoints(points,true);
+
+		FastQueue<NnData<TupleDesc_F64>> results = new FastQueue(NnData.class,true);
+		TupleDesc_F64 query = createPoints(1).get(0);
+		alg.findNearest(query,-1,5,results);
+		assertEquals(5,results.size);
+
+		// the 5 closest points are found
+		int found = 0;
+		double worst = results.get(4).distance;
+		for( TupleDesc_F64 p : points ) {
+			if( DescriptorDistance.euclideanSq(p,query) <= worst )
+				found++;
+		}
+		assertEquals(5,found);
+
+		// max distance is respected
+		alg.findNearest(query,results.get(1).distance,5,results);
+		assertEquals(2,results.size);
+	}
+
+	/**
+	 * All the points are the same and can't be split
+	 */
+	@Test
+	public void identicalPoints() {
+		List<TupleDesc_F64> points = new ArrayList<>();
+		for( int i = 0; i < 300; i++ )
+			points.add(new TupleDesc_F64(DOF));
+
+		KMeansTree_F64 alg = new KMeansTree_F64(4,10,5,100,234);
+		alg.setPoints(points,true);
+
+		NnData<TupleDesc_F64> result = new NnData<>();
+		assertTrue(alg.findNearest(points.get(0),-1,result));
+		assertEquals(0,result.distance,0);
+	}
+
+	@Test
+	public void empty() {
+		KMeansTree_F64 alg = new KMeansTree_F64(4,10,5,100,234);
+		alg.setPoints(new ArrayList<>(),true);
+		assertFalse(alg.findNearest(createPoints(1).get(0),-1,new NnData<>()));
+	}
+
+	private int bruteForce( List<TupleDesc_F64> points , TupleDesc_F64 query ) {
+		int best = -1;
+		double bestDistance = Double.MAX_VALUE;
+		for( int i = 0; i < points.size(); i++ ) {
+			double d = DescriptorDistance.euclideanSq(points.get(i),query);
+			if( d < bestDistance ) {
+				bestDistance = d;
+				best = i;
+			}
+		}
+		return best;
+	}
+
+	private List<TupleDesc_F64> createPoints( int N ) {
+		List<TupleDesc_F64> points = new ArrayList<>();
+		for( int i = 0; i < N; i++ ) {
+			TupleDesc_F64 d = new TupleDesc_F64(DOF);
+			for( int j = 0; j < DOF; j++ )
+				d.value[j] = rand.nextDouble();
+			points.add(d);
+		}
+		return points;
+	}
+
+	private List<TupleDesc_F64> createClusteredPoints( int numClusters , int pointsPerCluster ) {
+		List<TupleDesc_F64> centers = createPoints(numClusters);
+		List<TupleDesc_F64> points = new ArrayList<>();
+		for( TupleDesc_F64 c : centers ) {
+			for( int i = 0; i < pointsPerCluster; i++ ) {
+				TupleDesc_F64 d = c.copy();
+				for( int j = 0; j < DOF; j++ )
+					d.value[j] += rand.nextGaussian()*0.05;
+				points.add(d);
+			}
+		}
+		return points;
+	}
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.associate.nn;
+
+import boofcv.alg.descriptor.DescriptorDistance;
+import boofcv.struct.feature.TupleDesc_B;
+import org.ddogleg.nn.NnData;
+import org.ddogleg.struct.FastQueue;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestLshHamming_B {
+
+	Random rand = new Random(234);
+
+	/**
+	 * Queries are noisy copies of points in the index.  The original should almost always be found
+	 */
+	@Test
+	public void findNoisyCopy() {
+		List<TupleDesc_B> points = createPoints(2000);
+
+		LshHamming_B alg = new LshHamming_B(8,16,true,234);
+		alg.setPoints(points,true);
+
+		NnData<TupleDesc_B> result = new NnData<>();
+		int correct = 0;
+		for( int i = 0; i < 200; i++ ) {
+			TupleDesc_B query = flipBits(points.get(i),10);
+			assertTrue(alg.findNearest(query,-1,result));
+			assertEquals(DescriptorDistance.hamming(query,result.point),result.distance,0);
+			assertSame(points.get(result.index),result.point);
+			if( result.index == i )
+				correct++;
+		}
+		assertTrue(correct >= 190);
+	}
+
+	/**
+	 * Multi-probe should find more matches than just checking the exact key
+	 */
+	@Test
+	public void multiProbe() {
+		List<TupleDesc_B> points = createPoints(2000);
+
+		LshHamming_B single = new LshHamming_B(2,20,false,234);
+		LshHamming_B multi = new LshHamming_B(2,20,true,234);
+		single.setPoints(points,true);
+		multi.setPoints(points,true);
+
+		NnData<TupleDesc_B> result = new NnData<>();
+		int correctSingle = 0, correctMulti = 0;
+		for( int i = 0; i < 300; i++ ) {
+			TupleDesc_B query = flipBits(points.get(i),40);
+			if( single.findNearest(query,-1,result) && result.index == i )
+				correctSingle++;
+			if( multi.findNearest(query,-1,result) && result.index == i )
+				correctMulti++;
+		}
+		assertTrue(correctMulti > correctSingle);
+	}
+
+	@Test
+	public void findNearest_N() {
+		List<TupleDesc_B> points = createPoints(500);
+		// create a few points which are very close to the first one
+		for( int i = 0; i < 3; i++ ) {
+			points.add(flipBits(points.get(0),i+1));
+		}
+
+		LshHamming_B alg = new LshHamming_B(8,12,true,234);
+		alg.setPoints(points,true);
+
+		FastQueue<NnData<TupleDesc_B>> results = new FastQueue(NnData.class,true);
+		alg.findNearest(points.get(0),-1,4,results);
+
+		assertEquals(4,results.size);
+		for( int i = 0; i < 4; i++ ) {
+			assertEquals(i,results.get(i).distance,0);
+		}
+
+		// max distance is respected
+		alg.findNearest(points.get(0),1,4,results);
+		assertEquals(2,results.size);
+	}
+
+	/**
+	 * Searches should be independent of each other
+	 */
+	@Test
+	public void createSearch() {
+		List<TupleDesc_B> points = createPoints(500);
+
+		LshHamming_B alg = new LshHamming_B(8,12,true,234);
+		alg.setPoints(points,true);
+
+		NearestNeighborSearch<TupleDesc_B> searchA = alg.createSearch();
+		NearestNeighborSearch<TupleDesc_B> searchB = alg.createSearch();
+
+		NnData<TupleDesc_B> resultA = new NnData<>();
+		NnData<TupleDesc_B> resultB = new NnData<>();
+		for( int i = 0; i < 20; i++ ) {
+			TupleDesc_B query = flipBits(points.get(i),5);
+			assertTrue(searchA.findNearest(query,-1,resultA));
+			assertTrue(searchB.findNearest(query,-1,resultB));
+			assertEquals(resultA.index,resultB.index);
+		}
+	}
+
+	@Test
+	public void empty() {
+		LshHamming_B alg = new LshHamming_B(8,12,true,234);
+		alg.setPoints(new ArrayList<>(),true);
+		assertFalse(alg.findNearest(createPoints(1).get(0),-1,new NnData<>()));
+	}
+
+	private List<TupleDesc_B> createPoints( int N ) {
+		List<TupleDesc_B> points = new ArrayList<>();
+		for( int i = 0; i < N; i++ ) {
+			TupleDesc_B d = new TupleDesc_B(256);
+			for( int j = 0; j < d.data.length; j++ )
+				d.data[j] = rand.nextInt();
+			points.add(d);
+		}
+		return points;
+	}
+
+	private TupleDesc_B flipBits( TupleDesc_B original , int numFlip ) {
+		TupleDesc_B d = original.copy();
+		List<Integer> bits = new ArrayList<>();
+		while( bits.size() < numFlip ) {
+			int bit = rand.nextInt(d.numBits);
+			if( bits.contains(bit) )
+				continue;
+			bits.add(bit);
+			d.data[bit/32] ^= 1 << (bit%32);
+		}
+		return d;
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boofcv.alg.feature.dense;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.struct.feature.TupleDesc_F64;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImageType;
+import georegression.struct.point.Point2D_I32;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestDescribeDenseHogFastAlg_MT {
+
+	Random rand = new Random(234);
+
+	@Test
+	public void compareToSingleThread() {
+		compareToSingleThread(ImageType.single(GrayF32.class));
+		compareToSingleThread(ImageType.pl(2, GrayF32.class));
+	}
+
+	private <T extends ImageBase<T>> void compareToSingleThread( ImageType<T> imageType ) {
+		for( int stepBlock = 1; stepBlock <= 3; stepBlock++ ) {
+			T image = imageType.createImage(123,97);
+			GImageMiscOps.fillUniform(image,rand,0,200);
+
+			DescribeDenseHogFastAlg<T> expected = new DescribeDenseHogFastAlg<>(9,8,3,2,stepBlock,imageType);
+			DescribeDenseHogFastAlg_MT<T> found = new DescribeDenseHogFastAlg_MT<>(9,8,3,2,stepBlock,imageType);
+
+			expected.setInput(image);
+			expected.process();
+			found.setInput(image);
+			found.process();
+
+			assertEquals(expected.getDescriptions().size(),found.getDescriptions().size());
+			assertEquals(expected.getLocations().size(),found.getLocations().size());
+
+			for (int i = 0; i < expected.getDescriptions().size(); i++) {
+				Point2D_I32 a = expected.getLocations().get(i);
+				Point2D_I32 b = found.getLocations().get(i);
+				assertEquals(a.x,b.x);
+				assertEquals(a.y,b.y);
+
+				TupleDesc_F64 descA = expected.getDescriptions().get(i);
+				TupleDesc_F64 descB = found.getDescriptions().get(i);
+				for (int j = 0; j < descA.size(); j++) {
+					assertEquals(descA.value[j],descB.value[j],0);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Image which is too small for a single block
+	 */
+	@Test
+	public void imageTooSmall() {
+		ImageType<GrayF32> imageType = ImageType.single(GrayF32.class);
+		DescribeDenseHogFastAlg_MT<GrayF32> alg = new DescribeDenseHogFastAlg_MT<>(9,8,3,2,1,imageType);
+
+		alg.setInput(new GrayF32(20,40));
+		alg.process();
+		assertEquals(0,alg.getDescriptions().size());
+		assertEquals(0,alg.getLocations().size());
+	}
+}
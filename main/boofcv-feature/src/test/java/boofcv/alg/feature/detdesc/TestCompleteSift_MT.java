@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detdesc;
+
+import boofcv.abst.feature.detect.extract.ConfigExtract;
+import boofcv.abst.feature.detect.extract.NonMaxLimiter;
+import boofcv.abst.feature.detect.extract.NonMaxSuppression;
+import boofcv.alg.feature.describe.DescribePointSift;
+import boofcv.alg.feature.detect.interest.SiftScaleSpace;
+import boofcv.alg.feature.orientation.OrientationHistogramSift;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.factory.feature.detect.extract.FactoryFeatureExtractor;
+import boofcv.struct.feature.BrightFeature;
+import boofcv.struct.feature.ScalePoint;
+import boofcv.struct.image.GrayF32;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestCompleteSift_MT {
+
+	Random rand = new Random(234);
+
+	@Test
+	public void compareToSingleThread() {
+		GrayF32 image = new GrayF32(300,290);
+		GImageMiscOps.fillUniform(image,rand,0,200);
+
+		CompleteSift single = new CompleteSift(createScaleSpace(),10,createLimiter(),
+				createOrientation(),createDescribe());
+		CompleteSift_MT multi = new CompleteSift_MT(createScaleSpace(),10,createLimiter(),
+				TestCompleteSift_MT::createOrientation,TestCompleteSift_MT::createDescribe);
+
+		// process twice to make sure the internal storage is reset
+		for (int trial = 0; trial < 2; trial++) {
+			single.process(image);
+			multi.process(image);
+
+			int N = single.getOrientations().size;
+			assertTrue(N > 10);
+			assertEquals(N, multi.getOrientations().size);
+			assertEquals(N, multi.getLocations().size);
+			assertEquals(N, multi.getDescriptions().size);
+
+			for (int i = 0; i < N; i++) {
+				assertEquals(single.getOrientations().get(i), multi.getOrientations().get(i), 0);
+
+				ScalePoint expectedP = single.getLocations().get(i);
+				ScalePoint foundP = multi.getLocations().get(i);
+				assertEquals(expectedP.x, foundP.x, 0);
+				assertEquals(expectedP.y, foundP.y, 0);
+				assertEquals(expectedP.scale, foundP.scale, 0);
+				assertEquals(expectedP.white, foundP.white);
+
+				BrightFeature expectedD = single.getDescriptions().get(i);
+				BrightFeature foundD = multi.getDescriptions().get(i);
+				assertEquals(expectedD.white, foundD.white);
+				for (int j = 0; j < expectedD.size(); j++) {
+					assertEquals(expectedD.value[j], foundD.value[j], 0);
+				}
+			}
+		}
+	}
+
+	private static SiftScaleSpace createScaleSpace() {
+		return new SiftScaleSpace(-1,4,3,1.6);
+	}
+
+	private static NonMaxLimiter createLimiter() {
+		NonMaxSuppression nonmax = FactoryFeatureExtractor.nonmax(new ConfigExtract(1,0,1,true,true,true));
+		return new NonMaxLimiter(nonmax,300);
+	}
+
+	private static OrientationHistogramSift<GrayF32> createOrientation() {
+		return new OrientationHistogramSift<>(36,1.5,GrayF32.class);
+	}
+
+	private static DescribePointSift<GrayF32> createDescribe() {
+		return new DescribePointSift<>(4,4,8,1.5,0.5,0.2,GrayF32.class);
+	}
+}
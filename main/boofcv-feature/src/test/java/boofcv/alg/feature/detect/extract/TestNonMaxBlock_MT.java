@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.extract;
+
+import boofcv.abst.feature.detect.extract.GeneralNonMaxSuppressionChecks;
+import boofcv.abst.feature.detect.extract.NonMaxSuppression;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.QueueCorner;
+import boofcv.struct.image.GrayF32;
+import georegression.struct.point.Point2D_I16;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestNonMaxBlock_MT {
+
+	Random rand = new Random(234);
+
+	@Test
+	public void checkStandard() {
+		GenericNonMaxAlgorithmTests checks = new GenericNonMaxAlgorithmTests(true,true,true) {
+
+			@Override
+			public void findMaximums(GrayF32 intensity, float threshold, int radius, int border,
+									 QueueCorner foundMinimum, QueueCorner foundMaximum)
+			{
+				NonMaxSuppression alg = new NonMaxBlock_MT(NonMaxBlockStrict.MinMax::new);
+				alg.setThresholdMinimum(-threshold);
+				alg.setThresholdMaximum(threshold);
+				alg.setIgnoreBorder(border);
+				alg.setSearchRadius(radius);
+				alg.process(intensity,null,null,foundMinimum,foundMaximum);
+			}
+		};
+
+		checks.allStandard();
+	}
+
+	@Test
+	public void checkNonMaxSuppression() {
+		GeneralNonMaxSuppressionChecks checks = new GeneralNonMaxSuppressionChecks() {
+			@Override
+			public NonMaxSuppression createAlg() {
+				return new NonMaxBlock_MT(NonMaxBlockStrict.MinMax::new);
+			}
+		};
+		checks.testAll();
+	}
+
+	@Test
+	public void compareToSingleThread() {
+		compareToSingleThread(NonMaxBlockStrict.Max::new);
+		compareToSingleThread(NonMaxBlockStrict.Min::new);
+		compareToSingleThread(NonMaxBlockStrict.MinMax::new);
+		compareToSingleThread(NonMaxBlockRelaxed.Max::new);
+		compareToSingleThread(NonMaxBlockRelaxed.Min::new);
+		compareToSingleThread(NonMaxBlockRelaxed.MinMax::new);
+	}
+
+	private void compareToSingleThread( Supplier<NonMaxBlock> factory ) {
+		GrayF32 intensity = new GrayF32(120,95);
+		// discretize the values so that there are ties
+		for (int i = 0; i < intensity.data.length; i++) {
+			intensity.data[i] = rand.nextInt(40)-20;
+		}
+
+		NonMaxBlock expected = factory.get();
+		NonMaxBlock_MT found = new NonMaxBlock_MT(factory);
+
+		assertEquals(expected.detectsMinimum,found.canDetectMinimums());
+		assertEquals(expected.detectsMaximum,found.canDetectMaximums());
+
+		for( int radius = 1; radius <= 3; radius++ ) {
+			for( int border = 0; border <= 4; border += 2 ) {
+				expected.setSearchRadius(radius);
+				expected.setBorder(border);
+				expected.setThresholdMin(-5);
+				expected.setThresholdMax(5);
+
+				found.setSearchRadius(radius);
+				found.setIgnoreBorder(border);
+				found.setThresholdMinimum(-5);
+				found.setThresholdMaximum(5);
+
+				QueueCorner expectedMin = new QueueCorner();
+				QueueCorner expectedMax = new QueueCorner();
+				QueueCorner foundMin = new QueueCorner();
+				QueueCorner foundMax = new QueueCorner();
+
+				expected.process(intensity,expectedMin,expectedMax);
+				found.process(intensity,null,null,foundMin,foundMax);
+
+				assertTrue(expectedMin.size+expectedMax.size > 0);
+				assertIdentical(expectedMin,foundMin);
+				assertIdentical(expectedMax,foundMax);
+			}
+		}
+	}
+
+	private static void assertIdentical( QueueCorner expected , QueueCorner found ) {
+		assertEquals(expected.size,found.size);
+		for (int i = 0; i < expected.size; i++) {
+			Point2D_I16 a = expected.get(i);
+			Point2D_I16 b = found.get(i);
+			assertEquals(a.x,b.x);
+			assertEquals(a.y,b.y);
+		}
+	}
+
+	/**
+	 * Found features should be added to the output lists and not replace what's already there
+	 */
+	@Test
+	public void appendsToOutput() {
+		GrayF32 intensity = new GrayF32(30,40);
+		ImageMiscOps.fill(intensity,0);
+		intensity.set(10,12,20);
+
+		NonMaxBlock_MT alg = new NonMaxBlock_MT(NonMaxBlockStrict.Max::new);
+		alg.setSearchRadius(2);
+		alg.setThresholdMaximum(5);
+
+		QueueCorner foundMax = new QueueCorner();
+		foundMax.add(1,2);
+		alg.process(intensity,null,null,null,foundMax);
+
+		assertEquals(2,foundMax.size);
+		assertEquals(1,foundMax.get(0).x);
+		assertEquals(10,foundMax.get(1).x);
+		assertEquals(12,foundMax.get(1).y);
+	}
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.intensity;
+
+import boofcv.alg.feature.detect.intensity.impl.ImplFastCorner12_F32;
+import boofcv.alg.feature.detect.intensity.impl.ImplFastCorner9_U8;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.QueueCorner;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageGray;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestFastCornerDetector_MT {
+	Random rand = new Random(234);
+	int width = 120;
+	int height = 140;
+
+	@Test
+	public void compareToSingleThread_U8() {
+		compareToSingleThread(GrayU8.class,
+				new FastCornerDetector<>(new ImplFastCorner9_U8(20)),
+				new FastCornerDetector_MT<>(new ImplFastCorner9_U8(20)));
+	}
+
+	@Test
+	public void compareToSingleThread_F32() {
+		compareToSingleThread(GrayF32.class,
+				new FastCornerDetector<>(new ImplFastCorner12_F32(20)),
+				new FastCornerDetector_MT<>(new ImplFastCorner12_F32(20)));
+	}
+
+	private <T extends ImageGray<T>>
+	void compareToSingleThread( Class<T> type , FastCornerDetector<T> single , FastCornerDetector<T> multi ) {
+		T image = GeneralizedImageOps.createSingleBand(type,width,height);
+		GImageMiscOps.fillUniform(image,rand,0,255);
+
+		GrayF32 expected = new GrayF32(width,height);
+		GrayF32 found = new GrayF32(width,height);
+
+		// run it twice to make sure internal storage is reset correctly
+		for (int trial = 0; trial < 2; trial++) {
+			single.process(image,expected);
+			multi.process(image,found);
+
+			assertTrue(single.getCornersLow().size > 0);
+			assertTrue(single.getCornersHigh().size > 0);
+			BoofTesting.assertEquals(expected,found,0);
+			assertIdentical(single.getCornersLow(),multi.getCornersLow());
+			assertIdentical(single.getCornersHigh(),multi.getCornersHigh());
+
+			single.process(image);
+			multi.process(image);
+			assertIdentical(single.getCornersLow(),multi.getCornersLow());
+			assertIdentical(single.getCornersHigh(),multi.getCornersHigh());
+		}
+	}
+
+	/**
+	 * Results should not change with the number of threads
+	 */
+	@Test
+	public void differentNumberOfThreads() {
+		GrayU8 image = new GrayU8(width,height);
+		GImageMiscOps.fillUniform(image,rand,0,255);
+
+		FastCornerDetector<GrayU8> single = new FastCornerDetector<>(new ImplFastCorner9_U8(20));
+		single.process(image);
+
+		int original = BoofConcurrency.getMaxThreads();
+		try {
+			for (int numThreads = 1; numThreads <= 5; numThreads++) {
+				BoofConcurrency.setMaxThreads(numThreads);
+				FastCornerDetector_MT<GrayU8> multi = new FastCornerDetector_MT<>(new ImplFastCorner9_U8(20));
+				multi.process(image);
+				assertIdentical(single.getCornersLow(),multi.getCornersLow());
+				assertIdentical(single.getCornersHigh(),multi.getCornersHigh());
+			}
+		} finally {
+			BoofConcurrency.setMaxThreads(original);
+		}
+	}
+
+	/**
+	 * When the maximum number of features is hit the same corners as the single threaded algorithm should be
+	 * returned, no matter how many threads there are
+	 */
+	@Test
+	public void maxFeatures() {
+		GrayU8 image = new GrayU8(width,height);
+		GImageMiscOps.fillUniform(image,rand,0,255);
+		GrayF32 intensity = new GrayF32(width,height);
+
+		int original = BoofConcurrency.getMaxThreads();
+		try {
+			for( double fraction : new double[]{1e-6,0.002,0.01,0.05} ) {
+				FastCornerDetector<GrayU8> single = new FastCornerDetector<>(new ImplFastCorner9_U8(20));
+				single.setMaxFeaturesFraction(fraction);
+				single.process(image);
+				QueueCorner expectedLow = copy(single.getCornersLow());
+				QueueCorner expectedHigh = copy(single.getCornersHigh());
+				// sanity check. the limit should have been hit
+				int total = expectedLow.size + expectedHigh.size;
+				assertTrue(total >= (int)(fraction*width*height));
+
+				for (int numThreads = 1; numThreads <= 5; numThreads++) {
+					BoofConcurrency.setMaxThreads(numThreads);
+					FastCornerDetector_MT<GrayU8> multi = new FastCornerDetector_MT<>(new ImplFastCorner9_U8(20));
+					multi.setMaxFeaturesFraction(fraction);
+					multi.process(image);
+					assertIdentical(expectedLow,multi.getCornersLow());
+					assertIdentical(expectedHigh,multi.getCornersHigh());
+
+					multi.process(image,intensity);
+					assertIdentical(expectedLow,multi.getCornersLow());
+					assertIdentical(expectedHigh,multi.getCornersHigh());
+				}
+			}
+		} finally {
+			BoofConcurrency.setMaxThreads(original);
+		}
+	}
+
+	private static QueueCorner copy( QueueCorner src ) {
+		QueueCorner dst = new QueueCorner();
+		for (int i = 0; i < src.size; i++) {
+			dst.add(src.get(i));
+		}
+		return dst;
+	}
+
+	private static void assertIdentical( QueueCorner expected , QueueCorner found ) {
+		assertEquals(expected.size,found.size);
+		for (int i = 0; i < expected.size; i++) {
+			assertEquals(expected.get(i).x,found.get(i).x);
+			assertEquals(expected.get(i).y,found.get(i).y);
+		}
+	}
+}
@@ -26,12 +26,22 @@ import boofcv.struct.image.GrayF32;
 public class TestImplFastHelper_F32 extends GenericImplFastCornerInterfaceTests<GrayF32> {
 
 	public TestImplFastHelper_F32() {
-		super(GrayF32.class, new ImplFastHelper_F32(10){
-			@Override
-			public int checkPixel(int index) {
-				return 0;
-			}
-		}, 10);
+		super(GrayF32.class, new Helper(10), 10);
 	}
 
+	private static class Helper extends ImplFastHelper_F32 {
+		Helper( float pixelTol ) {
+			super(pixelTol);
+		}
+
+		@Override
+		public int checkPixel(int index) {
+			return 0;
+		}
+
+		@Override
+		public Helper newInstance() {
+			return new Helper(tol);
+		}
+	}
 }
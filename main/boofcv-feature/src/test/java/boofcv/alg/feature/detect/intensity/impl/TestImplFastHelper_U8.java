@@ -26,13 +26,22 @@ import boofcv.struct.image.GrayU8;
 public class TestImplFastHelper_U8 extends GenericImplFastCornerInterfaceTests<GrayU8> {
 
 	public TestImplFastHelper_U8() {
-		super(GrayU8.class, new ImplFastHelper_U8(10) {
-
-			@Override
-			public int checkPixel(int index) {
-				return 0;
-			}
-		}, 10);
+		super(GrayU8.class, new Helper(10), 10);
 	}
 
+	private static class Helper extends ImplFastHelper_U8 {
+		Helper( int pixelTol ) {
+			super(pixelTol);
+		}
+
+		@Override
+		public int checkPixel(int index) {
+			return 0;
+		}
+
+		@Override
+		public Helper newInstance() {
+			return new Helper(tol);
+		}
+	}
 }
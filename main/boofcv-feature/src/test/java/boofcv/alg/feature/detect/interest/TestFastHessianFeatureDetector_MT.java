@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.interest;
+
+import boofcv.abst.feature.detect.extract.ConfigExtract;
+import boofcv.abst.feature.detect.extract.NonMaxSuppression;
+import boofcv.alg.filter.blur.BlurImageOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.alg.transform.ii.IntegralImageOps;
+import boofcv.factory.feature.detect.extract.FactoryFeatureExtractor;
+import boofcv.struct.feature.ScalePoint;
+import boofcv.struct.image.GrayF32;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestFastHessianFeatureDetector_MT {
+	Random rand = new Random(234);
+
+	@Test
+	public void compareToSingleThread() {
+		GrayF32 input = new GrayF32(200,180);
+		ImageMiscOps.fillUniform(input,rand,0,255);
+		GrayF32 blurred = BlurImageOps.gaussian(input,null,-1,3,null);
+		GrayF32 integral = IntegralImageOps.transform(blurred,null);
+
+		for( int maxFeatures : new int[]{-1,20} ) {
+			FastHessianFeatureDetector<GrayF32> single = new FastHessianFeatureDetector<>(createExtractor(),
+					maxFeatures, 1, 9, 4, 4, 6);
+			FastHessianFeatureDetector<GrayF32> multi = new FastHessianFeatureDetector_MT<>(createExtractor(),
+					maxFeatures, 1, 9, 4, 4, 6);
+
+			// process it twice to make sure the buffers are reused correctly
+			for( int trial = 0; trial < 2; trial++ ) {
+				single.detect(integral);
+				multi.detect(integral);
+
+				List<ScalePoint> expected = single.getFoundPoints();
+				List<ScalePoint> found = multi.getFoundPoints();
+
+				assertTrue(expected.size() > 0);
+				assertEquals(expected.size(), found.size());
+				for( int i = 0; i < expected.size(); i++ ) {
+					ScalePoint e = expected.get(i);
+					ScalePoint f = found.get(i);
+					assertEquals(e.x, f.x, 0);
+					assertEquals(e.y, f.y, 0);
+					assertEquals(e.scale, f.scale, 0);
+				}
+			}
+		}
+	}
+
+	private static NonMaxSuppression createExtractor() {
+		return FactoryFeatureExtractor.nonmax(new ConfigExtract(1, 1, 5, true));
+	}
+}
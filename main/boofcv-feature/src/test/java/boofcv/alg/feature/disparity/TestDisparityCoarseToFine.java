@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity;
+
+import boofcv.abst.feature.disparity.StereoDisparity;
+import boofcv.abst.feature.disparity.WrapDisparityCoarseToFine;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.feature.disparity.DisparityAlgorithms;
+import boofcv.factory.feature.disparity.FactoryStereoDisparity;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestDisparityCoarseToFine {
+
+	Random rand = new Random(234);
+	int width = 160, height = 80;
+	int radius = 2;
+
+	/**
+	 * The right image is the left image shifted by a known amount.  That's the disparity which should be found
+	 */
+	@Test
+	public void knownDisparity() {
+		GrayU8 left = new GrayU8(width,height);
+		GrayU8 right = new GrayU8(width,height);
+		createShifted(left,right,37);
+
+		StereoDisparity<GrayU8,GrayU8> alg = FactoryStereoDisparity.regionCoarseToFineWta(
+				2,60,radius,radius,-1,-1,-1,4,8,GrayU8.class);
+		alg.process(left,right);
+		GrayU8 found = alg.getDisparity();
+
+		for( int y = radius; y < height-radius; y++ ) {
+			for( int x = 37+radius; x < width-radius; x++ ) {
+				assertEquals(x+" "+y,37-2,found.get(x,y));
+			}
+		}
+	}
+
+	/**
+	 * If the margin is larger than the disparity range then every disparity is searched and the results
+	 * should be identical to a full search
+	 */
+	@Test
+	public void compareToFullSearch() {
+		GrayU8 left = new GrayU8(width,height);
+		GrayU8 right = new GrayU8(width,height);
+		ImageMiscOps.fillUniform(left,rand,0,255);
+		ImageMiscOps.fillUniform(right,rand,0,255);
+
+		int minDisparity = 3, maxDisparity = 40;
+		StereoDisparity<GrayU8,GrayU8> full = FactoryStereoDisparity.regionWta(DisparityAlgorithms.RECT,
+				minDisparity,maxDisparity,radius,radius,-1,-1,-1,GrayU8.class);
+		StereoDisparity<GrayU8,GrayU8> alg = FactoryStereoDisparity.regionCoarseToFineWta(
+				minDisparity,maxDisparity,radius,radius,-1,-1,-1,4,maxDisparity,GrayU8.class);
+
+		full.process(left,right);
+		alg.process(left,right);
+
+		GrayU8 expected = full.getDisparity();
+		GrayU8 found = alg.getDisparity();
+
+		for( int y = radius; y < height-radius; y++ ) {
+			for( int x = minDisparity+radius; x < width-radius; x++ ) {
+				assertEquals(x+" "+y,expected.get(x,y),found.get(x,y));
+			}
+		}
+	}
+
+	/**
+	 * The search range of a block should include the disparities from the neighboring coarse pixels
+	 */
+	@Test
+	public void selectBlockRange() {
+		GrayU8 left = new GrayU8(width,height);
+		GrayU8 right = new GrayU8(width,height);
+		createShifted(left,right,20);
+
+		DisparityCoarseToFine<GrayU8> alg = createAlg(2);
+		alg.process(left,right);
+
+		// overwrite the coarse disparity with known values. Coarse minimum disparity is 0
+		GrayU8 coarse = alg.getCoarse().getDisparity();
+		int invalid = alg.getCoarse().getMaxDisparity()+1;
+		ImageMiscOps.fill(coarse,invalid);
+
+		DisparityCoarseToFine.WorkSpace work = new DisparityCoarseToFine.WorkSpace();
+
+		// no valid coarse pixels
+		assertTrue(!alg.selectBlockRange(16,16,32,32,work));
+
+		// pixels inside the block and its neighbors are included, others are not
+		coarse.set(3,3,5);
+		coarse.set(8,4,7);
+		coarse.set(9,4,1);
+		assertTrue(alg.selectBlockRange(16,16,32,32,work));
+		assertEquals(5*4-2,work.disparity0);
+		assertEquals(7*4+2+1,work.disparity1);
+
+		// make sure it's bounded by the disparity range
+		coarse.set(4,4,0);
+		assertTrue(alg.selectBlockRange(16,16,32,32,work));
+		assertEquals(alg.getMinDisparity(),work.disparity0);
+
+		// invalid coarse pixels are ignored
+		coarse.set(5,5,invalid-1);
+		assertTrue(alg.selectBlockRange(16,16,32,32,work));
+		assertEquals(7*4+2+1,work.disparity1);
+
+		// along the image border the closest coarse pixels with a valid disparity are used
+		int borderX = alg.getCoarse().getBorderX();
+		coarse.set(coarse.width-1-borderX,5,3);
+		assertTrue(alg.selectBlockRange(width-20,16,width-radius,32,work));
+		assertEquals(3*4-2,work.disparity0);
+		assertEquals(3*4+2+1,work.disparity1);
+	}
+
+	/**
+	 * Compute the disparity with and without concurrency.  The results should be identical
+	 */
+	@Test
+	public void compareConcurrentToSingleThread() {
+		GrayU8 left = new GrayU8(width,height);
+		GrayU8 right = new GrayU8(width,height);
+		createShifted(left,right,25);
+		// add noise so that it isn't perfect
+		for( int i = 0; i < right.data.length; i++ ) {
+			right.data[i] = (byte)Math.max(0,Math.min(255,(right.data[i]&0xFF)+rand.nextInt(61)-30));
+		}
+
+		boolean original = BoofConcurrency.USE_CONCURRENT;
+		try {
+			DisparityCoarseToFine<GrayU8> alg = createAlg(4);
+
+			BoofConcurrency.USE_CONCURRENT = false;
+			alg.process(left,right);
+			GrayU8 expected = alg.getDisparity().clone();
+			BoofConcurrency.USE_CONCURRENT = true;
+			alg.process(left,right);
+
+			BoofTesting.assertEquals(expected,alg.getDisparity(),1e-8);
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = original;
+		}
+	}
+
+	/**
+	 * Invalid pixels are marked with range+1 in a GrayU8 image. A range of 255 or more would wrap around and
+	 * must be rejected, while the largest allowed range must still mark invalid pixels correctly.
+	 */
+	@Test
+	public void disparityRangeLimits() {
+		try {
+			FactoryStereoDisparity.regionCoarseToFineWta(0,255,radius,radius,-1,-1,-1,4,8,GrayU8.class);
+			fail("Exception should have been thrown");
+		} catch( IllegalArgumentException ignore ){}
+
+		try {
+			new DisparityCoarseToFine.U8(null,4,8,1,256,radius,radius,-1);
+			fail("Exception should have been thrown");
+		} catch( IllegalArgumentException ignore ){}
+
+		int width = 300;
+		GrayU8 left = new GrayU8(width,height);
+		GrayU8 right = new GrayU8(width,height);
+		ImageMiscOps.fillUniform(left,rand,0,255);
+		ImageMiscOps.fillUniform(right,rand,0,255);
+
+		StereoDisparity<GrayU8,GrayU8> alg = FactoryStereoDisparity.regionCoarseToFineWta(
+				0,254,radius,radius,-1,-1,-1,4,8,GrayU8.class);
+		alg.process(left,right);
+		GrayU8 found = alg.getDisparity();
+
+		// the image border can't be processed and must be marked invalid, not as a valid disparity
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				if( x < radius || x >= width-radius || y < radius || y >= height-radius )
+					assertEquals(x+" "+y,255,found.get(x,y));
+			}
+		}
+	}
+
+	private DisparityCoarseToFine<GrayU8> createAlg( int margin ) {
+		WrapDisparityCoarseToFine<GrayU8> wrapped = (WrapDisparityCoarseToFine)FactoryStereoDisparity.
+				regionCoarseToFineWta(1,60,radius,radius,-1,-1,-1,4,margin,GrayU8.class);
+		return wrapped.getAlg();
+	}
+
+	/**
+	 * Fills the left image with random values and the right image is created by shifting it
+	 */
+	private void createShifted( GrayU8 left , GrayU8 right , int disparity ) {
+		ImageMiscOps.fillUniform(left,rand,0,255);
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				int xx = x + disparity;
+				right.set(x,y, xx < width ? left.get(xx,y) : rand.nextInt(256));
+			}
+		}
+	}
+}
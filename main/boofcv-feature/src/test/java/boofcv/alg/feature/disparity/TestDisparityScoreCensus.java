@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity;
+
+import boofcv.abst.transform.census.FilterCensusTransform;
+import boofcv.alg.feature.disparity.impl.ImplDisparityScoreHammingRect_S32;
+import boofcv.alg.feature.disparity.impl.ImplSelectRectBasicWta_S32_U8;
+import boofcv.factory.feature.disparity.FactoryStereoDisparityAlgs;
+import boofcv.factory.transform.census.CensusVariants;
+import boofcv.struct.image.GrayS32;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestDisparityScoreCensus {
+
+	Random rand = new Random(234);
+	int w = 40, h = 30;
+	int minDisparity = 2, maxDisparity = 12;
+	int radius = 2;
+
+	/**
+	 * The right image is the left image shifted by a known amount.  That's the disparity which should be found
+	 */
+	@Test
+	public void knownDisparity() {
+		for( CensusVariants variant : CensusVariants.values() ) {
+			GrayU8 left = new GrayU8(w,h);
+			GrayU8 right = new GrayU8(w,h);
+			createShifted(left,right,5);
+
+			GrayU8 found = new GrayU8(w,h);
+			createAlg(variant).process(left,right,found);
+
+			for( int y = radius; y < h-radius; y++ ) {
+				for( int x = radius+maxDisparity; x < w-radius; x++ ) {
+					assertEquals(variant+" "+x+" "+y,5-minDisparity,found.get(x,y));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Changing the gain and bias of one image should have no effect since the census transform only
+	 * encodes the relative order of pixel values
+	 */
+	@Test
+	public void invariantToGainAndBias() {
+		GrayU8 left = new GrayU8(w,h);
+		GrayU8 right = new GrayU8(w,h);
+		createShifted(left,right,4);
+		// add noise so that the disparity isn't perfect everywhere
+		for( int i = 0; i < right.data.length; i++ ) {
+			right.data[i] = (byte)Math.max(0,Math.min(199,(right.data[i]&0xFF)+rand.nextInt(41)-20));
+		}
+
+		// strictly increasing function so that the order of pixel values is preserved
+		GrayU8 adjusted = new GrayU8(w,h);
+		for( int i = 0; i < right.data.length; i++ ) {
+			int v = right.data[i]&0xFF;
+			adjusted.data[i] = (byte)(v + v/4 + 5);
+		}
+
+		DisparityScoreRowFormat<GrayU8,GrayU8> alg = createAlg(CensusVariants.BLOCK_5_5);
+
+		GrayU8 expected = new GrayU8(w,h);
+		GrayU8 found = new GrayU8(w,h);
+		alg.process(left,right,expected);
+		alg.process(left,adjusted,found);
+
+		BoofTesting.assertEquals(expected,found,1e-8);
+	}
+
+	/**
+	 * The census transform must be computed along the image border or else the row format scores
+	 * will be computed from uninitialized pixels
+	 */
+	@Test
+	public void censusWithBorderIsRejected() {
+		ImplDisparityScoreHammingRect_S32<GrayU8> score = new ImplDisparityScoreHammingRect_S32<>(
+				minDisparity,maxDisparity,radius,radius,new ImplSelectRectBasicWta_S32_U8());
+
+		try {
+			new DisparityScoreCensus<GrayU8,GrayS32,GrayU8>(new FilterCensusTransform.Block5x5(null),score);
+			fail("Exception should have been thrown");
+		} catch( IllegalArgumentException ignore ){}
+	}
+
+	private DisparityScoreRowFormat<GrayU8,GrayU8> createAlg( CensusVariants variant ) {
+		return FactoryStereoDisparityAlgs.scoreDisparityCensusRect(variant,minDisparity,maxDisparity,
+				radius,radius,new ImplSelectRectBasicWta_S32_U8());
+	}
+
+	/**
+	 * Fills the left image with random values and the right image is created by shifting it
+	 */
+	private void createShifted( GrayU8 left , GrayU8 right , int disparity ) {
+		for( int i = 0; i < left.data.length; i++ ) {
+			left.data[i] = (byte)rand.nextInt(200);
+		}
+		for( int y = 0; y < h; y++ ) {
+			for( int x = 0; x < w; x++ ) {
+				int xx = x + disparity;
+				right.set(x,y, xx < w ? left.get(xx,y) : rand.nextInt(200));
+			}
+		}
+	}
+}
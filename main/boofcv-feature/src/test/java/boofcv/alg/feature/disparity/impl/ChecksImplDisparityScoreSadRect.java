@@ -20,7 +20,9 @@ package boofcv.alg.feature.disparity.impl;
 
 import boofcv.alg.feature.disparity.DisparityScoreSadRect;
 import boofcv.alg.feature.disparity.DisparitySelect;
+import boofcv.alg.feature.disparity.SelectRectStandard;
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayS16;
@@ -31,6 +33,8 @@ import org.junit.Test;
 
 import java.util.Random;
 
+import static org.junit.Assert.assertEquals;
+
 /**
  * @author Peter Abeles
  */
@@ -88,6 +92,254 @@ public abstract class ChecksImplDisparityScoreSadRect<I extends ImageGray<I>, DI
 		alg.allChecks();
 	}
 
+	/**
+	 * Compute the disparity with and without concurrency.  The image is split into bands of rows and the
+	 * results should be identical
+	 */
+	@Test
+	public void compareConcurrentToSingleThread() {
+		int w = 30, h = 60;
+		I left = GeneralizedImageOps.createSingleBand(imageType,w, h);
+		I right = GeneralizedImageOps.createSingleBand(imageType,w, h);
+
+		// integer values so that there is no round off error in floating point sums
+		for( int y = 0; y < h; y++ ) {
+			for( int x = 0; x < w; x++ ) {
+				GeneralizedImageOps.set(left,x,y,rand.nextInt(20));
+				GeneralizedImageOps.set(right,x,y,rand.nextInt(20));
+			}
+		}
+
+		// select with right to left validation and texture so that the copy's configuration is tested too
+		DisparitySelect select;
+		if( imageType == GrayF32.class ) {
+			select = new ImplSelectRectStandard_F32_U8(-1,1,0.1);
+		} else {
+			select = new ImplSelectRectStandard_S32_U8(-1,1,0.1);
+		}
+
+		boolean original = BoofConcurrency.USE_CONCURRENT;
+		try {
+			DisparityScoreSadRect<I, DI> alg = createAlg(2,10,2,3,select);
+
+			DI expected = GeneralizedImageOps.createSingleBand(disparityType,w,h);
+			DI found = GeneralizedImageOps.createSingleBand(disparityType,w,h);
+
+			BoofConcurrency.USE_CONCURRENT = false;
+			alg.process(left,right,expected);
+			BoofConcurrency.USE_CONCURRENT = true;
+			alg.process(left,right,found);
+
+			BoofTesting.assertEquals(expected, found, 1e-8);
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = original;
+		}
+	}
+
+	/**
+	 * Floating point images with values that aren't integers have round off errors in their sums.  The output
+	 * still shouldn't depend on the number of threads.  The image is tall enough to be split into several bands.
+	 */
+	@Test
+	public void compareConcurrentToSingleThread_roundOff() {
+		int w = 40, h = 400;
+		I left = GeneralizedImageOps.createSingleBand(imageType,w, h);
+		I right = GeneralizedImageOps.createSingleBand(imageType,w, h);
+
+		// values which can't be exactly represented by a float and often have the same score
+		double scale = imageType == GrayF32.class ? 0.1 : 1;
+		for( int y = 0; y < h; y++ ) {
+			for( int x = 0; x < w; x++ ) {
+				GeneralizedImageOps.set(left,x,y,rand.nextInt(20)*scale);
+				GeneralizedImageOps.set(right,x,y,rand.nextInt(20)*scale);
+			}
+		}
+
+		DisparitySelect select;
+		if( imageType == GrayF32.class ) {
+			select = new ImplSelectRectStandard_F32_U8(-1,1,0.1);
+		} else {
+			select = new ImplSelectRectStandard_S32_U8(-1,1,0.1);
+		}
+
+		boolean original = BoofConcurrency.USE_CONCURRENT;
+		int originalThreads = BoofConcurrency.getMaxThreads();
+		try {
+			DisparityScoreSadRect<I, DI> alg = createAlg(2,10,2,3,select);
+
+			DI expected = GeneralizedImageOps.createSingleBand(disparityType,w,h);
+			DI found = GeneralizedImageOps.createSingleBand(disparityType,w,h);
+
+			BoofConcurrency.USE_CONCURRENT = false;
+			alg.process(left,right,expected);
+			BoofConcurrency.USE_CONCURRENT = true;
+			for( int numThreads = 1; numThreads <= 5; numThreads++ ) {
+				BoofConcurrency.setMaxThreads(numThreads);
+				alg.process(left,right,found);
+				BoofTesting.assertEquals(expected, found, 1e-8);
+			}
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = original;
+			BoofConcurrency.setMaxThreads(originalThreads);
+		}
+	}
+
+	/**
+	 * Changes to the configuration of the selector after an image has been processed should be used the next time
+	 * an image is processed
+	 */
+	@Test
+	public void changeSelectConfiguration() {
+		I left = GeneralizedImageOps.createSingleBand(imageType,30, 60);
+		I right = GeneralizedImageOps.createSingleBand(imageType,30, 60);
+		GImageMiscOps.fillUniform(left,rand,0,20);
+		GImageMiscOps.fillUniform(right,rand,0,20);
+
+		boolean original = BoofConcurrency.USE_CONCURRENT;
+		try {
+			for( boolean concurrent : new boolean[]{false,true} ) {
+				BoofConcurrency.USE_CONCURRENT = concurrent;
+
+				SelectRectStandard select = createSelectStandard(0);
+				DisparityScoreSadRect<I, DI> alg = createAlg(2,10,2,3,select);
+				DI found = GeneralizedImageOps.createSingleBand(disparityType,30,60);
+				alg.process(left,right,found);
+
+				select.setTexture(0.3);
+				alg.process(left,right,found);
+
+				DI expected = GeneralizedImageOps.createSingleBand(disparityType,30,60);
+				createAlg(2,10,2,3,createSelectStandard(0.3)).process(left,right,expected);
+
+				BoofTesting.assertEquals(expected, found, 1e-8);
+			}
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = original;
+		}
+	}
+
+	/**
+	 * If the selector can't be copied then the image should still be processed correctly
+	 */
+	@Test
+	public void selectWithoutCopy() {
+		I left = GeneralizedImageOps.createSingleBand(imageType,30, 60);
+		I right = GeneralizedImageOps.createSingleBand(imageType,30, 60);
+		GImageMiscOps.fillUniform(left,rand,0,20);
+		GImageMiscOps.fillUniform(right,rand,0,20);
+
+		DisparitySelect select = createSelectStandard(0.1);
+		// only implements the required functions
+		DisparitySelect noCopy = new DisparitySelect() {
+			@Override
+			public void configure(ImageGray imageDisparity, int minDisparity, int maxDisparity, int radiusX) {
+				select.configure(imageDisparity,minDisparity,maxDisparity,radiusX);
+			}
+
+			@Override
+			public void process(int row, Object scoresArray) {
+				select.process(row,scoresArray);
+			}
+
+			@Override
+			public Class getDisparityType() {
+				return select.getDisparityType();
+			}
+		};
+
+		boolean original = BoofConcurrency.USE_CONCURRENT;
+		try {
+			BoofConcurrency.USE_CONCURRENT = true;
+
+			DI expected = GeneralizedImageOps.createSingleBand(disparityType,30,60);
+			DI found = GeneralizedImageOps.createSingleBand(disparityType,30,60);
+			createAlg(2,10,2,3,select).process(left,right,expected);
+			createAlg(2,10,2,3,noCopy).process(left,right,found);
+
+			BoofTesting.assertEquals(expected, found, 1e-8);
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = original;
+		}
+	}
+
+	private SelectRectStandard createSelectStandard( double texture ) {
+		if( imageType == GrayF32.class ) {
+			return new ImplSelectRectStandard_F32_U8(-1,1,texture);
+		} else {
+			return new ImplSelectRectStandard_S32_U8(-1,1,texture);
+		}
+	}
+
+	/**
+	 * Copies of the select used by other threads should be created once and reused for later images
+	 */
+	@Test
+	public void reuseSelectCopies() {
+		I left = GeneralizedImageOps.createSingleBand(imageType,30, 60);
+		I right = GeneralizedImageOps.createSingleBand(imageType,30, 60);
+		GImageMiscOps.fillUniform(left,rand,0,20);
+		GImageMiscOps.fillUniform(right,rand,0,20);
+
+		CountCopies select = new CountCopies(createSelectStandard(0.1));
+
+		boolean original = BoofConcurrency.USE_CONCURRENT;
+		try {
+			BoofConcurrency.USE_CONCURRENT = true;
+
+			DisparityScoreSadRect<I, DI> alg = createAlg(2,10,2,3,select);
+			DI found = GeneralizedImageOps.createSingleBand(disparityType,30,60);
+			alg.process(left,right,found);
+			int copies = select.totalCopies[0];
+			alg.process(left,right,found);
+			assertEquals(copies, select.totalCopies[0]);
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = original;
+		}
+	}
+
+	/**
+	 * Counts the number of times {@link DisparitySelect#concurrentCopy()} has been called
+	 */
+	private static class CountCopies implements DisparitySelect {
+		DisparitySelect select;
+		int[] totalCopies;
+
+		CountCopies( DisparitySelect select ) {
+			this(select,new int[1]);
+		}
+
+		CountCopies( DisparitySelect select , int[] totalCopies ) {
+			this.select = select;
+			this.totalCopies = totalCopies;
+		}
+
+		@Override
+		public void configure(ImageGray imageDisparity, int minDisparity, int maxDisparity, int radiusX) {
+			select.configure(imageDisparity,minDisparity,maxDisparity,radiusX);
+		}
+
+		@Override
+		public void process(int row, Object scoresArray) {
+			select.process(row,scoresArray);
+		}
+
+		@Override
+		public DisparitySelect concurrentCopy() {
+			totalCopies[0]++;
+			return new CountCopies(select.concurrentCopy(),totalCopies);
+		}
+
+		@Override
+		public boolean updateConcurrentCopy(DisparitySelect copy) {
+			return select.updateConcurrentCopy(((CountCopies)copy).select);
+		}
+
+		@Override
+		public Class getDisparityType() {
+			return select.getDisparityType();
+		}
+	}
+
 	/**
 	 * Compare to a simplistic implementation of stereo disparity.  Need to turn off special
 	 * configurations
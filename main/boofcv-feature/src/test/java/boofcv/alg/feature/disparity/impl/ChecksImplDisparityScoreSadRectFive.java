@@ -21,6 +21,7 @@ package boofcv.alg.feature.disparity.impl;
 import boofcv.alg.feature.disparity.DisparityScoreWindowFive;
 import boofcv.alg.feature.disparity.DisparitySelect;
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayS16;
@@ -88,6 +89,98 @@ public abstract class ChecksImplDisparityScoreSadRectFive<I extends ImageGray<I>
 		alg.allChecks();
 	}
 
+	/**
+	 * Compute the disparity with and without concurrency.  The image is split into bands of rows and the
+	 * results should be identical
+	 */
+	@Test
+	public void compareConcurrentToSingleThread() {
+		int w = 30, h = 60;
+		I left = GeneralizedImageOps.createSingleBand(imageType,w, h);
+		I right = GeneralizedImageOps.createSingleBand(imageType,w, h);
+
+		// integer values so that there is no round off error in floating point sums
+		for( int y = 0; y < h; y++ ) {
+			for( int x = 0; x < w; x++ ) {
+				GeneralizedImageOps.set(left,x,y,rand.nextInt(20));
+				GeneralizedImageOps.set(right,x,y,rand.nextInt(20));
+			}
+		}
+
+		// select with right to left validation and texture so that the copy's configuration is tested too
+		DisparitySelect select;
+		if( imageType == GrayF32.class ) {
+			select = new ImplSelectRectStandard_F32_U8(-1,1,0.1);
+		} else {
+			select = new ImplSelectRectStandard_S32_U8(-1,1,0.1);
+		}
+
+		boolean original = BoofConcurrency.USE_CONCURRENT;
+		try {
+			DisparityScoreWindowFive<I, DI> alg = createAlg(2,10,2,3,select);
+
+			DI expected = GeneralizedImageOps.createSingleBand(disparityType,w,h);
+			DI found = GeneralizedImageOps.createSingleBand(disparityType,w,h);
+
+			BoofConcurrency.USE_CONCURRENT = false;
+			alg.process(left,right,expected);
+			BoofConcurrency.USE_CONCURRENT = true;
+			alg.process(left,right,found);
+
+			BoofTesting.assertEquals(expected, found, 1e-8);
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = original;
+		}
+	}
+
+	/**
+	 * Floating point images with values that aren't integers have round off errors in their sums.  The output
+	 * still shouldn't depend on the number of threads.  The image is tall enough to be split into several bands.
+	 */
+	@Test
+	public void compareConcurrentToSingleThread_roundOff() {
+		int w = 40, h = 400;
+		I left = GeneralizedImageOps.createSingleBand(imageType,w, h);
+		I right = GeneralizedImageOps.createSingleBand(imageType,w, h);
+
+		// values which can't be exactly represented by a float and often have the same score
+		double scale = imageType == GrayF32.class ? 0.1 : 1;
+		for( int y = 0; y < h; y++ ) {
+			for( int x = 0; x < w; x++ ) {
+				GeneralizedImageOps.set(left,x,y,rand.nextInt(20)*scale);
+				GeneralizedImageOps.set(right,x,y,rand.nextInt(20)*scale);
+			}
+		}
+
+		DisparitySelect select;
+		if( imageType == GrayF32.class ) {
+			select = new ImplSelectRectStandard_F32_U8(-1,1,0.1);
+		} else {
+			select = new ImplSelectRectStandard_S32_U8(-1,1,0.1);
+		}
+
+		boolean original = BoofConcurrency.USE_CONCURRENT;
+		int originalThreads = BoofConcurrency.getMaxThreads();
+		try {
+			DisparityScoreWindowFive<I, DI> alg = createAlg(2,10,2,3,select);
+
+			DI expected = GeneralizedImageOps.createSingleBand(disparityType,w,h);
+			DI found = GeneralizedImageOps.createSingleBand(disparityType,w,h);
+
+			BoofConcurrency.USE_CONCURRENT = false;
+			alg.process(left,right,expected);
+			BoofConcurrency.USE_CONCURRENT = true;
+			for( int numThreads = 1; numThreads <= 5; numThreads++ ) {
+				BoofConcurrency.setMaxThreads(numThreads);
+				alg.process(left,right,found);
+				BoofTesting.assertEquals(expected, found, 1e-8);
+			}
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = original;
+			BoofConcurrency.setMaxThreads(originalThreads);
+		}
+	}
+
 	/**
 	 * Compare to a simplistic implementation of stereo disparity.  Need to turn off special
 	 * configurations
@@ -23,9 +23,13 @@ import boofcv.alg.feature.disparity.SelectRectStandard;
 import boofcv.alg.misc.GImageMiscOps;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.struct.image.ImageGray;
+import boofcv.testing.BoofTesting;
 import org.junit.Test;
 
+import java.util.Random;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Unit tests for implementers of {@link SelectRectStandardBase_S32}
@@ -107,6 +111,36 @@ public abstract class ChecksSelectRectStandardBase<ArrayData,T extends ImageGray
 		assertEquals(1, getDisparity(4 + 2, y), 1);
 	}
 
+	/**
+	 * The copy should have the same configuration and produce the same results but be a different instance
+	 */
+	@Test
+	public void concurrentCopy() {
+		init(2,10);
+		Random rand = new Random(234);
+
+		int scores[] = new int[w*maxDisparity];
+		for( int i = 0; i < scores.length; i++ ) {
+			scores[i] = rand.nextInt(20);
+		}
+
+		SelectRectStandard<ArrayData,T> alg = createSelector(15,1,0.1);
+		DisparitySelect<ArrayData,T> copy = alg.concurrentCopy();
+		assertTrue(copy != alg);
+		assertTrue(copy.getClass() == alg.getClass());
+
+		T found = (T)disparity.createSameShape();
+		GImageMiscOps.fill(found, reject);
+		alg.configure(disparity,minDisparity,maxDisparity,2);
+		copy.configure(found,minDisparity,maxDisparity,2);
+		for( int y = 0; y < h; y++ ) {
+			alg.process(y, copyToCorrectType(scores,arrayType));
+			copy.process(y, copyToCorrectType(scores,arrayType));
+		}
+
+		BoofTesting.assertEquals(disparity,found,1e-8);
+	}
+
 	/**
 	 * Could potentially return a sub-pixel accuracy but tests are only for pixel accuracy.
 	 *
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity.impl;
+
+import boofcv.alg.feature.disparity.DisparityScoreRowFormat;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayS32;
+import boofcv.struct.image.GrayS64;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplDisparityScoreHammingRect {
+
+	Random rand = new Random(234);
+	int w = 30, h = 35;
+	int radiusX = 2, radiusY = 3;
+
+	@Test
+	public void compareToNaive_U8() {
+		GrayU8 left = new GrayU8(w,h);
+		GrayU8 right = new GrayU8(w,h);
+		for( int i = 0; i < left.data.length; i++ ) {
+			left.data[i] = (byte)rand.nextInt(256);
+			right.data[i] = (byte)rand.nextInt(256);
+		}
+
+		for( int minDisparity : new int[]{0,4} ) {
+			GrayU8 found = new GrayU8(w,h);
+			new ImplDisparityScoreHammingRect_U8<>(minDisparity,10,radiusX,radiusY,
+					new ImplSelectRectBasicWta_S32_U8()).process(left,right,found);
+
+			compareToNaive(minDisparity,10,found,(x0,x1,y)->Integer.bitCount(left.get(x0,y)^right.get(x1,y)));
+		}
+	}
+
+	@Test
+	public void compareToNaive_S32() {
+		GrayS32 left = new GrayS32(w,h);
+		GrayS32 right = new GrayS32(w,h);
+		for( int i = 0; i < left.data.length; i++ ) {
+			left.data[i] = rand.nextInt(1 << 24);
+			right.data[i] = rand.nextInt(1 << 24);
+		}
+
+		for( int minDisparity : new int[]{0,4} ) {
+			GrayU8 found = new GrayU8(w,h);
+			new ImplDisparityScoreHammingRect_S32<>(minDisparity,10,radiusX,radiusY,
+					new ImplSelectRectBasicWta_S32_U8()).process(left,right,found);
+
+			compareToNaive(minDisparity,10,found,(x0,x1,y)->Integer.bitCount(left.get(x0,y)^right.get(x1,y)));
+		}
+	}
+
+	@Test
+	public void compareToNaive_S64() {
+		GrayS64 left = createRandomS64();
+		GrayS64 right = createRandomS64();
+
+		for( int minDisparity : new int[]{0,4} ) {
+			GrayU8 found = new GrayU8(w,h);
+			new ImplDisparityScoreHammingRect_S64<>(minDisparity,10,radiusX,radiusY,
+					new ImplSelectRectBasicWta_S32_U8()).process(left,right,found);
+
+			compareToNaive(minDisparity,10,found,(x0,x1,y)->Long.bitCount(left.get(x0,y)^right.get(x1,y)));
+		}
+	}
+
+	/**
+	 * Compute the disparity with and without concurrency.  The results should be identical
+	 */
+	@Test
+	public void compareConcurrentToSingleThread() {
+		GrayS64 left = createRandomS64();
+		GrayS64 right = createRandomS64();
+
+		boolean original = BoofConcurrency.USE_CONCURRENT;
+		try {
+			DisparityScoreRowFormat<GrayS64,GrayU8> alg = new ImplDisparityScoreHammingRect_S64<>(
+					2,10,radiusX,radiusY,new ImplSelectRectStandard_S32_U8(-1,1,0.1));
+
+			GrayU8 expected = new GrayU8(w,h);
+			GrayU8 found = new GrayU8(w,h);
+
+			BoofConcurrency.USE_CONCURRENT = false;
+			alg.process(left,right,expected);
+			BoofConcurrency.USE_CONCURRENT = true;
+			alg.process(left,right,found);
+
+			BoofTesting.assertEquals(expected, found, 1e-8);
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = original;
+		}
+	}
+
+	private GrayS64 createRandomS64() {
+		GrayS64 image = new GrayS64(w,h);
+		for( int i = 0; i < image.data.length; i++ ) {
+			image.data[i] = rand.nextLong();
+		}
+		return image;
+	}
+
+	/**
+	 * Brute force winner take all using the sum of Hamming distances inside the region
+	 */
+	private void compareToNaive( int minDisparity , int maxDisparity , GrayU8 found , Distance distance ) {
+		for( int y = radiusY; y < h-radiusY; y++ ) {
+			for( int x = radiusX+minDisparity; x < w-radiusX; x++ ) {
+				int bestScore = Integer.MAX_VALUE;
+				int bestDisparity = -1;
+				for( int d = minDisparity; d < maxDisparity && x-d-radiusX >= 0; d++ ) {
+					int score = 0;
+					for( int i = -radiusY; i <= radiusY; i++ ) {
+						for( int j = -radiusX; j <= radiusX; j++ ) {
+							score += distance.compute(x+j,x+j-d,y+i);
+						}
+					}
+					if( score < bestScore ) {
+						bestScore = score;
+						bestDisparity = d-minDisparity;
+					}
+				}
+				assertEquals(x+" "+y,bestDisparity,found.get(x,y));
+			}
+		}
+	}
+
+	interface Distance {
+		int compute( int xLeft , int xRight , int y );
+	}
+}
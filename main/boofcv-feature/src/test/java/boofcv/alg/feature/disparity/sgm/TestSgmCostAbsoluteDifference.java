@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity.sgm;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayU16;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.Planar;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static boofcv.alg.feature.disparity.sgm.SgmDisparityCost.MAX_COST;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSgmCostAbsoluteDifference {
+
+	Random rand = new Random(234);
+
+	@Test
+	public void compareToBruteForce() {
+		int w = 30, h = 25;
+		GrayU8 left = new GrayU8(w,h);
+		GrayU8 right = new GrayU8(w,h);
+		ImageMiscOps.fillUniform(left,rand,0,255);
+		ImageMiscOps.fillUniform(right,rand,0,255);
+
+		int minDisparity = 3, rangeDisparity = 10;
+		SgmCostAbsoluteDifference.U8 alg = new SgmCostAbsoluteDifference.U8();
+		alg.configure(minDisparity,rangeDisparity);
+
+		Planar<GrayU16> cost = new Planar<>(GrayU16.class,1,1,1);
+		alg.process(left,right,cost);
+
+		assertEquals(h,cost.getNumBands());
+		assertEquals(w,cost.height);
+		assertEquals(rangeDisparity,cost.width);
+
+		for( int y = 0; y < h; y++ ) {
+			for( int x = 0; x < w; x++ ) {
+				for( int d = 0; d < rangeDisparity; d++ ) {
+					int xr = x-minDisparity-d;
+					int expected = MAX_COST;
+					if( xr >= 0 )
+						expected = MAX_COST*Math.abs(left.get(x,y)-right.get(xr,y))/255;
+					assertEquals(expected,cost.getBand(y).get(d,x));
+				}
+			}
+		}
+	}
+}
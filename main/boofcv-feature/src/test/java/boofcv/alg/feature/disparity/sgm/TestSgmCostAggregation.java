@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity.sgm;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayU16;
+import boofcv.struct.image.Planar;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSgmCostAggregation {
+
+	Random rand = new Random(234);
+	int width = 20, height = 15, rangeDisparity = 9;
+
+	@Test
+	public void compareToNaive() {
+		Planar<GrayU16> costYXD = createRandomCost();
+
+		for( int paths : new int[]{4,8,16}) {
+			SgmCostAggregation alg = new SgmCostAggregation();
+			alg.setPathsConsidered(paths);
+			alg.setPenalty1(50);
+			alg.setPenalty2(500);
+			alg.process(costYXD);
+
+			int[][][] expected = new int[height][width][rangeDisparity];
+			for( int[] dir : SgmCostAggregation.createDirections(paths) ) {
+				naivePath(costYXD,dir[0],dir[1],50,500,expected);
+			}
+
+			Planar<GrayU16> found = alg.getAggregated();
+			for( int y = 0; y < height; y++ ) {
+				for( int x = 0; x < width; x++ ) {
+					for( int d = 0; d < rangeDisparity; d++ ) {
+						assertEquals(expected[y][x][d],found.getBand(y).get(d,x));
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Output should be identical when computed concurrently
+	 */
+	@Test
+	public void compareConcurrent() {
+		Planar<GrayU16> costYXD = createRandomCost();
+
+		boolean original = BoofConcurrency.USE_CONCURRENT;
+		try {
+			SgmCostAggregation alg = new SgmCostAggregation();
+			alg.setPathsConsidered(16);
+
+			BoofConcurrency.USE_CONCURRENT = false;
+			alg.process(costYXD);
+			Planar<GrayU16> expected = alg.getAggregated().clone();
+
+			BoofConcurrency.USE_CONCURRENT = true;
+			alg.process(costYXD);
+			Planar<GrayU16> found = alg.getAggregated();
+
+			for( int y = 0; y < height; y++ ) {
+				for( int i = 0; i < width*rangeDisparity; i++ ) {
+					assertEquals(expected.getBand(y).data[i],found.getBand(y).data[i]);
+				}
+			}
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = original;
+		}
+	}
+
+	/**
+	 * Each pixel should be visited exactly once by the paths in a single direction
+	 */
+	@Test
+	public void computeStartPoints() {
+		SgmCostAggregation alg = new SgmCostAggregation();
+		alg.width = width;
+		alg.height = height;
+
+		for( int[] dir : SgmCostAggregation.createDirections(16) ) {
+			alg.computeStartPoints(dir[0],dir[1]);
+
+			int[][] visits = new int[height][width];
+			for( int i = 0; i < alg.starts.size; i += 2 ) {
+				int x = alg.starts.get(i);
+				int y = alg.starts.get(i+1);
+				while( x >= 0 && x < width && y >= 0 && y < height ) {
+					visits[y][x]++;
+					x += dir[0];
+					y += dir[1];
+				}
+			}
+
+			for( int y = 0; y < height; y++ ) {
+				for( int x = 0; x < width; x++ ) {
+					assertEquals(1,visits[y][x]);
+				}
+			}
+		}
+	}
+
+	private Planar<GrayU16> createRandomCost() {
+		Planar<GrayU16> costYXD = new Planar<>(GrayU16.class,rangeDisparity,width,height);
+		for( int y = 0; y < height; y++ ) {
+			GrayU16 band = costYXD.getBand(y);
+			for( int i = 0; i < band.data.length; i++ ) {
+				band.data[i] = (short)rand.nextInt(SgmDisparityCost.MAX_COST+1);
+			}
+		}
+		return costYXD;
+	}
+
+	/**
+	 * Computes the path cost by directly applying the equation and saving the cost of every pixel
+	 */
+	private void naivePath( Planar<GrayU16> costYXD , int dx , int dy , int P1 , int P2 , int[][][] sum ) {
+		int[][][] L = new int[height][width][rangeDisparity];
+
+		// process pixels in an order where the previous pixel along the path is always already known
+		for( int i = 0; i < height; i++ ) {
+			int y = dy >= 0 ? i : height-1-i;
+			for( int j = 0; j < width; j++ ) {
+				int x = dx >= 0 ? j : width-1-j;
+
+				int px = x-dx, py = y-dy;
+				boolean first = px < 0 || px >= width || py < 0 || py >= height;
+
+				int minPrev = Integer.MAX_VALUE;
+				if( !first ) {
+					for( int d = 0; d < rangeDisparity; d++ )
+						minPrev = Math.min(minPrev,L[py][px][d]);
+				}
+
+				for( int d = 0; d < rangeDisparity; d++ ) {
+					int c = costYXD.getBand(y).get(d,x);
+					if( first ) {
+						L[y][x][d] = c;
+					} else {
+						int best = L[py][px][d];
+						if( d > 0 ) best = Math.min(best,L[py][px][d-1]+P1);
+						if( d < rangeDisparity-1 ) best = Math.min(best,L[py][px][d+1]+P1);
+						best = Math.min(best,minPrev+P2);
+						L[y][x][d] = c + best - minPrev;
+					}
+					sum[y][x][d] += L[y][x][d];
+				}
+			}
+		}
+	}
+}
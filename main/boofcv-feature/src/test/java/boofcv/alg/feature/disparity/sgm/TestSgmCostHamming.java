@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity.sgm;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayS32;
+import boofcv.struct.image.GrayS64;
+import boofcv.struct.image.GrayU16;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.Planar;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static boofcv.alg.feature.disparity.sgm.SgmDisparityCost.MAX_COST;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSgmCostHamming {
+
+	Random rand = new Random(234);
+	int w = 30, h = 25;
+	int minDisparity = 2, rangeDisparity = 12;
+
+	@Test
+	public void U8() {
+		GrayU8 left = new GrayU8(w,h);
+		GrayU8 right = new GrayU8(w,h);
+		ImageMiscOps.fillUniform(left,rand,0,255);
+		ImageMiscOps.fillUniform(right,rand,0,255);
+
+		SgmCostHamming.U8 alg = new SgmCostHamming.U8(8);
+		alg.configure(minDisparity,rangeDisparity);
+
+		Planar<GrayU16> cost = new Planar<>(GrayU16.class,1,1,1);
+		alg.process(left,right,cost);
+
+		for( int y = 0; y < h; y++ ) {
+			for( int x = 0; x < w; x++ ) {
+				for( int d = 0; d < rangeDisparity; d++ ) {
+					int xr = x-minDisparity-d;
+					int expected = MAX_COST;
+					if( xr >= 0 )
+						expected = MAX_COST*Integer.bitCount(left.get(x,y)^right.get(xr,y))/8;
+					assertEquals(expected,cost.getBand(y).get(d,x));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void S32() {
+		GrayS32 left = new GrayS32(w,h);
+		GrayS32 right = new GrayS32(w,h);
+		ImageMiscOps.fillUniform(left,rand,0,1 << 24);
+		ImageMiscOps.fillUniform(right,rand,0,1 << 24);
+
+		SgmCostHamming.S32 alg = new SgmCostHamming.S32(24);
+		alg.configure(minDisparity,rangeDisparity);
+
+		Planar<GrayU16> cost = new Planar<>(GrayU16.class,1,1,1);
+		alg.process(left,right,cost);
+
+		for( int y = 0; y < h; y++ ) {
+			for( int x = 0; x < w; x++ ) {
+				for( int d = 0; d < rangeDisparity; d++ ) {
+					int xr = x-minDisparity-d;
+					int expected = MAX_COST;
+					if( xr >= 0 )
+						expected = MAX_COST*Integer.bitCount(left.get(x,y)^right.get(xr,y))/24;
+					assertEquals(expected,cost.getBand(y).get(d,x));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void S64() {
+		GrayS64 left = new GrayS64(w,h);
+		GrayS64 right = new GrayS64(w,h);
+		long mask = (1L << 62)-1;
+		for( int i = 0; i < left.data.length; i++ ) {
+			left.data[i] = rand.nextLong() & mask;
+			right.data[i] = rand.nextLong() & mask;
+		}
+
+		SgmCostHamming.S64 alg = new SgmCostHamming.S64(62);
+		alg.configure(minDisparity,rangeDisparity);
+
+		Planar<GrayU16> cost = new Planar<>(GrayU16.class,1,1,1);
+		alg.process(left,right,cost);
+
+		for( int y = 0; y < h; y++ ) {
+			for( int x = 0; x < w; x++ ) {
+				for( int d = 0; d < rangeDisparity; d++ ) {
+					int xr = x-minDisparity-d;
+					int expected = MAX_COST;
+					if( xr >= 0 )
+						expected = MAX_COST*Long.bitCount(left.get(x,y)^right.get(xr,y))/62;
+					assertEquals(expected,cost.getBand(y).get(d,x));
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity.sgm;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayU16;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.Planar;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSgmDisparitySelector {
+
+	Random rand = new Random(234);
+	int width = 30, height = 10, rangeDisparity = 8;
+
+	/**
+	 * Cost with a unique minimum at the specified disparity for every pixel
+	 */
+	private Planar<GrayU16> createCost( int minDisparity , int disparity ) {
+		Planar<GrayU16> cost = new Planar<>(GrayU16.class,rangeDisparity,width,height);
+		for( int y = 0; y < height; y++ ) {
+			GrayU16 band = cost.getBand(y);
+			for( int x = 0; x < width; x++ ) {
+				int localRange = Math.min(rangeDisparity,x-minDisparity+1);
+				for( int d = 0; d < rangeDisparity; d++ ) {
+					int value;
+					if( d >= localRange )
+						value = 2000;
+					else if( d == disparity )
+						value = 100;
+					else
+						value = 200 + 100*Math.abs(d-disparity) + rand.nextInt(20);
+					band.set(d,x,value);
+				}
+			}
+		}
+		return cost;
+	}
+
+	@Test
+	public void selectBest() {
+		int minDisparity = 2;
+		int disparity = 3;
+		Planar<GrayU16> cost = createCost(minDisparity,disparity);
+
+		SgmDisparitySelector alg = new SgmDisparitySelector();
+		alg.setRightToLeftTolerance(-1);
+		GrayU8 found = new GrayU8(1,1);
+		alg.select(minDisparity,cost,found);
+
+		int invalid = rangeDisparity+1;
+		assertEquals(invalid,alg.getInvalidDisparity());
+
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				int localRange = Math.min(rangeDisparity,x-minDisparity+1);
+				if( localRange <= 0 )
+					assertEquals(invalid,found.get(x,y));
+				else if( localRange <= disparity )
+					// the true disparity can't be reached, but a valid value should still be selected
+					assertEquals(localRange-1,found.get(x,y));
+				else
+					assertEquals(disparity,found.get(x,y));
+			}
+		}
+	}
+
+	@Test
+	public void rightToLeft() {
+		int minDisparity = 0;
+		int disparity = 2;
+		Planar<GrayU16> cost = createCost(minDisparity,disparity);
+
+		SgmDisparitySelector alg = new SgmDisparitySelector();
+		alg.setRightToLeftTolerance(0);
+		GrayU8 found = new GrayU8(1,1);
+		alg.select(minDisparity,cost,found);
+
+		int x = 15, y = 4;
+		assertEquals(disparity,found.get(x,y));
+
+		// make a different pixel in the left image be a better match for the same pixel in the right image
+		int xr = x-disparity;
+		cost.getBand(y).set(disparity+1,xr+disparity+1,50);
+		alg.select(minDisparity,cost,found);
+		assertEquals(alg.getInvalidDisparity(),found.get(x,y));
+
+		// a larger tolerance should accept it
+		alg.setRightToLeftTolerance(1);
+		alg.select(minDisparity,cost,found);
+		assertEquals(disparity,found.get(x,y));
+	}
+
+	@Test
+	public void texture() {
+		int minDisparity = 0;
+		int disparity = 4;
+		Planar<GrayU16> cost = createCost(minDisparity,disparity);
+
+		int x = 20, y = 4;
+		// second best is 0.5 larger than the best
+		cost.getBand(y).set(0,x,150);
+
+		SgmDisparitySelector alg = new SgmDisparitySelector();
+		alg.setRightToLeftTolerance(-1);
+		GrayU8 found = new GrayU8(1,1);
+
+		alg.setTextureThreshold(0.4);
+		alg.select(minDisparity,cost,found);
+		assertEquals(disparity,found.get(x,y));
+
+		alg.setTextureThreshold(0.6);
+		alg.select(minDisparity,cost,found);
+		assertEquals(alg.getInvalidDisparity(),found.get(x,y));
+	}
+
+	@Test
+	public void compareConcurrent() {
+		Planar<GrayU16> cost = new Planar<>(GrayU16.class,rangeDisparity,width,height);
+		for( int y = 0; y < height; y++ ) {
+			GrayU16 band = cost.getBand(y);
+			for( int i = 0; i < band.data.length; i++ ) {
+				band.data[i] = (short)rand.nextInt(3000);
+			}
+		}
+
+		boolean original = BoofConcurrency.USE_CONCURRENT;
+		try {
+			SgmDisparitySelector alg = new SgmDisparitySelector();
+			alg.setTextureThreshold(0.1);
+			GrayU8 expected = new GrayU8(1,1);
+			GrayU8 found = new GrayU8(1,1);
+
+			BoofConcurrency.USE_CONCURRENT = false;
+			alg.select(1,cost,expected);
+			BoofConcurrency.USE_CONCURRENT = true;
+			alg.select(1,cost,found);
+
+			for( int i = 0; i < expected.data.length; i++ ) {
+				assertEquals(expected.data[i],found.data[i]);
+			}
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = original;
+		}
+	}
+}
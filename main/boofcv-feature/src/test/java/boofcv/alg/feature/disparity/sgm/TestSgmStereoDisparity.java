@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity.sgm;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.factory.feature.disparity.FactoryStereoDisparityAlgs;
+import boofcv.factory.transform.census.CensusVariants;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSgmStereoDisparity {
+
+	Random rand = new Random(234);
+	int width = 60, height = 40;
+	int disparity = 7;
+
+	GrayU8 left = new GrayU8(width,height);
+	GrayU8 right = new GrayU8(width,height);
+
+	public TestSgmStereoDisparity() {
+		// random texture which is shifted to the left in the right image
+		ImageMiscOps.fillUniform(left,rand,0,255);
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				int xl = Math.min(width-1,x+disparity);
+				right.set(x,y,left.get(xl,y));
+			}
+		}
+	}
+
+	@Test
+	public void absoluteDifference() {
+		checkConstantDisparity(new SgmCostAbsoluteDifference.U8(),2);
+	}
+
+	@Test
+	public void census() {
+		checkConstantDisparity(FactoryStereoDisparityAlgs.sgmCostCensus(CensusVariants.BLOCK_3_3),2);
+		checkConstantDisparity(FactoryStereoDisparityAlgs.sgmCostCensus(CensusVariants.BLOCK_5_5),2);
+	}
+
+	private void checkConstantDisparity( SgmDisparityCost<GrayU8> cost , int minDisparity ) {
+		SgmStereoDisparity<GrayU8> alg = createAlg(cost,minDisparity);
+		alg.process(left,right);
+
+		GrayU8 found = alg.getDisparity();
+		assertEquals(width,found.width);
+		assertEquals(height,found.height);
+
+		int invalid = alg.getSelector().getInvalidDisparity();
+		int total = 0, correct = 0;
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				if( x < minDisparity ) {
+					assertEquals(invalid,found.get(x,y));
+					continue;
+				}
+				// skip pixels where the true disparity is outside the image or isn't allowed
+				if( x < disparity || x >= width-disparity )
+					continue;
+				total++;
+				if( found.get(x,y)+minDisparity == disparity )
+					correct++;
+			}
+		}
+		assertTrue(correct >= total*0.95);
+	}
+
+	@Test
+	public void subpixel() {
+		SgmStereoDisparity<GrayU8> alg = createAlg(new SgmCostAbsoluteDifference.U8(),0);
+		alg.process(left,right);
+
+		GrayF32 found = new GrayF32(1,1);
+		alg.subpixel(found);
+		GrayU8 pixel = alg.getDisparity();
+
+		assertEquals(width,found.width);
+		assertEquals(height,found.height);
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				// should be within half a pixel of the pixel level solution
+				assertEquals(pixel.get(x,y),found.get(x,y),0.5);
+			}
+		}
+	}
+
+	private SgmStereoDisparity<GrayU8> createAlg( SgmDisparityCost<GrayU8> cost , int minDisparity ) {
+		SgmCostAggregation aggregation = new SgmCostAggregation();
+		aggregation.setPenalty1(100);
+		aggregation.setPenalty2(1000);
+		SgmDisparitySelector selector = new SgmDisparitySelector();
+		selector.setRightToLeftTolerance(-1);
+
+		SgmStereoDisparity<GrayU8> alg = new SgmStereoDisparity<>(cost,aggregation,selector);
+		alg.configure(minDisparity,15);
+		return alg;
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void configure_rangeTooLarge() {
+		createAlg(new SgmCostAbsoluteDifference.U8(),0).configure(0,255);
+	}
+}
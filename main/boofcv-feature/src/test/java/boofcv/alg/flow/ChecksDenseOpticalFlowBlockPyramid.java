@@ -19,6 +19,7 @@
 package boofcv.alg.flow;
 
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.factory.transform.pyramid.FactoryPyramid;
 import boofcv.struct.flow.ImageFlow;
@@ -71,21 +72,129 @@ public abstract class ChecksDenseOpticalFlowBlockPyramid<T extends ImageGray<T>>
 		}
 	}
 
+	/**
+	 * The concurrent implementation should produce identical results to the single threaded one
+	 */
+	@Test
+	public void compareConcurrentToSingleThread() {
+		ImagePyramid<T> pyramid1 = FactoryPyramid.discreteGaussian(
+				new int[]{1,2,4},0,2,false, ImageType.single(imageType));
+		ImagePyramid<T> pyramid2 = FactoryPyramid.discreteGaussian(
+				new int[]{1,2,4},0,2,false, ImageType.single(imageType));
+		T image2 = (T)image.createSameShape();
+		GImageMiscOps.fillUniform(image,rand,0,200);
+		GImageMiscOps.fillUniform(image2,rand,0,200);
+		pyramid1.process(image);
+		pyramid2.process(image2);
+
+		boolean original = BoofConcurrency.USE_CONCURRENT;
+		try {
+			BoofConcurrency.USE_CONCURRENT = false;
+			DenseOpticalFlowBlockPyramid<T> single = createAlg(2,3,10);
+			single.process(pyramid1,pyramid2);
+
+			BoofConcurrency.USE_CONCURRENT = true;
+			DenseOpticalFlowBlockPyramid<T> concurrent = createAlg(2,3,10);
+			concurrent.process(pyramid1,pyramid2);
+
+			ImageFlow expected = single.getOpticalFlow();
+			ImageFlow found = concurrent.getOpticalFlow();
+			for( int y = 0; y < expected.height; y++ ) {
+				for (int x = 0; x < expected.width; x++) {
+					ImageFlow.D e = expected.get(x,y);
+					ImageFlow.D f = found.get(x,y);
+					assertEquals(e.isValid(),f.isValid());
+					if( e.isValid() ) {
+						assertEquals(e.x,f.x,0);
+						assertEquals(e.y,f.y,0);
+					}
+				}
+			}
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = original;
+		}
+	}
+
+	/**
+	 * With warm start the flow from the previous images is the starting point of the search.  Motion which is
+	 * larger than the search radius should then be found.
+	 */
+	@Test
+	public void warmStart() {
+		int width = 40, height = 50;
+		T image1 = GeneralizedImageOps.createSingleBand(imageType,width,height);
+		T image2 = GeneralizedImageOps.createSingleBand(imageType,width,height);
+
+		// shift the image by more than the search radius
+		int shift = 6;
+		GImageMiscOps.fillUniform(image1,rand,0,200);
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				double v = GeneralizedImageOps.get(image1,Math.max(0,x-shift),y);
+				GeneralizedImageOps.set(image2,x,y,v);
+			}
+		}
+
+		ImagePyramid<T> pyramid1 = FactoryPyramid.discreteGaussian(new int[]{1},0,2,false, ImageType.single(imageType));
+		ImagePyramid<T> pyramid2 = FactoryPyramid.discreteGaussian(new int[]{1},0,2,false, ImageType.single(imageType));
+		pyramid1.process(image1);
+		pyramid2.process(image2);
+
+		DenseOpticalFlowBlockPyramid<T> alg = createAlg(2,2,10);
+
+		// flow from previous images which is close to the true motion
+		fill(alg.flowPrevLayer,width,height,shift-1,0);
+		alg.process(pyramid1,pyramid2);
+		// it should be ignored when warm start is off
+		assertEquals(0,countCorrect(alg.getOpticalFlow(),shift));
+
+		alg.setWarmStart(true);
+		fill(alg.flowPrevLayer,width,height,shift-1,0);
+		alg.process(pyramid1,pyramid2);
+		int total = (width-3*shift-10)*(height-10);
+		assertEquals(total,countCorrect(alg.getOpticalFlow(),shift));
+
+		// the solution should be stable when processed again
+		alg.process(pyramid1,pyramid2);
+		assertEquals(total,countCorrect(alg.getOpticalFlow(),shift));
+	}
+
+	private static void fill( ImageFlow flow , int width , int height , float x , float y ) {
+		flow.reshape(width,height);
+		for( int i = 0; i < width*height; i++ ) {
+			flow.data[i].set(x,y);
+		}
+	}
+
+	private static int countCorrect( ImageFlow flow , int shift ) {
+		int total = 0;
+		for( int y = 5; y < flow.height-5; y++ ) {
+			for( int x = 2*shift+5; x < flow.width-shift-5; x++ ) {
+				ImageFlow.D f = flow.get(x,y);
+				if( f.isValid() && f.x == shift && f.y == 0 )
+					total++;
+			}
+		}
+		return total;
+	}
+
 	@Test
 	public void extractTemplate() {
 
 		int r = 2;
 		DenseOpticalFlowBlockPyramid<T> alg = createAlg(1,r,10);
 
+		T template = GeneralizedImageOps.createSingleBand(imageType,r*2+1,r*2+1);
+
 		GImageMiscOps.fillUniform(image,rand,0,200);
-		alg.extractTemplate(3,4,image);
+		alg.extractTemplate(3,4,image,template);
 
 		for( int i = -r; i <= r; i++ ) {
 			for( int j = -r; j <= r; j++ ) {
 				int x = j+3, y = i+4;
 
 				double expected = GeneralizedImageOps.get(image,x,y);
-				double found = GeneralizedImageOps.get(alg.template,j+r,i+r);
+				double found = GeneralizedImageOps.get(template,j+r,i+r);
 
 				assertEquals(expected,found,1e-8);
 			}
@@ -98,10 +207,12 @@ public abstract class ChecksDenseOpticalFlowBlockPyramid<T extends ImageGray<T>>
 		int w = r*2+1;
 		DenseOpticalFlowBlockPyramid<T> alg = createAlg(1,r,10);
 
+		T template = GeneralizedImageOps.createSingleBand(imageType,w,w);
+
 		GImageMiscOps.fillUniform(image,rand,0,200);
-		GImageMiscOps.fillUniform(alg.template,rand,0,200);
+		GImageMiscOps.fillUniform(template,rand,0,200);
 
-		float found = alg.computeError(5,6,image);
+		float found = alg.computeError(5,6,image,template);
 
 		float expected = 0;
 		for( int i = -r; i <= r; i++ ) {
@@ -109,7 +220,7 @@ public abstract class ChecksDenseOpticalFlowBlockPyramid<T extends ImageGray<T>>
 				int x = j+5, y = i+6;
 
 				double v0 = GeneralizedImageOps.get(image,x,y);
-				double v1 = GeneralizedImageOps.get(alg.template,j+r,i+r);
+				double v1 = GeneralizedImageOps.get(template,j+r,i+r);
 
 				expected += Math.abs(v0-v1);
 			}
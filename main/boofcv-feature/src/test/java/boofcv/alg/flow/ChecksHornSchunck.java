@@ -19,6 +19,7 @@
 package boofcv.alg.flow;
 
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.struct.flow.ImageFlow;
 import boofcv.struct.image.GrayF32;
@@ -28,6 +29,7 @@ import org.junit.Test;
 
 import java.util.Random;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -74,6 +76,35 @@ public abstract class ChecksHornSchunck<T extends ImageGray<T>, D extends ImageG
 		}
 	}
 
+	/**
+	 * The concurrent implementation should produce identical results to the single threaded one
+	 */
+	@Test
+	public void compareConcurrentToSingleThread() {
+		T image1 = GeneralizedImageOps.createSingleBand(imageType,width,height);
+		T image2 = GeneralizedImageOps.createSingleBand(imageType,width,height);
+		GImageMiscOps.fillUniform(image1,rand,0,100);
+		GImageMiscOps.fillUniform(image2,rand,0,100);
+
+		ImageFlow expected = new ImageFlow(width,height);
+		ImageFlow found = new ImageFlow(width,height);
+
+		boolean original = BoofConcurrency.USE_CONCURRENT;
+		try {
+			BoofConcurrency.USE_CONCURRENT = false;
+			createAlg().process(image1, image2, expected);
+			BoofConcurrency.USE_CONCURRENT = true;
+			createAlg().process(image1, image2, found);
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = original;
+		}
+
+		for( int i = 0; i < expected.data.length; i++ ) {
+			assertEquals(expected.data[i].x,found.data[i].x,0);
+			assertEquals(expected.data[i].y,found.data[i].y,0);
+		}
+	}
+
 	@Test
 	public void computeDerivX() {
 		Point[] samples = new Point[8];
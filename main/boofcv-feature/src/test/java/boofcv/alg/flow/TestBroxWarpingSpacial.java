@@ -20,6 +20,8 @@ package boofcv.alg.flow;
 
 import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.alg.misc.ImageMiscOps;
+import boofcv.alg.misc.ImageStatistics;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.border.BorderType;
 import boofcv.factory.interpolate.FactoryInterpolation;
 import boofcv.struct.image.GrayF32;
@@ -29,6 +31,7 @@ import org.junit.Test;
 import java.util.Random;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Peter Abeles
@@ -72,6 +75,80 @@ public class TestBroxWarpingSpacial {
 
 	}
 
+	/**
+	 * The concurrent implementation should produce identical results to the single threaded one
+	 */
+	@Test
+	public void compareConcurrentToSingleThread() {
+		boolean original = BoofConcurrency.USE_CONCURRENT;
+		try {
+			BoofConcurrency.USE_CONCURRENT = false;
+			BroxWarpingSpacial<GrayF32> expected = processShifted(new ConfigBroxWarping(),1);
+			BoofConcurrency.USE_CONCURRENT = true;
+			BroxWarpingSpacial<GrayF32> found = processShifted(new ConfigBroxWarping(),1);
+
+			assertEquals(0,ImageStatistics.meanDiffAbs(expected.getFlowX(),found.getFlowX()),0);
+			assertEquals(0,ImageStatistics.meanDiffAbs(expected.getFlowY(),found.getFlowY()),0);
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = original;
+		}
+	}
+
+	/**
+	 * When warm start is enabled the previous solution is used as the initial estimate.  It should have no effect
+	 * on the first call and still converge to the correct solution on later calls.
+	 */
+	@Test
+	public void warmStart() {
+		ConfigBroxWarping config = new ConfigBroxWarping();
+
+		// without warm start the solution doesn't change
+		BroxWarpingSpacial<GrayF32> cold1 = processShifted(config,1);
+		BroxWarpingSpacial<GrayF32> cold2 = processShifted(config,2);
+		assertEquals(0,ImageStatistics.meanDiffAbs(cold1.getFlowX(),cold2.getFlowX()),0);
+
+		config.warmStart = true;
+		BroxWarpingSpacial<GrayF32> warm1 = processShifted(config,1);
+		assertEquals(0,ImageStatistics.meanDiffAbs(cold1.getFlowX(),warm1.getFlowX()),0);
+
+		// the previous solution is now used and the results will be slightly different
+		BroxWarpingSpacial<GrayF32> warm2 = processShifted(config,2);
+		assertTrue(ImageStatistics.meanDiffAbs(cold1.getFlowX(),warm2.getFlowX()) > 0);
+		for( int y = 0; y < warm2.getFlowX().height; y++ ) {
+			for( int x = 10; x < 20; x++ ) {
+				assertEquals(5,warm2.getFlowX().get(x,y),1);
+				assertEquals(0,warm2.getFlowY().get(x,y),1);
+			}
+		}
+	}
+
+	/**
+	 * Processes an image with a rectangle which has been shifted along the x-axis by 5 pixels
+	 *
+	 * @param trials Number of times the same images are processed
+	 */
+	private BroxWarpingSpacial<GrayF32> processShifted( ConfigBroxWarping config , int trials ) {
+		int width = 30;
+		int height = 40;
+
+		GrayF32 original1 = new GrayF32(width,height);
+		GrayF32 original2 = new GrayF32(width,height);
+
+		ImageMiscOps.fillRectangle(original1,40,10,0,10,height);
+		ImageMiscOps.fillRectangle(original2,40,15,0,10,height);
+
+		PyramidFloat<GrayF32> pyr1 = UtilDenseOpticalFlow.standardPyramid(width,height,0.7,0,5,12,GrayF32.class);
+		PyramidFloat<GrayF32> pyr2 = UtilDenseOpticalFlow.standardPyramid(width,height,0.7,0,5,12,GrayF32.class);
+
+		pyr1.process(original1);
+		pyr2.process(original2);
+
+		BroxWarpingSpacial<GrayF32> alg = new BroxWarpingSpacial<>(config,interpolate);
+		for( int i = 0; i < trials; i++ )
+			alg.process(pyr1,pyr2);
+		return alg;
+	}
+
 	@Test
 	public void computePsiDataPsiGradient() {
 		BroxWarpingSpacial<GrayF32> alg = new BroxWarpingSpacial<>(new ConfigBroxWarping(),interpolate);
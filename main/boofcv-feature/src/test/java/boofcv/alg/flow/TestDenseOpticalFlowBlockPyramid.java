@@ -44,84 +44,73 @@ public class TestDenseOpticalFlowBlockPyramid {
 		ImageFlow.D flow = new ImageFlow.D();
 
 		// see if it selects the obvious minimum
-		assertEquals(0.1f, alg.findFlow(6, 7, image, flow), 1e-4);
+		assertEquals(0.1f, alg.findFlow(6, 7, image, null, flow), 1e-4);
 		assertTrue(flow.isValid());
 		assertEquals(-2,flow.x,1e-4);
 		assertEquals(1,flow.y,1e-4);
 
 		// now try the case where the error is too high
 		alg.minScore = 100000000f;
-		alg.findFlow(6, 7, image, flow);
+		alg.findFlow(6, 7, image, null, flow);
 		assertFalse(flow.isValid());
 
 		// now give it a case where everything has the same score.  See if it picks the one with the least motion
 		alg.sameScore = true;
 		alg.minScore = 0.1f;
-		alg.findFlow(6, 7, image, flow);
+		alg.findFlow(6, 7, image, null, flow);
 		assertTrue(flow.isValid());
 		assertEquals(0,flow.x,1e-4);
 		assertEquals(0,flow.y,1e-4);
 	}
 
 	@Test
-	public void checkNeighbors() {
+	public void selectBestFlow() {
 		int sr = 3;
 		int rr = 2;
 		Dummy alg = new Dummy(sr,rr,200,GrayU8.class);
 
 		alg.scores = new float[20*30];
-		Arrays.fill(alg.scores,20);
-		ImageFlow flows = new ImageFlow(20,30);
-		flows.invalidateAll();
-		ImageFlow.D tmp = new ImageFlow.D();
-
-		tmp.x = -1;
-		tmp.y = 2;
-
-		// checks to see if a pixel is invalid that it's flow is always set
-		// if a pixel is valid then the score is only set if the score is better
-		flows.get(6,5).x = 1;
-		flows.get(6,5).y = 2;
-		alg.scores[ 5*20+6 ] = 10;
-		flows.get(5,5).x = 1;
-		flows.get(5,5).y = 2;
-		alg.scores[ 5*20+5 ] = 4;
-		// same score, but more motion
-		alg.scores[ 6*20+5 ] = 5;
-		flows.get(5,6).x = 2;
-		flows.get(5,6).y = 2;
-		// same score, but less motion
-		alg.scores[ 6*20+6 ] = 5;
-		flows.get(6,6).x = 0;
-		flows.get(6,6).y = 1;
-
-		alg.checkNeighbors(6,7,tmp,flows,5);
-
-		for( int i = -rr; i <= rr; i++ ) {
-			for( int j = -rr; j <= rr; j++ ) {
-				int x = j+6;
-				int y = i+7;
-
-				ImageFlow.D f = flows.get(x,y);
-
-				assertTrue(f.isValid());
-				if( x == 5 && y == 5 ) {
-					assertEquals(4,alg.scores[y*20+x],1e-4);
-					assertEquals(1,f.x,1e-4);
-					assertEquals(2,f.y,1e-4);
-				} else if( x == 6 && y == 6 ) {
-					assertEquals(5,alg.scores[y*20+x],1e-4);
-					assertEquals(0,f.x,1e-4);
-					assertEquals(1,f.y,1e-4);
-				} else {
-					assertEquals(x+" "+y,5,alg.scores[y*20+x],1e-4);
-					assertEquals(-1,f.x,1e-4);
-					assertEquals(2,f.y,1e-4);
-				}
-			}
+		Arrays.fill(alg.scores,5);
+		ImageFlow centers = new ImageFlow(20,30);
+		for( int i = 0; i < centers.data.length; i++ ) {
+			centers.data[i].set(-1,2);
 		}
-	}
+		ImageFlow.D found = new ImageFlow.D();
 
+		// a better score outside of the region should be ignored
+		alg.scores[ 7*20+9 ] = 1;
+		// invalid centers should be ignored
+		alg.scores[ 7*20+7 ] = 0;
+		centers.get(7,7).markInvalid();
+		// same score, but less motion
+		centers.get(5,6).set(0,1);
+		// same score, but more motion
+		centers.get(6,5).set(3,2);
+
+		alg.selectBestFlow(6,7,centers,found);
+		assertTrue(found.isValid());
+		assertEquals(0,found.x,1e-4);
+		assertEquals(1,found.y,1e-4);
+
+		// a better score inside the region
+		alg.scores[ 5*20+8 ] = 4;
+		centers.get(8,5).set(1,2);
+		alg.selectBestFlow(6,7,centers,found);
+		assertEquals(1,found.x,1e-4);
+		assertEquals(2,found.y,1e-4);
+
+		// regions which are centered too close to the image border are never considered
+		alg.scores[ 0 ] = 0;
+		centers.get(0,0).set(4,4);
+		alg.selectBestFlow(0,0,centers,found);
+		assertEquals(-1,found.x,1e-4);
+		assertEquals(2,found.y,1e-4);
+
+		// no valid regions
+		centers.invalidateAll();
+		alg.selectBestFlow(6,7,centers,found);
+		assertFalse(found.isValid());
+	}
 
 	public static class Dummy extends DenseOpticalFlowBlockPyramid {
 
@@ -135,10 +124,10 @@ public class TestDenseOpticalFlowBlockPyramid {
 		}
 
 		@Override
-		protected void extractTemplate(int cx, int cy, ImageGray prev) {}
+		protected void extractTemplate(int cx, int cy, ImageGray prev, ImageGray template) {}
 
 		@Override
-		protected float computeError(int cx, int cy, ImageGray curr) {
+		protected float computeError(int cx, int cy, ImageGray curr, ImageGray template) {
 			if( sameScore )
 				return minScore;
 			else {
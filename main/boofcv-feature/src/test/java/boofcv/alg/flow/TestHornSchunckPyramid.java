@@ -21,7 +21,10 @@ package boofcv.alg.flow;
 import boofcv.alg.filter.derivative.DerivativeType;
 import boofcv.alg.filter.derivative.GImageDerivativeOps;
 import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.alg.filter.blur.BlurImageOps;
 import boofcv.alg.misc.ImageMiscOps;
+import boofcv.alg.misc.ImageStatistics;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.border.BorderType;
 import boofcv.factory.flow.ConfigHornSchunckPyramid;
 import boofcv.factory.interpolate.FactoryInterpolation;
@@ -32,6 +35,7 @@ import org.junit.Test;
 import java.util.Random;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Peter Abeles
@@ -73,6 +77,86 @@ public class TestHornSchunckPyramid {
 
 	}
 
+	/**
+	 * The concurrent implementation should produce identical results to the single threaded one
+	 */
+	@Test
+	public void compareConcurrentToSingleThread() {
+		boolean original = BoofConcurrency.USE_CONCURRENT;
+		try {
+			BoofConcurrency.USE_CONCURRENT = false;
+			HornSchunckPyramid expected = processRandom(new ConfigHornSchunckPyramid(20f,100),1);
+			BoofConcurrency.USE_CONCURRENT = true;
+			HornSchunckPyramid found = processRandom(new ConfigHornSchunckPyramid(20f,100),1);
+
+			assertEquals(0,ImageStatistics.meanDiffAbs(expected.getFlowX(),found.getFlowX()),0);
+			assertEquals(0,ImageStatistics.meanDiffAbs(expected.getFlowY(),found.getFlowY()),0);
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = original;
+		}
+	}
+
+	/**
+	 * When warm start is enabled the previous solution is used as the initial estimate.  It should have no effect
+	 * on the first call and still converge to the correct solution on later calls.
+	 */
+	@Test
+	public void warmStart() {
+		ConfigHornSchunckPyramid config = new ConfigHornSchunckPyramid(20f,20);
+		config.numWarps = 1;
+
+		// without warm start the solution doesn't change
+		HornSchunckPyramid cold1 = processRandom(config,1);
+		HornSchunckPyramid cold2 = processRandom(config,2);
+		assertEquals(0,ImageStatistics.meanDiffAbs(cold1.getFlowX(),cold2.getFlowX()),0);
+
+		config.warmStart = true;
+		HornSchunckPyramid warm1 = processRandom(config,1);
+		assertEquals(0,ImageStatistics.meanDiffAbs(cold1.getFlowX(),warm1.getFlowX()),0);
+
+		// the previous solution is now used and the results will be slightly different
+		HornSchunckPyramid warm2 = processRandom(config,2);
+		assertTrue(ImageStatistics.meanDiffAbs(cold1.getFlowX(),warm2.getFlowX()) > 0);
+		assertEquals(0,ImageStatistics.meanDiffAbs(warm2.getFlowX(),constant(warm2.getFlowX(),2)),0.1);
+		assertEquals(0,ImageStatistics.meanDiffAbs(warm2.getFlowY(),constant(warm2.getFlowY(),0)),0.1);
+	}
+
+	private static GrayF32 constant( GrayF32 flow , float value ) {
+		GrayF32 expected = flow.createSameShape();
+		ImageMiscOps.fill(expected,value);
+		return expected;
+	}
+
+	/**
+	 * Processes a random image which has been shifted along the x-axis by 2 pixels
+	 *
+	 * @param trials Number of times the same images are processed
+	 */
+	private HornSchunckPyramid processRandom( ConfigHornSchunckPyramid config , int trials ) {
+		int width = 30;
+		int height = 40;
+
+		GrayF32 original1 = new GrayF32(width,height);
+		GrayF32 original2 = new GrayF32(width,height);
+
+		ImageMiscOps.fillUniform(original1,new Random(234),0,100);
+		BlurImageOps.gaussian(original1.clone(),original1,-1,2,null);
+		ImageMiscOps.copy(0,0,2,0,width-2,height,original1,original2);
+
+		PyramidFloat<GrayF32> pyr1 = UtilDenseOpticalFlow.standardPyramid(width,height,0.7,0,5,12,GrayF32.class);
+		PyramidFloat<GrayF32> pyr2 = UtilDenseOpticalFlow.standardPyramid(width,height,0.7,0,5,12,GrayF32.class);
+
+		pyr1.process(original1);
+		pyr2.process(original2);
+
+		InterpolatePixelS<GrayF32> interpolate = FactoryInterpolation.bilinearPixelS(
+				GrayF32.class, BorderType.EXTENDED);
+		HornSchunckPyramid alg = new HornSchunckPyramid(config,interpolate);
+		for( int i = 0; i < trials; i++ )
+			alg.process(pyr1,pyr2);
+		return alg;
+	}
+
 	@Test
 	public void processLayer() {
 		GrayF32 image1 = new GrayF32(width,height);
@@ -98,6 +98,28 @@ public class PointTrackerKltPyramid<I extends ImageGray<I>,D extends ImageGray<D
 								  InterpolateRectangle<I> interpInput,
 								  InterpolateRectangle<D> interpDeriv,
 								  Class<D> derivType ) {
+		this(config, templateRadius, pyramid, detector, gradient,
+				new KltTracker<>(interpInput, interpDeriv, config), derivType);
+	}
+
+	/**
+	 * Constructor which specifies the KLT tracker used internally.
+	 *
+	 * @param config KLT tracker configuration
+	 * @param templateRadius Radius of square templates that are tracked
+	 * @param pyramid The image pyramid which KLT is tracking inside of
+	 * @param detector Feature detector.   If null then no feature detector will be available and spawn won't work.
+	 * @param gradient Computes gradient image pyramid.
+	 * @param klt Tracks features inside a single image
+	 * @param derivType Type of image the gradient is
+	 */
+	protected PointTrackerKltPyramid(KltConfig config,
+									 int templateRadius ,
+									 PyramidDiscrete<I> pyramid,
+									 GeneralFeatureDetector<I, D> detector,
+									 ImageGradient<I, D> gradient,
+									 KltTracker<I, D> klt,
+									 Class<D> derivType ) {
 
 		this.config = config;
 		this.templateRadius = templateRadius;
@@ -105,7 +127,6 @@ public class PointTrackerKltPyramid<I extends ImageGray<I>,D extends ImageGray<D
 		this.basePyramid = pyramid;
 		this.derivType = derivType;
 
-		KltTracker<I, D> klt = new KltTracker<>(interpInput, interpDeriv, config);
 		tracker = new PyramidKltTracker<>(klt);
 
 		if( detector != null) {
@@ -240,23 +261,19 @@ public class PointTrackerKltPyramid<I extends ImageGray<I>,D extends ImageGray<D
 
 		// track features
 		tracker.setImage(basePyramid,derivX,derivY);
+		trackActive();
+	}
+
+	/**
+	 * Tracks all the active features.  Features which fail are moved into the dropped list.
+	 */
+	protected void trackActive() {
 		for( int i = 0; i < active.size(); ) {
 			PyramidKltFeature t = active.get(i);
-			KltTrackFault ret = tracker.track(t);
-
-			boolean success = false;
-
-			if( ret == KltTrackFault.SUCCESS ) {
-				// discard a track if its center drifts outside the image.
-				if( image.isInBounds((int)t.x,(int)t.y) && tracker.setDescription(t) ) {
-					PointTrack p = t.getCookie();
-					p.set(t.x,t.y);
-					i++;
-					success = true;
-				}
-			}
 
-			if( !success ) {
+			if( trackFeature(tracker,t) ) {
+				i++;
+			} else {
 				active.remove(i);
 				dropped.add( t );
 				unused.add( t );
@@ -264,6 +281,27 @@ public class PointTrackerKltPyramid<I extends ImageGray<I>,D extends ImageGray<D
 		}
 	}
 
+	/**
+	 * Tracks the feature into the current image and updates its description
+	 *
+	 * @param tracker The tracker which is used.  The current image must have already been set.
+	 * @param t The feature being tracked
+	 * @return true if successful or false if it should be dropped
+	 */
+	protected boolean trackFeature( PyramidKltTracker<I, D> tracker , PyramidKltFeature t ) {
+		KltTrackFault ret = tracker.track(t);
+
+		if( ret == KltTrackFault.SUCCESS ) {
+			// discard a track if its center drifts outside the image.
+			if( input.isInBounds((int)t.x,(int)t.y) && tracker.setDescription(t) ) {
+				PointTrack p = t.getCookie();
+				p.set(t.x,t.y);
+				return true;
+			}
+		}
+		return false;
+	}
+
 	protected void declareOutput() {
 		if( derivX == null ) {
 			// declare storage for image derivative since the image size is now known
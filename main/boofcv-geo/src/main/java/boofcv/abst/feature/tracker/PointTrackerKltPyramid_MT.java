@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boofcv.abst.feature.tracker;
+
+import boofcv.abst.filter.derivative.ImageGradient;
+import boofcv.alg.feature.detect.interest.GeneralFeatureDetector;
+import boofcv.alg.tracker.klt.KltConfig;
+import boofcv.alg.tracker.klt.KltTracker;
+import boofcv.alg.tracker.klt.PyramidKltFeature;
+import boofcv.alg.tracker.klt.PyramidKltTracker;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.ImageGray;
+import boofcv.struct.pyramid.PyramidDiscrete;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_B;
+
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link PointTrackerKltPyramid}.  Active features are split into blocks and each
+ * block is tracked by a different thread.  Each thread has its own {@link KltTracker} since it has internal
+ * state.  Once all the features have been tracked, failed tracks are dropped in the same order as the single
+ * threaded version, so the active, dropped, and unused lists are identical.
+ * </p>
+ *
+ * <p>
+ * Image pyramid and gradient computations are concurrent when {@link BoofConcurrency#USE_CONCURRENT} is true.
+ * Spawning new tracks is done in a single thread.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class PointTrackerKltPyramid_MT<I extends ImageGray<I>,D extends ImageGray<D>>
+		extends PointTrackerKltPyramid<I,D>
+{
+	/**
+	 * Minimum number of features tracked by a single thread
+	 */
+	public static int MIN_FEATURES_PER_THREAD = 50;
+
+	// creates a new KLT tracker for each thread
+	Supplier<KltTracker<I, D>> factoryKlt;
+
+	// storage for each thread
+	FastQueue<BlockData> blocks = new FastQueue<>(BlockData.class, true);
+
+	// if tracking was successful for each active feature
+	GrowQueue_B success = new GrowQueue_B();
+
+	/**
+	 * Constructor which specified the KLT track manager and how the image pyramids are computed.
+	 *
+	 * @param config KLT tracker configuration
+	 * @param templateRadius Radius of square templates that are tracked
+	 * @param pyramid The image pyramid which KLT is tracking inside of
+	 * @param detector Feature detector.   If null then no feature detector will be available and spawn won't work.
+	 * @param gradient Computes gradient image pyramid.
+	 * @param factoryKlt Creates a new KLT tracker
+	 * @param derivType Type of image the gradient is
+	 */
+	public PointTrackerKltPyramid_MT(KltConfig config,
+									 int templateRadius ,
+									 PyramidDiscrete<I> pyramid,
+									 GeneralFeatureDetector<I, D> detector,
+									 ImageGradient<I, D> gradient,
+									 Supplier<KltTracker<I, D>> factoryKlt,
+									 Class<D> derivType ) {
+		super(config, templateRadius, pyramid, detector, gradient, factoryKlt.get(), derivType);
+		this.factoryKlt = factoryKlt;
+	}
+
+	@Override
+	protected void trackActive() {
+		final int N = active.size();
+		success.resize(N);
+
+		BoofConcurrency.loopBlocks(0, N, MIN_FEATURES_PER_THREAD, blocks, (block, i0, i1) -> {
+			if( block.tracker == null )
+				block.tracker = new PyramidKltTracker<>(factoryKlt.get());
+			PyramidKltTracker<I, D> tracker = block.tracker;
+			tracker.setImage(basePyramid,derivX,derivY);
+
+			for( int i = i0; i < i1; i++ ) {
+				success.data[i] = trackFeature(tracker,active.get(i));
+			}
+		});
+
+		// remove failed tracks in the same order as the single threaded version
+		int numActive = 0;
+		for( int i = 0; i < N; i++ ) {
+			PyramidKltFeature t = active.get(i);
+			if( success.data[i] ) {
+				active.set(numActive++,t);
+			} else {
+				dropped.add( t );
+				unused.add( t );
+			}
+		}
+		active.subList(numActive,N).clear();
+	}
+
+	/**
+	 * Storage for each thread
+	 */
+	public static class BlockData {
+		PyramidKltTracker tracker;
+	}
+}
@@ -48,8 +48,11 @@ import boofcv.alg.feature.detect.interest.GeneralFeatureDetector;
 import boofcv.alg.filter.derivative.GImageDerivativeOps;
 import boofcv.alg.interpolate.InterpolateRectangle;
 import boofcv.alg.tracker.combined.CombinedTrackerScalePoint;
+import boofcv.alg.tracker.klt.KltConfig;
+import boofcv.alg.tracker.klt.KltTracker;
 import boofcv.alg.tracker.klt.PkltConfig;
 import boofcv.alg.transform.ii.GIntegralImageOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.factory.feature.associate.FactoryAssociation;
 import boofcv.factory.feature.describe.FactoryDescribePointAlgs;
 import boofcv.factory.feature.describe.FactoryDescribeRegionPoint;
@@ -132,13 +135,21 @@ public class FactoryPointTracker {
 
 		GeneralFeatureDetector<I, D> detector = createShiTomasi(configExtract, derivType);
 
-		InterpolateRectangle<I> interpInput = FactoryInterpolation.<I>bilinearRectangle(imageType);
-		InterpolateRectangle<D> interpDeriv = FactoryInterpolation.<D>bilinearRectangle(derivType);
-
 		ImageGradient<I,D> gradient = FactoryDerivative.sobel(imageType, derivType);
 
 		PyramidDiscrete<I> pyramid = FactoryPyramid.discreteGaussian(config.pyramidScaling,-1,2,true, ImageType.single(imageType));
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			final KltConfig configKlt = config.config;
+			final Class<D> _derivType = derivType;
+			return new PointTrackerKltPyramid_MT<>(configKlt, config.templateRadius, pyramid, detector, gradient,
+					() -> new KltTracker<>(FactoryInterpolation.bilinearRectangle(imageType),
+							FactoryInterpolation.bilinearRectangle(_derivType), configKlt), derivType);
+		}
+
+		InterpolateRectangle<I> interpInput = FactoryInterpolation.<I>bilinearRectangle(imageType);
+		InterpolateRectangle<D> interpDeriv = FactoryInterpolation.<D>bilinearRectangle(derivType);
+
 		return new PointTrackerKltPyramid<>(config.config, config.templateRadius, pyramid, detector,
 				gradient, interpInput, interpDeriv, derivType);
 	}
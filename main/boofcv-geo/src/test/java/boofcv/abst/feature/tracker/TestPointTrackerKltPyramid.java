@@ -19,10 +19,17 @@
 package boofcv.abst.feature.tracker;
 
 import boofcv.abst.feature.detect.interest.ConfigGeneralDetector;
+import boofcv.abst.filter.derivative.ImageGradient;
+import boofcv.alg.feature.detect.interest.GeneralFeatureDetector;
 import boofcv.alg.misc.GImageMiscOps;
 import boofcv.alg.tracker.klt.*;
 import boofcv.factory.feature.tracker.FactoryPointTracker;
+import boofcv.factory.filter.derivative.FactoryDerivative;
+import boofcv.factory.interpolate.FactoryInterpolation;
+import boofcv.factory.transform.pyramid.FactoryPyramid;
 import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.ImageType;
+import boofcv.struct.pyramid.PyramidDiscrete;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
@@ -43,8 +50,22 @@ public class TestPointTrackerKltPyramid extends StandardPointTracker<GrayF32> {
 	@Override
 	public PointTracker<GrayF32> createTracker() {
 		config = new PkltConfig();
-		return FactoryPointTracker.klt(config, new ConfigGeneralDetector(200, 3, 1000, 0, true),
-				GrayF32.class, GrayF32.class);
+		return createSingleThread(config);
+	}
+
+	/**
+	 * The factory returns the concurrent implementation by default, so the tracker is created here
+	 */
+	public static PointTrackerKltPyramid<GrayF32,GrayF32> createSingleThread( PkltConfig config ) {
+		GeneralFeatureDetector<GrayF32,GrayF32> detector = FactoryPointTracker.createShiTomasi(
+				new ConfigGeneralDetector(200, 3, 1000, 0, true), GrayF32.class);
+		ImageGradient<GrayF32,GrayF32> gradient = FactoryDerivative.sobel(GrayF32.class, GrayF32.class);
+		PyramidDiscrete<GrayF32> pyramid = FactoryPyramid.discreteGaussian(config.pyramidScaling,-1,2,true,
+				ImageType.single(GrayF32.class));
+
+		return new PointTrackerKltPyramid<>(config.config, config.templateRadius, pyramid, detector, gradient,
+				FactoryInterpolation.bilinearRectangle(GrayF32.class),
+				FactoryInterpolation.bilinearRectangle(GrayF32.class), GrayF32.class);
 	}
 
 	/**
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boofcv.abst.feature.tracker;
+
+import boofcv.abst.feature.detect.interest.ConfigGeneralDetector;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.alg.tracker.klt.PkltConfig;
+import boofcv.factory.feature.tracker.FactoryPointTracker;
+import boofcv.struct.image.GrayF32;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestPointTrackerKltPyramid_MT extends StandardPointTracker<GrayF32> {
+
+	public TestPointTrackerKltPyramid_MT() {
+		super(false, true);
+	}
+
+	@Override
+	public PointTracker<GrayF32> createTracker() {
+		return FactoryPointTracker.klt(new PkltConfig(), new ConfigGeneralDetector(200, 3, 1000, 0, true),
+				GrayF32.class, GrayF32.class);
+	}
+
+	/**
+	 * Track features through a sequence of shifted images and see if the results are identical to the
+	 * single threaded version
+	 */
+	@Test
+	public void compareToSingleThread() {
+		int before = PointTrackerKltPyramid_MT.MIN_FEATURES_PER_THREAD;
+		PointTrackerKltPyramid_MT.MIN_FEATURES_PER_THREAD = 5;
+		try {
+			PointTrackerKltPyramid<GrayF32,GrayF32> expected = TestPointTrackerKltPyramid.createSingleThread(new PkltConfig());
+			PointTrackerKltPyramid<GrayF32,GrayF32> found = (PointTrackerKltPyramid<GrayF32,GrayF32>)createTracker();
+			assertTrue(found instanceof PointTrackerKltPyramid_MT);
+
+			Random rand = new Random(234);
+			GrayF32 background = new GrayF32(width+40,height+40);
+			ImageMiscOps.fillUniform(background, rand, 0, 100);
+
+			for( int frame = 0; frame < 6; frame++ ) {
+				// shift the image and make part of it featureless so that some tracks are dropped
+				GrayF32 image = background.subimage(frame*3,frame*2,frame*3+width,frame*2+height).clone();
+				ImageMiscOps.fillRectangle(image,0,frame*10,frame*8,30,30);
+
+				expected.process(image);
+				found.process(image);
+
+				compare(expected.getActiveTracks(null), found.getActiveTracks(null));
+				compare(expected.getDroppedTracks(null), found.getDroppedTracks(null));
+				assertEquals(expected.unused.size(), found.unused.size());
+
+				if( frame % 2 == 0 ) {
+					expected.spawnTracks();
+					found.spawnTracks();
+					compare(expected.getNewTracks(null), found.getNewTracks(null));
+				}
+			}
+			assertTrue(found.getActiveTracks(null).size() > 0);
+		} finally {
+			PointTrackerKltPyramid_MT.MIN_FEATURES_PER_THREAD = before;
+		}
+	}
+
+	private void compare( List<PointTrack> expected , List<PointTrack> found ) {
+		assertEquals(expected.size(), found.size());
+		for (int i = 0; i < expected.size(); i++) {
+			PointTrack a = expected.get(i);
+			PointTrack b = found.get(i);
+
+			assertEquals(a.featureId, b.featureId);
+			assertEquals(a.x, b.x, 0);
+			assertEquals(a.y, b.y, 0);
+		}
+	}
+}
@@ -19,10 +19,10 @@
 package boofcv.alg.color;
 
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.misc.PerformerBase;
 import boofcv.misc.ProfileOperation;
-import boofcv.struct.image.GrayF32;
-import boofcv.struct.image.Planar;
+import boofcv.struct.image.*;
 import org.openjdk.jmh.annotations.*;
 
 import java.util.Random;
@@ -44,8 +44,15 @@ public class BenchmarkColorConvert {
 
 	public static final int TEST_TIME = 1000;
 
+	@Param({"true","false"})
+	public boolean concurrent;
+
 	public static Planar<GrayF32> src_F32;
 	public static Planar<GrayF32> dst_F32;
+	public static Planar<GrayU8> src_U8;
+	public static Planar<GrayU8> dst_U8;
+	public static InterleavedU8 src_IU8;
+	public static GrayU8 gray_U8;
 
 	{
 //		System.out.println("=========  Profile Image Size " + imgWidth + " x " + imgHeight + " ==========");
@@ -54,7 +61,19 @@ public class BenchmarkColorConvert {
 		src_F32 = new Planar<>(GrayF32.class,imgWidth,imgHeight,3);
 		dst_F32 = new Planar<>(GrayF32.class,imgWidth,imgHeight,3);
 
+		src_U8 = new Planar<>(GrayU8.class,imgWidth,imgHeight,3);
+		dst_U8 = new Planar<>(GrayU8.class,imgWidth,imgHeight,3);
+		src_IU8 = new InterleavedU8(imgWidth,imgHeight,3);
+		gray_U8 = new GrayU8(imgWidth,imgHeight);
+
 		GImageMiscOps.addUniform(src_F32,rand,0,255);
+		GImageMiscOps.fillUniform(src_U8,rand,0,255);
+		GImageMiscOps.fillUniform(src_IU8,rand,0,255);
+	}
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = concurrent;
 	}
 
 	@Benchmark
@@ -77,4 +96,39 @@ public class BenchmarkColorConvert {
 		ColorYuv.yuvToRgb_F32(src_F32,dst_F32);
 	}
 
+	@Benchmark
+	public void YCbCr_to_RGB_U8() {
+		ColorYuv.ycbcrToRgb_U8(src_U8,dst_U8);
+	}
+
+	@Benchmark
+	public void RGB_to_LAB_U8() {
+		ColorLab.rgbToLab_U8(src_U8,dst_F32);
+	}
+
+	@Benchmark
+	public void RGB_to_LAB_F32() {
+		ColorLab.rgbToLab_F32(src_F32,dst_F32);
+	}
+
+	@Benchmark
+	public void RGB_to_XYZ_U8() {
+		ColorXyz.rgbToXyz_U8(src_U8,dst_F32);
+	}
+
+	@Benchmark
+	public void RGB_to_XYZ_F32() {
+		ColorXyz.rgbToXyz_F32(src_F32,dst_F32);
+	}
+
+	@Benchmark
+	public void RGB_to_Gray_PL_U8() {
+		ColorRgb.rgbToGray_Weighted_U8(src_U8,gray_U8);
+	}
+
+	@Benchmark
+	public void RGB_to_Gray_IL_U8() {
+		ColorRgb.rgbToGray_Weighted(src_IU8,gray_U8);
+	}
+
 }
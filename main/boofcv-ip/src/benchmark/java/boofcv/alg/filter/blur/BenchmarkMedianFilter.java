@@ -18,6 +18,8 @@
 
 package boofcv.alg.filter.blur;
 
+import boofcv.alg.filter.blur.impl.ImplMedianColumnHistogram;
+import boofcv.alg.filter.blur.impl.ImplMedianColumnHistogram_MT;
 import boofcv.alg.filter.blur.impl.ImplMedianHistogramInner;
 import boofcv.alg.filter.blur.impl.ImplMedianHistogramInnerNaive;
 import boofcv.alg.filter.blur.impl.ImplMedianSortNaive;
@@ -67,6 +69,24 @@ public class BenchmarkMedianFilter  {
 		return 0;
 	}
 
+	public int timeBlurImageOps_F32_Buckets(int reps) {
+		for( int i = 0; i < reps; i++ )
+			BlurImageOps.median(imgFloat32,out_F32,radius,256);
+		return 0;
+	}
+
+	public int timeColumnHistogram_I8(int reps) {
+		for( int i = 0; i < reps; i++ )
+			ImplMedianColumnHistogram.process(imgInt8, out_I8, radius, null);
+		return 0;
+	}
+
+	public int timeColumnHistogram_MT_I8(int reps) {
+		for( int i = 0; i < reps; i++ )
+			ImplMedianColumnHistogram_MT.process(imgInt8, out_I8, radius, null);
+		return 0;
+	}
+
 	public int timeHistogramNaive_I8(int reps) {
 		for( int i = 0; i < reps; i++ )
 			ImplMedianHistogramInnerNaive.process(imgInt8, out_I8, radius, null, null);
@@ -57,6 +57,7 @@ public class GenerateConvolveImageNoBorder extends CodeGeneratorBase {
 		out.print(
 				"import boofcv.alg.InputSanityCheck;\n" +
 				"import boofcv.alg.filter.convolve.noborder.*;\n" +
+				"import boofcv.concurrency.BoofConcurrency;\n" +
 				"import boofcv.struct.convolve.*;\n" +
 				"import boofcv.struct.image.*;\n");
 		out.println();
@@ -139,12 +140,21 @@ public class GenerateConvolveImageNoBorder extends CodeGeneratorBase {
 				"\t\t\t\t\t\t\t\t  "+inputName+" input, "+outputName+" output"+divideArg+") {\n" +
 				"\t\tInputSanityCheck.checkSameShape(input, output);\n" +
 				"\n");
+		String args = "(kernel, input, output"+divideInput+")";
+		out.print("\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n");
 		if( singleBand ) {
-			out.print("\t\tif (!ConvolveImageUnrolled_"+typeIn+"_"+typeOut+divideSuf+"."+name+"(kernel, input, output"+divideInput+"))\n" +
-					"\t\t\tConvolveImageStandard_SB."+name+"(kernel, input, output"+divideInput+");\n");
+			String unrolled = "ConvolveImageUnrolled_SB_MT_"+typeIn+"_"+typeOut+divideSuf;
+			out.print("\t\t\tif (!"+unrolled+"."+name+args+")\n" +
+					"\t\t\t\tConvolveImageStandard_SB_MT."+name+args+";\n" +
+					"\t\t} else {\n" +
+					"\t\t\tif (!ConvolveImageUnrolled_SB_"+typeIn+"_"+typeOut+divideSuf+"."+name+args+")\n" +
+					"\t\t\t\tConvolveImageStandard_SB."+name+args+";\n");
 		} else {
-			out.print("\t\tConvolveImageStandard_IL."+name+"(kernel, input, output"+divideInput+");\n");
+			out.print("\t\t\tConvolveImageStandard_IL_MT."+name+args+";\n" +
+					"\t\t} else {\n" +
+					"\t\t\tConvolveImageStandard_IL."+name+args+";\n");
 		}
+		out.print("\t\t}\n");
 		out.print("\t}\n\n");
 	}
 
@@ -32,7 +32,6 @@ public class GenerateConvolveDownNoBorderUnrolled extends CodeGeneratorBase {
 
 	final static int numUnrolled = 5;
 
-	String className;
 	String typeKernel;
 	String typeInput;
 	String typeOutput;
@@ -45,6 +44,14 @@ public class GenerateConvolveDownNoBorderUnrolled extends CodeGeneratorBase {
 	String declareHalf;
 	String divide;
 
+	// if true a concurrent implementation will be generated
+	boolean concurrent;
+
+	public GenerateConvolveDownNoBorderUnrolled( boolean concurrent ) {
+		super(false);
+		this.concurrent = concurrent;
+	}
+
 	@Override
 	public void generate() throws FileNotFoundException {
 		createF32();
@@ -55,7 +62,7 @@ public class GenerateConvolveDownNoBorderUnrolled extends CodeGeneratorBase {
 	}
 
 	public void createF32() throws FileNotFoundException {
-		className = "ConvolveDownNoBorderUnrolled_F32_F32";
+		className = "ConvolveDownNoBorderUnrolled_"+(concurrent?"MT_":"")+"F32_F32";
 		typeKernel = "F32";
 		typeInput = "GrayF32";
 		typeOutput = "GrayF32";
@@ -70,10 +77,10 @@ public class GenerateConvolveDownNoBorderUnrolled extends CodeGeneratorBase {
 	}
 
 	public void createU8_I8_Div() throws FileNotFoundException {
-		className = "ConvolveDownNoBorderUnrolled_U8_I8_Div";
-		typeKernel = "I32";
+		className = "ConvolveDownNoBorderUnrolled_"+(concurrent?"MT_":"")+"U8_I8_Div";
+		typeKernel = "S32";
 		typeInput = "GrayU8";
-		typeOutput = "ImageInt8";
+		typeOutput = "GrayI8";
 		dataKernel = "int";
 		dataInput = "byte";
 		dataOutput = "byte";
@@ -85,10 +92,10 @@ public class GenerateConvolveDownNoBorderUnrolled extends CodeGeneratorBase {
 	}
 
 	public void createU8_I16() throws FileNotFoundException {
-		className = "ConvolveDownNoBorderUnrolled_U8_I16";
-		typeKernel = "I32";
+		className = "ConvolveDownNoBorderUnrolled_"+(concurrent?"MT_":"")+"U8_I16";
+		typeKernel = "S32";
 		typeInput = "GrayU8";
-		typeOutput = "ImageInt16";
+		typeOutput = "GrayI16";
 		dataKernel = "int";
 		dataInput = "byte";
 		dataOutput = "short";
@@ -100,10 +107,10 @@ public class GenerateConvolveDownNoBorderUnrolled extends CodeGeneratorBase {
 	}
 
 	public void createS16_I16() throws FileNotFoundException {
-		className = "ConvolveDownNoBorderUnrolled_S16_I16";
-		typeKernel = "I32";
+		className = "ConvolveDownNoBorderUnrolled_"+(concurrent?"MT_":"")+"S16_I16";
+		typeKernel = "S32";
 		typeInput = "GrayS16";
-		typeOutput = "ImageInt16";
+		typeOutput = "GrayI16";
 		dataKernel = "int";
 		dataInput = "short";
 		dataOutput = "short";
@@ -115,10 +122,10 @@ public class GenerateConvolveDownNoBorderUnrolled extends CodeGeneratorBase {
 	}
 
 	public void createS16_I16_Div() throws FileNotFoundException {
-		className = "ConvolveDownNoBorderUnrolled_S16_I16_Div";
-		typeKernel = "I32";
+		className = "ConvolveDownNoBorderUnrolled_"+(concurrent?"MT_":"")+"S16_I16_Div";
+		typeKernel = "S32";
 		typeInput = "GrayS16";
-		typeOutput = "ImageInt16";
+		typeOutput = "GrayI16";
 		dataKernel = "int";
 		dataInput = "short";
 		dataOutput = "short";
@@ -130,7 +137,9 @@ public class GenerateConvolveDownNoBorderUnrolled extends CodeGeneratorBase {
 	}
 
 	public void createFile() throws FileNotFoundException {
-		setOutputFile(className);
+		String fileName = className;
+		className = null;
+		setOutputFile(fileName);
 
 		printPreamble();
 		createMaster("horizontal",1,hasDivisor);
@@ -154,6 +163,8 @@ public class GenerateConvolveDownNoBorderUnrolled extends CodeGeneratorBase {
 	}
 
 	public void printPreamble() {
+		if( concurrent )
+			out.print("import boofcv.concurrency.BoofConcurrency;\n");
 		out.print("import boofcv.struct.convolve.Kernel1D_" + typeKernel + ";\n");
 		out.print("import boofcv.struct.convolve.Kernel2D_" + typeKernel + ";\n");
 		out.print("import boofcv.struct.image." + typeInput + ";\n");
@@ -165,6 +176,11 @@ public class GenerateConvolveDownNoBorderUnrolled extends CodeGeneratorBase {
 				" * Unrolls the convolution kernel to improve runtime performance by reducing array accesses.\n" +
 				" * </p>\n" +
 				" * \n" +
+				(concurrent ?
+				" * <p>\n" +
+				" * Concurrent implementation where each thread processes a different set of output rows.\n" +
+				" * </p>\n" +
+				" *\n" : "") +
 				" * <p>\n" +
 				" * DO NOT MODIFY: This class was automatically generated by {@link "+getClass().getSimpleName()+"}.\n" +
 				" * </p>\n"+
@@ -239,7 +255,7 @@ public class GenerateConvolveDownNoBorderUnrolled extends CodeGeneratorBase {
 				"\n" +
 				"\t\tfinal int offsetX = UtilDownConvolve.computeOffset(skip,radius);\n" +
 				"\n" +
-				"\t\tfor( int i = 0; i < height; i++ ) {\n" +
+				"\t\t"+loopOpen("i","0","height")+"\n" +
 				"\t\t\tint indexDst = output.startIndex + i*output.stride + offsetX/skip;\n" +
 				"\t\t\tint j = input.startIndex + i*input.stride - radius;\n" +
 				"\t\t\tfinal int jEnd = j+widthEnd;\n" +
@@ -260,7 +276,7 @@ public class GenerateConvolveDownNoBorderUnrolled extends CodeGeneratorBase {
 		}
 
 		out.print("\t\t\t}\n" +
-				"\t\t}\n" +
+				"\t\t"+loopClose()+"\n" +
 				"\t}\n\n");
 	}
 
@@ -289,7 +305,7 @@ public class GenerateConvolveDownNoBorderUnrolled extends CodeGeneratorBase {
 				"\n" +
 				"\t\tfinal int offsetY = UtilDownConvolve.computeOffset(skip,radius);\n" +
 				"\n" +
-				"\t\tfor( int y = offsetY; y <= heightEnd; y += skip ) {\n" +
+				"\t\t"+loopOpenSkip("y","offsetY","heightEnd"," ")+"\n" +
 				"\t\t\tint indexDst = output.startIndex + (y/skip)*output.stride;\n" +
 				"\t\t\tint i = input.startIndex + (y-radius)*input.stride;\n" +
 				"\t\t\tfinal int iEnd = i + width;\n" +
@@ -307,7 +323,7 @@ public class GenerateConvolveDownNoBorderUnrolled extends CodeGeneratorBase {
 		else
 			out.print("\t\t\t\tdataDst[indexDst++] = " + typeCast + "total;\n");
 		out.print("\t\t\t}\n" +
-				"\t\t}\n" +
+				"\t\t"+loopClose()+"\n" +
 				"\t}\n\n");
 	}
 
@@ -326,7 +342,7 @@ public class GenerateConvolveDownNoBorderUnrolled extends CodeGeneratorBase {
 				"\n" +
 				"\t\tfinal int offset = UtilDownConvolve.computeOffset(skip,radius);\n" +
 				"\n" +
-				"\t\tfor( int y = offset; y <= heightEnd; y += skip) {\n" +
+				"\t\t"+loopOpenSkip("y","offset","heightEnd","")+"\n" +
 				"\n" +
 				"\t\t\t// first time through the value needs to be set\n");
 		for( int i = 0; i < num; i++ ) {
@@ -368,7 +384,7 @@ public class GenerateConvolveDownNoBorderUnrolled extends CodeGeneratorBase {
 				"\t\t\t\t\tdataDst[indexDst++] += "+typeCast+"total;\n" +
 				"\t\t\t\t}\n" +
 				"\t\t\t}\n" +
-				"\t\t}\n" +
+				"\t\t"+loopClose()+"\n" +
 				"\t}\n\n");
 	}
 
@@ -385,13 +401,22 @@ public class GenerateConvolveDownNoBorderUnrolled extends CodeGeneratorBase {
 				"\t\tfinal int widthEnd = UtilDownConvolve.computeMaxSide(input.width,skip,radius);\n" +
 				"\t\tfinal int heightEnd = UtilDownConvolve.computeMaxSide(input.height,skip,radius);\n" +
 				declareHalf +
-				"\n" +
-				"\t\tfinal "+sumType+" totalRow[] = new int[ widthEnd+1 ];\n"+
-				"\n" +
-				"\t\tfinal int offset = UtilDownConvolve.computeOffset(skip,radius);\n" +
-				"\n" +
-				"\t\tfor( int y = offset; y <= heightEnd; y += skip) {\n" +
-				"\n" +
+				"\n");
+		if( concurrent ) {
+			// each block of rows gets its own storage for the row sums
+			out.print("\t\tfinal int offset = UtilDownConvolve.computeOffset(skip,radius);\n" +
+					"\n" +
+					"\t\tBoofConcurrency.loopBlocks(0, (heightEnd-offset+skip)/skip, (row0, row1) -> {\n" +
+					"\t\tfinal "+sumType+" totalRow[] = new int[ widthEnd+1 ];\n"+
+					"\t\tfor( int y = offset+row0*skip; y < offset+row1*skip; y += skip) {\n");
+		} else {
+			out.print("\t\tfinal "+sumType+" totalRow[] = new int[ widthEnd+1 ];\n"+
+					"\n" +
+					"\t\tfinal int offset = UtilDownConvolve.computeOffset(skip,radius);\n" +
+					"\n" +
+					"\t\tfor( int y = offset; y <= heightEnd; y += skip) {\n");
+		}
+		out.print("\n" +
 				"\t\t\t// first time through the value needs to be set\n");
 		for( int i = 0; i < num; i++ ) {
 			out.print("\t\t\t"+sumType+" k"+(i+1)+" = kernel.data["+i+"];\n");
@@ -435,16 +460,37 @@ public class GenerateConvolveDownNoBorderUnrolled extends CodeGeneratorBase {
 				"\t\t\t\tdataDst[indexDst++] = "+typeCast+"((totalRow[x] + halfDivisor) / divisor);\n" +
 				"\t\t\t}\n"+
 				"\t\t}\n" +
+				(concurrent ? "\t\t});\n" : "") +
 				"\t}\n\n");
 	}
 
+	private String loopOpen( String var , String lower , String upper ) {
+		if( concurrent )
+			return "BoofConcurrency.loopFor("+lower+", "+upper+", "+var+" -> {";
+		else
+			return "for( int "+var+" = "+lower+"; "+var+" < "+upper+"; "+var+"++ ) {";
+	}
+
+	/**
+	 * Loop which steps through the input image by 'skip'.  The upper extent is inclusive
+	 */
+	private String loopOpenSkip( String var , String lower , String upper , String space ) {
+		if( concurrent )
+			return "BoofConcurrency.loopFor("+lower+", "+upper+"+1, skip, "+var+" -> {";
+		else
+			return "for( int "+var+" = "+lower+"; "+var+" <= "+upper+"; "+var+" += skip"+space+") {";
+	}
+
+	private String loopClose() {
+		return concurrent ? "});" : "}";
+	}
+
 	private String generateTypeCast() {
 		return sumType.compareTo(dataOutput) == 0 ? "" : "( " + dataOutput + " )";
 	}
 
 	public static void main(String args[]) throws FileNotFoundException {
-		GenerateConvolveDownNoBorderUnrolled a = new GenerateConvolveDownNoBorderUnrolled();
-
-		a.generate();
+		new GenerateConvolveDownNoBorderUnrolled(false).generate();
+		new GenerateConvolveDownNoBorderUnrolled(true).generate();
 	}
 }
@@ -40,8 +40,17 @@ public class GenerateConvolveImageStandard_IL extends CodeGeneratorBase {
 	String bitWise;
 	boolean hasDivide;
 
+	// if true a concurrent implementation will be generated
+	boolean concurrent;
+
+	public GenerateConvolveImageStandard_IL( boolean concurrent ) {
+		super(false);
+		this.concurrent = concurrent;
+	}
+
 	@Override
-	public void generate() {
+	public void generate() throws FileNotFoundException {
+		setOutputFile(concurrent ? "ConvolveImageStandard_IL_MT" : "ConvolveImageStandard_IL");
 		printPreamble();
 		printAllOps(AutoTypeImage.F32, AutoTypeImage.F32, false);
 //		printAllOps(AutoTypeImage.F32, AutoTypeImage.F32, false, true);
@@ -61,6 +70,8 @@ public class GenerateConvolveImageStandard_IL extends CodeGeneratorBase {
 	}
 
 	private void printPreamble() {
+		if( concurrent )
+			out.print("import boofcv.concurrency.BoofConcurrency;\n");
 		out.print("import boofcv.struct.convolve.*;\n" +
 				"import boofcv.struct.image.*;\n");
 		out.println();
@@ -70,6 +81,11 @@ public class GenerateConvolveImageStandard_IL extends CodeGeneratorBase {
 				" * Standard algorithms with no fancy optimization for convolving 1D and 2D kernels across an image.\n" +
 				" * </p>\n" +
 				" * \n" +
+				(concurrent ?
+				" * <p>\n" +
+				" * Concurrent implementation where each thread processes a different set of rows.\n" +
+				" * </p>\n" +
+				" * \n" : "") +
 				" * <p>\n" +
 				" * NOTE: This code was automatically generated using "+getClass().getSimpleName()+".\n" +
 				" * </p>\n" +
@@ -126,7 +142,7 @@ public class GenerateConvolveImageStandard_IL extends CodeGeneratorBase {
 		out.print("\n" +
 				"\t\tfinal int endJ = src.width - (kernelWidth - 1);\n" +
 				"\n" +
-				"\t\tfor( int i = 0; i < src.height; i++ ) {\n" +
+				"\t\t"+loopOpen("i","0","src.height")+"\n" +
 				"\t\t\tint indexDst = dst.startIndex + i*dst.stride+offset*numBands;\n" +
 				"\n" +
 				"\t\t\tfor (int j = 0; j < endJ; j++) {\n" +
@@ -140,7 +156,7 @@ public class GenerateConvolveImageStandard_IL extends CodeGeneratorBase {
 				"\t\t\t\t\tdataDst[indexDst++] = "+typeCast+totalDiv+";\n" +
 				"\t\t\t\t}\n" +
 				"\t\t\t}\n" +
-				"\t\t}\n" +
+				"\t\t"+loopClose()+"\n" +
 				"\t}\n\n");
 	}
 
@@ -166,7 +182,7 @@ public class GenerateConvolveImageStandard_IL extends CodeGeneratorBase {
 				"\n" +
 				"\t\tfinal int yEnd = imgHeight-(kernelWidth-offset-1);\n" +
 				"\n" +
-				"\t\tfor( int y = offset; y < yEnd; y++ ) {\n" +
+				"\t\t"+loopOpen("y","offset","yEnd")+"\n" +
 				"\t\t\tint indexDst = dst.startIndex+y*dst.stride;\n" +
 				"\t\t\tint indexSrcStart = src.startIndex+(y-offset)*src.stride;\n" +
 				"\n" +
@@ -183,7 +199,7 @@ public class GenerateConvolveImageStandard_IL extends CodeGeneratorBase {
 				"\t\t\t\t}\n" +
 				"\t\t\t\tindexSrcStart += numBands;\n" +
 				"\t\t\t}\n" +
-				"\t\t}\n" +
+				"\t\t"+loopClose()+"\n" +
 				"\t}\n\n");
 	}
 
@@ -208,7 +224,7 @@ public class GenerateConvolveImageStandard_IL extends CodeGeneratorBase {
 				"\t\tint offsetL = kernel.offset;\n" +
 				"\t\tint offsetR = kernel.width-kernel.offset-1;\n" +
 				"\n" +
-				"\t\tfor( int y = offsetL; y < height-offsetR; y++ ) {\n" +
+				"\t\t"+loopOpen("y","offsetL","height-offsetR")+"\n" +
 				"\t\t\tint indexDst = dst.startIndex + y*dst.stride+offsetL*numBands;\n" +
 				"\t\t\tfor( int x = offsetL; x < width-offsetR; x++ ) {\n" +
 				"\t\t\t\tint indexSrcStart = src.startIndex + (y-offsetL)*src.stride + (x-offsetL)*numBands;\n" +
@@ -227,12 +243,23 @@ public class GenerateConvolveImageStandard_IL extends CodeGeneratorBase {
 				"\t\t\t\t\tdataDst[indexDst++] = "+ typeCast + totalDiv +";\n" +
 				"\t\t\t\t}\n" +
 				"\t\t\t}\n" +
-				"\t\t}\n" +
+				"\t\t"+loopClose()+"\n" +
 				"\t}\n\n");
 	}
 
+	private String loopOpen( String var , String lower , String upper ) {
+		if( concurrent )
+			return "BoofConcurrency.loopFor("+lower+", "+upper+", "+var+" -> {";
+		else
+			return "for( int "+var+" = "+lower+"; "+var+" < "+upper+"; "+var+"++ ) {";
+	}
+
+	private String loopClose() {
+		return concurrent ? "});" : "}";
+	}
+
 	public static void main(String args[]) throws FileNotFoundException {
-		GenerateConvolveImageStandard_IL gen = new GenerateConvolveImageStandard_IL();
-		gen.generate();
+		new GenerateConvolveImageStandard_IL(false).generate();
+		new GenerateConvolveImageStandard_IL(true).generate();
 	}
 }
@@ -41,8 +41,17 @@ public class GenerateConvolveImageStandard_SB extends CodeGeneratorBase {
 	String bitWise;
 	boolean hasDivide;
 
+	// if true a concurrent implementation will be generated
+	boolean concurrent;
+
+	public GenerateConvolveImageStandard_SB( boolean concurrent ) {
+		super(false);
+		this.concurrent = concurrent;
+	}
+
 	@Override
 	public void generate()throws FileNotFoundException {
+		setOutputFile(concurrent ? "ConvolveImageStandard_SB_MT" : "ConvolveImageStandard_SB");
 		printPreamble();
 		printAllOps(AutoTypeImage.F32, AutoTypeImage.F32, false);
 //		printAllOps(AutoTypeImage.F32, AutoTypeImage.F32, false, true);
@@ -62,6 +71,8 @@ public class GenerateConvolveImageStandard_SB extends CodeGeneratorBase {
 	}
 
 	private void printPreamble() {
+		if( concurrent )
+			out.print("import boofcv.concurrency.BoofConcurrency;\n");
 		out.print("import boofcv.struct.convolve.*;\n" +
 				"import boofcv.struct.image.*;\n");
 		out.println();
@@ -71,6 +82,11 @@ public class GenerateConvolveImageStandard_SB extends CodeGeneratorBase {
 				" * Standard algorithms with no fancy optimization for convolving 1D and 2D kernels across an image.\n" +
 				" * </p>\n" +
 				" * \n" +
+				(concurrent ?
+				" * <p>\n" +
+				" * Concurrent implementation where each thread processes a different set of rows.\n" +
+				" * </p>\n" +
+				" * \n" : "") +
 				" * <p>\n" +
 				" * NOTE: This code was automatically generated using "+getClass().getSimpleName()+".\n" +
 				" * </p>\n" +
@@ -91,8 +107,8 @@ public class GenerateConvolveImageStandard_SB extends CodeGeneratorBase {
 	{
 		typeCast = output.getTypeCastFromSum();
 		kernelType = input.getKernelType();
-		inputType = input.getInterleavedName();
-		outputType = output.getInterleavedName();
+		inputType = input.getSingleBandName();
+		outputType = output.getSingleBandName();
 		kernelData = input.getKernelDataType();
 		inputData = input.getDataType();
 		outputData = output.getDataType();
@@ -126,7 +142,7 @@ public class GenerateConvolveImageStandard_SB extends CodeGeneratorBase {
 		out.print("\n" +
 				"\t\tfinal int width = image.getWidth();\n" +
 				"\n" +
-				"\t\tfor( int i = 0; i < image.height; i++ ) {\n" +
+				"\t\t"+loopOpen("i","0","image.height")+"\n" +
 				"\t\t\tint indexDst = dest.startIndex + i*dest.stride+offset;\n" +
 				"\t\t\tint j = image.startIndex + i*image.stride;\n" +
 				"\t\t\tfinal int jEnd = j+width-(kernelWidth-1);\n" +
@@ -139,7 +155,7 @@ public class GenerateConvolveImageStandard_SB extends CodeGeneratorBase {
 				"\t\t\t\t}\n" +
 				"\t\t\t\tdataDst[indexDst++] = " + typeCast + totalDiv + ";\n" +
 				"\t\t\t}\n" +
-				"\t\t}\n" +
+				"\t\t"+loopClose()+"\n" +
 				"\t}\n\n");
 	}
 
@@ -164,7 +180,7 @@ public class GenerateConvolveImageStandard_SB extends CodeGeneratorBase {
 				"\n" +
 				"\t\tfinal int yEnd = imgHeight-(kernelWidth-offset-1);\n" +
 				"\n" +
-				"\t\tfor( int y = offset; y < yEnd; y++ ) {\n" +
+				"\t\t"+loopOpen("y","offset","yEnd")+"\n" +
 				"\t\t\tint indexDst = dest.startIndex+y*dest.stride;\n" +
 				"\t\t\tint i = image.startIndex + (y-offset)*image.stride;\n" +
 				"\t\t\tfinal int iEnd = i+imgWidth;\n" +
@@ -178,7 +194,7 @@ public class GenerateConvolveImageStandard_SB extends CodeGeneratorBase {
 				"\t\t\t\t}\n" +
 				"\t\t\t\tdataDst[indexDst++] = " + typeCast + totalDiv + ";\n" +
 				"\t\t\t}\n" +
-				"\t\t}\n" +
+				"\t\t"+loopClose()+"\n" +
 				"\t}\n\n");
 	}
 
@@ -202,7 +218,7 @@ public class GenerateConvolveImageStandard_SB extends CodeGeneratorBase {
 				"\t\tint offsetL = kernel.offset;\n" +
 				"\t\tint offsetR = kernel.width-kernel.offset-1;\n" +
 				"\n" +
-				"\t\tfor( int y = offsetL; y < height-offsetR; y++ ) {\n" +
+				"\t\t"+loopOpen("y","offsetL","height-offsetR")+"\n" +
 				"\t\t\tint indexDst = dest.startIndex + y*dest.stride+offsetL;\n" +
 				"\t\t\tfor( int x = offsetL; x < width-offsetR; x++ ) {\n" +
 				"\t\t\t\t" + sumType + " total = 0;\n" +
@@ -216,12 +232,23 @@ public class GenerateConvolveImageStandard_SB extends CodeGeneratorBase {
 				performBound +
 				"\t\t\t\tdataDst[indexDst++] = " + typeCast + totalDiv + ";\n" +
 				"\t\t\t}\n" +
-				"\t\t}\n" +
+				"\t\t"+loopClose()+"\n" +
 				"\t}\n\n");
 	}
 
+	private String loopOpen( String var , String lower , String upper ) {
+		if( concurrent )
+			return "BoofConcurrency.loopFor("+lower+", "+upper+", "+var+" -> {";
+		else
+			return "for( int "+var+" = "+lower+"; "+var+" < "+upper+"; "+var+"++ ) {";
+	}
+
+	private String loopClose() {
+		return concurrent ? "});" : "}";
+	}
+
 	public static void main(String args[]) throws FileNotFoundException {
-		GenerateConvolveImageStandard_SB gen = new GenerateConvolveImageStandard_SB();
-		gen.generate();
+		new GenerateConvolveImageStandard_SB(false).generate();
+		new GenerateConvolveImageStandard_SB(true).generate();
 	}
 }
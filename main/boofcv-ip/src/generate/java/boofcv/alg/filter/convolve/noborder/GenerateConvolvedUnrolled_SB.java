@@ -44,6 +44,14 @@ public class GenerateConvolvedUnrolled_SB extends CodeGeneratorBase {
 	String declareHalf;
 	String divide;
 
+	// if true a concurrent implementation will be generated
+	boolean concurrent;
+
+	public GenerateConvolvedUnrolled_SB( boolean concurrent ) {
+		super(false);
+		this.concurrent = concurrent;
+	}
+
 	@Override
 	public void generate() throws FileNotFoundException {
 		create(AutoTypeImage.F32,AutoTypeImage.F32,false);
@@ -59,11 +67,12 @@ public class GenerateConvolvedUnrolled_SB extends CodeGeneratorBase {
 	protected void create( AutoTypeImage inputImg , AutoTypeImage outputImg , boolean divided ) throws FileNotFoundException {
 		isInteger = inputImg.isInteger();
 
-		String name = "ConvolveImageUnrolled_SB_"+inputImg.getAbbreviatedType()+"_"+outputImg.getAbbreviatedType();
+		String name = "ConvolveImageUnrolled_SB_"+(concurrent?"MT_":"")+
+				inputImg.getAbbreviatedType()+"_"+outputImg.getAbbreviatedType();
 		if( divided )
 			name += "_Div";
 
-		typeKernel = isInteger ? "I32" : "F"+inputImg.getNumBits();
+		typeKernel = isInteger ? "S32" : "F"+inputImg.getNumBits();
 		typeInput = inputImg.getSingleBandName();
 		typeOutput = outputImg.getSingleBandName();
 		dataKernel = inputImg.getSumType();
@@ -80,6 +89,7 @@ public class GenerateConvolvedUnrolled_SB extends CodeGeneratorBase {
 	}
 
 	public void createFile( String fileName ) throws FileNotFoundException {
+		className = null;
 		setOutputFile(fileName);
 		printPreamble();
 		createMaster("horizontal",1,hasDivisor);
@@ -103,6 +113,8 @@ public class GenerateConvolvedUnrolled_SB extends CodeGeneratorBase {
 	}
 
 	public void printPreamble() {
+		if( concurrent )
+			out.print("import boofcv.concurrency.BoofConcurrency;\n");
 		out.print("import boofcv.struct.convolve.*;\n");
 		out.print("import boofcv.struct.image." + typeInput + ";\n"+
 				"import javax.annotation.Generated;\n");
@@ -121,6 +133,11 @@ public class GenerateConvolvedUnrolled_SB extends CodeGeneratorBase {
 				" * not worth it.  By comparison, unrolling the kernel causes a performance boost between 2 and 3 times.\n" +
 				" * </p>\n" +
 				" * \n" +
+				(concurrent ?
+				" * <p>\n" +
+				" * Concurrent implementation where each thread processes a different set of rows.\n" +
+				" * </p>\n" +
+				" *\n" : "") +
 				" * <p>\n" +
 				" * DO NOT MODIFY.  This class was automatically generated by "+getClass().getSimpleName()+".\n" +
 				" * </p>\n" +
@@ -194,7 +211,7 @@ public class GenerateConvolvedUnrolled_SB extends CodeGeneratorBase {
 				"\t\tfinal int width = image.getWidth();\n" +
 				(hasDivisor ? declareHalf : "")+
 				"\n" +
-				"\t\tfor( int i = 0; i < image.height; i++ ) {\n" +
+				"\t\t"+loopOpen("i","0","image.height")+"\n" +
 				"\t\t\tint indexDst = dest.startIndex + i*dest.stride+radius;\n" +
 				"\t\t\tint j = image.startIndex + i*image.stride - radius;\n" +
 				"\t\t\tfinal int jEnd = j+width-radius;\n" +
@@ -214,7 +231,7 @@ public class GenerateConvolvedUnrolled_SB extends CodeGeneratorBase {
 		}
 
 		out.print("\t\t\t}\n" +
-				"\t\t}\n" +
+				"\t\t"+loopClose()+"\n" +
 				"\t}\n\n");
 	}
 
@@ -244,7 +261,7 @@ public class GenerateConvolvedUnrolled_SB extends CodeGeneratorBase {
 				"\n" +
 				"\t\tfinal int yEnd = imgHeight-radius;\n" +
 				"\n" +
-				"\t\tfor( int y = radius; y < yEnd; y++ ) {\n" +
+				"\t\t"+loopOpen("y","radius","yEnd")+"\n" +
 				"\t\t\tint indexDst = dest.startIndex+y*dest.stride;\n" +
 				"\t\t\tint i = image.startIndex + (y-radius)*image.stride;\n" +
 				"\t\t\tfinal int iEnd = i+imgWidth;\n" +
@@ -263,7 +280,7 @@ public class GenerateConvolvedUnrolled_SB extends CodeGeneratorBase {
 		else
 			out.print("\t\t\t\tdataDst[indexDst++] = " + typeCast + "total;\n");
 		out.print("\t\t\t}\n" +
-				"\t\t}\n" +
+				"\t\t"+loopClose()+"\n" +
 				"\t}\n\n");
 	}
 
@@ -281,7 +298,7 @@ public class GenerateConvolvedUnrolled_SB extends CodeGeneratorBase {
 				"\n" +
 				"\t\tfinal int kernelRadius = kernel.getRadius();\n" +
 				"\n" +
-				"\t\tfor( int y = kernelRadius; y < height-kernelRadius; y++ ) {\n" +
+				"\t\t"+loopOpen("y","kernelRadius","height-kernelRadius")+"\n" +
 				"\n" +
 				"\t\t\t// first time through the value needs to be set\n");
 		for( int i = 0; i < num; i++ ) {
@@ -323,7 +340,7 @@ public class GenerateConvolvedUnrolled_SB extends CodeGeneratorBase {
 				"\t\t\t\t\tdataDst[indexDst++] += "+typeCast+"total;\n" +
 				"\t\t\t\t}\n" +
 				"\t\t\t}\n" +
-				"\t\t}\n" +
+				"\t\t"+loopClose()+"\n" +
 				"\t}\n\n");
 	}
 
@@ -341,11 +358,21 @@ public class GenerateConvolvedUnrolled_SB extends CodeGeneratorBase {
 				declareHalf +
 				"\n" +
 				"\t\tfinal int kernelRadius = kernel.getRadius();\n");
-		out.print("\t\tfinal "+sumType+" totalRow[] = new int[ width ];\n");
-		out.print("\n" +
-				"\t\tfor( int y = kernelRadius; y < height-kernelRadius; y++ ) {\n" +
+		if( concurrent ) {
+			// each block of rows gets its own storage for the row sums
+			out.print("\n" +
+					"\t\tBoofConcurrency.loopBlocks(kernelRadius, height-kernelRadius, (y0, y1) -> {\n" +
+					"\t\tfinal "+sumType+" totalRow[] = new int[ width ];\n" +
+					"\t\tfor( int y = y0; y < y1; y++ ) {\n" +
+					"\n" +
+					"\t\t\t// first time through the value needs to be set\n");
+		} else {
+			out.print("\t\tfinal "+sumType+" totalRow[] = new int[ width ];\n");
+			out.print("\n" +
+					"\t\tfor( int y = kernelRadius; y < height-kernelRadius; y++ ) {\n" +
 				"\n" +
-				"\t\t\t// first time through the value needs to be set\n");
+					"\t\t\t// first time through the value needs to be set\n");
+		}
 		for( int i = 0; i < num; i++ ) {
 			out.print("\t\t\t"+sumType+" k"+(i+1)+" = kernel.data["+i+"];\n");
 		}
@@ -388,16 +415,27 @@ public class GenerateConvolvedUnrolled_SB extends CodeGeneratorBase {
 				"\t\t\t\tdataDst[indexDst++] = "+typeCast+"((totalRow[x]+halfDivisor)/ divisor);\n" +
 				"\t\t\t}\n"+
 				"\t\t}\n" +
+				(concurrent ? "\t\t});\n" : "") +
 				"\t}\n\n");
 	}
 
+	private String loopOpen( String var , String lower , String upper ) {
+		if( concurrent )
+			return "BoofConcurrency.loopFor("+lower+", "+upper+", "+var+" -> {";
+		else
+			return "for( int "+var+" = "+lower+"; "+var+" < "+upper+"; "+var+"++ ) {";
+	}
+
+	private String loopClose() {
+		return concurrent ? "});" : "}";
+	}
+
 	private String generateTypeCast() {
 		return sumType.compareTo(dataOutput) == 0 ? "" : "( " + dataOutput + " )";
 	}
 
 	public static void main(String args[]) throws FileNotFoundException {
-		GenerateConvolvedUnrolled_SB a = new GenerateConvolvedUnrolled_SB();
-
-		a.generate();
+		new GenerateConvolvedUnrolled_SB(false).generate();
+		new GenerateConvolvedUnrolled_SB(true).generate();
 	}
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -30,14 +30,14 @@ import static boofcv.misc.AutoTypeImage.*;
 
 
 /**
- * Generates functions inside of {@link boofcv.alg.misc.ImageMiscOps}.
+ * Generates functions inside of {@link boofcv.alg.misc.PixelMath}.  Input images are checked and then processed by
+ * {@link boofcv.alg.misc.impl.ImplPixelMath} or its concurrent variant, which are created by
+ * {@link boofcv.alg.misc.impl.GenerateImplPixelMath}.
  *
  * @author Peter Abeles
  */
 public class GeneratePixelMath extends CodeGeneratorBase {
 
-	String className = "PixelMath";
-
 	private AutoTypeImage input;
 
 	ImageType.Family families[] = new ImageType.Family[]{ImageType.Family.GRAY,ImageType.Family.INTERLEAVED};
@@ -48,14 +48,7 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 		printAbs();
 		printInvert();
 
-		List<TwoTemplate> listTwo = new ArrayList<>();
-		listTwo.add( new Multiple());
-		listTwo.add( new Divide());
-		listTwo.add( new Plus());
-		listTwo.add( new Minus(true));
-		listTwo.add( new Minus(false));
-
-		for( TwoTemplate t : listTwo ) {
+		for( TwoTemplate t : createTwoTemplates() ) {
 			print_img_scalar(t,false);
 			print_img_scalar(t,true);
 		}
@@ -64,11 +57,13 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 		out.println("}");
 	}
 
-	private void printPreamble() throws FileNotFoundException {
-		setOutputFile(className);
-		out.print("import boofcv.struct.image.*;\n" +
+	private void printPreamble() {
+		out.print("import boofcv.alg.InputSanityCheck;\n" +
+				"import boofcv.alg.misc.impl.ImplPixelMath;\n" +
+				"import boofcv.alg.misc.impl.ImplPixelMath_MT;\n" +
+				"import boofcv.concurrency.BoofConcurrency;\n" +
+				"import boofcv.struct.image.*;\n" +
 				"\n" +
-				"import boofcv.alg.InputSanityCheck;\n" +
 				"import javax.annotation.Generated;\n" +
 				"\n" +
 				"/**\n" +
@@ -112,54 +107,23 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 		}
 	}
 
-	private void print( String funcName , String javadoc , String operation , AutoTypeImage types[] ) {
+	private void print( String funcName , String javadoc , AutoTypeImage types[] ) {
 		for( AutoTypeImage t : types ) {
 			input = t;
 			for (ImageType.Family family : families) {
-				String inputName, columns;
-				if (family == ImageType.Family.INTERLEAVED) {
-					inputName = input.getInterleavedName();
-					columns = "input.width*input.numBands";
-				} else {
-					inputName = input.getSingleBandName();
-					columns = "input.width";
-				}
+				String inputName = imageName(input,family);
 
 				out.println(javadoc + "\n" +
 						"\tpublic static void " + funcName + "( " + inputName + " input , " + inputName + " output ) {\n" +
 						"\n" +
 						"\t\tInputSanityCheck.checkSameShape(input,output);\n" +
 						"\n" +
-						"\t\tint columns = " + columns + ";\n" +
-						"\t\t" + funcName + "(input.data,input.startIndex,input.stride,\n" +
-						"\t\t\t\toutput.data,output.startIndex,output.stride,\n" +
-						"\t\t\t\tinput.height,columns);\n" +
+						dispatch(funcName,"input,output") +
 						"\t}\n");
 			}
-			printArray(funcName,operation);
 		}
 	}
 
-	public void printArray( String funcName , String operation )
-	{
-		String arrayType = input.getDataType();
-
-		out.println("\tprivate static void "+funcName+"( "+arrayType+"[] input , int inputStart , int inputStride ,\n" +
-				"\t\t\t\t\t\t\t   "+arrayType+"[] output , int outputStart , int outputStride ,\n" +
-				"\t\t\t\t\t\t\t   int rows , int cols )\n" +
-				"\t{\n" +
-				"\t\tfor( int y = 0; y < rows; y++ ) {\n" +
-				"\t\t\tint indexSrc = inputStart + y*inputStride;\n" +
-				"\t\t\tint indexDst = outputStart + y*outputStride;\n" +
-				"\t\t\tint end = indexSrc + cols;\n" +
-				"\n" +
-				"\t\t\tfor( ; indexSrc < end; indexSrc++ , indexDst++) {\n" +
-				"\t\t\t\toutput[indexDst] = "+input.getTypeCastFromSum()+operation +";\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n");
-	}
-
 	public void printAbs()
 	{
 		String javaDoc = "\t/**\n" +
@@ -170,7 +134,7 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t * @param output Where the absolute value image is written to. Modified.\n" +
 				"\t */";
 
-		print("abs",javaDoc,"Math.abs(input[indexSrc])",AutoTypeImage.getSigned());
+		print("abs",javaDoc,AutoTypeImage.getSigned());
 	}
 
 	public void printInvert()
@@ -182,7 +146,7 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t * @param output Where the inverted image is written to. Modified.\n" +
 				"\t */";
 
-		print("invert",javaDoc,"-input[indexSrc]",AutoTypeImage.getSigned());
+		print("invert",javaDoc,AutoTypeImage.getSigned());
 	}
 
 	private void print_img_scalar( TwoTemplate template , boolean bounded ) {
@@ -192,130 +156,36 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 
 		for( AutoTypeImage t : template.getTypes() ) {
 			input = t;
-			String variableType;
-			if( template.isScaleOp() )
-				variableType = input.isInteger() ? "double" : input.getSumType();
-			else
-				variableType = input.getSumType();
-
-			String funcArrayName = input.isSigned() ? funcName : funcName+"U";
-			funcArrayName += template.isImageFirst() ? "_A" : "_B";
 
 			for (ImageType.Family family : families) {
-				String inputName, columns, banded;
-				if (family == ImageType.Family.INTERLEAVED) {
-					inputName = input.getInterleavedName();
-					columns = "input.width*input.numBands";
-					banded = "B";
-				} else {
-					inputName = input.getSingleBandName();
-					columns = "input.width";
-					banded = "";
-				}
-
-				if( bounded ) {
-					String sumType = input.getSumType();
-
-					String prototype;
-					if (template.isImageFirst()) {
-						prototype = "( " + inputName + " input , " + variableType + " " + varName +
-								" , " + sumType +" lower , " +sumType+ " upper , " + inputName + " output )";
-					} else {
-						prototype = "( " + variableType + " " + varName + " , " + inputName + " input , " +
-								sumType +" lower , " +sumType+ " upper , " + inputName + " output )";;
-					}
-
-					out.println(template.getJavaDoc());
-					out.println("\tpublic static void " + funcName + prototype + " {\n" +
-							"\n" +
-							"\t\tInputSanityCheck.checkSameShape(input,output);\n" +
-							"\n" +
-							"\t\tint columns = " + columns + ";\n" +
-							"\t\t" + funcArrayName + "(input.data,input.startIndex,input.stride," + varName + ", lower, upper ,\n" +
-							"\t\t\t\toutput.data,output.startIndex,output.stride,\n" +
-							"\t\t\t\tinput.height,columns);\n" +
-							"\t}\n");
-				} else {
-					String prototype;
-					if (template.isImageFirst()) {
-						prototype = "( " + inputName + " input , " + variableType + " " + varName + " , " + inputName + " output )";
-					} else {
-						prototype = "( " + variableType + " " + varName + " , " + inputName + " input , " + inputName + " output )";
-					}
-
-					out.println(template.getJavaDoc());
-					out.println("\tpublic static void " + funcName + prototype + " {\n" +
-							"\n" +
-							"\t\tInputSanityCheck.checkSameShape"+banded+"(input,output);\n" +
-							"\n" +
-							"\t\tint columns = " + columns + ";\n" +
-							"\t\t" + funcArrayName + "(input.data,input.startIndex,input.stride," + varName + " , \n" +
-							"\t\t\t\toutput.data,output.startIndex,output.stride,\n" +
-							"\t\t\t\tinput.height,columns);\n" +
-							"\t}\n");
-				}
-			}
-			if( bounded ) {
-				print_array_scalar_bounded(funcArrayName, variableType, varName, template.getOperation());
-			} else {
-				print_array_scalar(funcArrayName, variableType, varName, template.getOperation());
+				String inputName = imageName(input,family);
+				String prototype = template.getPrototype(input,inputName,bounded);
+
+				// bounded functions have always used the same check for gray and interleaved images
+				String banded = !bounded && family == ImageType.Family.INTERLEAVED ? "B" : "";
+
+				String arguments;
+				if( template.isImageFirst() )
+					arguments = "input," + varName;
+				else
+					arguments = varName + ",input";
+				if( bounded )
+					arguments += ",lower,upper";
+				arguments += ",output";
+
+				out.println(template.getJavaDoc());
+				out.println("\tpublic static void " + funcName + prototype + " {\n" +
+						"\n" +
+						"\t\tInputSanityCheck.checkSameShape"+banded+"(input,output);\n" +
+						"\n" +
+						dispatch(funcName,arguments) +
+						"\t}\n");
 			}
 		}
 	}
 
-	public void print_array_scalar(String funcName , String varType , String varName , String operation  )
-	{
-		String arrayType = input.getDataType();
-
-		String typeCast = varType.equals(input.getDataType()) ? "" : "("+input.getDataType()+")";
-
-		out.println("\tprivate static void "+funcName+"( "+arrayType+"[] input , int inputStart , int inputStride , \n" +
-				"\t\t\t\t\t\t\t   "+varType+" "+varName+" ,\n" +
-				"\t\t\t\t\t\t\t   "+arrayType+"[] output , int outputStart , int outputStride ,\n" +
-				"\t\t\t\t\t\t\t   int rows , int cols )\n" +
-				"\t{\n" +
-				"\t\tfor( int y = 0; y < rows; y++ ) {\n" +
-				"\t\t\tint indexSrc = inputStart + y*inputStride;\n" +
-				"\t\t\tint indexDst = outputStart + y*outputStride;\n" +
-				"\t\t\tint end = indexSrc + cols;\n" +
-				"\n" +
-				"\t\t\tfor( ; indexSrc < end; indexSrc++ , indexDst++) {\n" +
-				"\t\t\t\toutput[indexDst] = "+typeCast+operation +";\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n");
-	}
-
-	public void print_array_scalar_bounded(String funcName , String varType , String varName , String operation  )
-	{
-		String arrayType = input.getDataType();
-
-		String sumType = input.getSumType();
-		String typeCast = varType.equals(sumType) ? "" : "("+sumType+")";
-
-		out.println("\tprivate static void "+funcName+"( "+arrayType+"[] input , int inputStart , int inputStride , \n" +
-				"\t\t\t\t\t\t\t   "+varType+" "+varName+" , "+sumType+" lower , "+sumType+" upper ,\n" +
-				"\t\t\t\t\t\t\t   "+arrayType+"[] output , int outputStart , int outputStride ,\n" +
-				"\t\t\t\t\t\t\t   int rows , int cols )\n" +
-				"\t{\n" +
-				"\t\tfor( int y = 0; y < rows; y++ ) {\n" +
-				"\t\t\tint indexSrc = inputStart + y*inputStride;\n" +
-				"\t\t\tint indexDst = outputStart + y*outputStride;\n" +
-				"\t\t\tint end = indexSrc + cols;\n" +
-				"\n" +
-				"\t\t\tfor( ; indexSrc < end; indexSrc++ , indexDst++) {\n" +
-				"\t\t\t\t"+sumType+" val = "+typeCast+operation+";\n" +
-				"\t\t\t\tif( val < lower ) val = lower;\n" +
-				"\t\t\t\tif( val > upper ) val = upper;\n" +
-				"\t\t\t\toutput[indexDst] = "+input.getTypeCastFromSum()+"val;\n"+
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n");
-	}
-
 	public void printBoundImage() {
 
-		String bitWise = input.getBitWise();
 		String sumType = input.getSumType();
 
 		out.print("\t/**\n" +
@@ -326,31 +196,12 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t * @param max maximum value.\n" +
 				"\t */\n" +
 				"\tpublic static void boundImage( "+input.getSingleBandName()+" img , "+sumType+" min , "+sumType+" max ) {\n" +
-				"\t\tfinal int h = img.getHeight();\n" +
-				"\t\tfinal int w = img.getWidth();\n" +
-				"\n" +
-				"\t\t"+input.getDataType()+"[] data = img.data;\n" +
-				"\n" +
-				"\t\tfor (int y = 0; y < h; y++) {\n" +
-				"\t\t\tint index = img.getStartIndex() + y * img.getStride();\n" +
-				"\t\t\tint indexEnd = index+w;\n" +
-				"\t\t\t// for(int x = 0; x < w; x++ ) {\n" +
-				"\t\t\tfor (; index < indexEnd; index++) {\n" +
-				"\t\t\t\t"+sumType+" value = data[index]"+bitWise+";\n" +
-				"\t\t\t\tif( value < min )\n" +
-				"\t\t\t\t\tdata[index] = "+input.getTypeCastFromSum()+"min;\n" +
-				"\t\t\t\telse if( value > max )\n" +
-				"\t\t\t\t\tdata[index] = "+input.getTypeCastFromSum()+"max;\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
+				dispatch("boundImage","img,min,max") +
 				"\t}\n\n");
 	}
 
 	public void printDiffAbs() {
 
-		String bitWise = input.getBitWise();
-		String typeCast = input.isInteger() ? "("+input.getDataType()+")" : "";
-
 		out.print("\t/**\n" +
 				"\t * <p>\n" +
 				"\t * Computes the absolute value of the difference between each pixel in the two images.<br>\n" +
@@ -362,250 +213,90 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t */\n" +
 				"\tpublic static void diffAbs( "+input.getSingleBandName()+" imgA , "+input.getSingleBandName()+" imgB , "+input.getSingleBandName()+" diff ) {\n" +
 				"\t\tInputSanityCheck.checkSameShape(imgA,imgB,diff);\n" +
-				"\t\t\n" +
-				"\t\tfinal int h = imgA.getHeight();\n" +
-				"\t\tfinal int w = imgA.getWidth();\n" +
 				"\n" +
-				"\t\tfor (int y = 0; y < h; y++) {\n" +
-				"\t\t\tint indexA = imgA.getStartIndex() + y * imgA.getStride();\n" +
-				"\t\t\tint indexB = imgB.getStartIndex() + y * imgB.getStride();\n" +
-				"\t\t\tint indexDiff = diff.getStartIndex() + y * diff.getStride();\n" +
-				"\t\t\t\n" +
-				"\t\t\tint indexEnd = indexA+w;\n" +
-				"\t\t\t// for(int x = 0; x < w; x++ ) {\n" +
-				"\t\t\tfor (; indexA < indexEnd; indexA++, indexB++, indexDiff++ ) {\n" +
-				"\t\t\t\tdiff.data[indexDiff] = "+typeCast+"Math.abs((imgA.data[indexA] "+bitWise+") - (imgB.data[indexB] "+bitWise+"));\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
+				dispatch("diffAbs","imgA,imgB,diff") +
 				"\t}\n\n");
 	}
 
 	public void printAddTwoImages( AutoTypeImage typeIn , AutoTypeImage typeOut  ) {
-
-		String bitWise = typeIn.getBitWise();
-		String typeCast = typeOut.isInteger() ? "("+typeOut.getDataType()+")" : "";
-
-		out.print("\t/**\n" +
-				"\t * <p>\n" +
-				"\t * Performs pixel-wise addition<br>\n" +
-				"\t * output(x,y) = imgA(x,y) + imgB(x,y)\n" +
-				"\t * </p>\n" +
-				"\t * @param imgA Input image. Not modified.\n" +
-				"\t * @param imgB Input image. Not modified.\n" +
-				"\t * @param output Output image. Modified.\n" +
-				"\t */\n" +
-				"\tpublic static void add( "+typeIn.getSingleBandName()+" imgA , "+typeIn.getSingleBandName()+" imgB , "+typeOut.getSingleBandName()+" output ) {\n" +
-				"\t\tInputSanityCheck.checkSameShape(imgA,imgB,output);\n" +
-				"\t\t\n" +
-				"\t\tfinal int h = imgA.getHeight();\n" +
-				"\t\tfinal int w = imgA.getWidth();\n" +
-				"\n" +
-				"\t\tfor (int y = 0; y < h; y++) {\n" +
-				"\t\t\tint indexA = imgA.getStartIndex() + y * imgA.getStride();\n" +
-				"\t\t\tint indexB = imgB.getStartIndex() + y * imgB.getStride();\n" +
-				"\t\t\tint indexOut = output.getStartIndex() + y * output.getStride();\n" +
-				"\t\t\t\n" +
-				"\t\t\tint indexEnd = indexA+w;\n" +
-				"\t\t\t// for(int x = 0; x < w; x++ ) {\n" +
-				"\t\t\tfor (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {\n" +
-				"\t\t\t\toutput.data[indexOut] = "+typeCast+"((imgA.data[indexA] "+bitWise+") + (imgB.data[indexB] "+bitWise+"));\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n\n");
+		printTwoImages("add","Performs pixel-wise addition<br>","output(x,y) = imgA(x,y) + imgB(x,y)",typeIn,typeOut);
 	}
 
 	public void printSubtractTwoImages( AutoTypeImage typeIn , AutoTypeImage typeOut ) {
-
-		String bitWise = typeIn.getBitWise();
-		String typeCast = typeOut.isInteger() ? "("+typeOut.getDataType()+")" : "";
-
-		out.print("\t/**\n" +
-				"\t * <p>\n" +
-				"\t * Performs pixel-wise subtraction.<br>\n" +
-				"\t * output(x,y) = imgA(x,y) - imgB(x,y)\n" +
-				"\t * </p>\n" +
-				"\t * @param imgA Input image. Not modified.\n" +
-				"\t * @param imgB Input image. Not modified.\n" +
-				"\t * @param output Output image. Modified.\n" +
-				"\t */\n" +
-				"\tpublic static void subtract( "+typeIn.getSingleBandName()+" imgA , "+typeIn.getSingleBandName()+" imgB , "
-				+typeOut.getSingleBandName()+" output ) {\n" +
-				"\t\tInputSanityCheck.checkSameShape(imgA,imgB,output);\n" +
-				"\t\t\n" +
-				"\t\tfinal int h = imgA.getHeight();\n" +
-				"\t\tfinal int w = imgA.getWidth();\n" +
-				"\n" +
-				"\t\tfor (int y = 0; y < h; y++) {\n" +
-				"\t\t\tint indexA = imgA.getStartIndex() + y * imgA.getStride();\n" +
-				"\t\t\tint indexB = imgB.getStartIndex() + y * imgB.getStride();\n" +
-				"\t\t\tint indexOut = output.getStartIndex() + y * output.getStride();\n" +
-				"\t\t\t\n" +
-				"\t\t\tint indexEnd = indexA+w;\n" +
-				"\t\t\t// for(int x = 0; x < w; x++ ) {\n" +
-				"\t\t\tfor (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {\n" +
-				"\t\t\t\toutput.data[indexOut] = "+typeCast+"((imgA.data[indexA] "+bitWise+") - (imgB.data[indexB] "+bitWise+"));\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n\n");
+		printTwoImages("subtract","Performs pixel-wise subtraction.<br>","output(x,y) = imgA(x,y) - imgB(x,y)",typeIn,typeOut);
 	}
 
 	public void printMultTwoImages( AutoTypeImage typeIn , AutoTypeImage typeOut  ) {
+		printTwoImages("multiply","Performs pixel-wise multiplication<br>","output(x,y) = imgA(x,y) * imgB(x,y)",typeIn,typeOut);
+	}
 
-		String bitWise = typeIn.getBitWise();
-		String typeCast = typeOut.isInteger() ? "("+typeOut.getDataType()+")" : "";
+	public void printDivTwoImages( AutoTypeImage typeIn , AutoTypeImage typeOut  ) {
+		printTwoImages("divide","Performs pixel-wise division<br>","output(x,y) = imgA(x,y) / imgB(x,y)",typeIn,typeOut);
+	}
 
+	private void printTwoImages( String funcName , String summary , String equation ,
+								 AutoTypeImage typeIn , AutoTypeImage typeOut ) {
 		out.print("\t/**\n" +
 				"\t * <p>\n" +
-				"\t * Performs pixel-wise multiplication<br>\n" +
-				"\t * output(x,y) = imgA(x,y) * imgB(x,y)\n" +
+				"\t * "+summary+"\n" +
+				"\t * "+equation+"\n" +
 				"\t * </p>\n" +
 				"\t * @param imgA Input image. Not modified.\n" +
 				"\t * @param imgB Input image. Not modified.\n" +
 				"\t * @param output Output image. Modified.\n" +
 				"\t */\n" +
-				"\tpublic static void multiply( "+typeIn.getSingleBandName()+" imgA , "+typeIn.getSingleBandName()+" imgB , "+typeOut.getSingleBandName()+" output ) {\n" +
+				"\tpublic static void "+funcName+"( "+typeIn.getSingleBandName()+" imgA , "+typeIn.getSingleBandName()+" imgB , "
+				+typeOut.getSingleBandName()+" output ) {\n" +
 				"\t\tInputSanityCheck.checkSameShape(imgA,imgB,output);\n" +
-				"\t\t\n" +
-				"\t\tfinal int h = imgA.getHeight();\n" +
-				"\t\tfinal int w = imgA.getWidth();\n" +
 				"\n" +
-				"\t\tfor (int y = 0; y < h; y++) {\n" +
-				"\t\t\tint indexA = imgA.getStartIndex() + y * imgA.getStride();\n" +
-				"\t\t\tint indexB = imgB.getStartIndex() + y * imgB.getStride();\n" +
-				"\t\t\tint indexOut = output.getStartIndex() + y * output.getStride();\n" +
-				"\t\t\t\n" +
-				"\t\t\tint indexEnd = indexA+w;\n" +
-				"\t\t\t// for(int x = 0; x < w; x++ ) {\n" +
-				"\t\t\tfor (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {\n" +
-				"\t\t\t\toutput.data[indexOut] = "+typeCast+"((imgA.data[indexA] "+bitWise+") * (imgB.data[indexB] "+bitWise+"));\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
+				dispatch(funcName,"imgA,imgB,output") +
 				"\t}\n\n");
 	}
 
 	public void printLog( AutoTypeImage typeIn , AutoTypeImage typeOut ) {
-		String bitWise = typeIn.getBitWise();
-		String typeCast = typeOut != AutoTypeImage.F64 ? "("+typeOut.getDataType()+")" : "";
-
-		out.print("\t/**\n" +
+		printSingleImage("log","\t/**\n" +
 				"\t * Sets each pixel in the output image to log( 1 + input(x,y)) of the input image.\n" +
 				"\t * Both the input and output image can be the same instance.\n" +
 				"\t *\n" +
 				"\t * @param input The input image. Not modified.\n" +
 				"\t * @param output Where the log image is written to. Modified.\n" +
-				"\t */\n" +
-				"\tpublic static void log( "+typeIn.getSingleBandName()+" input , "+typeOut.getSingleBandName()+" output ) {\n" +
-				"\n" +
-				"\t\tInputSanityCheck.checkSameShape(input,output);\n" +
-				"\n" +
-				"\t\tfor( int y = 0; y < input.height; y++ ) {\n" +
-				"\t\t\tint indexSrc = input.startIndex + y* input.stride;\n" +
-				"\t\t\tint indexDst = output.startIndex + y* output.stride;\n" +
-				"\t\t\tint end = indexSrc + input.width;\n" +
-				"\n" +
-				"\t\t\tfor( ; indexSrc < end; indexSrc++ , indexDst++) {\n" +
-				"\t\t\t\toutput.data[indexDst] = "+typeCast+"Math.log(1 + input.data[indexSrc]"+bitWise+");\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n\n");
+				"\t */\n",typeIn,typeOut);
 	}
 
 	public void printPow2( AutoTypeImage typeIn , AutoTypeImage typeOut ) {
-		String bitWise = typeIn.getBitWise();
-
-		out.print("\t/**\n" +
+		printSingleImage("pow2","\t/**\n" +
 				"\t * Raises each pixel in the input image to the power of two. Both the input and output image can be the \n" +
 				"\t * same instance." +
 				"\t *\n" +
 				"\t * @param input The input image. Not modified.\n" +
 				"\t * @param output Where the pow2 image is written to. Modified.\n" +
-				"\t */\n" +
-				"\tpublic static void pow2( "+typeIn.getSingleBandName()+" input , "+typeOut.getSingleBandName()+" output ) {\n" +
-				"\n" +
-				"\t\tInputSanityCheck.checkSameShape(input,output);\n" +
-				"\n" +
-				"\t\tfor( int y = 0; y < input.height; y++ ) {\n" +
-				"\t\t\tint indexSrc = input.startIndex + y* input.stride;\n" +
-				"\t\t\tint indexDst = output.startIndex + y* output.stride;\n" +
-				"\t\t\tint end = indexSrc + input.width;\n" +
-				"\n" +
-				"\t\t\tfor( ; indexSrc < end; indexSrc++ , indexDst++) {\n" +
-				"\t\t\t\t"+typeOut.getDataType()+" v = input.data[indexSrc]"+bitWise+";\n" +
-				"\t\t\t\toutput.data[indexDst] = v*v;\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n\n");
+				"\t */\n",typeIn,typeOut);
 	}
 
 	public void printSqrt( AutoTypeImage typeIn , AutoTypeImage typeOut ) {
-		String bitWise = typeIn.getBitWise();
-		String typeCast = typeOut != AutoTypeImage.F64 ? "("+typeOut.getDataType()+")" : "";
-
-		out.print("\t/**\n" +
+		printSingleImage("sqrt","\t/**\n" +
 				"\t * Computes the square root of each pixel in the input image. Both the input and output image can be the\n" +
 				"\t * same instance.\n" +
 				"\t *\n" +
 				"\t * @param input The input image. Not modified.\n" +
 				"\t * @param output Where the sqrt() image is written to. Modified.\n" +
-				"\t */\n" +
-				"\tpublic static void sqrt( "+typeIn.getSingleBandName()+" input , "+typeOut.getSingleBandName()+" output ) {\n" +
-				"\n" +
-				"\t\tInputSanityCheck.checkSameShape(input,output);\n" +
-				"\n" +
-				"\t\tfor( int y = 0; y < input.height; y++ ) {\n" +
-				"\t\t\tint indexSrc = input.startIndex + y* input.stride;\n" +
-				"\t\t\tint indexDst = output.startIndex + y* output.stride;\n" +
-				"\t\t\tint end = indexSrc + input.width;\n" +
-				"\n" +
-				"\t\t\tfor( ; indexSrc < end; indexSrc++ , indexDst++) {\n" +
-				"\t\t\t\toutput.data[indexDst] = "+typeCast+"Math.sqrt(input.data[indexSrc]"+bitWise+");\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n\n");
+				"\t */\n",typeIn,typeOut);
 	}
 
-	public void printDivTwoImages( AutoTypeImage typeIn , AutoTypeImage typeOut  ) {
-
-		String bitWise = typeIn.getBitWise();
-		String typeCast = typeOut.isInteger() ? "("+typeOut.getDataType()+")" : "";
-
-		out.print("\t/**\n" +
-				"\t * <p>\n" +
-				"\t * Performs pixel-wise division<br>\n" +
-				"\t * output(x,y) = imgA(x,y) / imgB(x,y)\n" +
-				"\t * </p>\n" +
-				"\t * @param imgA Input image. Not modified.\n" +
-				"\t * @param imgB Input image. Not modified.\n" +
-				"\t * @param output Output image. Modified.\n" +
-				"\t */\n" +
-				"\tpublic static void divide( "+typeIn.getSingleBandName()+" imgA , "+typeIn.getSingleBandName()+" imgB , "+typeOut.getSingleBandName()+" output ) {\n" +
-				"\t\tInputSanityCheck.checkSameShape(imgA,imgB,output);\n" +
-				"\t\t\n" +
-				"\t\tfinal int h = imgA.getHeight();\n" +
-				"\t\tfinal int w = imgA.getWidth();\n" +
+	private void printSingleImage( String funcName , String javadoc , AutoTypeImage typeIn , AutoTypeImage typeOut ) {
+		out.print(javadoc +
+				"\tpublic static void "+funcName+"( "+typeIn.getSingleBandName()+" input , "+typeOut.getSingleBandName()+" output ) {\n" +
 				"\n" +
-				"\t\tfor (int y = 0; y < h; y++) {\n" +
-				"\t\t\tint indexA = imgA.getStartIndex() + y * imgA.getStride();\n" +
-				"\t\t\tint indexB = imgB.getStartIndex() + y * imgB.getStride();\n" +
-				"\t\t\tint indexOut = output.getStartIndex() + y * output.getStride();\n" +
-				"\t\t\t\n" +
-				"\t\t\tint indexEnd = indexA+w;\n" +
-				"\t\t\t// for(int x = 0; x < w; x++ ) {\n" +
-				"\t\t\tfor (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {\n" +
-				"\t\t\t\toutput.data[indexOut] = "+typeCast+"((imgA.data[indexA] "+bitWise+") / (imgB.data[indexB] "+bitWise+"));\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
+				"\t\tInputSanityCheck.checkSameShape(input,output);\n" +
+				"\n" +
+				dispatch(funcName,"input,output") +
 				"\t}\n\n");
 	}
 
-
 	public void printAverageBand() {
-		
+
 		String imageName = input.getSingleBandName();
-		String sumType = input.getSumType();
-		String typecast = input.getTypeCastFromSum();
-		String bitwise = input.getBitWise();
-		
+
 		out.print("\t/**\n" +
 				"\t * Computes the average for each pixel across all bands in the {@link Planar} image.\n" +
 				"\t * \n" +
@@ -613,30 +304,55 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t * @param output Gray scale image containing average pixel values\n" +
 				"\t */\n" +
 				"\tpublic static void averageBand( Planar<"+imageName+"> input , "+imageName+" output ) {\n" +
-				"\t\tfinal int h = input.getHeight();\n" +
-				"\t\tfinal int w = input.getWidth();\n" +
-				"\n" +
-				"\t\t"+imageName+"[] bands = input.bands;\n" +
-				"\t\t\n" +
-				"\t\tfor (int y = 0; y < h; y++) {\n" +
-				"\t\t\tint indexInput = input.getStartIndex() + y * input.getStride();\n" +
-				"\t\t\tint indexOutput = output.getStartIndex() + y * output.getStride();\n" +
-				"\n" +
-				"\t\t\tint indexEnd = indexInput+w;\n" +
-				"\t\t\t// for(int x = 0; x < w; x++ ) {\n" +
-				"\t\t\tfor (; indexInput < indexEnd; indexInput++, indexOutput++ ) {\n" +
-				"\t\t\t\t"+sumType+" total = 0;\n" +
-				"\t\t\t\tfor( int i = 0; i < bands.length; i++ ) {\n" +
-				"\t\t\t\t\ttotal += bands[i].data[ indexInput ]"+bitwise+";\n" +
-				"\t\t\t\t}\n" +
-				"\t\t\t\toutput.data[indexOutput] = "+typecast+"(total / bands.length);\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
+				dispatch("averageBand","input,output") +
 				"\t}\n\n");
 	}
 
+	/**
+	 * Calls the concurrent or single threaded implementation of the function
+	 */
+	private String dispatch( String funcName , String arguments ) {
+		return  "\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\t\tImplPixelMath_MT."+funcName+"("+arguments+");\n" +
+				"\t\t} else {\n" +
+				"\t\t\tImplPixelMath."+funcName+"("+arguments+");\n" +
+				"\t\t}\n";
+	}
+
+	/**
+	 * Name of the image class for the image type and family
+	 */
+	public static String imageName( AutoTypeImage input , ImageType.Family family ) {
+		if( family == ImageType.Family.INTERLEAVED )
+			return input.getInterleavedName();
+		else
+			return input.getSingleBandName();
+	}
+
+	/**
+	 * Code for the number of array elements in a row of the image
+	 */
+	public static String columns( ImageType.Family family ) {
+		if( family == ImageType.Family.INTERLEAVED )
+			return "input.width*input.numBands";
+		else
+			return "input.width";
+	}
+
+	/**
+	 * Operations between an image and a scalar
+	 */
+	public static List<TwoTemplate> createTwoTemplates() {
+		List<TwoTemplate> listTwo = new ArrayList<>();
+		listTwo.add( new Multiple());
+		listTwo.add( new Divide());
+		listTwo.add( new Plus());
+		listTwo.add( new Minus(true));
+		listTwo.add( new Minus(false));
+		return listTwo;
+	}
 
-	class Multiple implements TwoTemplate {
+	static class Multiple implements TwoTemplate {
 
 		@Override
 		public String getVariableName() { return "value";}
@@ -666,14 +382,14 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 		public String getName() {return "multiply";}
 
 		@Override
-		public String getOperation() {
+		public String getOperation( AutoTypeImage input ) {
 			String round = input.isInteger() ? "Math.round" : "";
 
 			return round+"((input[indexSrc] "+input.getBitWise()+") * value)";
 		}
 	}
 
-	class Divide implements TwoTemplate {
+	static class Divide implements TwoTemplate {
 
 		@Override public String getVariableName() { return "denominator";}
 
@@ -698,14 +414,14 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 		public String getName() {return "divide";}
 
 		@Override
-		public String getOperation() {
+		public String getOperation( AutoTypeImage input ) {
 			String round = input.isInteger() ? "Math.round" : "";
 
 			return round+"((input[indexSrc] "+input.getBitWise()+") / denominator)";
 		}
 	}
 
-	class Plus implements TwoTemplate {
+	static class Plus implements TwoTemplate {
 
 		@Override public String getVariableName() { return "value";}
 
@@ -730,12 +446,12 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 		public String getName() {return "plus";}
 
 		@Override
-		public String getOperation() {
+		public String getOperation( AutoTypeImage input ) {
 			return "((input[indexSrc] "+input.getBitWise()+") + value)";
 		}
 	}
 
-	class Minus implements TwoTemplate {
+	static class Minus implements TwoTemplate {
 
 		boolean imageFirst;
 
@@ -775,7 +491,7 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 		public String getName() {return "minus";}
 
 		@Override
-		public String getOperation() {
+		public String getOperation( AutoTypeImage input ) {
 			if( imageFirst )
 				return "((input[indexSrc] "+input.getBitWise()+") - value)";
 			else
@@ -783,15 +499,18 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 		}
 	}
 
-	interface Template {
+	public interface Template {
 		String getJavaDoc();
 
 		String getName();
 
-		String getOperation();
+		String getOperation( AutoTypeImage input );
 	}
 
-	interface TwoTemplate extends Template {
+	/**
+	 * Operation between an image and a scalar
+	 */
+	public interface TwoTemplate extends Template {
 		String getVariableName();
 
 		boolean isScaleOp();
@@ -799,6 +518,42 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 		boolean isImageFirst();
 
 		AutoTypeImage[] getTypes();
+
+		/**
+		 * Type of the scalar variable
+		 */
+		default String getVariableType( AutoTypeImage input ) {
+			if( isScaleOp() )
+				return input.isInteger() ? "double" : input.getSumType();
+			else
+				return input.getSumType();
+		}
+
+		/**
+		 * Name of the function which processes the raw arrays
+		 */
+		default String getArrayName( AutoTypeImage input ) {
+			String name = input.isSigned() ? getName() : getName()+"U";
+			return name + (isImageFirst() ? "_A" : "_B");
+		}
+
+		/**
+		 * Parameters of the function which processes an image
+		 */
+		default String getPrototype( AutoTypeImage input , String inputName , boolean bounded ) {
+			String varName = getVariableName();
+			String scalar = getVariableType(input) + " " + varName;
+			String bounds = "";
+			if( bounded ) {
+				String sumType = input.getSumType();
+				bounds = " , " + sumType + " lower , " + sumType + " upper";
+			}
+
+			if( isImageFirst() )
+				return "( " + inputName + " input , " + scalar + bounds + " , " + inputName + " output )";
+			else
+				return "( " + scalar + " , " + inputName + " input" + bounds + " , " + inputName + " output )";
+		}
 	}
 
 	public static void main( String args[] ) throws FileNotFoundException {
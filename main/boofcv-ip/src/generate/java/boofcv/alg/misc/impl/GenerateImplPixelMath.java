@@ -0,0 +1,411 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.misc.impl;
+
+import boofcv.alg.misc.GeneratePixelMath;
+import boofcv.alg.misc.GeneratePixelMath.TwoTemplate;
+import boofcv.misc.AutoTypeImage;
+import boofcv.misc.CodeGeneratorBase;
+import boofcv.struct.image.ImageType;
+
+import java.io.FileNotFoundException;
+
+import static boofcv.misc.AutoTypeImage.*;
+
+/**
+ * Generates the implementations of functions inside of {@link boofcv.alg.misc.PixelMath}.  Input images are
+ * assumed to have already been checked.
+ *
+ * @author Peter Abeles
+ */
+public class GenerateImplPixelMath extends CodeGeneratorBase {
+
+	// if true a concurrent implementation will be generated
+	boolean concurrent;
+
+	private AutoTypeImage input;
+
+	ImageType.Family families[] = new ImageType.Family[]{ImageType.Family.GRAY,ImageType.Family.INTERLEAVED};
+
+	public GenerateImplPixelMath( boolean concurrent ) {
+		super(false);
+		this.concurrent = concurrent;
+	}
+
+	@Override
+	public void generate() throws FileNotFoundException {
+		setOutputFile(concurrent ? "ImplPixelMath_MT" : "ImplPixelMath");
+		printPreamble();
+
+		print("abs","Math.abs(input[indexSrc])",AutoTypeImage.getSigned());
+		print("invert","-input[indexSrc]",AutoTypeImage.getSigned());
+
+		for( TwoTemplate t : GeneratePixelMath.createTwoTemplates() ) {
+			print_img_scalar(t,false);
+			print_img_scalar(t,true);
+		}
+
+		printAll();
+		out.println("}");
+	}
+
+	private void printPreamble() {
+		if( concurrent )
+			out.print("import boofcv.concurrency.BoofConcurrency;\n");
+		out.print("import boofcv.struct.image.*;\n" +
+				"\n" +
+				"import javax.annotation.Generated;\n" +
+				"\n" +
+				"/**\n" +
+				" * <p>\n" +
+				" * Implementation of functions in {@link boofcv.alg.misc.PixelMath}. Input images are assumed to have\n" +
+				" * already been checked.\n" +
+				" * </p>\n" +
+				" *\n");
+		if( concurrent )
+			out.print(" * <p>\n" +
+					" * Concurrent implementation of {@link ImplPixelMath}. Rows are processed in parallel.\n" +
+					" * </p>\n" +
+					" *\n");
+		out.print(" * <p>DO NOT MODIFY: Generated by " + getClass().getName() + ".</p>\n" +
+				" *\n" +
+				" * @author Peter Abeles\n" +
+				" */\n" +
+				generatedString() +
+				"@SuppressWarnings(\"Duplicates\")\n" +
+				"public class " + className + " {\n\n");
+	}
+
+	public void printAll() {
+
+		AutoTypeImage types[] = AutoTypeImage.getSpecificTypes();
+
+		for( AutoTypeImage t : types ) {
+			input = t;
+
+			printBoundImage();
+			printDiffAbs();
+			printAverageBand();
+		}
+
+		AutoTypeImage outputsAdd[] = new AutoTypeImage[]{U16,S16,S32,S32,S32,S64,F32,F64};
+		AutoTypeImage outputsSub[] = new AutoTypeImage[]{I16,S16,S32,S32,S32,S64,F32,F64};
+
+		for( int i = 0; i < types.length; i++ ) {
+			printTwoImages("add","+",types[i],outputsAdd[i]);
+			printTwoImages("subtract","-",types[i],outputsSub[i]);
+
+			if( !types[i].isInteger() ) {
+				printTwoImages("multiply","*",types[i],types[i]);
+				printTwoImages("divide","/",types[i],types[i]);
+				printLog(types[i],types[i]);
+				printPow2(types[i], types[i]);
+				printSqrt(types[i], types[i]);
+			}
+		}
+	}
+
+	private void print( String funcName , String operation , AutoTypeImage types[] ) {
+		for( AutoTypeImage t : types ) {
+			input = t;
+			for (ImageType.Family family : families) {
+				String inputName = GeneratePixelMath.imageName(input,family);
+
+				out.println("\tpublic static void " + funcName + "( " + inputName + " input , " + inputName + " output ) {\n" +
+						"\n" +
+						"\t\tint columns = " + GeneratePixelMath.columns(family) + ";\n" +
+						"\t\t" + funcName + "(input.data,input.startIndex,input.stride,\n" +
+						"\t\t\t\toutput.data,output.startIndex,output.stride,\n" +
+						"\t\t\t\tinput.height,columns);\n" +
+						"\t}\n");
+			}
+			printArray(funcName,operation);
+		}
+	}
+
+	public void printArray( String funcName , String operation )
+	{
+		String arrayType = input.getDataType();
+
+		out.println("\tprivate static void "+funcName+"( "+arrayType+"[] input , int inputStart , int inputStride ,\n" +
+				"\t\t\t\t\t\t\t   "+arrayType+"[] output , int outputStart , int outputStride ,\n" +
+				"\t\t\t\t\t\t\t   int rows , int cols )\n" +
+				"\t{\n" +
+				"\t\t"+loopRowsOpen("rows")+"\n" +
+				"\t\t\tint indexSrc = inputStart + y*inputStride;\n" +
+				"\t\t\tint indexDst = outputStart + y*outputStride;\n" +
+				"\t\t\tint end = indexSrc + cols;\n" +
+				"\n" +
+				"\t\t\tfor( ; indexSrc < end; indexSrc++ , indexDst++) {\n" +
+				"\t\t\t\toutput[indexDst] = "+input.getTypeCastFromSum()+operation +";\n" +
+				"\t\t\t}\n" +
+				"\t\t"+loopRowsClose()+"\n" +
+				"\t}\n");
+	}
+
+	private void print_img_scalar( TwoTemplate template , boolean bounded ) {
+
+		String funcName = template.getName();
+		String varName = template.getVariableName();
+
+		for( AutoTypeImage t : template.getTypes() ) {
+			input = t;
+			String variableType = template.getVariableType(input);
+			String funcArrayName = template.getArrayName(input);
+
+			for (ImageType.Family family : families) {
+				String inputName = GeneratePixelMath.imageName(input,family);
+				String prototype = template.getPrototype(input,inputName,bounded);
+				String bounds = bounded ? " lower, upper ," : " ";
+
+				out.println("\tpublic static void " + funcName + prototype + " {\n" +
+						"\n" +
+						"\t\tint columns = " + GeneratePixelMath.columns(family) + ";\n" +
+						"\t\t" + funcArrayName + "(input.data,input.startIndex,input.stride," + varName + " ," + bounds + "\n" +
+						"\t\t\t\toutput.data,output.startIndex,output.stride,\n" +
+						"\t\t\t\tinput.height,columns);\n" +
+						"\t}\n");
+			}
+			if( bounded ) {
+				print_array_scalar_bounded(funcArrayName, variableType, varName, template.getOperation(input));
+			} else {
+				print_array_scalar(funcArrayName, variableType, varName, template.getOperation(input));
+			}
+		}
+	}
+
+	public void print_array_scalar(String funcName , String varType , String varName , String operation  )
+	{
+		String arrayType = input.getDataType();
+
+		String typeCast = varType.equals(input.getDataType()) ? "" : "("+input.getDataType()+")";
+
+		out.println("\tprivate static void "+funcName+"( "+arrayType+"[] input , int inputStart , int inputStride , \n" +
+				"\t\t\t\t\t\t\t   "+varType+" "+varName+" ,\n" +
+				"\t\t\t\t\t\t\t   "+arrayType+"[] output , int outputStart , int outputStride ,\n" +
+				"\t\t\t\t\t\t\t   int rows , int cols )\n" +
+				"\t{\n" +
+				"\t\t"+loopRowsOpen("rows")+"\n" +
+				"\t\t\tint indexSrc = inputStart + y*inputStride;\n" +
+				"\t\t\tint indexDst = outputStart + y*outputStride;\n" +
+				"\t\t\tint end = indexSrc + cols;\n" +
+				"\n" +
+				"\t\t\tfor( ; indexSrc < end; indexSrc++ , indexDst++) {\n" +
+				"\t\t\t\toutput[indexDst] = "+typeCast+operation +";\n" +
+				"\t\t\t}\n" +
+				"\t\t"+loopRowsClose()+"\n" +
+				"\t}\n");
+	}
+
+	public void print_array_scalar_bounded(String funcName , String varType , String varName , String operation  )
+	{
+		String arrayType = input.getDataType();
+
+		String sumType = input.getSumType();
+		String typeCast = varType.equals(sumType) ? "" : "("+sumType+")";
+
+		out.println("\tprivate static void "+funcName+"( "+arrayType+"[] input , int inputStart , int inputStride , \n" +
+				"\t\t\t\t\t\t\t   "+varType+" "+varName+" , "+sumType+" lower , "+sumType+" upper ,\n" +
+				"\t\t\t\t\t\t\t   "+arrayType+"[] output , int outputStart , int outputStride ,\n" +
+				"\t\t\t\t\t\t\t   int rows , int cols )\n" +
+				"\t{\n" +
+				"\t\t"+loopRowsOpen("rows")+"\n" +
+				"\t\t\tint indexSrc = inputStart + y*inputStride;\n" +
+				"\t\t\tint indexDst = outputStart + y*outputStride;\n" +
+				"\t\t\tint end = indexSrc + cols;\n" +
+				"\n" +
+				"\t\t\tfor( ; indexSrc < end; indexSrc++ , indexDst++) {\n" +
+				"\t\t\t\t"+sumType+" val = "+typeCast+operation+";\n" +
+				"\t\t\t\tif( val < lower ) val = lower;\n" +
+				"\t\t\t\tif( val > upper ) val = upper;\n" +
+				"\t\t\t\toutput[indexDst] = "+input.getTypeCastFromSum()+"val;\n"+
+				"\t\t\t}\n" +
+				"\t\t"+loopRowsClose()+"\n" +
+				"\t}\n");
+	}
+
+	public void printBoundImage() {
+
+		String bitWise = input.getBitWise();
+		String sumType = input.getSumType();
+
+		out.print("\tpublic static void boundImage( "+input.getSingleBandName()+" img , "+sumType+" min , "+sumType+" max ) {\n" +
+				"\t\tfinal int h = img.getHeight();\n" +
+				"\t\tfinal int w = img.getWidth();\n" +
+				"\n" +
+				"\t\t"+input.getDataType()+"[] data = img.data;\n" +
+				"\n" +
+				"\t\t"+loopRowsOpen("h")+"\n" +
+				"\t\t\tint index = img.getStartIndex() + y * img.getStride();\n" +
+				"\t\t\tint indexEnd = index+w;\n" +
+				"\t\t\t// for(int x = 0; x < w; x++ ) {\n" +
+				"\t\t\tfor (; index < indexEnd; index++) {\n" +
+				"\t\t\t\t"+sumType+" value = data[index]"+bitWise+";\n" +
+				"\t\t\t\tif( value < min )\n" +
+				"\t\t\t\t\tdata[index] = "+input.getTypeCastFromSum()+"min;\n" +
+				"\t\t\t\telse if( value > max )\n" +
+				"\t\t\t\t\tdata[index] = "+input.getTypeCastFromSum()+"max;\n" +
+				"\t\t\t}\n" +
+				"\t\t"+loopRowsClose()+"\n" +
+				"\t}\n\n");
+	}
+
+	public void printDiffAbs() {
+
+		String bitWise = input.getBitWise();
+		String typeCast = input.isInteger() ? "("+input.getDataType()+")" : "";
+
+		out.print("\tpublic static void diffAbs( "+input.getSingleBandName()+" imgA , "+input.getSingleBandName()+" imgB , "+input.getSingleBandName()+" diff ) {\n" +
+				"\t\tfinal int h = imgA.getHeight();\n" +
+				"\t\tfinal int w = imgA.getWidth();\n" +
+				"\n" +
+				"\t\t"+loopRowsOpen("h")+"\n" +
+				"\t\t\tint indexA = imgA.getStartIndex() + y * imgA.getStride();\n" +
+				"\t\t\tint indexB = imgB.getStartIndex() + y * imgB.getStride();\n" +
+				"\t\t\tint indexDiff = diff.getStartIndex() + y * diff.getStride();\n" +
+				"\t\t\t\n" +
+				"\t\t\tint indexEnd = indexA+w;\n" +
+				"\t\t\t// for(int x = 0; x < w; x++ ) {\n" +
+				"\t\t\tfor (; indexA < indexEnd; indexA++, indexB++, indexDiff++ ) {\n" +
+				"\t\t\t\tdiff.data[indexDiff] = "+typeCast+"Math.abs((imgA.data[indexA] "+bitWise+") - (imgB.data[indexB] "+bitWise+"));\n" +
+				"\t\t\t}\n" +
+				"\t\t"+loopRowsClose()+"\n" +
+				"\t}\n\n");
+	}
+
+	/**
+	 * Pixel-wise operation between two images, e.g. addition
+	 *
+	 * @param funcName Name of the function
+	 * @param operator Java operator applied to the two pixel values
+	 */
+	public void printTwoImages( String funcName , String operator , AutoTypeImage typeIn , AutoTypeImage typeOut ) {
+
+		String bitWise = typeIn.getBitWise();
+		String typeCast = typeOut.isInteger() ? "("+typeOut.getDataType()+")" : "";
+
+		out.print("\tpublic static void "+funcName+"( "+typeIn.getSingleBandName()+" imgA , "+typeIn.getSingleBandName()+" imgB , "
+				+typeOut.getSingleBandName()+" output ) {\n" +
+				"\t\tfinal int h = imgA.getHeight();\n" +
+				"\t\tfinal int w = imgA.getWidth();\n" +
+				"\n" +
+				"\t\t"+loopRowsOpen("h")+"\n" +
+				"\t\t\tint indexA = imgA.getStartIndex() + y * imgA.getStride();\n" +
+				"\t\t\tint indexB = imgB.getStartIndex() + y * imgB.getStride();\n" +
+				"\t\t\tint indexOut = output.getStartIndex() + y * output.getStride();\n" +
+				"\t\t\t\n" +
+				"\t\t\tint indexEnd = indexA+w;\n" +
+				"\t\t\t// for(int x = 0; x < w; x++ ) {\n" +
+				"\t\t\tfor (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {\n" +
+				"\t\t\t\toutput.data[indexOut] = "+typeCast+"((imgA.data[indexA] "+bitWise+") "+operator+" (imgB.data[indexB] "+bitWise+"));\n" +
+				"\t\t\t}\n" +
+				"\t\t"+loopRowsClose()+"\n" +
+				"\t}\n\n");
+	}
+
+	public void printLog( AutoTypeImage typeIn , AutoTypeImage typeOut ) {
+		String bitWise = typeIn.getBitWise();
+		String typeCast = typeOut != AutoTypeImage.F64 ? "("+typeOut.getDataType()+")" : "";
+
+		printSingleImage("log",typeIn,typeOut,
+				"\t\t\t\toutput.data[indexDst] = "+typeCast+"Math.log(1 + input.data[indexSrc]"+bitWise+");\n");
+	}
+
+	public void printPow2( AutoTypeImage typeIn , AutoTypeImage typeOut ) {
+		String bitWise = typeIn.getBitWise();
+
+		printSingleImage("pow2",typeIn,typeOut,
+				"\t\t\t\t"+typeOut.getDataType()+" v = input.data[indexSrc]"+bitWise+";\n" +
+				"\t\t\t\toutput.data[indexDst] = v*v;\n");
+	}
+
+	public void printSqrt( AutoTypeImage typeIn , AutoTypeImage typeOut ) {
+		String bitWise = typeIn.getBitWise();
+		String typeCast = typeOut != AutoTypeImage.F64 ? "("+typeOut.getDataType()+")" : "";
+
+		printSingleImage("sqrt",typeIn,typeOut,
+				"\t\t\t\toutput.data[indexDst] = "+typeCast+"Math.sqrt(input.data[indexSrc]"+bitWise+");\n");
+	}
+
+	/**
+	 * Function which applies an operation to each pixel in the input image and writes it to the output image
+	 *
+	 * @param body Code which computes the value of a single output pixel
+	 */
+	private void printSingleImage( String funcName , AutoTypeImage typeIn , AutoTypeImage typeOut , String body ) {
+		out.print("\tpublic static void "+funcName+"( "+typeIn.getSingleBandName()+" input , "+typeOut.getSingleBandName()+" output ) {\n" +
+				"\n" +
+				"\t\t"+loopRowsOpen("input.height")+"\n" +
+				"\t\t\tint indexSrc = input.startIndex + y* input.stride;\n" +
+				"\t\t\tint indexDst = output.startIndex + y* output.stride;\n" +
+				"\t\t\tint end = indexSrc + input.width;\n" +
+				"\n" +
+				"\t\t\tfor( ; indexSrc < end; indexSrc++ , indexDst++) {\n" +
+				body +
+				"\t\t\t}\n" +
+				"\t\t"+loopRowsClose()+"\n" +
+				"\t}\n\n");
+	}
+
+	public void printAverageBand() {
+
+		String imageName = input.getSingleBandName();
+		String sumType = input.getSumType();
+		String typecast = input.getTypeCastFromSum();
+		String bitwise = input.getBitWise();
+
+		out.print("\tpublic static void averageBand( Planar<"+imageName+"> input , "+imageName+" output ) {\n" +
+				"\t\tfinal int h = input.getHeight();\n" +
+				"\t\tfinal int w = input.getWidth();\n" +
+				"\n" +
+				"\t\t"+imageName+"[] bands = input.bands;\n" +
+				"\t\t\n" +
+				"\t\t"+loopRowsOpen("h")+"\n" +
+				"\t\t\tint indexInput = input.getStartIndex() + y * input.getStride();\n" +
+				"\t\t\tint indexOutput = output.getStartIndex() + y * output.getStride();\n" +
+				"\n" +
+				"\t\t\tint indexEnd = indexInput+w;\n" +
+				"\t\t\t// for(int x = 0; x < w; x++ ) {\n" +
+				"\t\t\tfor (; indexInput < indexEnd; indexInput++, indexOutput++ ) {\n" +
+				"\t\t\t\t"+sumType+" total = 0;\n" +
+				"\t\t\t\tfor( int i = 0; i < bands.length; i++ ) {\n" +
+				"\t\t\t\t\ttotal += bands[i].data[ indexInput ]"+bitwise+";\n" +
+				"\t\t\t\t}\n" +
+				"\t\t\t\toutput.data[indexOutput] = "+typecast+"(total / bands.length);\n" +
+				"\t\t\t}\n" +
+				"\t\t"+loopRowsClose()+"\n" +
+				"\t}\n\n");
+	}
+
+	private String loopRowsOpen( String height ) {
+		if( concurrent )
+			return "BoofConcurrency.loopFor(0, "+height+", y -> {";
+		else
+			return "for (int y = 0; y < "+height+"; y++) {";
+	}
+
+	private String loopRowsClose() {
+		return concurrent ? "});" : "}";
+	}
+
+	public static void main( String args[] ) throws FileNotFoundException {
+		new GenerateImplPixelMath(false).generate();
+		new GenerateImplPixelMath(true).generate();
+	}
+}
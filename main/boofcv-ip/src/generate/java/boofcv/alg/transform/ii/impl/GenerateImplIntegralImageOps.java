@@ -31,11 +31,17 @@ import java.io.PrintStream;
  * @author Peter Abeles
  */
 public class GenerateImplIntegralImageOps extends CodeGeneratorBase {
-	String className = "ImplIntegralImageOps";
+	String className;
 
 	PrintStream out;
 
-	public GenerateImplIntegralImageOps() throws FileNotFoundException {
+	// if true a concurrent implementation of the transforms will be generated
+	boolean concurrent;
+
+	public GenerateImplIntegralImageOps( boolean concurrent ) throws FileNotFoundException {
+		super(false);
+		this.concurrent = concurrent;
+		className = concurrent ? "ImplIntegralImageOps_MT" : "ImplIntegralImageOps";
 		out = new PrintStream(new FileOutputStream(className + ".java"));
 	}
 
@@ -48,6 +54,14 @@ public class GenerateImplIntegralImageOps extends CodeGeneratorBase {
 		printTwoInput(AutoTypeImage.U8, AutoTypeImage.S32);
 		printTwoInput(AutoTypeImage.S32, AutoTypeImage.S32);
 		printTwoInput(AutoTypeImage.S64, AutoTypeImage.S64);
+		printTwoInput(AutoTypeImage.U8, AutoTypeImage.S64);
+		printTwoInput(AutoTypeImage.U16, AutoTypeImage.S64);
+
+		if( concurrent ) {
+			out.print("}\n");
+			return;
+		}
+
 		singleInput(AutoTypeImage.F32);
 		singleInput(AutoTypeImage.S32);
 		singleInput(AutoTypeImage.F64);
@@ -58,6 +72,10 @@ public class GenerateImplIntegralImageOps extends CodeGeneratorBase {
 	}
 
 	private void printPreamble() {
+		if( concurrent ) {
+			printPreambleConcurrent();
+			return;
+		}
 		out.print(CodeGeneratorUtil.copyright);
 		out.print("package boofcv.alg.transform.ii.impl;\n" +
 				"\n" +
@@ -80,9 +98,73 @@ public class GenerateImplIntegralImageOps extends CodeGeneratorBase {
 				"public class "+className+" {\n\n");
 	}
 
+	private void printPreambleConcurrent() {
+		out.print(CodeGeneratorUtil.copyright);
+		out.print("package boofcv.alg.transform.ii.impl;\n" +
+				"\n" +
+				"import boofcv.concurrency.BoofConcurrency;\n" +
+				"import boofcv.struct.image.*;\n" +
+				"\n" +
+				"/**\n" +
+				" * <p>\n" +
+				" * Concurrent implementation of the transforms in {@link ImplIntegralImageOps}.  The integral image is\n" +
+				" * computed in two phases.  First the prefix sum of each row is found with rows being processed in\n" +
+				" * parallel.  Then the sums are propagated down each column with blocks of columns being processed in\n" +
+				" * parallel.  The same additions are performed as in the single threaded version, so the results\n" +
+				" * are identical.\n" +
+				" * </p>\n" +
+				" *\n" +
+				" * <p>\n" +
+				" * DO NOT MODIFY: Generated by {@link GenerateImplIntegralImageOps}.\n" +
+				" * </p>\n" +
+				" *\n" +
+				" * @author Peter Abeles\n" +
+				" */\n" +
+				"public class "+className+" {\n\n" +
+				"\t// Minimum number of columns in a block.  Avoids threads writing to the same cache line\n" +
+				"\tstatic final int MIN_COLUMNS = 64;\n\n");
+	}
+
 	private void printTwoInput( AutoTypeImage imageIn , AutoTypeImage imageOut ) {
-		printTransform(imageIn,imageOut);
+		if( concurrent )
+			printTransformConcurrent(imageIn,imageOut);
+		else
+			printTransform(imageIn,imageOut);
+	}
+
+	private void printTransformConcurrent( AutoTypeImage imageIn , AutoTypeImage imageOut ) {
 
+		String sumType = imageOut.getSumType();
+		String bitWise = imageIn.getBitWise();
+		String typeCast = imageOut.getTypeCastFromSum();
+
+		out.print("\tpublic static void transform( final "+imageIn.getSingleBandName()+" input , final "+imageOut.getSingleBandName()+" transformed )\n" +
+				"\t{\n" +
+				"\t\t// prefix sum along each row\n" +
+				"\t\tBoofConcurrency.loopFor(0, input.height, y -> {\n" +
+				"\t\t\tint indexSrc = input.startIndex + input.stride*y;\n" +
+				"\t\t\tint indexDst = transformed.startIndex + transformed.stride*y;\n" +
+				"\t\t\tint end = indexSrc + input.width;\n" +
+				"\n" +
+				"\t\t\t"+sumType+" total = 0;\n" +
+				"\t\t\tfor( ; indexSrc < end; indexSrc++ ) {\n" +
+				"\t\t\t\ttransformed.data[indexDst++] = "+typeCast+"total += input.data[indexSrc]"+bitWise+";\n" +
+				"\t\t\t}\n" +
+				"\t\t});\n" +
+				"\n" +
+				"\t\t// add the row above to each row\n" +
+				"\t\tBoofConcurrency.loopBlocks(0, input.width, MIN_COLUMNS, (x0,x1) -> {\n" +
+				"\t\t\tfor( int y = 1; y < input.height; y++ ) {\n" +
+				"\t\t\t\tint indexDst = transformed.startIndex + transformed.stride*y + x0;\n" +
+				"\t\t\t\tint indexPrev = indexDst - transformed.stride;\n" +
+				"\t\t\t\tint end = indexDst + x1 - x0;\n" +
+				"\n" +
+				"\t\t\t\tfor( ; indexDst < end; indexDst++ ) {\n" +
+				"\t\t\t\t\ttransformed.data[indexDst] = transformed.data[indexPrev++] + transformed.data[indexDst];\n" +
+				"\t\t\t\t}\n" +
+				"\t\t\t}\n" +
+				"\t\t});\n" +
+				"\t}\n\n");
 	}
 
 	private void singleInput(AutoTypeImage image) {
@@ -250,7 +332,9 @@ public class GenerateImplIntegralImageOps extends CodeGeneratorBase {
 	}
 
 	public static void main( String args[] ) throws FileNotFoundException {
-		GenerateImplIntegralImageOps app = new GenerateImplIntegralImageOps();
+		GenerateImplIntegralImageOps app = new GenerateImplIntegralImageOps(false);
+		app.generate();
+		app = new GenerateImplIntegralImageOps(true);
 		app.generate();
 	}
 }
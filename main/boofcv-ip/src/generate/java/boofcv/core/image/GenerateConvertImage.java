@@ -48,13 +48,24 @@ public class GenerateConvertImage extends CodeGeneratorBase {
 			printIntegerRange(in);
 		}
 
+		printConvertDirect("DirectGrayU8","GrayU8","");
+		printConvertDirect("GrayU8","DirectGrayU8","");
+		printConvertDirect("DirectGrayF32","GrayF32","");
+		printConvertDirect("GrayF32","DirectGrayF32","");
+		printConvertDirect("DirectGrayU8","GrayF32","");
+		printConvertDirect("DirectInterleavedU8","InterleavedU8",", input.getNumBands()");
+		printConvertDirect("InterleavedU8","DirectInterleavedU8",", input.getNumBands()");
+
 		out.print("\n" +
 				"}\n");
 	}
 
 	private void printPreamble() {
 		out.print("import boofcv.alg.InputSanityCheck;\n" +
+				"import boofcv.concurrency.BoofConcurrency;\n" +
+				"import boofcv.core.image.impl.ImplConvertDirect;\n" +
 				"import boofcv.core.image.impl.ImplConvertImage;\n" +
+				"import boofcv.core.image.impl.ImplConvertImage_MT;\n" +
 				"import boofcv.core.image.impl.ImplConvertMsToSingle;\n" +
 				"import boofcv.core.image.impl.ConvertInterleavedToSingle;\n" +
 				"import boofcv.struct.image.*;\n" +
@@ -95,7 +106,11 @@ public class GenerateConvertImage extends CodeGeneratorBase {
 				"\t\t\tInputSanityCheck.checkSameShape(input, output);\n" +
 				"\t\t}\n" +
 				"\n" +
-				"\t\tImplConvertImage.convert(input, output);\n" +
+				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\t\tImplConvertImage_MT.convert(input, output);\n" +
+				"\t\t} else {\n" +
+				"\t\t\tImplConvertImage.convert(input, output);\n" +
+				"\t\t}\n" +
 				"\n" +
 				"\t\treturn output;\n" +
 				"\t}\n\n");
@@ -119,7 +134,35 @@ public class GenerateConvertImage extends CodeGeneratorBase {
 				"\t\t\tInputSanityCheck.checkSameShape(input, output);\n" +
 				"\t\t}\n" +
 				"\n" +
-				"\t\tImplConvertImage.convert(input, output);\n" +
+				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\t\tImplConvertImage_MT.convert(input, output);\n" +
+				"\t\t} else {\n" +
+				"\t\t\tImplConvertImage.convert(input, output);\n" +
+				"\t\t}\n" +
+				"\n" +
+				"\t\treturn output;\n" +
+				"\t}\n\n");
+	}
+
+	private void printConvertDirect( String imageIn , String imageOut , String bandsArg ) {
+
+		out.print("\t/**\n" +
+				"\t * <p>\n" +
+				"\t * Converts an {@link boofcv.struct.image."+imageIn+"} into a {@link boofcv.struct.image."+imageOut+"}.\n" +
+				"\t * </p>\n" +
+				"\t *\n" +
+				"\t * @param input Input image which is being converted. Not modified.\n" +
+				"\t * @param output (Optional) The output image.  If null a new image is created. Modified.\n" +
+				"\t * @return Converted image.\n" +
+				"\t */\n" +
+				"\tpublic static "+imageOut+" convert("+imageIn+" input, "+imageOut+" output) {\n" +
+				"\t\tif (output == null) {\n" +
+				"\t\t\toutput = new "+imageOut+"(input.width, input.height"+bandsArg+");\n" +
+				"\t\t} else {\n" +
+				"\t\t\tInputSanityCheck.checkSameShape(input, output);\n" +
+				"\t\t}\n" +
+				"\n" +
+				"\t\tImplConvertDirect.convert(input, output);\n" +
 				"\n" +
 				"\t\treturn output;\n" +
 				"\t}\n\n");
@@ -194,7 +237,11 @@ public class GenerateConvertImage extends CodeGeneratorBase {
 				"\t\t\tInputSanityCheck.checkSameShape(input, output);\n" +
 				"\t\t}\n" +
 				"\n" +
-				"\t\tImplConvertImage.convert(input,output);\n" +
+				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\t\tImplConvertImage_MT.convert(input,output);\n" +
+				"\t\t} else {\n" +
+				"\t\t\tImplConvertImage.convert(input,output);\n" +
+				"\t\t}\n" +
 				"\n" +
 				"\t\treturn output;\n" +
 				"\t}\n\n");
@@ -218,7 +265,11 @@ public class GenerateConvertImage extends CodeGeneratorBase {
 				"\t\t\tInputSanityCheck.checkSameShape(input, output);\n" +
 				"\t\t}\n" +
 				"\n" +
-				"\t\tImplConvertImage.convert(input,output);\n" +
+				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\t\tImplConvertImage_MT.convert(input,output);\n" +
+				"\t\t} else {\n" +
+				"\t\t\tImplConvertImage.convert(input,output);\n" +
+				"\t\t}\n" +
 				"\n" +
 				"\t\treturn output;\n" +
 				"\t}\n\n");
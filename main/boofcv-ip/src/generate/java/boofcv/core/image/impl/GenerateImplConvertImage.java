@@ -29,8 +29,17 @@ import java.io.FileNotFoundException;
  */
 public class GenerateImplConvertImage extends CodeGeneratorBase {
 
+	// if true a concurrent implementation will be generated
+	boolean concurrent;
+
+	public GenerateImplConvertImage( boolean concurrent ) {
+		super(false);
+		this.concurrent = concurrent;
+	}
+
 	@Override
 	public void generate() throws FileNotFoundException {
+		setOutputFile(concurrent ? "ImplConvertImage_MT" : "ImplConvertImage");
 		printPreamble();
 
 		for( AutoTypeImage in : AutoTypeImage.getSpecificTypes()) {
@@ -55,6 +64,8 @@ public class GenerateImplConvertImage extends CodeGeneratorBase {
 	}
 
 	private void printPreamble() {
+		if( concurrent )
+			out.print("import boofcv.concurrency.BoofConcurrency;\n");
 		out.print("import boofcv.struct.image.*;\n" +
 				"\n" +
 				"/**\n" +
@@ -62,7 +73,13 @@ public class GenerateImplConvertImage extends CodeGeneratorBase {
 				" * Functions for converting between different primitive image types. Numerical values do not change or are closely approximated\n" +
 				" * in these functions.  \n" +
 				" * </p>\n" +
-				" *\n" +
+				" *\n");
+		if( concurrent )
+			out.print(" * <p>\n" +
+				" * Concurrent implementation of {@link ImplConvertImage}. Rows are processed in parallel.\n" +
+				" * </p>\n" +
+				" *\n");
+		out.print(
 				" * <p>\n" +
 				" * DO NOT MODIFY: This class was automatically generated by "+getClass().getSimpleName()+"\n" +
 				" * </p>\n" +
@@ -91,14 +108,14 @@ public class GenerateImplConvertImage extends CodeGeneratorBase {
 				"\n" +
 				"\t\tif (from.isSubimage() || to.isSubimage()) {\n" +
 				"\n" +
-				"\t\t\tfor (int y = 0; y < from.height; y++) {\n" +
+				"\t\t\t"+loopRowsOpen("from.height")+"\n" +
 				"\t\t\t\tint indexFrom = from.getIndex(0, y);\n" +
 				"\t\t\t\tint indexTo = to.getIndex(0, y);\n" +
 				"\n" +
 				"\t\t\t\tfor (int x = 0; x < from.width; x++) {\n" +
 				"\t\t\t\t\tto.data[indexTo++] = "+typeCast+"( from.data[indexFrom++] "+bitWise+");\n" +
 				"\t\t\t\t}\n" +
-				"\t\t\t}\n" +
+				"\t\t\t"+loopRowsClose()+"\n" +
 				"\n" +
 				"\t\t} else {\n" +
 				"\t\t\tfinal int N = from.width * from.height;\n" +
@@ -107,9 +124,17 @@ public class GenerateImplConvertImage extends CodeGeneratorBase {
 		if( sameTypes ) {
 			out.print("\t\t\tSystem.arraycopy(from.data, 0, to.data, 0, N);\n");
 		} else {
-			out.print("\t\t\tfor (int i = 0; i < N; i++) {\n" +
-					"\t\t\t\tto.data[i] = "+typeCast+"( from.data[i] "+bitWise+");\n" +
-					"\t\t\t}\n");
+			if( concurrent ) {
+				out.print("\t\t\tBoofConcurrency.loopBlocks(0, N, (i0, i1) -> {\n" +
+						"\t\t\t\tfor (int i = i0; i < i1; i++) {\n" +
+						"\t\t\t\t\tto.data[i] = "+typeCast+"( from.data[i] "+bitWise+");\n" +
+						"\t\t\t\t}\n" +
+						"\t\t\t});\n");
+			} else {
+				out.print("\t\t\tfor (int i = 0; i < N; i++) {\n" +
+						"\t\t\t\tto.data[i] = "+typeCast+"( from.data[i] "+bitWise+");\n" +
+						"\t\t\t}\n");
+			}
 		}
 		out.print("\t\t}\n" +
 				"\t}\n\n");
@@ -134,14 +159,14 @@ public class GenerateImplConvertImage extends CodeGeneratorBase {
 				"\t\tif (from.isSubimage() || to.isSubimage()) {\n" +
 				"\t\t\tfinal int N = from.width * from.getNumBands();\n" +
 				"\n" +
-				"\t\t\tfor (int y = 0; y < from.height; y++) {\n" +
+				"\t\t\t"+loopRowsOpen("from.height")+"\n" +
 				"\t\t\t\tint indexFrom = from.getIndex(0, y);\n" +
 				"\t\t\t\tint indexTo = to.getIndex(0, y);\n" +
 				"\n" +
 				"\t\t\t\tfor (int x = 0; x < N; x++) {\n" +
 				"\t\t\t\t\tto.data[indexTo++] = "+typeCast+"( from.data[indexFrom++] "+bitWise+");\n" +
 				"\t\t\t\t}\n" +
-				"\t\t\t}\n" +
+				"\t\t\t"+loopRowsClose()+"\n" +
 				"\n" +
 				"\t\t} else {\n" +
 				"\t\t\tfinal int N = from.width * from.height * from.getNumBands();\n" +
@@ -150,9 +175,17 @@ public class GenerateImplConvertImage extends CodeGeneratorBase {
 		if( sameTypes ) {
 			out.print("\t\t\tSystem.arraycopy(from.data, 0, to.data, 0, N);\n");
 		} else {
-			out.print("\t\t\tfor (int i = 0; i < N; i++) {\n" +
-					"\t\t\t\tto.data[i] = "+typeCast+"( from.data[i] "+bitWise+");\n" +
-					"\t\t\t}\n");
+			if( concurrent ) {
+				out.print("\t\t\tBoofConcurrency.loopBlocks(0, N, (i0, i1) -> {\n" +
+						"\t\t\t\tfor (int i = i0; i < i1; i++) {\n" +
+						"\t\t\t\t\tto.data[i] = "+typeCast+"( from.data[i] "+bitWise+");\n" +
+						"\t\t\t\t}\n" +
+						"\t\t\t});\n");
+			} else {
+				out.print("\t\t\tfor (int i = 0; i < N; i++) {\n" +
+						"\t\t\t\tto.data[i] = "+typeCast+"( from.data[i] "+bitWise+");\n" +
+						"\t\t\t}\n");
+			}
 		}
 		out.print("\t\t}\n" +
 				"\t}\n\n");
@@ -162,24 +195,7 @@ public class GenerateImplConvertImage extends CodeGeneratorBase {
 		String inputName = imageIn.getInterleavedName();
 		String bandName = imageIn.getSingleBandName();
 
-		out.print(
-				"\tpublic static void convert( "+inputName+" input , Planar<"+bandName+"> output ) {\n" +
-				"\n" +
-				"\t\tfinal int numBands = input.numBands;\n" +
-				"\t\tfor (int i = 0; i < numBands; i++) {\n" +
-				"\t\t\t"+bandName+" band = output.bands[i];\n" +
-				"\n" +
-				"\t\t\tfor (int y = 0; y < input.height; y++) {\n" +
-				"\t\t\t\tint indexSrc = y*input.stride + input.startIndex + i;\n" +
-				"\t\t\t\tint indexDst = y*output.stride + output.startIndex;\n" +
-				"\t\t\t\tint end = indexDst + input.width;\n" +
-				"\t\t\t\twhile( indexDst != end ) {\n" +
-				"\t\t\t\t\tband.data[indexDst++] = input.data[indexSrc];\n" +
-				"\t\t\t\t\tindexSrc += numBands;\n" +
-				"\t\t\t\t}\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n\n");
+		printInterleaveToPlanar("convert",inputName,bandName,"input.data[indexSrc]");
 	}
 
 	private void printInterleaveToPlanar(AutoTypeImage imageIn, AutoTypeImage imageOut) {
@@ -191,48 +207,53 @@ public class GenerateImplConvertImage extends CodeGeneratorBase {
 		if( imageOut.isInteger() ) {
 			typecast = "("+imageOut.getDataType()+")";
 		}
-		out.print(
-				"\tpublic static void convert"+type+"( "+inputName+" input , Planar<"+bandName+"> output ) {\n" +
-						"\n" +
-						"\t\tfinal int numBands = input.numBands;\n" +
-						"\t\tfor (int i = 0; i < numBands; i++) {\n" +
-						"\t\t\t"+bandName+" band = output.bands[i];\n" +
-						"\n" +
-						"\t\t\tfor (int y = 0; y < input.height; y++) {\n" +
-						"\t\t\t\tint indexSrc = y*input.stride + input.startIndex + i;\n" +
-						"\t\t\t\tint indexDst = y*output.stride + output.startIndex;\n" +
-						"\t\t\t\tint end = indexDst + input.width;\n" +
-						"\t\t\t\twhile( indexDst != end ) {\n" +
-						"\t\t\t\t\tband.data[indexDst++] = "+typecast+"(input.data[indexSrc]"+bitWise+");\n" +
-						"\t\t\t\t\tindexSrc += numBands;\n" +
-						"\t\t\t\t}\n" +
-						"\t\t\t}\n" +
-						"\t\t}\n" +
-						"\t}\n\n");
+		printInterleaveToPlanar("convert"+type,inputName,bandName,typecast+"(input.data[indexSrc]"+bitWise+")");
+	}
+
+	private void printInterleaveToPlanar( String funcName , String inputName , String bandName , String value ) {
+		out.print("\tpublic static void "+funcName+"( "+inputName+" input , Planar<"+bandName+"> output ) {\n" +
+				"\n" +
+				"\t\tfinal int numBands = input.numBands;\n");
+		if( concurrent ) {
+			// the row loop is on the outside so that the lambda doesn't reference the band index
+			out.print(
+					"\t\tBoofConcurrency.loopFor(0, input.height, y -> {\n" +
+					"\t\t\tfor (int i = 0; i < numBands; i++) {\n" +
+					"\t\t\t\t"+bandName+" band = output.bands[i];\n" +
+					"\n" +
+					"\t\t\t\tint indexSrc = y*input.stride + input.startIndex + i;\n" +
+					"\t\t\t\tint indexDst = y*output.stride + output.startIndex;\n" +
+					"\t\t\t\tint end = indexDst + input.width;\n" +
+					"\t\t\t\twhile( indexDst != end ) {\n" +
+					"\t\t\t\t\tband.data[indexDst++] = "+value+";\n" +
+					"\t\t\t\t\tindexSrc += numBands;\n" +
+					"\t\t\t\t}\n" +
+					"\t\t\t}\n" +
+					"\t\t});\n");
+		} else {
+			out.print(
+					"\t\tfor (int i = 0; i < numBands; i++) {\n" +
+					"\t\t\t"+bandName+" band = output.bands[i];\n" +
+					"\n" +
+					"\t\t\tfor (int y = 0; y < input.height; y++) {\n" +
+					"\t\t\t\tint indexSrc = y*input.stride + input.startIndex + i;\n" +
+					"\t\t\t\tint indexDst = y*output.stride + output.startIndex;\n" +
+					"\t\t\t\tint end = indexDst + input.width;\n" +
+					"\t\t\t\twhile( indexDst != end ) {\n" +
+					"\t\t\t\t\tband.data[indexDst++] = "+value+";\n" +
+					"\t\t\t\t\tindexSrc += numBands;\n" +
+					"\t\t\t\t}\n" +
+					"\t\t\t}\n" +
+					"\t\t}\n");
+		}
+		out.print("\t}\n\n");
 	}
 
 	private void printPlanarToInterleaved(AutoTypeImage imageIn) {
 		String outputName = imageIn.getInterleavedName();
 		String bandName = imageIn.getSingleBandName();
 
-		out.print(
-				"\tpublic static void convert( Planar<"+bandName+"> input , "+outputName+" output ) {\n" +
-				"\n" +
-				"\t\tfinal int numBands = input.getNumBands();\n" +
-				"\t\tfor (int i = 0; i < numBands; i++) {\n" +
-				"\t\t\t"+bandName+" band = input.bands[i];\n" +
-				"\t\t\tfor (int y = 0; y < input.height; y++) {\n" +
-				"\t\t\t\tint indexSrc = y * input.stride + input.startIndex;\n" +
-				"\t\t\t\tint indexDst = y * output.stride + output.startIndex + i;\n" +
-				"\t\t\t\tint end = indexSrc + input.width;\n" +
-				"\t\t\t\t\n" +
-				"\t\t\t\twhile( indexSrc != end ) { \n" +
-				"\t\t\t\t\toutput.data[indexDst] = band.data[indexSrc++];\n" +
-				"\t\t\t\t\tindexDst += numBands;\n" +
-				"\t\t\t\t}\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n\n");
+		printPlanarToInterleaved("convert",outputName,bandName,"band.data[indexSrc++]");
 	}
 
 	private void printPlanarToInterleaved(AutoTypeImage imageIn, AutoTypeImage imageOut) {
@@ -246,29 +267,60 @@ public class GenerateImplConvertImage extends CodeGeneratorBase {
 			typecast = "("+imageOut.getDataType()+")";
 		}
 
-		out.print(
-				"\tpublic static void convert"+type+"( Planar<"+bandName+"> input , "+outputName+" output ) {\n" +
-						"\n" +
-						"\t\tfinal int numBands = input.getNumBands();\n" +
-						"\t\tfor (int i = 0; i < numBands; i++) {\n" +
-						"\t\t\t"+bandName+" band = input.bands[i];\n" +
-						"\t\t\tfor (int y = 0; y < input.height; y++) {\n" +
-						"\t\t\t\tint indexSrc = y * input.stride + input.startIndex;\n" +
-						"\t\t\t\tint indexDst = y * output.stride + output.startIndex + i;\n" +
-						"\t\t\t\tint end = indexSrc + input.width;\n" +
-						"\t\t\t\t\n" +
-						"\t\t\t\twhile( indexSrc != end ) { \n" +
-						"\t\t\t\t\toutput.data[indexDst] = "+typecast+"(band.data[indexSrc++]"+bitwise+");\n" +
-						"\t\t\t\t\tindexDst += numBands;\n" +
-						"\t\t\t\t}\n" +
-						"\t\t\t}\n" +
-						"\t\t}\n" +
-						"\t}\n\n");
+		printPlanarToInterleaved("convert"+type,outputName,bandName,typecast+"(band.data[indexSrc++]"+bitwise+")");
 	}
 
-	public static void main( String args[] ) throws FileNotFoundException {
-		GenerateImplConvertImage app = new GenerateImplConvertImage();
+	private void printPlanarToInterleaved( String funcName , String outputName , String bandName , String value ) {
+		out.print("\tpublic static void "+funcName+"( Planar<"+bandName+"> input , "+outputName+" output ) {\n" +
+				"\n" +
+				"\t\tfinal int numBands = input.getNumBands();\n");
+		if( concurrent ) {
+			out.print(
+					"\t\tBoofConcurrency.loopFor(0, input.height, y -> {\n" +
+					"\t\t\tfor (int i = 0; i < numBands; i++) {\n" +
+					"\t\t\t\t"+bandName+" band = input.bands[i];\n" +
+					"\t\t\t\tint indexSrc = y * input.stride + input.startIndex;\n" +
+					"\t\t\t\tint indexDst = y * output.stride + output.startIndex + i;\n" +
+					"\t\t\t\tint end = indexSrc + input.width;\n" +
+					"\n" +
+					"\t\t\t\twhile( indexSrc != end ) {\n" +
+					"\t\t\t\t\toutput.data[indexDst] = "+value+";\n" +
+					"\t\t\t\t\tindexDst += numBands;\n" +
+					"\t\t\t\t}\n" +
+					"\t\t\t}\n" +
+					"\t\t});\n");
+		} else {
+			out.print(
+					"\t\tfor (int i = 0; i < numBands; i++) {\n" +
+					"\t\t\t"+bandName+" band = input.bands[i];\n" +
+					"\t\t\tfor (int y = 0; y < input.height; y++) {\n" +
+					"\t\t\t\tint indexSrc = y * input.stride + input.startIndex;\n" +
+					"\t\t\t\tint indexDst = y * output.stride + output.startIndex + i;\n" +
+					"\t\t\t\tint end = indexSrc + input.width;\n" +
+					"\t\t\t\t\n" +
+					"\t\t\t\twhile( indexSrc != end ) { \n" +
+					"\t\t\t\t\toutput.data[indexDst] = "+value+";\n" +
+					"\t\t\t\t\tindexDst += numBands;\n" +
+					"\t\t\t\t}\n" +
+					"\t\t\t}\n" +
+					"\t\t}\n");
+		}
+		out.print("\t}\n\n");
+	}
 
-		app.generate();
+	private String loopRowsOpen( String height ) {
+		if( concurrent )
+			return "BoofConcurrency.loopFor(0, "+height+", y -> {";
+		else
+			return "for (int y = 0; y < "+height+"; y++) {";
+	}
+
+	private String loopRowsClose() {
+		return concurrent ? "});" : "}";
+	}
+
+	public static void main( String args[] ) throws FileNotFoundException {
+		new GenerateImplConvertImage(false).generate();
+		new GenerateImplConvertImage(true).generate();
 	}
 }
@@ -57,8 +57,8 @@ public class BlurStorageFilter<T extends ImageBase<T>> implements BlurFilter<T>
 			operation = new MeanOperation();
 			createStorage();
 		} else if( functionName.equals("gaussian")) {
+			// Gaussian blur is computed in bands and doesn't need a full sized intermediate image
 			operation = new GaussianOperation();
-			createStorage();
 		} else if( functionName.equals("median")) {
 			operation = new MedianOperator();
 		} else {
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.transform.census;
+
+import boofcv.abst.filter.FilterImageInterface;
+import boofcv.alg.transform.census.CensusTransform;
+import boofcv.core.image.border.ImageBorder_S32;
+import boofcv.struct.image.GrayI;
+import boofcv.struct.image.GrayS32;
+import boofcv.struct.image.GrayS64;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageGray;
+import boofcv.struct.image.ImageType;
+
+import javax.annotation.Nullable;
+
+/**
+ * Wrapper around {@link CensusTransform} for {@link FilterImageInterface}.
+ *
+ * @author Peter Abeles
+ */
+public abstract class FilterCensusTransform<In extends GrayI<In>, Out extends ImageGray<Out>>
+		implements FilterImageInterface<In, Out>
+{
+	// radius of the region along each axis
+	int radiusX, radiusY;
+	// how the border is handled. if null it's skipped
+	@Nullable ImageBorder_S32<In> border;
+	ImageType<In> inputType;
+	ImageType<Out> outputType;
+
+	protected FilterCensusTransform(int radiusX, int radiusY, @Nullable ImageBorder_S32<In> border,
+									Class<In> inputType, Class<Out> outputType) {
+		this.radiusX = radiusX;
+		this.radiusY = radiusY;
+		this.border = border;
+		this.inputType = ImageType.single(inputType);
+		this.outputType = ImageType.single(outputType);
+	}
+
+	@Override
+	public int getHorizontalBorder() {
+		return border == null ? radiusX : 0;
+	}
+
+	@Override
+	public int getVerticalBorder() {
+		return border == null ? radiusY : 0;
+	}
+
+	@Override
+	public ImageType<In> getInputType() {
+		return inputType;
+	}
+
+	@Override
+	public ImageType<Out> getOutputType() {
+		return outputType;
+	}
+
+	/**
+	 * 3x3 region. Output is 8-bits
+	 */
+	public static class Block3x3 extends FilterCensusTransform<GrayU8,GrayU8> {
+		public Block3x3(@Nullable ImageBorder_S32<GrayU8> border) {
+			super(1, 1, border, GrayU8.class, GrayU8.class);
+		}
+
+		@Override
+		public void process(GrayU8 input, GrayU8 output) {
+			CensusTransform.dense3x3(input,output,border);
+		}
+	}
+
+	/**
+	 * 5x5 region. Output is 24-bits
+	 */
+	public static class Block5x5 extends FilterCensusTransform<GrayU8,GrayS32> {
+		public Block5x5(@Nullable ImageBorder_S32<GrayU8> border) {
+			super(2, 2, border, GrayU8.class, GrayS32.class);
+		}
+
+		@Override
+		public void process(GrayU8 input, GrayS32 output) {
+			CensusTransform.dense5x5(input,output,border);
+		}
+	}
+
+	/**
+	 * 7x7 region. Output is 48-bits
+	 */
+	public static class Block7x7 extends FilterCensusTransform<GrayU8,GrayS64> {
+		public Block7x7(@Nullable ImageBorder_S32<GrayU8> border) {
+			super(3, 3, border, GrayU8.class, GrayS64.class);
+		}
+
+		@Override
+		public void process(GrayU8 input, GrayS64 output) {
+			CensusTransform.dense7x7(input,output,border);
+		}
+	}
+
+	/**
+	 * Region which is 9 pixels wide and 7 pixels tall. Output is 62-bits
+	 */
+	public static class Block9x7 extends FilterCensusTransform<GrayU8,GrayS64> {
+		public Block9x7(@Nullable ImageBorder_S32<GrayU8> border) {
+			super(4, 3, border, GrayU8.class, GrayS64.class);
+		}
+
+		@Override
+		public void process(GrayU8 input, GrayS64 output) {
+			CensusTransform.dense9x7(input,output,border);
+		}
+	}
+}
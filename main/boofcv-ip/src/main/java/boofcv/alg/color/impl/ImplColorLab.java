@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.color.impl;
+
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.Planar;
+
+import static boofcv.alg.color.ColorLab.*;
+import static boofcv.alg.color.impl.ImplColorXyz.*;
+
+/**
+ * <p>
+ * Implementation of image conversions from RGB into CIE LAB.  See {@link boofcv.alg.color.ColorLab}.
+ * </p>
+ *
+ * <p>
+ * The 8-bit conversion avoids computing a cube root with {@link Math#pow} for every pixel.  XYZ is found using the
+ * look up tables in {@link ImplColorXyz} and the cube root is found by linearly interpolating a table and refining
+ * the estimate with a single Newton step.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplColorLab {
+
+	// number of intervals in the cube root table.  Covers the range 0 to 1
+	static final int CBRT_INTERVALS = 1024;
+	static final float[] CBRT = new float[CBRT_INTERVALS+2];
+
+	static {
+		for (int i = 0; i < CBRT.length; i++) {
+			CBRT[i] = (float)Math.cbrt(i/(double)CBRT_INTERVALS);
+		}
+	}
+
+	/**
+	 * The non-linear function used to compute LAB from XYZ relative to the reference white.  The cube root is
+	 * computed using a look up table
+	 *
+	 * @param t X/Xr, Y/Yr, or Z/Zr. Must be &ge; 0 and &le; 1
+	 */
+	static float f( float t ) {
+		if( t <= epsilon_f )
+			return (kappa_f*t + 16.0f)/116.0f;
+
+		float s = t*CBRT_INTERVALS;
+		int i = (int)s;
+		if( i >= CBRT_INTERVALS )
+			i = CBRT_INTERVALS;
+		float c0 = CBRT[i];
+		float c = c0 + (s-i)*(CBRT[i+1]-c0);
+
+		// Newton's method for c^3 - t = 0
+		return (2.0f*c + t/(c*c))/3.0f;
+	}
+
+	/**
+	 * Convert a 3-channel {@link Planar} image from RGB into LAB.  RGB is assumed
+	 * to have a range from 0:255
+	 *
+	 * @param rgb (Input) RGB encoded image
+	 * @param lab (Output) LAB encoded image. L = channel 0, A = channel 1, B = channel 2
+	 */
+	public static void rgbToLab_U8(Planar<GrayU8> rgb , Planar<GrayF32> lab ) {
+
+		GrayU8 R = rgb.getBand(0);
+		GrayU8 G = rgb.getBand(1);
+		GrayU8 B = rgb.getBand(2);
+
+		GrayF32 L_ = lab.getBand(0);
+		GrayF32 A_ = lab.getBand(1);
+		GrayF32 B_ = lab.getBand(2);
+
+		for( int row = 0; row < lab.height; row++ ) {
+			int indexLab = lab.startIndex + row*lab.stride;
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+
+			for( int col = 0; col < lab.width; col++ , indexLab++ , indexRgb++) {
+				int r = R.data[indexRgb]&0xFF;
+				int g = G.data[indexRgb]&0xFF;
+				int b = B.data[indexRgb]&0xFF;
+
+				float X = XR[r] + XG[g] + XB[b];
+				float Y = YR[r] + YG[g] + YB[b];
+				float Z = ZR[r] + ZG[g] + ZB[b];
+
+				float fx = f(X/Xr_f);
+				float fy = f(Y/Yr_f);
+				float fz = f(Z/Zr_f);
+
+				L_.data[indexLab] = 116.0f*fy-16.0f;
+				A_.data[indexLab] = 500.0f*(fx-fy);
+				B_.data[indexLab] = 200.0f*(fy-fz);
+			}
+		}
+	}
+
+	/**
+	 * <p>Convert a 3-channel {@link Planar} image from RGB into LAB.  RGB is assumed
+	 * to have a range from 0:255</p>
+	 *
+	 * @param rgb (Input) RGB encoded image
+	 * @param lab (Output) LAB encoded image.  L = channel 0, A = channel 1, B = channel 2
+	 */
+	public static void rgbToLab_F32(Planar<GrayF32> rgb , Planar<GrayF32> lab ) {
+
+		GrayF32 R = rgb.getBand(0);
+		GrayF32 G = rgb.getBand(1);
+		GrayF32 B = rgb.getBand(2);
+
+		GrayF32 L_ = lab.getBand(0);
+		GrayF32 A_ = lab.getBand(1);
+		GrayF32 B_ = lab.getBand(2);
+
+		for( int row = 0; row < lab.height; row++ ) {
+			int indexLab = lab.startIndex + row*lab.stride;
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+
+			for( int col = 0; col < lab.width; col++ , indexLab++ , indexRgb++) {
+				float r = R.data[indexRgb]/255f;
+				float g = G.data[indexRgb]/255f;
+				float b = B.data[indexRgb]/255f;
+
+				float X = 0.412453f*r + 0.35758f*g + 0.180423f*b;
+				float Y = 0.212671f*r + 0.71516f*g + 0.072169f*b;
+				float Z = 0.019334f*r + 0.119193f*g + 0.950227f*b;
+
+				float xr = X/Xr_f;
+				float yr = Y/Yr_f;
+				float zr = Z/Zr_f;
+
+				float fx, fy, fz;
+				if(xr > epsilon_f)	fx = (float)Math.pow(xr, 1.0f/3.0f);
+				else				fx = (kappa_f*xr + 16.0f)/116.0f;
+				if(yr > epsilon_f)	fy = (float)Math.pow(yr, 1.0/3.0f);
+				else				fy = (kappa_f*yr + 16.0f)/116.0f;
+				if(zr > epsilon_f)	fz = (float)Math.pow(zr, 1.0/3.0f);
+				else				fz = (kappa_f*zr + 16.0f)/116.0f;
+
+				L_.data[indexLab] = 116.0f*fy-16.0f;
+				A_.data[indexLab] = 500.0f*(fx-fy);
+				B_.data[indexLab] = 200.0f*(fy-fz);
+			}
+		}
+	}
+}
@@ -19,13 +19,21 @@
 package boofcv.alg.filter.blur;
 
 import boofcv.alg.InputSanityCheck;
-import boofcv.alg.filter.blur.impl.ImplMedianHistogramInner;
+import boofcv.alg.filter.blur.impl.ImplMedianBucketApprox;
+import boofcv.alg.filter.blur.impl.ImplMedianColumnHistogram;
+import boofcv.alg.filter.blur.impl.ImplMedianColumnHistogram_MT;
 import boofcv.alg.filter.blur.impl.ImplMedianSortEdgeNaive;
 import boofcv.alg.filter.blur.impl.ImplMedianSortNaive;
+import boofcv.alg.filter.convolve.BOverrideConvolveImageNormalized;
 import boofcv.alg.filter.convolve.ConvolveImageMean;
-import boofcv.alg.filter.convolve.ConvolveImageNormalized;
+import boofcv.alg.filter.convolve.GConvolveImageOps;
+import boofcv.alg.filter.convolve.normalized.ConvolveNormalizedBanded;
+import boofcv.alg.filter.convolve.normalized.ConvolveNormalizedBanded_MT;
+import boofcv.alg.misc.ImageStatistics;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.convolve.Kernel1D;
 import boofcv.struct.convolve.Kernel1D_F32;
 import boofcv.struct.convolve.Kernel1D_F64;
 import boofcv.struct.convolve.Kernel1D_S32;
@@ -163,12 +171,8 @@ public class BlurImageOps {
 		boolean processed = BOverrideBlurImageOps.invokeNativeMedian(input, output, radius);
 
 		if( !processed ) {
-			int w = radius * 2 + 1;
-			int offset[] = new int[w * w];
-			int histogram[] = new int[256];
-
-			ImplMedianHistogramInner.process(input, output, radius, offset, histogram);
-			ImplMedianSortEdgeNaive.process(input, output, radius, offset);
+			medianInner(input, output, radius);
+			ImplMedianSortEdgeNaive.process(input, output, radius, null);
 		}
 
 		return output;
@@ -197,6 +201,82 @@ public class BlurImageOps {
 		return output;
 	}
 
+	/**
+	 * Applies an approximate median filter.  Pixel values are put into buckets and the median bucket is found, which
+	 * allows a constant time 8-bit median filter to be used.  Inside the image the error will be at most half the
+	 * width of a bucket.  Along the image border the exact median is computed.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param radius Radius of the median blur function.
+	 * @param numBuckets Number of buckets the range of pixel values is divided into.  2 to 256.
+	 * @return Output blurred image.
+	 */
+	public static GrayF32 median(GrayF32 input, @Nullable GrayF32 output, int radius, int numBuckets ) {
+		if( radius <= 0 )
+			throw new IllegalArgumentException("Radius must be > 0");
+		if( numBuckets < 2 || numBuckets > 256 )
+			throw new IllegalArgumentException("Number of buckets must be from 2 to 256");
+
+		output = InputSanityCheck.checkDeclare(input,output);
+
+		float min = ImageStatistics.min(input);
+		float max = ImageStatistics.max(input);
+
+		GrayU8 buckets = new GrayU8(input.width,input.height);
+		GrayU8 bucketMedian = new GrayU8(input.width,input.height);
+		ImplMedianBucketApprox.quantize(input, min, max, numBuckets, buckets);
+		medianInner(buckets, bucketMedian, radius);
+		ImplMedianBucketApprox.inner(bucketMedian, min, max, numBuckets, radius, output);
+		ImplMedianSortEdgeNaive.process(input, output, radius, null);
+
+		return output;
+	}
+
+	/**
+	 * Applies an approximate median filter.  Pixel values are put into buckets and the median bucket is found, which
+	 * allows a constant time 8-bit median filter to be used.  Inside the image the error will be at most half the
+	 * width of a bucket.  If the range of pixel values is less than the number of buckets then the results are
+	 * exact.  Along the image border the exact median is computed.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param radius Radius of the median blur function.
+	 * @param numBuckets Number of buckets the range of pixel values is divided into.  2 to 256.
+	 * @return Output blurred image.
+	 */
+	public static GrayU16 median(GrayU16 input, @Nullable GrayU16 output, int radius, int numBuckets ) {
+		if( radius <= 0 )
+			throw new IllegalArgumentException("Radius must be > 0");
+		if( numBuckets < 2 || numBuckets > 256 )
+			throw new IllegalArgumentException("Number of buckets must be from 2 to 256");
+
+		output = InputSanityCheck.checkDeclare(input,output);
+
+		int min = ImageStatistics.min(input);
+		int max = ImageStatistics.max(input);
+
+		GrayU8 buckets = new GrayU8(input.width,input.height);
+		GrayU8 bucketMedian = new GrayU8(input.width,input.height);
+		ImplMedianBucketApprox.quantize(input, min, max, numBuckets, buckets);
+		medianInner(buckets, bucketMedian, radius);
+		ImplMedianBucketApprox.inner(bucketMedian, min, max, numBuckets, radius, output);
+		ImplMedianSortEdgeNaive.process(input, output, radius, null);
+
+		return output;
+	}
+
+	/**
+	 * Median filter for the inner image using a constant time algorithm
+	 */
+	private static void medianInner( GrayU8 input , GrayU8 output , int radius ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplMedianColumnHistogram_MT.process(input, output, radius, null);
+		} else {
+			ImplMedianColumnHistogram.process(input, output, radius, null);
+		}
+	}
+
 	/**
 	 * Applies median filter to a {@link Planar}
 	 *
@@ -225,20 +305,19 @@ public class BlurImageOps {
 	 * @param output (Optional) Storage for output image, Can be null.  Modified.
 	 * @param sigma Gaussian distribution's sigma.  If &le; 0 then will be selected based on radius.
 	 * @param radius Radius of the Gaussian blur function. If &le; 0 then radius will be determined by sigma.
-	 * @param storage (Optional) Storage for intermediate results.  Same size as input image.  Can be null.
+	 * @param storage (Optional) Intermediate storage which is only used by native overrides or when convolution
+	 *                is overridden.  Can be null.
 	 * @return Output blurred image.
 	 */
 	public static GrayU8 gaussian(GrayU8 input, @Nullable GrayU8 output, double sigma , int radius,
 								  @Nullable GrayU8 storage ) {
 		output = InputSanityCheck.checkDeclare(input,output);
-		storage = InputSanityCheck.checkDeclare(input,storage,GrayU8.class);
 
 		boolean processed = BOverrideBlurImageOps.invokeNativeGaussian(input, output, sigma,radius, storage);
 
 		if( !processed ) {
 			Kernel1D_S32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_S32.class, sigma, radius);
-			ConvolveImageNormalized.horizontal(kernel, input, storage);
-			ConvolveImageNormalized.vertical(kernel, storage, output);
+			convolveNormalized(kernel, input, output, storage);
 		}
 
 		return output;
@@ -246,16 +325,14 @@ public class BlurImageOps {
 
 	public static InterleavedU8 gaussian(InterleavedU8 input, @Nullable InterleavedU8 output,
 										 double sigma , int radius,
-										 InterleavedU8 storage ) {
+										 @Nullable InterleavedU8 storage ) {
 		output = InputSanityCheck.checkDeclare(input,output);
-		storage = InputSanityCheck.checkDeclare(input,storage);
 
 		boolean processed = BOverrideBlurImageOps.invokeNativeGaussian(input, output, sigma , radius, storage);
 
 		if( !processed ) {
 			Kernel1D_S32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_S32.class,sigma,radius);
-			ConvolveImageNormalized.horizontal(kernel, input, storage);
-			ConvolveImageNormalized.vertical(kernel, storage, output);
+			convolveNormalized(kernel, input, output, storage);
 		}
 
 		return output;
@@ -268,21 +345,20 @@ public class BlurImageOps {
 	 * @param output (Optional) Storage for output image, Can be null.  Modified.
 	 * @param sigma Gaussian distribution's sigma.  If &le; 0 then will be selected based on radius.
 	 * @param radius Radius of the Gaussian blur function. If &le; 0 then radius will be determined by sigma.
-	 * @param storage (Optional) Storage for intermediate results.  Same size as input image.  Can be null.
+	 * @param storage (Optional) Intermediate storage which is only used by native overrides or when convolution
+	 *                is overridden.  Can be null.
 	 * @return Output blurred image.
 	 */
 	public static GrayF32 gaussian(GrayF32 input, @Nullable GrayF32 output,
 								   double sigma , int radius,
 								   @Nullable GrayF32 storage ) {
 		output = InputSanityCheck.checkDeclare(input,output);
-		storage = InputSanityCheck.checkDeclare(input,storage);
 
 		boolean processed = BOverrideBlurImageOps.invokeNativeGaussian(input, output, sigma,radius, storage);
 
 		if( !processed ) {
 			Kernel1D_F32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_F32.class,sigma, radius);
-			ConvolveImageNormalized.horizontal(kernel, input, storage);
-			ConvolveImageNormalized.vertical(kernel, storage, output);
+			convolveNormalized(kernel, input, output, storage);
 		}
 
 		return output;
@@ -295,21 +371,20 @@ public class BlurImageOps {
 	 * @param output (Optional) Storage for output image, Can be null.  Modified.
 	 * @param sigma Gaussian distribution's sigma.  If &le; 0 then will be selected based on radius.
 	 * @param radius Radius of the Gaussian blur function. If &le; 0 then radius will be determined by sigma.
-	 * @param storage (Optional) Storage for intermediate results.  Same size as input image.  Can be null.
+	 * @param storage (Optional) Intermediate storage which is only used by native overrides or when convolution
+	 *                is overridden.  Can be null.
 	 * @return Output blurred image.
 	 */
 	public static GrayF64 gaussian(GrayF64 input, @Nullable GrayF64 output,
 								   double sigma , int radius,
 								   @Nullable GrayF64 storage ) {
 		output = InputSanityCheck.checkDeclare(input,output);
-		storage = InputSanityCheck.checkDeclare(input,storage);
 
 		boolean processed = BOverrideBlurImageOps.invokeNativeGaussian(input, output, sigma,radius, storage);
 
 		if( !processed ) {
 			Kernel1D_F64 kernel = FactoryKernelGaussian.gaussian(Kernel1D_F64.class,sigma, radius);
-			ConvolveImageNormalized.horizontal(kernel, input, storage);
-			ConvolveImageNormalized.vertical(kernel, storage, output);
+			convolveNormalized(kernel, input, output, storage);
 		}
 
 		return output;
@@ -318,14 +393,12 @@ public class BlurImageOps {
 	public static InterleavedF32 gaussian(InterleavedF32 input, @Nullable InterleavedF32 output,
 										  double sigma , int radius, @Nullable InterleavedF32 storage ) {
 		output = InputSanityCheck.checkDeclare(input,output);
-		storage = InputSanityCheck.checkDeclare(input,storage);
 
 		boolean processed = BOverrideBlurImageOps.invokeNativeGaussian(input, output, sigma,radius, storage);
 
 		if( !processed ) {
 			Kernel1D_F32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_F32.class,sigma,radius);
-			ConvolveImageNormalized.horizontal(kernel, input, storage);
-			ConvolveImageNormalized.vertical(kernel, storage, output);
+			convolveNormalized(kernel, input, output, storage);
 		}
 
 		return output;
@@ -334,19 +407,35 @@ public class BlurImageOps {
 	public static InterleavedF64 gaussian(InterleavedF64 input, @Nullable InterleavedF64 output,
 										  double sigma , int radius, @Nullable InterleavedF64 storage ) {
 		output = InputSanityCheck.checkDeclare(input,output);
-		storage = InputSanityCheck.checkDeclare(input,storage);
 
 		boolean processed = BOverrideBlurImageOps.invokeNativeGaussian(input, output, sigma,radius, storage);
 
 		if( !processed ) {
 			Kernel1D_F64 kernel = FactoryKernelGaussian.gaussian(Kernel1D_F64.class,sigma,radius);
-			ConvolveImageNormalized.horizontal(kernel, input, storage);
-			ConvolveImageNormalized.vertical(kernel, storage, output);
+			convolveNormalized(kernel, input, output, storage);
 		}
 
 		return output;
 	}
 
+	/**
+	 * Applies a normalized convolution along the x-axis and then the y-axis. The two passes are fused into bands
+	 * of rows, unless {@link BOverrideConvolveImageNormalized} has a horizontal or vertical override.  Those
+	 * expect each pass to be applied to the entire image, so the passes are then done separately.
+	 */
+	private static <T extends ImageBase<T>>
+	void convolveNormalized( Kernel1D kernel , T input , T output , @Nullable T storage ) {
+		if( BOverrideConvolveImageNormalized.horizontal != null || BOverrideConvolveImageNormalized.vertical != null ) {
+			storage = InputSanityCheck.checkDeclare(input,storage);
+			GConvolveImageOps.horizontalNormalized(kernel, input, storage);
+			GConvolveImageOps.verticalNormalized(kernel, storage, output);
+		} else if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveNormalizedBanded_MT.convolve(kernel, kernel, input, output);
+		} else {
+			ConvolveNormalizedBanded.convolve(kernel, kernel, input, output);
+		}
+	}
+
 	/**
 	 * Applies Gaussian blur to a {@link Planar}
 	 *
@@ -354,15 +443,14 @@ public class BlurImageOps {
 	 * @param output (Optional) Storage for output image, Can be null.  Modified.
 	 * @param sigma Gaussian distribution's sigma.  If &le; 0 then will be selected based on radius.
 	 * @param radius Radius of the Gaussian blur function. If &le; 0 then radius will be determined by sigma.
-	 * @param storage (Optional) Storage for intermediate results.  Same size as input image.  Can be null.
+	 * @param storage (Optional) Intermediate storage which is only used by native overrides or when convolution
+	 *                is overridden.  Can be null.
 	 * @param <T> Input image type.
 	 * @return Output blurred image.
 	 */
 	public static <T extends ImageGray<T>>
 	Planar<T> gaussian(Planar<T> input, @Nullable Planar<T> output, double sigma , int radius, @Nullable T storage ) {
 
-		if( storage == null )
-			storage = GeneralizedImageOps.createSingleBand(input.getBandType(), input.width, input.height);
 		if( output == null )
 			output = input.createNew(input.width,input.height);
 
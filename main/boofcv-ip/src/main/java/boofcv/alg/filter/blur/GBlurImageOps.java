@@ -86,7 +86,7 @@ public class GBlurImageOps {
 	 * @param output (Optional) Storage for output image, Can be null.  Modified.
 	 * @param sigma Gaussian distribution's sigma.  If &le; 0 then will be selected based on radius.
 	 * @param radius Radius of the Gaussian blur function. If &le; 0 then radius will be determined by sigma.
-	 * @param storage (Optional) Storage for intermediate results.  Same size as input image.  Can be null.
+	 * @param storage (Optional) Intermediate storage which is only used by native overrides.  Can be null.
 	 * @param <T> Input image type.
 	 * @return Output blurred image.
 	 */
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU16;
+import boofcv.struct.image.GrayU8;
+
+/**
+ * <p>
+ * Functions for computing an approximate median by first converting pixel values into bucket indexes.  The
+ * median of the bucket image is found using a fast 8-bit median filter, e.g. {@link ImplMedianColumnHistogram},
+ * and is then converted back into a pixel value.  Since the conversion preserves ordering, the median bucket is the
+ * bucket which contains the true median.  The error is at most half a bucket's width.
+ * </p>
+ *
+ * <p>
+ * Only the inner portion of the image is written to when converting back into pixel values.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplMedianBucketApprox {
+
+	/**
+	 * Converts each pixel into the index of the bucket it falls inside of
+	 *
+	 * @param input Input image. Not modified.
+	 * @param min Minimum pixel value in the image
+	 * @param max Maximum pixel value in the image
+	 * @param numBuckets Number of buckets.  2 to 256.
+	 * @param buckets Output bucket image.  Modified.
+	 */
+	public static void quantize( GrayF32 input , float min , float max , int numBuckets , GrayU8 buckets ) {
+		final float bucketWidth = (max-min)/numBuckets;
+		final float scale = bucketWidth == 0 ? 0 : 1.0f/bucketWidth;
+
+		for( int y = 0; y < input.height; y++ ) {
+			int indexIn = input.startIndex + y*input.stride;
+			int indexOut = buckets.startIndex + y*buckets.stride;
+			for( int x = 0; x < input.width; x++ ) {
+				int bucket = (int)((input.data[indexIn++]-min)*scale);
+				if( bucket >= numBuckets )
+					bucket = numBuckets-1;
+				buckets.data[indexOut++] = (byte)bucket;
+			}
+		}
+	}
+
+	/**
+	 * Converts the median bucket index back into a pixel value at the center of the bucket.  Only the inner
+	 * portion of the image is written to.
+	 *
+	 * @param buckets Median bucket image. Not modified.
+	 * @param min Minimum pixel value in the image
+	 * @param max Maximum pixel value in the image
+	 * @param numBuckets Number of buckets.
+	 * @param radius Radius of the median filter.
+	 * @param output Output image.  Modified.
+	 */
+	public static void inner( GrayU8 buckets , float min , float max , int numBuckets , int radius , GrayF32 output ) {
+		final float bucketWidth = (max-min)/numBuckets;
+
+		for( int y = radius; y < output.height-radius; y++ ) {
+			int indexIn = buckets.startIndex + y*buckets.stride + radius;
+			int indexOut = output.startIndex + y*output.stride + radius;
+			for( int x = radius; x < output.width-radius; x++ ) {
+				int bucket = buckets.data[indexIn++] & 0xFF;
+				output.data[indexOut++] = Math.min(max, min + (bucket+0.5f)*bucketWidth);
+			}
+		}
+	}
+
+	/**
+	 * Converts each pixel into the index of the bucket it falls inside of.  If there are fewer possible values
+	 * than buckets then each value gets its own bucket and the results will be exact.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param min Minimum pixel value in the image
+	 * @param max Maximum pixel value in the image
+	 * @param numBuckets Number of buckets.  2 to 256.
+	 * @param buckets Output bucket image.  Modified.
+	 */
+	public static void quantize( GrayU16 input , int min , int max , int numBuckets , GrayU8 buckets ) {
+		final int bucketWidth = bucketWidth(min, max, numBuckets);
+
+		for( int y = 0; y < input.height; y++ ) {
+			int indexIn = input.startIndex + y*input.stride;
+			int indexOut = buckets.startIndex + y*buckets.stride;
+			for( int x = 0; x < input.width; x++ ) {
+				int value = input.data[indexIn++] & 0xFFFF;
+				buckets.data[indexOut++] = (byte)((value-min)/bucketWidth);
+			}
+		}
+	}
+
+	/**
+	 * Converts the median bucket index back into a pixel value at the center of the bucket.  Only the inner
+	 * portion of the image is written to.
+	 *
+	 * @param buckets Median bucket image. Not modified.
+	 * @param min Minimum pixel value in the image
+	 * @param max Maximum pixel value in the image
+	 * @param numBuckets Number of buckets.
+	 * @param radius Radius of the median filter.
+	 * @param output Output image.  Modified.
+	 */
+	public static void inner( GrayU8 buckets , int min , int max , int numBuckets , int radius , GrayU16 output ) {
+		final int bucketWidth = bucketWidth(min, max, numBuckets);
+
+		for( int y = radius; y < output.height-radius; y++ ) {
+			int indexIn = buckets.startIndex + y*buckets.stride + radius;
+			int indexOut = output.startIndex + y*output.stride + radius;
+			for( int x = radius; x < output.width-radius; x++ ) {
+				int bucket = buckets.data[indexIn++] & 0xFF;
+				output.data[indexOut++] = (short)Math.min(max, min + bucket*bucketWidth + bucketWidth/2);
+			}
+		}
+	}
+
+	/**
+	 * Smallest integer bucket width which will fit all the values into the buckets
+	 */
+	static int bucketWidth( int min , int max , int numBuckets ) {
+		return (max-min)/numBuckets + 1;
+	}
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.struct.image.GrayU8;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Median filter for the inner portion of the image which takes constant time per pixel, independent of the radius.
+ * A histogram is maintained for each column and is updated by one pixel as it moves down a row.  The histogram
+ * of the square region is then updated by adding and removing entire column histograms.  Two levels of histograms
+ * are used, a coarse one with 16 bins and a fine one with 256 bins.  Only the coarse histogram is updated for
+ * every pixel while the fine histogram is updated lazily, only for the coarse bin that the median falls in.
+ * </p>
+ *
+ * <p>
+ * To keep the column histograms in the cache the image is processed in vertical tiles, which are
+ * {@link #TILE_WIDTH} pixels wide by default.
+ * </p>
+ *
+ * <p>
+ * Perreault, Simon, and Patrick Hebert. "Median filtering in constant time." IEEE Transactions on Image
+ * Processing 16.9 (2007): 2389-2394.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplMedianColumnHistogram {
+
+	/**
+	 * Default number of output pixels in each tile along the x-axis
+	 */
+	public static final int TILE_WIDTH = 256;
+
+	/**
+	 * Applies a median image filter to the inner portion of the image.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Filtered output image. Modified.
+	 * @param radius Size of the filter region.
+	 * @param work (Optional) Storage for the histograms. Can be null.
+	 */
+	public static void process( GrayU8 input , GrayU8 output , int radius , @Nullable Workspace work ) {
+		if( work == null )
+			work = new Workspace();
+
+		processRows(input, output, radius, radius, input.height-radius, TILE_WIDTH, work);
+	}
+
+	/**
+	 * Applies the median filter to a range of rows in the inner portion of the image.
+	 *
+	 * @param y0 First row, inclusive.  Must be &ge; radius.
+	 * @param y1 Last row, exclusive.  Must be &le; height-radius.
+	 * @param tileWidth Number of output pixels in each tile along the x-axis, e.g. {@link #TILE_WIDTH}
+	 */
+	public static void processRows( GrayU8 input , GrayU8 output , int radius , int y0 , int y1 ,
+									int tileWidth , Workspace work ) {
+		final int x1 = input.width-radius;
+		for( int tileX0 = radius; tileX0 < x1; tileX0 += tileWidth ) {
+			int tileX1 = Math.min(x1, tileX0+tileWidth);
+			processTile(input, output, radius, tileX0, tileX1, y0, y1, work);
+		}
+	}
+
+	private static void processTile( GrayU8 input , GrayU8 output , int radius ,
+									 int tileX0 , int tileX1 , int y0 , int y1 , Workspace work ) {
+		if( y0 >= y1 )
+			return;
+
+		// columns which are inside the region of at least one pixel in the tile
+		final int colX0 = tileX0-radius;
+		final int numCols = tileX1+radius-colX0;
+
+		work.resize(numCols);
+		final int[] colFine = work.colFine;
+		final int[] colCoarse = work.colCoarse;
+
+		Arrays.fill(colFine, 0, numCols*256, 0);
+		Arrays.fill(colCoarse, 0, numCols*16, 0);
+
+		// fill in the column histograms for the first row
+		for( int y = y0-radius; y <= y0+radius; y++ ) {
+			int indexIn = input.startIndex + y*input.stride + colX0;
+			for( int i = 0; i < numCols; i++ ) {
+				int v = input.data[indexIn++] & 0xFF;
+				colFine[i*256 + v]++;
+				colCoarse[i*16 + (v >> 4)]++;
+			}
+		}
+
+		for( int y = y0; y < y1; y++ ) {
+			if( y > y0 ) {
+				// move the column histograms down one row
+				int indexRemove = input.startIndex + (y-radius-1)*input.stride + colX0;
+				int indexAdd = input.startIndex + (y+radius)*input.stride + colX0;
+				for( int i = 0; i < numCols; i++ ) {
+					int v = input.data[indexRemove++] & 0xFF;
+					colFine[i*256 + v]--;
+					colCoarse[i*16 + (v >> 4)]--;
+					v = input.data[indexAdd++] & 0xFF;
+					colFine[i*256 + v]++;
+					colCoarse[i*16 + (v >> 4)]++;
+				}
+			}
+
+			processRow(output, radius, tileX0, tileX1, y, work);
+		}
+	}
+
+	private static void processRow( GrayU8 output , int radius , int tileX0 , int tileX1 , int y , Workspace work ) {
+		final int w = 2*radius+1;
+		final int threshold = (w*w)/2+1;
+
+		final int[] colFine = work.colFine;
+		final int[] colCoarse = work.colCoarse;
+		final int[] coarse = work.coarse;
+		final int[] fine = work.fine;
+		final int[] fineColumn = work.fineColumn;
+
+		// compute the coarse histogram for the first pixel
+		Arrays.fill(coarse, 0);
+		for( int i = 0; i < w; i++ ) {
+			for( int j = 0; j < 16; j++ ) {
+				coarse[j] += colCoarse[i*16 + j];
+			}
+		}
+		// mark all the fine histograms as out of date
+		Arrays.fill(fineColumn, -w);
+
+		int indexOut = output.startIndex + y*output.stride + tileX0;
+		for( int x = tileX0; x < tileX1; x++ ) {
+			// index of the column at the center of the region
+			final int c = x - tileX0 + radius;
+
+			if( x > tileX0 ) {
+				int indexAdd = (c+radius)*16;
+				int indexRemove = (c-radius-1)*16;
+				for( int j = 0; j < 16; j++ ) {
+					coarse[j] += colCoarse[indexAdd+j] - colCoarse[indexRemove+j];
+				}
+			}
+
+			// find the coarse bin which contains the median
+			int count = 0;
+			int bin;
+			for( bin = 0; bin < 16; bin++ ) {
+				if( count + coarse[bin] >= threshold )
+					break;
+				count += coarse[bin];
+			}
+
+			// bring the fine histogram for this bin up to date
+			final int fine0 = bin*16;
+			if( c - fineColumn[bin] > 2*radius ) {
+				Arrays.fill(fine, fine0, fine0+16, 0);
+				for( int i = c-radius; i <= c+radius; i++ ) {
+					int indexCol = i*256 + fine0;
+					for( int j = 0; j < 16; j++ ) {
+						fine[fine0+j] += colFine[indexCol+j];
+					}
+				}
+			} else {
+				for( int i = fineColumn[bin]+1; i <= c; i++ ) {
+					int indexAdd = (i+radius)*256 + fine0;
+					int indexRemove = (i-radius-1)*256 + fine0;
+					for( int j = 0; j < 16; j++ ) {
+						fine[fine0+j] += colFine[indexAdd+j] - colFine[indexRemove+j];
+					}
+				}
+			}
+			fineColumn[bin] = c;
+
+			int median;
+			for( median = fine0; median < fine0+15; median++ ) {
+				count += fine[median];
+				if( count >= threshold )
+					break;
+			}
+			output.data[indexOut++] = (byte)median;
+		}
+	}
+
+	/**
+	 * Storage for histograms.
+	 */
+	public static class Workspace {
+		// histogram for each column. fine has 256 bins and coarse 16
+		int[] colFine = new int[0];
+		int[] colCoarse = new int[0];
+		// histogram of the square region
+		int[] coarse = new int[16];
+		int[] fine = new int[256];
+		// column at which each section of the fine histogram was last updated
+		int[] fineColumn = new int[16];
+
+		void resize( int numCols ) {
+			if( colCoarse.length < numCols*16 ) {
+				colFine = new int[numCols*256];
+				colCoarse = new int[numCols*16];
+			}
+		}
+	}
+}
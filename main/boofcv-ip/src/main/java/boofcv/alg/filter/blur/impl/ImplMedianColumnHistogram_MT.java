@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayU8;
+import org.ddogleg.struct.FastQueue;
+
+import javax.annotation.Nullable;
+
+/**
+ * Concurrent implementation of {@link ImplMedianColumnHistogram}.  The inner image is split into blocks of rows
+ * and each thread has its own column histograms.
+ *
+ * @author Peter Abeles
+ */
+public class ImplMedianColumnHistogram_MT {
+
+	/**
+	 * @see ImplMedianColumnHistogram#process
+	 *
+	 * @param workspaces (Optional) Storage for each thread's histograms. Can be null.
+	 */
+	public static void process( GrayU8 input , GrayU8 output , int radius ,
+								@Nullable FastQueue<ImplMedianColumnHistogram.Workspace> workspaces ) {
+		if( workspaces == null )
+			workspaces = new FastQueue<>(ImplMedianColumnHistogram.Workspace.class, true);
+
+		// each block needs to initialize its column histograms, so don't make the blocks too small
+		int minBlock = 2*radius+1;
+
+		BoofConcurrency.loopBlocks(radius, input.height-radius, minBlock, workspaces, (work, y0, y1) ->
+				ImplMedianColumnHistogram.processRows(input, output, radius, y0, y1,
+						ImplMedianColumnHistogram.TILE_WIDTH, work));
+	}
+}
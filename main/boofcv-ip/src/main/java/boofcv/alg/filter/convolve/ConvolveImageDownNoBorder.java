@@ -19,6 +19,7 @@
 package boofcv.alg.filter.convolve;
 
 import boofcv.alg.filter.convolve.down.*;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.convolve.Kernel1D_F32;
 import boofcv.struct.convolve.Kernel1D_S32;
 import boofcv.struct.convolve.Kernel2D_F32;
@@ -33,6 +34,11 @@ import boofcv.struct.image.*;
  * resulting in it being at a lower resolution.  A typical application for this is down sampling
  * inside an image pyramid.
  * </p>
+ *
+ * <p>
+ * If {@link BoofConcurrency#USE_CONCURRENT} is true then rows are processed concurrently for kernels
+ * with an unrolled implementation.
+ * </p>
  * 
  * @author Peter Abeles
  */
@@ -41,120 +47,210 @@ public class ConvolveImageDownNoBorder {
 	public static void horizontal(Kernel1D_F32 kernel , GrayF32 input, GrayF32 output , int skip ) {
 		checkParametersH(input,output,skip);
 
-		if( !ConvolveDownNoBorderUnrolled_F32_F32.horizontal(kernel,input,output,skip)) {
-			ConvolveDownNoBorderStandard.horizontal(kernel,input,output,skip);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			if( !ConvolveDownNoBorderUnrolled_MT_F32_F32.horizontal(kernel,input,output,skip)) {
+				ConvolveDownNoBorderStandard.horizontal(kernel,input,output,skip);
+			}
+		} else {
+			if( !ConvolveDownNoBorderUnrolled_F32_F32.horizontal(kernel,input,output,skip)) {
+				ConvolveDownNoBorderStandard.horizontal(kernel,input,output,skip);
+			}
 		}
 	}
 
 	public static void vertical(Kernel1D_F32 kernel , GrayF32 input, GrayF32 output , int skip ) {
 		checkParametersV(input,output,skip);
 
-		if( !ConvolveDownNoBorderUnrolled_F32_F32.vertical(kernel,input,output,skip)) {
-			ConvolveDownNoBorderStandard.vertical(kernel,input,output,skip);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			if( !ConvolveDownNoBorderUnrolled_MT_F32_F32.vertical(kernel,input,output,skip)) {
+				ConvolveDownNoBorderStandard.vertical(kernel,input,output,skip);
+			}
+		} else {
+			if( !ConvolveDownNoBorderUnrolled_F32_F32.vertical(kernel,input,output,skip)) {
+				ConvolveDownNoBorderStandard.vertical(kernel,input,output,skip);
+			}
 		}
 	}
 
 	public static void convolve(Kernel2D_F32 kernel , GrayF32 input, GrayF32 output , int skip ) {
 		checkParameters(input,output,skip);
 
-		if( !ConvolveDownNoBorderUnrolled_F32_F32.convolve(kernel,input,output,skip)) {
-			ConvolveDownNoBorderStandard.convolve(kernel,input,output,skip);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			if( !ConvolveDownNoBorderUnrolled_MT_F32_F32.convolve(kernel,input,output,skip)) {
+				ConvolveDownNoBorderStandard.convolve(kernel,input,output,skip);
+			}
+		} else {
+			if( !ConvolveDownNoBorderUnrolled_F32_F32.convolve(kernel,input,output,skip)) {
+				ConvolveDownNoBorderStandard.convolve(kernel,input,output,skip);
+			}
 		}
 	}
 
 	public static void horizontal(Kernel1D_S32 kernel , GrayU8 input, GrayI16 output , int skip ) {
 		checkParametersH(input,output,skip);
 
-		if( !ConvolveDownNoBorderUnrolled_U8_I16.horizontal(kernel,input,output,skip)) {
-			ConvolveDownNoBorderStandard.horizontal(kernel,input,output,skip);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			if( !ConvolveDownNoBorderUnrolled_MT_U8_I16.horizontal(kernel,input,output,skip)) {
+				ConvolveDownNoBorderStandard.horizontal(kernel,input,output,skip);
+			}
+		} else {
+			if( !ConvolveDownNoBorderUnrolled_U8_I16.horizontal(kernel,input,output,skip)) {
+				ConvolveDownNoBorderStandard.horizontal(kernel,input,output,skip);
+			}
 		}
 	}
 
 	public static void vertical(Kernel1D_S32 kernel , GrayU8 input, GrayI16 output , int skip ) {
 		checkParametersV(input,output,skip);
 
-		if( !ConvolveDownNoBorderUnrolled_U8_I16.vertical(kernel,input,output,skip)) {
-			ConvolveDownNoBorderStandard.vertical(kernel,input,output,skip);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			if( !ConvolveDownNoBorderUnrolled_MT_U8_I16.vertical(kernel,input,output,skip)) {
+				ConvolveDownNoBorderStandard.vertical(kernel,input,output,skip);
+			}
+		} else {
+			if( !ConvolveDownNoBorderUnrolled_U8_I16.vertical(kernel,input,output,skip)) {
+				ConvolveDownNoBorderStandard.vertical(kernel,input,output,skip);
+			}
 		}
 	}
 
 	public static void convolve(Kernel2D_S32 kernel , GrayU8 input, GrayI16 output , int skip ) {
 		checkParameters(input,output,skip);
 
-		if( !ConvolveDownNoBorderUnrolled_U8_I16.convolve(kernel,input,output,skip)) {
-			ConvolveDownNoBorderStandard.convolve(kernel,input,output,skip);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			if( !ConvolveDownNoBorderUnrolled_MT_U8_I16.convolve(kernel,input,output,skip)) {
+				ConvolveDownNoBorderStandard.convolve(kernel,input,output,skip);
+			}
+		} else {
+			if( !ConvolveDownNoBorderUnrolled_U8_I16.convolve(kernel,input,output,skip)) {
+				ConvolveDownNoBorderStandard.convolve(kernel,input,output,skip);
+			}
 		}
 	}
 
 	public static void horizontal(Kernel1D_S32 kernel , GrayS16 input, GrayI16 output , int skip ) {
 		checkParametersH(input,output,skip);
 
-		if( !ConvolveDownNoBorderUnrolled_S16_I16.horizontal(kernel,input,output,skip)) {
-			ConvolveDownNoBorderStandard.horizontal(kernel,input,output,skip);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			if( !ConvolveDownNoBorderUnrolled_MT_S16_I16.horizontal(kernel,input,output,skip)) {
+				ConvolveDownNoBorderStandard.horizontal(kernel,input,output,skip);
+			}
+		} else {
+			if( !ConvolveDownNoBorderUnrolled_S16_I16.horizontal(kernel,input,output,skip)) {
+				ConvolveDownNoBorderStandard.horizontal(kernel,input,output,skip);
+			}
 		}
 	}
 
 	public static void vertical(Kernel1D_S32 kernel , GrayS16 input, GrayI16 output , int skip ) {
 		checkParametersV(input,output,skip);
 
-		if( !ConvolveDownNoBorderUnrolled_S16_I16.vertical(kernel,input,output,skip)) {
-			ConvolveDownNoBorderStandard.vertical(kernel,input,output,skip);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			if( !ConvolveDownNoBorderUnrolled_MT_S16_I16.vertical(kernel,input,output,skip)) {
+				ConvolveDownNoBorderStandard.vertical(kernel,input,output,skip);
+			}
+		} else {
+			if( !ConvolveDownNoBorderUnrolled_S16_I16.vertical(kernel,input,output,skip)) {
+				ConvolveDownNoBorderStandard.vertical(kernel,input,output,skip);
+			}
 		}
 	}
 
 	public static void convolve(Kernel2D_S32 kernel , GrayS16 input, GrayI16 output , int skip ) {
 		checkParameters(input,output,skip);
 
-		if( !ConvolveDownNoBorderUnrolled_S16_I16.convolve(kernel,input,output,skip)) {
-			ConvolveDownNoBorderStandard.convolve(kernel,input,output,skip);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			if( !ConvolveDownNoBorderUnrolled_MT_S16_I16.convolve(kernel,input,output,skip)) {
+				ConvolveDownNoBorderStandard.convolve(kernel,input,output,skip);
+			}
+		} else {
+			if( !ConvolveDownNoBorderUnrolled_S16_I16.convolve(kernel,input,output,skip)) {
+				ConvolveDownNoBorderStandard.convolve(kernel,input,output,skip);
+			}
 		}
 	}
 
 	public static void horizontal(Kernel1D_S32 kernel , GrayU8 input, GrayI8 output , int skip , int divisor ) {
 		checkParametersH(input,output,skip);
 
-		if( !ConvolveDownNoBorderUnrolled_U8_I8_Div.horizontal(kernel,input,output,skip,divisor)) {
-			ConvolveDownNoBorderStandard.horizontal(kernel,input,output,skip,divisor);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			if( !ConvolveDownNoBorderUnrolled_MT_U8_I8_Div.horizontal(kernel,input,output,skip,divisor)) {
+				ConvolveDownNoBorderStandard.horizontal(kernel,input,output,skip,divisor);
+			}
+		} else {
+			if( !ConvolveDownNoBorderUnrolled_U8_I8_Div.horizontal(kernel,input,output,skip,divisor)) {
+				ConvolveDownNoBorderStandard.horizontal(kernel,input,output,skip,divisor);
+			}
 		}
 	}
 
 	public static void vertical(Kernel1D_S32 kernel , GrayU8 input, GrayI8 output , int skip , int divisor ) {
 		checkParametersV(input,output,skip);
 
-		if( !ConvolveDownNoBorderUnrolled_U8_I8_Div.vertical(kernel,input,output,skip,divisor)) {
-			ConvolveDownNoBorderStandard.vertical(kernel,input,output,skip,divisor);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			if( !ConvolveDownNoBorderUnrolled_MT_U8_I8_Div.vertical(kernel,input,output,skip,divisor)) {
+				ConvolveDownNoBorderStandard.vertical(kernel,input,output,skip,divisor);
+			}
+		} else {
+			if( !ConvolveDownNoBorderUnrolled_U8_I8_Div.vertical(kernel,input,output,skip,divisor)) {
+				ConvolveDownNoBorderStandard.vertical(kernel,input,output,skip,divisor);
+			}
 		}
 	}
 
 	public static void convolve(Kernel2D_S32 kernel , GrayU8 input, GrayI8 output , int skip , int divisor ) {
 		checkParameters(input,output,skip);
 
-		if( !ConvolveDownNoBorderUnrolled_U8_I8_Div.convolve(kernel,input,output,skip,divisor)) {
-			ConvolveDownNoBorderStandard.convolve(kernel,input,output,skip,divisor);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			if( !ConvolveDownNoBorderUnrolled_MT_U8_I8_Div.convolve(kernel,input,output,skip,divisor)) {
+				ConvolveDownNoBorderStandard.convolve(kernel,input,output,skip,divisor);
+			}
+		} else {
+			if( !ConvolveDownNoBorderUnrolled_U8_I8_Div.convolve(kernel,input,output,skip,divisor)) {
+				ConvolveDownNoBorderStandard.convolve(kernel,input,output,skip,divisor);
+			}
 		}
 	}
 
 	public static void horizontal(Kernel1D_S32 kernel , GrayS16 input, GrayI16 output , int skip , int divisor ) {
 		checkParametersH(input,output,skip);
 
-		if( !ConvolveDownNoBorderUnrolled_S16_I16_Div.horizontal(kernel,input,output,skip,divisor)) {
-			ConvolveDownNoBorderStandard.horizontal(kernel,input,output,skip,divisor);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			if( !ConvolveDownNoBorderUnrolled_MT_S16_I16_Div.horizontal(kernel,input,output,skip,divisor)) {
+				ConvolveDownNoBorderStandard.horizontal(kernel,input,output,skip,divisor);
+			}
+		} else {
+			if( !ConvolveDownNoBorderUnrolled_S16_I16_Div.horizontal(kernel,input,output,skip,divisor)) {
+				ConvolveDownNoBorderStandard.horizontal(kernel,input,output,skip,divisor);
+			}
 		}
 	}
 
 	public static void vertical(Kernel1D_S32 kernel , GrayS16 input, GrayI16 output , int skip , int divisor ) {
 		checkParametersV(input,output,skip);
 
-		if( !ConvolveDownNoBorderUnrolled_S16_I16_Div.vertical(kernel,input,output,skip,divisor)) {
-			ConvolveDownNoBorderStandard.vertical(kernel,input,output,skip,divisor);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			if( !ConvolveDownNoBorderUnrolled_MT_S16_I16_Div.vertical(kernel,input,output,skip,divisor)) {
+				ConvolveDownNoBorderStandard.vertical(kernel,input,output,skip,divisor);
+			}
+		} else {
+			if( !ConvolveDownNoBorderUnrolled_S16_I16_Div.vertical(kernel,input,output,skip,divisor)) {
+				ConvolveDownNoBorderStandard.vertical(kernel,input,output,skip,divisor);
+			}
 		}
 	}
 
 	public static void convolve(Kernel2D_S32 kernel , GrayS16 input, GrayI16 output , int skip , int divisor ) {
 		checkParameters(input,output,skip);
 
-		if( !ConvolveDownNoBorderUnrolled_S16_I16_Div.convolve(kernel,input,output,skip,divisor)) {
-			ConvolveDownNoBorderStandard.convolve(kernel,input,output,skip,divisor);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			if( !ConvolveDownNoBorderUnrolled_MT_S16_I16_Div.convolve(kernel,input,output,skip,divisor)) {
+				ConvolveDownNoBorderStandard.convolve(kernel,input,output,skip,divisor);
+			}
+		} else {
+			if( !ConvolveDownNoBorderUnrolled_S16_I16_Div.convolve(kernel,input,output,skip,divisor)) {
+				ConvolveDownNoBorderStandard.convolve(kernel,input,output,skip,divisor);
+			}
 		}
 	}
 	public static void checkParametersH(ImageGray input , ImageGray output , int skip ) {
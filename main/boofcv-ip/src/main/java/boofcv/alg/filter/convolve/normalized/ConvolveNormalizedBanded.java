@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.convolve.normalized;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.alg.filter.convolve.ConvolveImageNoBorder;
+import boofcv.alg.filter.convolve.GConvolveImageOps;
+import boofcv.alg.filter.kernel.KernelMath;
+import boofcv.struct.convolve.Kernel1D;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_F64;
+import boofcv.struct.convolve.Kernel1D_S32;
+import boofcv.struct.image.*;
+
+/**
+ * <p>
+ * Applies a separable normalized convolution, a horizontal pass followed by a vertical pass, without
+ * storing the horizontal result for the entire image.  The image is processed in bands of rows. For each band
+ * the horizontal pass is applied to just the rows the vertical kernel will touch and the results are kept in a
+ * small buffer which stays in the cache.  The vertical pass reads from that buffer and writes directly into the
+ * band's rows in the output image.  The output is identical to calling
+ * {@link boofcv.alg.filter.convolve.ConvolveImageNormalized#horizontal} then
+ * {@link boofcv.alg.filter.convolve.ConvolveImageNormalized#vertical} on the whole image.
+ * </p>
+ *
+ * <p>
+ * Rows which overlap two bands go through the horizontal pass twice.  The band height is selected by
+ * {@link #selectBandHeight} so that the buffer fits inside of {@link #BAND_BYTES} while keeping the
+ * overlap a small fraction of the band.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ConvolveNormalizedBanded {
+	/**
+	 * Approximate size in bytes of the horizontal buffer for a single band. Selected so that it will stay inside
+	 * a typical L2 cache.
+	 */
+	public static final int BAND_BYTES = 256*1024;
+
+	/**
+	 * A band will have at least this many times as many rows as it shares with its neighbors
+	 */
+	public static final int MIN_OVERLAP_RATIO = 8;
+
+	/**
+	 * Convolves the image with a horizontal then a vertical kernel.
+	 *
+	 * @param kernelX Kernel applied along each row. Not modified.
+	 * @param kernelY Kernel applied along each column. Not modified.
+	 * @param input The original image. Not modified.
+	 * @param output Where the resulting image is written to. Modified.
+	 */
+	public static <T extends ImageBase<T>>
+	void convolve( Kernel1D kernelX , Kernel1D kernelY , T input , T output ) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		T bandH = input.createNew(1,1);
+		process(kernelX, kernelY, input, output, 0, input.height, selectBandHeight(kernelY, input), bandH);
+	}
+
+	/**
+	 * Computes output rows from y0 to y1, exclusive, one band at a time.  Unless it includes every row in the
+	 * image the range must have at least {@link #minimumBandHeight(Kernel1D)} rows.
+	 *
+	 * @param bandHeight Number of output rows in a band. Will be increased if the kernel is too large.
+	 * @param bandH Storage for the horizontal pass. Reshaped.
+	 */
+	public static <T extends ImageBase<T>>
+	void process( Kernel1D kernelX , Kernel1D kernelY , T input , T output , int y0 , int y1 ,
+				  int bandHeight , T bandH ) {
+		final int minRows = minimumBandHeight(kernelY);
+		bandHeight = Math.max(minRows, bandHeight);
+
+		while( y0 < y1 ) {
+			int bandEnd = y0 + bandHeight;
+			// don't leave a band at the end which is too small
+			if( y1 - bandEnd < minRows )
+				bandEnd = y1;
+
+			processBand(kernelX, kernelY, input, output, y0, bandEnd, bandH);
+			y0 = bandEnd;
+		}
+	}
+
+	/**
+	 * The minimum number of rows in a band.  If the band's horizontal buffer is not taller than the kernel the
+	 * vertical pass would use the naive implementation and the results would change.
+	 */
+	public static int minimumBandHeight( Kernel1D kernelY ) {
+		return kernelY.getWidth() + 1;
+	}
+
+	/**
+	 * Selects the number of output rows in a band.  The horizontal buffer, which includes the rows shared with
+	 * neighboring bands, should fit inside of {@link #BAND_BYTES}.  Wide images or large kernels will exceed
+	 * that budget before the band is allowed to be less than {@link #MIN_OVERLAP_RATIO} times the overlap.
+	 *
+	 * @param kernelY Kernel applied along each column.
+	 * @param image Image which is being convolved.
+	 * @return Number of output rows in a band
+	 */
+	public static int selectBandHeight( Kernel1D kernelY , ImageBase image ) {
+		ImageType type = image.getImageType();
+		int overlap = kernelY.getWidth() - 1;
+		int bytesPerRow = Math.max(1, image.width*type.getNumBands()*type.getDataType().getNumBits()/8);
+
+		int bandHeight = BAND_BYTES/bytesPerRow - overlap;
+		return Math.max(Math.max(minimumBandHeight(kernelY), MIN_OVERLAP_RATIO*overlap), bandHeight);
+	}
+
+	private static <T extends ImageBase<T>>
+	void processBand( Kernel1D kernelX , Kernel1D kernelY , T input , T output , int y0 , int y1 , T bandH ) {
+		final int offsetL = kernelY.getOffset();
+		final int offsetR = kernelY.getWidth() - offsetL - 1;
+
+		// rows in the input image which the vertical kernel will read
+		final int rowStart = Math.max(0, y0 - offsetL);
+		final int rowEnd = Math.min(input.height, y1 + offsetR);
+
+		bandH.reshape(input.width, rowEnd - rowStart);
+		GConvolveImageOps.horizontalNormalized(kernelX, input.subimage(0, rowStart, input.width, rowEnd), bandH);
+
+		// the band is the entire image
+		if( rowStart == 0 && rowEnd == input.height ) {
+			GConvolveImageOps.verticalNormalized(kernelY, bandH, output);
+			return;
+		}
+
+		// The border pass writes to the first and last rows of its target, but only one side is along the
+		// image border. The target ends inside the band so that the rows it gets wrong are overwritten below
+		if( rowStart == 0 ) {
+			vertical(kernelY, bandH.subimage(0, 0, input.width, y1),
+					output.subimage(0, 0, output.width, y1), true);
+		} else if( rowEnd == input.height ) {
+			vertical(kernelY, bandH.subimage(0, y0 - rowStart, input.width, bandH.height),
+					output.subimage(0, y0, output.width, y1), true);
+		}
+
+		// The kernel is entirely inside of bandH for all the other rows in the band. Only rows from y0 to y1 are
+		// written to
+		vertical(kernelY, bandH, output.subimage(0, rowStart, output.width, rowEnd), false);
+	}
+
+	/**
+	 * Applies the vertical pass to just the image border or just the inner image, the same way
+	 * {@link boofcv.alg.filter.convolve.ConvolveImageNormalized#vertical} does.
+	 */
+	private static <T extends ImageBase<T>>
+	void vertical( Kernel1D kernel , T input , T output , boolean border ) {
+		switch( input.getImageType().getFamily() ) {
+			case GRAY: {
+				if( input instanceof GrayF32 ) {
+					Kernel1D_F32 k = normalized((Kernel1D_F32)kernel);
+					if( border )
+						ConvolveNormalized_JustBorder_SB.vertical(k, (GrayF32)input, (GrayF32)output);
+					else
+						ConvolveImageNoBorder.vertical(k, (GrayF32)input, (GrayF32)output);
+				} else if( input instanceof GrayF64 ) {
+					Kernel1D_F64 k = normalized((Kernel1D_F64)kernel);
+					if( border )
+						ConvolveNormalized_JustBorder_SB.vertical(k, (GrayF64)input, (GrayF64)output);
+					else
+						ConvolveImageNoBorder.vertical(k, (GrayF64)input, (GrayF64)output);
+				} else if( input instanceof GrayU8 ) {
+					Kernel1D_S32 k = (Kernel1D_S32)kernel;
+					if( border )
+						ConvolveNormalized_JustBorder_SB.vertical(k, (GrayU8)input, (GrayI8)output);
+					else
+						ConvolveImageNoBorder.vertical(k, (GrayU8)input, (GrayI8)output, k.computeSum());
+				} else if( input instanceof GrayS16 ) {
+					Kernel1D_S32 k = (Kernel1D_S32)kernel;
+					if( border )
+						ConvolveNormalized_JustBorder_SB.vertical(k, (GrayS16)input, (GrayI16)output);
+					else
+						ConvolveImageNoBorder.vertical(k, (GrayS16)input, (GrayI16)output, k.computeSum());
+				} else {
+					throw new IllegalArgumentException("Unknown image type: " + input.getClass().getName());
+				}
+			} break;
+
+			case INTERLEAVED: {
+				if( input instanceof InterleavedF32 ) {
+					Kernel1D_F32 k = normalized((Kernel1D_F32)kernel);
+					if( border )
+						ConvolveNormalized_JustBorder_IL.vertical(k, (InterleavedF32)input, (InterleavedF32)output);
+					else
+						ConvolveImageNoBorder.vertical(k, (InterleavedF32)input, (InterleavedF32)output);
+				} else if( input instanceof InterleavedF64 ) {
+					Kernel1D_F64 k = normalized((Kernel1D_F64)kernel);
+					if( border )
+						ConvolveNormalized_JustBorder_IL.vertical(k, (InterleavedF64)input, (InterleavedF64)output);
+					else
+						ConvolveImageNoBorder.vertical(k, (InterleavedF64)input, (InterleavedF64)output);
+				} else if( input instanceof InterleavedU8 ) {
+					Kernel1D_S32 k = (Kernel1D_S32)kernel;
+					if( border )
+						ConvolveNormalized_JustBorder_IL.vertical(k, (InterleavedU8)input, (InterleavedI8)output);
+					else
+						ConvolveImageNoBorder.vertical(k, (InterleavedU8)input, (InterleavedI8)output, k.computeSum());
+				} else if( input instanceof InterleavedS16 ) {
+					Kernel1D_S32 k = (Kernel1D_S32)kernel;
+					if( border )
+						ConvolveNormalized_JustBorder_IL.vertical(k, (InterleavedS16)input, (InterleavedI16)output);
+					else
+						ConvolveImageNoBorder.vertical(k, (InterleavedS16)input, (InterleavedI16)output, k.computeSum());
+				} else {
+					throw new IllegalArgumentException("Unknown image type: " + input.getClass().getName());
+				}
+			} break;
+
+			case PLANAR: {
+				Planar inp = (Planar)input;
+				Planar outp = (Planar)output;
+
+				for( int i = 0; i < inp.getNumBands(); i++ ) {
+					vertical(kernel, inp.getBand(i), outp.getBand(i), border);
+				}
+			} break;
+
+			default:
+				throw new IllegalArgumentException("Unknown image family");
+		}
+	}
+
+	private static Kernel1D_F32 normalized( Kernel1D_F32 kernel ) {
+		if( Math.abs(kernel.computeSum() - 1.0f) > 1e-4f ) {
+			kernel = kernel.copy();
+			KernelMath.normalizeSumToOne(kernel);
+		}
+		return kernel;
+	}
+
+	private static Kernel1D_F64 normalized( Kernel1D_F64 kernel ) {
+		if( Math.abs(kernel.computeSum() - 1.0f) > 1e-4f ) {
+			kernel = kernel.copy();
+			KernelMath.normalizeSumToOne(kernel);
+		}
+		return kernel;
+	}
+}
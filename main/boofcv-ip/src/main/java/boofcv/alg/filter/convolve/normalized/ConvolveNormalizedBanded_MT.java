@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.convolve.normalized;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.convolve.Kernel1D;
+import boofcv.struct.image.ImageBase;
+
+/**
+ * Concurrent implementation of {@link ConvolveNormalizedBanded}.  The image is split into blocks of rows and
+ * each thread processes the bands inside its block using its own band buffer.
+ *
+ * @author Peter Abeles
+ */
+public class ConvolveNormalizedBanded_MT {
+
+	/**
+	 * @see ConvolveNormalizedBanded#convolve
+	 */
+	public static <T extends ImageBase<T>>
+	void convolve( Kernel1D kernelX , Kernel1D kernelY , T input , T output ) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		int minRows = ConvolveNormalizedBanded.minimumBandHeight(kernelY);
+		int bandHeight = ConvolveNormalizedBanded.selectBandHeight(kernelY, input);
+
+		BoofConcurrency.loopBlocks(0, input.height, minRows, (y0, y1) -> {
+			T bandH = input.createNew(1,1);
+			ConvolveNormalizedBanded.process(kernelX, kernelY, input, output, y0, y1, bandHeight, bandH);
+		});
+	}
+}
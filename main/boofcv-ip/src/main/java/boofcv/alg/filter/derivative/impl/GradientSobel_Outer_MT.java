@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.derivative.impl;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayS16;
+import boofcv.struct.image.GrayU8;
+
+
+/**
+ * <p>
+ * Concurrent implementation of {@link GradientSobel_Outer}.  Each row is processed independently.
+ * </p>
+ *
+ * @author Peter Abeles
+ * @see boofcv.alg.filter.derivative.GradientSobel
+ */
+public class GradientSobel_Outer_MT {
+
+	/**
+	 * Computes derivative of GrayU8.  Inputs can be sub-images.
+	 */
+	public static void process_I8_sub(GrayU8 orig,
+									  GrayS16 derivX,
+									  GrayS16 derivY) {
+		final byte[] data = orig.data;
+		final short[] imgX = derivX.data;
+		final short[] imgY = derivY.data;
+
+		final int width = orig.getWidth();
+		final int height = orig.getHeight() - 1;
+		final int strideSrc = orig.getStride();
+
+		BoofConcurrency.loopFor(1, height, y -> {
+			int indexSrc = orig.startIndex + orig.stride * y + 1;
+			final int endX = indexSrc + width - 2;
+
+			int indexX = derivX.startIndex + derivX.stride * y + 1;
+			int indexY = derivY.startIndex + derivY.stride * y + 1;
+
+			for (; indexSrc < endX; indexSrc++) {
+				int v = (data[indexSrc + strideSrc + 1] & 0xFF) - (data[indexSrc - strideSrc - 1] & 0xFF);
+				int w = (data[indexSrc + strideSrc - 1] & 0xFF) - (data[indexSrc - strideSrc + 1] & 0xFF);
+
+				imgY[indexY++] = (short) (((data[indexSrc + strideSrc] & 0xFF) - (data[indexSrc - strideSrc] & 0xFF)) * 2 + v + w);
+
+				imgX[indexX++] = (short) (((data[indexSrc + 1] & 0xFF) - (data[indexSrc - 1] & 0xFF)) * 2 + v - w);
+			}
+		});
+	}
+
+	/**
+	 * Computes derivative of GrayS16.  Inputs can be sub-images.
+	 */
+	public static void process_I8_sub(GrayS16 orig,
+									  GrayS16 derivX,
+									  GrayS16 derivY) {
+		final short[] data = orig.data;
+		final short[] imgX = derivX.data;
+		final short[] imgY = derivY.data;
+
+		final int width = orig.getWidth();
+		final int height = orig.getHeight() - 1;
+		final int strideSrc = orig.getStride();
+
+		BoofConcurrency.loopFor(1, height, y -> {
+			int indexSrc = orig.startIndex + orig.stride * y + 1;
+			final int endX = indexSrc + width - 2;
+
+			int indexX = derivX.startIndex + derivX.stride * y + 1;
+			int indexY = derivY.startIndex + derivY.stride * y + 1;
+
+			for (; indexSrc < endX; indexSrc++) {
+				int v = (data[indexSrc + strideSrc + 1] ) - (data[indexSrc - strideSrc - 1] );
+				int w = (data[indexSrc + strideSrc - 1] ) - (data[indexSrc - strideSrc + 1] );
+
+				imgY[indexY++] = (short) (((data[indexSrc + strideSrc] ) - (data[indexSrc - strideSrc] )) * 2 + v + w);
+
+				imgX[indexX++] = (short) (((data[indexSrc + 1] ) - (data[indexSrc - 1] )) * 2 + v - w);
+			}
+		});
+	}
+}
@@ -19,6 +19,9 @@
 package boofcv.alg.misc;
 
 import boofcv.alg.InputSanityCheck;
+import boofcv.alg.misc.impl.ImplPixelMath;
+import boofcv.alg.misc.impl.ImplPixelMath_MT;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.*;
 
 import javax.annotation.Generated;
@@ -40,14 +43,15 @@ public class PixelMath {
 	 * @param input The input image. Not modified.
 	 * @param output Where the absolute value image is written to. Modified.
 	 */
-	public static void abs(GrayS8 input , GrayS8 output ) {
+	public static void abs( GrayS8 input , GrayS8 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		abs(input.data,input.startIndex,input.stride,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.abs(input,output);
+		} else {
+			ImplPixelMath.abs(input,output);
+		}
 	}
 
 	/**
@@ -61,24 +65,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		abs(input.data,input.startIndex,input.stride,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void abs( byte[] input , int inputStart , int inputStride ,
-							   byte[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = (byte)Math.abs(input[indexSrc]);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.abs(input,output);
+		} else {
+			ImplPixelMath.abs(input,output);
 		}
 	}
 
@@ -89,14 +79,15 @@ public class PixelMath {
 	 * @param input The input image. Not modified.
 	 * @param output Where the absolute value image is written to. Modified.
 	 */
-	public static void abs(GrayS16 input , GrayS16 output ) {
+	public static void abs( GrayS16 input , GrayS16 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		abs(input.data,input.startIndex,input.stride,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.abs(input,output);
+		} else {
+			ImplPixelMath.abs(input,output);
+		}
 	}
 
 	/**
@@ -110,24 +101,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		abs(input.data,input.startIndex,input.stride,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void abs( short[] input , int inputStart , int inputStride ,
-							   short[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = (short)Math.abs(input[indexSrc]);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.abs(input,output);
+		} else {
+			ImplPixelMath.abs(input,output);
 		}
 	}
 
@@ -138,14 +115,15 @@ public class PixelMath {
 	 * @param input The input image. Not modified.
 	 * @param output Where the absolute value image is written to. Modified.
 	 */
-	public static void abs(GrayS32 input , GrayS32 output ) {
+	public static void abs( GrayS32 input , GrayS32 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		abs(input.data,input.startIndex,input.stride,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.abs(input,output);
+		} else {
+			ImplPixelMath.abs(input,output);
+		}
 	}
 
 	/**
@@ -159,24 +137,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		abs(input.data,input.startIndex,input.stride,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void abs( int[] input , int inputStart , int inputStride ,
-							   int[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = Math.abs(input[indexSrc]);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.abs(input,output);
+		} else {
+			ImplPixelMath.abs(input,output);
 		}
 	}
 
@@ -187,14 +151,15 @@ public class PixelMath {
 	 * @param input The input image. Not modified.
 	 * @param output Where the absolute value image is written to. Modified.
 	 */
-	public static void abs(GrayS64 input , GrayS64 output ) {
+	public static void abs( GrayS64 input , GrayS64 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		abs(input.data,input.startIndex,input.stride,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.abs(input,output);
+		} else {
+			ImplPixelMath.abs(input,output);
+		}
 	}
 
 	/**
@@ -208,24 +173,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		abs(input.data,input.startIndex,input.stride,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void abs( long[] input , int inputStart , int inputStride ,
-							   long[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = Math.abs(input[indexSrc]);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.abs(input,output);
+		} else {
+			ImplPixelMath.abs(input,output);
 		}
 	}
 
@@ -236,14 +187,15 @@ public class PixelMath {
 	 * @param input The input image. Not modified.
 	 * @param output Where the absolute value image is written to. Modified.
 	 */
-	public static void abs(GrayF32 input , GrayF32 output ) {
+	public static void abs( GrayF32 input , GrayF32 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		abs(input.data,input.startIndex,input.stride,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.abs(input,output);
+		} else {
+			ImplPixelMath.abs(input,output);
+		}
 	}
 
 	/**
@@ -257,24 +209,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		abs(input.data,input.startIndex,input.stride,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void abs( float[] input , int inputStart , int inputStride ,
-							   float[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = Math.abs(input[indexSrc]);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.abs(input,output);
+		} else {
+			ImplPixelMath.abs(input,output);
 		}
 	}
 
@@ -285,14 +223,15 @@ public class PixelMath {
 	 * @param input The input image. Not modified.
 	 * @param output Where the absolute value image is written to. Modified.
 	 */
-	public static void abs(GrayF64 input , GrayF64 output ) {
+	public static void abs( GrayF64 input , GrayF64 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		abs(input.data,input.startIndex,input.stride,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.abs(input,output);
+		} else {
+			ImplPixelMath.abs(input,output);
+		}
 	}
 
 	/**
@@ -306,24 +245,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		abs(input.data,input.startIndex,input.stride,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void abs( double[] input , int inputStart , int inputStride ,
-							   double[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = Math.abs(input[indexSrc]);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.abs(input,output);
+		} else {
+			ImplPixelMath.abs(input,output);
 		}
 	}
 
@@ -333,14 +258,15 @@ public class PixelMath {
 	 * @param input The input image. Not modified.
 	 * @param output Where the inverted image is written to. Modified.
 	 */
-	public static void invert(GrayS8 input , GrayS8 output ) {
+	public static void invert( GrayS8 input , GrayS8 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		invert(input.data,input.startIndex,input.stride,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.invert(input,output);
+		} else {
+			ImplPixelMath.invert(input,output);
+		}
 	}
 
 	/**
@@ -353,24 +279,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		invert(input.data,input.startIndex,input.stride,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void invert( byte[] input , int inputStart , int inputStride ,
-							   byte[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = (byte)-input[indexSrc];
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.invert(input,output);
+		} else {
+			ImplPixelMath.invert(input,output);
 		}
 	}
 
@@ -380,14 +292,15 @@ public class PixelMath {
 	 * @param input The input image. Not modified.
 	 * @param output Where the inverted image is written to. Modified.
 	 */
-	public static void invert(GrayS16 input , GrayS16 output ) {
+	public static void invert( GrayS16 input , GrayS16 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		invert(input.data,input.startIndex,input.stride,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.invert(input,output);
+		} else {
+			ImplPixelMath.invert(input,output);
+		}
 	}
 
 	/**
@@ -400,24 +313,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		invert(input.data,input.startIndex,input.stride,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void invert( short[] input , int inputStart , int inputStride ,
-							   short[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = (short)-input[indexSrc];
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.invert(input,output);
+		} else {
+			ImplPixelMath.invert(input,output);
 		}
 	}
 
@@ -427,14 +326,15 @@ public class PixelMath {
 	 * @param input The input image. Not modified.
 	 * @param output Where the inverted image is written to. Modified.
 	 */
-	public static void invert(GrayS32 input , GrayS32 output ) {
+	public static void invert( GrayS32 input , GrayS32 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		invert(input.data,input.startIndex,input.stride,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.invert(input,output);
+		} else {
+			ImplPixelMath.invert(input,output);
+		}
 	}
 
 	/**
@@ -447,24 +347,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		invert(input.data,input.startIndex,input.stride,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void invert( int[] input , int inputStart , int inputStride ,
-							   int[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = -input[indexSrc];
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.invert(input,output);
+		} else {
+			ImplPixelMath.invert(input,output);
 		}
 	}
 
@@ -474,14 +360,15 @@ public class PixelMath {
 	 * @param input The input image. Not modified.
 	 * @param output Where the inverted image is written to. Modified.
 	 */
-	public static void invert(GrayS64 input , GrayS64 output ) {
+	public static void invert( GrayS64 input , GrayS64 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		invert(input.data,input.startIndex,input.stride,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.invert(input,output);
+		} else {
+			ImplPixelMath.invert(input,output);
+		}
 	}
 
 	/**
@@ -494,24 +381,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		invert(input.data,input.startIndex,input.stride,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void invert( long[] input , int inputStart , int inputStride ,
-							   long[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = -input[indexSrc];
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.invert(input,output);
+		} else {
+			ImplPixelMath.invert(input,output);
 		}
 	}
 
@@ -521,14 +394,15 @@ public class PixelMath {
 	 * @param input The input image. Not modified.
 	 * @param output Where the inverted image is written to. Modified.
 	 */
-	public static void invert(GrayF32 input , GrayF32 output ) {
+	public static void invert( GrayF32 input , GrayF32 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		invert(input.data,input.startIndex,input.stride,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.invert(input,output);
+		} else {
+			ImplPixelMath.invert(input,output);
+		}
 	}
 
 	/**
@@ -541,24 +415,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		invert(input.data,input.startIndex,input.stride,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void invert( float[] input , int inputStart , int inputStride ,
-							   float[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = -input[indexSrc];
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.invert(input,output);
+		} else {
+			ImplPixelMath.invert(input,output);
 		}
 	}
 
@@ -568,14 +428,15 @@ public class PixelMath {
 	 * @param input The input image. Not modified.
 	 * @param output Where the inverted image is written to. Modified.
 	 */
-	public static void invert(GrayF64 input , GrayF64 output ) {
+	public static void invert( GrayF64 input , GrayF64 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		invert(input.data,input.startIndex,input.stride,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.invert(input,output);
+		} else {
+			ImplPixelMath.invert(input,output);
+		}
 	}
 
 	/**
@@ -588,24 +449,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		invert(input.data,input.startIndex,input.stride,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void invert( double[] input , int inputStart , int inputStride ,
-							   double[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = -input[indexSrc];
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.invert(input,output);
+		} else {
+			ImplPixelMath.invert(input,output);
 		}
 	}
 
@@ -617,14 +464,15 @@ public class PixelMath {
 	 * @param value What each element is multiplied by.
 	 * @param output The output image. Modified.
 	 */
-	public static void multiply(GrayU8 input , double value , GrayU8 output ) {
+	public static void multiply( GrayU8 input , double value , GrayU8 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		multiplyU_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply(input,value,output);
+		} else {
+			ImplPixelMath.multiply(input,value,output);
+		}
 	}
 
 	/**
@@ -639,25 +487,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
-		int columns = input.width*input.numBands;
-		multiplyU_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void multiplyU_A( byte[] input , int inputStart , int inputStride , 
-							   double value ,
-							   byte[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = (byte)Math.round((input[indexSrc] & 0xFF) * value);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply(input,value,output);
+		} else {
+			ImplPixelMath.multiply(input,value,output);
 		}
 	}
 
@@ -669,14 +502,15 @@ public class PixelMath {
 	 * @param value What each element is multiplied by.
 	 * @param output The output image. Modified.
 	 */
-	public static void multiply(GrayS8 input , double value , GrayS8 output ) {
+	public static void multiply( GrayS8 input , double value , GrayS8 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		multiply_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply(input,value,output);
+		} else {
+			ImplPixelMath.multiply(input,value,output);
+		}
 	}
 
 	/**
@@ -691,25 +525,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
-		int columns = input.width*input.numBands;
-		multiply_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void multiply_A( byte[] input , int inputStart , int inputStride , 
-							   double value ,
-							   byte[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = (byte)Math.round((input[indexSrc] ) * value);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply(input,value,output);
+		} else {
+			ImplPixelMath.multiply(input,value,output);
 		}
 	}
 
@@ -721,14 +540,15 @@ public class PixelMath {
 	 * @param value What each element is multiplied by.
 	 * @param output The output image. Modified.
 	 */
-	public static void multiply(GrayU16 input , double value , GrayU16 output ) {
+	public static void multiply( GrayU16 input , double value , GrayU16 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		multiplyU_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply(input,value,output);
+		} else {
+			ImplPixelMath.multiply(input,value,output);
+		}
 	}
 
 	/**
@@ -743,25 +563,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
-		int columns = input.width*input.numBands;
-		multiplyU_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void multiplyU_A( short[] input , int inputStart , int inputStride , 
-							   double value ,
-							   short[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = (short)Math.round((input[indexSrc] & 0xFFFF) * value);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply(input,value,output);
+		} else {
+			ImplPixelMath.multiply(input,value,output);
 		}
 	}
 
@@ -773,14 +578,15 @@ public class PixelMath {
 	 * @param value What each element is multiplied by.
 	 * @param output The output image. Modified.
 	 */
-	public static void multiply(GrayS16 input , double value , GrayS16 output ) {
+	public static void multiply( GrayS16 input , double value , GrayS16 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		multiply_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply(input,value,output);
+		} else {
+			ImplPixelMath.multiply(input,value,output);
+		}
 	}
 
 	/**
@@ -795,25 +601,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
-		int columns = input.width*input.numBands;
-		multiply_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void multiply_A( short[] input , int inputStart , int inputStride , 
-							   double value ,
-							   short[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = (short)Math.round((input[indexSrc] ) * value);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply(input,value,output);
+		} else {
+			ImplPixelMath.multiply(input,value,output);
 		}
 	}
 
@@ -825,14 +616,15 @@ public class PixelMath {
 	 * @param value What each element is multiplied by.
 	 * @param output The output image. Modified.
 	 */
-	public static void multiply(GrayS32 input , double value , GrayS32 output ) {
+	public static void multiply( GrayS32 input , double value , GrayS32 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		multiply_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply(input,value,output);
+		} else {
+			ImplPixelMath.multiply(input,value,output);
+		}
 	}
 
 	/**
@@ -847,25 +639,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
-		int columns = input.width*input.numBands;
-		multiply_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void multiply_A( int[] input , int inputStart , int inputStride , 
-							   double value ,
-							   int[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = (int)Math.round((input[indexSrc] ) * value);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply(input,value,output);
+		} else {
+			ImplPixelMath.multiply(input,value,output);
 		}
 	}
 
@@ -877,14 +654,15 @@ public class PixelMath {
 	 * @param value What each element is multiplied by.
 	 * @param output The output image. Modified.
 	 */
-	public static void multiply(GrayS64 input , double value , GrayS64 output ) {
+	public static void multiply( GrayS64 input , double value , GrayS64 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		multiply_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply(input,value,output);
+		} else {
+			ImplPixelMath.multiply(input,value,output);
+		}
 	}
 
 	/**
@@ -899,25 +677,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
-		int columns = input.width*input.numBands;
-		multiply_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void multiply_A( long[] input , int inputStart , int inputStride , 
-							   double value ,
-							   long[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = (long)Math.round((input[indexSrc] ) * value);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply(input,value,output);
+		} else {
+			ImplPixelMath.multiply(input,value,output);
 		}
 	}
 
@@ -929,14 +692,15 @@ public class PixelMath {
 	 * @param value What each element is multiplied by.
 	 * @param output The output image. Modified.
 	 */
-	public static void multiply(GrayF32 input , float value , GrayF32 output ) {
+	public static void multiply( GrayF32 input , float value , GrayF32 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		multiply_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply(input,value,output);
+		} else {
+			ImplPixelMath.multiply(input,value,output);
+		}
 	}
 
 	/**
@@ -951,25 +715,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
-		int columns = input.width*input.numBands;
-		multiply_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void multiply_A( float[] input , int inputStart , int inputStride , 
-							   float value ,
-							   float[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = ((input[indexSrc] ) * value);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply(input,value,output);
+		} else {
+			ImplPixelMath.multiply(input,value,output);
 		}
 	}
 
@@ -981,14 +730,15 @@ public class PixelMath {
 	 * @param value What each element is multiplied by.
 	 * @param output The output image. Modified.
 	 */
-	public static void multiply(GrayF64 input , double value , GrayF64 output ) {
+	public static void multiply( GrayF64 input , double value , GrayF64 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		multiply_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply(input,value,output);
+		} else {
+			ImplPixelMath.multiply(input,value,output);
+		}
 	}
 
 	/**
@@ -1003,25 +753,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
-		int columns = input.width*input.numBands;
-		multiply_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void multiply_A( double[] input , int inputStart , int inputStride , 
-							   double value ,
-							   double[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = ((input[indexSrc] ) * value);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply(input,value,output);
+		} else {
+			ImplPixelMath.multiply(input,value,output);
 		}
 	}
 
@@ -1033,14 +768,15 @@ public class PixelMath {
 	 * @param value What each element is multiplied by.
 	 * @param output The output image. Modified.
 	 */
-	public static void multiply(GrayU8 input , double value , int lower , int upper , GrayU8 output ) {
+	public static void multiply( GrayU8 input , double value , int lower , int upper , GrayU8 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		multiplyU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply(input,value,lower,upper,output);
+		} else {
+			ImplPixelMath.multiply(input,value,lower,upper,output);
+		}
 	}
 
 	/**
@@ -1055,28 +791,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		multiplyU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void multiplyU_A( byte[] input , int inputStart , int inputStride , 
-							   double value , int lower , int upper ,
-							   byte[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				int val = (int)Math.round((input[indexSrc] & 0xFF) * value);
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = (byte)val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply(input,value,lower,upper,output);
+		} else {
+			ImplPixelMath.multiply(input,value,lower,upper,output);
 		}
 	}
 
@@ -1088,14 +806,15 @@ public class PixelMath {
 	 * @param value What each element is multiplied by.
 	 * @param output The output image. Modified.
 	 */
-	public static void multiply(GrayS8 input , double value , int lower , int upper , GrayS8 output ) {
+	public static void multiply( GrayS8 input , double value , int lower , int upper , GrayS8 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply(input,value,lower,upper,output);
+		} else {
+			ImplPixelMath.multiply(input,value,lower,upper,output);
+		}
 	}
 
 	/**
@@ -1110,28 +829,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void multiply_A( byte[] input , int inputStart , int inputStride , 
-							   double value , int lower , int upper ,
-							   byte[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				int val = (int)Math.round((input[indexSrc] ) * value);
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = (byte)val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply(input,value,lower,upper,output);
+		} else {
+			ImplPixelMath.multiply(input,value,lower,upper,output);
 		}
 	}
 
@@ -1143,14 +844,15 @@ public class PixelMath {
 	 * @param value What each element is multiplied by.
 	 * @param output The output image. Modified.
 	 */
-	public static void multiply(GrayU16 input , double value , int lower , int upper , GrayU16 output ) {
+	public static void multiply( GrayU16 input , double value , int lower , int upper , GrayU16 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		multiplyU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply(input,value,lower,upper,output);
+		} else {
+			ImplPixelMath.multiply(input,value,lower,upper,output);
+		}
 	}
 
 	/**
@@ -1165,28 +867,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		multiplyU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void multiplyU_A( short[] input , int inputStart , int inputStride , 
-							   double value , int lower , int upper ,
-							   short[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				int val = (int)Math.round((input[indexSrc] & 0xFFFF) * value);
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = (short)val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply(input,value,lower,upper,output);
+		} else {
+			ImplPixelMath.multiply(input,value,lower,upper,output);
 		}
 	}
 
@@ -1198,14 +882,15 @@ public class PixelMath {
 	 * @param value What each element is multiplied by.
 	 * @param output The output image. Modified.
 	 */
-	public static void multiply(GrayS16 input , double value , int lower , int upper , GrayS16 output ) {
+	public static void multiply( GrayS16 input , double value , int lower , int upper , GrayS16 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply(input,value,lower,upper,output);
+		} else {
+			ImplPixelMath.multiply(input,value,lower,upper,output);
+		}
 	}
 
 	/**
@@ -1220,28 +905,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void multiply_A( short[] input , int inputStart , int inputStride , 
-							   double value , int lower , int upper ,
-							   short[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				int val = (int)Math.round((input[indexSrc] ) * value);
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = (short)val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply(input,value,lower,upper,output);
+		} else {
+			ImplPixelMath.multiply(input,value,lower,upper,output);
 		}
 	}
 
@@ -1253,14 +920,15 @@ public class PixelMath {
 	 * @param value What each element is multiplied by.
 	 * @param output The output image. Modified.
 	 */
-	public static void multiply(GrayS32 input , double value , int lower , int upper , GrayS32 output ) {
+	public static void multiply( GrayS32 input , double value , int lower , int upper , GrayS32 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply(input,value,lower,upper,output);
+		} else {
+			ImplPixelMath.multiply(input,value,lower,upper,output);
+		}
 	}
 
 	/**
@@ -1275,28 +943,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void multiply_A( int[] input , int inputStart , int inputStride , 
-							   double value , int lower , int upper ,
-							   int[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				int val = (int)Math.round((input[indexSrc] ) * value);
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply(input,value,lower,upper,output);
+		} else {
+			ImplPixelMath.multiply(input,value,lower,upper,output);
 		}
 	}
 
@@ -1308,14 +958,15 @@ public class PixelMath {
 	 * @param value What each element is multiplied by.
 	 * @param output The output image. Modified.
 	 */
-	public static void multiply(GrayS64 input , double value , long lower , long upper , GrayS64 output ) {
+	public static void multiply( GrayS64 input , double value , long lower , long upper , GrayS64 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply(input,value,lower,upper,output);
+		} else {
+			ImplPixelMath.multiply(input,value,lower,upper,output);
+		}
 	}
 
 	/**
@@ -1330,28 +981,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void multiply_A( long[] input , int inputStart , int inputStride , 
-							   double value , long lower , long upper ,
-							   long[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				long val = (long)Math.round((input[indexSrc] ) * value);
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply(input,value,lower,upper,output);
+		} else {
+			ImplPixelMath.multiply(input,value,lower,upper,output);
 		}
 	}
 
@@ -1363,14 +996,15 @@ public class PixelMath {
 	 * @param value What each element is multiplied by.
 	 * @param output The output image. Modified.
 	 */
-	public static void multiply(GrayF32 input , float value , float lower , float upper , GrayF32 output ) {
+	public static void multiply( GrayF32 input , float value , float lower , float upper , GrayF32 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply(input,value,lower,upper,output);
+		} else {
+			ImplPixelMath.multiply(input,value,lower,upper,output);
+		}
 	}
 
 	/**
@@ -1385,28 +1019,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void multiply_A( float[] input , int inputStart , int inputStride , 
-							   float value , float lower , float upper ,
-							   float[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				float val = ((input[indexSrc] ) * value);
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply(input,value,lower,upper,output);
+		} else {
+			ImplPixelMath.multiply(input,value,lower,upper,output);
 		}
 	}
 
@@ -1418,14 +1034,15 @@ public class PixelMath {
 	 * @param value What each element is multiplied by.
 	 * @param output The output image. Modified.
 	 */
-	public static void multiply(GrayF64 input , double value , double lower , double upper , GrayF64 output ) {
+	public static void multiply( GrayF64 input , double value , double lower , double upper , GrayF64 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply(input,value,lower,upper,output);
+		} else {
+			ImplPixelMath.multiply(input,value,lower,upper,output);
+		}
 	}
 
 	/**
@@ -1440,28 +1057,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void multiply_A( double[] input , int inputStart , int inputStride , 
-							   double value , double lower , double upper ,
-							   double[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				double val = ((input[indexSrc] ) * value);
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply(input,value,lower,upper,output);
+		} else {
+			ImplPixelMath.multiply(input,value,lower,upper,output);
 		}
 	}
 
@@ -1472,14 +1071,15 @@ public class PixelMath {
 	 * @param denominator What each element is divided by.
 	 * @param output The output image. Modified.
 	 */
-	public static void divide(GrayU8 input , double denominator , GrayU8 output ) {
+	public static void divide( GrayU8 input , double denominator , GrayU8 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		divideU_A(input.data,input.startIndex,input.stride,denominator , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide(input,denominator,output);
+		} else {
+			ImplPixelMath.divide(input,denominator,output);
+		}
 	}
 
 	/**
@@ -1493,25 +1093,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
-		int columns = input.width*input.numBands;
-		divideU_A(input.data,input.startIndex,input.stride,denominator , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void divideU_A( byte[] input , int inputStart , int inputStride , 
-							   double denominator ,
-							   byte[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = (byte)Math.round((input[indexSrc] & 0xFF) / denominator);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide(input,denominator,output);
+		} else {
+			ImplPixelMath.divide(input,denominator,output);
 		}
 	}
 
@@ -1522,14 +1107,15 @@ public class PixelMath {
 	 * @param denominator What each element is divided by.
 	 * @param output The output image. Modified.
 	 */
-	public static void divide(GrayS8 input , double denominator , GrayS8 output ) {
+	public static void divide( GrayS8 input , double denominator , GrayS8 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		divide_A(input.data,input.startIndex,input.stride,denominator , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide(input,denominator,output);
+		} else {
+			ImplPixelMath.divide(input,denominator,output);
+		}
 	}
 
 	/**
@@ -1543,25 +1129,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
-		int columns = input.width*input.numBands;
-		divide_A(input.data,input.startIndex,input.stride,denominator , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void divide_A( byte[] input , int inputStart , int inputStride , 
-							   double denominator ,
-							   byte[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = (byte)Math.round((input[indexSrc] ) / denominator);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide(input,denominator,output);
+		} else {
+			ImplPixelMath.divide(input,denominator,output);
 		}
 	}
 
@@ -1572,14 +1143,15 @@ public class PixelMath {
 	 * @param denominator What each element is divided by.
 	 * @param output The output image. Modified.
 	 */
-	public static void divide(GrayU16 input , double denominator , GrayU16 output ) {
+	public static void divide( GrayU16 input , double denominator , GrayU16 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		divideU_A(input.data,input.startIndex,input.stride,denominator , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide(input,denominator,output);
+		} else {
+			ImplPixelMath.divide(input,denominator,output);
+		}
 	}
 
 	/**
@@ -1593,25 +1165,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
-		int columns = input.width*input.numBands;
-		divideU_A(input.data,input.startIndex,input.stride,denominator , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void divideU_A( short[] input , int inputStart , int inputStride , 
-							   double denominator ,
-							   short[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = (short)Math.round((input[indexSrc] & 0xFFFF) / denominator);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide(input,denominator,output);
+		} else {
+			ImplPixelMath.divide(input,denominator,output);
 		}
 	}
 
@@ -1622,14 +1179,15 @@ public class PixelMath {
 	 * @param denominator What each element is divided by.
 	 * @param output The output image. Modified.
 	 */
-	public static void divide(GrayS16 input , double denominator , GrayS16 output ) {
+	public static void divide( GrayS16 input , double denominator , GrayS16 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		divide_A(input.data,input.startIndex,input.stride,denominator , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide(input,denominator,output);
+		} else {
+			ImplPixelMath.divide(input,denominator,output);
+		}
 	}
 
 	/**
@@ -1643,25 +1201,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
-		int columns = input.width*input.numBands;
-		divide_A(input.data,input.startIndex,input.stride,denominator , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void divide_A( short[] input , int inputStart , int inputStride , 
-							   double denominator ,
-							   short[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = (short)Math.round((input[indexSrc] ) / denominator);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide(input,denominator,output);
+		} else {
+			ImplPixelMath.divide(input,denominator,output);
 		}
 	}
 
@@ -1672,14 +1215,15 @@ public class PixelMath {
 	 * @param denominator What each element is divided by.
 	 * @param output The output image. Modified.
 	 */
-	public static void divide(GrayS32 input , double denominator , GrayS32 output ) {
+	public static void divide( GrayS32 input , double denominator , GrayS32 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		divide_A(input.data,input.startIndex,input.stride,denominator , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide(input,denominator,output);
+		} else {
+			ImplPixelMath.divide(input,denominator,output);
+		}
 	}
 
 	/**
@@ -1693,25 +1237,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
-		int columns = input.width*input.numBands;
-		divide_A(input.data,input.startIndex,input.stride,denominator , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void divide_A( int[] input , int inputStart , int inputStride , 
-							   double denominator ,
-							   int[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = (int)Math.round((input[indexSrc] ) / denominator);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide(input,denominator,output);
+		} else {
+			ImplPixelMath.divide(input,denominator,output);
 		}
 	}
 
@@ -1722,14 +1251,15 @@ public class PixelMath {
 	 * @param denominator What each element is divided by.
 	 * @param output The output image. Modified.
 	 */
-	public static void divide(GrayS64 input , double denominator , GrayS64 output ) {
+	public static void divide( GrayS64 input , double denominator , GrayS64 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		divide_A(input.data,input.startIndex,input.stride,denominator , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide(input,denominator,output);
+		} else {
+			ImplPixelMath.divide(input,denominator,output);
+		}
 	}
 
 	/**
@@ -1743,25 +1273,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
-		int columns = input.width*input.numBands;
-		divide_A(input.data,input.startIndex,input.stride,denominator , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void divide_A( long[] input , int inputStart , int inputStride , 
-							   double denominator ,
-							   long[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = (long)Math.round((input[indexSrc] ) / denominator);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide(input,denominator,output);
+		} else {
+			ImplPixelMath.divide(input,denominator,output);
 		}
 	}
 
@@ -1772,14 +1287,15 @@ public class PixelMath {
 	 * @param denominator What each element is divided by.
 	 * @param output The output image. Modified.
 	 */
-	public static void divide(GrayF32 input , float denominator , GrayF32 output ) {
+	public static void divide( GrayF32 input , float denominator , GrayF32 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		divide_A(input.data,input.startIndex,input.stride,denominator , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide(input,denominator,output);
+		} else {
+			ImplPixelMath.divide(input,denominator,output);
+		}
 	}
 
 	/**
@@ -1793,25 +1309,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
-		int columns = input.width*input.numBands;
-		divide_A(input.data,input.startIndex,input.stride,denominator , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void divide_A( float[] input , int inputStart , int inputStride , 
-							   float denominator ,
-							   float[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = ((input[indexSrc] ) / denominator);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide(input,denominator,output);
+		} else {
+			ImplPixelMath.divide(input,denominator,output);
 		}
 	}
 
@@ -1822,14 +1323,15 @@ public class PixelMath {
 	 * @param denominator What each element is divided by.
 	 * @param output The output image. Modified.
 	 */
-	public static void divide(GrayF64 input , double denominator , GrayF64 output ) {
+	public static void divide( GrayF64 input , double denominator , GrayF64 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		divide_A(input.data,input.startIndex,input.stride,denominator , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide(input,denominator,output);
+		} else {
+			ImplPixelMath.divide(input,denominator,output);
+		}
 	}
 
 	/**
@@ -1843,25 +1345,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
-		int columns = input.width*input.numBands;
-		divide_A(input.data,input.startIndex,input.stride,denominator , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void divide_A( double[] input , int inputStart , int inputStride , 
-							   double denominator ,
-							   double[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = ((input[indexSrc] ) / denominator);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide(input,denominator,output);
+		} else {
+			ImplPixelMath.divide(input,denominator,output);
 		}
 	}
 
@@ -1872,14 +1359,15 @@ public class PixelMath {
 	 * @param denominator What each element is divided by.
 	 * @param output The output image. Modified.
 	 */
-	public static void divide(GrayU8 input , double denominator , int lower , int upper , GrayU8 output ) {
+	public static void divide( GrayU8 input , double denominator , int lower , int upper , GrayU8 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		divideU_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide(input,denominator,lower,upper,output);
+		} else {
+			ImplPixelMath.divide(input,denominator,lower,upper,output);
+		}
 	}
 
 	/**
@@ -1893,28 +1381,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		divideU_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void divideU_A( byte[] input , int inputStart , int inputStride , 
-							   double denominator , int lower , int upper ,
-							   byte[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				int val = (int)Math.round((input[indexSrc] & 0xFF) / denominator);
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = (byte)val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide(input,denominator,lower,upper,output);
+		} else {
+			ImplPixelMath.divide(input,denominator,lower,upper,output);
 		}
 	}
 
@@ -1925,14 +1395,15 @@ public class PixelMath {
 	 * @param denominator What each element is divided by.
 	 * @param output The output image. Modified.
 	 */
-	public static void divide(GrayS8 input , double denominator , int lower , int upper , GrayS8 output ) {
+	public static void divide( GrayS8 input , double denominator , int lower , int upper , GrayS8 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide(input,denominator,lower,upper,output);
+		} else {
+			ImplPixelMath.divide(input,denominator,lower,upper,output);
+		}
 	}
 
 	/**
@@ -1946,28 +1417,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void divide_A( byte[] input , int inputStart , int inputStride , 
-							   double denominator , int lower , int upper ,
-							   byte[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				int val = (int)Math.round((input[indexSrc] ) / denominator);
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = (byte)val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide(input,denominator,lower,upper,output);
+		} else {
+			ImplPixelMath.divide(input,denominator,lower,upper,output);
 		}
 	}
 
@@ -1978,14 +1431,15 @@ public class PixelMath {
 	 * @param denominator What each element is divided by.
 	 * @param output The output image. Modified.
 	 */
-	public static void divide(GrayU16 input , double denominator , int lower , int upper , GrayU16 output ) {
+	public static void divide( GrayU16 input , double denominator , int lower , int upper , GrayU16 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		divideU_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide(input,denominator,lower,upper,output);
+		} else {
+			ImplPixelMath.divide(input,denominator,lower,upper,output);
+		}
 	}
 
 	/**
@@ -1999,28 +1453,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		divideU_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void divideU_A( short[] input , int inputStart , int inputStride , 
-							   double denominator , int lower , int upper ,
-							   short[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				int val = (int)Math.round((input[indexSrc] & 0xFFFF) / denominator);
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = (short)val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide(input,denominator,lower,upper,output);
+		} else {
+			ImplPixelMath.divide(input,denominator,lower,upper,output);
 		}
 	}
 
@@ -2031,14 +1467,15 @@ public class PixelMath {
 	 * @param denominator What each element is divided by.
 	 * @param output The output image. Modified.
 	 */
-	public static void divide(GrayS16 input , double denominator , int lower , int upper , GrayS16 output ) {
+	public static void divide( GrayS16 input , double denominator , int lower , int upper , GrayS16 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide(input,denominator,lower,upper,output);
+		} else {
+			ImplPixelMath.divide(input,denominator,lower,upper,output);
+		}
 	}
 
 	/**
@@ -2052,28 +1489,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void divide_A( short[] input , int inputStart , int inputStride , 
-							   double denominator , int lower , int upper ,
-							   short[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				int val = (int)Math.round((input[indexSrc] ) / denominator);
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = (short)val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide(input,denominator,lower,upper,output);
+		} else {
+			ImplPixelMath.divide(input,denominator,lower,upper,output);
 		}
 	}
 
@@ -2084,14 +1503,15 @@ public class PixelMath {
 	 * @param denominator What each element is divided by.
 	 * @param output The output image. Modified.
 	 */
-	public static void divide(GrayS32 input , double denominator , int lower , int upper , GrayS32 output ) {
+	public static void divide( GrayS32 input , double denominator , int lower , int upper , GrayS32 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide(input,denominator,lower,upper,output);
+		} else {
+			ImplPixelMath.divide(input,denominator,lower,upper,output);
+		}
 	}
 
 	/**
@@ -2105,28 +1525,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void divide_A( int[] input , int inputStart , int inputStride , 
-							   double denominator , int lower , int upper ,
-							   int[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				int val = (int)Math.round((input[indexSrc] ) / denominator);
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide(input,denominator,lower,upper,output);
+		} else {
+			ImplPixelMath.divide(input,denominator,lower,upper,output);
 		}
 	}
 
@@ -2137,14 +1539,15 @@ public class PixelMath {
 	 * @param denominator What each element is divided by.
 	 * @param output The output image. Modified.
 	 */
-	public static void divide(GrayS64 input , double denominator , long lower , long upper , GrayS64 output ) {
+	public static void divide( GrayS64 input , double denominator , long lower , long upper , GrayS64 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide(input,denominator,lower,upper,output);
+		} else {
+			ImplPixelMath.divide(input,denominator,lower,upper,output);
+		}
 	}
 
 	/**
@@ -2158,28 +1561,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void divide_A( long[] input , int inputStart , int inputStride , 
-							   double denominator , long lower , long upper ,
-							   long[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				long val = (long)Math.round((input[indexSrc] ) / denominator);
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide(input,denominator,lower,upper,output);
+		} else {
+			ImplPixelMath.divide(input,denominator,lower,upper,output);
 		}
 	}
 
@@ -2190,14 +1575,15 @@ public class PixelMath {
 	 * @param denominator What each element is divided by.
 	 * @param output The output image. Modified.
 	 */
-	public static void divide(GrayF32 input , float denominator , float lower , float upper , GrayF32 output ) {
+	public static void divide( GrayF32 input , float denominator , float lower , float upper , GrayF32 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide(input,denominator,lower,upper,output);
+		} else {
+			ImplPixelMath.divide(input,denominator,lower,upper,output);
+		}
 	}
 
 	/**
@@ -2211,28 +1597,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void divide_A( float[] input , int inputStart , int inputStride , 
-							   float denominator , float lower , float upper ,
-							   float[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				float val = ((input[indexSrc] ) / denominator);
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide(input,denominator,lower,upper,output);
+		} else {
+			ImplPixelMath.divide(input,denominator,lower,upper,output);
 		}
 	}
 
@@ -2243,14 +1611,15 @@ public class PixelMath {
 	 * @param denominator What each element is divided by.
 	 * @param output The output image. Modified.
 	 */
-	public static void divide(GrayF64 input , double denominator , double lower , double upper , GrayF64 output ) {
+	public static void divide( GrayF64 input , double denominator , double lower , double upper , GrayF64 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide(input,denominator,lower,upper,output);
+		} else {
+			ImplPixelMath.divide(input,denominator,lower,upper,output);
+		}
 	}
 
 	/**
@@ -2264,28 +1633,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void divide_A( double[] input , int inputStart , int inputStride , 
-							   double denominator , double lower , double upper ,
-							   double[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				double val = ((input[indexSrc] ) / denominator);
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide(input,denominator,lower,upper,output);
+		} else {
+			ImplPixelMath.divide(input,denominator,lower,upper,output);
 		}
 	}
 
@@ -2296,14 +1647,15 @@ public class PixelMath {
 	 * @param value What is added to each element.
 	 * @param output The output image. Modified.
 	 */
-	public static void plus(GrayU8 input , int value , GrayU8 output ) {
+	public static void plus( GrayU8 input , int value , GrayU8 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		plusU_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.plus(input,value,output);
+		} else {
+			ImplPixelMath.plus(input,value,output);
+		}
 	}
 
 	/**
@@ -2317,25 +1669,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
-		int columns = input.width*input.numBands;
-		plusU_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void plusU_A( byte[] input , int inputStart , int inputStride , 
-							   int value ,
-							   byte[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = (byte)((input[indexSrc] & 0xFF) + value);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.plus(input,value,output);
+		} else {
+			ImplPixelMath.plus(input,value,output);
 		}
 	}
 
@@ -2346,14 +1683,15 @@ public class PixelMath {
 	 * @param value What is added to each element.
 	 * @param output The output image. Modified.
 	 */
-	public static void plus(GrayS8 input , int value , GrayS8 output ) {
+	public static void plus( GrayS8 input , int value , GrayS8 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		plus_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.plus(input,value,output);
+		} else {
+			ImplPixelMath.plus(input,value,output);
+		}
 	}
 
 	/**
@@ -2367,25 +1705,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
-		int columns = input.width*input.numBands;
-		plus_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void plus_A( byte[] input , int inputStart , int inputStride , 
-							   int value ,
-							   byte[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = (byte)((input[indexSrc] ) + value);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.plus(input,value,output);
+		} else {
+			ImplPixelMath.plus(input,value,output);
 		}
 	}
 
@@ -2396,14 +1719,15 @@ public class PixelMath {
 	 * @param value What is added to each element.
 	 * @param output The output image. Modified.
 	 */
-	public static void plus(GrayU16 input , int value , GrayU16 output ) {
+	public static void plus( GrayU16 input , int value , GrayU16 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		plusU_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.plus(input,value,output);
+		} else {
+			ImplPixelMath.plus(input,value,output);
+		}
 	}
 
 	/**
@@ -2417,25 +1741,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
-		int columns = input.width*input.numBands;
-		plusU_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void plusU_A( short[] input , int inputStart , int inputStride , 
-							   int value ,
-							   short[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = (short)((input[indexSrc] & 0xFFFF) + value);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.plus(input,value,output);
+		} else {
+			ImplPixelMath.plus(input,value,output);
 		}
 	}
 
@@ -2446,14 +1755,15 @@ public class PixelMath {
 	 * @param value What is added to each element.
 	 * @param output The output image. Modified.
 	 */
-	public static void plus(GrayS16 input , int value , GrayS16 output ) {
+	public static void plus( GrayS16 input , int value , GrayS16 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		plus_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.plus(input,value,output);
+		} else {
+			ImplPixelMath.plus(input,value,output);
+		}
 	}
 
 	/**
@@ -2467,25 +1777,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
-		int columns = input.width*input.numBands;
-		plus_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void plus_A( short[] input , int inputStart , int inputStride , 
-							   int value ,
-							   short[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = (short)((input[indexSrc] ) + value);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.plus(input,value,output);
+		} else {
+			ImplPixelMath.plus(input,value,output);
 		}
 	}
 
@@ -2496,14 +1791,15 @@ public class PixelMath {
 	 * @param value What is added to each element.
 	 * @param output The output image. Modified.
 	 */
-	public static void plus(GrayS32 input , int value , GrayS32 output ) {
+	public static void plus( GrayS32 input , int value , GrayS32 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		plus_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.plus(input,value,output);
+		} else {
+			ImplPixelMath.plus(input,value,output);
+		}
 	}
 
 	/**
@@ -2517,25 +1813,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
-		int columns = input.width*input.numBands;
-		plus_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void plus_A( int[] input , int inputStart , int inputStride , 
-							   int value ,
-							   int[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = ((input[indexSrc] ) + value);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.plus(input,value,output);
+		} else {
+			ImplPixelMath.plus(input,value,output);
 		}
 	}
 
@@ -2546,14 +1827,15 @@ public class PixelMath {
 	 * @param value What is added to each element.
 	 * @param output The output image. Modified.
 	 */
-	public static void plus(GrayS64 input , long value , GrayS64 output ) {
+	public static void plus( GrayS64 input , long value , GrayS64 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		plus_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.plus(input,value,output);
+		} else {
+			ImplPixelMath.plus(input,value,output);
+		}
 	}
 
 	/**
@@ -2567,25 +1849,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
-		int columns = input.width*input.numBands;
-		plus_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void plus_A( long[] input , int inputStart , int inputStride , 
-							   long value ,
-							   long[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = ((input[indexSrc] ) + value);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.plus(input,value,output);
+		} else {
+			ImplPixelMath.plus(input,value,output);
 		}
 	}
 
@@ -2596,14 +1863,15 @@ public class PixelMath {
 	 * @param value What is added to each element.
 	 * @param output The output image. Modified.
 	 */
-	public static void plus(GrayF32 input , float value , GrayF32 output ) {
+	public static void plus( GrayF32 input , float value , GrayF32 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		plus_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.plus(input,value,output);
+		} else {
+			ImplPixelMath.plus(input,value,output);
+		}
 	}
 
 	/**
@@ -2617,25 +1885,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
-		int columns = input.width*input.numBands;
-		plus_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void plus_A( float[] input , int inputStart , int inputStride , 
-							   float value ,
-							   float[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = ((input[indexSrc] ) + value);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.plus(input,value,output);
+		} else {
+			ImplPixelMath.plus(input,value,output);
 		}
 	}
 
@@ -2646,14 +1899,15 @@ public class PixelMath {
 	 * @param value What is added to each element.
 	 * @param output The output image. Modified.
 	 */
-	public static void plus(GrayF64 input , double value , GrayF64 output ) {
+	public static void plus( GrayF64 input , double value , GrayF64 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		plus_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.plus(input,value,output);
+		} else {
+			ImplPixelMath.plus(input,value,output);
+		}
 	}
 
 	/**
@@ -2667,25 +1921,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
-		int columns = input.width*input.numBands;
-		plus_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void plus_A( double[] input , int inputStart , int inputStride , 
-							   double value ,
-							   double[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = ((input[indexSrc] ) + value);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.plus(input,value,output);
+		} else {
+			ImplPixelMath.plus(input,value,output);
 		}
 	}
 
@@ -2696,14 +1935,15 @@ public class PixelMath {
 	 * @param value What is added to each element.
 	 * @param output The output image. Modified.
 	 */
-	public static void plus(GrayU8 input , int value , int lower , int upper , GrayU8 output ) {
+	public static void plus( GrayU8 input , int value , int lower , int upper , GrayU8 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		plusU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.plus(input,value,lower,upper,output);
+		} else {
+			ImplPixelMath.plus(input,value,lower,upper,output);
+		}
 	}
 
 	/**
@@ -2717,28 +1957,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		plusU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void plusU_A( byte[] input , int inputStart , int inputStride , 
-							   int value , int lower , int upper ,
-							   byte[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				int val = ((input[indexSrc] & 0xFF) + value);
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = (byte)val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.plus(input,value,lower,upper,output);
+		} else {
+			ImplPixelMath.plus(input,value,lower,upper,output);
 		}
 	}
 
@@ -2749,14 +1971,15 @@ public class PixelMath {
 	 * @param value What is added to each element.
 	 * @param output The output image. Modified.
 	 */
-	public static void plus(GrayS8 input , int value , int lower , int upper , GrayS8 output ) {
+	public static void plus( GrayS8 input , int value , int lower , int upper , GrayS8 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.plus(input,value,lower,upper,output);
+		} else {
+			ImplPixelMath.plus(input,value,lower,upper,output);
+		}
 	}
 
 	/**
@@ -2770,28 +1993,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void plus_A( byte[] input , int inputStart , int inputStride , 
-							   int value , int lower , int upper ,
-							   byte[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				int val = ((input[indexSrc] ) + value);
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = (byte)val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.plus(input,value,lower,upper,output);
+		} else {
+			ImplPixelMath.plus(input,value,lower,upper,output);
 		}
 	}
 
@@ -2802,14 +2007,15 @@ public class PixelMath {
 	 * @param value What is added to each element.
 	 * @param output The output image. Modified.
 	 */
-	public static void plus(GrayU16 input , int value , int lower , int upper , GrayU16 output ) {
+	public static void plus( GrayU16 input , int value , int lower , int upper , GrayU16 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		plusU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.plus(input,value,lower,upper,output);
+		} else {
+			ImplPixelMath.plus(input,value,lower,upper,output);
+		}
 	}
 
 	/**
@@ -2823,28 +2029,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		plusU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void plusU_A( short[] input , int inputStart , int inputStride , 
-							   int value , int lower , int upper ,
-							   short[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				int val = ((input[indexSrc] & 0xFFFF) + value);
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = (short)val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.plus(input,value,lower,upper,output);
+		} else {
+			ImplPixelMath.plus(input,value,lower,upper,output);
 		}
 	}
 
@@ -2855,14 +2043,15 @@ public class PixelMath {
 	 * @param value What is added to each element.
 	 * @param output The output image. Modified.
 	 */
-	public static void plus(GrayS16 input , int value , int lower , int upper , GrayS16 output ) {
+	public static void plus( GrayS16 input , int value , int lower , int upper , GrayS16 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.plus(input,value,lower,upper,output);
+		} else {
+			ImplPixelMath.plus(input,value,lower,upper,output);
+		}
 	}
 
 	/**
@@ -2876,28 +2065,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void plus_A( short[] input , int inputStart , int inputStride , 
-							   int value , int lower , int upper ,
-							   short[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				int val = ((input[indexSrc] ) + value);
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = (short)val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.plus(input,value,lower,upper,output);
+		} else {
+			ImplPixelMath.plus(input,value,lower,upper,output);
 		}
 	}
 
@@ -2908,14 +2079,15 @@ public class PixelMath {
 	 * @param value What is added to each element.
 	 * @param output The output image. Modified.
 	 */
-	public static void plus(GrayS32 input , int value , int lower , int upper , GrayS32 output ) {
+	public static void plus( GrayS32 input , int value , int lower , int upper , GrayS32 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.plus(input,value,lower,upper,output);
+		} else {
+			ImplPixelMath.plus(input,value,lower,upper,output);
+		}
 	}
 
 	/**
@@ -2929,28 +2101,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void plus_A( int[] input , int inputStart , int inputStride , 
-							   int value , int lower , int upper ,
-							   int[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				int val = ((input[indexSrc] ) + value);
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.plus(input,value,lower,upper,output);
+		} else {
+			ImplPixelMath.plus(input,value,lower,upper,output);
 		}
 	}
 
@@ -2961,14 +2115,15 @@ public class PixelMath {
 	 * @param value What is added to each element.
 	 * @param output The output image. Modified.
 	 */
-	public static void plus(GrayS64 input , long value , long lower , long upper , GrayS64 output ) {
+	public static void plus( GrayS64 input , long value , long lower , long upper , GrayS64 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.plus(input,value,lower,upper,output);
+		} else {
+			ImplPixelMath.plus(input,value,lower,upper,output);
+		}
 	}
 
 	/**
@@ -2982,28 +2137,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void plus_A( long[] input , int inputStart , int inputStride , 
-							   long value , long lower , long upper ,
-							   long[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				long val = ((input[indexSrc] ) + value);
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.plus(input,value,lower,upper,output);
+		} else {
+			ImplPixelMath.plus(input,value,lower,upper,output);
 		}
 	}
 
@@ -3014,14 +2151,15 @@ public class PixelMath {
 	 * @param value What is added to each element.
 	 * @param output The output image. Modified.
 	 */
-	public static void plus(GrayF32 input , float value , float lower , float upper , GrayF32 output ) {
+	public static void plus( GrayF32 input , float value , float lower , float upper , GrayF32 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.plus(input,value,lower,upper,output);
+		} else {
+			ImplPixelMath.plus(input,value,lower,upper,output);
+		}
 	}
 
 	/**
@@ -3035,28 +2173,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void plus_A( float[] input , int inputStart , int inputStride , 
-							   float value , float lower , float upper ,
-							   float[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				float val = ((input[indexSrc] ) + value);
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.plus(input,value,lower,upper,output);
+		} else {
+			ImplPixelMath.plus(input,value,lower,upper,output);
 		}
 	}
 
@@ -3067,14 +2187,15 @@ public class PixelMath {
 	 * @param value What is added to each element.
 	 * @param output The output image. Modified.
 	 */
-	public static void plus(GrayF64 input , double value , double lower , double upper , GrayF64 output ) {
+	public static void plus( GrayF64 input , double value , double lower , double upper , GrayF64 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.plus(input,value,lower,upper,output);
+		} else {
+			ImplPixelMath.plus(input,value,lower,upper,output);
+		}
 	}
 
 	/**
@@ -3088,28 +2209,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void plus_A( double[] input , int inputStart , int inputStride , 
-							   double value , double lower , double upper ,
-							   double[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				double val = ((input[indexSrc] ) + value);
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.plus(input,value,lower,upper,output);
+		} else {
+			ImplPixelMath.plus(input,value,lower,upper,output);
 		}
 	}
 
@@ -3120,14 +2223,15 @@ public class PixelMath {
 	 * @param value What is subtracted from each element.
 	 * @param output The output image. Modified.
 	 */
-	public static void minus(GrayU8 input , int value , GrayU8 output ) {
+	public static void minus( GrayU8 input , int value , GrayU8 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		minusU_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(input,value,output);
+		} else {
+			ImplPixelMath.minus(input,value,output);
+		}
 	}
 
 	/**
@@ -3141,25 +2245,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
-		int columns = input.width*input.numBands;
-		minusU_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void minusU_A( byte[] input , int inputStart , int inputStride , 
-							   int value ,
-							   byte[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = (byte)((input[indexSrc] & 0xFF) - value);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(input,value,output);
+		} else {
+			ImplPixelMath.minus(input,value,output);
 		}
 	}
 
@@ -3170,14 +2259,15 @@ public class PixelMath {
 	 * @param value What is subtracted from each element.
 	 * @param output The output image. Modified.
 	 */
-	public static void minus(GrayS8 input , int value , GrayS8 output ) {
+	public static void minus( GrayS8 input , int value , GrayS8 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		minus_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(input,value,output);
+		} else {
+			ImplPixelMath.minus(input,value,output);
+		}
 	}
 
 	/**
@@ -3191,25 +2281,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
-		int columns = input.width*input.numBands;
-		minus_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void minus_A( byte[] input , int inputStart , int inputStride , 
-							   int value ,
-							   byte[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = (byte)((input[indexSrc] ) - value);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(input,value,output);
+		} else {
+			ImplPixelMath.minus(input,value,output);
 		}
 	}
 
@@ -3220,14 +2295,15 @@ public class PixelMath {
 	 * @param value What is subtracted from each element.
 	 * @param output The output image. Modified.
 	 */
-	public static void minus(GrayU16 input , int value , GrayU16 output ) {
+	public static void minus( GrayU16 input , int value , GrayU16 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		minusU_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(input,value,output);
+		} else {
+			ImplPixelMath.minus(input,value,output);
+		}
 	}
 
 	/**
@@ -3241,25 +2317,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
-		int columns = input.width*input.numBands;
-		minusU_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void minusU_A( short[] input , int inputStart , int inputStride , 
-							   int value ,
-							   short[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = (short)((input[indexSrc] & 0xFFFF) - value);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(input,value,output);
+		} else {
+			ImplPixelMath.minus(input,value,output);
 		}
 	}
 
@@ -3270,14 +2331,15 @@ public class PixelMath {
 	 * @param value What is subtracted from each element.
 	 * @param output The output image. Modified.
 	 */
-	public static void minus(GrayS16 input , int value , GrayS16 output ) {
+	public static void minus( GrayS16 input , int value , GrayS16 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		minus_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(input,value,output);
+		} else {
+			ImplPixelMath.minus(input,value,output);
+		}
 	}
 
 	/**
@@ -3291,25 +2353,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
-		int columns = input.width*input.numBands;
-		minus_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void minus_A( short[] input , int inputStart , int inputStride , 
-							   int value ,
-							   short[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = (short)((input[indexSrc] ) - value);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(input,value,output);
+		} else {
+			ImplPixelMath.minus(input,value,output);
 		}
 	}
 
@@ -3320,14 +2367,15 @@ public class PixelMath {
 	 * @param value What is subtracted from each element.
 	 * @param output The output image. Modified.
 	 */
-	public static void minus(GrayS32 input , int value , GrayS32 output ) {
+	public static void minus( GrayS32 input , int value , GrayS32 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		minus_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(input,value,output);
+		} else {
+			ImplPixelMath.minus(input,value,output);
+		}
 	}
 
 	/**
@@ -3341,25 +2389,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
-		int columns = input.width*input.numBands;
-		minus_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void minus_A( int[] input , int inputStart , int inputStride , 
-							   int value ,
-							   int[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = ((input[indexSrc] ) - value);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(input,value,output);
+		} else {
+			ImplPixelMath.minus(input,value,output);
 		}
 	}
 
@@ -3370,14 +2403,15 @@ public class PixelMath {
 	 * @param value What is subtracted from each element.
 	 * @param output The output image. Modified.
 	 */
-	public static void minus(GrayS64 input , long value , GrayS64 output ) {
+	public static void minus( GrayS64 input , long value , GrayS64 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		minus_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(input,value,output);
+		} else {
+			ImplPixelMath.minus(input,value,output);
+		}
 	}
 
 	/**
@@ -3391,25 +2425,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
-		int columns = input.width*input.numBands;
-		minus_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void minus_A( long[] input , int inputStart , int inputStride , 
-							   long value ,
-							   long[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = ((input[indexSrc] ) - value);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(input,value,output);
+		} else {
+			ImplPixelMath.minus(input,value,output);
 		}
 	}
 
@@ -3420,14 +2439,15 @@ public class PixelMath {
 	 * @param value What is subtracted from each element.
 	 * @param output The output image. Modified.
 	 */
-	public static void minus(GrayF32 input , float value , GrayF32 output ) {
+	public static void minus( GrayF32 input , float value , GrayF32 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		minus_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(input,value,output);
+		} else {
+			ImplPixelMath.minus(input,value,output);
+		}
 	}
 
 	/**
@@ -3441,25 +2461,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
-		int columns = input.width*input.numBands;
-		minus_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void minus_A( float[] input , int inputStart , int inputStride , 
-							   float value ,
-							   float[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = ((input[indexSrc] ) - value);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(input,value,output);
+		} else {
+			ImplPixelMath.minus(input,value,output);
 		}
 	}
 
@@ -3470,14 +2475,15 @@ public class PixelMath {
 	 * @param value What is subtracted from each element.
 	 * @param output The output image. Modified.
 	 */
-	public static void minus(GrayF64 input , double value , GrayF64 output ) {
+	public static void minus( GrayF64 input , double value , GrayF64 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		minus_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(input,value,output);
+		} else {
+			ImplPixelMath.minus(input,value,output);
+		}
 	}
 
 	/**
@@ -3491,25 +2497,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
-		int columns = input.width*input.numBands;
-		minus_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void minus_A( double[] input , int inputStart , int inputStride , 
-							   double value ,
-							   double[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = ((input[indexSrc] ) - value);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(input,value,output);
+		} else {
+			ImplPixelMath.minus(input,value,output);
 		}
 	}
 
@@ -3520,14 +2511,15 @@ public class PixelMath {
 	 * @param value What is subtracted from each element.
 	 * @param output The output image. Modified.
 	 */
-	public static void minus(GrayU8 input , int value , int lower , int upper , GrayU8 output ) {
+	public static void minus( GrayU8 input , int value , int lower , int upper , GrayU8 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		minusU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(input,value,lower,upper,output);
+		} else {
+			ImplPixelMath.minus(input,value,lower,upper,output);
+		}
 	}
 
 	/**
@@ -3541,28 +2533,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		minusU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void minusU_A( byte[] input , int inputStart , int inputStride , 
-							   int value , int lower , int upper ,
-							   byte[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				int val = ((input[indexSrc] & 0xFF) - value);
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = (byte)val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(input,value,lower,upper,output);
+		} else {
+			ImplPixelMath.minus(input,value,lower,upper,output);
 		}
 	}
 
@@ -3573,14 +2547,15 @@ public class PixelMath {
 	 * @param value What is subtracted from each element.
 	 * @param output The output image. Modified.
 	 */
-	public static void minus(GrayS8 input , int value , int lower , int upper , GrayS8 output ) {
+	public static void minus( GrayS8 input , int value , int lower , int upper , GrayS8 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(input,value,lower,upper,output);
+		} else {
+			ImplPixelMath.minus(input,value,lower,upper,output);
+		}
 	}
 
 	/**
@@ -3594,28 +2569,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void minus_A( byte[] input , int inputStart , int inputStride , 
-							   int value , int lower , int upper ,
-							   byte[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				int val = ((input[indexSrc] ) - value);
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = (byte)val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(input,value,lower,upper,output);
+		} else {
+			ImplPixelMath.minus(input,value,lower,upper,output);
 		}
 	}
 
@@ -3626,14 +2583,15 @@ public class PixelMath {
 	 * @param value What is subtracted from each element.
 	 * @param output The output image. Modified.
 	 */
-	public static void minus(GrayU16 input , int value , int lower , int upper , GrayU16 output ) {
+	public static void minus( GrayU16 input , int value , int lower , int upper , GrayU16 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		minusU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(input,value,lower,upper,output);
+		} else {
+			ImplPixelMath.minus(input,value,lower,upper,output);
+		}
 	}
 
 	/**
@@ -3647,28 +2605,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		minusU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void minusU_A( short[] input , int inputStart , int inputStride , 
-							   int value , int lower , int upper ,
-							   short[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				int val = ((input[indexSrc] & 0xFFFF) - value);
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = (short)val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(input,value,lower,upper,output);
+		} else {
+			ImplPixelMath.minus(input,value,lower,upper,output);
 		}
 	}
 
@@ -3679,14 +2619,15 @@ public class PixelMath {
 	 * @param value What is subtracted from each element.
 	 * @param output The output image. Modified.
 	 */
-	public static void minus(GrayS16 input , int value , int lower , int upper , GrayS16 output ) {
+	public static void minus( GrayS16 input , int value , int lower , int upper , GrayS16 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(input,value,lower,upper,output);
+		} else {
+			ImplPixelMath.minus(input,value,lower,upper,output);
+		}
 	}
 
 	/**
@@ -3700,28 +2641,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void minus_A( short[] input , int inputStart , int inputStride , 
-							   int value , int lower , int upper ,
-							   short[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				int val = ((input[indexSrc] ) - value);
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = (short)val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(input,value,lower,upper,output);
+		} else {
+			ImplPixelMath.minus(input,value,lower,upper,output);
 		}
 	}
 
@@ -3732,14 +2655,15 @@ public class PixelMath {
 	 * @param value What is subtracted from each element.
 	 * @param output The output image. Modified.
 	 */
-	public static void minus(GrayS32 input , int value , int lower , int upper , GrayS32 output ) {
+	public static void minus( GrayS32 input , int value , int lower , int upper , GrayS32 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(input,value,lower,upper,output);
+		} else {
+			ImplPixelMath.minus(input,value,lower,upper,output);
+		}
 	}
 
 	/**
@@ -3753,28 +2677,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void minus_A( int[] input , int inputStart , int inputStride , 
-							   int value , int lower , int upper ,
-							   int[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				int val = ((input[indexSrc] ) - value);
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(input,value,lower,upper,output);
+		} else {
+			ImplPixelMath.minus(input,value,lower,upper,output);
 		}
 	}
 
@@ -3785,14 +2691,15 @@ public class PixelMath {
 	 * @param value What is subtracted from each element.
 	 * @param output The output image. Modified.
 	 */
-	public static void minus(GrayS64 input , long value , long lower , long upper , GrayS64 output ) {
+	public static void minus( GrayS64 input , long value , long lower , long upper , GrayS64 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(input,value,lower,upper,output);
+		} else {
+			ImplPixelMath.minus(input,value,lower,upper,output);
+		}
 	}
 
 	/**
@@ -3806,28 +2713,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void minus_A( long[] input , int inputStart , int inputStride , 
-							   long value , long lower , long upper ,
-							   long[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				long val = ((input[indexSrc] ) - value);
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(input,value,lower,upper,output);
+		} else {
+			ImplPixelMath.minus(input,value,lower,upper,output);
 		}
 	}
 
@@ -3838,14 +2727,15 @@ public class PixelMath {
 	 * @param value What is subtracted from each element.
 	 * @param output The output image. Modified.
 	 */
-	public static void minus(GrayF32 input , float value , float lower , float upper , GrayF32 output ) {
+	public static void minus( GrayF32 input , float value , float lower , float upper , GrayF32 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(input,value,lower,upper,output);
+		} else {
+			ImplPixelMath.minus(input,value,lower,upper,output);
+		}
 	}
 
 	/**
@@ -3859,28 +2749,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void minus_A( float[] input , int inputStart , int inputStride , 
-							   float value , float lower , float upper ,
-							   float[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				float val = ((input[indexSrc] ) - value);
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(input,value,lower,upper,output);
+		} else {
+			ImplPixelMath.minus(input,value,lower,upper,output);
 		}
 	}
 
@@ -3891,14 +2763,15 @@ public class PixelMath {
 	 * @param value What is subtracted from each element.
 	 * @param output The output image. Modified.
 	 */
-	public static void minus(GrayF64 input , double value , double lower , double upper , GrayF64 output ) {
+	public static void minus( GrayF64 input , double value , double lower , double upper , GrayF64 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(input,value,lower,upper,output);
+		} else {
+			ImplPixelMath.minus(input,value,lower,upper,output);
+		}
 	}
 
 	/**
@@ -3912,28 +2785,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void minus_A( double[] input , int inputStart , int inputStride , 
-							   double value , double lower , double upper ,
-							   double[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				double val = ((input[indexSrc] ) - value);
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(input,value,lower,upper,output);
+		} else {
+			ImplPixelMath.minus(input,value,lower,upper,output);
 		}
 	}
 
@@ -3944,14 +2799,15 @@ public class PixelMath {
 	 * @param input The input image. Not modified.
 	 * @param output The output image. Modified.
 	 */
-	public static void minus(int value , GrayU8 input , GrayU8 output ) {
+	public static void minus( int value , GrayU8 input , GrayU8 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		minusU_B(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(value,input,output);
+		} else {
+			ImplPixelMath.minus(value,input,output);
+		}
 	}
 
 	/**
@@ -3965,25 +2821,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
-		int columns = input.width*input.numBands;
-		minusU_B(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void minusU_B( byte[] input , int inputStart , int inputStride , 
-							   int value ,
-							   byte[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = (byte)(value - (input[indexSrc] & 0xFF));
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(value,input,output);
+		} else {
+			ImplPixelMath.minus(value,input,output);
 		}
 	}
 
@@ -3994,14 +2835,15 @@ public class PixelMath {
 	 * @param input The input image. Not modified.
 	 * @param output The output image. Modified.
 	 */
-	public static void minus(int value , GrayS8 input , GrayS8 output ) {
+	public static void minus( int value , GrayS8 input , GrayS8 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		minus_B(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(value,input,output);
+		} else {
+			ImplPixelMath.minus(value,input,output);
+		}
 	}
 
 	/**
@@ -4015,25 +2857,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
-		int columns = input.width*input.numBands;
-		minus_B(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void minus_B( byte[] input , int inputStart , int inputStride , 
-							   int value ,
-							   byte[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = (byte)(value - (input[indexSrc] ));
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(value,input,output);
+		} else {
+			ImplPixelMath.minus(value,input,output);
 		}
 	}
 
@@ -4044,14 +2871,15 @@ public class PixelMath {
 	 * @param input The input image. Not modified.
 	 * @param output The output image. Modified.
 	 */
-	public static void minus(int value , GrayU16 input , GrayU16 output ) {
+	public static void minus( int value , GrayU16 input , GrayU16 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		minusU_B(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(value,input,output);
+		} else {
+			ImplPixelMath.minus(value,input,output);
+		}
 	}
 
 	/**
@@ -4065,25 +2893,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
-		int columns = input.width*input.numBands;
-		minusU_B(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void minusU_B( short[] input , int inputStart , int inputStride , 
-							   int value ,
-							   short[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = (short)(value - (input[indexSrc] & 0xFFFF));
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(value,input,output);
+		} else {
+			ImplPixelMath.minus(value,input,output);
 		}
 	}
 
@@ -4094,14 +2907,15 @@ public class PixelMath {
 	 * @param input The input image. Not modified.
 	 * @param output The output image. Modified.
 	 */
-	public static void minus(int value , GrayS16 input , GrayS16 output ) {
+	public static void minus( int value , GrayS16 input , GrayS16 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		minus_B(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(value,input,output);
+		} else {
+			ImplPixelMath.minus(value,input,output);
+		}
 	}
 
 	/**
@@ -4115,25 +2929,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
-		int columns = input.width*input.numBands;
-		minus_B(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void minus_B( short[] input , int inputStart , int inputStride , 
-							   int value ,
-							   short[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = (short)(value - (input[indexSrc] ));
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(value,input,output);
+		} else {
+			ImplPixelMath.minus(value,input,output);
 		}
 	}
 
@@ -4144,14 +2943,15 @@ public class PixelMath {
 	 * @param input The input image. Not modified.
 	 * @param output The output image. Modified.
 	 */
-	public static void minus(int value , GrayS32 input , GrayS32 output ) {
+	public static void minus( int value , GrayS32 input , GrayS32 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		minus_B(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(value,input,output);
+		} else {
+			ImplPixelMath.minus(value,input,output);
+		}
 	}
 
 	/**
@@ -4165,25 +2965,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
-		int columns = input.width*input.numBands;
-		minus_B(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void minus_B( int[] input , int inputStart , int inputStride , 
-							   int value ,
-							   int[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = (value - (input[indexSrc] ));
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(value,input,output);
+		} else {
+			ImplPixelMath.minus(value,input,output);
 		}
 	}
 
@@ -4194,14 +2979,15 @@ public class PixelMath {
 	 * @param input The input image. Not modified.
 	 * @param output The output image. Modified.
 	 */
-	public static void minus(long value , GrayS64 input , GrayS64 output ) {
+	public static void minus( long value , GrayS64 input , GrayS64 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		minus_B(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(value,input,output);
+		} else {
+			ImplPixelMath.minus(value,input,output);
+		}
 	}
 
 	/**
@@ -4215,25 +3001,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
-		int columns = input.width*input.numBands;
-		minus_B(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void minus_B( long[] input , int inputStart , int inputStride , 
-							   long value ,
-							   long[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = (value - (input[indexSrc] ));
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(value,input,output);
+		} else {
+			ImplPixelMath.minus(value,input,output);
 		}
 	}
 
@@ -4244,14 +3015,15 @@ public class PixelMath {
 	 * @param input The input image. Not modified.
 	 * @param output The output image. Modified.
 	 */
-	public static void minus(float value , GrayF32 input , GrayF32 output ) {
+	public static void minus( float value , GrayF32 input , GrayF32 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		minus_B(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(value,input,output);
+		} else {
+			ImplPixelMath.minus(value,input,output);
+		}
 	}
 
 	/**
@@ -4265,25 +3037,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
-		int columns = input.width*input.numBands;
-		minus_B(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void minus_B( float[] input , int inputStart , int inputStride , 
-							   float value ,
-							   float[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = (value - (input[indexSrc] ));
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(value,input,output);
+		} else {
+			ImplPixelMath.minus(value,input,output);
 		}
 	}
 
@@ -4294,14 +3051,15 @@ public class PixelMath {
 	 * @param input The input image. Not modified.
 	 * @param output The output image. Modified.
 	 */
-	public static void minus(double value , GrayF64 input , GrayF64 output ) {
+	public static void minus( double value , GrayF64 input , GrayF64 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		minus_B(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(value,input,output);
+		} else {
+			ImplPixelMath.minus(value,input,output);
+		}
 	}
 
 	/**
@@ -4315,25 +3073,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
-		int columns = input.width*input.numBands;
-		minus_B(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void minus_B( double[] input , int inputStart , int inputStride , 
-							   double value ,
-							   double[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = (value - (input[indexSrc] ));
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(value,input,output);
+		} else {
+			ImplPixelMath.minus(value,input,output);
 		}
 	}
 
@@ -4344,14 +3087,15 @@ public class PixelMath {
 	 * @param input The input image. Not modified.
 	 * @param output The output image. Modified.
 	 */
-	public static void minus(int value , GrayU8 input , int lower , int upper , GrayU8 output ) {
+	public static void minus( int value , GrayU8 input , int lower , int upper , GrayU8 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		minusU_B(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(value,input,lower,upper,output);
+		} else {
+			ImplPixelMath.minus(value,input,lower,upper,output);
+		}
 	}
 
 	/**
@@ -4365,28 +3109,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		minusU_B(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void minusU_B( byte[] input , int inputStart , int inputStride , 
-							   int value , int lower , int upper ,
-							   byte[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				int val = (value - (input[indexSrc] & 0xFF));
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = (byte)val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(value,input,lower,upper,output);
+		} else {
+			ImplPixelMath.minus(value,input,lower,upper,output);
 		}
 	}
 
@@ -4397,14 +3123,15 @@ public class PixelMath {
 	 * @param input The input image. Not modified.
 	 * @param output The output image. Modified.
 	 */
-	public static void minus(int value , GrayS8 input , int lower , int upper , GrayS8 output ) {
+	public static void minus( int value , GrayS8 input , int lower , int upper , GrayS8 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(value,input,lower,upper,output);
+		} else {
+			ImplPixelMath.minus(value,input,lower,upper,output);
+		}
 	}
 
 	/**
@@ -4418,28 +3145,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void minus_B( byte[] input , int inputStart , int inputStride , 
-							   int value , int lower , int upper ,
-							   byte[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				int val = (value - (input[indexSrc] ));
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = (byte)val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(value,input,lower,upper,output);
+		} else {
+			ImplPixelMath.minus(value,input,lower,upper,output);
 		}
 	}
 
@@ -4450,14 +3159,15 @@ public class PixelMath {
 	 * @param input The input image. Not modified.
 	 * @param output The output image. Modified.
 	 */
-	public static void minus(int value , GrayU16 input , int lower , int upper , GrayU16 output ) {
+	public static void minus( int value , GrayU16 input , int lower , int upper , GrayU16 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		minusU_B(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(value,input,lower,upper,output);
+		} else {
+			ImplPixelMath.minus(value,input,lower,upper,output);
+		}
 	}
 
 	/**
@@ -4471,28 +3181,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		minusU_B(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void minusU_B( short[] input , int inputStart , int inputStride , 
-							   int value , int lower , int upper ,
-							   short[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				int val = (value - (input[indexSrc] & 0xFFFF));
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = (short)val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(value,input,lower,upper,output);
+		} else {
+			ImplPixelMath.minus(value,input,lower,upper,output);
 		}
 	}
 
@@ -4503,14 +3195,15 @@ public class PixelMath {
 	 * @param input The input image. Not modified.
 	 * @param output The output image. Modified.
 	 */
-	public static void minus(int value , GrayS16 input , int lower , int upper , GrayS16 output ) {
+	public static void minus( int value , GrayS16 input , int lower , int upper , GrayS16 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(value,input,lower,upper,output);
+		} else {
+			ImplPixelMath.minus(value,input,lower,upper,output);
+		}
 	}
 
 	/**
@@ -4524,28 +3217,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void minus_B( short[] input , int inputStart , int inputStride , 
-							   int value , int lower , int upper ,
-							   short[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				int val = (value - (input[indexSrc] ));
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = (short)val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(value,input,lower,upper,output);
+		} else {
+			ImplPixelMath.minus(value,input,lower,upper,output);
 		}
 	}
 
@@ -4556,14 +3231,15 @@ public class PixelMath {
 	 * @param input The input image. Not modified.
 	 * @param output The output image. Modified.
 	 */
-	public static void minus(int value , GrayS32 input , int lower , int upper , GrayS32 output ) {
+	public static void minus( int value , GrayS32 input , int lower , int upper , GrayS32 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(value,input,lower,upper,output);
+		} else {
+			ImplPixelMath.minus(value,input,lower,upper,output);
+		}
 	}
 
 	/**
@@ -4577,28 +3253,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void minus_B( int[] input , int inputStart , int inputStride , 
-							   int value , int lower , int upper ,
-							   int[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				int val = (value - (input[indexSrc] ));
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(value,input,lower,upper,output);
+		} else {
+			ImplPixelMath.minus(value,input,lower,upper,output);
 		}
 	}
 
@@ -4609,14 +3267,15 @@ public class PixelMath {
 	 * @param input The input image. Not modified.
 	 * @param output The output image. Modified.
 	 */
-	public static void minus(long value , GrayS64 input , long lower , long upper , GrayS64 output ) {
+	public static void minus( long value , GrayS64 input , long lower , long upper , GrayS64 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(value,input,lower,upper,output);
+		} else {
+			ImplPixelMath.minus(value,input,lower,upper,output);
+		}
 	}
 
 	/**
@@ -4630,28 +3289,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void minus_B( long[] input , int inputStart , int inputStride , 
-							   long value , long lower , long upper ,
-							   long[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				long val = (value - (input[indexSrc] ));
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(value,input,lower,upper,output);
+		} else {
+			ImplPixelMath.minus(value,input,lower,upper,output);
 		}
 	}
 
@@ -4662,14 +3303,15 @@ public class PixelMath {
 	 * @param input The input image. Not modified.
 	 * @param output The output image. Modified.
 	 */
-	public static void minus(float value , GrayF32 input , float lower , float upper , GrayF32 output ) {
+	public static void minus( float value , GrayF32 input , float lower , float upper , GrayF32 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(value,input,lower,upper,output);
+		} else {
+			ImplPixelMath.minus(value,input,lower,upper,output);
+		}
 	}
 
 	/**
@@ -4683,28 +3325,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void minus_B( float[] input , int inputStart , int inputStride , 
-							   float value , float lower , float upper ,
-							   float[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				float val = (value - (input[indexSrc] ));
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(value,input,lower,upper,output);
+		} else {
+			ImplPixelMath.minus(value,input,lower,upper,output);
 		}
 	}
 
@@ -4715,14 +3339,15 @@ public class PixelMath {
 	 * @param input The input image. Not modified.
 	 * @param output The output image. Modified.
 	 */
-	public static void minus(double value , GrayF64 input , double lower , double upper , GrayF64 output ) {
+	public static void minus( double value , GrayF64 input , double lower , double upper , GrayF64 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width;
-		minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(value,input,lower,upper,output);
+		} else {
+			ImplPixelMath.minus(value,input,lower,upper,output);
+		}
 	}
 
 	/**
@@ -4736,28 +3361,10 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		int columns = input.width*input.numBands;
-		minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void minus_B( double[] input , int inputStart , int inputStride , 
-							   double value , double lower , double upper ,
-							   double[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				double val = (value - (input[indexSrc] ));
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.minus(value,input,lower,upper,output);
+		} else {
+			ImplPixelMath.minus(value,input,lower,upper,output);
 		}
 	}
 
@@ -4768,23 +3375,11 @@ public class PixelMath {
 	 * @param min minimum value.
 	 * @param max maximum value.
 	 */
-	public static void boundImage(GrayU8 img , int min , int max ) {
-		final int h = img.getHeight();
-		final int w = img.getWidth();
-
-		byte[] data = img.data;
-
-		for (int y = 0; y < h; y++) {
-			int index = img.getStartIndex() + y * img.getStride();
-			int indexEnd = index+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; index < indexEnd; index++) {
-				int value = data[index]& 0xFF;
-				if( value < min )
-					data[index] = (byte)min;
-				else if( value > max )
-					data[index] = (byte)max;
-			}
+	public static void boundImage( GrayU8 img , int min , int max ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.boundImage(img,min,max);
+		} else {
+			ImplPixelMath.boundImage(img,min,max);
 		}
 	}
 
@@ -4797,22 +3392,13 @@ public class PixelMath {
 	 * @param imgB Input image. Not modified.
 	 * @param diff Absolute value of difference image. Modified.
 	 */
-	public static void diffAbs(GrayU8 imgA , GrayU8 imgB , GrayU8 diff ) {
+	public static void diffAbs( GrayU8 imgA , GrayU8 imgB , GrayU8 diff ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,diff);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexDiff = diff.getStartIndex() + y * diff.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexDiff++ ) {
-				diff.data[indexDiff] = (byte)Math.abs((imgA.data[indexA] & 0xFF) - (imgB.data[indexB] & 0xFF));
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.diffAbs(imgA,imgB,diff);
+		} else {
+			ImplPixelMath.diffAbs(imgA,imgB,diff);
 		}
 	}
 
@@ -4822,25 +3408,11 @@ public class PixelMath {
 	 * @param input Planar image
 	 * @param output Gray scale image containing average pixel values
 	 */
-	public static void averageBand(Planar<GrayU8> input , GrayU8 output ) {
-		final int h = input.getHeight();
-		final int w = input.getWidth();
-
-		GrayU8[] bands = input.bands;
-		
-		for (int y = 0; y < h; y++) {
-			int indexInput = input.getStartIndex() + y * input.getStride();
-			int indexOutput = output.getStartIndex() + y * output.getStride();
-
-			int indexEnd = indexInput+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexInput < indexEnd; indexInput++, indexOutput++ ) {
-				int total = 0;
-				for( int i = 0; i < bands.length; i++ ) {
-					total += bands[i].data[ indexInput ]& 0xFF;
-				}
-				output.data[indexOutput] = (byte)(total / bands.length);
-			}
+	public static void averageBand( Planar<GrayU8> input , GrayU8 output ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.averageBand(input,output);
+		} else {
+			ImplPixelMath.averageBand(input,output);
 		}
 	}
 
@@ -4851,23 +3423,11 @@ public class PixelMath {
 	 * @param min minimum value.
 	 * @param max maximum value.
 	 */
-	public static void boundImage(GrayS8 img , int min , int max ) {
-		final int h = img.getHeight();
-		final int w = img.getWidth();
-
-		byte[] data = img.data;
-
-		for (int y = 0; y < h; y++) {
-			int index = img.getStartIndex() + y * img.getStride();
-			int indexEnd = index+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; index < indexEnd; index++) {
-				int value = data[index];
-				if( value < min )
-					data[index] = (byte)min;
-				else if( value > max )
-					data[index] = (byte)max;
-			}
+	public static void boundImage( GrayS8 img , int min , int max ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.boundImage(img,min,max);
+		} else {
+			ImplPixelMath.boundImage(img,min,max);
 		}
 	}
 
@@ -4880,22 +3440,13 @@ public class PixelMath {
 	 * @param imgB Input image. Not modified.
 	 * @param diff Absolute value of difference image. Modified.
 	 */
-	public static void diffAbs(GrayS8 imgA , GrayS8 imgB , GrayS8 diff ) {
+	public static void diffAbs( GrayS8 imgA , GrayS8 imgB , GrayS8 diff ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,diff);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexDiff = diff.getStartIndex() + y * diff.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexDiff++ ) {
-				diff.data[indexDiff] = (byte)Math.abs((imgA.data[indexA] ) - (imgB.data[indexB] ));
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.diffAbs(imgA,imgB,diff);
+		} else {
+			ImplPixelMath.diffAbs(imgA,imgB,diff);
 		}
 	}
 
@@ -4905,25 +3456,11 @@ public class PixelMath {
 	 * @param input Planar image
 	 * @param output Gray scale image containing average pixel values
 	 */
-	public static void averageBand(Planar<GrayS8> input , GrayS8 output ) {
-		final int h = input.getHeight();
-		final int w = input.getWidth();
-
-		GrayS8[] bands = input.bands;
-		
-		for (int y = 0; y < h; y++) {
-			int indexInput = input.getStartIndex() + y * input.getStride();
-			int indexOutput = output.getStartIndex() + y * output.getStride();
-
-			int indexEnd = indexInput+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexInput < indexEnd; indexInput++, indexOutput++ ) {
-				int total = 0;
-				for( int i = 0; i < bands.length; i++ ) {
-					total += bands[i].data[ indexInput ];
-				}
-				output.data[indexOutput] = (byte)(total / bands.length);
-			}
+	public static void averageBand( Planar<GrayS8> input , GrayS8 output ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.averageBand(input,output);
+		} else {
+			ImplPixelMath.averageBand(input,output);
 		}
 	}
 
@@ -4934,23 +3471,11 @@ public class PixelMath {
 	 * @param min minimum value.
 	 * @param max maximum value.
 	 */
-	public static void boundImage(GrayU16 img , int min , int max ) {
-		final int h = img.getHeight();
-		final int w = img.getWidth();
-
-		short[] data = img.data;
-
-		for (int y = 0; y < h; y++) {
-			int index = img.getStartIndex() + y * img.getStride();
-			int indexEnd = index+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; index < indexEnd; index++) {
-				int value = data[index]& 0xFFFF;
-				if( value < min )
-					data[index] = (short)min;
-				else if( value > max )
-					data[index] = (short)max;
-			}
+	public static void boundImage( GrayU16 img , int min , int max ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.boundImage(img,min,max);
+		} else {
+			ImplPixelMath.boundImage(img,min,max);
 		}
 	}
 
@@ -4963,22 +3488,13 @@ public class PixelMath {
 	 * @param imgB Input image. Not modified.
 	 * @param diff Absolute value of difference image. Modified.
 	 */
-	public static void diffAbs(GrayU16 imgA , GrayU16 imgB , GrayU16 diff ) {
+	public static void diffAbs( GrayU16 imgA , GrayU16 imgB , GrayU16 diff ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,diff);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexDiff = diff.getStartIndex() + y * diff.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexDiff++ ) {
-				diff.data[indexDiff] = (short)Math.abs((imgA.data[indexA] & 0xFFFF) - (imgB.data[indexB] & 0xFFFF));
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.diffAbs(imgA,imgB,diff);
+		} else {
+			ImplPixelMath.diffAbs(imgA,imgB,diff);
 		}
 	}
 
@@ -4988,25 +3504,11 @@ public class PixelMath {
 	 * @param input Planar image
 	 * @param output Gray scale image containing average pixel values
 	 */
-	public static void averageBand(Planar<GrayU16> input , GrayU16 output ) {
-		final int h = input.getHeight();
-		final int w = input.getWidth();
-
-		GrayU16[] bands = input.bands;
-		
-		for (int y = 0; y < h; y++) {
-			int indexInput = input.getStartIndex() + y * input.getStride();
-			int indexOutput = output.getStartIndex() + y * output.getStride();
-
-			int indexEnd = indexInput+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexInput < indexEnd; indexInput++, indexOutput++ ) {
-				int total = 0;
-				for( int i = 0; i < bands.length; i++ ) {
-					total += bands[i].data[ indexInput ]& 0xFFFF;
-				}
-				output.data[indexOutput] = (short)(total / bands.length);
-			}
+	public static void averageBand( Planar<GrayU16> input , GrayU16 output ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.averageBand(input,output);
+		} else {
+			ImplPixelMath.averageBand(input,output);
 		}
 	}
 
@@ -5017,23 +3519,11 @@ public class PixelMath {
 	 * @param min minimum value.
 	 * @param max maximum value.
 	 */
-	public static void boundImage(GrayS16 img , int min , int max ) {
-		final int h = img.getHeight();
-		final int w = img.getWidth();
-
-		short[] data = img.data;
-
-		for (int y = 0; y < h; y++) {
-			int index = img.getStartIndex() + y * img.getStride();
-			int indexEnd = index+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; index < indexEnd; index++) {
-				int value = data[index];
-				if( value < min )
-					data[index] = (short)min;
-				else if( value > max )
-					data[index] = (short)max;
-			}
+	public static void boundImage( GrayS16 img , int min , int max ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.boundImage(img,min,max);
+		} else {
+			ImplPixelMath.boundImage(img,min,max);
 		}
 	}
 
@@ -5046,22 +3536,13 @@ public class PixelMath {
 	 * @param imgB Input image. Not modified.
 	 * @param diff Absolute value of difference image. Modified.
 	 */
-	public static void diffAbs(GrayS16 imgA , GrayS16 imgB , GrayS16 diff ) {
+	public static void diffAbs( GrayS16 imgA , GrayS16 imgB , GrayS16 diff ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,diff);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexDiff = diff.getStartIndex() + y * diff.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexDiff++ ) {
-				diff.data[indexDiff] = (short)Math.abs((imgA.data[indexA] ) - (imgB.data[indexB] ));
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.diffAbs(imgA,imgB,diff);
+		} else {
+			ImplPixelMath.diffAbs(imgA,imgB,diff);
 		}
 	}
 
@@ -5071,25 +3552,11 @@ public class PixelMath {
 	 * @param input Planar image
 	 * @param output Gray scale image containing average pixel values
 	 */
-	public static void averageBand(Planar<GrayS16> input , GrayS16 output ) {
-		final int h = input.getHeight();
-		final int w = input.getWidth();
-
-		GrayS16[] bands = input.bands;
-		
-		for (int y = 0; y < h; y++) {
-			int indexInput = input.getStartIndex() + y * input.getStride();
-			int indexOutput = output.getStartIndex() + y * output.getStride();
-
-			int indexEnd = indexInput+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexInput < indexEnd; indexInput++, indexOutput++ ) {
-				int total = 0;
-				for( int i = 0; i < bands.length; i++ ) {
-					total += bands[i].data[ indexInput ];
-				}
-				output.data[indexOutput] = (short)(total / bands.length);
-			}
+	public static void averageBand( Planar<GrayS16> input , GrayS16 output ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.averageBand(input,output);
+		} else {
+			ImplPixelMath.averageBand(input,output);
 		}
 	}
 
@@ -5100,23 +3567,11 @@ public class PixelMath {
 	 * @param min minimum value.
 	 * @param max maximum value.
 	 */
-	public static void boundImage(GrayS32 img , int min , int max ) {
-		final int h = img.getHeight();
-		final int w = img.getWidth();
-
-		int[] data = img.data;
-
-		for (int y = 0; y < h; y++) {
-			int index = img.getStartIndex() + y * img.getStride();
-			int indexEnd = index+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; index < indexEnd; index++) {
-				int value = data[index];
-				if( value < min )
-					data[index] = min;
-				else if( value > max )
-					data[index] = max;
-			}
+	public static void boundImage( GrayS32 img , int min , int max ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.boundImage(img,min,max);
+		} else {
+			ImplPixelMath.boundImage(img,min,max);
 		}
 	}
 
@@ -5129,22 +3584,13 @@ public class PixelMath {
 	 * @param imgB Input image. Not modified.
 	 * @param diff Absolute value of difference image. Modified.
 	 */
-	public static void diffAbs(GrayS32 imgA , GrayS32 imgB , GrayS32 diff ) {
+	public static void diffAbs( GrayS32 imgA , GrayS32 imgB , GrayS32 diff ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,diff);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexDiff = diff.getStartIndex() + y * diff.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexDiff++ ) {
-				diff.data[indexDiff] = (int)Math.abs((imgA.data[indexA] ) - (imgB.data[indexB] ));
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.diffAbs(imgA,imgB,diff);
+		} else {
+			ImplPixelMath.diffAbs(imgA,imgB,diff);
 		}
 	}
 
@@ -5154,25 +3600,11 @@ public class PixelMath {
 	 * @param input Planar image
 	 * @param output Gray scale image containing average pixel values
 	 */
-	public static void averageBand(Planar<GrayS32> input , GrayS32 output ) {
-		final int h = input.getHeight();
-		final int w = input.getWidth();
-
-		GrayS32[] bands = input.bands;
-		
-		for (int y = 0; y < h; y++) {
-			int indexInput = input.getStartIndex() + y * input.getStride();
-			int indexOutput = output.getStartIndex() + y * output.getStride();
-
-			int indexEnd = indexInput+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexInput < indexEnd; indexInput++, indexOutput++ ) {
-				int total = 0;
-				for( int i = 0; i < bands.length; i++ ) {
-					total += bands[i].data[ indexInput ];
-				}
-				output.data[indexOutput] = (total / bands.length);
-			}
+	public static void averageBand( Planar<GrayS32> input , GrayS32 output ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.averageBand(input,output);
+		} else {
+			ImplPixelMath.averageBand(input,output);
 		}
 	}
 
@@ -5183,23 +3615,11 @@ public class PixelMath {
 	 * @param min minimum value.
 	 * @param max maximum value.
 	 */
-	public static void boundImage(GrayS64 img , long min , long max ) {
-		final int h = img.getHeight();
-		final int w = img.getWidth();
-
-		long[] data = img.data;
-
-		for (int y = 0; y < h; y++) {
-			int index = img.getStartIndex() + y * img.getStride();
-			int indexEnd = index+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; index < indexEnd; index++) {
-				long value = data[index];
-				if( value < min )
-					data[index] = min;
-				else if( value > max )
-					data[index] = max;
-			}
+	public static void boundImage( GrayS64 img , long min , long max ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.boundImage(img,min,max);
+		} else {
+			ImplPixelMath.boundImage(img,min,max);
 		}
 	}
 
@@ -5212,22 +3632,13 @@ public class PixelMath {
 	 * @param imgB Input image. Not modified.
 	 * @param diff Absolute value of difference image. Modified.
 	 */
-	public static void diffAbs(GrayS64 imgA , GrayS64 imgB , GrayS64 diff ) {
+	public static void diffAbs( GrayS64 imgA , GrayS64 imgB , GrayS64 diff ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,diff);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexDiff = diff.getStartIndex() + y * diff.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexDiff++ ) {
-				diff.data[indexDiff] = (long)Math.abs((imgA.data[indexA] ) - (imgB.data[indexB] ));
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.diffAbs(imgA,imgB,diff);
+		} else {
+			ImplPixelMath.diffAbs(imgA,imgB,diff);
 		}
 	}
 
@@ -5237,25 +3648,11 @@ public class PixelMath {
 	 * @param input Planar image
 	 * @param output Gray scale image containing average pixel values
 	 */
-	public static void averageBand(Planar<GrayS64> input , GrayS64 output ) {
-		final int h = input.getHeight();
-		final int w = input.getWidth();
-
-		GrayS64[] bands = input.bands;
-		
-		for (int y = 0; y < h; y++) {
-			int indexInput = input.getStartIndex() + y * input.getStride();
-			int indexOutput = output.getStartIndex() + y * output.getStride();
-
-			int indexEnd = indexInput+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexInput < indexEnd; indexInput++, indexOutput++ ) {
-				long total = 0;
-				for( int i = 0; i < bands.length; i++ ) {
-					total += bands[i].data[ indexInput ];
-				}
-				output.data[indexOutput] = (total / bands.length);
-			}
+	public static void averageBand( Planar<GrayS64> input , GrayS64 output ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.averageBand(input,output);
+		} else {
+			ImplPixelMath.averageBand(input,output);
 		}
 	}
 
@@ -5266,23 +3663,11 @@ public class PixelMath {
 	 * @param min minimum value.
 	 * @param max maximum value.
 	 */
-	public static void boundImage(GrayF32 img , float min , float max ) {
-		final int h = img.getHeight();
-		final int w = img.getWidth();
-
-		float[] data = img.data;
-
-		for (int y = 0; y < h; y++) {
-			int index = img.getStartIndex() + y * img.getStride();
-			int indexEnd = index+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; index < indexEnd; index++) {
-				float value = data[index];
-				if( value < min )
-					data[index] = min;
-				else if( value > max )
-					data[index] = max;
-			}
+	public static void boundImage( GrayF32 img , float min , float max ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.boundImage(img,min,max);
+		} else {
+			ImplPixelMath.boundImage(img,min,max);
 		}
 	}
 
@@ -5295,22 +3680,13 @@ public class PixelMath {
 	 * @param imgB Input image. Not modified.
 	 * @param diff Absolute value of difference image. Modified.
 	 */
-	public static void diffAbs(GrayF32 imgA , GrayF32 imgB , GrayF32 diff ) {
+	public static void diffAbs( GrayF32 imgA , GrayF32 imgB , GrayF32 diff ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,diff);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexDiff = diff.getStartIndex() + y * diff.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexDiff++ ) {
-				diff.data[indexDiff] = Math.abs((imgA.data[indexA] ) - (imgB.data[indexB] ));
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.diffAbs(imgA,imgB,diff);
+		} else {
+			ImplPixelMath.diffAbs(imgA,imgB,diff);
 		}
 	}
 
@@ -5320,25 +3696,11 @@ public class PixelMath {
 	 * @param input Planar image
 	 * @param output Gray scale image containing average pixel values
 	 */
-	public static void averageBand(Planar<GrayF32> input , GrayF32 output ) {
-		final int h = input.getHeight();
-		final int w = input.getWidth();
-
-		GrayF32[] bands = input.bands;
-		
-		for (int y = 0; y < h; y++) {
-			int indexInput = input.getStartIndex() + y * input.getStride();
-			int indexOutput = output.getStartIndex() + y * output.getStride();
-
-			int indexEnd = indexInput+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexInput < indexEnd; indexInput++, indexOutput++ ) {
-				float total = 0;
-				for( int i = 0; i < bands.length; i++ ) {
-					total += bands[i].data[ indexInput ];
-				}
-				output.data[indexOutput] = (total / bands.length);
-			}
+	public static void averageBand( Planar<GrayF32> input , GrayF32 output ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.averageBand(input,output);
+		} else {
+			ImplPixelMath.averageBand(input,output);
 		}
 	}
 
@@ -5349,23 +3711,11 @@ public class PixelMath {
 	 * @param min minimum value.
 	 * @param max maximum value.
 	 */
-	public static void boundImage(GrayF64 img , double min , double max ) {
-		final int h = img.getHeight();
-		final int w = img.getWidth();
-
-		double[] data = img.data;
-
-		for (int y = 0; y < h; y++) {
-			int index = img.getStartIndex() + y * img.getStride();
-			int indexEnd = index+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; index < indexEnd; index++) {
-				double value = data[index];
-				if( value < min )
-					data[index] = min;
-				else if( value > max )
-					data[index] = max;
-			}
+	public static void boundImage( GrayF64 img , double min , double max ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.boundImage(img,min,max);
+		} else {
+			ImplPixelMath.boundImage(img,min,max);
 		}
 	}
 
@@ -5378,22 +3728,13 @@ public class PixelMath {
 	 * @param imgB Input image. Not modified.
 	 * @param diff Absolute value of difference image. Modified.
 	 */
-	public static void diffAbs(GrayF64 imgA , GrayF64 imgB , GrayF64 diff ) {
+	public static void diffAbs( GrayF64 imgA , GrayF64 imgB , GrayF64 diff ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,diff);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexDiff = diff.getStartIndex() + y * diff.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexDiff++ ) {
-				diff.data[indexDiff] = Math.abs((imgA.data[indexA] ) - (imgB.data[indexB] ));
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.diffAbs(imgA,imgB,diff);
+		} else {
+			ImplPixelMath.diffAbs(imgA,imgB,diff);
 		}
 	}
 
@@ -5403,25 +3744,11 @@ public class PixelMath {
 	 * @param input Planar image
 	 * @param output Gray scale image containing average pixel values
 	 */
-	public static void averageBand(Planar<GrayF64> input , GrayF64 output ) {
-		final int h = input.getHeight();
-		final int w = input.getWidth();
-
-		GrayF64[] bands = input.bands;
-		
-		for (int y = 0; y < h; y++) {
-			int indexInput = input.getStartIndex() + y * input.getStride();
-			int indexOutput = output.getStartIndex() + y * output.getStride();
-
-			int indexEnd = indexInput+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexInput < indexEnd; indexInput++, indexOutput++ ) {
-				double total = 0;
-				for( int i = 0; i < bands.length; i++ ) {
-					total += bands[i].data[ indexInput ];
-				}
-				output.data[indexOutput] = (total / bands.length);
-			}
+	public static void averageBand( Planar<GrayF64> input , GrayF64 output ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.averageBand(input,output);
+		} else {
+			ImplPixelMath.averageBand(input,output);
 		}
 	}
 
@@ -5434,22 +3761,13 @@ public class PixelMath {
 	 * @param imgB Input image. Not modified.
 	 * @param output Output image. Modified.
 	 */
-	public static void add(GrayU8 imgA , GrayU8 imgB , GrayU16 output ) {
+	public static void add( GrayU8 imgA , GrayU8 imgB , GrayU16 output ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexOut = output.getStartIndex() + y * output.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
-				output.data[indexOut] = (short)((imgA.data[indexA] & 0xFF) + (imgB.data[indexB] & 0xFF));
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.add(imgA,imgB,output);
+		} else {
+			ImplPixelMath.add(imgA,imgB,output);
 		}
 	}
 
@@ -5462,22 +3780,13 @@ public class PixelMath {
 	 * @param imgB Input image. Not modified.
 	 * @param output Output image. Modified.
 	 */
-	public static void subtract(GrayU8 imgA , GrayU8 imgB , GrayI16 output ) {
+	public static void subtract( GrayU8 imgA , GrayU8 imgB , GrayI16 output ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexOut = output.getStartIndex() + y * output.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
-				output.data[indexOut] = (short)((imgA.data[indexA] & 0xFF) - (imgB.data[indexB] & 0xFF));
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.subtract(imgA,imgB,output);
+		} else {
+			ImplPixelMath.subtract(imgA,imgB,output);
 		}
 	}
 
@@ -5490,22 +3799,13 @@ public class PixelMath {
 	 * @param imgB Input image. Not modified.
 	 * @param output Output image. Modified.
 	 */
-	public static void add(GrayS8 imgA , GrayS8 imgB , GrayS16 output ) {
+	public static void add( GrayS8 imgA , GrayS8 imgB , GrayS16 output ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexOut = output.getStartIndex() + y * output.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
-				output.data[indexOut] = (short)((imgA.data[indexA] ) + (imgB.data[indexB] ));
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.add(imgA,imgB,output);
+		} else {
+			ImplPixelMath.add(imgA,imgB,output);
 		}
 	}
 
@@ -5518,22 +3818,13 @@ public class PixelMath {
 	 * @param imgB Input image. Not modified.
 	 * @param output Output image. Modified.
 	 */
-	public static void subtract(GrayS8 imgA , GrayS8 imgB , GrayS16 output ) {
+	public static void subtract( GrayS8 imgA , GrayS8 imgB , GrayS16 output ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexOut = output.getStartIndex() + y * output.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
-				output.data[indexOut] = (short)((imgA.data[indexA] ) - (imgB.data[indexB] ));
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.subtract(imgA,imgB,output);
+		} else {
+			ImplPixelMath.subtract(imgA,imgB,output);
 		}
 	}
 
@@ -5546,22 +3837,13 @@ public class PixelMath {
 	 * @param imgB Input image. Not modified.
 	 * @param output Output image. Modified.
 	 */
-	public static void add(GrayU16 imgA , GrayU16 imgB , GrayS32 output ) {
+	public static void add( GrayU16 imgA , GrayU16 imgB , GrayS32 output ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexOut = output.getStartIndex() + y * output.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
-				output.data[indexOut] = (int)((imgA.data[indexA] & 0xFFFF) + (imgB.data[indexB] & 0xFFFF));
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.add(imgA,imgB,output);
+		} else {
+			ImplPixelMath.add(imgA,imgB,output);
 		}
 	}
 
@@ -5574,22 +3856,13 @@ public class PixelMath {
 	 * @param imgB Input image. Not modified.
 	 * @param output Output image. Modified.
 	 */
-	public static void subtract(GrayU16 imgA , GrayU16 imgB , GrayS32 output ) {
+	public static void subtract( GrayU16 imgA , GrayU16 imgB , GrayS32 output ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexOut = output.getStartIndex() + y * output.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
-				output.data[indexOut] = (int)((imgA.data[indexA] & 0xFFFF) - (imgB.data[indexB] & 0xFFFF));
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.subtract(imgA,imgB,output);
+		} else {
+			ImplPixelMath.subtract(imgA,imgB,output);
 		}
 	}
 
@@ -5602,22 +3875,13 @@ public class PixelMath {
 	 * @param imgB Input image. Not modified.
 	 * @param output Output image. Modified.
 	 */
-	public static void add(GrayS16 imgA , GrayS16 imgB , GrayS32 output ) {
+	public static void add( GrayS16 imgA , GrayS16 imgB , GrayS32 output ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexOut = output.getStartIndex() + y * output.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
-				output.data[indexOut] = (int)((imgA.data[indexA] ) + (imgB.data[indexB] ));
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.add(imgA,imgB,output);
+		} else {
+			ImplPixelMath.add(imgA,imgB,output);
 		}
 	}
 
@@ -5630,22 +3894,13 @@ public class PixelMath {
 	 * @param imgB Input image. Not modified.
 	 * @param output Output image. Modified.
 	 */
-	public static void subtract(GrayS16 imgA , GrayS16 imgB , GrayS32 output ) {
+	public static void subtract( GrayS16 imgA , GrayS16 imgB , GrayS32 output ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexOut = output.getStartIndex() + y * output.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
-				output.data[indexOut] = (int)((imgA.data[indexA] ) - (imgB.data[indexB] ));
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.subtract(imgA,imgB,output);
+		} else {
+			ImplPixelMath.subtract(imgA,imgB,output);
 		}
 	}
 
@@ -5658,22 +3913,13 @@ public class PixelMath {
 	 * @param imgB Input image. Not modified.
 	 * @param output Output image. Modified.
 	 */
-	public static void add(GrayS32 imgA , GrayS32 imgB , GrayS32 output ) {
+	public static void add( GrayS32 imgA , GrayS32 imgB , GrayS32 output ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexOut = output.getStartIndex() + y * output.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
-				output.data[indexOut] = (int)((imgA.data[indexA] ) + (imgB.data[indexB] ));
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.add(imgA,imgB,output);
+		} else {
+			ImplPixelMath.add(imgA,imgB,output);
 		}
 	}
 
@@ -5686,22 +3932,13 @@ public class PixelMath {
 	 * @param imgB Input image. Not modified.
 	 * @param output Output image. Modified.
 	 */
-	public static void subtract(GrayS32 imgA , GrayS32 imgB , GrayS32 output ) {
+	public static void subtract( GrayS32 imgA , GrayS32 imgB , GrayS32 output ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexOut = output.getStartIndex() + y * output.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
-				output.data[indexOut] = (int)((imgA.data[indexA] ) - (imgB.data[indexB] ));
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.subtract(imgA,imgB,output);
+		} else {
+			ImplPixelMath.subtract(imgA,imgB,output);
 		}
 	}
 
@@ -5714,22 +3951,13 @@ public class PixelMath {
 	 * @param imgB Input image. Not modified.
 	 * @param output Output image. Modified.
 	 */
-	public static void add(GrayS64 imgA , GrayS64 imgB , GrayS64 output ) {
+	public static void add( GrayS64 imgA , GrayS64 imgB , GrayS64 output ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexOut = output.getStartIndex() + y * output.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
-				output.data[indexOut] = (long)((imgA.data[indexA] ) + (imgB.data[indexB] ));
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.add(imgA,imgB,output);
+		} else {
+			ImplPixelMath.add(imgA,imgB,output);
 		}
 	}
 
@@ -5742,22 +3970,13 @@ public class PixelMath {
 	 * @param imgB Input image. Not modified.
 	 * @param output Output image. Modified.
 	 */
-	public static void subtract(GrayS64 imgA , GrayS64 imgB , GrayS64 output ) {
+	public static void subtract( GrayS64 imgA , GrayS64 imgB , GrayS64 output ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexOut = output.getStartIndex() + y * output.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
-				output.data[indexOut] = (long)((imgA.data[indexA] ) - (imgB.data[indexB] ));
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.subtract(imgA,imgB,output);
+		} else {
+			ImplPixelMath.subtract(imgA,imgB,output);
 		}
 	}
 
@@ -5770,22 +3989,13 @@ public class PixelMath {
 	 * @param imgB Input image. Not modified.
 	 * @param output Output image. Modified.
 	 */
-	public static void add(GrayF32 imgA , GrayF32 imgB , GrayF32 output ) {
+	public static void add( GrayF32 imgA , GrayF32 imgB , GrayF32 output ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexOut = output.getStartIndex() + y * output.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
-				output.data[indexOut] = ((imgA.data[indexA] ) + (imgB.data[indexB] ));
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.add(imgA,imgB,output);
+		} else {
+			ImplPixelMath.add(imgA,imgB,output);
 		}
 	}
 
@@ -5798,22 +4008,13 @@ public class PixelMath {
 	 * @param imgB Input image. Not modified.
 	 * @param output Output image. Modified.
 	 */
-	public static void subtract(GrayF32 imgA , GrayF32 imgB , GrayF32 output ) {
+	public static void subtract( GrayF32 imgA , GrayF32 imgB , GrayF32 output ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexOut = output.getStartIndex() + y * output.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
-				output.data[indexOut] = ((imgA.data[indexA] ) - (imgB.data[indexB] ));
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.subtract(imgA,imgB,output);
+		} else {
+			ImplPixelMath.subtract(imgA,imgB,output);
 		}
 	}
 
@@ -5826,22 +4027,13 @@ public class PixelMath {
 	 * @param imgB Input image. Not modified.
 	 * @param output Output image. Modified.
 	 */
-	public static void multiply(GrayF32 imgA , GrayF32 imgB , GrayF32 output ) {
+	public static void multiply( GrayF32 imgA , GrayF32 imgB , GrayF32 output ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexOut = output.getStartIndex() + y * output.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
-				output.data[indexOut] = ((imgA.data[indexA] ) * (imgB.data[indexB] ));
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply(imgA,imgB,output);
+		} else {
+			ImplPixelMath.multiply(imgA,imgB,output);
 		}
 	}
 
@@ -5854,22 +4046,13 @@ public class PixelMath {
 	 * @param imgB Input image. Not modified.
 	 * @param output Output image. Modified.
 	 */
-	public static void divide(GrayF32 imgA , GrayF32 imgB , GrayF32 output ) {
+	public static void divide( GrayF32 imgA , GrayF32 imgB , GrayF32 output ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexOut = output.getStartIndex() + y * output.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
-				output.data[indexOut] = ((imgA.data[indexA] ) / (imgB.data[indexB] ));
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide(imgA,imgB,output);
+		} else {
+			ImplPixelMath.divide(imgA,imgB,output);
 		}
 	}
 
@@ -5880,18 +4063,14 @@ public class PixelMath {
 	 * @param input The input image. Not modified.
 	 * @param output Where the log image is written to. Modified.
 	 */
-	public static void log(GrayF32 input , GrayF32 output ) {
+	public static void log( GrayF32 input , GrayF32 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output.data[indexDst] = (float)Math.log(1 + input.data[indexSrc]);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.log(input,output);
+		} else {
+			ImplPixelMath.log(input,output);
 		}
 	}
 
@@ -5901,19 +4080,14 @@ public class PixelMath {
 	 * @param input The input image. Not modified.
 	 * @param output Where the pow2 image is written to. Modified.
 	 */
-	public static void pow2(GrayF32 input , GrayF32 output ) {
+	public static void pow2( GrayF32 input , GrayF32 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				float v = input.data[indexSrc];
-				output.data[indexDst] = v*v;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.pow2(input,output);
+		} else {
+			ImplPixelMath.pow2(input,output);
 		}
 	}
 
@@ -5924,18 +4098,14 @@ public class PixelMath {
 	 * @param input The input image. Not modified.
 	 * @param output Where the sqrt() image is written to. Modified.
 	 */
-	public static void sqrt(GrayF32 input , GrayF32 output ) {
+	public static void sqrt( GrayF32 input , GrayF32 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output.data[indexDst] = (float)Math.sqrt(input.data[indexSrc]);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.sqrt(input,output);
+		} else {
+			ImplPixelMath.sqrt(input,output);
 		}
 	}
 
@@ -5948,22 +4118,13 @@ public class PixelMath {
 	 * @param imgB Input image. Not modified.
 	 * @param output Output image. Modified.
 	 */
-	public static void add(GrayF64 imgA , GrayF64 imgB , GrayF64 output ) {
+	public static void add( GrayF64 imgA , GrayF64 imgB , GrayF64 output ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexOut = output.getStartIndex() + y * output.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
-				output.data[indexOut] = ((imgA.data[indexA] ) + (imgB.data[indexB] ));
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.add(imgA,imgB,output);
+		} else {
+			ImplPixelMath.add(imgA,imgB,output);
 		}
 	}
 
@@ -5976,22 +4137,13 @@ public class PixelMath {
 	 * @param imgB Input image. Not modified.
 	 * @param output Output image. Modified.
 	 */
-	public static void subtract(GrayF64 imgA , GrayF64 imgB , GrayF64 output ) {
+	public static void subtract( GrayF64 imgA , GrayF64 imgB , GrayF64 output ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexOut = output.getStartIndex() + y * output.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
-				output.data[indexOut] = ((imgA.data[indexA] ) - (imgB.data[indexB] ));
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.subtract(imgA,imgB,output);
+		} else {
+			ImplPixelMath.subtract(imgA,imgB,output);
 		}
 	}
 
@@ -6004,22 +4156,13 @@ public class PixelMath {
 	 * @param imgB Input image. Not modified.
 	 * @param output Output image. Modified.
 	 */
-	public static void multiply(GrayF64 imgA , GrayF64 imgB , GrayF64 output ) {
+	public static void multiply( GrayF64 imgA , GrayF64 imgB , GrayF64 output ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexOut = output.getStartIndex() + y * output.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
-				output.data[indexOut] = ((imgA.data[indexA] ) * (imgB.data[indexB] ));
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply(imgA,imgB,output);
+		} else {
+			ImplPixelMath.multiply(imgA,imgB,output);
 		}
 	}
 
@@ -6032,22 +4175,13 @@ public class PixelMath {
 	 * @param imgB Input image. Not modified.
 	 * @param output Output image. Modified.
 	 */
-	public static void divide(GrayF64 imgA , GrayF64 imgB , GrayF64 output ) {
+	public static void divide( GrayF64 imgA , GrayF64 imgB , GrayF64 output ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexOut = output.getStartIndex() + y * output.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
-				output.data[indexOut] = ((imgA.data[indexA] ) / (imgB.data[indexB] ));
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide(imgA,imgB,output);
+		} else {
+			ImplPixelMath.divide(imgA,imgB,output);
 		}
 	}
 
@@ -6058,18 +4192,14 @@ public class PixelMath {
 	 * @param input The input image. Not modified.
 	 * @param output Where the log image is written to. Modified.
 	 */
-	public static void log(GrayF64 input , GrayF64 output ) {
+	public static void log( GrayF64 input , GrayF64 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output.data[indexDst] = Math.log(1 + input.data[indexSrc]);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.log(input,output);
+		} else {
+			ImplPixelMath.log(input,output);
 		}
 	}
 
@@ -6079,19 +4209,14 @@ public class PixelMath {
 	 * @param input The input image. Not modified.
 	 * @param output Where the pow2 image is written to. Modified.
 	 */
-	public static void pow2(GrayF64 input , GrayF64 output ) {
+	public static void pow2( GrayF64 input , GrayF64 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				double v = input.data[indexSrc];
-				output.data[indexDst] = v*v;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.pow2(input,output);
+		} else {
+			ImplPixelMath.pow2(input,output);
 		}
 	}
 
@@ -6102,18 +4227,14 @@ public class PixelMath {
 	 * @param input The input image. Not modified.
 	 * @param output Where the sqrt() image is written to. Modified.
 	 */
-	public static void sqrt(GrayF64 input , GrayF64 output ) {
+	public static void sqrt( GrayF64 input , GrayF64 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output.data[indexDst] = Math.sqrt(input.data[indexSrc]);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.sqrt(input,output);
+		} else {
+			ImplPixelMath.sqrt(input,output);
 		}
 	}
 
@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.census;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.border.ImageBorder_S32;
+import boofcv.struct.image.GrayS32;
+import boofcv.struct.image.GrayS64;
+import boofcv.struct.image.GrayU8;
+
+import javax.annotation.Nullable;
+
+/**
+ * <p>
+ * The Census Transform [1] computes a bit mask for each pixel in the image.  Each bit corresponds to one of the
+ * pixels in the surrounding region.  If the neighbor has a value greater than the center pixel then the bit is
+ * set to 1, otherwise it's 0.  Since only the relative order of pixels is encoded it's invariant to changes in
+ * gain and bias, which makes it a popular choice for computing stereo disparity.  Two descriptors are compared
+ * using the Hamming distance.
+ * </p>
+ *
+ * <p>
+ * Bits are assigned in a row major order, starting from the top left pixel and skipping the center pixel.
+ * </p>
+ *
+ * <p>
+ * [1] Zabih, Ramin, and John Woodfill. "Non-parametric local transforms for computing visual correspondence."
+ * European conference on computer vision. Springer, Berlin, Heidelberg, 1994.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class CensusTransform {
+
+	/**
+	 * Census transform using a 3x3 region.  The 8 bits are stored in a 8-bit image.
+	 *
+	 * @param input (Input) Image
+	 * @param output (Output) Census transform. Reshaped to match the input.
+	 * @param border (Input) How pixels outside the image are handled.  If null the border is not processed.
+	 */
+	public static void dense3x3( GrayU8 input , GrayU8 output , @Nullable ImageBorder_S32<GrayU8> border ) {
+		output.reshape(input.width,input.height);
+
+		final int radius = 1;
+		final int[] offsets = createOffsets(input.stride,radius,radius);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			BoofConcurrency.loopFor(radius,input.height-radius,y->dense3x3Row(input,output,offsets,y));
+		} else {
+			for( int y = radius; y < input.height-radius; y++ ) {
+				dense3x3Row(input,output,offsets,y);
+			}
+		}
+
+		if( border != null ) {
+			border.setImage(input);
+			BorderProcessor processor = (x,y) -> output.unsafe_set(x,y,(int)computeBorder(border,x,y,radius,radius));
+			processBorder(input.width,input.height,radius,radius,processor);
+		}
+	}
+
+	private static void dense3x3Row( GrayU8 input , GrayU8 output , int[] offsets , int y ) {
+		int indexSrc = input.startIndex + y*input.stride + 1;
+		int indexDst = output.startIndex + y*output.stride + 1;
+
+		final int end = indexSrc + input.width - 2;
+		while( indexSrc < end ) {
+			int center = input.data[indexSrc] & 0xFF;
+
+			int census = 0;
+			for( int i = 0; i < offsets.length; i++ ) {
+				if( (input.data[indexSrc+offsets[i]] & 0xFF) > center )
+					census |= 1 << i;
+			}
+			output.data[indexDst++] = (byte)census;
+			indexSrc++;
+		}
+	}
+
+	/**
+	 * Census transform using a 5x5 region.  The 24 bits are stored in a 32-bit image.
+	 *
+	 * @param input (Input) Image
+	 * @param output (Output) Census transform. Reshaped to match the input.
+	 * @param border (Input) How pixels outside the image are handled.  If null the border is not processed.
+	 */
+	public static void dense5x5( GrayU8 input , GrayS32 output , @Nullable ImageBorder_S32<GrayU8> border ) {
+		output.reshape(input.width,input.height);
+
+		final int radius = 2;
+		final int[] offsets = createOffsets(input.stride,radius,radius);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			BoofConcurrency.loopFor(radius,input.height-radius,y->dense5x5Row(input,output,offsets,y));
+		} else {
+			for( int y = radius; y < input.height-radius; y++ ) {
+				dense5x5Row(input,output,offsets,y);
+			}
+		}
+
+		if( border != null ) {
+			border.setImage(input);
+			BorderProcessor processor = (x,y) -> output.unsafe_set(x,y,(int)computeBorder(border,x,y,radius,radius));
+			processBorder(input.width,input.height,radius,radius,processor);
+		}
+	}
+
+	private static void dense5x5Row( GrayU8 input , GrayS32 output , int[] offsets , int y ) {
+		int indexSrc = input.startIndex + y*input.stride + 2;
+		int indexDst = output.startIndex + y*output.stride + 2;
+
+		final int end = indexSrc + input.width - 4;
+		while( indexSrc < end ) {
+			int center = input.data[indexSrc] & 0xFF;
+
+			int census = 0;
+			for( int i = 0; i < offsets.length; i++ ) {
+				if( (input.data[indexSrc+offsets[i]] & 0xFF) > center )
+					census |= 1 << i;
+			}
+			output.data[indexDst++] = census;
+			indexSrc++;
+		}
+	}
+
+	/**
+	 * Census transform using a 7x7 region.  The 48 bits are stored in a 64-bit image.
+	 *
+	 * @param input (Input) Image
+	 * @param output (Output) Census transform. Reshaped to match the input.
+	 * @param border (Input) How pixels outside the image are handled.  If null the border is not processed.
+	 */
+	public static void dense7x7( GrayU8 input , GrayS64 output , @Nullable ImageBorder_S32<GrayU8> border ) {
+		dense64(input,output,3,3,border);
+	}
+
+	/**
+	 * Census transform using a region which is 9 pixels wide and 7 pixels tall.  The 62 bits are stored in
+	 * a 64-bit image.
+	 *
+	 * @param input (Input) Image
+	 * @param output (Output) Census transform. Reshaped to match the input.
+	 * @param border (Input) How pixels outside the image are handled.  If null the border is not processed.
+	 */
+	public static void dense9x7( GrayU8 input , GrayS64 output , @Nullable ImageBorder_S32<GrayU8> border ) {
+		dense64(input,output,4,3,border);
+	}
+
+	/**
+	 * Census transform for regions with up to 64 bits
+	 */
+	static void dense64( GrayU8 input , GrayS64 output , int radiusX , int radiusY ,
+						 @Nullable ImageBorder_S32<GrayU8> border ) {
+		output.reshape(input.width,input.height);
+
+		final int[] offsets = createOffsets(input.stride,radiusX,radiusY);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			BoofConcurrency.loopFor(radiusY,input.height-radiusY,y->dense64Row(input,output,offsets,radiusX,y));
+		} else {
+			for( int y = radiusY; y < input.height-radiusY; y++ ) {
+				dense64Row(input,output,offsets,radiusX,y);
+			}
+		}
+
+		if( border != null ) {
+			border.setImage(input);
+			BorderProcessor processor = (x,y) -> output.unsafe_set(x,y,computeBorder(border,x,y,radiusX,radiusY));
+			processBorder(input.width,input.height,radiusX,radiusY,processor);
+		}
+	}
+
+	private static void dense64Row( GrayU8 input , GrayS64 output , int[] offsets , int radiusX , int y ) {
+		int indexSrc = input.startIndex + y*input.stride + radiusX;
+		int indexDst = output.startIndex + y*output.stride + radiusX;
+
+		final int end = indexSrc + input.width - 2*radiusX;
+		while( indexSrc < end ) {
+			int center = input.data[indexSrc] & 0xFF;
+
+			long census = 0;
+			for( int i = 0; i < offsets.length; i++ ) {
+				if( (input.data[indexSrc+offsets[i]] & 0xFF) > center )
+					census |= 1L << i;
+			}
+			output.data[indexDst++] = census;
+			indexSrc++;
+		}
+	}
+
+	/**
+	 * Computes the offset of each neighbor from the center pixel in row major order, skipping the center pixel.
+	 */
+	static int[] createOffsets( int stride , int radiusX , int radiusY ) {
+		int[] offsets = new int[(2*radiusX+1)*(2*radiusY+1)-1];
+		int i = 0;
+		for( int y = -radiusY; y <= radiusY; y++ ) {
+			for( int x = -radiusX; x <= radiusX; x++ ) {
+				if( x == 0 && y == 0 )
+					continue;
+				offsets[i++] = y*stride + x;
+			}
+		}
+		return offsets;
+	}
+
+	/**
+	 * Computes the census descriptor of a pixel along the image border
+	 */
+	static long computeBorder( ImageBorder_S32<GrayU8> border , int cx , int cy , int radiusX , int radiusY ) {
+		int center = border.get(cx,cy);
+
+		long census = 0;
+		int bit = 0;
+		for( int y = -radiusY; y <= radiusY; y++ ) {
+			for( int x = -radiusX; x <= radiusX; x++ ) {
+				if( x == 0 && y == 0 )
+					continue;
+				if( border.get(cx+x,cy+y) > center )
+					census |= 1L << bit;
+				bit++;
+			}
+		}
+		return census;
+	}
+
+	/**
+	 * Invokes the processor for every pixel which is within the radius of the image border
+	 */
+	static void processBorder( int width , int height , int radiusX , int radiusY , BorderProcessor processor ) {
+		for( int y = 0; y < height; y++ ) {
+			if( y < radiusY || y >= height-radiusY ) {
+				for( int x = 0; x < width; x++ ) {
+					processor.process(x,y);
+				}
+			} else {
+				for( int x = 0; x < Math.min(radiusX,width); x++ ) {
+					processor.process(x,y);
+				}
+				for( int x = Math.max(radiusX,width-radiusX); x < width; x++ ) {
+					processor.process(x,y);
+				}
+			}
+		}
+	}
+
+	interface BorderProcessor {
+		void process( int x , int y );
+	}
+}
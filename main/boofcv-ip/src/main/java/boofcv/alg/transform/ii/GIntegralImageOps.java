@@ -38,8 +38,14 @@ public class GIntegralImageOps {
 			return (Class<II>)GrayF32.class;
 		} else if( inputType == GrayU8.class ){
 			return (Class<II>)GrayS32.class;
+		} else if( inputType == GrayU16.class ){
+			return (Class<II>)GrayS64.class;
 		} else if( inputType == GrayS32.class ){
 			return (Class<II>)GrayS32.class;
+		} else if( inputType == GrayF64.class ){
+			return (Class<II>)GrayF64.class;
+		} else if( inputType == GrayS64.class ){
+			return (Class<II>)GrayS64.class;
 		} else {
 			throw new IllegalArgumentException("Unknown input image type: "+inputType.getSimpleName());
 		}
@@ -59,7 +65,11 @@ public class GIntegralImageOps {
 		} else if( input instanceof GrayF64) {
 			return (T)IntegralImageOps.transform((GrayF64)input,(GrayF64)transformed);
 		} else if( input instanceof GrayU8) {
+			if( transformed instanceof GrayS64 )
+				return (T)IntegralImageOps.transform((GrayU8)input,(GrayS64)transformed);
 			return (T)IntegralImageOps.transform((GrayU8)input,(GrayS32)transformed);
+		} else if( input instanceof GrayU16) {
+			return (T)IntegralImageOps.transform((GrayU16)input,(GrayS64)transformed);
 		} else if( input instanceof GrayS32) {
 			return (T)IntegralImageOps.transform((GrayS32)input,(GrayS32)transformed);
 		} else if( input instanceof GrayS64) {
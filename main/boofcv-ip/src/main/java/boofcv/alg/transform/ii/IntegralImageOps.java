@@ -20,6 +20,8 @@ package boofcv.alg.transform.ii;
 
 import boofcv.alg.InputSanityCheck;
 import boofcv.alg.transform.ii.impl.ImplIntegralImageOps;
+import boofcv.alg.transform.ii.impl.ImplIntegralImageOps_MT;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.ImageRectangle;
 import boofcv.struct.image.*;
 
@@ -43,7 +45,11 @@ public class IntegralImageOps {
 	public static GrayF32 transform(GrayF32 input , GrayF32 transformed ) {
 		transformed = InputSanityCheck.checkDeclare(input,transformed);
 
-		ImplIntegralImageOps.transform(input,transformed);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplIntegralImageOps_MT.transform(input,transformed);
+		} else {
+			ImplIntegralImageOps.transform(input,transformed);
+		}
 
 		return transformed;
 	}
@@ -58,7 +64,11 @@ public class IntegralImageOps {
 	public static GrayF64 transform(GrayF64 input , GrayF64 transformed ) {
 		transformed = InputSanityCheck.checkDeclare(input,transformed);
 
-		ImplIntegralImageOps.transform(input,transformed);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplIntegralImageOps_MT.transform(input,transformed);
+		} else {
+			ImplIntegralImageOps.transform(input,transformed);
+		}
 
 		return transformed;
 	}
@@ -73,7 +83,11 @@ public class IntegralImageOps {
 	public static GrayS32 transform(GrayU8 input , GrayS32 transformed ) {
 		transformed = InputSanityCheck.checkDeclare(input,transformed,GrayS32.class);
 
-		ImplIntegralImageOps.transform(input,transformed);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplIntegralImageOps_MT.transform(input,transformed);
+		} else {
+			ImplIntegralImageOps.transform(input,transformed);
+		}
 
 		return transformed;
 	}
@@ -88,7 +102,11 @@ public class IntegralImageOps {
 	public static GrayS32 transform(GrayS32 input , GrayS32 transformed ) {
 		transformed = InputSanityCheck.checkDeclare(input,transformed,GrayS32.class);
 
-		ImplIntegralImageOps.transform(input, transformed);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplIntegralImageOps_MT.transform(input,transformed);
+		} else {
+			ImplIntegralImageOps.transform(input,transformed);
+		}
 
 		return transformed;
 	}
@@ -103,7 +121,51 @@ public class IntegralImageOps {
 	public static GrayS64 transform(GrayS64 input , GrayS64 transformed ) {
 		transformed = InputSanityCheck.checkDeclare(input,transformed,GrayS64.class);
 
-		ImplIntegralImageOps.transform(input, transformed);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplIntegralImageOps_MT.transform(input,transformed);
+		} else {
+			ImplIntegralImageOps.transform(input,transformed);
+		}
+
+		return transformed;
+	}
+
+	/**
+	 * Converts a regular image into an integral image.  A 64-bit integral image is used, which allows much
+	 * larger images to be processed than {@link #transform(GrayU8, GrayS32)} before an overflow occurs.
+	 *
+	 * @param input Regular image. Not modified.
+	 * @param transformed Integral image. If null a new image will be created. Modified.
+	 * @return Integral image.
+	 */
+	public static GrayS64 transform(GrayU8 input , GrayS64 transformed ) {
+		transformed = InputSanityCheck.checkDeclare(input,transformed,GrayS64.class);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplIntegralImageOps_MT.transform(input,transformed);
+		} else {
+			ImplIntegralImageOps.transform(input,transformed);
+		}
+
+		return transformed;
+	}
+
+	/**
+	 * Converts a regular image into an integral image.  A 64-bit integral image is used since a 32-bit
+	 * integer would overflow on all but small 16-bit images.
+	 *
+	 * @param input Regular image. Not modified.
+	 * @param transformed Integral image. If null a new image will be created. Modified.
+	 * @return Integral image.
+	 */
+	public static GrayS64 transform(GrayU16 input , GrayS64 transformed ) {
+		transformed = InputSanityCheck.checkDeclare(input,transformed,GrayS64.class);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplIntegralImageOps_MT.transform(input,transformed);
+		} else {
+			ImplIntegralImageOps.transform(input,transformed);
+		}
 
 		return transformed;
 	}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.ii;
+
+import boofcv.struct.image.GrayS64;
+
+/**
+ * <p>
+ * Computes a 64-bit integral image one row at a time as the rows become available, e.g. while an image is being
+ * decoded or read from a sensor.  Once a row has been appended its values in the integral image are final,
+ * which allows processing of the upper portion of the image to start before the whole image has arrived.
+ * The results are identical to {@link IntegralImageOps#transform(boofcv.struct.image.GrayU8, GrayS64)}.
+ * </p>
+ *
+ * <p>
+ * The 64-bit integral image will not overflow for 8-bit or 16-bit images of any practical size.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class IntegralImageStream_S64 {
+	// the integral image
+	GrayS64 integral = new GrayS64(1,1);
+
+	// number of rows which have been added to the integral image
+	int rowsProcessed;
+
+	/**
+	 * Resets the stream and declares the integral image for an image of the specified shape
+	 *
+	 * @param width Width of the input image
+	 * @param height Height of the input image
+	 */
+	public void reset( int width , int height ) {
+		integral.reshape(width,height);
+		rowsProcessed = 0;
+	}
+
+	/**
+	 * Adds the next row of an unsigned 8-bit image
+	 *
+	 * @param data Array containing the row's pixels
+	 * @param offset Index of the first pixel in the row
+	 */
+	public void appendRow( byte[] data , int offset ) {
+		int indexDst = startRow();
+		int end = offset + integral.width;
+
+		long total = 0;
+		if( rowsProcessed == 0 ) {
+			for( int indexSrc = offset; indexSrc < end; indexSrc++ ) {
+				integral.data[indexDst++] = total += data[indexSrc] & 0xFF;
+			}
+		} else {
+			int indexPrev = indexDst - integral.stride;
+			for( int indexSrc = offset; indexSrc < end; indexSrc++ ) {
+				total += data[indexSrc] & 0xFF;
+				integral.data[indexDst++] = integral.data[indexPrev++] + total;
+			}
+		}
+		rowsProcessed++;
+	}
+
+	/**
+	 * Adds the next row of an unsigned 16-bit image
+	 *
+	 * @param data Array containing the row's pixels
+	 * @param offset Index of the first pixel in the row
+	 */
+	public void appendRow( short[] data , int offset ) {
+		int indexDst = startRow();
+		int end = offset + integral.width;
+
+		long total = 0;
+		if( rowsProcessed == 0 ) {
+			for( int indexSrc = offset; indexSrc < end; indexSrc++ ) {
+				integral.data[indexDst++] = total += data[indexSrc] & 0xFFFF;
+			}
+		} else {
+			int indexPrev = indexDst - integral.stride;
+			for( int indexSrc = offset; indexSrc < end; indexSrc++ ) {
+				total += data[indexSrc] & 0xFFFF;
+				integral.data[indexDst++] = integral.data[indexPrev++] + total;
+			}
+		}
+		rowsProcessed++;
+	}
+
+	/**
+	 * Checks to see if there's room for another row and returns the index of its first element
+	 */
+	private int startRow() {
+		if( rowsProcessed >= integral.height )
+			throw new IllegalArgumentException("All rows have already been appended");
+		return integral.startIndex + rowsProcessed*integral.stride;
+	}
+
+	/**
+	 * Returns true if every row in the image has been appended
+	 */
+	public boolean isComplete() {
+		return rowsProcessed == integral.height;
+	}
+
+	/**
+	 * Number of rows which have been appended.  Only these rows are valid in the integral image.
+	 */
+	public int getRowsProcessed() {
+		return rowsProcessed;
+	}
+
+	/**
+	 * The integral image.  Only the first {@link #getRowsProcessed()} rows are valid.
+	 */
+	public GrayS64 getIntegral() {
+		return integral;
+	}
+}
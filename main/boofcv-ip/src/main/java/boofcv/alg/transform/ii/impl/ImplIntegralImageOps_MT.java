@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boofcv.alg.transform.ii.impl;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.*;
+
+/**
+ * <p>
+ * Concurrent implementation of the transforms in {@link ImplIntegralImageOps}.  The integral image is
+ * computed in two phases.  First the prefix sum of each row is found with rows being processed in
+ * parallel.  Then the sums are propagated down each column with blocks of columns being processed in
+ * parallel.  The same additions are performed as in the single threaded version, so the results
+ * are identical.
+ * </p>
+ *
+ * <p>
+ * DO NOT MODIFY: Generated by {@link GenerateImplIntegralImageOps}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplIntegralImageOps_MT {
+
+	// Minimum number of columns in a block.  Avoids threads writing to the same cache line
+	static final int MIN_COLUMNS = 64;
+
+	public static void transform( final GrayF32 input , final GrayF32 transformed )
+	{
+		// prefix sum along each row
+		BoofConcurrency.loopFor(0, input.height, y -> {
+			int indexSrc = input.startIndex + input.stride*y;
+			int indexDst = transformed.startIndex + transformed.stride*y;
+			int end = indexSrc + input.width;
+
+			float total = 0;
+			for( ; indexSrc < end; indexSrc++ ) {
+				transformed.data[indexDst++] = total += input.data[indexSrc];
+			}
+		});
+
+		// add the row above to each row
+		BoofConcurrency.loopBlocks(0, input.width, MIN_COLUMNS, (x0,x1) -> {
+			for( int y = 1; y < input.height; y++ ) {
+				int indexDst = transformed.startIndex + transformed.stride*y + x0;
+				int indexPrev = indexDst - transformed.stride;
+				int end = indexDst + x1 - x0;
+
+				for( ; indexDst < end; indexDst++ ) {
+					transformed.data[indexDst] = transformed.data[indexPrev++] + transformed.data[indexDst];
+				}
+			}
+		});
+	}
+
+	public static void transform( final GrayF64 input , final GrayF64 transformed )
+	{
+		// prefix sum along each row
+		BoofConcurrency.loopFor(0, input.height, y -> {
+			int indexSrc = input.startIndex + input.stride*y;
+			int indexDst = transformed.startIndex + transformed.stride*y;
+			int end = indexSrc + input.width;
+
+			double total = 0;
+			for( ; indexSrc < end; indexSrc++ ) {
+				transformed.data[indexDst++] = total += input.data[indexSrc];
+			}
+		});
+
+		// add the row above to each row
+		BoofConcurrency.loopBlocks(0, input.width, MIN_COLUMNS, (x0,x1) -> {
+			for( int y = 1; y < input.height; y++ ) {
+				int indexDst = transformed.startIndex + transformed.stride*y + x0;
+				int indexPrev = indexDst - transformed.stride;
+				int end = indexDst + x1 - x0;
+
+				for( ; indexDst < end; indexDst++ ) {
+					transformed.data[indexDst] = transformed.data[indexPrev++] + transformed.data[indexDst];
+				}
+			}
+		});
+	}
+
+	public static void transform( final GrayU8 input , final GrayS32 transformed )
+	{
+		// prefix sum along each row
+		BoofConcurrency.loopFor(0, input.height, y -> {
+			int indexSrc = input.startIndex + input.stride*y;
+			int indexDst = transformed.startIndex + transformed.stride*y;
+			int end = indexSrc + input.width;
+
+			int total = 0;
+			for( ; indexSrc < end; indexSrc++ ) {
+				transformed.data[indexDst++] = total += input.data[indexSrc]& 0xFF;
+			}
+		});
+
+		// add the row above to each row
+		BoofConcurrency.loopBlocks(0, input.width, MIN_COLUMNS, (x0,x1) -> {
+			for( int y = 1; y < input.height; y++ ) {
+				int indexDst = transformed.startIndex + transformed.stride*y + x0;
+				int indexPrev = indexDst - transformed.stride;
+				int end = indexDst + x1 - x0;
+
+				for( ; indexDst < end; indexDst++ ) {
+					transformed.data[indexDst] = transformed.data[indexPrev++] + transformed.data[indexDst];
+				}
+			}
+		});
+	}
+
+	public static void transform( final GrayS32 input , final GrayS32 transformed )
+	{
+		// prefix sum along each row
+		BoofConcurrency.loopFor(0, input.height, y -> {
+			int indexSrc = input.startIndex + input.stride*y;
+			int indexDst = transformed.startIndex + transformed.stride*y;
+			int end = indexSrc + input.width;
+
+			int total = 0;
+			for( ; indexSrc < end; indexSrc++ ) {
+				transformed.data[indexDst++] = total += input.data[indexSrc];
+			}
+		});
+
+		// add the row above to each row
+		BoofConcurrency.loopBlocks(0, input.width, MIN_COLUMNS, (x0,x1) -> {
+			for( int y = 1; y < input.height; y++ ) {
+				int indexDst = transformed.startIndex + transformed.stride*y + x0;
+				int indexPrev = indexDst - transformed.stride;
+				int end = indexDst + x1 - x0;
+
+				for( ; indexDst < end; indexDst++ ) {
+					transformed.data[indexDst] = transformed.data[indexPrev++] + transformed.data[indexDst];
+				}
+			}
+		});
+	}
+
+	public static void transform( final GrayS64 input , final GrayS64 transformed )
+	{
+		// prefix sum along each row
+		BoofConcurrency.loopFor(0, input.height, y -> {
+			int indexSrc = input.startIndex + input.stride*y;
+			int indexDst = transformed.startIndex + transformed.stride*y;
+			int end = indexSrc + input.width;
+
+			long total = 0;
+			for( ; indexSrc < end; indexSrc++ ) {
+				transformed.data[indexDst++] = total += input.data[indexSrc];
+			}
+		});
+
+		// add the row above to each row
+		BoofConcurrency.loopBlocks(0, input.width, MIN_COLUMNS, (x0,x1) -> {
+			for( int y = 1; y < input.height; y++ ) {
+				int indexDst = transformed.startIndex + transformed.stride*y + x0;
+				int indexPrev = indexDst - transformed.stride;
+				int end = indexDst + x1 - x0;
+
+				for( ; indexDst < end; indexDst++ ) {
+					transformed.data[indexDst] = transformed.data[indexPrev++] + transformed.data[indexDst];
+				}
+			}
+		});
+	}
+
+	public static void transform( final GrayU8 input , final GrayS64 transformed )
+	{
+		// prefix sum along each row
+		BoofConcurrency.loopFor(0, input.height, y -> {
+			int indexSrc = input.startIndex + input.stride*y;
+			int indexDst = transformed.startIndex + transformed.stride*y;
+			int end = indexSrc + input.width;
+
+			long total = 0;
+			for( ; indexSrc < end; indexSrc++ ) {
+				transformed.data[indexDst++] = total += input.data[indexSrc]& 0xFF;
+			}
+		});
+
+		// add the row above to each row
+		BoofConcurrency.loopBlocks(0, input.width, MIN_COLUMNS, (x0,x1) -> {
+			for( int y = 1; y < input.height; y++ ) {
+				int indexDst = transformed.startIndex + transformed.stride*y + x0;
+				int indexPrev = indexDst - transformed.stride;
+				int end = indexDst + x1 - x0;
+
+				for( ; indexDst < end; indexDst++ ) {
+					transformed.data[indexDst] = transformed.data[indexPrev++] + transformed.data[indexDst];
+				}
+			}
+		});
+	}
+
+	public static void transform( final GrayU16 input , final GrayS64 transformed )
+	{
+		// prefix sum along each row
+		BoofConcurrency.loopFor(0, input.height, y -> {
+			int indexSrc = input.startIndex + input.stride*y;
+			int indexDst = transformed.startIndex + transformed.stride*y;
+			int end = indexSrc + input.width;
+
+			long total = 0;
+			for( ; indexSrc < end; indexSrc++ ) {
+				transformed.data[indexDst++] = total += input.data[indexSrc]& 0xFFFF;
+			}
+		});
+
+		// add the row above to each row
+		BoofConcurrency.loopBlocks(0, input.width, MIN_COLUMNS, (x0,x1) -> {
+			for( int y = 1; y < input.height; y++ ) {
+				int indexDst = transformed.startIndex + transformed.stride*y + x0;
+				int indexPrev = indexDst - transformed.stride;
+				int end = indexDst + x1 - x0;
+
+				for( ; indexDst < end; indexDst++ ) {
+					transformed.data[indexDst] = transformed.data[indexPrev++] + transformed.data[indexDst];
+				}
+			}
+		});
+	}
+
+}
@@ -24,11 +24,10 @@ import boofcv.abst.filter.derivative.ImageHessian;
 import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.alg.transform.pyramid.impl.ImplPyramidOps;
 import boofcv.core.image.GeneralizedImageOps;
-import boofcv.struct.image.GrayF32;
-import boofcv.struct.image.GrayU8;
-import boofcv.struct.image.ImageGray;
+import boofcv.struct.image.*;
 import boofcv.struct.pyramid.ImagePyramid;
 
+import javax.annotation.Nullable;
 import java.lang.reflect.Array;
 
 
@@ -61,6 +60,39 @@ public class PyramidOps {
 		return ret;
 	}
 
+	/**
+	 * Same as {@link #declareOutput(ImagePyramid, Class)} but images are borrowed from the pool, if
+	 * one is provided.
+	 *
+	 * @param pool (Optional) Pool which images are borrowed from.  If null images are declared.
+	 */
+	public static <O extends ImageGray<O>>
+	O[] declareOutput( ImagePyramid<?> pyramid , Class<O> outputType , @Nullable ImagePool pool ) {
+		if( pool == null )
+			return declareOutput(pyramid,outputType);
+
+		O[] ret = (O[])Array.newInstance(outputType,pyramid.getNumLayers());
+		ImageType<O> type = ImageType.single(outputType);
+
+		for( int i = 0; i < ret.length; i++ ) {
+			ret[i] = pool.borrow(type,pyramid.getWidth(i),pyramid.getHeight(i));
+		}
+
+		return ret;
+	}
+
+	/**
+	 * Returns images which were declared using {@link #declareOutput(ImagePyramid, Class, ImagePool)} to the pool
+	 *
+	 * @param images (Input) Images which are no longer needed
+	 * @param pool (Input) Pool they are returned to
+	 */
+	public static void recycleOutput( ImageBase[] images , ImagePool pool ) {
+		for( int i = 0; i < images.length; i++ ) {
+			pool.recycle(images[i]);
+		}
+	}
+
 	/**
 	 * Reshapes each image in the array to match the layers in the pyramid
 	 * @param pyramid (Input) Image pyramid
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.concurrency;
+
+import org.ddogleg.struct.FastQueue;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * <p>
+ * Central location for settings and functions related to concurrency.  Algorithms with a concurrent implementation
+ * have a class with the same name as the single threaded version but with _MT appended.  Which version is used is
+ * selected inside of the Ops and factory classes by checking {@link #USE_CONCURRENT}.
+ * </p>
+ *
+ * <p>
+ * All threads are launched inside of a single {@link ForkJoinPool}.  The number of threads in the pool can be
+ * changed with {@link #setMaxThreads(int)}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class BoofConcurrency {
+	/**
+	 * If true then concurrent implementations will be used when available.  Set to false to force
+	 * every algorithm to run in the calling thread.
+	 */
+	public static boolean USE_CONCURRENT = true;
+
+	// Pool which all the threads run in
+	private static ForkJoinPool pool = new ForkJoinPool();
+
+	/**
+	 * Changes the maximum number of threads which can be used by concurrent algorithms.  A new thread
+	 * pool is created and the old one is shutdown.
+	 *
+	 * @param maxThreads Maximum number of threads.  Must be &ge; 1
+	 */
+	public static synchronized void setMaxThreads( int maxThreads ) {
+		if( maxThreads <= 0 )
+			throw new IllegalArgumentException("Number of threads must be at least 1");
+		ForkJoinPool old = pool;
+		pool = new ForkJoinPool(maxThreads);
+		old.shutdown();
+	}
+
+	/**
+	 * Returns the maximum number of threads which will be used to process a single operation
+	 */
+	public static int getMaxThreads() {
+		return pool.getParallelism();
+	}
+
+	/**
+	 * Concurrent for loop.  Each index in the range is passed to the consumer and there is no guarantee
+	 * on the order in which they are processed.
+	 *
+	 * @param start First index, inclusive
+	 * @param endExclusive Last index, exclusive
+	 * @param consumer Processes each index
+	 */
+	public static void loopFor( int start , int endExclusive , IntConsumer consumer ) {
+		run(() -> IntStream.range(start, endExclusive).parallel().forEach(consumer));
+	}
+
+	/**
+	 * Concurrent for loop with a step size.  Each index in the sequence start, start+step, ... is passed
+	 * to the consumer.
+	 *
+	 * @param start First index, inclusive
+	 * @param endExclusive Last index, exclusive
+	 * @param step Increment between indexes.  Must be &ge; 1
+	 * @param consumer Processes each index
+	 */
+	public static void loopFor( int start , int endExclusive , int step , IntConsumer consumer ) {
+		if( step <= 0 )
+			throw new IllegalArgumentException("Step must be positive");
+		int N = (endExclusive-start+step-1)/step;
+		run(() -> IntStream.range(0, N).parallel().forEach(i -> consumer.accept(start+i*step)));
+	}
+
+	/**
+	 * Splits the range into contiguous blocks, one for each thread, and processes the blocks concurrently.
+	 * This is typically used to process an image in row bands.
+	 *
+	 * @param start First index, inclusive
+	 * @param endExclusive Last index, exclusive
+	 * @param consumer Processes each block
+	 */
+	public static void loopBlocks( int start , int endExclusive , IntRangeConsumer consumer ) {
+		loopBlocks(start,endExclusive,1,consumer);
+	}
+
+	/**
+	 * Splits the range into contiguous blocks, one for each thread, and processes the blocks concurrently.
+	 * Blocks will not be smaller than minBlock, unless the range itself is smaller.
+	 *
+	 * @param start First index, inclusive
+	 * @param endExclusive Last index, exclusive
+	 * @param minBlock Minimum number of elements in a block.
+	 * @param consumer Processes each block
+	 */
+	public static void loopBlocks( int start , int endExclusive , int minBlock , IntRangeConsumer consumer ) {
+		final int range = endExclusive-start;
+		if( range <= 0 )
+			return;
+
+		final int numBlocks = selectNumberOfBlocks(range,minBlock,getMaxThreads());
+		if( numBlocks == 1 ) {
+			consumer.accept(start,endExclusive);
+			return;
+		}
+
+		run(() -> IntStream.range(0, numBlocks).parallel().forEach(i ->
+				consumer.accept(blockBoundary(start,range,numBlocks,i),blockBoundary(start,range,numBlocks,i+1))));
+	}
+
+	/**
+	 * Splits the range into contiguous blocks and processes the blocks concurrently.  Each block is given its
+	 * own workspace from the provided queue, which is resized to have one element for each block.  Since
+	 * workspace element i always corresponds to the i-th block, results saved in the workspace can be merged
+	 * in a deterministic order after this function returns.
+	 *
+	 * @param start First index, inclusive
+	 * @param endExclusive Last index, exclusive
+	 * @param minBlock Minimum number of elements in a block.
+	 * @param workspace Storage for per-block data.  Resized. Must declare its instances.
+	 * @param consumer Processes each block
+	 */
+	public static <T> void loopBlocks( int start , int endExclusive , int minBlock ,
+									   FastQueue<T> workspace , IntRangeObjectConsumer<T> consumer ) {
+		final int range = endExclusive-start;
+		if( range <= 0 ) {
+			workspace.reset();
+			return;
+		}
+
+		final int numBlocks = selectNumberOfBlocks(range,minBlock,getMaxThreads());
+		workspace.resize(numBlocks);
+		if( numBlocks == 1 ) {
+			consumer.accept(workspace.get(0),start,endExclusive);
+			return;
+		}
+
+		run(() -> IntStream.range(0, numBlocks).parallel().forEach(i ->
+				consumer.accept(workspace.get(i),
+						blockBoundary(start,range,numBlocks,i),blockBoundary(start,range,numBlocks,i+1))));
+	}
+
+	/**
+	 * Same as {@link #loopBlocks(int, int, int, FastQueue, IntRangeObjectConsumer)} but with a minimum block size of 1
+	 */
+	public static <T> void loopBlocks( int start , int endExclusive ,
+									   FastQueue<T> workspace , IntRangeObjectConsumer<T> consumer ) {
+		loopBlocks(start,endExclusive,1,workspace,consumer);
+	}
+
+	/**
+	 * Selects the number of blocks a range should be split into
+	 *
+	 * @param range Number of elements in the range
+	 * @param minBlock Minimum number of elements in a block
+	 * @param maxThreads Number of threads available
+	 * @return number of blocks.  Always &ge; 1
+	 */
+	static int selectNumberOfBlocks( int range , int minBlock , int maxThreads ) {
+		int numBlocks = Math.min(maxThreads, range/Math.max(1,minBlock));
+		return Math.max(1,numBlocks);
+	}
+
+	/**
+	 * Returns the first index in the specified block.  The range is split up so that block sizes differ by
+	 * at most one.
+	 */
+	static int blockBoundary( int start , int range , int numBlocks , int block ) {
+		return start + (int)((long)range*block/numBlocks);
+	}
+
+	/**
+	 * Runs the task inside the thread pool and waits for it to finish.  If an exception is thrown in a
+	 * worker thread it is rethrown in the calling thread.
+	 */
+	private static void run( Runnable task ) {
+		try {
+			pool.submit(task).get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if( cause instanceof RuntimeException )
+				throw (RuntimeException)cause;
+			if( cause instanceof Error )
+				throw (Error)cause;
+			throw new RuntimeException(cause);
+		}
+	}
+}
@@ -18,6 +18,7 @@
 
 package boofcv.core.encoding;
 
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.*;
 
 /**
@@ -112,7 +113,11 @@ public class ConvertNV21 {
 			output = new GrayU8(width,height);
 		}
 
-		ImplConvertNV21.nv21ToGray(data, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertNV21_MT.nv21ToGray(data, output);
+		} else {
+			ImplConvertNV21.nv21ToGray(data, output);
+		}
 
 		return output;
 	}
@@ -134,7 +139,65 @@ public class ConvertNV21 {
 			output = new GrayF32(width,height);
 		}
 
-		ImplConvertNV21.nv21ToGray(data, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertNV21_MT.nv21ToGray(data, output);
+		} else {
+			ImplConvertNV21.nv21ToGray(data, output);
+		}
+
+		return output;
+	}
+
+	/**
+	 * Converts an NV21 image into a gray scale U8 image which has been down sampled by a factor of two.  The
+	 * gray scale block is decoded and down sampled in a single pass.
+	 *
+	 * @param data Input: NV21 image data
+	 * @param width Input: NV21 image width
+	 * @param height Input: NV21 image height
+	 * @param output Output: Optional storage for output image.  Can be null.
+	 * @return Gray scale image with a size of width/2 by height/2
+	 */
+	public static GrayU8 nv21ToGrayDown2(byte[] data , int width , int height , GrayU8 output ) {
+		if( output != null ) {
+			if( output.width != width/2 || output.height != height/2 )
+				throw new IllegalArgumentException("output width and height must be "+(width/2)+" "+(height/2));
+		} else {
+			output = new GrayU8(width/2,height/2);
+		}
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertNV21_MT.nv21ToGrayDown2(data, width, output);
+		} else {
+			ImplConvertNV21.nv21ToGrayDown2(data, width, output);
+		}
+
+		return output;
+	}
+
+	/**
+	 * Converts an NV21 image into a gray scale F32 image which has been down sampled by a factor of two.  The
+	 * gray scale block is decoded and down sampled in a single pass.
+	 *
+	 * @param data Input: NV21 image data
+	 * @param width Input: NV21 image width
+	 * @param height Input: NV21 image height
+	 * @param output Output: Optional storage for output image.  Can be null.
+	 * @return Gray scale image with a size of width/2 by height/2
+	 */
+	public static GrayF32 nv21ToGrayDown2(byte[] data , int width , int height , GrayF32 output ) {
+		if( output != null ) {
+			if( output.width != width/2 || output.height != height/2 )
+				throw new IllegalArgumentException("output width and height must be "+(width/2)+" "+(height/2));
+		} else {
+			output = new GrayF32(width/2,height/2);
+		}
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertNV21_MT.nv21ToGrayDown2(data, width, output);
+		} else {
+			ImplConvertNV21.nv21ToGrayDown2(data, width, output);
+		}
 
 		return output;
 	}
@@ -179,7 +242,11 @@ public class ConvertNV21 {
 		else if( output.getNumBands() != 3 )
 			throw new IllegalArgumentException("three bands expected");
 
-		ImplConvertNV21.nv21ToPlanarYuv_U8(data,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertNV21_MT.nv21ToPlanarYuv_U8(data,output);
+		} else {
+			ImplConvertNV21.nv21ToPlanarYuv_U8(data,output);
+		}
 
 		return output;
 	}
@@ -201,7 +268,11 @@ public class ConvertNV21 {
 		else if( output.getNumBands() != 3 )
 			throw new IllegalArgumentException("three bands expected");
 
-		ImplConvertNV21.nv21ToPlanarRgb_U8(data, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertNV21_MT.nv21ToPlanarRgb_U8(data, output);
+		} else {
+			ImplConvertNV21.nv21ToPlanarRgb_U8(data, output);
+		}
 
 		return output;
 	}
@@ -223,7 +294,11 @@ public class ConvertNV21 {
 		else if( output.getNumBands() != 3 )
 			throw new IllegalArgumentException("three bands expected");
 
-		ImplConvertNV21.nv21ToInterleaved_U8(data, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertNV21_MT.nv21ToInterleaved_U8(data, output);
+		} else {
+			ImplConvertNV21.nv21ToInterleaved_U8(data, output);
+		}
 
 		return output;
 	}
@@ -245,7 +320,11 @@ public class ConvertNV21 {
 		else if( output.getNumBands() != 3 )
 			throw new IllegalArgumentException("three bands expected");
 
-		ImplConvertNV21.nv21ToPlanarYuv_F32(data, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertNV21_MT.nv21ToPlanarYuv_F32(data, output);
+		} else {
+			ImplConvertNV21.nv21ToPlanarYuv_F32(data, output);
+		}
 
 		return output;
 	}
@@ -267,7 +346,11 @@ public class ConvertNV21 {
 		else if( output.getNumBands() != 3 )
 			throw new IllegalArgumentException("three bands expected");
 
-		ImplConvertNV21.nv21ToPlanarRgb_F32(data, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertNV21_MT.nv21ToPlanarRgb_F32(data, output);
+		} else {
+			ImplConvertNV21.nv21ToPlanarRgb_F32(data, output);
+		}
 
 		return output;
 	}
@@ -289,7 +372,11 @@ public class ConvertNV21 {
 		else if( output.getNumBands() != 3 )
 			throw new IllegalArgumentException("three bands expected");
 
-		ImplConvertNV21.nv21ToInterleaved_F32(data, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertNV21_MT.nv21ToInterleaved_F32(data, output);
+		} else {
+			ImplConvertNV21.nv21ToInterleaved_F32(data, output);
+		}
 
 		return output;
 	}
@@ -19,6 +19,7 @@
 package boofcv.core.encoding;
 
 
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.*;
 
 /**
@@ -43,9 +44,17 @@ public class ConvertYV12 {
             Planar ms = (Planar) output;
 
             if (ms.getBandType() == GrayU8.class) {
-                ImplConvertYV12.yv12ToPlanarRgb_U8(data, ms);
+                if( BoofConcurrency.USE_CONCURRENT ) {
+                    ImplConvertYV12_MT.yv12ToPlanarRgb_U8(data, ms);
+                } else {
+                    ImplConvertYV12.yv12ToPlanarRgb_U8(data, ms);
+                }
             } else if (ms.getBandType() == GrayF32.class) {
-                ImplConvertYV12.yv12ToPlanarRgb_F32(data, ms);
+                if( BoofConcurrency.USE_CONCURRENT ) {
+                    ImplConvertYV12_MT.yv12ToPlanarRgb_F32(data, ms);
+                } else {
+                    ImplConvertYV12.yv12ToPlanarRgb_F32(data, ms);
+                }
             } else {
                 throw new IllegalArgumentException("Unsupported output band format");
             }
@@ -59,9 +68,17 @@ public class ConvertYV12 {
             }
         } else if( output instanceof ImageInterleaved ) {
             if( output.getClass() == InterleavedU8.class ) {
-                ImplConvertYV12.yv12ToInterleaved(data, (InterleavedU8) output);
+                if( BoofConcurrency.USE_CONCURRENT ) {
+                    ImplConvertYV12_MT.yv12ToInterleaved(data, (InterleavedU8) output);
+                } else {
+                    ImplConvertYV12.yv12ToInterleaved(data, (InterleavedU8) output);
+                }
             } else if( output.getClass() == InterleavedF32.class ) {
-                ImplConvertYV12.yv12ToInterleaved(data, (InterleavedF32) output);
+                if( BoofConcurrency.USE_CONCURRENT ) {
+                    ImplConvertYV12_MT.yv12ToInterleaved(data, (InterleavedF32) output);
+                } else {
+                    ImplConvertYV12.yv12ToInterleaved(data, (InterleavedF32) output);
+                }
             } else {
                 throw new IllegalArgumentException("Unsupported output type");
             }
@@ -87,7 +104,11 @@ public class ConvertYV12 {
             output = new GrayU8(width,height);
         }
 
-        ImplConvertNV21.nv21ToGray(data, output);
+        if( BoofConcurrency.USE_CONCURRENT ) {
+            ImplConvertNV21_MT.nv21ToGray(data, output);
+        } else {
+            ImplConvertNV21.nv21ToGray(data, output);
+        }
 
         return output;
     }
@@ -109,8 +130,27 @@ public class ConvertYV12 {
             output = new GrayF32(width,height);
         }
 
-        ImplConvertNV21.nv21ToGray(data, output);
+        if( BoofConcurrency.USE_CONCURRENT ) {
+            ImplConvertNV21_MT.nv21ToGray(data, output);
+        } else {
+            ImplConvertNV21.nv21ToGray(data, output);
+        }
 
         return output;
     }
+
+    /**
+     * Converts an YV12 image into a gray scale U8 image which has been down sampled by a factor of two.  The
+     * gray scale block is decoded and down sampled in a single pass.
+     *
+     * @param data Input: YV12 image data
+     * @param width Input: image width
+     * @param height Input: image height
+     * @param output Output: Optional storage for output image.  Can be null.
+     * @return Gray scale image with a size of width/2 by height/2
+     */
+    public static GrayU8 yu12ToGrayDown2(byte[] data , int width , int height , GrayU8 output ) {
+        // The gray scale block is encoded the same way as NV21
+        return ConvertNV21.nv21ToGrayDown2(data, width, height, output);
+    }
 }
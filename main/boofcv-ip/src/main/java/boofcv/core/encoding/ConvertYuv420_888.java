@@ -19,6 +19,7 @@
 package boofcv.core.encoding;
 
 import boofcv.alg.color.ColorFormat;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.*;
 
 import java.nio.ByteBuffer;
@@ -168,6 +169,27 @@ public class ConvertYuv420_888
 		return output;
 	}
 
+	/**
+	 * Converts the gray-scale plane into an image which has been down sampled by a factor of two.  Faster than
+	 * converting to gray and then down sampling since only one pass is needed.
+	 *
+	 * @param output Output: Optional storage for output image.  Can be null.
+	 * @param work Work array. Must be at least 2*width long
+	 * @return Gray scale image with a size of width/2 by height/2
+	 */
+	public static GrayU8 yuvToGrayDown2(ByteBuffer bufferY , int width , int height, int strideRow,
+										GrayU8 output , byte work[] ) {
+		if( output != null ) {
+			output.reshape(width/2,height/2);
+		} else {
+			output = new GrayU8(width/2,height/2);
+		}
+
+		ImplConvertYuv420_888.yuvToGrayDown2(bufferY,width,strideRow,output,work);
+
+		return output;
+	}
+
 	interface ProcessorYuv
 	{
 		void processYUV(final int y , final int u ,final int v );
@@ -285,22 +307,11 @@ public class ConvertYuv420_888
 		} else {
 			output = new  Planar<>(GrayU8.class,width,height,3);
 		}
-		final byte[] red = output.getBand(0).data;
-		final byte[] green = output.getBand(1).data;
-		final byte[] blue = output.getBand(2).data;
-
-		ProcessorYuv processor = new ProcessorYuvRgb() {
-			int indexOut = 0;
-
-			@Override
-			public void processRGB( final int r , final int g , final int b ) {
-				red[indexOut] = (byte)r;
-				green[indexOut] = (byte)g;
-				blue[indexOut++] = (byte)b;
-			}
-		};
-
-		processYuv(bufferY,bufferU,bufferV,width,height,strideY,strideUV,stridePixelUV,work,processor);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertYuv420_888_MT.yuvToPlanarRgbU8(bufferY,bufferU,bufferV,width,height,strideY,strideUV,stridePixelUV,output,work);
+		} else {
+			ImplConvertYuv420_888.yuvToPlanarRgbU8(bufferY,bufferU,bufferV,width,height,strideY,strideUV,stridePixelUV,output,work);
+		}
 
 		return output;
 	}
@@ -343,20 +354,11 @@ public class ConvertYuv420_888
 		} else {
 			output = new InterleavedU8(width,height,3);
 		}
-		InterleavedU8 _output = output;
-
-		ProcessorYuv processor = new ProcessorYuvRgb() {
-			int indexOut = 0;
-
-			@Override
-			public void processRGB( final int r , final int g , final int b ) {
-				_output.data[indexOut++] = (byte)r;
-				_output.data[indexOut++] = (byte)g;
-				_output.data[indexOut++] = (byte)b;
-			}
-		};
-
-		processYuv(bufferY,bufferU,bufferV,width,height,strideY,strideUV,stridePixelUV,work,processor);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertYuv420_888_MT.yuvToInterleavedRgbU8(bufferY,bufferU,bufferV,width,height,strideY,strideUV,stridePixelUV,output,work);
+		} else {
+			ImplConvertYuv420_888.yuvToInterleavedRgbU8(bufferY,bufferU,bufferV,width,height,strideY,strideUV,stridePixelUV,output,work);
+		}
 
 		return output;
 	}
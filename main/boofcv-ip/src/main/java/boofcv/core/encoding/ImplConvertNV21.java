@@ -63,6 +63,52 @@ public class ImplConvertNV21 {
 		}
 	}
 
+	/**
+	 * Decodes the gray-scale block and down samples it by a factor of two in a single pass.  Each output pixel
+	 * is the rounded average of a 2x2 block.  If the input has an odd width or height the last column or row is
+	 * ignored.
+	 *
+	 * @param dataNV NV21 or YV12 data.  Only the gray-scale block is read
+	 * @param width Width of the encoded image
+	 * @param output Output image.  width/2 by height/2
+	 */
+	public static void nv21ToGrayDown2(byte[] dataNV, int width, GrayU8 output) {
+		for( int y = 0; y < output.height; y++ ) {
+			int indexIn0 = 2*y*width;
+			int indexIn1 = indexIn0 + width;
+			int indexOut = output.startIndex + y*output.stride;
+
+			for( int x = 0; x < output.width; x++ ) {
+				int sum = (dataNV[indexIn0++] & 0xFF) + (dataNV[indexIn0++] & 0xFF) +
+						(dataNV[indexIn1++] & 0xFF) + (dataNV[indexIn1++] & 0xFF);
+				output.data[ indexOut++ ] = (byte)((sum+2)/4);
+			}
+		}
+	}
+
+	/**
+	 * Decodes the gray-scale block and down samples it by a factor of two in a single pass.  Each output pixel
+	 * is the average of a 2x2 block.  If the input has an odd width or height the last column or row is
+	 * ignored.
+	 *
+	 * @param dataNV NV21 or YV12 data.  Only the gray-scale block is read
+	 * @param width Width of the encoded image
+	 * @param output Output image.  width/2 by height/2
+	 */
+	public static void nv21ToGrayDown2(byte[] dataNV, int width, GrayF32 output) {
+		for( int y = 0; y < output.height; y++ ) {
+			int indexIn0 = 2*y*width;
+			int indexIn1 = indexIn0 + width;
+			int indexOut = output.startIndex + y*output.stride;
+
+			for( int x = 0; x < output.width; x++ ) {
+				int sum = (dataNV[indexIn0++] & 0xFF) + (dataNV[indexIn0++] & 0xFF) +
+						(dataNV[indexIn1++] & 0xFF) + (dataNV[indexIn1++] & 0xFF);
+				output.data[ indexOut++ ] = sum/4.0f;
+			}
+		}
+	}
+
 	public static void nv21ToPlanarYuv_U8(byte[] dataNV, Planar<GrayU8> output) {
 
 		GrayU8 Y = output.getBand(0);
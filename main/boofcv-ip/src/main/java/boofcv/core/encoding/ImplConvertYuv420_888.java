@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.core.encoding;
+
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.InterleavedU8;
+import boofcv.struct.image.Planar;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <p>
+ * Implementations of {@link ConvertYuv420_888} which decode directly into the output image.  The chroma terms are
+ * computed once for each UV sample instead of for every pixel and the luminance term comes from a look up table.
+ * The output is the same as {@link ConvertYuv420_888#processYuv}, except for the last few columns when the
+ * width isn't divisible by the UV sampling period.  Those use the last UV sample in the row instead of data
+ * beyond the end of the row.
+ * </p>
+ *
+ * <p>
+ * Rows are decoded using absolute positions in the buffers.  This allows different row blocks to be decoded in
+ * parallel if each one has its own duplicate of the buffers and work array, see {@link ImplConvertYuv420_888_MT}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplConvertYuv420_888 {
+
+	// 1191*(y-16) clamped to be non-negative
+	static final int[] TABLE_Y = new int[256];
+
+	static {
+		for (int i = 0; i < TABLE_Y.length; i++) {
+			TABLE_Y[i] = Math.max(0,1191*(i-16));
+		}
+	}
+
+	/**
+	 * Number of pixels which share the same UV sample in each direction
+	 */
+	public static int periodUV( int width , int strideUV , int stridePixelUV ) {
+		// not sure the best way to compute this. The width of a plane should be used here and not the stride
+		// but the plane's width isn't specified.
+		return (int)Math.round(width/(strideUV/(double)stridePixelUV));
+	}
+
+	/**
+	 * Minimum length of the work array needed to decode a row
+	 */
+	public static int workLength( int width , int periodUV , int stridePixelUV ) {
+		return width + 2*rowBytesUV(width,periodUV,stridePixelUV);
+	}
+
+	/**
+	 * Number of bytes read from a row in the U and V planes
+	 */
+	static int rowBytesUV( int width , int periodUV , int stridePixelUV ) {
+		return (width/periodUV-1)*stridePixelUV+1;
+	}
+
+	public static void yuvToInterleavedRgbU8(ByteBuffer bufferY, ByteBuffer bufferU , ByteBuffer bufferV ,
+											 int width, int height, int strideY , int strideUV , int stridePixelUV,
+											 InterleavedU8 output , byte work[] ) {
+		int periodUV = periodUV(width,strideUV,stridePixelUV);
+		checkWork(width,periodUV,stridePixelUV,work);
+		yuvToInterleavedRgbU8(bufferY,bufferU,bufferV,width,strideY,strideUV,stridePixelUV,periodUV,
+				output,work,0,height);
+	}
+
+	/**
+	 * Decodes rows y0 to y1-1 into an interleaved RGB image.
+	 */
+	static void yuvToInterleavedRgbU8(ByteBuffer bufferY, ByteBuffer bufferU , ByteBuffer bufferV ,
+									  int width, int strideY , int strideUV , int stridePixelUV, int periodUV,
+									  InterleavedU8 output , byte work[] , int y0 , int y1 ) {
+		final int samplesUV = width/periodUV;
+		final int rowBytesUV = rowBytesUV(width,periodUV,stridePixelUV);
+		final int offsetU = width;
+		final int offsetV = width + rowBytesUV;
+		final byte[] data = output.data;
+
+		int rowUV = -1;
+		for (int y = y0; y < y1; y++) {
+			rowUV = readRow(bufferY,bufferU,bufferV,width,strideY,strideUV,periodUV,rowBytesUV,work,y,rowUV);
+
+			int indexOut = output.startIndex + y*output.stride;
+			int x = 0;
+			int cr = 0, cg = 0, cb = 0;
+			for (int sample = 0; sample < samplesUV; sample++) {
+				int indexUV = sample*stridePixelUV;
+				int CR = (work[offsetU+indexUV] & 0xFF) - 128;
+				int CB = (work[offsetV+indexUV] & 0xFF) - 128;
+				cr = 1836*CR;
+				cg = -547*CR - 218*CB;
+				cb = 2165*CB;
+
+				for (int end = x + periodUV; x < end; x++) {
+					int Y = TABLE_Y[work[x] & 0xFF];
+					data[indexOut++] = (byte)clamp((Y + cr) >> 10);
+					data[indexOut++] = (byte)clamp((Y + cg) >> 10);
+					data[indexOut++] = (byte)clamp((Y + cb) >> 10);
+				}
+			}
+			// width isn't divisible by the period. Use the last UV sample
+			for (; x < width; x++) {
+				int Y = TABLE_Y[work[x] & 0xFF];
+				data[indexOut++] = (byte)clamp((Y + cr) >> 10);
+				data[indexOut++] = (byte)clamp((Y + cg) >> 10);
+				data[indexOut++] = (byte)clamp((Y + cb) >> 10);
+			}
+		}
+	}
+
+	public static void yuvToPlanarRgbU8(ByteBuffer bufferY, ByteBuffer bufferU , ByteBuffer bufferV ,
+										int width, int height, int strideY , int strideUV , int stridePixelUV,
+										Planar<GrayU8> output , byte work[] ) {
+		int periodUV = periodUV(width,strideUV,stridePixelUV);
+		checkWork(width,periodUV,stridePixelUV,work);
+		yuvToPlanarRgbU8(bufferY,bufferU,bufferV,width,strideY,strideUV,stridePixelUV,periodUV,
+				output,work,0,height);
+	}
+
+	/**
+	 * Decodes rows y0 to y1-1 into a planar RGB image.
+	 */
+	static void yuvToPlanarRgbU8(ByteBuffer bufferY, ByteBuffer bufferU , ByteBuffer bufferV ,
+								 int width, int strideY , int strideUV , int stridePixelUV, int periodUV,
+								 Planar<GrayU8> output , byte work[] , int y0 , int y1 ) {
+		final int samplesUV = width/periodUV;
+		final int rowBytesUV = rowBytesUV(width,periodUV,stridePixelUV);
+		final int offsetU = width;
+		final int offsetV = width + rowBytesUV;
+		final byte[] red = output.getBand(0).data;
+		final byte[] green = output.getBand(1).data;
+		final byte[] blue = output.getBand(2).data;
+
+		int rowUV = -1;
+		for (int y = y0; y < y1; y++) {
+			rowUV = readRow(bufferY,bufferU,bufferV,width,strideY,strideUV,periodUV,rowBytesUV,work,y,rowUV);
+
+			int indexOut = output.startIndex + y*output.stride;
+			int x = 0;
+			int cr = 0, cg = 0, cb = 0;
+			for (int sample = 0; sample < samplesUV; sample++) {
+				int indexUV = sample*stridePixelUV;
+				int CR = (work[offsetU+indexUV] & 0xFF) - 128;
+				int CB = (work[offsetV+indexUV] & 0xFF) - 128;
+				cr = 1836*CR;
+				cg = -547*CR - 218*CB;
+				cb = 2165*CB;
+
+				for (int end = x + periodUV; x < end; x++, indexOut++) {
+					int Y = TABLE_Y[work[x] & 0xFF];
+					red[indexOut] = (byte)clamp((Y + cr) >> 10);
+					green[indexOut] = (byte)clamp((Y + cg) >> 10);
+					blue[indexOut] = (byte)clamp((Y + cb) >> 10);
+				}
+			}
+			// width isn't divisible by the period. Use the last UV sample
+			for (; x < width; x++, indexOut++) {
+				int Y = TABLE_Y[work[x] & 0xFF];
+				red[indexOut] = (byte)clamp((Y + cr) >> 10);
+				green[indexOut] = (byte)clamp((Y + cg) >> 10);
+				blue[indexOut] = (byte)clamp((Y + cb) >> 10);
+			}
+		}
+	}
+
+	/**
+	 * Decodes the gray-scale plane and down samples it by a factor of two in a single pass.  Each output pixel
+	 * is the rounded average of a 2x2 block.  If the input has an odd width or height the last column or row is
+	 * ignored.
+	 *
+	 * @param work Work array.  Must be at least 2*width long
+	 * @param output Output image.  width/2 by height/2
+	 */
+	public static void yuvToGrayDown2(ByteBuffer bufferY, int width, int strideRow, GrayU8 output, byte work[] ) {
+		if( work.length < 2*width )
+			throw new IllegalArgumentException("work array must be at least 2*width long");
+
+		for (int y = 0; y < output.height; y++) {
+			bufferY.position(2*y*strideRow);
+			bufferY.get(work,0,width);
+			bufferY.position((2*y+1)*strideRow);
+			bufferY.get(work,width,width);
+
+			int indexOut = output.startIndex + y*output.stride;
+			for (int x = 0, index0 = 0, index1 = width; x < output.width; x++) {
+				int sum = (work[index0++] & 0xFF) + (work[index0++] & 0xFF) +
+						(work[index1++] & 0xFF) + (work[index1++] & 0xFF);
+				output.data[indexOut++] = (byte)((sum+2)/4);
+			}
+		}
+	}
+
+	/**
+	 * Reads the Y data for row 'y' into the work array.  The UV data is only read if the UV row has changed.
+	 *
+	 * @return The UV row which is in the work array
+	 */
+	private static int readRow(ByteBuffer bufferY, ByteBuffer bufferU , ByteBuffer bufferV ,
+							   int width, int strideY , int strideUV , int periodUV , int rowBytesUV ,
+							   byte[] work , int y , int prevRowUV ) {
+		bufferY.position(y*strideY);
+		bufferY.get(work,0,width);
+
+		int rowUV = y/periodUV;
+		if( rowUV != prevRowUV ) {
+			bufferU.position(rowUV*strideUV);
+			bufferU.get(work,width,rowBytesUV);
+			bufferV.position(rowUV*strideUV);
+			bufferV.get(work,width+rowBytesUV,rowBytesUV);
+		}
+		return rowUV;
+	}
+
+	static void checkWork( int width , int periodUV , int stridePixelUV , byte[] work ) {
+		int workLength = workLength(width,periodUV,stridePixelUV);
+		if( work.length < workLength )
+			throw new IllegalArgumentException("Work must be at least "+workLength);
+	}
+
+	private static int clamp( int value ) {
+		return value < 0 ? 0 : (value > 255 ? 255 : value);
+	}
+}
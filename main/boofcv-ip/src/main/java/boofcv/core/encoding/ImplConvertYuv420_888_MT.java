@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.core.encoding;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.InterleavedU8;
+import boofcv.struct.image.Planar;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Concurrent implementation of {@link ImplConvertYuv420_888}.  The image is split into blocks of rows and each
+ * block reads from its own duplicate of the buffers, since a buffer's position can't be shared between threads.
+ *
+ * @author Peter Abeles
+ */
+public class ImplConvertYuv420_888_MT {
+
+	public static void yuvToInterleavedRgbU8(ByteBuffer bufferY, ByteBuffer bufferU , ByteBuffer bufferV ,
+											 int width, int height, int strideY , int strideUV , int stridePixelUV,
+											 InterleavedU8 output , byte work[] ) {
+		int periodUV = ImplConvertYuv420_888.periodUV(width,strideUV,stridePixelUV);
+		ImplConvertYuv420_888.checkWork(width,periodUV,stridePixelUV,work);
+
+		BoofConcurrency.loopBlocks(0,height,periodUV,(y0,y1)->{
+			byte[] blockWork = y0 == 0 ? work : new byte[work.length];
+			ImplConvertYuv420_888.yuvToInterleavedRgbU8(bufferY.duplicate(),bufferU.duplicate(),bufferV.duplicate(),
+					width,strideY,strideUV,stridePixelUV,periodUV,output,blockWork,y0,y1);
+		});
+	}
+
+	public static void yuvToPlanarRgbU8(ByteBuffer bufferY, ByteBuffer bufferU , ByteBuffer bufferV ,
+										int width, int height, int strideY , int strideUV , int stridePixelUV,
+										Planar<GrayU8> output , byte work[] ) {
+		int periodUV = ImplConvertYuv420_888.periodUV(width,strideUV,stridePixelUV);
+		ImplConvertYuv420_888.checkWork(width,periodUV,stridePixelUV,work);
+
+		BoofConcurrency.loopBlocks(0,height,periodUV,(y0,y1)->{
+			byte[] blockWork = y0 == 0 ? work : new byte[work.length];
+			ImplConvertYuv420_888.yuvToPlanarRgbU8(bufferY.duplicate(),bufferU.duplicate(),bufferV.duplicate(),
+					width,strideY,strideUV,stridePixelUV,periodUV,output,blockWork,y0,y1);
+		});
+	}
+}
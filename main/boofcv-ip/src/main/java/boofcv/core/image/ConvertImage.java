@@ -19,8 +19,11 @@
 package boofcv.core.image;
 
 import boofcv.alg.InputSanityCheck;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.impl.ConvertInterleavedToSingle;
+import boofcv.core.image.impl.ImplConvertDirect;
 import boofcv.core.image.impl.ImplConvertImage;
+import boofcv.core.image.impl.ImplConvertImage_MT;
 import boofcv.core.image.impl.ImplConvertPlanarToGray;
 import boofcv.struct.image.*;
 
@@ -57,7 +60,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -78,7 +85,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -99,7 +110,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -120,7 +135,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -141,7 +160,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -162,7 +185,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -183,7 +210,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -204,7 +235,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -225,7 +260,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -246,7 +285,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -267,7 +310,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -288,7 +335,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -309,7 +360,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -330,7 +385,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -369,7 +428,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input,output);
+		} else {
+			ImplConvertImage.convert(input,output);
+		}
 
 		return output;
 	}
@@ -408,7 +471,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input,output);
+		} else {
+			ImplConvertImage.convert(input,output);
+		}
 
 		return output;
 	}
@@ -463,7 +530,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -484,7 +555,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -505,7 +580,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -526,7 +605,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -547,7 +630,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -568,7 +655,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -589,7 +680,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -610,7 +705,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -631,7 +730,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -652,7 +755,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -673,7 +780,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -694,7 +805,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -715,7 +830,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -736,7 +855,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -775,7 +898,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input,output);
+		} else {
+			ImplConvertImage.convert(input,output);
+		}
 
 		return output;
 	}
@@ -814,7 +941,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input,output);
+		} else {
+			ImplConvertImage.convert(input,output);
+		}
 
 		return output;
 	}
@@ -869,7 +1000,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -890,7 +1025,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -911,7 +1050,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -932,7 +1075,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -953,7 +1100,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -974,7 +1125,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -995,7 +1150,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1016,7 +1175,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1037,7 +1200,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1058,7 +1225,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1079,7 +1250,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1100,7 +1275,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1121,7 +1300,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1142,7 +1325,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1181,7 +1368,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input,output);
+		} else {
+			ImplConvertImage.convert(input,output);
+		}
 
 		return output;
 	}
@@ -1220,7 +1411,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input,output);
+		} else {
+			ImplConvertImage.convert(input,output);
+		}
 
 		return output;
 	}
@@ -1275,7 +1470,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1296,7 +1495,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1317,7 +1520,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1338,7 +1545,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1359,7 +1570,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1380,7 +1595,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1401,7 +1620,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1422,7 +1645,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1443,7 +1670,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1464,7 +1695,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1485,7 +1720,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1506,7 +1745,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1527,7 +1770,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1548,7 +1795,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1587,7 +1838,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input,output);
+		} else {
+			ImplConvertImage.convert(input,output);
+		}
 
 		return output;
 	}
@@ -1626,7 +1881,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input,output);
+		} else {
+			ImplConvertImage.convert(input,output);
+		}
 
 		return output;
 	}
@@ -1681,7 +1940,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1702,7 +1965,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1723,7 +1990,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1744,7 +2015,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1765,7 +2040,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1786,7 +2065,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1807,7 +2090,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1828,7 +2115,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1849,7 +2140,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1870,7 +2165,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1891,7 +2190,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1912,7 +2215,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1933,7 +2240,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1954,7 +2265,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1993,7 +2308,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input,output);
+		} else {
+			ImplConvertImage.convert(input,output);
+		}
 
 		return output;
 	}
@@ -2032,7 +2351,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input,output);
+		} else {
+			ImplConvertImage.convert(input,output);
+		}
 
 		return output;
 	}
@@ -2087,7 +2410,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2108,7 +2435,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2129,7 +2460,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2150,7 +2485,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2171,7 +2510,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2192,7 +2535,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2213,7 +2560,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2234,7 +2585,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2255,7 +2610,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2276,7 +2635,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2297,7 +2660,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2318,7 +2685,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2339,7 +2710,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2360,7 +2735,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2399,7 +2778,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input,output);
+		} else {
+			ImplConvertImage.convert(input,output);
+		}
 
 		return output;
 	}
@@ -2438,7 +2821,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input,output);
+		} else {
+			ImplConvertImage.convert(input,output);
+		}
 
 		return output;
 	}
@@ -2493,7 +2880,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2514,7 +2905,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2535,7 +2930,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2556,7 +2955,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2577,7 +2980,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2598,7 +3005,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2619,7 +3030,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2640,7 +3055,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2661,7 +3080,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2682,7 +3105,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2703,7 +3130,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2724,7 +3155,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2745,7 +3180,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2766,7 +3205,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2805,7 +3248,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input,output);
+		} else {
+			ImplConvertImage.convert(input,output);
+		}
 
 		return output;
 	}
@@ -2844,7 +3291,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input,output);
+		} else {
+			ImplConvertImage.convert(input,output);
+		}
 
 		return output;
 	}
@@ -2899,7 +3350,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2920,7 +3375,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2941,7 +3400,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2962,7 +3425,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2983,7 +3450,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -3004,7 +3475,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -3025,7 +3500,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -3046,7 +3525,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -3067,7 +3550,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -3088,7 +3575,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -3109,7 +3600,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -3130,7 +3625,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -3151,7 +3650,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -3172,7 +3675,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -3211,7 +3718,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input,output);
+		} else {
+			ImplConvertImage.convert(input,output);
+		}
 
 		return output;
 	}
@@ -3250,7 +3761,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input,output);
+		} else {
+			ImplConvertImage.convert(input,output);
+		}
 
 		return output;
 	}
@@ -3303,7 +3818,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convertU8F32(input,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convertU8F32(input,output);
+		} else {
+			ImplConvertImage.convertU8F32(input,output);
+		}
 
 		return output;
 	}
@@ -3322,7 +3841,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convertF32U8(input,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convertF32U8(input,output);
+		} else {
+			ImplConvertImage.convertF32U8(input,output);
+		}
 
 		return output;
 	}
@@ -3342,7 +3865,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convertF32U8(input,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convertF32U8(input,output);
+		} else {
+			ImplConvertImage.convertF32U8(input,output);
+		}
 
 		return output;
 	}
@@ -3361,7 +3888,158 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convertU8F32(input,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convertU8F32(input,output);
+		} else {
+			ImplConvertImage.convertU8F32(input,output);
+		}
+
+		return output;
+	}
+
+	/**
+	 * <p>
+	 * Converts an {@link boofcv.struct.image.DirectGrayU8} into a {@link boofcv.struct.image.GrayU8}.
+	 * </p>
+	 *
+	 * @param input Input image which is being converted. Not modified.
+	 * @param output (Optional) The output image.  If null a new image is created. Modified.
+	 * @return Converted image.
+	 */
+	public static GrayU8 convert(DirectGrayU8 input, GrayU8 output) {
+		if (output == null) {
+			output = new GrayU8(input.width, input.height);
+		} else {
+			InputSanityCheck.checkSameShape(input, output);
+		}
+
+		ImplConvertDirect.convert(input, output);
+
+		return output;
+	}
+
+	/**
+	 * <p>
+	 * Converts an {@link boofcv.struct.image.GrayU8} into a {@link boofcv.struct.image.DirectGrayU8}.
+	 * </p>
+	 *
+	 * @param input Input image which is being converted. Not modified.
+	 * @param output (Optional) The output image.  If null a new image is created. Modified.
+	 * @return Converted image.
+	 */
+	public static DirectGrayU8 convert(GrayU8 input, DirectGrayU8 output) {
+		if (output == null) {
+			output = new DirectGrayU8(input.width, input.height);
+		} else {
+			InputSanityCheck.checkSameShape(input, output);
+		}
+
+		ImplConvertDirect.convert(input, output);
+
+		return output;
+	}
+
+	/**
+	 * <p>
+	 * Converts an {@link boofcv.struct.image.DirectGrayF32} into a {@link boofcv.struct.image.GrayF32}.
+	 * </p>
+	 *
+	 * @param input Input image which is being converted. Not modified.
+	 * @param output (Optional) The output image.  If null a new image is created. Modified.
+	 * @return Converted image.
+	 */
+	public static GrayF32 convert(DirectGrayF32 input, GrayF32 output) {
+		if (output == null) {
+			output = new GrayF32(input.width, input.height);
+		} else {
+			InputSanityCheck.checkSameShape(input, output);
+		}
+
+		ImplConvertDirect.convert(input, output);
+
+		return output;
+	}
+
+	/**
+	 * <p>
+	 * Converts an {@link boofcv.struct.image.GrayF32} into a {@link boofcv.struct.image.DirectGrayF32}.
+	 * </p>
+	 *
+	 * @param input Input image which is being converted. Not modified.
+	 * @param output (Optional) The output image.  If null a new image is created. Modified.
+	 * @return Converted image.
+	 */
+	public static DirectGrayF32 convert(GrayF32 input, DirectGrayF32 output) {
+		if (output == null) {
+			output = new DirectGrayF32(input.width, input.height);
+		} else {
+			InputSanityCheck.checkSameShape(input, output);
+		}
+
+		ImplConvertDirect.convert(input, output);
+
+		return output;
+	}
+
+	/**
+	 * <p>
+	 * Converts an {@link boofcv.struct.image.DirectGrayU8} into a {@link boofcv.struct.image.GrayF32}.
+	 * </p>
+	 *
+	 * @param input Input image which is being converted. Not modified.
+	 * @param output (Optional) The output image.  If null a new image is created. Modified.
+	 * @return Converted image.
+	 */
+	public static GrayF32 convert(DirectGrayU8 input, GrayF32 output) {
+		if (output == null) {
+			output = new GrayF32(input.width, input.height);
+		} else {
+			InputSanityCheck.checkSameShape(input, output);
+		}
+
+		ImplConvertDirect.convert(input, output);
+
+		return output;
+	}
+
+	/**
+	 * <p>
+	 * Converts an {@link boofcv.struct.image.DirectInterleavedU8} into a {@link boofcv.struct.image.InterleavedU8}.
+	 * </p>
+	 *
+	 * @param input Input image which is being converted. Not modified.
+	 * @param output (Optional) The output image.  If null a new image is created. Modified.
+	 * @return Converted image.
+	 */
+	public static InterleavedU8 convert(DirectInterleavedU8 input, InterleavedU8 output) {
+		if (output == null) {
+			output = new InterleavedU8(input.width, input.height, input.getNumBands());
+		} else {
+			InputSanityCheck.checkSameShape(input, output);
+		}
+
+		ImplConvertDirect.convert(input, output);
+
+		return output;
+	}
+
+	/**
+	 * <p>
+	 * Converts an {@link boofcv.struct.image.InterleavedU8} into a {@link boofcv.struct.image.DirectInterleavedU8}.
+	 * </p>
+	 *
+	 * @param input Input image which is being converted. Not modified.
+	 * @param output (Optional) The output image.  If null a new image is created. Modified.
+	 * @return Converted image.
+	 */
+	public static DirectInterleavedU8 convert(InterleavedU8 input, DirectInterleavedU8 output) {
+		if (output == null) {
+			output = new DirectInterleavedU8(input.width, input.height, input.getNumBands());
+		} else {
+			InputSanityCheck.checkSameShape(input, output);
+		}
+
+		ImplConvertDirect.convert(input, output);
 
 		return output;
 	}
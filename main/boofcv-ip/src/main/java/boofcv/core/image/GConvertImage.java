@@ -56,7 +56,19 @@ public class GConvertImage {
 		ImageType typeIn = input.getImageType();
 		ImageType typeOut = output.getImageType();
 
-		if( input instanceof ImageGray) {
+		if( input instanceof ImageDirect || output instanceof ImageDirect ) {
+			if (input.getClass() == output.getClass()) {
+				output.setTo(input);
+			} else {
+				try {
+					Method m = ConvertImage.class.getMethod("convert", input.getClass(), output.getClass());
+					m.invoke(null, input, output);
+				} catch (Exception e) {
+					throw new IllegalArgumentException("Unknown conversion. "+
+							input.getClass().getSimpleName()+" to "+output.getClass().getSimpleName());
+				}
+			}
+		} else if( input instanceof ImageGray) {
 			ImageGray sb = (ImageGray)input;
 			if( output instanceof ImageGray) {
 				if (input.getClass() == output.getClass()) {
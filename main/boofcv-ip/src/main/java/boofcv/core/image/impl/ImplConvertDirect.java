@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.core.image.impl;
+
+import boofcv.struct.image.*;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+
+/**
+ * <p>
+ * Functions for copying pixels between array based images and images stored in a {@link ByteBuffer}.
+ * Rows are copied using bulk get and put operations.  Views of the buffers are used so that the
+ * position and limit of the image's buffer is never modified, allowing the same image to be read by
+ * multiple threads.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplConvertDirect {
+
+	public static void convert( DirectGrayU8 from , GrayU8 to ) {
+		ByteBuffer src = from.data.duplicate();
+		for (int y = 0; y < from.height; y++) {
+			src.position(from.getIndex(0,y));
+			src.get(to.data, to.getIndex(0,y), from.width);
+		}
+	}
+
+	public static void convert( GrayU8 from , DirectGrayU8 to ) {
+		ByteBuffer dst = to.data.duplicate();
+		for (int y = 0; y < from.height; y++) {
+			dst.position(to.getIndex(0,y));
+			dst.put(from.data, from.getIndex(0,y), from.width);
+		}
+	}
+
+	public static void convert( DirectInterleavedU8 from , InterleavedU8 to ) {
+		ByteBuffer src = from.data.duplicate();
+		int length = from.width*from.getNumBands();
+		for (int y = 0; y < from.height; y++) {
+			src.position(from.getIndex(0,y));
+			src.get(to.data, to.getIndex(0,y), length);
+		}
+	}
+
+	public static void convert( InterleavedU8 from , DirectInterleavedU8 to ) {
+		ByteBuffer dst = to.data.duplicate();
+		int length = from.width*from.numBands;
+		for (int y = 0; y < from.height; y++) {
+			dst.position(to.getIndex(0,y));
+			dst.put(from.data, from.getIndex(0,y), length);
+		}
+	}
+
+	public static void convert( DirectGrayF32 from , GrayF32 to ) {
+		FloatBuffer src = floatView(from.data);
+		for (int y = 0; y < from.height; y++) {
+			src.position(from.getIndex(0,y));
+			src.get(to.data, to.getIndex(0,y), from.width);
+		}
+	}
+
+	public static void convert( GrayF32 from , DirectGrayF32 to ) {
+		FloatBuffer dst = floatView(to.data);
+		for (int y = 0; y < from.height; y++) {
+			dst.position(to.getIndex(0,y));
+			dst.put(from.data, from.getIndex(0,y), from.width);
+		}
+	}
+
+	public static void convert( DirectGrayU8 from , GrayF32 to ) {
+		ByteBuffer src = from.data;
+		for (int y = 0; y < from.height; y++) {
+			int indexSrc = from.getIndex(0,y);
+			int indexDst = to.getIndex(0,y);
+			int end = indexSrc + from.width;
+
+			while( indexSrc < end ) {
+				to.data[indexDst++] = src.get(indexSrc++) & 0xFF;
+			}
+		}
+	}
+
+	/**
+	 * Creates a float view of the entire buffer which has the same byte order as the buffer
+	 */
+	private static FloatBuffer floatView( ByteBuffer buffer ) {
+		ByteBuffer dup = buffer.duplicate().order(buffer.order());
+		dup.clear();
+		return dup.asFloatBuffer();
+	}
+}
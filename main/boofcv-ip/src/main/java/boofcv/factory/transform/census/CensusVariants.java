@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.factory.transform.census;
+
+/**
+ * Different regions the census transform can be computed over
+ *
+ * @author Peter Abeles
+ */
+public enum CensusVariants {
+	/**
+	 * 3x3 square region. 8-bits
+	 */
+	BLOCK_3_3,
+	/**
+	 * 5x5 square region. 24-bits
+	 */
+	BLOCK_5_5,
+	/**
+	 * 7x7 square region. 48-bits
+	 */
+	BLOCK_7_7,
+	/**
+	 * Region which is 9 pixels wide and 7 pixels tall. 62-bits
+	 */
+	BLOCK_9_7
+}
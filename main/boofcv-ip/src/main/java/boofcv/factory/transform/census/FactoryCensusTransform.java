@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.factory.transform.census;
+
+import boofcv.abst.filter.FilterImageInterface;
+import boofcv.abst.transform.census.FilterCensusTransform;
+import boofcv.core.image.border.BorderType;
+import boofcv.core.image.border.FactoryImageBorder;
+import boofcv.core.image.border.ImageBorder_S32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageGray;
+
+/**
+ * Factory for creating different types of census transforms
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings("unchecked")
+public class FactoryCensusTransform {
+	/**
+	 * Creates a census transform with the specified region.  The image border is handled by extending the
+	 * edge pixels.
+	 *
+	 * @param type Which region the census transform is computed over
+	 * @param imageType Type of input image
+	 * @return Filter which computes the census transform
+	 */
+	public static <In extends ImageGray<In>, Out extends ImageGray<Out>>
+	FilterImageInterface<In, Out> variant( CensusVariants type , Class<In> imageType ) {
+		if( imageType != GrayU8.class )
+			throw new IllegalArgumentException("Only GrayU8 input images are currently supported");
+
+		ImageBorder_S32<GrayU8> border = (ImageBorder_S32)FactoryImageBorder.single(GrayU8.class, BorderType.EXTENDED);
+
+		switch( type ) {
+			case BLOCK_3_3: return (FilterImageInterface)new FilterCensusTransform.Block3x3(border);
+			case BLOCK_5_5: return (FilterImageInterface)new FilterCensusTransform.Block5x5(border);
+			case BLOCK_7_7: return (FilterImageInterface)new FilterCensusTransform.Block7x7(border);
+			case BLOCK_9_7: return (FilterImageInterface)new FilterCensusTransform.Block9x7(border);
+			default: throw new IllegalArgumentException("Unknown type "+type);
+		}
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.image;
+
+/**
+ * Gray scale image with 32-bit floating point pixels stored in a {@link java.nio.ByteBuffer}.
+ *
+ * @see ImageDirect
+ *
+ * @author Peter Abeles
+ */
+public class DirectGrayF32 extends ImageDirect<DirectGrayF32> {
+
+	/**
+	 * Creates a new image which is stored in a direct buffer.
+	 *
+	 * @param width  number of columns in the image.
+	 * @param height number of rows in the image.
+	 */
+	public DirectGrayF32(int width, int height) {
+		super(width, height, 1);
+		this.imageType = ImageTypeDirect.grayF32();
+	}
+
+	/**
+	 * Creates an image with no data.  Use {@link #wrap} or {@link #reshape} to specify the data.
+	 */
+	public DirectGrayF32() {
+		super(1);
+		this.imageType = ImageTypeDirect.grayF32();
+	}
+
+	/**
+	 * Returns the value of the specified pixel.
+	 *
+	 * @param x pixel coordinate.
+	 * @param y pixel coordinate.
+	 * @return Pixel intensity value.
+	 */
+	public float get(int x, int y) {
+		if (!isInBounds(x, y))
+			throw new ImageAccessException("Requested pixel is out of bounds: "+x+" "+y);
+
+		return unsafe_get(x,y);
+	}
+
+	public float unsafe_get(int x, int y) {
+		return data.getFloat(getIndex(x, y)*4);
+	}
+
+	/**
+	 * Sets the value of the specified pixel.
+	 *
+	 * @param x	 pixel coordinate.
+	 * @param y	 pixel coordinate.
+	 * @param value The pixel's new value.
+	 */
+	public void set(int x, int y, float value) {
+		if (!isInBounds(x, y))
+			throw new ImageAccessException("Requested pixel is out of bounds: "+x+" "+y);
+
+		unsafe_set(x,y,value);
+	}
+
+	public void unsafe_set(int x, int y, float value) {
+		data.putFloat(getIndex(x, y)*4, value);
+	}
+
+	@Override
+	public int getBytesPerElement() {
+		return 4;
+	}
+
+	@Override
+	public DirectGrayF32 createNew(int imgWidth, int imgHeight) {
+		if (imgWidth == -1 || imgHeight == -1) {
+			return new DirectGrayF32();
+		}
+		return new DirectGrayF32(imgWidth, imgHeight);
+	}
+}
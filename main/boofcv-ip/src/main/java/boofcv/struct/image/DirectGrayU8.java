@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.image;
+
+/**
+ * Gray scale image with unsigned 8-bit pixels stored in a {@link java.nio.ByteBuffer}.
+ *
+ * @see ImageDirect
+ *
+ * @author Peter Abeles
+ */
+public class DirectGrayU8 extends ImageDirect<DirectGrayU8> {
+
+	/**
+	 * Creates a new image which is stored in a direct buffer.
+	 *
+	 * @param width  number of columns in the image.
+	 * @param height number of rows in the image.
+	 */
+	public DirectGrayU8(int width, int height) {
+		super(width, height, 1);
+		this.imageType = ImageTypeDirect.grayU8();
+	}
+
+	/**
+	 * Creates an image with no data.  Use {@link #wrap} or {@link #reshape} to specify the data.
+	 */
+	public DirectGrayU8() {
+		super(1);
+		this.imageType = ImageTypeDirect.grayU8();
+	}
+
+	/**
+	 * Returns the value of the specified pixel.
+	 *
+	 * @param x pixel coordinate.
+	 * @param y pixel coordinate.
+	 * @return Pixel intensity value.
+	 */
+	public int get(int x, int y) {
+		if (!isInBounds(x, y))
+			throw new ImageAccessException("Requested pixel is out of bounds: "+x+" "+y);
+
+		return unsafe_get(x,y);
+	}
+
+	public int unsafe_get(int x, int y) {
+		return data.get(getIndex(x, y)) & 0xFF;
+	}
+
+	/**
+	 * Sets the value of the specified pixel.
+	 *
+	 * @param x	 pixel coordinate.
+	 * @param y	 pixel coordinate.
+	 * @param value The pixel's new value.
+	 */
+	public void set(int x, int y, int value) {
+		if (!isInBounds(x, y))
+			throw new ImageAccessException("Requested pixel is out of bounds: "+x+" "+y);
+
+		unsafe_set(x,y,value);
+	}
+
+	public void unsafe_set(int x, int y, int value) {
+		data.put(getIndex(x, y), (byte)value);
+	}
+
+	@Override
+	public int getBytesPerElement() {
+		return 1;
+	}
+
+	@Override
+	public DirectGrayU8 createNew(int imgWidth, int imgHeight) {
+		if (imgWidth == -1 || imgHeight == -1) {
+			return new DirectGrayU8();
+		}
+		return new DirectGrayU8(imgWidth, imgHeight);
+	}
+}
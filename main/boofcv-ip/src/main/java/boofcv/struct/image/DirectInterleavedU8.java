@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.image;
+
+/**
+ * Interleaved image with unsigned 8-bit pixels stored in a {@link java.nio.ByteBuffer}.
+ *
+ * @see ImageDirect
+ *
+ * @author Peter Abeles
+ */
+public class DirectInterleavedU8 extends ImageDirect<DirectInterleavedU8> {
+
+	/**
+	 * Creates a new image which is stored in a direct buffer.
+	 *
+	 * @param width  number of columns in the image.
+	 * @param height number of rows in the image.
+	 * @param numBands number of bands in the image.
+	 */
+	public DirectInterleavedU8(int width, int height, int numBands) {
+		super(width, height, numBands);
+		this.imageType = ImageTypeDirect.interleavedU8(numBands);
+	}
+
+	/**
+	 * Creates an image with no data.  Use {@link #wrap} or {@link #reshape} to specify the data.
+	 */
+	public DirectInterleavedU8( int numBands ) {
+		super(numBands);
+		this.imageType = ImageTypeDirect.interleavedU8(numBands);
+	}
+
+	/**
+	 * Returns the value of the specified band in the specified pixel.
+	 *
+	 * @param x	pixel coordinate.
+	 * @param y	pixel coordinate.
+	 * @param band which color band in the pixel
+	 * @return an intensity value.
+	 */
+	public int getBand(int x, int y, int band) {
+		if (!isInBounds(x, y))
+			throw new ImageAccessException("Requested pixel is out of bounds: "+x+" "+y);
+		if (band < 0 || band >= numBands)
+			throw new ImageAccessException("Invalid band requested.");
+
+		return data.get(getIndex(x, y, band)) & 0xFF;
+	}
+
+	/**
+	 * Returns the value of the specified band in the specified pixel.
+	 *
+	 * @param x	   pixel coordinate.
+	 * @param y	   pixel coordinate.
+	 * @param band  which color band in the pixel
+	 * @param value The new value of the element.
+	 */
+	public void setBand(int x, int y, int band, int value) {
+		if (!isInBounds(x, y))
+			throw new ImageAccessException("Requested pixel is out of bounds: "+x+" "+y);
+		if (band < 0 || band >= numBands)
+			throw new ImageAccessException("Invalid band requested.");
+
+		data.put(getIndex(x, y, band), (byte)value);
+	}
+
+	@Override
+	public int getBytesPerElement() {
+		return 1;
+	}
+
+	@Override
+	public DirectInterleavedU8 createNew(int imgWidth, int imgHeight) {
+		if (imgWidth == -1 || imgHeight == -1) {
+			return new DirectInterleavedU8(numBands);
+		}
+		return new DirectInterleavedU8(imgWidth, imgHeight, numBands);
+	}
+}
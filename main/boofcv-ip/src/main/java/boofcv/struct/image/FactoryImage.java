@@ -18,6 +18,7 @@
 
 package boofcv.struct.image;
 
+import javax.annotation.Nullable;
 
 /**
  * Used to create new images from its type alone
@@ -45,4 +46,16 @@ public class FactoryImage {
 			throw new IllegalArgumentException("Unknown image type: "+type);
 		}
 	}
+
+	/**
+	 * Same as {@link #create(Class, int, int)} but the image is borrowed from the pool if one is provided.
+	 *
+	 * @param pool (Optional) Pool which the image is borrowed from.  If null a new image is declared.
+	 */
+	public static <T extends ImageGray<T>> T create(Class<T> type , int width , int height , @Nullable ImagePool pool )
+	{
+		if( pool == null )
+			return create(type,width,height);
+		return pool.borrow(ImageType.single(type),width,height);
+	}
 }
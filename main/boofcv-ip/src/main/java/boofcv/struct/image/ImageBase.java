@@ -20,6 +20,8 @@ package boofcv.struct.image;
 
 import georegression.struct.point.Point2D_I32;
 
+import javax.annotation.Nullable;
+
 import java.io.Serializable;
 
 /**
@@ -211,6 +213,20 @@ public abstract class ImageBase<T extends ImageBase> implements Serializable, Cl
 		return createNew(width,height);
 	}
 
+	/**
+	 * Same as {@link #createSameShape()} but the image is borrowed from a pool if one is provided.  When
+	 * no longer needed it should be returned using {@link ImagePool#recycle}.
+	 *
+	 * @param pool (Optional) Pool which the image is borrowed from.  If null a new image is declared.
+	 * @return image with the same shape as this.  If borrowed from a pool its contents are undefined.
+	 */
+	@SuppressWarnings({"unchecked"})
+	public T createSameShape( @Nullable ImagePool pool ) {
+		if( pool == null )
+			return createSameShape();
+		return pool.borrowSameShape((T)this);
+	}
+
 	/**
 	 * Creates an identical image.  Note that if this image is a sub-image portions of hte image which are not part
 	 * of the sub-image are not copied.
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.image;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * <p>
+ * Base class for images which store their pixels inside a {@link ByteBuffer} instead of a Java array.  When
+ * a direct buffer is used the pixels are stored outside of the Java heap, which allows memory owned by
+ * native code (e.g. a video decoder) to be wrapped without copying it using {@link #wrap}.
+ * </p>
+ *
+ * <p>
+ * The startIndex and stride have the same meaning as they do for array based images and are in units of
+ * elements, not bytes.  For images with multiple bands the bands are interleaved together. Multi-byte
+ * elements are read using the buffer's byte order.  Buffers allocated by this class use the native byte
+ * order. Conversion to and from array based images is done using {@link boofcv.core.image.ConvertImage}.
+ * </p>
+ *
+ * <p>
+ * The image type is an {@link ImageTypeDirect}. It has the same pixel format as the equivalent array based image
+ * but creates images stored in a buffer and is not the same type. Most algorithms only work with array based images.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public abstract class ImageDirect<T extends ImageDirect<T>> extends ImageBase<T> {
+
+	/**
+	 * Buffer which stores the pixels.  Element (x,y,band) is at byte
+	 * (startIndex + y*stride + x*numBands + band)*bytesPerElement
+	 */
+	public transient ByteBuffer data;
+
+	/**
+	 * Number of bands which are interleaved together
+	 */
+	protected int numBands;
+
+	protected ImageDirect( int width , int height , int numBands ) {
+		this.numBands = numBands;
+		this.width = width;
+		this.height = height;
+		this.stride = width*numBands;
+		this.data = allocate(width*height*numBands);
+	}
+
+	protected ImageDirect( int numBands ) {
+		this.numBands = numBands;
+	}
+
+	/**
+	 * Declares a new direct buffer in the native byte order which can store the specified number of elements
+	 */
+	protected ByteBuffer allocate( int numElements ) {
+		return ByteBuffer.allocateDirect(numElements*getBytesPerElement()).order(ByteOrder.nativeOrder());
+	}
+
+	/**
+	 * Changes the image so that it references the provided buffer.  No data is copied and the image
+	 * will continue to reference the buffer until the image is reshaped to a size which the buffer is
+	 * too small for.
+	 *
+	 * @param buffer Buffer containing the pixels.  Byte order should already be set.
+	 * @param startIndex Index of the first element in the image
+	 * @param stride Number of elements between each row
+	 * @param width Image width
+	 * @param height Image height
+	 */
+	public void wrap( ByteBuffer buffer , int startIndex , int stride , int width , int height ) {
+		if( stride < width*numBands )
+			throw new IllegalArgumentException("stride must be at least width*numBands");
+		if( height > 0 && buffer.capacity() < (startIndex + (height-1)*stride + width*numBands)*getBytesPerElement() )
+			throw new IllegalArgumentException("Buffer is too small for the image");
+		this.data = buffer;
+		this.startIndex = startIndex;
+		this.stride = stride;
+		this.width = width;
+		this.height = height;
+		this.subImage = false;
+	}
+
+	@Override
+	public T subimage(int x0, int y0, int x1, int y1, T subimage) {
+		if (x0 < 0 || y0 < 0)
+			throw new IllegalArgumentException("x0 or y0 is less than zero");
+		if (x1 < x0 || y1 < y0)
+			throw new IllegalArgumentException("x1 or y1 is less than x0 or y0 respectively");
+		if (x1 > width || y1 > height)
+			throw new IllegalArgumentException("x1 or y1 is more than the width or height respectively");
+
+		if( subimage == null ) {
+			subimage = createNew(-1, -1);
+		}
+
+		subimage.data = data;
+		subimage.numBands = numBands;
+		subimage.stride = stride;
+		subimage.width = x1 - x0;
+		subimage.height = y1 - y0;
+		subimage.startIndex = startIndex + y0 * stride + x0*numBands;
+		subimage.subImage = true;
+		subimage.imageType = imageType;
+
+		return subimage;
+	}
+
+	@Override
+	public void reshape(int width, int height) {
+		if( this.width == width && this.height == height )
+			return;
+		if( isSubimage() )
+			throw new IllegalArgumentException("Can't reshape sub-images");
+
+		int length = width*height*numBands;
+		if( data == null || data.capacity() < (startIndex+length)*getBytesPerElement() ) {
+			data = allocate(length);
+			startIndex = 0;
+		}
+
+		this.stride = width*numBands;
+		this.width = width;
+		this.height = height;
+	}
+
+	/**
+	 * Copies the pixels from 'orig' into this image.  If needed this image is reshaped.
+	 */
+	@Override
+	public void setTo(T orig) {
+		if( orig.numBands != numBands )
+			throw new IllegalArgumentException("Number of bands must match");
+		reshape(orig.width,orig.height);
+
+		int bytes = getBytesPerElement();
+		int rowBytes = width*numBands*bytes;
+
+		// duplicate so that the position and limit of the original buffers are not modified
+		ByteBuffer src = orig.data.duplicate();
+		ByteBuffer dst = data.duplicate();
+
+		for (int y = 0; y < height; y++) {
+			int indexSrc = (orig.startIndex + y*orig.stride)*bytes;
+			int indexDst = (startIndex + y*stride)*bytes;
+			src.limit(indexSrc+rowBytes).position(indexSrc);
+			dst.limit(indexDst+rowBytes).position(indexDst);
+			dst.put(src);
+		}
+	}
+
+	@Override
+	public int getIndex(int x, int y) {
+		return startIndex + y*stride + x*numBands;
+	}
+
+	public int getIndex(int x, int y, int band) {
+		return startIndex + y*stride + x*numBands + band;
+	}
+
+	/**
+	 * Number of bytes in each element
+	 */
+	public abstract int getBytesPerElement();
+
+	public int getNumBands() {
+		return numBands;
+	}
+
+	private void writeObject( ObjectOutputStream out ) throws IOException {
+		out.defaultWriteObject();
+		byte[] bytes = new byte[data == null ? 0 : data.capacity()];
+		if( data != null ) {
+			ByteBuffer copy = data.duplicate();
+			copy.clear();
+			copy.get(bytes);
+			out.writeBoolean(data.order() == ByteOrder.BIG_ENDIAN);
+		} else {
+			out.writeBoolean(true);
+		}
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private void readObject( ObjectInputStream in ) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		boolean bigEndian = in.readBoolean();
+		byte[] bytes = new byte[in.readInt()];
+		in.readFully(bytes);
+		data = ByteBuffer.allocateDirect(bytes.length).order(bigEndian ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+		data.put(bytes);
+		data.clear();
+	}
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.image;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ * Thread safe pool of images which can be borrowed and then returned when no longer needed. Reusing images
+ * avoids the cost of declaring new arrays and reduces how often the garbage collector needs to run,
+ * which is significant when processing high resolution video. Images are grouped by their {@link ImageType}
+ * and shape, which is effectively a size class since those are the only images which can be reused
+ * without modification.
+ * </p>
+ *
+ * <p>
+ * The total memory used by images stored in the pool is bounded.  When it is exceeded images are discarded,
+ * starting with the group which was least recently used.
+ * </p>
+ *
+ * <p>
+ * NOTE: The contents of a borrowed image is undefined.  An image must not be used after it has been recycled.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImagePool {
+	/**
+	 * Default maximum number of bytes stored. 64 MB
+	 */
+	public static final long DEFAULT_MAX_BYTES = 64*1024*1024;
+
+	// Images which are available for reuse.  Ordered by access, least recently used first
+	private final LinkedHashMap<Key,ArrayDeque<ImageBase>> available = new LinkedHashMap<>(16,0.75f,true);
+
+	// Used to look up images without declaring a new key
+	private final Key lookup = new Key();
+
+	// Maximum number of bytes which can be stored in the pool
+	private long maxBytes;
+	// Number of bytes currently stored
+	private long storedBytes;
+
+	// statistics on how many times an image was reused
+	private long hits;
+	private long misses;
+
+	/**
+	 * Creates a pool with the specified maximum number of bytes it can store
+	 */
+	public ImagePool( long maxBytes ) {
+		setMaxBytes(maxBytes);
+	}
+
+	public ImagePool() {
+		this(DEFAULT_MAX_BYTES);
+	}
+
+	/**
+	 * Returns an image with the specified type and shape.  If one is available it will be reused, otherwise
+	 * a new image is declared.
+	 *
+	 * @param type Type of image
+	 * @param width Image width
+	 * @param height Image height
+	 * @return An image with the requested type and shape.  Contents are undefined.
+	 */
+	public synchronized <T extends ImageBase<T>> T borrow( ImageType<T> type , int width , int height ) {
+		lookup.set(type,width,height);
+		T image = takeAvailable();
+		return image != null ? image : type.createImage(width,height);
+	}
+
+	/**
+	 * Returns an image with the same type, number of bands, and shape as the provided image.
+	 *
+	 * @param original Image which is used as a template
+	 * @return An image with the same shape as the original.  Contents are undefined.
+	 */
+	@SuppressWarnings("unchecked")
+	public synchronized <T extends ImageBase> T borrowSameShape( T original ) {
+		if( !isSupported(original) )
+			return (T)original.createSameShape();
+		lookup.set(original);
+		T image = takeAvailable();
+		return image != null ? image : (T)original.createSameShape();
+	}
+
+	/**
+	 * Returns an image to the pool so that it can be reused.  Sub-images are ignored since they
+	 * reference another image's data. Only array based images are stored.
+	 *
+	 * @param image The image being returned.  If null nothing happens.
+	 */
+	public synchronized void recycle( ImageBase image ) {
+		if( image == null || image.isSubimage() || !isSupported(image) )
+			return;
+
+		lookup.set(image);
+		ArrayDeque<ImageBase> images = available.get(lookup);
+		if( images == null ) {
+			images = new ArrayDeque<>();
+			available.put(lookup.copy(),images);
+		}
+		images.addFirst(image);
+		storedBytes += lookup.bytes();
+
+		evict();
+	}
+
+	/**
+	 * Only array based images can be stored since the image type is used to declare new images
+	 */
+	private static boolean isSupported( ImageBase image ) {
+		return image instanceof ImageGray || image instanceof ImageMultiBand;
+	}
+
+	/**
+	 * Removes an image which matches the lookup key.  Returns null if there are none.
+	 */
+	@SuppressWarnings("unchecked")
+	private <T extends ImageBase> T takeAvailable() {
+		ArrayDeque<ImageBase> images = available.get(lookup);
+		if( images == null || images.isEmpty() ) {
+			misses++;
+			return null;
+		}
+		hits++;
+		storedBytes -= lookup.bytes();
+		return (T)images.removeFirst();
+	}
+
+	/**
+	 * Discards images from the least recently used groups until the memory limit is no longer exceeded
+	 */
+	private void evict() {
+		Iterator<Map.Entry<Key,ArrayDeque<ImageBase>>> iterator = available.entrySet().iterator();
+		while( storedBytes > maxBytes && iterator.hasNext() ) {
+			Map.Entry<Key,ArrayDeque<ImageBase>> entry = iterator.next();
+			ArrayDeque<ImageBase> images = entry.getValue();
+			long bytes = entry.getKey().bytes();
+			while( storedBytes > maxBytes && images.size() > 0 ) {
+				images.removeLast();
+				storedBytes -= bytes;
+			}
+			if( images.isEmpty() )
+				iterator.remove();
+		}
+	}
+
+	/**
+	 * Discards all images in the pool
+	 */
+	public synchronized void clear() {
+		available.clear();
+		storedBytes = 0;
+	}
+
+	/**
+	 * Changes the maximum number of bytes which can be stored.  If the new limit is smaller then
+	 * images will be discarded.
+	 */
+	public synchronized void setMaxBytes( long maxBytes ) {
+		if( maxBytes < 0 )
+			throw new IllegalArgumentException("maxBytes must be >= 0");
+		this.maxBytes = maxBytes;
+		evict();
+	}
+
+	public synchronized long getMaxBytes() {
+		return maxBytes;
+	}
+
+	/**
+	 * Number of bytes in images which are currently stored in the pool
+	 */
+	public synchronized long getStoredBytes() {
+		return storedBytes;
+	}
+
+	/**
+	 * Number of images currently stored in the pool
+	 */
+	public synchronized int getStoredImages() {
+		int total = 0;
+		for( ArrayDeque<ImageBase> images : available.values() ) {
+			total += images.size();
+		}
+		return total;
+	}
+
+	/**
+	 * Number of times a borrowed image was reused
+	 */
+	public synchronized long getHits() {
+		return hits;
+	}
+
+	/**
+	 * Number of times a borrowed image needed to be declared
+	 */
+	public synchronized long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Identifies the size class an image belongs to
+	 */
+	private static class Key {
+		ImageType.Family family;
+		ImageDataType dataType;
+		int numBands;
+		int width, height;
+
+		void set( ImageType type , int width , int height ) {
+			this.family = type.getFamily();
+			this.dataType = type.getDataType();
+			this.numBands = type.getNumBands();
+			this.width = width;
+			this.height = height;
+		}
+
+		void set( ImageBase image ) {
+			set(image.getImageType(),image.width,image.height);
+			// the number of bands in the type isn't always updated when an image's bands are changed
+			if( image instanceof ImageMultiBand )
+				this.numBands = ((ImageMultiBand)image).getNumBands();
+		}
+
+		Key copy() {
+			Key k = new Key();
+			k.family = family;
+			k.dataType = dataType;
+			k.numBands = numBands;
+			k.width = width;
+			k.height = height;
+			return k;
+		}
+
+		/**
+		 * Number of bytes used to store the pixels
+		 */
+		long bytes() {
+			return (long)width*height*numBands*Math.max(1,dataType.getNumBits()/8);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if( this == o ) return true;
+			if( !(o instanceof Key) ) return false;
+			Key k = (Key)o;
+			return family == k.family && dataType == k.dataType && numBands == k.numBands &&
+					width == k.width && height == k.height;
+		}
+
+		@Override
+		public int hashCode() {
+			int result = family.hashCode();
+			result = 31*result + dataType.hashCode();
+			result = 31*result + numBands;
+			result = 31*result + width;
+			result = 31*result + height;
+			return result;
+		}
+	}
+}
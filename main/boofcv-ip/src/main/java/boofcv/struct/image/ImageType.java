@@ -176,6 +176,8 @@ public class ImageType<T extends ImageBase> implements Serializable {
 	 * Returns true if the passed in ImageType is the same as this image type
 	 */
 	public boolean isSameType( ImageType o ) {
+		if( getClass() != o.getClass() )
+			return false;
 		if( family != o.family )
 			return false;
 		if( dataType != o.dataType)
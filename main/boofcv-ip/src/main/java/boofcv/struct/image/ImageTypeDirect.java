@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.image;
+
+/**
+ * Type of an {@link ImageDirect}.  The family, data type, and number of bands describe the pixel format and are the
+ * same as the equivalent array based image, but {@link #getImageClass()} and {@link #createImage(int, int)}
+ * refer to the image which is stored in a buffer.  Not the same type as the array based image.
+ *
+ * @author Peter Abeles
+ */
+public class ImageTypeDirect<T extends ImageDirect<T>> extends ImageType<T> {
+
+	// class of the image which stores its pixels in a buffer
+	Class<T> imageClass;
+
+	public ImageTypeDirect(Class<T> imageClass, Family family, ImageDataType dataType, int numBands) {
+		super(family, dataType, numBands);
+		this.imageClass = imageClass;
+	}
+
+	public static ImageTypeDirect<DirectGrayU8> grayU8() {
+		return new ImageTypeDirect<>(DirectGrayU8.class, Family.GRAY, ImageDataType.U8, 1);
+	}
+
+	public static ImageTypeDirect<DirectGrayF32> grayF32() {
+		return new ImageTypeDirect<>(DirectGrayF32.class, Family.GRAY, ImageDataType.F32, 1);
+	}
+
+	public static ImageTypeDirect<DirectInterleavedU8> interleavedU8( int numBands ) {
+		return new ImageTypeDirect<>(DirectInterleavedU8.class, Family.INTERLEAVED, ImageDataType.U8, numBands);
+	}
+
+	@Override
+	public T createImage(int width, int height) {
+		if( imageClass == DirectGrayU8.class )
+			return (T)new DirectGrayU8(width, height);
+		else if( imageClass == DirectGrayF32.class )
+			return (T)new DirectGrayF32(width, height);
+		else if( imageClass == DirectInterleavedU8.class )
+			return (T)new DirectInterleavedU8(width, height, numBands);
+		else
+			throw new IllegalArgumentException("Unknown image class "+imageClass.getSimpleName());
+	}
+
+	@Override
+	public Class getImageClass() {
+		return imageClass;
+	}
+
+	@Override
+	public boolean isSameType(ImageType o) {
+		return super.isSameType(o) && ((ImageTypeDirect)o).imageClass == imageClass;
+	}
+
+	@Override
+	public void setTo(ImageType o) {
+		if( !(o instanceof ImageTypeDirect) )
+			throw new IllegalArgumentException("Must be the type of an image stored in a buffer");
+		super.setTo(o);
+		this.imageClass = ((ImageTypeDirect)o).imageClass;
+	}
+
+	@Override
+	public String toString() {
+		return "ImageTypeDirect( "+imageClass.getSimpleName()+" "+family+" "+dataType+" "+numBands+" )";
+	}
+}
@@ -19,8 +19,11 @@
 package boofcv.struct.pyramid;
 
 import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImagePool;
 import boofcv.struct.image.ImageType;
 
+import javax.annotation.Nullable;
+
 /**
  * <p>
  * Base class for image pyramids.  Provides common functionality and data structures.  The scale
@@ -52,6 +55,11 @@ public abstract class ImagePyramidBase<T extends ImageBase<T>>
 
 	ImageType<T> imageType;
 
+	// (Optional) pool that layers are borrowed from and returned to when the input shape changes
+	protected @Nullable ImagePool pool;
+	// true if the layer at the same index was borrowed from the pool
+	private boolean borrowed[] = new boolean[0];
+
 	/**
 	 * Specifies input image size and behavior of top most layer.
 	 *
@@ -77,23 +85,48 @@ public abstract class ImagePyramidBase<T extends ImageBase<T>>
 
 		this.bottomWidth = width;
 		this.bottomHeight = height;
+		recycleLayers();
 		layers = imageType.createArray(getNumLayers());
+		borrowed = new boolean[layers.length];
 		double scaleFactor = getScale(0);
 
 		if (scaleFactor == 1) {
 			if (!saveOriginalReference) {
-				layers[0] = imageType.createImage(bottomWidth, bottomHeight);
+				createLayer(0,bottomWidth, bottomHeight);
 			}
 		} else {
-			layers[0] = imageType.createImage((int)Math.ceil(bottomWidth / scaleFactor), (int)Math.ceil(bottomHeight / scaleFactor));
+			createLayer(0,(int)Math.ceil(bottomWidth / scaleFactor), (int)Math.ceil(bottomHeight / scaleFactor));
 		}
 
 		for (int i = 1; i < layers.length; i++) {
 			scaleFactor = getScale(i);
-			layers[i] = imageType.createImage((int)Math.ceil(bottomWidth / scaleFactor), (int)Math.ceil(bottomHeight / scaleFactor));
+			createLayer(i,(int)Math.ceil(bottomWidth / scaleFactor), (int)Math.ceil(bottomHeight / scaleFactor));
+		}
+	}
+
+	private void createLayer( int index , int width , int height ) {
+		if( pool == null ) {
+			layers[index] = imageType.createImage(width,height);
+		} else {
+			layers[index] = pool.borrow(imageType,width,height);
+			borrowed[index] = true;
 		}
 	}
 
+	/**
+	 * Returns layers which were borrowed to the pool.  Images which were not borrowed, such as a reference to
+	 * the input image, are never recycled.
+	 */
+	private void recycleLayers() {
+		if( layers == null )
+			return;
+		for (int i = 0; i < layers.length; i++) {
+			if( borrowed[i] && pool != null )
+				pool.recycle(layers[i]);
+		}
+		layers = null;
+	}
+
 	/**
 	 * Used to internally check that the provided scales are valid.
 	 */
@@ -125,6 +158,10 @@ public abstract class ImagePyramidBase<T extends ImageBase<T>>
 
 	public void setFirstLayer(T image) {
 		if( saveOriginalReference ) {
+			// the input image belongs to the caller and must never be returned to the pool
+			if( borrowed[0] && pool != null )
+				pool.recycle(layers[0]);
+			borrowed[0] = false;
 			layers[0] = image;
 		} else {
 			throw new IllegalArgumentException("Attempting to set the first layer when saveOriginalReference is false");
@@ -159,4 +196,18 @@ public abstract class ImagePyramidBase<T extends ImageBase<T>>
 	public boolean isSaveOriginalReference() {
 		return saveOriginalReference;
 	}
+
+	public @Nullable ImagePool getPool() {
+		return pool;
+	}
+
+	/**
+	 * Specifies a pool which layers are borrowed from.  When the input image changes shape the old layers
+	 * are returned to the pool.
+	 *
+	 * @param pool (Optional) The pool.  If null then layers are declared.
+	 */
+	public void setPool( @Nullable ImagePool pool ) {
+		this.pool = pool;
+	}
 }
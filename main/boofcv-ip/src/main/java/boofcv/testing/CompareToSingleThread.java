@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.testing;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImageGray;
+import boofcv.struct.image.Planar;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.util.Random;
+
+/**
+ * Compares a concurrent implementation against its single threaded counterpart and checks that the output is
+ * identical. The single threaded class has the same name as the concurrent class with the "_MT" suffix
+ * removed. Every input image is filled with random values and scalar parameters are also random.
+ *
+ * @author Peter Abeles
+ */
+public class CompareToSingleThread extends CompareIdenticalFunctions {
+	protected Random rand = new Random(234);
+	protected int width = 70, height = 53, numBands = 3;
+
+	// range of pixel values in the input images
+	protected double minValue, maxValue;
+
+	/**
+	 * Fills images with values from 0 to 255
+	 *
+	 * @param concurrentClass The concurrent implementation. Its name must end with "_MT"
+	 */
+	public CompareToSingleThread( Class<?> concurrentClass ) {
+		this(concurrentClass, 0, 255);
+	}
+
+	/**
+	 * @param concurrentClass The concurrent implementation. Its name must end with "_MT"
+	 * @param minValue Minimum value of pixels in input images
+	 * @param maxValue Maximum value of pixels in input images
+	 */
+	public CompareToSingleThread( Class<?> concurrentClass , double minValue , double maxValue ) {
+		super(concurrentClass, singleThreadClass(concurrentClass));
+		this.minValue = minValue;
+		this.maxValue = maxValue;
+	}
+
+	/**
+	 * Finds the single threaded class which a concurrent class is compared against
+	 */
+	public static Class<?> singleThreadClass( Class<?> concurrentClass ) {
+		String name = concurrentClass.getName();
+		if( !name.endsWith("_MT") )
+			throw new IllegalArgumentException("Concurrent class name must end with _MT: "+name);
+		try {
+			return Class.forName(name.substring(0, name.length() - 3));
+		} catch (ClassNotFoundException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	@Override
+	protected boolean isTestMethod(Method m) {
+		// Planar images aren't considered by the default implementation
+		Class<?> types[] = m.getParameterTypes();
+		return (types.length > 0 && types[0] == Planar.class) || super.isTestMethod(m);
+	}
+
+	@Override
+	protected Object[][] createInputParam(Method candidate, Method validation) {
+		Class<?> types[] = candidate.getParameterTypes();
+		Object[] param = new Object[types.length];
+
+		for (int i = 0; i < types.length; i++) {
+			if( types[i].isPrimitive() ) {
+				param[i] = createScalar(types[i]);
+				continue;
+			}
+			ImageBase image;
+			if( types[i] == Planar.class ) {
+				ParameterizedType p = (ParameterizedType)candidate.getGenericParameterTypes()[i];
+				Class<ImageGray> bandType = (Class)p.getActualTypeArguments()[0];
+				image = new Planar(bandType,width,height,numBands);
+			} else {
+				image = GeneralizedImageOps.createImage((Class)types[i],width,height,numBands);
+			}
+			GImageMiscOps.fillUniform(image, rand, minValue, maxValue);
+			param[i] = image;
+		}
+		return new Object[][]{param};
+	}
+
+	/**
+	 * Creates a random scalar parameter, e.g. a value which is added to each pixel
+	 */
+	protected Object createScalar( Class<?> type ) {
+		double value = minValue + rand.nextDouble()*(maxValue-minValue);
+		if( type == byte.class )
+			return (byte)value;
+		else if( type == short.class )
+			return (short)value;
+		else if( type == int.class )
+			return (int)value;
+		else if( type == long.class )
+			return (long)value;
+		else if( type == float.class )
+			return (float)value;
+		else if( type == double.class )
+			return value;
+		else
+			throw new IllegalArgumentException("Unsupported scalar type "+type.getSimpleName());
+	}
+}
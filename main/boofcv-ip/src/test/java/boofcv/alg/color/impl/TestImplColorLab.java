@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.color.impl;
+
+import boofcv.alg.color.ColorLab;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplColorLab {
+	/**
+	 * Compare the table based function against a direct computation across its entire range
+	 */
+	@Test
+	public void f() {
+		int N = 100000;
+		for (int i = 0; i <= N; i++) {
+			float t = i/(float)N;
+
+			double expected;
+			if( t > ColorLab.epsilon_f )
+				expected = Math.cbrt(t);
+			else
+				expected = (ColorLab.kappa_f*t + 16.0)/116.0;
+
+			assertEquals(expected, ImplColorLab.f(t), 1e-6);
+		}
+	}
+}
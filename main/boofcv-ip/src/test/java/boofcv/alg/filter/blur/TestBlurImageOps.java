@@ -19,6 +19,7 @@
 package boofcv.alg.filter.blur;
 
 import boofcv.alg.filter.blur.impl.ImplMedianSortNaive;
+import boofcv.alg.filter.convolve.BOverrideConvolveImageNormalized;
 import boofcv.alg.filter.convolve.GConvolveImageOps;
 import boofcv.alg.misc.GImageMiscOps;
 import boofcv.factory.filter.kernel.FactoryKernel;
@@ -32,6 +33,8 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Random;
 
+import static org.junit.Assert.assertEquals;
+
 /**
  * @author Peter Abeles
  */
@@ -114,6 +117,42 @@ public class TestBlurImageOps {
 		}
 	}
 
+	/**
+	 * Overrides for the horizontal and vertical normalized convolution should be used by the Gaussian blur
+	 */
+	@Test
+	public void gaussian_convolveOverride() {
+		int calls[] = new int[2];
+		// the override fails so that the java implementation is used to compute the output
+		BOverrideConvolveImageNormalized.horizontal = (kernel, input, output) -> {
+			calls[0]++;
+			throw new RuntimeException("Not supported");
+		};
+		BOverrideConvolveImageNormalized.vertical = (kernel, input, output) -> {
+			calls[1]++;
+			throw new RuntimeException("Not supported");
+		};
+
+		try {
+			// wide enough that the blur would be split into several bands of rows
+			GrayF32 input = new GrayF32(2000,100);
+			GImageMiscOps.fillUniform(input, rand, 0, 20);
+
+			GrayF32 found = BlurImageOps.gaussian(input, null, -1, 2, null);
+
+			GrayF32 expected = input.createSameShape();
+			Kernel2D kernel = FactoryKernelGaussian.gaussian2D(GrayF32.class,-1,2);
+			GConvolveImageOps.convolveNormalized(kernel, input, expected);
+
+			BoofTesting.assertEquals(expected,found,1e-4);
+			assertEquals(1, calls[0]);
+			assertEquals(1, calls[1]);
+		} finally {
+			BOverrideConvolveImageNormalized.horizontal = null;
+			BOverrideConvolveImageNormalized.vertical = null;
+		}
+	}
+
 	@Test
 	public void median() {
 		for( ImageType type : imageTypes ) {
@@ -140,4 +179,31 @@ public class TestBlurImageOps {
 			}
 		}
 	}
+
+	/**
+	 * Range of values is less than the number of buckets so the approximate median should be exact
+	 */
+	@Test
+	public void median_buckets() {
+		GrayU16 inputU16 = new GrayU16(width,height);
+		GImageMiscOps.fillUniform(inputU16, rand, 0, 200);
+		GrayU16 foundU16 = new GrayU16(width,height);
+		GrayU16 expectedU16 = new GrayU16(width,height);
+
+		GrayF32 inputF32 = new GrayF32(width,height);
+		GImageMiscOps.fillUniform(inputF32, rand, 0, 200);
+		GrayF32 foundF32 = new GrayF32(width,height);
+		GrayF32 expectedF32 = new GrayF32(width,height);
+
+		for( int radius = 1; radius <= 4; radius++ ) {
+			BlurImageOps.median(inputU16, foundU16, radius, 256);
+			ImplMedianSortNaive.process(inputU16, expectedU16, radius, null);
+			BoofTesting.assertEquals(expectedU16,foundU16,0);
+
+			// float images are approximate
+			BlurImageOps.median(inputF32, foundF32, radius, 100);
+			ImplMedianSortNaive.process(inputF32, expectedF32, radius, null);
+			BoofTesting.assertEquals(expectedF32,foundF32,1.0001);
+		}
+	}
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.alg.misc.ImageStatistics;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU16;
+import boofcv.struct.image.GrayU8;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplMedianBucketApprox {
+
+	Random rand = new Random(234);
+
+	@Test
+	public void approximate_F32() {
+		GrayF32 image = new GrayF32(30,25);
+		ImageMiscOps.fillUniform(image, rand, -20, 100);
+		int radius = 2;
+		int numBuckets = 50;
+
+		float min = ImageStatistics.min(image);
+		float max = ImageStatistics.max(image);
+
+		GrayU8 buckets = new GrayU8(image.width,image.height);
+		GrayU8 bucketMedian = new GrayU8(image.width,image.height);
+		GrayF32 found = new GrayF32(image.width,image.height);
+		GrayF32 expected = new GrayF32(image.width,image.height);
+
+		ImplMedianBucketApprox.quantize(image, min, max, numBuckets, buckets);
+		ImplMedianColumnHistogram.process(buckets, bucketMedian, radius, null);
+		ImplMedianBucketApprox.inner(bucketMedian, min, max, numBuckets, radius, found);
+		ImplMedianSortNaive.process(image, expected, radius, null);
+
+		float tol = (max-min)/numBuckets/2.0f + 1e-4f;
+		for( int y = radius; y < image.height-radius; y++ ) {
+			for( int x = radius; x < image.width-radius; x++ ) {
+				assertEquals(expected.get(x,y), found.get(x,y), tol);
+			}
+		}
+		// border should not be modified
+		assertEquals(0, found.get(0,0), 0);
+	}
+
+	/**
+	 * If there are fewer values than buckets the solution should be exact
+	 */
+	@Test
+	public void exact_U16() {
+		GrayU16 image = new GrayU16(30,25);
+		ImageMiscOps.fillUniform(image, rand, 1000, 1200);
+		int radius = 3;
+
+		int min = ImageStatistics.min(image);
+		int max = ImageStatistics.max(image);
+
+		GrayU8 buckets = new GrayU8(image.width,image.height);
+		GrayU8 bucketMedian = new GrayU8(image.width,image.height);
+		GrayU16 found = new GrayU16(image.width,image.height);
+		GrayU16 expected = new GrayU16(image.width,image.height);
+
+		ImplMedianBucketApprox.quantize(image, min, max, 256, buckets);
+		ImplMedianColumnHistogram.process(buckets, bucketMedian, radius, null);
+		ImplMedianBucketApprox.inner(bucketMedian, min, max, 256, radius, found);
+		ImplMedianSortNaive.process(image, expected, radius, null);
+
+		for( int y = radius; y < image.height-radius; y++ ) {
+			for( int x = radius; x < image.width-radius; x++ ) {
+				assertEquals(expected.get(x,y), found.get(x,y));
+			}
+		}
+	}
+
+	@Test
+	public void bucketWidth() {
+		assertEquals(1, ImplMedianBucketApprox.bucketWidth(0,255,256));
+		assertEquals(2, ImplMedianBucketApprox.bucketWidth(0,256,256));
+		for( int range = 0; range < 2000; range += 7 ) {
+			int w = ImplMedianBucketApprox.bucketWidth(10,10+range,100);
+			assertTrue(range/w < 100);
+		}
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplMedianColumnHistogram {
+
+	Random rand = new Random(234);
+
+	@Test
+	public void compareToHistogramInner() {
+		GrayU8 image = new GrayU8(40,35);
+		ImageMiscOps.fillUniform(image,rand, 0, 256);
+
+		GrayU8 found = new GrayU8( image.width , image.height );
+		GrayU8 expected = new GrayU8( image.width , image.height );
+
+		BoofTesting.checkSubImage(this, "compareToHistogramInner", true, image, found, expected);
+	}
+
+	public void compareToHistogramInner(GrayU8 image, GrayU8 found, GrayU8 expected) {
+		ImplMedianColumnHistogram.Workspace work = new ImplMedianColumnHistogram.Workspace();
+
+		// test with multiple tiles and a single tile
+		for( int tile : new int[]{7,500} ) {
+			for( int radius = 1; radius <= 6; radius++ ) {
+				ImageMiscOps.fill(found,0);
+				ImageMiscOps.fill(expected,0);
+
+				ImplMedianColumnHistogram.processRows(image, found, radius, radius, image.height-radius, tile, work);
+				ImplMedianHistogramInner.process(image, expected, radius, null, null);
+
+				BoofTesting.assertEquals(expected, found, 0);
+			}
+		}
+	}
+
+	/**
+	 * Most pixels have the same value so the median will be in the same coarse bin
+	 */
+	@Test
+	public void mostlyConstant() {
+		GrayU8 image = new GrayU8(30,25);
+		ImageMiscOps.fill(image, 130);
+		for( int i = 0; i < 100; i++ ) {
+			image.set(rand.nextInt(image.width), rand.nextInt(image.height), rand.nextInt(256));
+		}
+
+		GrayU8 found = new GrayU8( image.width , image.height );
+		GrayU8 expected = new GrayU8( image.width , image.height );
+
+		ImplMedianColumnHistogram.process(image, found, 2, null);
+		ImplMedianHistogramInner.process(image, expected, 2, null, null);
+
+		BoofTesting.assertEquals(expected, found, 0);
+	}
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplMedianColumnHistogram_MT {
+	@Test
+	public void compareToSingleThread() {
+		GrayU8 image = new GrayU8(60,95);
+		ImageMiscOps.fillUniform(image,new Random(234), 0, 256);
+
+		GrayU8 found = new GrayU8( image.width , image.height );
+		GrayU8 expected = new GrayU8( image.width , image.height );
+
+		for( int radius = 1; radius <= 5; radius += 2 ) {
+			ImplMedianColumnHistogram_MT.process(image, found, radius, null);
+			ImplMedianColumnHistogram.process(image, expected, radius, null);
+
+			BoofTesting.assertEquals(expected, found, 0);
+		}
+	}
+}
@@ -48,6 +48,10 @@ public class CompareToStandardConvolution extends CompareIdenticalFunctions
 		super(targetClass, ConvolveImageStandard_SB.class, ConvolveImageStandard_IL.class);
 	}
 
+	public CompareToStandardConvolution( Class<?> targetClass , Class<?>... validationClasses ) {
+		super(targetClass, validationClasses);
+	}
+
 	public void compareMethod( Method target , String validationName , int radius ) {
 		compareMethod(target,validationName,2*radius+1,radius);
 	}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boofcv.alg.filter.convolve.down;
+
+import boofcv.struct.convolve.KernelBase;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Compares each concurrent unrolled implementation against the standard implementation
+ *
+ * @author Peter Abeles
+ */
+public class TestConvolveDownNoBorderUnrolled_MT {
+
+	Class[] targets = new Class[]{
+			ConvolveDownNoBorderUnrolled_MT_F32_F32.class,
+			ConvolveDownNoBorderUnrolled_MT_U8_I16.class,
+			ConvolveDownNoBorderUnrolled_MT_U8_I8_Div.class,
+			ConvolveDownNoBorderUnrolled_MT_S16_I16.class,
+			ConvolveDownNoBorderUnrolled_MT_S16_I16_Div.class};
+
+	List<String> names = Arrays.asList("horizontal", "vertical", "convolve");
+
+	@Test
+	public void compareToStandard() {
+		for( Class target : targets ) {
+			CompareToStandardConvolveDownNoBorder compare = new CompareToStandardConvolveDownNoBorder(target);
+
+			int numFound = 0;
+			for( Method m : target.getMethods() ) {
+				if( m.getParameterTypes().length < 4 || !KernelBase.class.isAssignableFrom(m.getParameterTypes()[0]))
+					continue;
+				// skip the functions for specific kernel widths
+				if( !names.contains(m.getName()) )
+					continue;
+
+				for( int enlarge = 0; enlarge < 2; enlarge++ ) {
+					for( int skip = 1; skip <= 4; skip++ ) {
+						compare.setSkip(skip);
+						compare.setImageDimention(20+enlarge,25+enlarge);
+						for (int i = 0; i < GenerateConvolveDownNoBorderUnrolled.numUnrolled; i++) {
+							compare.compareMethod(m, m.getName(), i + 1);
+						}
+					}
+				}
+				numFound++;
+			}
+			assertEquals(3, numFound);
+		}
+	}
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.convolve.noborder;
+
+import boofcv.alg.filter.convolve.CompareToStandardConvolution;
+import org.junit.Test;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestConvolveImageStandard_IL_MT {
+	@Test
+	public void compareToSingleThread() {
+		CompareToStandardConvolution compare = new CompareToStandardConvolution(
+				ConvolveImageStandard_IL_MT.class, ConvolveImageStandard_IL.class);
+
+		for (int radius = 1; radius <= 3; radius++) {
+			compare.setKernelWidth(2*radius+1);
+			compare.setOffset(radius);
+			compare.performTests(29);
+		}
+
+		// even non-symmetric kernel
+		compare.setKernelWidth(4);
+		compare.setOffset(1);
+		compare.performTests(29);
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.convolve.noborder;
+
+import boofcv.alg.filter.convolve.CompareToStandardConvolution;
+import boofcv.struct.convolve.KernelBase;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Compares each concurrent unrolled implementation against its single threaded counterpart
+ *
+ * @author Peter Abeles
+ */
+public class TestConvolveImageUnrolled_SB_MT {
+
+	Class[][] pairs = new Class[][]{
+			{ConvolveImageUnrolled_SB_MT_F32_F32.class, ConvolveImageUnrolled_SB_F32_F32.class},
+			{ConvolveImageUnrolled_SB_MT_F64_F64.class, ConvolveImageUnrolled_SB_F64_F64.class},
+			{ConvolveImageUnrolled_SB_MT_U8_I16.class, ConvolveImageUnrolled_SB_U8_I16.class},
+			{ConvolveImageUnrolled_SB_MT_U8_I8_Div.class, ConvolveImageUnrolled_SB_U8_I8_Div.class},
+			{ConvolveImageUnrolled_SB_MT_S16_I16.class, ConvolveImageUnrolled_SB_S16_I16.class},
+			{ConvolveImageUnrolled_SB_MT_S16_I16_Div.class, ConvolveImageUnrolled_SB_S16_I16_Div.class},
+			{ConvolveImageUnrolled_SB_MT_S32_S32.class, ConvolveImageUnrolled_SB_S32_S32.class},
+			{ConvolveImageUnrolled_SB_MT_S32_S32_Div.class, ConvolveImageUnrolled_SB_S32_S32_Div.class}};
+
+	List<String> names = Arrays.asList("horizontal", "vertical", "convolve");
+
+	@Test
+	public void compareToSingleThread() {
+		for( Class[] pair : pairs ) {
+			CompareToStandardConvolution compare = new CompareToStandardConvolution(pair[0], pair[1]);
+
+			int numFound = 0;
+			for( Method m : pair[0].getMethods() ) {
+				if( m.getParameterTypes().length < 3 || !KernelBase.class.isAssignableFrom(m.getParameterTypes()[0]))
+					continue;
+				// skip the functions for specific kernel widths
+				if( !names.contains(m.getName()) )
+					continue;
+				for (int i = 0; i < GenerateConvolvedUnrolled_SB.numUnrolled; i++) {
+					compare.compareMethod(m, m.getName(), i + 1);
+				}
+				numFound++;
+			}
+			assertEquals(3, numFound);
+		}
+	}
+}
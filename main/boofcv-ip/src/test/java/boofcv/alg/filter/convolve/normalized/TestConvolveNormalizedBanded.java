@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.convolve.normalized;
+
+import boofcv.alg.filter.convolve.GConvolveImageOps;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.convolve.Kernel1D;
+import boofcv.struct.image.*;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestConvolveNormalizedBanded {
+
+	Random rand = new Random(234);
+
+	ImageType[] imageTypes = new ImageType[]{
+			ImageType.single(GrayU8.class),ImageType.single(GrayS16.class),
+			ImageType.single(GrayF32.class),ImageType.single(GrayF64.class),
+			ImageType.il(2,InterleavedU8.class),ImageType.il(2,InterleavedF32.class),
+			ImageType.pl(2,GrayF32.class)};
+
+	/**
+	 * The output should be identical to a horizontal pass followed by a vertical pass
+	 */
+	@Test
+	public void compareToTwoPass() {
+		for( int band : new int[]{1,5,32,-1} ) {
+			for( ImageType type : imageTypes ) {
+				// image heights which produce a partial last band and which are smaller than the kernel
+				compareToTwoPass(type, 40, 75, 2, band);
+				compareToTwoPass(type, 30, 31, 5, band);
+				compareToTwoPass(type, 15, 8, 4, band);
+				compareToTwoPass(type, 6, 20, 3, band);
+			}
+		}
+	}
+
+	/**
+	 * The band's buffer should fit inside the budget unless that would make the overlap too large a fraction
+	 */
+	@Test
+	public void selectBandHeight() {
+		Kernel1D kernel = FactoryKernelGaussian.gaussian1D(GrayF32.class, -1, 5);
+		int overlap = kernel.getWidth()-1;
+
+		GrayF32 image = new GrayF32(640,480);
+		int found = ConvolveNormalizedBanded.selectBandHeight(kernel, image);
+		assertTrue(found >= ConvolveNormalizedBanded.MIN_OVERLAP_RATIO*overlap);
+		assertTrue((found+overlap)*image.width*4 <= ConvolveNormalizedBanded.BAND_BYTES);
+
+		// more bytes per row should result in fewer rows
+		Planar<GrayF32> planar = new Planar<>(GrayF32.class,640,480,3);
+		assertTrue(ConvolveNormalizedBanded.selectBandHeight(kernel, planar) < found);
+
+		// too wide to fit in the budget
+		image = new GrayF32(100_000,10);
+		found = ConvolveNormalizedBanded.selectBandHeight(kernel, image);
+		assertEquals(ConvolveNormalizedBanded.MIN_OVERLAP_RATIO*overlap, found);
+	}
+
+	/**
+	 * @param bandHeight Number of rows in a band. If &lt; 0 then the default band height is used
+	 */
+	private void compareToTwoPass( ImageType type , int width , int height , int radius , int bandHeight ) {
+		Kernel1D kernel = FactoryKernelGaussian.gaussian1D(
+				ImageDataType.typeToSingleClass(type.getDataType()), -1, radius);
+
+		ImageBase input = type.createImage(width, height);
+		GImageMiscOps.fillUniform(input, rand, 0, 100);
+
+		ImageBase expected = type.createImage(width, height);
+		ImageBase storage = type.createImage(width, height);
+		GConvolveImageOps.horizontalNormalized(kernel, input, storage);
+		GConvolveImageOps.verticalNormalized(kernel, storage, expected);
+
+		ImageBase found = type.createImage(width, height);
+		convolve(kernel, input, found, bandHeight);
+		BoofTesting.assertEquals(expected, found, 0);
+
+		// sub-images
+		ImageBase inputSub = BoofTesting.createSubImageOf(input);
+		ImageBase foundSub = BoofTesting.createSubImageOf(found);
+		GImageMiscOps.fill(foundSub, 0);
+		convolve(kernel, inputSub, foundSub, bandHeight);
+		BoofTesting.assertEquals(expected, foundSub, 0);
+	}
+
+	private void convolve( Kernel1D kernel , ImageBase input , ImageBase output , int bandHeight ) {
+		if( bandHeight < 0 ) {
+			ConvolveNormalizedBanded.convolve(kernel, kernel, input, output);
+		} else {
+			ConvolveNormalizedBanded.process(kernel, kernel, input, output, 0, input.height,
+					bandHeight, input.createNew(1,1));
+		}
+	}
+}
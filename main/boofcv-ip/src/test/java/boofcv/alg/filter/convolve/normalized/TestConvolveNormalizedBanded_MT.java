@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.convolve.normalized;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.convolve.Kernel1D;
+import boofcv.struct.image.*;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestConvolveNormalizedBanded_MT {
+
+	Random rand = new Random(234);
+
+	@Test
+	public void compareToSingleThread() {
+		ImageType[] imageTypes = new ImageType[]{
+				ImageType.single(GrayU8.class),ImageType.single(GrayF32.class),
+				ImageType.il(3,InterleavedF64.class),ImageType.pl(2,GrayU8.class)};
+
+		for( ImageType type : imageTypes ) {
+			for( int height : new int[]{7,60,211}) {
+				Kernel1D kernel = FactoryKernelGaussian.gaussian1D(
+						ImageDataType.typeToSingleClass(type.getDataType()), -1, 3);
+
+				ImageBase input = type.createImage(45, height);
+				GImageMiscOps.fillUniform(input, rand, 0, 100);
+
+				ImageBase expected = type.createImage(45, height);
+				ImageBase found = type.createImage(45, height);
+
+				ConvolveNormalizedBanded.convolve(kernel, kernel, input, expected);
+				ConvolveNormalizedBanded_MT.convolve(kernel, kernel, input, found);
+
+				BoofTesting.assertEquals(expected, found, 0);
+			}
+		}
+	}
+}
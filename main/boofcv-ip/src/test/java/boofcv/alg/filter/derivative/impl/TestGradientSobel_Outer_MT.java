@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.derivative.impl;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayS16;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestGradientSobel_Outer_MT {
+
+	Random rand = new Random(234);
+
+	int width = 200;
+	int height = 250;
+
+	@Test
+	public void process_I8_sub() {
+		GrayU8 img = new GrayU8(width, height);
+		ImageMiscOps.fillUniform(img, rand, 0, 100);
+
+		GrayS16 derivX = new GrayS16(width, height);
+		GrayS16 derivY = new GrayS16(width, height);
+
+		BoofTesting.checkSubImage(this, "process_I8_sub", true, img, derivX, derivY);
+	}
+
+	public void process_I8_sub(GrayU8 img, GrayS16 derivX, GrayS16 derivY) {
+		GrayS16 derivX2 = new GrayS16(derivX.width, derivX.height);
+		GrayS16 derivY2 = new GrayS16(derivX.width, derivX.height);
+
+		GradientSobel_Outer.process_I8_sub(img, derivX2, derivY2);
+		GradientSobel_Outer_MT.process_I8_sub(img, derivX, derivY);
+
+		BoofTesting.assertEquals(derivX2, derivX, 0);
+		BoofTesting.assertEquals(derivY2, derivY, 0);
+	}
+
+	@Test
+	public void process_S16_sub() {
+		GrayS16 img = new GrayS16(width, height);
+		ImageMiscOps.fillUniform(img, rand, -100, 100);
+
+		GrayS16 derivX = new GrayS16(width, height);
+		GrayS16 derivY = new GrayS16(width, height);
+
+		BoofTesting.checkSubImage(this, "process_S16_sub", true, img, derivX, derivY);
+	}
+
+	public void process_S16_sub(GrayS16 img, GrayS16 derivX, GrayS16 derivY) {
+		GrayS16 derivX2 = new GrayS16(derivX.width, derivX.height);
+		GrayS16 derivY2 = new GrayS16(derivX.width, derivX.height);
+
+		GradientSobel_Outer.process_I8_sub(img, derivX2, derivY2);
+		GradientSobel_Outer_MT.process_I8_sub(img, derivX, derivY);
+
+		BoofTesting.assertEquals(derivX2, derivX, 0);
+		BoofTesting.assertEquals(derivY2, derivY, 0);
+	}
+}
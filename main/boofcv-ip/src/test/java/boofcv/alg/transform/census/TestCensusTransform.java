@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.census;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.core.image.border.BorderType;
+import boofcv.core.image.border.FactoryImageBorder;
+import boofcv.core.image.border.ImageBorder_S32;
+import boofcv.struct.image.GrayS32;
+import boofcv.struct.image.GrayS64;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageGray;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestCensusTransform {
+
+	Random rand = new Random(234);
+	int w = 35, h = 40;
+
+	@Test
+	public void dense3x3() {
+		GrayU8 input = new GrayU8(w,h);
+		ImageMiscOps.fillUniform(input,rand,0,255);
+		GrayU8 found = new GrayU8(w,h);
+
+		ImageBorder_S32<GrayU8> border = (ImageBorder_S32)FactoryImageBorder.single(GrayU8.class, BorderType.EXTENDED);
+		CensusTransform.dense3x3(input,found,border);
+
+		compareToNaive(input,found,border,1,1);
+	}
+
+	@Test
+	public void dense5x5() {
+		GrayU8 input = new GrayU8(w,h);
+		ImageMiscOps.fillUniform(input,rand,0,255);
+		GrayS32 found = new GrayS32(w,h);
+
+		ImageBorder_S32<GrayU8> border = (ImageBorder_S32)FactoryImageBorder.single(GrayU8.class, BorderType.EXTENDED);
+		CensusTransform.dense5x5(input,found,border);
+
+		compareToNaive(input,found,border,2,2);
+	}
+
+	@Test
+	public void dense7x7() {
+		GrayU8 input = new GrayU8(w,h);
+		ImageMiscOps.fillUniform(input,rand,0,255);
+		GrayS64 found = new GrayS64(w,h);
+
+		ImageBorder_S32<GrayU8> border = (ImageBorder_S32)FactoryImageBorder.single(GrayU8.class, BorderType.EXTENDED);
+		CensusTransform.dense7x7(input,found,border);
+
+		compareToNaive(input,found,border,3,3);
+	}
+
+	@Test
+	public void dense9x7() {
+		GrayU8 input = new GrayU8(w,h);
+		ImageMiscOps.fillUniform(input,rand,0,255);
+		GrayS64 found = new GrayS64(w,h);
+
+		ImageBorder_S32<GrayU8> border = (ImageBorder_S32)FactoryImageBorder.single(GrayU8.class, BorderType.EXTENDED);
+		CensusTransform.dense9x7(input,found,border);
+
+		compareToNaive(input,found,border,4,3);
+	}
+
+	/**
+	 * The border should not be modified if no border is passed in
+	 */
+	@Test
+	public void noBorder() {
+		GrayU8 input = new GrayU8(w,h);
+		ImageMiscOps.fillUniform(input,rand,0,255);
+		GrayS32 found = new GrayS32(w,h);
+		ImageMiscOps.fill(found,-1);
+
+		CensusTransform.dense5x5(input,found,null);
+
+		for( int y = 0; y < h; y++ ) {
+			for( int x = 0; x < w; x++ ) {
+				boolean inside = x >= 2 && x < w-2 && y >= 2 && y < h-2;
+				assertEquals(inside, found.get(x,y) != -1);
+			}
+		}
+	}
+
+	/**
+	 * Each bit should be set when the neighbor is greater than the center
+	 */
+	@Test
+	public void checkBitOrder() {
+		GrayU8 input = new GrayU8(5,5);
+		ImageMiscOps.fill(input,10);
+		// top left neighbor and right neighbor
+		input.set(1,1,20);
+		input.set(3,2,20);
+		// equal values don't set the bit and smaller values don't either
+		input.set(2,3,5);
+
+		GrayU8 found = new GrayU8(5,5);
+		CensusTransform.dense3x3(input,found,null);
+
+		assertEquals((1 << 0) | (1 << 4), found.get(2,2));
+	}
+
+	private void compareToNaive( GrayU8 input , ImageGray found , ImageBorder_S32<GrayU8> border ,
+								 int radiusX , int radiusY ) {
+		border.setImage(input);
+		for( int y = 0; y < h; y++ ) {
+			for( int x = 0; x < w; x++ ) {
+				int center = border.get(x,y);
+				long expected = 0;
+				int bit = 0;
+				for( int i = -radiusY; i <= radiusY; i++ ) {
+					for( int j = -radiusX; j <= radiusX; j++ ) {
+						if( i == 0 && j == 0 )
+							continue;
+						if( border.get(x+j,y+i) > center )
+							expected |= 1L << bit;
+						bit++;
+					}
+				}
+				long value;
+				if( found instanceof GrayU8 )
+					value = ((GrayU8)found).get(x,y);
+				else if( found instanceof GrayS32 )
+					value = ((GrayS32)found).get(x,y);
+				else
+					value = ((GrayS64)found).get(x,y);
+				assertEquals(x+" "+y,expected,value);
+			}
+		}
+	}
+}
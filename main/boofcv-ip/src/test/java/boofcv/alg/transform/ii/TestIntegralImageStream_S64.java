@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.ii;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayS64;
+import boofcv.struct.image.GrayU16;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestIntegralImageStream_S64 {
+	Random rand = new Random(234);
+	int width = 25;
+	int height = 30;
+
+	@Test
+	public void appendRow_U8() {
+		GrayU8 input = new GrayU8(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,256);
+		GrayS64 expected = IntegralImageOps.transform(input,(GrayS64)null);
+
+		IntegralImageStream_S64 alg = new IntegralImageStream_S64();
+		alg.reset(width,height);
+		for( int y = 0; y < height; y++ ) {
+			assertFalse(alg.isComplete());
+			alg.appendRow(input.data,input.startIndex + y*input.stride);
+			assertEquals(y+1,alg.getRowsProcessed());
+		}
+		assertTrue(alg.isComplete());
+
+		BoofTesting.assertEquals(expected,alg.getIntegral(),0);
+	}
+
+	@Test
+	public void appendRow_U16() {
+		GrayU16 input = new GrayU16(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,0xFFFF);
+		GrayS64 expected = IntegralImageOps.transform(input,null);
+
+		IntegralImageStream_S64 alg = new IntegralImageStream_S64();
+		alg.reset(width,height);
+		for( int y = 0; y < height; y++ ) {
+			alg.appendRow(input.data,input.startIndex + y*input.stride);
+		}
+
+		BoofTesting.assertEquals(expected,alg.getIntegral(),0);
+	}
+
+	@Test
+	public void reset() {
+		GrayU8 input = new GrayU8(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,256);
+
+		IntegralImageStream_S64 alg = new IntegralImageStream_S64();
+		alg.reset(5,6);
+		alg.appendRow(new byte[5],0);
+		alg.reset(width,height);
+		assertEquals(0,alg.getRowsProcessed());
+		for( int y = 0; y < height; y++ ) {
+			alg.appendRow(input.data,input.startIndex + y*input.stride);
+		}
+
+		GrayS64 expected = IntegralImageOps.transform(input,(GrayS64)null);
+		BoofTesting.assertEquals(expected,alg.getIntegral(),0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void appendRow_tooMany() {
+		IntegralImageStream_S64 alg = new IntegralImageStream_S64();
+		alg.reset(5,2);
+		alg.appendRow(new byte[5],0);
+		alg.appendRow(new byte[5],0);
+		alg.appendRow(new byte[5],0);
+	}
+}
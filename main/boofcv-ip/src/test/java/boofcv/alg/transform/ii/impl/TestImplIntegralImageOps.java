@@ -20,6 +20,7 @@ package boofcv.alg.transform.ii.impl;
 
 import boofcv.alg.filter.convolve.ConvolveImage;
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.misc.ImageMiscOps;
 import boofcv.alg.transform.ii.GIntegralImageOps;
 import boofcv.alg.transform.ii.IntegralKernel;
 import boofcv.core.image.FactoryGImageGray;
@@ -31,6 +32,8 @@ import boofcv.core.image.border.ImageBorder_S32;
 import boofcv.struct.ImageRectangle;
 import boofcv.struct.convolve.Kernel2D_S32;
 import boofcv.struct.image.GrayS32;
+import boofcv.struct.image.GrayS64;
+import boofcv.struct.image.GrayU16;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageGray;
 import boofcv.testing.BoofTesting;
@@ -56,7 +59,7 @@ public class TestImplIntegralImageOps {
 	@Test
 	public void transform() {
 		int numFound = BoofTesting.findMethodThenCall(this,"transform",ImplIntegralImageOps.class,"transform");
-		Assert.assertEquals(5, numFound);
+		Assert.assertEquals(7, numFound);
 	}
 
 	public void transform( Method m ) {
@@ -94,6 +97,21 @@ public class TestImplIntegralImageOps {
 		}
 	}
 
+	/**
+	 * The sum of a large 16-bit image will overflow a 32-bit integer
+	 */
+	@Test
+	public void transform_U16_S64_large() {
+		GrayU16 input = new GrayU16(300,200);
+		GrayS64 integral = new GrayS64(300,200);
+		ImageMiscOps.fill(input,0xFFFF);
+
+		ImplIntegralImageOps.transform(input,integral);
+
+		assertEquals(300L*200L*0xFFFF, integral.get(299,199));
+		assertEquals(10L*20L*0xFFFF, integral.get(9,19));
+	}
+
 	@Test
 	public void convolve() {
 		int numFound = BoofTesting.findMethodThenCall(this,"convolve",ImplIntegralImageOps.class,"convolve");
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.ii.impl;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.ImageGray;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplIntegralImageOps_MT {
+	Random rand = new Random(234);
+	// wide enough that the columns are split into several blocks
+	int width = 300;
+	int height = 45;
+
+	@Test
+	public void compareToSingleThread() throws Exception {
+		int total = 0;
+		for( Method m : ImplIntegralImageOps_MT.class.getMethods() ) {
+			if( !Modifier.isStatic(m.getModifiers()) )
+				continue;
+
+			Class types[] = m.getParameterTypes();
+			Method validation = ImplIntegralImageOps.class.getMethod(m.getName(),types);
+
+			ImageGray input = GeneralizedImageOps.createSingleBand(types[0],width,height);
+			ImageGray expected = GeneralizedImageOps.createSingleBand(types[1],width,height);
+			GImageMiscOps.fillUniform(input,rand,0,200);
+
+			validation.invoke(null,input,expected);
+
+			// the results should be identical, even for floating point images, and sub-images should be handled
+			ImageGray found = BoofTesting.createSubImageOf(expected);
+			GImageMiscOps.fill(found,0);
+			m.invoke(null,BoofTesting.createSubImageOf(input),found);
+
+			BoofTesting.assertEquals(expected,found,0);
+			total++;
+		}
+		assertEquals(7,total);
+	}
+}
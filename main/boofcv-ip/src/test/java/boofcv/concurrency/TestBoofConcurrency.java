@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.concurrency;
+
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_I32;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestBoofConcurrency {
+
+	@Test
+	public void loopFor() {
+		int[] found = new int[100];
+		BoofConcurrency.loopFor(5,95,i-> found[i]++);
+
+		for (int i = 0; i < found.length; i++) {
+			assertEquals(i >= 5 && i < 95 ? 1 : 0, found[i]);
+		}
+	}
+
+	@Test
+	public void loopFor_step() {
+		int[] found = new int[100];
+		BoofConcurrency.loopFor(5,95,4,i-> found[i]++);
+
+		for (int i = 0; i < found.length; i++) {
+			assertEquals(i >= 5 && i < 95 && (i-5)%4 == 0 ? 1 : 0, found[i]);
+		}
+	}
+
+	@Test
+	public void loopBlocks() {
+		int[] found = new int[100];
+		BoofConcurrency.loopBlocks(5,95,(i0,i1)->{
+			for (int i = i0; i < i1; i++) {
+				found[i]++;
+			}
+		});
+
+		for (int i = 0; i < found.length; i++) {
+			assertEquals(i >= 5 && i < 95 ? 1 : 0, found[i]);
+		}
+
+		// empty range should do nothing
+		BoofConcurrency.loopBlocks(5,5,(i0,i1)-> {throw new RuntimeException("Egads");});
+	}
+
+	@Test
+	public void loopBlocks_minBlock() {
+		GrowQueue_I32 sizes = new GrowQueue_I32();
+		BoofConcurrency.loopBlocks(0,35,10,(i0,i1)->{
+			synchronized (sizes) {
+				sizes.add(i1-i0);
+			}
+		});
+		int total = 0;
+		for (int i = 0; i < sizes.size; i++) {
+			assertTrue(sizes.get(i) >= 10);
+			total += sizes.get(i);
+		}
+		assertEquals(35,total);
+	}
+
+	@Test
+	public void loopBlocks_workspace() {
+		FastQueue<GrowQueue_I32> workspace = new FastQueue<>(GrowQueue_I32.class,true);
+		BoofConcurrency.loopBlocks(0,100,workspace,(work,i0,i1)->{
+			work.reset();
+			for (int i = i0; i < i1; i++) {
+				work.add(i);
+			}
+		});
+
+		// blocks must be in order so merging the results is deterministic
+		int expected = 0;
+		for (int i = 0; i < workspace.size; i++) {
+			GrowQueue_I32 w = workspace.get(i);
+			for (int j = 0; j < w.size; j++) {
+				assertEquals(expected++,w.get(j));
+			}
+		}
+		assertEquals(100,expected);
+	}
+
+	@Test
+	public void selectNumberOfBlocks() {
+		assertEquals(4,BoofConcurrency.selectNumberOfBlocks(100,1,4));
+		assertEquals(2,BoofConcurrency.selectNumberOfBlocks(25,10,4));
+		assertEquals(1,BoofConcurrency.selectNumberOfBlocks(5,10,4));
+		assertEquals(1,BoofConcurrency.selectNumberOfBlocks(5,0,1));
+	}
+
+	@Test
+	public void blockBoundary() {
+		assertEquals(10,BoofConcurrency.blockBoundary(10,11,3,0));
+		assertEquals(13,BoofConcurrency.blockBoundary(10,11,3,1));
+		assertEquals(17,BoofConcurrency.blockBoundary(10,11,3,2));
+		assertEquals(21,BoofConcurrency.blockBoundary(10,11,3,3));
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void exceptionPassedToCaller() {
+		BoofConcurrency.loopFor(0,100,i->{
+			if( i == 50 )
+				throw new IllegalArgumentException("Egads");
+		});
+	}
+
+	@Test
+	public void setMaxThreads() {
+		int before = BoofConcurrency.getMaxThreads();
+		try {
+			BoofConcurrency.setMaxThreads(2);
+			assertEquals(2, BoofConcurrency.getMaxThreads());
+			int[] found = new int[10];
+			BoofConcurrency.loopFor(0,10,i->found[i]++);
+			for (int i = 0; i < found.length; i++) {
+				assertEquals(1, found[i]);
+			}
+		} finally {
+			BoofConcurrency.setMaxThreads(before);
+		}
+	}
+}
@@ -56,6 +56,30 @@ public class TestConvertNV21 {
 		}
 	}
 
+	@Test
+	public void grayDown2() {
+		byte[] data = random(width,height);
+
+		GrayU8 outU8 = ConvertNV21.nv21ToGrayDown2(data,width,height,(GrayU8)null);
+		GrayF32 outF32 = ConvertNV21.nv21ToGrayDown2(data,width,height,(GrayF32)null);
+
+		assertEquals(width/2,outU8.width);
+		assertEquals(height/2,outU8.height);
+
+		for (int y = 0; y < height/2; y++) {
+			for (int x = 0; x < width/2; x++) {
+				int sum = 0;
+				for (int i = 0; i < 2; i++) {
+					for (int j = 0; j < 2; j++) {
+						sum += data[(2*y+i)*width + 2*x+j] & 0xFF;
+					}
+				}
+				assertEquals((sum+2)/4,outU8.get(x,y));
+				assertEquals(sum/4.0f,outF32.get(x,y),1e-4f);
+			}
+		}
+	}
+
 	@Test
 	public void testColor() {
 		ImageType types[] = new ImageType[]{ImageType.pl(3, ImageDataType.U8),ImageType.pl(3,ImageDataType.F32),
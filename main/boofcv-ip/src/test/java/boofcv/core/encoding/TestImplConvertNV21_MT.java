@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.core.encoding;
+
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.*;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplConvertNV21_MT {
+	Random rand = new Random(234);
+	int width = 64;
+	int height = 46;
+
+	@Test
+	public void compareToSingleThread() throws Exception {
+		byte[] data = new byte[width*height + (width*height/4)*2];
+		rand.nextBytes(data);
+
+		int total = 0;
+		for( Method m : ImplConvertNV21_MT.class.getMethods() ) {
+			if( !Modifier.isStatic(m.getModifiers()) )
+				continue;
+
+			Class<?> types[] = m.getParameterTypes();
+			Method validation = ImplConvertNV21.class.getMethod(m.getName(),types);
+
+			// functions which down sample the image take in the input width
+			boolean down = types.length == 3;
+			int outWidth = down ? width/2 : width;
+			int outHeight = down ? height/2 : height;
+
+			ImageBase expected = createOutput(m,outWidth,outHeight);
+			ImageBase found = expected.createSameShape();
+
+			if( down ) {
+				validation.invoke(null,data,width,expected);
+				m.invoke(null,data,width,found);
+			} else {
+				validation.invoke(null,data,expected);
+				m.invoke(null,data,found);
+			}
+
+			BoofTesting.assertEquals(expected,found,0);
+			total++;
+		}
+		assertEquals(10,total);
+	}
+
+	private ImageBase createOutput( Method m , int width , int height ) {
+		Class<?> types[] = m.getParameterTypes();
+		Class type = types[types.length-1];
+		if( type == Planar.class ) {
+			ParameterizedType p = (ParameterizedType)m.getGenericParameterTypes()[types.length-1];
+			return new Planar((Class)p.getActualTypeArguments()[0],width,height,3);
+		} else if( ImageInterleaved.class.isAssignableFrom(type) ) {
+			return GeneralizedImageOps.createInterleaved(type,width,height,3);
+		} else {
+			return GeneralizedImageOps.createSingleBand(type,width,height);
+		}
+	}
+}
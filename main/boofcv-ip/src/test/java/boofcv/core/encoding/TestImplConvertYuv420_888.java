@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.core.encoding;
+
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.InterleavedU8;
+import boofcv.struct.image.Planar;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplConvertYuv420_888 {
+	Random rand = new Random(234);
+
+	int width,height;
+	ByteBuffer bufferY,bufferU,bufferV;
+	int strideY,strideUV,stridePixelUV;
+
+	private void init( int width , int height , int pixelStrideUV , int periodUV , int extra ) {
+		this.width = width;
+		this.height = height;
+		this.stridePixelUV = pixelStrideUV;
+
+		strideY = width+extra;
+		strideUV = stridePixelUV*(width/periodUV)+extra;
+
+		byte[] gray = new byte[strideY*height];
+		byte[] bandUV = new byte[2*strideUV*(height/periodUV+1)];
+
+		rand.nextBytes(gray);
+		rand.nextBytes(bandUV);
+
+		bufferY = ByteBuffer.wrap(gray);
+		bufferU = ByteBuffer.wrap(bandUV,0,bandUV.length);
+		bufferV = ByteBuffer.wrap(bandUV,1,bandUV.length-1);
+	}
+
+	/**
+	 * Compare against the per pixel implementation
+	 */
+	@Test
+	public void yuvToInterleavedRgbU8() {
+		int[][] shapes = new int[][]{{1,1,0},{1,2,0},{2,1,0},{2,2,0},{2,2,3}};
+
+		for( int[] s : shapes ) {
+			init(40,31,s[0],s[1],s[2]);
+			byte[] work = ConvertYuv420_888.declareWork(strideY,strideUV,null);
+
+			InterleavedU8 expected = new InterleavedU8(width,height,3);
+			ConvertYuv420_888.processYuv(bufferY,bufferU,bufferV,width,height,strideY,strideUV,stridePixelUV,work,
+					new ConvertYuv420_888.ProcessorYuvRgb() {
+						int index = 0;
+						@Override
+						public void processRGB(int r, int g, int b) {
+							expected.data[index++] = (byte)r;
+							expected.data[index++] = (byte)g;
+							expected.data[index++] = (byte)b;
+						}
+					});
+
+			InterleavedU8 found = new InterleavedU8(width,height,3);
+			ImplConvertYuv420_888.yuvToInterleavedRgbU8(bufferY,bufferU,bufferV,width,height,
+					strideY,strideUV,stridePixelUV,found,work);
+
+			for (int i = 0; i < expected.data.length; i++) {
+				assertEquals(expected.data[i],found.data[i]);
+			}
+
+			Planar<GrayU8> planar = new Planar<>(GrayU8.class,width,height,3);
+			ImplConvertYuv420_888.yuvToPlanarRgbU8(bufferY,bufferU,bufferV,width,height,
+					strideY,strideUV,stridePixelUV,planar,work);
+
+			for (int y = 0; y < height; y++) {
+				for (int x = 0; x < width; x++) {
+					for (int band = 0; band < 3; band++) {
+						assertEquals(expected.getBand(x,y,band),planar.getBand(band).get(x,y));
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void yuvToGrayDown2() {
+		init(41,31,2,2,3);
+		byte[] work = new byte[2*width];
+
+		GrayU8 found = new GrayU8(width/2,height/2);
+		ImplConvertYuv420_888.yuvToGrayDown2(bufferY,width,strideY,found,work);
+
+		byte[] gray = bufferY.array();
+		for (int y = 0; y < found.height; y++) {
+			for (int x = 0; x < found.width; x++) {
+				int sum = 0;
+				for (int i = 0; i < 2; i++) {
+					for (int j = 0; j < 2; j++) {
+						sum += gray[(2*y+i)*strideY + 2*x+j] & 0xFF;
+					}
+				}
+				assertEquals((sum+2)/4,found.get(x,y));
+			}
+		}
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.core.encoding;
+
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.InterleavedU8;
+import boofcv.struct.image.Planar;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplConvertYuv420_888_MT {
+	Random rand = new Random(234);
+
+	int width = 64, height = 47;
+	int strideY = width+2, stridePixelUV = 2, strideUV = stridePixelUV*(width/2)+1;
+
+	ByteBuffer bufferY,bufferU,bufferV;
+
+	public TestImplConvertYuv420_888_MT() {
+		byte[] gray = new byte[strideY*height];
+		byte[] bandUV = new byte[2*strideUV*(height/2+1)];
+
+		rand.nextBytes(gray);
+		rand.nextBytes(bandUV);
+
+		bufferY = ByteBuffer.wrap(gray);
+		bufferU = ByteBuffer.wrap(bandUV,0,bandUV.length);
+		bufferV = ByteBuffer.wrap(bandUV,1,bandUV.length-1);
+	}
+
+	@Test
+	public void yuvToInterleavedRgbU8() {
+		byte[] work = ConvertYuv420_888.declareWork(strideY,strideUV,null);
+		InterleavedU8 expected = new InterleavedU8(width,height,3);
+		InterleavedU8 found = new InterleavedU8(width,height,3);
+
+		ImplConvertYuv420_888.yuvToInterleavedRgbU8(bufferY,bufferU,bufferV,width,height,
+				strideY,strideUV,stridePixelUV,expected,work);
+		ImplConvertYuv420_888_MT.yuvToInterleavedRgbU8(bufferY,bufferU,bufferV,width,height,
+				strideY,strideUV,stridePixelUV,found,work);
+
+		BoofTesting.assertEquals(expected,found,0);
+	}
+
+	@Test
+	public void yuvToPlanarRgbU8() {
+		byte[] work = ConvertYuv420_888.declareWork(strideY,strideUV,null);
+		Planar<GrayU8> expected = new Planar<>(GrayU8.class,width,height,3);
+		Planar<GrayU8> found = new Planar<>(GrayU8.class,width,height,3);
+
+		ImplConvertYuv420_888.yuvToPlanarRgbU8(bufferY,bufferU,bufferV,width,height,
+				strideY,strideUV,stridePixelUV,expected,work);
+		ImplConvertYuv420_888_MT.yuvToPlanarRgbU8(bufferY,bufferU,bufferV,width,height,
+				strideY,strideUV,stridePixelUV,found,work);
+
+		BoofTesting.assertEquals(expected,found,0);
+	}
+}
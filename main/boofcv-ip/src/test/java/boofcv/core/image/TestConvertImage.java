@@ -56,6 +56,10 @@ public class TestConvertImage {
 
 			Class<?> inputType = inputTypes[0];
 
+			// images stored in buffers are tested separately
+			if( ImageDirect.class.isAssignableFrom(inputType) || ImageDirect.class.isAssignableFrom(outputType))
+				continue;
+
 //			System.out.println(m.getName()+" "+inputType.getSimpleName()+" "+outputType.getSimpleName()+" "+m.getReturnType());
 			
 			// make sure the return type equals the output type
@@ -79,6 +83,38 @@ public class TestConvertImage {
 		assertEquals(8*7 + 8*7 +8+8+8+8+8+4,count);
 	}
 
+	/**
+	 * Conversions to and from images stored in buffers
+	 */
+	@Test
+	public void convertDirect() {
+		GrayU8 grayU8 = new GrayU8(imgWidth,imgHeight);
+		GrayF32 grayF32 = new GrayF32(imgWidth,imgHeight);
+		InterleavedU8 interU8 = new InterleavedU8(imgWidth,imgHeight,3);
+		GImageMiscOps.fillUniform(grayU8,rand,0,255);
+		GImageMiscOps.fillUniform(grayF32,rand,-10,10);
+		GImageMiscOps.fillUniform(interU8,rand,0,255);
+
+		DirectGrayU8 directU8 = ConvertImage.convert(grayU8,(DirectGrayU8)null);
+		BoofTesting.assertEquals(grayU8,ConvertImage.convert(directU8,(GrayU8)null),0);
+		BoofTesting.assertEquals(grayU8,ConvertImage.convert(directU8,(GrayF32)null),1e-4);
+
+		DirectGrayF32 directF32 = ConvertImage.convert(grayF32,(DirectGrayF32)null);
+		BoofTesting.assertEquals(grayF32,ConvertImage.convert(directF32,(GrayF32)null),0);
+
+		DirectInterleavedU8 directIL = ConvertImage.convert(interU8,(DirectInterleavedU8)null);
+		assertEquals(3,directIL.getNumBands());
+		BoofTesting.assertEquals(interU8,ConvertImage.convert(directIL,(InterleavedU8)null),0);
+
+		// generic interface
+		GrayU8 found = new GrayU8(imgWidth,imgHeight);
+		GConvertImage.convert(directU8,found);
+		BoofTesting.assertEquals(grayU8,found,0);
+		DirectGrayU8 foundDirect = new DirectGrayU8(imgWidth,imgHeight);
+		GConvertImage.convert(directU8,foundDirect);
+		assertEquals(directU8.get(3,4),foundDirect.get(3,4));
+	}
+
 	private void checkConvert( Method m , Class inputType , Class outputType ) {
 		if( ImageGray.class.isAssignableFrom(inputType) ) {
 			checkConvertSingle(m, inputType, outputType);
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.core.image.impl;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.struct.image.*;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplConvertDirect {
+	Random rand = new Random(234);
+	int width = 15, height = 20;
+
+	@Test
+	public void U8_subimages() {
+		GrayU8 src = new GrayU8(width,height);
+		GImageMiscOps.fillUniform(src,rand,0,255);
+
+		for( boolean subA : new boolean[]{false,true}) {
+			for( boolean subB : new boolean[]{false,true}) {
+				DirectGrayU8 direct = createDirect(subA,new DirectGrayU8(width+3,height+4));
+				GrayU8 a = subB ? BoofTesting.createSubImageOf(src) : src;
+				GrayU8 found = new GrayU8(width,height);
+				if( subB ) found = BoofTesting.createSubImageOf(found);
+
+				ImplConvertDirect.convert(a,direct);
+				ImplConvertDirect.convert(direct,found);
+				BoofTesting.assertEquals(src,found,0);
+
+				for (int y = 0; y < height; y++) {
+					for (int x = 0; x < width; x++) {
+						assertEquals(src.get(x,y),direct.get(x,y));
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void F32_subimages() {
+		GrayF32 src = new GrayF32(width,height);
+		GImageMiscOps.fillUniform(src,rand,-100,100);
+
+		for( boolean subA : new boolean[]{false,true}) {
+			DirectGrayF32 direct = createDirect(subA,new DirectGrayF32(width+3,height+4));
+			GrayF32 found = BoofTesting.createSubImageOf(new GrayF32(width,height));
+
+			ImplConvertDirect.convert(src,direct);
+			ImplConvertDirect.convert(direct,found);
+			BoofTesting.assertEquals(src,found,0);
+
+			for (int y = 0; y < height; y++) {
+				for (int x = 0; x < width; x++) {
+					assertEquals(src.get(x,y),direct.get(x,y),0);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Wrapped buffers can have a byte order which is different from the native order
+	 */
+	@Test
+	public void F32_byteOrder() {
+		for( ByteOrder order : new ByteOrder[]{ByteOrder.BIG_ENDIAN,ByteOrder.LITTLE_ENDIAN}) {
+			ByteBuffer buffer = ByteBuffer.allocate(width*height*4).order(order);
+			for (int i = 0; i < width*height; i++) {
+				buffer.putFloat(i*4,i*0.5f);
+			}
+			DirectGrayF32 direct = new DirectGrayF32();
+			direct.wrap(buffer,0,width,width,height);
+
+			GrayF32 found = new GrayF32(width,height);
+			ImplConvertDirect.convert(direct,found);
+			for (int i = 0; i < width*height; i++) {
+				assertEquals(i*0.5f,found.data[i],0);
+			}
+		}
+	}
+
+	@Test
+	public void interleavedU8() {
+		InterleavedU8 src = new InterleavedU8(width,height,3);
+		GImageMiscOps.fillUniform(src,rand,0,255);
+
+		for( boolean subA : new boolean[]{false,true}) {
+			DirectInterleavedU8 direct = createDirect(subA, new DirectInterleavedU8(width + 3, height + 4, 3));
+			InterleavedU8 found = BoofTesting.createSubImageOf(new InterleavedU8(width,height,3));
+
+			ImplConvertDirect.convert(src,direct);
+			ImplConvertDirect.convert(direct,found);
+			BoofTesting.assertEquals(src,found,0);
+			assertEquals(src.getBand(4,5,2),direct.getBand(4,5,2));
+		}
+	}
+
+	@Test
+	public void U8_F32() {
+		GrayU8 src = new GrayU8(width,height);
+		GImageMiscOps.fillUniform(src,rand,0,255);
+
+		DirectGrayU8 direct = createDirect(true,new DirectGrayU8(width+3,height+4));
+		ImplConvertDirect.convert(src,direct);
+		GrayF32 found = BoofTesting.createSubImageOf(new GrayF32(width,height));
+		ImplConvertDirect.convert(direct,found);
+
+		BoofTesting.assertEquals(src,found,1e-4);
+	}
+
+	/**
+	 * Returns either the full image or a sub-image with the test size
+	 */
+	private <T extends ImageDirect<T>> T createDirect( boolean sub , T larger ) {
+		if( sub )
+			return larger.subimage(2,3,2+width,3+height);
+		larger.reshape(width,height);
+		return larger;
+	}
+}
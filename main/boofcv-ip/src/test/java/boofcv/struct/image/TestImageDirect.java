@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.image;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImageDirect {
+
+	@Test
+	public void constructor() {
+		DirectGrayU8 img = new DirectGrayU8(10,12);
+		assertTrue(img.data.isDirect());
+		assertEquals(120,img.data.capacity());
+		assertEquals(10,img.stride);
+		assertEquals(ImageType.single(GrayU8.class).getDataType(),img.getImageType().getDataType());
+
+		DirectGrayF32 imgF = new DirectGrayF32(10,12);
+		assertEquals(480,imgF.data.capacity());
+
+		DirectInterleavedU8 imgI = new DirectInterleavedU8(10,12,3);
+		assertEquals(360,imgI.data.capacity());
+		assertEquals(30,imgI.stride);
+		assertEquals(3,imgI.getImageType().getNumBands());
+	}
+
+	/**
+	 * Wrapping should reference the memory and not copy it
+	 */
+	@Test
+	public void wrap() {
+		ByteBuffer buffer = ByteBuffer.allocateDirect(200);
+		DirectGrayU8 img = new DirectGrayU8();
+		img.wrap(buffer,5,15,10,12);
+
+		img.set(2,3,123);
+		assertEquals(123,buffer.get(5+3*15+2));
+		buffer.put(5+15+4,(byte)200);
+		assertEquals(200,img.get(4,1));
+
+		// the buffer is too small
+		try {
+			img.wrap(buffer,5,18,10,12);
+			fail("Exception expected");
+		} catch( IllegalArgumentException ignore ){}
+
+		// stride is too small
+		try {
+			img.wrap(buffer,0,9,10,12);
+			fail("Exception expected");
+		} catch( IllegalArgumentException ignore ){}
+	}
+
+	@Test
+	public void subimage() {
+		DirectInterleavedU8 img = new DirectInterleavedU8(10,12,2);
+		DirectInterleavedU8 sub = img.subimage(2,3,7,9);
+
+		assertTrue(sub.isSubimage());
+		assertTrue(sub.data == img.data);
+		assertEquals(5,sub.width);
+		assertEquals(6,sub.height);
+		assertEquals(img.stride,sub.stride);
+		assertEquals(2,sub.getNumBands());
+
+		sub.setBand(1,2,1,99);
+		assertEquals(99,img.getBand(3,5,1));
+
+		try {
+			sub.reshape(2,2);
+			fail("Exception expected");
+		} catch( IllegalArgumentException ignore ){}
+	}
+
+	@Test
+	public void reshape() {
+		DirectGrayF32 img = new DirectGrayF32(10,12);
+		ByteBuffer original = img.data;
+
+		// smaller should not declare new memory
+		img.reshape(5,6);
+		assertTrue(original == img.data);
+		assertEquals(5,img.stride);
+
+		img.reshape(20,12);
+		assertTrue(original != img.data);
+		assertEquals(20*12*4,img.data.capacity());
+	}
+
+	@Test
+	public void setTo() {
+		DirectGrayU8 a = new DirectGrayU8(10,12);
+		for (int y = 0; y < a.height; y++) {
+			for (int x = 0; x < a.width; x++) {
+				a.set(x,y,x+y*3);
+			}
+		}
+
+		DirectGrayU8 b = new DirectGrayU8(4,5);
+		b.setTo(a.subimage(1,2,7,9));
+		assertEquals(6,b.width);
+		assertEquals(7,b.height);
+
+		for (int y = 0; y < b.height; y++) {
+			for (int x = 0; x < b.width; x++) {
+				assertEquals(a.get(x+1,y+2),b.get(x,y));
+			}
+		}
+
+		// positions of the original buffers should not be modified
+		assertEquals(0,a.data.position());
+		assertEquals(0,b.data.position());
+
+		DirectGrayU8 c = a.clone();
+		assertTrue(c.data != a.data);
+		assertEquals(a.get(4,5),c.get(4,5));
+	}
+
+	@Test
+	public void accessors() {
+		DirectGrayF32 img = new DirectGrayF32(10,12);
+		img.set(3,4,2.5f);
+		assertEquals(2.5f,img.get(3,4),0);
+		assertEquals(2.5f,img.unsafe_get(3,4),0);
+
+		try {
+			img.get(10,4);
+			fail("Exception expected");
+		} catch( ImageAccessException ignore ){}
+
+		DirectInterleavedU8 imgI = new DirectInterleavedU8(10,12,3);
+		try {
+			imgI.getBand(2,2,3);
+			fail("Exception expected");
+		} catch( ImageAccessException ignore ){}
+	}
+
+	@Test
+	public void serialize() throws Exception {
+		DirectGrayF32 img = new DirectGrayF32(10,12);
+		img.set(3,4,2.5f);
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		ObjectOutputStream out = new ObjectOutputStream(bytes);
+		out.writeObject(img);
+		out.close();
+
+		ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+		DirectGrayF32 found = (DirectGrayF32)in.readObject();
+
+		assertEquals(10,found.width);
+		assertEquals(12,found.height);
+		assertEquals(2.5f,found.get(3,4),0);
+		assertEquals(img.data.order(),found.data.order());
+	}
+
+	/**
+	 * Images stored in buffers should not be added to the pool
+	 */
+	@Test
+	public void imagePool() {
+		ImagePool pool = new ImagePool();
+		DirectGrayU8 img = new DirectGrayU8(10,12);
+		pool.recycle(img);
+		assertEquals(0,pool.getStoredImages());
+		assertTrue(img.createSameShape(pool) instanceof DirectGrayU8);
+	}
+
+	@Test
+	public void createNew() {
+		DirectGrayU8 gray = new DirectGrayU8(10,12).createNew(4,5);
+		assertEquals(4,gray.width);
+		assertEquals(5,gray.height);
+		assertTrue(gray.data.isDirect());
+
+		DirectGrayF32 grayF = new DirectGrayF32(10,12).createNew(4,5);
+		assertEquals(80,grayF.data.capacity());
+
+		DirectInterleavedU8 inter = new DirectInterleavedU8(10,12,3).createNew(4,5);
+		assertEquals(3,inter.numBands);
+		assertEquals(60,inter.data.capacity());
+
+		// -1 creates an image without any data
+		assertEquals(0,new DirectGrayU8(10,12).createNew(-1,-1).width);
+	}
+
+	/**
+	 * The image type should describe the image stored in a buffer and not the array based image
+	 */
+	@Test
+	public void imageType() {
+		checkImageType(new DirectGrayU8(10,12), ImageType.single(GrayU8.class));
+		checkImageType(new DirectGrayF32(10,12), ImageType.single(GrayF32.class));
+		checkImageType(new DirectInterleavedU8(10,12,3), ImageType.il(3,InterleavedU8.class));
+		checkImageType(new DirectGrayU8(10,12).subimage(1,1,5,5), ImageType.single(GrayU8.class));
+	}
+
+	private void checkImageType( ImageDirect image , ImageType arrayType ) {
+		ImageType type = image.getImageType();
+		assertSame(image.getClass(), type.getImageClass());
+		assertEquals(arrayType.getFamily(), type.getFamily());
+		assertEquals(arrayType.getDataType(), type.getDataType());
+		assertEquals(arrayType.getNumBands(), type.getNumBands());
+
+		ImageBase found = type.createImage(4,5);
+		assertSame(image.getClass(), found.getClass());
+		assertEquals(4,found.width);
+		assertEquals(5,found.height);
+		assertEquals(arrayType.getNumBands(), found.getImageType().getNumBands());
+
+		assertTrue(type.isSameType(found.getImageType()));
+		assertFalse(type.isSameType(arrayType));
+		assertFalse(arrayType.isSameType(type));
+	}
+}
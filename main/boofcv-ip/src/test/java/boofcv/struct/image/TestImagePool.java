@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.image;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImagePool {
+
+	@Test
+	public void borrow_recycle() {
+		ImagePool pool = new ImagePool();
+
+		GrayF32 a = pool.borrow(ImageType.single(GrayF32.class),30,40);
+		assertEquals(30,a.width);
+		assertEquals(40,a.height);
+		assertEquals(1,pool.getMisses());
+
+		pool.recycle(a);
+		assertEquals(1,pool.getStoredImages());
+		assertEquals(30*40*4,pool.getStoredBytes());
+
+		// different shape and type should not match
+		assertTrue(a != pool.borrow(ImageType.single(GrayF32.class),40,30));
+		assertNotNull(pool.borrow(ImageType.single(GrayS32.class),30,40));
+		assertEquals(3,pool.getMisses());
+
+		assertTrue(a == pool.borrow(ImageType.single(GrayF32.class),30,40));
+		assertEquals(1,pool.getHits());
+		assertEquals(0,pool.getStoredImages());
+		assertEquals(0,pool.getStoredBytes());
+	}
+
+	@Test
+	public void borrowSameShape() {
+		ImagePool pool = new ImagePool();
+
+		Planar<GrayU8> a = new Planar<>(GrayU8.class,20,25,3);
+		Planar<GrayU8> b = pool.borrowSameShape(a);
+		assertTrue(a != b);
+		assertEquals(3,b.getNumBands());
+		assertEquals(20,b.width);
+		assertEquals(25,b.height);
+
+		pool.recycle(b);
+		assertTrue(b == a.createSameShape(pool));
+
+		// the number of bands is part of the shape
+		pool.recycle(b);
+		a.setNumberOfBands(2);
+		Planar<GrayU8> c = a.createSameShape(pool);
+		assertTrue(b != c);
+		assertEquals(2,c.getNumBands());
+
+		InterleavedU8 d = new InterleavedU8(10,12,3);
+		pool.recycle(d);
+		assertTrue(d == pool.borrowSameShape(new InterleavedU8(10,12,3)));
+		assertTrue(d != pool.borrowSameShape(new InterleavedU8(10,12,2)));
+	}
+
+	@Test
+	public void recycle_subimage() {
+		ImagePool pool = new ImagePool();
+		GrayU8 a = new GrayU8(20,30);
+		pool.recycle(a.subimage(0,0,10,10));
+		pool.recycle(null);
+		assertEquals(0,pool.getStoredImages());
+	}
+
+	/**
+	 * When the memory limit is exceeded the least recently used images should be discarded first
+	 */
+	@Test
+	public void evict_leastRecentlyUsed() {
+		ImagePool pool = new ImagePool(3*100);
+
+		GrayU8 a = new GrayU8(10,10);
+		GrayU8 b = new GrayU8(5,20);
+		GrayU8 c = new GrayU8(20,5);
+		pool.recycle(a);
+		pool.recycle(b);
+		pool.recycle(c);
+		assertEquals(3,pool.getStoredImages());
+
+		// touch 'a' so that 'b' is the least recently used
+		assertTrue(a == pool.borrowSameShape(a));
+		pool.recycle(a);
+
+		pool.recycle(new GrayU8(2,50));
+		assertEquals(3,pool.getStoredImages());
+		assertEquals(300,pool.getStoredBytes());
+		assertTrue(b != pool.borrowSameShape(b));
+		assertTrue(a == pool.borrowSameShape(a));
+		assertTrue(c == pool.borrowSameShape(c));
+	}
+
+	@Test
+	public void setMaxBytes() {
+		ImagePool pool = new ImagePool();
+		for (int i = 0; i < 5; i++) {
+			pool.recycle(new GrayS16(10,10));
+		}
+		assertEquals(1000,pool.getStoredBytes());
+
+		pool.setMaxBytes(450);
+		assertEquals(2,pool.getStoredImages());
+		assertEquals(400,pool.getStoredBytes());
+
+		pool.clear();
+		assertEquals(0,pool.getStoredImages());
+		assertEquals(0,pool.getStoredBytes());
+	}
+
+	/**
+	 * Several threads borrowing and recycling at the same time should not corrupt the pool
+	 */
+	@Test
+	public void multipleThreads() throws InterruptedException {
+		ImagePool pool = new ImagePool();
+
+		List<Thread> threads = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			final int width = 10+i%2;
+			threads.add(new Thread(()->{
+				for (int trial = 0; trial < 1000; trial++) {
+					GrayU8 image = pool.borrow(ImageType.single(GrayU8.class),width,10);
+					pool.recycle(image);
+				}
+			}));
+		}
+		for( Thread t : threads ) t.start();
+		for( Thread t : threads ) t.join();
+
+		assertEquals(4000,pool.getHits()+pool.getMisses());
+		int total = pool.getStoredImages();
+		assertTrue(total >= 2 && total <= 4);
+		assertTrue(pool.getStoredBytes() >= total*100 && pool.getStoredBytes() <= total*110);
+	}
+}
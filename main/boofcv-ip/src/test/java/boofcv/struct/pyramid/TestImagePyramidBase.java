@@ -21,6 +21,7 @@ package boofcv.struct.pyramid;
 import boofcv.alg.misc.GImageMiscOps;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImagePool;
 import boofcv.struct.image.ImageType;
 import boofcv.testing.BoofTesting;
 import org.junit.Test;
@@ -104,6 +105,69 @@ public class TestImagePyramidBase {
 		assertTrue(pyramid.layers[0] != null);
 	}
 
+	/**
+	 * Layers should be borrowed from the pool and returned when the shape changes
+	 */
+	@Test
+	public void initialize_pool() {
+		ImagePool pool = new ImagePool();
+
+		Dummy pyramid = new Dummy(GrayU8.class,true);
+		pyramid.setScaleFactors(1,2,4);
+		pyramid.setPool(pool);
+		pyramid.initialize(100,120);
+		GrayU8 original = new GrayU8(100,120);
+		pyramid.setFirstLayer(original);
+
+		assertEquals(2,pool.getMisses());
+		ImageBase layer1 = pyramid.getLayer(1);
+
+		// the reference to the input image should not be recycled
+		pyramid.initialize(200,120);
+		assertEquals(2,pool.getStoredImages());
+		assertEquals(0,pool.getHits());
+
+		// switching back should reuse the original images
+		pyramid.initialize(100,120);
+		assertEquals(2,pool.getHits());
+		assertTrue(layer1 == pyramid.getLayer(1));
+	}
+
+	/**
+	 * Changing the scale factors after the first layer references the input image should not cause the
+	 * input image to be recycled
+	 */
+	@Test
+	public void initialize_pool_changeScale() {
+		ImagePool pool = new ImagePool();
+
+		Dummy pyramid = new Dummy(GrayU8.class,true);
+		pyramid.setScaleFactors(1,2,4);
+		pyramid.setPool(pool);
+		pyramid.initialize(100,120);
+		GrayU8 original = new GrayU8(100,120);
+		pyramid.setFirstLayer(original);
+
+		// the first layer is no longer a reference to the input
+		pyramid.setScaleFactors(2,4,8);
+		pyramid.initialize(200,240);
+		// only the two borrowed layers were recycled and then reused by the new layers
+		assertEquals(2,pool.getHits());
+		assertEquals(0,pool.getStoredImages());
+		assertTrue(original != pyramid.getLayer(0));
+
+		// the first layer is now borrowed.  If replaced by the input image it should go back to the pool
+		pyramid.setScaleFactors(1,2,4);
+		pyramid.initialize(100,120);
+		pyramid.setFirstLayer(original);
+		pyramid.initialize(50,60);
+
+		// the input image should never be handed back out
+		for( int i = 0; i < 10; i++ ) {
+			assertTrue(original != pool.borrow(ImageType.single(GrayU8.class),100,120));
+		}
+	}
+
 	@Test
 	public void getWidth_Height() {
 		Dummy pyramid = new Dummy(GrayU8.class,false);